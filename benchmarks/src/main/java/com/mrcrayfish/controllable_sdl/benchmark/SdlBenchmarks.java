@@ -0,0 +1,43 @@
+package com.mrcrayfish.controllable_sdl.benchmark;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_GetError;
+import static com.mrcrayfish.controllable_sdl.api.hints.SdlHints.SDL_SetHint;
+import static com.mrcrayfish.controllable_sdl.api.hints.SdlHintsConst.SDL_HINT_AUDIODRIVER;
+import static com.mrcrayfish.controllable_sdl.api.hints.SdlHintsConst.SDL_HINT_VIDEODRIVER;
+
+/**
+ * Shared setup of the benchmarks calling into SDL. The dummy video and audio drivers are used so the results do not
+ * depend on a display or sound card, and can be compared between machines and releases.
+ */
+public final class SdlBenchmarks {
+
+    private SdlBenchmarks() {
+    }
+
+    /**
+     * Selects the dummy drivers and initializes the given subsystems.
+     *
+     * @param flags the subsystems to initialize, as passed to {@code SDL_InitSubSystem}
+     * @throws IllegalStateException if SDL could not be initialized
+     */
+    public static void init(int flags) {
+        SDL_SetHint(SDL_HINT_VIDEODRIVER, "dummy");
+        SDL_SetHint(SDL_HINT_AUDIODRIVER, "dummy");
+        if (SDL_InitSubSystem(flags) != 0) {
+            throw new IllegalStateException("SDL Failure: " + SDL_GetError());
+        }
+    }
+
+    /**
+     * @param value the value returned by SDL, which must not be null
+     * @return the value
+     * @throws IllegalStateException if the value is null
+     */
+    public static <T> T check(T value) {
+        if (value == null) {
+            throw new IllegalStateException("SDL Failure: " + SDL_GetError());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mrcrayfish.controllable_sdl.benchmark.audio;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.audio.SDL_AudioFormat;
+import com.mrcrayfish.controllable_sdl.api.audio.SDL_AudioStream;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_AUDIO;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudio.SDL_AudioStreamClear;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudio.SDL_AudioStreamGet;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudio.SDL_AudioStreamPut;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudio.SDL_FreeAudioStream;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudio.SDL_NewAudioStream;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudioConst.AUDIO_F32SYS;
+import static com.mrcrayfish.controllable_sdl.api.audio.SdlAudioConst.AUDIO_S16SYS;
+
+/**
+ * Measures pushing a block of 16-bit stereo samples through {@code SDL_AudioStreamPut} and reading it back as 32-bit
+ * float with {@code SDL_AudioStreamGet}, with and without resampling. The buffers are allocated once, so only the
+ * calls and the conversion are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioStreamBenchmark {
+
+    private static final int FRAMES = 1024;
+
+    @Param({"48000", "44100"})
+    public int sourceRate;
+
+    private SDL_AudioStream stream;
+    private Memory input;
+    private Memory output;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_AUDIO);
+        stream = SdlBenchmarks.check(SDL_NewAudioStream(new SDL_AudioFormat(AUDIO_S16SYS), (byte) 2, sourceRate,
+                new SDL_AudioFormat(AUDIO_F32SYS), (byte) 2, 48000));
+        input = new Memory(FRAMES * 2L * 2L);
+        for (int i = 0; i < FRAMES * 2; i++) {
+            input.setShort(i * 2L, (short) (Math.sin(i * 0.05) * 16000));
+        }
+        // Room for the converted block even when upsampling
+        output = new Memory(FRAMES * 2L * 4L * 2L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_FreeAudioStream(stream);
+        SDL_QuitSubSystem(SDL_INIT_AUDIO);
+    }
+
+    @Benchmark
+    public int putGet() {
+        SDL_AudioStreamPut(stream, input, (int) input.size());
+        int read = SDL_AudioStreamGet(stream, output, (int) output.size());
+        SDL_AudioStreamClear(stream);
+        return read;
+    }
+}
@@ -0,0 +1,128 @@
+package com.mrcrayfish.controllable_sdl.benchmark.backend;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Vertex;
+import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.jna.HotPath;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_VIDEO;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_eventaction.SDL_PEEKEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PeepEvents;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerClose;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetAxis;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetJoystick;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerOpen;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetButton;
+import static com.mrcrayfish.controllable_sdl.api.render.SDL_RendererFlags.SDL_RENDERER_SOFTWARE;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_CreateRenderer;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_DestroyRenderer;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderGeometry;
+import static com.mrcrayfish.controllable_sdl.api.video.SDL_WindowFlags.SDL_WINDOW_HIDDEN;
+import static com.mrcrayfish.controllable_sdl.api.video.SdlVideo.SDL_CreateWindow;
+import static com.mrcrayfish.controllable_sdl.api.video.SdlVideo.SDL_DestroyWindow;
+
+/**
+ * Compares the JNA and {@code java.lang.foreign} backends of {@link HotPath} on the functions it binds, with SDL
+ * running the dummy video driver and a virtual game controller. The backend is chosen per fork through the
+ * {@value HotPath#BACKEND_PROPERTY} system property. The foreign function backend needs JDK 22 or newer, and on an
+ * older JDK the {@code ffm} trials fail instead of measuring JNA under its name.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBackendBenchmark {
+
+    @Param({"jna", "ffm"})
+    public String backend;
+
+    private int deviceIndex;
+    private SDL_GameController controller;
+    private SDL_Joystick joystick;
+    private SDL_Window window;
+    private SDL_Renderer renderer;
+    // Kept reachable so the memory behind the vertices pointer is not freed while SDL reads it
+    private ByteBuffer vertexBuffer;
+    private Pointer vertices;
+
+    @Setup
+    public void setUp() {
+        // Must be set before HotPath is initialized by the first call below
+        System.setProperty(HotPath.BACKEND_PROPERTY, backend);
+        SdlBenchmarks.init(SDL_INIT_VIDEO | SDL_INIT_GAMECONTROLLER);
+        // Fails the trial, as the figures of the fallback backend would otherwise be reported under this one
+        if (!backend.equals(HotPath.getBackendName())) {
+            throw new IllegalStateException("The " + backend + " backend is not available, " + HotPath.getBackendName() + " is used instead");
+        }
+        deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 15, 1);
+        controller = SdlBenchmarks.check(SDL_GameControllerOpen(deviceIndex));
+        joystick = SDL_GameControllerGetJoystick(controller);
+        window = SdlBenchmarks.check(SDL_CreateWindow("Benchmark", 0, 0, 64, 64, SDL_WINDOW_HIDDEN));
+        renderer = SdlBenchmarks.check(SDL_CreateRenderer(window, -1, SDL_RENDERER_SOFTWARE));
+        vertexBuffer = ByteBuffer.allocateDirect(3 * SDL_Vertex.SIZE).order(ByteOrder.nativeOrder());
+        vertexBuffer.asFloatBuffer()
+                .put(0F).put(0F).put(Float.intBitsToFloat(-1)).put(0F).put(0F)
+                .put(8F).put(0F).put(Float.intBitsToFloat(-1)).put(0F).put(0F)
+                .put(0F).put(8F).put(Float.intBitsToFloat(-1)).put(0F).put(0F);
+        vertices = Native.getDirectBufferPointer(vertexBuffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_DestroyRenderer(renderer);
+        SDL_DestroyWindow(window);
+        SDL_GameControllerClose(controller);
+        SDL_JoystickDetachVirtual(deviceIndex);
+        SDL_QuitSubSystem(SDL_INIT_VIDEO | SDL_INIT_GAMECONTROLLER);
+    }
+
+    @Benchmark
+    public short gameControllerGetAxis() {
+        return SDL_GameControllerGetAxis(controller, SDL_CONTROLLER_AXIS_LEFTX);
+    }
+
+    @Benchmark
+    public byte joystickGetButton() {
+        return SDL_JoystickGetButton(joystick, 0);
+    }
+
+    @Benchmark
+    public int peepEvents() {
+        return SDL_PeepEvents(null, 0, SDL_PEEKEVENT, SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    @Benchmark
+    public int renderGeometry() {
+        return SDL_RenderGeometry(renderer, null, vertices, 3, null, 0);
+    }
+}
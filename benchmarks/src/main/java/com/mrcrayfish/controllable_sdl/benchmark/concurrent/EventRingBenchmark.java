@@ -0,0 +1,105 @@
+package com.mrcrayfish.controllable_sdl.benchmark.concurrent;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerAxisEvent;
+import com.mrcrayfish.controllable_sdl.concurrent.EventRing;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+
+/**
+ * Hand-off throughput from one producer thread to one consumer thread, comparing {@link EventRing}
+ * against copying {@link SDL_Event} objects into a {@link ConcurrentLinkedQueue}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRingBenchmark {
+
+    private EventRing ring;
+    private ConcurrentLinkedQueue<SDL_Event> queue;
+    private final AtomicInteger queued = new AtomicInteger();
+    private ByteBuffer source;
+
+    @Setup
+    public void setUp() {
+        ring = new EventRing(4096, EventRing.OverflowPolicy.BACKPRESSURE);
+        queue = new ConcurrentLinkedQueue<>();
+        source = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        source.putInt(ControllerAxisEventView.TYPE_OFFSET, SDL_CONTROLLERAXISMOTION);
+        source.putShort(ControllerAxisEventView.VALUE_OFFSET, (short) 1234);
+    }
+
+    @State(Scope.Thread)
+    public static class ConsumerState {
+        final ControllerAxisEventView view = new ControllerAxisEventView();
+        Blackhole blackhole;
+        final EventRing.Handler handler = (buffer, offset) -> blackhole.consume(view.wrap(buffer, offset).getValue());
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public boolean ringProducer() {
+        return ring.offer(source, 0);
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public int ringConsumer(ConsumerState state, Blackhole blackhole) {
+        state.blackhole = blackhole;
+        return ring.read(state.handler, 64);
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public boolean queueProducer() {
+        // Bound the queue like the ring, ConcurrentLinkedQueue.size() is not constant time
+        if (queued.get() >= 4096) {
+            return false;
+        }
+        SDL_Event event = new SDL_Event();
+        event.setType(SDL_ControllerAxisEvent.class);
+        event.caxis.type = SDL_CONTROLLERAXISMOTION;
+        event.caxis.value = 1234;
+        queued.incrementAndGet();
+        return queue.offer(event);
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public void queueConsumer(Blackhole blackhole) {
+        SDL_Event event;
+        int count = 0;
+        while (count < 64 && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            blackhole.consume(event.caxis.value);
+            count++;
+        }
+    }
+}
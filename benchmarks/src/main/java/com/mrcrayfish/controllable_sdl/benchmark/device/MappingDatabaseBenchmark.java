@@ -0,0 +1,119 @@
+package com.mrcrayfish.controllable_sdl.benchmark.device;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.device.MappingDatabase;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerAddMappingsFromFile;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerNumMappings;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetGUIDString;
+import static com.mrcrayfish.controllable_sdl.api.platform.SdlPlatform.SDL_GetPlatform;
+
+/**
+ * Measures the startup cost of a mapping database the size of the community {@code gamecontrollerdb.txt}, with one
+ * joystick connected: SDL parsing every entry with {@code SDL_GameControllerAddMappingsFromFile}, against opening a
+ * {@link MappingDatabase} with a cached index and adding the single mapping needed.
+ *
+ * <p>The {@code mappings} counter is the number of mappings SDL holds afterwards, each of which is a parsed copy kept
+ * in native memory for the life of the process. Run with {@code -prof gc} to compare the Java allocations too.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class MappingDatabaseBenchmark {
+
+    private static final String[] PLATFORMS = {"Windows", "Mac OS X", "Linux", "Android"};
+
+    @Param({"4000"})
+    private int entries;
+
+    private int deviceIndex;
+    private String platform;
+    private Path database;
+    private Path index;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Mappings {
+
+        public long mappings;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            mappings = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        SdlBenchmarks.init(SDL_INIT_GAMECONTROLLER);
+        deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 15, 1);
+        platform = SDL_GetPlatform();
+        String deviceGuid = SDL_JoystickGetGUIDString(SDL_JoystickGetDeviceGUID(deviceIndex));
+
+        // Entries shaped like those of the community database, spread over the usual platforms
+        StringBuilder builder = new StringBuilder("# Game Controller DB for SDL\n");
+        for (int i = 0; i < entries; i++) {
+            builder.append(String.format("03000000%04x0000%04x000000000000,Controller %d,", i & 0xFFFF, i * 31 & 0xFFFF, i));
+            builder.append("a:b0,b:b1,back:b6,dpdown:h0.4,dpleft:h0.8,dpright:h0.2,dpup:h0.1,guide:b8,leftshoulder:b4,");
+            builder.append("leftstick:b9,lefttrigger:a2,leftx:a0,lefty:a1,rightshoulder:b5,rightstick:b10,righttrigger:a5,");
+            builder.append("rightx:a3,righty:a4,start:b7,x:b2,y:b3,platform:").append(PLATFORMS[i % PLATFORMS.length]).append(",\n");
+        }
+        builder.append(deviceGuid).append(",Benchmark Controller,a:b0,b:b1,leftx:a0,lefty:a1,platform:").append(platform).append(",\n");
+        database = Files.createTempFile("controllable-sdl-mappings", ".txt");
+        index = Files.createTempFile("controllable-sdl-mappings", ".idx");
+        Files.writeString(database, builder);
+        // Build the index once, as on the first run of an application
+        MappingDatabase.open(database, index, platform).close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SDL_JoystickDetachVirtual(deviceIndex);
+        SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+        Files.deleteIfExists(database);
+        Files.deleteIfExists(index);
+    }
+
+    @Benchmark
+    public int addMappingsFromFile(Mappings counters) {
+        int added = SDL_GameControllerAddMappingsFromFile(database.toString());
+        counters.mappings = SDL_GameControllerNumMappings();
+        return added;
+    }
+
+    @Benchmark
+    public int mappingDatabase(Mappings counters) throws IOException {
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, platform)) {
+            int added = mappings.applyConnected();
+            counters.mappings = SDL_GameControllerNumMappings();
+            return added;
+        }
+    }
+}
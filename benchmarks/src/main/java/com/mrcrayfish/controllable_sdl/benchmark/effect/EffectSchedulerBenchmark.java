@@ -0,0 +1,105 @@
+package com.mrcrayfish.controllable_sdl.benchmark.effect;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.effect.EffectDevice;
+import com.mrcrayfish.controllable_sdl.effect.EffectScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time a game frame spends starting effects when a number of systems each request a rumble and an LED
+ * color, either writing the device directly or through an {@link EffectScheduler} flushed once per frame. The device
+ * busy-waits for {@code writeMicros} per write to stand in for the USB or Bluetooth write SDL blocks on, so no
+ * controller is needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectSchedulerBenchmark {
+
+    @Param({"0", "250"})
+    public int writeMicros;
+
+    @Param({"16"})
+    public int systems;
+
+    private SlowDevice device;
+    private EffectScheduler scheduler;
+    private EffectScheduler.Channel channel;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        device = new SlowDevice(TimeUnit.MICROSECONDS.toNanos(writeMicros));
+        scheduler = new EffectScheduler(TimeUnit.MILLISECONDS.toNanos(8));
+        channel = scheduler.register(device);
+    }
+
+    @Benchmark
+    public int direct() {
+        frame++;
+        for (int system = 0; system < systems; system++) {
+            device.rumble(system << 12, 0x8000, 100);
+            device.setLed(frame & 0xFF, system, 0);
+        }
+        return device.writes;
+    }
+
+    @Benchmark
+    public int scheduledFrame() {
+        frame++;
+        for (int system = 0; system < systems; system++) {
+            channel.rumble(system << 12, 0x8000, 100);
+            channel.setLed(frame & 0xFF, system, 0);
+        }
+        // Flushed on the game thread here, which bounds the cost the background thread would take off it
+        scheduler.flush();
+        return device.writes;
+    }
+
+    private static final class SlowDevice implements EffectDevice {
+
+        private final long writeNanos;
+        private int writes;
+
+        private SlowDevice(long writeNanos) {
+            this.writeNanos = writeNanos;
+        }
+
+        private int write() {
+            long end = System.nanoTime() + writeNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            writes++;
+            return 0;
+        }
+
+        @Override
+        public int rumble(int lowFrequency, int highFrequency, int durationMs) {
+            return write();
+        }
+
+        @Override
+        public int rumbleTriggers(int left, int right, int durationMs) {
+            return write();
+        }
+
+        @Override
+        public int setLed(int red, int green, int blue) {
+            return write();
+        }
+    }
+}
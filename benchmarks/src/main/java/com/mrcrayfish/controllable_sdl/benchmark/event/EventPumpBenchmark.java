@@ -0,0 +1,91 @@
+package com.mrcrayfish.controllable_sdl.benchmark.event;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_EVENTS;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_VIDEO;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_USEREVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_eventaction.SDL_ADDEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PeepEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PollEvent;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+
+/**
+ * Measures draining the event queue with one {@code SDL_PollEvent} per event, which also pumps events and converts
+ * every event into a JNA structure, against draining it with a single {@code SDL_PeepEvents} into an
+ * {@link EventBatch}. Each invocation first queues {@code events} user events with one {@code SDL_PeepEvents} call,
+ * which is counted in both scores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPumpBenchmark {
+
+    @Param({"16", "256"})
+    public int events;
+
+    private Memory queued;
+    private SDL_Event event;
+    private EventBatch batch;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_VIDEO | SDL_INIT_EVENTS);
+        queued = new Memory((long) events * SDL_EVENT_SIZE);
+        queued.clear();
+        for (int i = 0; i < events; i++) {
+            queued.setInt((long) i * SDL_EVENT_SIZE, SDL_USEREVENT);
+        }
+        event = new SDL_Event();
+        batch = new EventBatch(events);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_QuitSubSystem(SDL_INIT_VIDEO | SDL_INIT_EVENTS);
+    }
+
+    private void queue() {
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+        SDL_PeepEvents(queued, events, SDL_ADDEVENT, SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    @Benchmark
+    public int pollEvent() {
+        queue();
+        int count = 0;
+        while (SDL_PollEvent(event) != 0) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int peepBatch() {
+        queue();
+        return batch.drain();
+    }
+}
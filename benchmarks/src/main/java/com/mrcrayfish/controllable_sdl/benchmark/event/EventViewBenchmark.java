@@ -0,0 +1,97 @@
+package com.mrcrayfish.controllable_sdl.benchmark.event;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+
+/**
+ * Compares reading already-queued events through the JNA {@link SDL_Event} union against the
+ * flyweight views. Both sides read the same native memory, so no SDL library is required.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventViewBenchmark {
+
+    private static final int EVENTS = 256;
+
+    private Memory memory;
+    private ByteBuffer buffer;
+    private final ControllerAxisEventView axisView = new ControllerAxisEventView();
+    private final ControllerSensorEventView sensorView = new ControllerSensorEventView();
+
+    @Setup
+    public void setUp() {
+        memory = new Memory((long) EVENTS * SDL_EVENT_SIZE);
+        memory.clear();
+        for (int i = 0; i < EVENTS; i++) {
+            long offset = (long) i * SDL_EVENT_SIZE;
+            if (i % 2 == 0) {
+                memory.setInt(offset + ControllerAxisEventView.TYPE_OFFSET, SDL_CONTROLLERAXISMOTION);
+                memory.setInt(offset + ControllerAxisEventView.WHICH_OFFSET, i % 8);
+                memory.setByte(offset + ControllerAxisEventView.AXIS_OFFSET, (byte) (i % 6));
+                memory.setShort(offset + ControllerAxisEventView.VALUE_OFFSET, (short) (i * 97));
+            } else {
+                memory.setInt(offset + ControllerSensorEventView.TYPE_OFFSET, SDL_CONTROLLERSENSORUPDATE);
+                memory.setInt(offset + ControllerSensorEventView.WHICH_OFFSET, i % 8);
+                memory.setFloat(offset + ControllerSensorEventView.DATA_OFFSET, i * 0.5F);
+                memory.setLong(offset + ControllerSensorEventView.TIMESTAMP_US_OFFSET, i * 1000L);
+            }
+        }
+        buffer = memory.getByteBuffer(0L, memory.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void structure(Blackhole blackhole) {
+        for (int i = 0; i < EVENTS; i++) {
+            SDL_Event event = new SDL_Event(memory.share((long) i * SDL_EVENT_SIZE));
+            event.read();
+            if (event.type == SDL_CONTROLLERAXISMOTION) {
+                blackhole.consume(event.caxis.which.intValue());
+                blackhole.consume(event.caxis.value);
+            } else {
+                blackhole.consume(event.csensor.which.intValue());
+                blackhole.consume(event.csensor.data[0]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void flyweight(Blackhole blackhole) {
+        for (int i = 0; i < EVENTS; i++) {
+            int offset = i * SDL_EVENT_SIZE;
+            if (axisView.wrap(buffer, offset).getType() == SDL_CONTROLLERAXISMOTION) {
+                blackhole.consume(axisView.getWhich());
+                blackhole.consume(axisView.getValue());
+            } else {
+                sensorView.wrap(buffer, offset);
+                blackhole.consume(sensorView.getWhich());
+                blackhole.consume(sensorView.getData(0));
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.mrcrayfish.controllable_sdl.benchmark.gamecontroller;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.state.BindingTable;
+import com.mrcrayfish.controllable_sdl.state.ControllerState;
+import com.mrcrayfish.controllable_sdl.state.ControllerStateSnapshot;
+import com.mrcrayfish.controllable_sdl.state.JoystickState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PumpEvents;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerClose;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetAxis;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetButton;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetJoystick;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerOpen;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualAxis;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualButton;
+
+/**
+ * Measures reading every axis and button of a virtual game controller once per frame: one downcall per axis and
+ * button, against reading a {@link ControllerStateSnapshot} kept up to date from events, and against reading the raw
+ * joystick once and deriving the controller state through a {@link BindingTable}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerReadBenchmark {
+
+    private int deviceIndex;
+    private int instanceId;
+    private SDL_GameController controller;
+    private ControllerStateSnapshot snapshot;
+    private BindingTable table;
+    private JoystickState raw;
+    private ControllerState derived;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_GAMECONTROLLER);
+        deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, SDL_CONTROLLER_AXIS_MAX, 15, 1);
+        instanceId = SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue();
+        controller = SdlBenchmarks.check(SDL_GameControllerOpen(deviceIndex));
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            SDL_JoystickSetVirtualAxis(SDL_GameControllerGetJoystick(controller), axis, (short) (axis * 1000));
+        }
+        SDL_JoystickSetVirtualButton(SDL_GameControllerGetJoystick(controller), 0, (byte) 1);
+        SDL_PumpEvents();
+        snapshot = new ControllerStateSnapshot(4);
+        EventBatch batch = new EventBatch(256);
+        while (batch.drain() > 0) {
+            snapshot.accept(batch);
+        }
+        if (snapshot.get(instanceId) == null) {
+            throw new IllegalStateException("No event was received from the virtual controller");
+        }
+        table = BindingTable.compile(controller);
+        raw = JoystickState.of(SDL_GameControllerGetJoystick(controller));
+        derived = new ControllerState();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_GameControllerClose(controller);
+        SDL_JoystickDetachVirtual(deviceIndex);
+        SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+    }
+
+    @Benchmark
+    public long downcalls() {
+        long sum = 0;
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            sum += SDL_GameControllerGetAxis(controller, axis);
+        }
+        for (int button = 0; button < SDL_CONTROLLER_BUTTON_MAX; button++) {
+            sum += SDL_GameControllerGetButton(controller, button);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long snapshot() {
+        ControllerState state = snapshot.get(instanceId);
+        long sum = 0;
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            sum += state.getAxis(axis);
+        }
+        for (int button = 0; button < SDL_CONTROLLER_BUTTON_MAX; button++) {
+            sum += state.isButtonDown(button) ? 1 : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bindingTable() {
+        raw.read(SDL_GameControllerGetJoystick(controller));
+        table.apply(raw, derived);
+        long sum = 0;
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            sum += derived.getAxis(axis);
+        }
+        for (int button = 0; button < SDL_CONTROLLER_BUTTON_MAX; button++) {
+            sum += derived.isButtonDown(button) ? 1 : 0;
+        }
+        return sum;
+    }
+}
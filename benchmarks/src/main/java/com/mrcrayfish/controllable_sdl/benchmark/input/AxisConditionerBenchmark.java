@@ -0,0 +1,92 @@
+package com.mrcrayfish.controllable_sdl.benchmark.input;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.input.AxisConditioner;
+import com.mrcrayfish.controllable_sdl.input.ResponseCurve;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+
+/**
+ * Measures {@link AxisConditioner} on 1 to 64 pads with every stage enabled, processing all pads in one call or one
+ * pad per call. The kernels are chosen per fork through the {@value AxisConditioner#KERNELS_PROPERTY} system
+ * property. The Vector API kernels need JDK 22 or newer, and on an older JDK the {@code vector} trials fail instead of
+ * measuring the scalar kernels under their name. No SDL is involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class AxisConditionerBenchmark {
+
+    @Param({"1", "4", "16", "64"})
+    public int pads;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private AxisConditioner conditioner;
+    private short[] axes;
+    private short[] out;
+    private short[] padAxes;
+    private short[] padOut;
+
+    @Setup
+    public void setUp() {
+        // Must be set before the kernels are initialized by the first call below
+        System.setProperty(AxisConditioner.KERNELS_PROPERTY, kernels);
+        // Fails the trial, as the figures of the scalar kernels would otherwise be reported under this name
+        if (!kernels.equals(AxisConditioner.getKernelsName())) {
+            throw new IllegalStateException("The " + kernels + " kernels are not available, " + AxisConditioner.getKernelsName() + " are used instead");
+        }
+        conditioner = new AxisConditioner(pads);
+        conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.RADIAL, 0.1f, 0.95f);
+        conditioner.setStickAntiDeadzone(0.15f);
+        conditioner.setStickCurve(ResponseCurve.power(1.8));
+        conditioner.setTriggerDeadzone(0.05f, 0.98f);
+        conditioner.setTriggerCurve(ResponseCurve.power(1.4));
+        short[] calibration = {800, -600, 300, -200, 0, 0};
+        for (int pad = 0; pad < pads; pad++) {
+            String guid = String.format("0300000000000000%016x", pad);
+            conditioner.setCalibration(guid, calibration);
+            conditioner.bind(pad, guid);
+        }
+        axes = new short[pads * SDL_CONTROLLER_AXIS_MAX];
+        out = new short[axes.length];
+        padAxes = new short[SDL_CONTROLLER_AXIS_MAX];
+        padOut = new short[SDL_CONTROLLER_AXIS_MAX];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < axes.length; i++) {
+            axes[i] = (short) random.nextInt(Short.MIN_VALUE, Short.MAX_VALUE + 1);
+        }
+    }
+
+    @Benchmark
+    public short[] allPads() {
+        conditioner.process(axes, out, pads);
+        return out;
+    }
+
+    @Benchmark
+    public short[] onePadPerCall() {
+        // How a caller conditioning each controller as it is read would use it
+        for (int pad = 0; pad < pads; pad++) {
+            System.arraycopy(axes, pad * SDL_CONTROLLER_AXIS_MAX, padAxes, 0, SDL_CONTROLLER_AXIS_MAX);
+            conditioner.process(padAxes, padOut, 1);
+        }
+        return padOut;
+    }
+}
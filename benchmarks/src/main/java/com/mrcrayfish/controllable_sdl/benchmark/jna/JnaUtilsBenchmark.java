@@ -0,0 +1,74 @@
+package com.mrcrayfish.controllable_sdl.benchmark.jna;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.rect.SDL_Point;
+import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link JnaUtils} helpers used to pass Java arrays and structure lists to SDL: allocating a new
+ * {@link Memory} per call, against writing into the thread's {@link ScratchArena}. No SDL library is required.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JnaUtilsBenchmark {
+
+    @Param({"16", "1024"})
+    public int length;
+
+    private int[] ints;
+    private List<SDL_Point> points;
+
+    @Setup
+    public void setUp() {
+        ints = new int[length];
+        points = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            ints[i] = i;
+            points.add(new SDL_Point(i, -i));
+        }
+    }
+
+    @Benchmark
+    public long intArrayMemory() {
+        return Pointer.nativeValue(JnaUtils.writeArrayToNativeMemory(ints));
+    }
+
+    @Benchmark
+    public long intArrayArena() {
+        try (ScratchArena arena = ScratchArena.push()) {
+            return Pointer.nativeValue(JnaUtils.writeArrayToNativeMemory(arena, ints));
+        }
+    }
+
+    @Benchmark
+    public long structureListMemory() {
+        return Pointer.nativeValue(JnaUtils.writeListToNativeMemory(points));
+    }
+
+    @Benchmark
+    public long structureListArena() {
+        try (ScratchArena arena = ScratchArena.push()) {
+            return Pointer.nativeValue(JnaUtils.writeListToNativeMemory(arena, points));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.mrcrayfish.controllable_sdl.benchmark.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.journal.EventJournal;
+import com.mrcrayfish.controllable_sdl.event.journal.EventJournalWriter;
+import com.mrcrayfish.controllable_sdl.event.journal.EventReplayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_EVENTS;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_USEREVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+
+/**
+ * Measures the cost per event of replaying a journal as fast as possible, with one {@code SDL_PushEvent} per event
+ * against blocks of {@code SDL_PeepEvents(SDL_ADDEVENT)}. Sustaining 100,000 events per second needs a score below
+ * 10,000 ns. The queue is flushed before each replay so it never fills up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventReplayBenchmark {
+
+    private static final int EVENTS = 4096;
+
+    private Path path;
+    private EventJournal journal;
+    private EventReplayer.Target pushEvents;
+    private EventReplayer.Target addEvents;
+
+    @Setup
+    public void setUp() throws IOException {
+        SdlBenchmarks.init(SDL_INIT_EVENTS);
+        path = Files.createTempFile("controllable-sdl-replay", ".sdlj");
+        ByteBuffer event = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        event.putInt(0, SDL_USEREVENT);
+        try (EventJournalWriter writer = new EventJournalWriter(path)) {
+            for (int i = 0; i < EVENTS; i++) {
+                writer.record(event, 0);
+            }
+        }
+        journal = EventJournal.open(path);
+        pushEvents = EventReplayer.pushEvents();
+        addEvents = EventReplayer.addEvents(256);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(path);
+        SDL_QuitSubSystem(SDL_INIT_EVENTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int pushEvent() {
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+        return EventReplayer.replay(journal, pushEvents, EventReplayer.UNPACED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int addEvents() {
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+        return EventReplayer.replay(journal, addEvents, EventReplayer.UNPACED);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mrcrayfish.controllable_sdl.benchmark.render;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Vertex;
+import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
+import com.sun.jna.Pointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what {@code SDL_RenderGeometry} costs on the Java side before the native call: building a list of
+ * {@link SDL_Vertex} objects and writing them to native memory, against filling a packed direct buffer that is
+ * passed without copying. No SDL library is required.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryMarshallingBenchmark {
+
+    @Param({"1000", "50000"})
+    public int vertexCount;
+
+    private FloatBuffer packed;
+
+    @Setup
+    public void setUp() {
+        packed = ByteBuffer.allocateDirect(vertexCount * SDL_Vertex.SIZE).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    @Benchmark
+    public long vertexList() {
+        List<SDL_Vertex> vertices = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            vertices.add(new SDL_Vertex(i, i * 0.5F, (byte) 255, (byte) i, (byte) 0, (byte) 255, 0F, 1F));
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return Pointer.nativeValue(JnaUtils.writeListToNativeMemory(arena, vertices));
+        }
+    }
+
+    @Benchmark
+    public long packedBuffer() {
+        packed.clear();
+        for (int i = 0; i < vertexCount; i++) {
+            packed.put(i).put(i * 0.5F).put(Float.intBitsToFloat(0xFF0000FF | (i & 0xFF) << 8)).put(0F).put(1F);
+        }
+        packed.flip();
+        try (ScratchArena arena = ScratchArena.push()) {
+            return Pointer.nativeValue(JnaUtils.getBufferPointer(arena, packed));
+        }
+    }
+}
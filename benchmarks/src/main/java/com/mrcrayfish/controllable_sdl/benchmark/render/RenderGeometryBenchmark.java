@@ -0,0 +1,90 @@
+package com.mrcrayfish.controllable_sdl.benchmark.render;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Vertex;
+import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_VIDEO;
+import static com.mrcrayfish.controllable_sdl.api.render.SDL_RendererFlags.SDL_RENDERER_SOFTWARE;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_CreateRenderer;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_DestroyRenderer;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderGeometry;
+import static com.mrcrayfish.controllable_sdl.api.video.SDL_WindowFlags.SDL_WINDOW_HIDDEN;
+import static com.mrcrayfish.controllable_sdl.api.video.SdlVideo.SDL_CreateWindow;
+import static com.mrcrayfish.controllable_sdl.api.video.SdlVideo.SDL_DestroyWindow;
+
+/**
+ * Measures {@code SDL_RenderGeometry} end to end on the software renderer, with the vertices given as a list of
+ * {@link SDL_Vertex} against a packed direct buffer. Unlike {@link GeometryMarshallingBenchmark}, the triangles are
+ * actually drawn, so the gap shows how much of a frame the marshalling takes. The triangles are tiny to keep the
+ * rasterization cost low.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderGeometryBenchmark {
+
+    @Param({"300", "30000"})
+    public int vertexCount;
+
+    private SDL_Window window;
+    private SDL_Renderer renderer;
+    private List<SDL_Vertex> list;
+    private FloatBuffer packed;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_VIDEO);
+        window = SdlBenchmarks.check(SDL_CreateWindow("Benchmark", 0, 0, 64, 64, SDL_WINDOW_HIDDEN));
+        renderer = SdlBenchmarks.check(SDL_CreateRenderer(window, -1, SDL_RENDERER_SOFTWARE));
+        list = new ArrayList<>(vertexCount);
+        packed = ByteBuffer.allocateDirect(vertexCount * SDL_Vertex.SIZE).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        for (int i = 0; i < vertexCount; i++) {
+            float x = i % 64;
+            float y = (i / 3) % 64 + (i % 3 == 2 ? 1 : 0);
+            list.add(new SDL_Vertex(x, y, (byte) 255, (byte) i, (byte) 0, (byte) 255, 0F, 0F));
+            packed.put(x).put(y).put(Float.intBitsToFloat(0xFF0000FF | (i & 0xFF) << 8)).put(0F).put(0F);
+        }
+        packed.flip();
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_DestroyRenderer(renderer);
+        SDL_DestroyWindow(window);
+        SDL_QuitSubSystem(SDL_INIT_VIDEO);
+    }
+
+    @Benchmark
+    public int vertexList() {
+        return SDL_RenderGeometry(renderer, null, list, null);
+    }
+
+    @Benchmark
+    public int packedBuffer() {
+        return SDL_RenderGeometry(renderer, null, packed, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mrcrayfish.controllable_sdl.benchmark.rwops;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.rwops.SDL_RWops;
+import com.mrcrayfish.controllable_sdl.jna.size_t;
+import com.sun.jna.Memory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromConstMem;
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWclose;
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWread;
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWseek;
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_ReadLE32;
+import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWopsSeekType.RW_SEEK_SET;
+
+/**
+ * Measures reading a memory stream through {@code SDL_RWops}: one bulk {@code SDL_RWread}, against an
+ * {@code SDL_ReadLE32} call per value. {@link SDL_RWops} is a JNA structure, so every call also synchronizes the
+ * structure with native memory, which the per-value reads pay once per value. No subsystem has to be initialized.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RWopsReadBenchmark {
+
+    @Param({"4096", "65536"})
+    public int bytes;
+
+    private Memory source;
+    private Memory destination;
+    private SDL_RWops stream;
+    private size_t one;
+    private size_t count;
+
+    @Setup
+    public void setUp() {
+        source = new Memory(bytes);
+        for (int i = 0; i < bytes / 4; i++) {
+            source.setInt(i * 4L, i);
+        }
+        destination = new Memory(bytes);
+        stream = SDL_RWFromConstMem(source, bytes);
+        one = new size_t(1);
+        count = new size_t(bytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_RWclose(stream);
+    }
+
+    @Benchmark
+    public long bulkRead() {
+        SDL_RWseek(stream, 0L, RW_SEEK_SET);
+        return SDL_RWread(stream, destination, one, count).longValue();
+    }
+
+    @Benchmark
+    public long readLE32() {
+        SDL_RWseek(stream, 0L, RW_SEEK_SET);
+        long sum = 0;
+        for (int i = 0; i < bytes / 4; i++) {
+            sum += SDL_ReadLE32(stream);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,95 @@
+package com.mrcrayfish.controllable_sdl.benchmark.surface;
+
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.api.surface.SDL_Surface;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.sun.jna.Pointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_VIDEO;
+import static com.mrcrayfish.controllable_sdl.api.pixels.SDL_PixelFormatEnum.SDL_PIXELFORMAT_RGBA8888;
+import static com.mrcrayfish.controllable_sdl.api.surface.SdlSurface.SDL_CreateRGBSurfaceWithFormat;
+import static com.mrcrayfish.controllable_sdl.api.surface.SdlSurface.SDL_FreeSurface;
+
+/**
+ * Measures reading the pixels of a 32-bit surface through {@link SDL_Surface#getPixels()}: one {@link Pointer#getInt}
+ * per pixel, against a single {@link IntBuffer} view of the whole surface. {@code getPixels} itself, which reads the
+ * field from native memory, is measured separately.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfacePixelsBenchmark {
+
+    @Param({"64", "512"})
+    public int size;
+
+    private SDL_Surface surface;
+    private int pitch;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_VIDEO);
+        surface = SdlBenchmarks.check(SDL_CreateRGBSurfaceWithFormat(0, size, size, 32, SDL_PIXELFORMAT_RGBA8888));
+        pitch = surface.getPitch();
+        Pointer pixels = surface.getPixels();
+        for (int i = 0; i < pitch * size / 4; i++) {
+            pixels.setInt(i * 4L, i * 31);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SDL_FreeSurface(surface);
+        SDL_QuitSubSystem(SDL_INIT_VIDEO);
+    }
+
+    @Benchmark
+    public long getPixels() {
+        return Pointer.nativeValue(surface.getPixels());
+    }
+
+    @Benchmark
+    public long perPixel() {
+        Pointer pixels = surface.getPixels();
+        long sum = 0;
+        for (int y = 0; y < size; y++) {
+            long row = (long) y * pitch;
+            for (int x = 0; x < size; x++) {
+                sum += pixels.getInt(row + x * 4L);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intBuffer() {
+        IntBuffer pixels = surface.getPixels().getByteBuffer(0L, (long) pitch * size).order(ByteOrder.nativeOrder()).asIntBuffer();
+        int stride = pitch / 4;
+        long sum = 0;
+        for (int y = 0; y < size; y++) {
+            int row = y * stride;
+            for (int x = 0; x < size; x++) {
+                sum += pixels.get(row + x);
+            }
+        }
+        return sum;
+    }
+}
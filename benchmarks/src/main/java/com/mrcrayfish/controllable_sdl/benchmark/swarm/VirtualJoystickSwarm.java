@@ -0,0 +1,385 @@
+package com.mrcrayfish.controllable_sdl.benchmark.swarm;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystickConst;
+import com.mrcrayfish.controllable_sdl.api.joystick.virtual.SDL_VirtualJoystickDesc;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.InputPump;
+import com.mrcrayfish.controllable_sdl.metrics.LatencyHistogram;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYHATMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PumpEvents;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerClose;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetJoystick;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerOpen;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtualEx;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickClose;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickOpen;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualAxis;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualButton;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualHat;
+
+/**
+ * A load generator attaching any number of virtual joysticks or game controllers with
+ * {@code SDL_JoystickAttachVirtualEx} and driving them with scripted input, while an {@link InputPump} delivers the
+ * resulting events.
+ *
+ * <p>Every call to {@link #step()} changes one axis, button or hat of every device, chosen by the {@link Pattern},
+ * with {@code SDL_JoystickSetVirtualAxis}, {@code SDL_JoystickSetVirtualButton} or {@code SDL_JoystickSetVirtualHat}.
+ * SDL turns the change into an {@code SDL_JOY*} event the next time the pump updates the joysticks. The time of each
+ * set call is kept per element, together with the value set, and matched against the delivered events to record the
+ * latency from the set call to the delivery of the event. A change overwritten by the next change of the same element
+ * before its event was delivered is counted as superseded, which is the first sign of the pump falling behind.</p>
+ *
+ * <p>SDL must be initialized with {@code SDL_INIT_JOYSTICK}, or {@code SDL_INIT_GAMECONTROLLER} for game controllers,
+ * and not run the video subsystem, as the events are pumped on the thread of the input pump. Steps are made from a
+ * single thread.</p>
+ */
+public final class VirtualJoystickSwarm implements AutoCloseable {
+
+    /**
+     * The number of axes of every device, as many as a game controller has.
+     */
+    public static final int AXES = 6;
+
+    /**
+     * The number of buttons of every device, as many as a game controller has before the SDL 2.0.14 additions.
+     */
+    public static final int BUTTONS = 15;
+
+    /**
+     * The number of hats of every device.
+     */
+    public static final int HATS = 1;
+
+    private static final int ELEMENTS = AXES + BUTTONS + HATS;
+    private static final byte[] HAT_CYCLE = {
+            SdlJoystickConst.SDL_HAT_UP,
+            SdlJoystickConst.SDL_HAT_RIGHT,
+            SdlJoystickConst.SDL_HAT_DOWN,
+            SdlJoystickConst.SDL_HAT_LEFT
+    };
+
+    /**
+     * The input scripted on every device.
+     */
+    public enum Pattern {
+        /**
+         * Each step moves the next axis, in turn, to a new position.
+         */
+        AXIS_SWEEP,
+        /**
+         * Each step presses or releases the next button, in turn.
+         */
+        BUTTON_TOGGLE,
+        /**
+         * Each step rotates the hat by a quarter turn.
+         */
+        HAT_CYCLE,
+        /**
+         * Half the steps move an axis, a quarter toggle a button and a quarter rotate the hat, roughly the mix of a
+         * player moving the sticks while using the buttons and the D-pad.
+         */
+        MIXED
+    }
+
+    private final Pattern pattern;
+    private final int[] deviceIndices;
+    private final SDL_GameController[] controllers;
+    private final SDL_Joystick[] joysticks;
+    private final int[] instanceIds;
+    private int[] slotsByInstance = new int[0];
+    private int attached;
+
+    // The nanoTime of the last set call of every element relative to base, shifted left by 16 bits, with the value set
+    // in the low 16 bits; 0 once the event was delivered
+    private final AtomicLongArray pending;
+    private final long base = System.nanoTime();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder setCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder unmatchedCount = new LongAdder();
+    private final LongAdder supersededCount = new LongAdder();
+    private int step;
+    private int axisStep;
+    private int buttonStep;
+    private int hatStep;
+    private InputPump pump;
+
+    /**
+     * Attach and open the devices.
+     *
+     * @param devices         the number of devices to attach
+     * @param gameControllers true to open the devices as game controllers, which also makes SDL map every change to
+     *                        {@code SDL_CONTROLLER*} events, or false to open them as plain joysticks
+     * @param pattern         the input scripted on every device
+     * @throws IllegalStateException if a device could not be attached or opened
+     */
+    public VirtualJoystickSwarm(int devices, boolean gameControllers, Pattern pattern) {
+        if (devices < 1) {
+            throw new IllegalArgumentException("At least one device must be attached");
+        }
+        this.pattern = pattern;
+        this.deviceIndices = new int[devices];
+        this.controllers = new SDL_GameController[devices];
+        this.joysticks = new SDL_Joystick[devices];
+        this.instanceIds = new int[devices];
+        this.pending = new AtomicLongArray(devices * ELEMENTS);
+        try {
+            for (int i = 0; i < devices; i++) {
+                SDL_VirtualJoystickDesc desc = new SDL_VirtualJoystickDesc();
+                desc.version = SdlJoystickConst.SDL_VIRTUAL_JOYSTICK_DESC_VERSION;
+                desc.type = SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER;
+                desc.naxes = AXES;
+                desc.nbuttons = BUTTONS;
+                desc.nhats = HATS;
+                // Distinct ids so SDL does not treat the devices as duplicates of each other
+                desc.vendorId = (short) 0x5357;
+                desc.productId = (short) i;
+                desc.name = "Virtual Swarm Device " + i;
+                int deviceIndex = SDL_JoystickAttachVirtualEx(desc);
+                if (deviceIndex < 0) {
+                    throw new IllegalStateException("SDL Failure: could not attach virtual device " + i);
+                }
+                deviceIndices[i] = deviceIndex;
+                attached++;
+                if (gameControllers) {
+                    controllers[i] = SdlBenchmarks.check(SDL_GameControllerOpen(deviceIndex));
+                    joysticks[i] = SDL_GameControllerGetJoystick(controllers[i]);
+                } else {
+                    joysticks[i] = SdlBenchmarks.check(SDL_JoystickOpen(deviceIndex));
+                }
+                instanceIds[i] = SDL_JoystickInstanceID(joysticks[i]).intValue();
+                addSlot(instanceIds[i], i);
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        // Report the initial position of every axis once, so the first scripted changes are ordinary ones
+        for (SDL_Joystick joystick : joysticks) {
+            for (int axis = 0; axis < AXES; axis++) {
+                SDL_JoystickSetVirtualAxis(joystick, axis, (short) 0);
+            }
+        }
+        SDL_PumpEvents();
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    private void addSlot(int instanceId, int slot) {
+        if (instanceId >= slotsByInstance.length) {
+            int[] grown = new int[Math.max(instanceId + 1, slotsByInstance.length * 2)];
+            Arrays.fill(grown, slotsByInstance.length, grown.length, -1);
+            System.arraycopy(slotsByInstance, 0, grown, 0, slotsByInstance.length);
+            slotsByInstance = grown;
+        }
+        slotsByInstance[instanceId] = slot;
+    }
+
+    /**
+     * Start delivering the events of the devices on an input pump.
+     *
+     * @param policy the policy of the pump
+     * @throws IllegalStateException if the swarm was already started
+     */
+    public void start(InputPump.Policy policy) {
+        if (pump != null) {
+            throw new IllegalStateException("The swarm was already started");
+        }
+        pump = new InputPump(256, policy);
+        pump.subscribe(this::onEvents);
+        pump.start();
+    }
+
+    /**
+     * Change one element of every device.
+     *
+     * @return the number of set calls made
+     */
+    public int step() {
+        int kind;
+        switch (pattern) {
+            case AXIS_SWEEP:
+                kind = 0;
+                break;
+            case BUTTON_TOGGLE:
+                kind = 1;
+                break;
+            case HAT_CYCLE:
+                kind = 2;
+                break;
+            default:
+                // Axes on steps 0 and 1, a button on step 2 and the hat on step 3 of every 4
+                kind = Math.max(0, (step & 3) - 1);
+                break;
+        }
+        step++;
+        switch (kind) {
+            case 0: {
+                int axis = axisStep % AXES;
+                int round = axisStep / AXES;
+                axisStep++;
+                for (int i = 0; i < joysticks.length; i++) {
+                    // A stride coprime with 65536 visits every position before repeating one
+                    short value = (short) ((round + 1) * 2731 + i * 97);
+                    set(i, axis, value);
+                    SDL_JoystickSetVirtualAxis(joysticks[i], axis, value);
+                }
+                break;
+            }
+            case 1: {
+                int button = buttonStep % BUTTONS;
+                byte value = (byte) ((buttonStep / BUTTONS & 1) == 0 ? 1 : 0);
+                buttonStep++;
+                for (int i = 0; i < joysticks.length; i++) {
+                    set(i, AXES + button, value);
+                    SDL_JoystickSetVirtualButton(joysticks[i], button, value);
+                }
+                break;
+            }
+            default: {
+                byte value = HAT_CYCLE[hatStep & 3];
+                hatStep++;
+                for (int i = 0; i < joysticks.length; i++) {
+                    set(i, AXES + BUTTONS, value);
+                    SDL_JoystickSetVirtualHat(joysticks[i], 0, value);
+                }
+                break;
+            }
+        }
+        setCount.add(joysticks.length);
+        return joysticks.length;
+    }
+
+    private void set(int device, int element, int value) {
+        long elapsed = Math.max(1L, System.nanoTime() - base);
+        if (pending.getAndSet(device * ELEMENTS + element, elapsed << 16 | value & 0xFFFF) != 0L) {
+            supersededCount.increment();
+        }
+    }
+
+    private void onEvents(EventBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            int element;
+            int value;
+            switch (batch.getType(i)) {
+                case SDL_JOYAXISMOTION:
+                    element = batch.getAxis(i) & 0xFF;
+                    value = batch.getAxisValue(i);
+                    break;
+                case SDL_JOYBUTTONDOWN:
+                case SDL_JOYBUTTONUP:
+                    element = AXES + (batch.getButton(i) & 0xFF);
+                    value = batch.getState(i);
+                    break;
+                case SDL_JOYHATMOTION:
+                    element = AXES + BUTTONS + (batch.getHat(i) & 0xFF);
+                    value = batch.getHatValue(i);
+                    break;
+                default:
+                    continue;
+            }
+            int which = batch.getWhich(i);
+            int slot = which >= 0 && which < slotsByInstance.length ? slotsByInstance[which] : -1;
+            if (slot < 0 || element >= ELEMENTS) {
+                continue;
+            }
+            int index = slot * ELEMENTS + element;
+            long packed = pending.get(index);
+            if (packed != 0L && (packed & 0xFFFF) == (value & 0xFFFF) && pending.compareAndSet(index, packed, 0L)) {
+                latency.record(System.nanoTime() - base - (packed >>> 16));
+                deliveredCount.increment();
+            } else {
+                unmatchedCount.increment();
+            }
+        }
+    }
+
+    /**
+     * @return the number of devices
+     */
+    public int getDeviceCount() {
+        return joysticks.length;
+    }
+
+    /**
+     * @return the histogram of the time from a set call to the delivery of its event
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the number of set calls made
+     */
+    public long getSetCount() {
+        return setCount.sum();
+    }
+
+    /**
+     * @return the number of events delivered and matched to the set call causing them
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * @return the number of events of the devices delivered without a pending set call of the same value, such as
+     * the events of superseded changes
+     */
+    public long getUnmatchedCount() {
+        return unmatchedCount.sum();
+    }
+
+    /**
+     * @return the number of set calls made before the event of the previous set call of the same element was delivered
+     */
+    public long getSupersededCount() {
+        return supersededCount.sum();
+    }
+
+    /**
+     * @return the input pump delivering the events, or null before {@link #start(InputPump.Policy)}
+     */
+    public InputPump getPump() {
+        return pump;
+    }
+
+    /**
+     * Stop the pump, then close and detach every device.
+     */
+    @Override
+    public void close() {
+        if (pump != null) {
+            pump.close();
+        }
+        // Detached from the last so the device indices of the others stay valid
+        for (int i = joysticks.length - 1; i >= 0; i--) {
+            if (controllers[i] != null) {
+                SDL_GameControllerClose(controllers[i]);
+            } else if (joysticks[i] != null) {
+                SDL_JoystickClose(joysticks[i]);
+            }
+            controllers[i] = null;
+            joysticks[i] = null;
+        }
+        for (int i = attached - 1; i >= 0; i--) {
+            SDL_JoystickDetachVirtual(deviceIndices[i]);
+        }
+        attached = 0;
+    }
+}
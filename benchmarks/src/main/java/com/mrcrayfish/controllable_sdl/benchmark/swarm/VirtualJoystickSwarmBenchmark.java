@@ -0,0 +1,141 @@
+package com.mrcrayfish.controllable_sdl.benchmark.swarm;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.InputPump;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+
+/**
+ * Drives a {@link VirtualJoystickSwarm} of 1 to 256 devices at a fixed rate of steps per second, each step changing
+ * one element of every device, to find where delivering input through an {@link InputPump} stops scaling.
+ *
+ * <p>The score is the number of steps made per second, which stays at {@code rate} until the set calls alone take
+ * longer than a step; a {@code rate} of 0 makes steps as fast as possible. The counters, per second, are:</p>
+ * <ul>
+ *     <li>{@code setCalls} and {@code delivered}, the virtual joystick set calls made and the events delivered for
+ *     them. {@code superseded} counts the changes overwritten before their event was delivered.</li>
+ *     <li>{@code driverCpuNanos} and {@code pumpCpuNanos}, the CPU time of the benchmark thread making the set calls
+ *     and of the pump thread, so {@code 1e9} is one core fully used.</li>
+ * </ul>
+ *
+ * <p>Percentiles cannot be carried by a throughput score or counter, so the latency from a step to the delivery of
+ * its events is measured by {@link VirtualJoystickSwarmLatencyBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualJoystickSwarmBenchmark {
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int devices;
+
+    @Param({"125", "1000", "0"})
+    public int rate;
+
+    @Param({"MIXED"})
+    public VirtualJoystickSwarm.Pattern pattern;
+
+    @Param({"true"})
+    public boolean gameControllers;
+
+    @Param({"LATENCY_FIRST", "POWER_FIRST"})
+    public String policy;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private VirtualJoystickSwarm swarm;
+    private long periodNanos;
+    private long nextStep;
+    private long setCalls;
+    private long delivered;
+    private long superseded;
+    private long driverCpu;
+    private long pumpCpu;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long setCalls;
+        public long delivered;
+        public long superseded;
+        public long driverCpuNanos;
+        public long pumpCpuNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            setCalls = 0;
+            delivered = 0;
+            superseded = 0;
+            driverCpuNanos = 0;
+            pumpCpuNanos = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_GAMECONTROLLER);
+        swarm = new VirtualJoystickSwarm(devices, gameControllers, pattern);
+        swarm.start(policy.equals("POWER_FIRST") ? InputPump.Policy.POWER_FIRST : InputPump.Policy.LATENCY_FIRST);
+        periodNanos = rate > 0 ? 1_000_000_000L / rate : 0L;
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        setCalls = swarm.getSetCount();
+        delivered = swarm.getDeliveredCount();
+        superseded = swarm.getSupersededCount();
+        driverCpu = threads.getCurrentThreadCpuTime();
+        pumpCpu = swarm.getPump().getCpuTime().getTotalNanos();
+        nextStep = System.nanoTime();
+    }
+
+    @TearDown
+    public void tearDown() {
+        swarm.close();
+        SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+    }
+
+    @Benchmark
+    public int step(Counters counters) {
+        if (periodNanos > 0) {
+            long now = System.nanoTime();
+            if (now < nextStep) {
+                LockSupport.parkNanos(nextStep - now);
+            }
+            nextStep += periodNanos;
+            if (nextStep < now) {
+                // Fallen behind by more than a step, so keep the rate from now rather than catching up in a burst
+                nextStep = now + periodNanos;
+            }
+        }
+        int calls = swarm.step();
+        counters.setCalls = swarm.getSetCount() - setCalls;
+        counters.delivered = swarm.getDeliveredCount() - delivered;
+        counters.superseded = swarm.getSupersededCount() - superseded;
+        counters.driverCpuNanos = threads.getCurrentThreadCpuTime() - driverCpu;
+        counters.pumpCpuNanos = swarm.getPump().getCpuTime().getTotalNanos() - pumpCpu;
+        return calls;
+    }
+}
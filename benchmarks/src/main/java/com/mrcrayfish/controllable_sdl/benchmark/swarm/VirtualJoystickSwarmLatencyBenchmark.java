@@ -0,0 +1,80 @@
+package com.mrcrayfish.controllable_sdl.benchmark.swarm;
+
+import java.util.concurrent.TimeUnit;
+import com.mrcrayfish.controllable_sdl.benchmark.SdlBenchmarks;
+import com.mrcrayfish.controllable_sdl.event.InputPump;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+
+/**
+ * Samples the latency from a step of a {@link VirtualJoystickSwarm} of 1 to 256 devices to the delivery of its last
+ * event by the {@link InputPump}, the companion of {@link VirtualJoystickSwarmBenchmark}, whose throughput score
+ * cannot carry percentiles.
+ *
+ * <p>Every sample makes one step, changing one element of every device, then waits until the events of all the
+ * devices have been delivered, so JMH reports the percentiles of the time a whole step takes to reach the consumers.
+ * Steps are made back to back, like a {@code rate} of 0 in the throughput benchmark, but never before the previous
+ * step has been delivered. A step whose events are not all delivered within 100 ms ends the sample, as a lost event
+ * would otherwise stall the benchmark.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualJoystickSwarmLatencyBenchmark {
+
+    private static final long TIMEOUT_MILLIS = 100L;
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int devices;
+
+    @Param({"MIXED"})
+    public VirtualJoystickSwarm.Pattern pattern;
+
+    @Param({"true"})
+    public boolean gameControllers;
+
+    @Param({"LATENCY_FIRST", "POWER_FIRST"})
+    public String policy;
+
+    private VirtualJoystickSwarm swarm;
+
+    @Setup
+    public void setUp() {
+        SdlBenchmarks.init(SDL_INIT_GAMECONTROLLER);
+        swarm = new VirtualJoystickSwarm(devices, gameControllers, pattern);
+        swarm.start(policy.equals("POWER_FIRST") ? InputPump.Policy.POWER_FIRST : InputPump.Policy.LATENCY_FIRST);
+    }
+
+    @TearDown
+    public void tearDown() {
+        swarm.close();
+        SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+    }
+
+    @Benchmark
+    public long stepToDelivery() {
+        long target = swarm.getDeliveredCount() + swarm.step();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        long delivered;
+        while ((delivered = swarm.getDeliveredCount()) < target && System.nanoTime() - deadline < 0) {
+            Thread.onSpinWait();
+        }
+        return delivered;
+    }
+}
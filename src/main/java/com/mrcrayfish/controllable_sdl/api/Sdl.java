@@ -1,6 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api;
 
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -22,32 +25,51 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class Sdl {
 
+    private static final NativeFunctionStats INIT = SdlMetrics.register("SDL_Init", NativeCallKind.CALL);
+    private static final NativeFunctionStats INIT_SUB_SYSTEM = SdlMetrics.register("SDL_InitSubSystem", NativeCallKind.CALL);
+    private static final NativeFunctionStats WAS_INIT = SdlMetrics.register("SDL_WasInit", NativeCallKind.CALL);
+    private static final NativeFunctionStats QUIT = SdlMetrics.register("SDL_Quit", NativeCallKind.CALL);
+    private static final NativeFunctionStats QUIT_SUB_SYSTEM = SdlMetrics.register("SDL_QuitSubSystem", NativeCallKind.CALL);
+
     private Sdl() {
     }
 
     public static int SDL_Init(
             @MagicConstant(flagsFromClass = SdlSubSystemConst.class) int flags) {
-        return InternalNativeFunctions.SDL_Init(flags);
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_Init(flags);
+        SdlMetrics.end(INIT, start);
+        return result;
     }
 
     public static int SDL_InitSubSystem(
             @MagicConstant(flagsFromClass = SdlSubSystemConst.class) int flags) {
-        return InternalNativeFunctions.SDL_InitSubSystem(flags);
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_InitSubSystem(flags);
+        SdlMetrics.end(INIT_SUB_SYSTEM, start);
+        return result;
     }
 
     @MagicConstant(flagsFromClass = SdlSubSystemConst.class)
     public static int SDL_WasInit(
             @MagicConstant(flagsFromClass = SdlSubSystemConst.class) int flags) {
-        return InternalNativeFunctions.SDL_WasInit(flags);
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_WasInit(flags);
+        SdlMetrics.end(WAS_INIT, start);
+        return result;
     }
 
     public static void SDL_Quit() {
+        long start = SdlMetrics.begin();
         InternalNativeFunctions.SDL_Quit();
+        SdlMetrics.end(QUIT, start);
     }
 
     public static void SDL_QuitSubSystem(
             @MagicConstant(flagsFromClass = SdlSubSystemConst.class) int flags) {
+        long start = SdlMetrics.begin();
         InternalNativeFunctions.SDL_QuitSubSystem(flags);
+        SdlMetrics.end(QUIT_SUB_SYSTEM, start);
     }
 
     private static final class InternalNativeFunctions {
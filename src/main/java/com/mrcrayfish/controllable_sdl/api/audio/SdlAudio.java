@@ -7,6 +7,9 @@ import com.mrcrayfish.controllable_sdl.api.rwops.SDL_RWops;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
 import com.mrcrayfish.controllable_sdl.jna.StringRef;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromFile;
@@ -18,9 +21,44 @@ import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromFile;
  */
 public final class SdlAudio {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlAudio.class);
-    }
+    private static final NativeFunctionStats GET_NUM_AUDIO_DRIVERS = SdlMetrics.register("SDL_GetNumAudioDrivers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_AUDIO_DRIVER = SdlMetrics.register("SDL_GetAudioDriver", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_INIT = SdlMetrics.register("SDL_AudioInit", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_QUIT = SdlMetrics.register("SDL_AudioQuit", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CURRENT_AUDIO_DRIVER = SdlMetrics.register("SDL_GetCurrentAudioDriver", NativeCallKind.CALL);
+    private static final NativeFunctionStats OPEN_AUDIO = SdlMetrics.register("SDL_OpenAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_AUDIO_DEVICES = SdlMetrics.register("SDL_GetNumAudioDevices", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_AUDIO_DEVICE_NAME = SdlMetrics.register("SDL_GetAudioDeviceName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_AUDIO_DEVICE_SPEC = SdlMetrics.register("SDL_GetAudioDeviceSpec", NativeCallKind.CALL);
+    private static final NativeFunctionStats OPEN_AUDIO_DEVICE = SdlMetrics.register("SDL_OpenAudioDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_AUDIO_STATUS = SdlMetrics.register("SDL_GetAudioStatus", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_AUDIO_DEVICE_STATUS = SdlMetrics.register("SDL_GetAudioDeviceStatus", NativeCallKind.CALL);
+    private static final NativeFunctionStats PAUSE_AUDIO = SdlMetrics.register("SDL_PauseAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats PAUSE_AUDIO_DEVICE = SdlMetrics.register("SDL_PauseAudioDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOAD_WAV_RW = SdlMetrics.register("SDL_LoadWAV_RW", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_WAV = SdlMetrics.register("SDL_FreeWAV", NativeCallKind.CALL);
+    private static final NativeFunctionStats BUILD_AUDIO_CVT = SdlMetrics.register("SDL_BuildAudioCVT", NativeCallKind.CALL);
+    private static final NativeFunctionStats CONVERT_AUDIO = SdlMetrics.register("SDL_ConvertAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats NEW_AUDIO_STREAM = SdlMetrics.register("SDL_NewAudioStream", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_STREAM_PUT = SdlMetrics.register("SDL_AudioStreamPut", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_STREAM_GET = SdlMetrics.register("SDL_AudioStreamGet", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_STREAM_AVAILABLE = SdlMetrics.register("SDL_AudioStreamAvailable", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_STREAM_FLUSH = SdlMetrics.register("SDL_AudioStreamFlush", NativeCallKind.CALL);
+    private static final NativeFunctionStats AUDIO_STREAM_CLEAR = SdlMetrics.register("SDL_AudioStreamClear", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_AUDIO_STREAM = SdlMetrics.register("SDL_FreeAudioStream", NativeCallKind.CALL);
+    private static final NativeFunctionStats MIX_AUDIO = SdlMetrics.register("SDL_MixAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats MIX_AUDIO_FORMAT = SdlMetrics.register("SDL_MixAudioFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats QUEUE_AUDIO = SdlMetrics.register("SDL_QueueAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats DEQUEUE_AUDIO = SdlMetrics.register("SDL_DequeueAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_QUEUED_AUDIO_SIZE = SdlMetrics.register("SDL_GetQueuedAudioSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLEAR_QUEUED_AUDIO = SdlMetrics.register("SDL_ClearQueuedAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_AUDIO = SdlMetrics.register("SDL_LockAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_AUDIO_DEVICE = SdlMetrics.register("SDL_LockAudioDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_AUDIO = SdlMetrics.register("SDL_UnlockAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_AUDIO_DEVICE = SdlMetrics.register("SDL_UnlockAudioDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLOSE_AUDIO = SdlMetrics.register("SDL_CloseAudio", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLOSE_AUDIO_DEVICE = SdlMetrics.register("SDL_CloseAudioDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DEFAULT_AUDIO_INFO = SdlMetrics.register("SDL_GetDefaultAudioInfo", NativeCallKind.CALL);
 
     private SdlAudio() {
     }
@@ -42,7 +80,12 @@ public final class SdlAudio {
      * @see #SDL_GetAudioDriver(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumAudioDrivers();
+    public static int SDL_GetNumAudioDrivers() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumAudioDrivers();
+        SdlMetrics.end(GET_NUM_AUDIO_DRIVERS, start);
+        return result;
+    }
 
     /**
      * Use this function to get the name of a built in audio driver.
@@ -62,8 +105,13 @@ public final class SdlAudio {
      * @see #SDL_GetNumAudioDrivers()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetAudioDriver(
-            int index);
+    public static String SDL_GetAudioDriver(
+            int index) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetAudioDriver(index);
+        SdlMetrics.end(GET_AUDIO_DRIVER, start);
+        return result;
+    }
 
     /**
      * Use this function to initialize a particular audio driver.
@@ -78,8 +126,13 @@ public final class SdlAudio {
      * @see #SDL_AudioQuit()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_AudioInit(
-            String driverName);
+    public static int SDL_AudioInit(
+            String driverName) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_AudioInit(driverName);
+        SdlMetrics.end(AUDIO_INIT, start);
+        return result;
+    }
 
     /**
      * Use this function to shut down audio if you initialized it with
@@ -92,7 +145,11 @@ public final class SdlAudio {
      * @see #SDL_AudioInit(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_AudioQuit();
+    public static void SDL_AudioQuit() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_AudioQuit();
+        SdlMetrics.end(AUDIO_QUIT, start);
+    }
 
     /**
      * Get the name of the current audio driver.
@@ -108,7 +165,12 @@ public final class SdlAudio {
      * @see #SDL_AudioInit(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetCurrentAudioDriver();
+    public static String SDL_GetCurrentAudioDriver() {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetCurrentAudioDriver();
+        SdlMetrics.end(GET_CURRENT_AUDIO_DRIVER, start);
+        return result;
+    }
 
     /**
      * This function is a legacy means of opening the audio device.
@@ -155,9 +217,14 @@ public final class SdlAudio {
      * @see #SDL_UnlockAudio()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_OpenAudio(
+    public static int SDL_OpenAudio(
             SDL_AudioSpec desired,
-            SDL_AudioSpec obtained);
+            SDL_AudioSpec obtained) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_OpenAudio(desired, obtained);
+        SdlMetrics.end(OPEN_AUDIO, start);
+        return result;
+    }
 
     /**
      * Get the number of built-in audio devices.
@@ -201,8 +268,13 @@ public final class SdlAudio {
      * @see #SDL_OpenAudioDevice(String, int, SDL_AudioSpec, SDL_AudioSpec, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumAudioDevices(
-            int iscapture);
+    public static int SDL_GetNumAudioDevices(
+            int iscapture) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumAudioDevices(iscapture);
+        SdlMetrics.end(GET_NUM_AUDIO_DEVICES, start);
+        return result;
+    }
 
     /**
      * Get the human-readable name of a specific audio device.
@@ -227,9 +299,14 @@ public final class SdlAudio {
      * @see #SDL_GetDefaultAudioInfo(StringRef, SDL_AudioSpec, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetAudioDeviceName(
+    public static String SDL_GetAudioDeviceName(
             int index,
-            int iscapture);
+            int iscapture) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetAudioDeviceName(index, iscapture);
+        SdlMetrics.end(GET_AUDIO_DEVICE_NAME, start);
+        return result;
+    }
 
     /**
      * Get the preferred audio format of a specific audio device.
@@ -252,10 +329,15 @@ public final class SdlAudio {
      * @see #SDL_GetDefaultAudioInfo(StringRef, SDL_AudioSpec, int)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_GetAudioDeviceSpec(
+    public static int SDL_GetAudioDeviceSpec(
             int index,
             int iscapture,
-            SDL_AudioSpec spec);
+            SDL_AudioSpec spec) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetAudioDeviceSpec(index, iscapture, spec);
+        SdlMetrics.end(GET_AUDIO_DEVICE_SPEC, start);
+        return result;
+    }
 
     /**
      * Get the name and preferred format of the default audio device.
@@ -288,7 +370,9 @@ public final class SdlAudio {
             SDL_AudioSpec spec,
             int iscapture) {
         PointerByReference namePointer = new PointerByReference();
+        long start = SdlMetrics.begin();
         int result = InternalNativeFunctions.SDL_GetDefaultAudioInfo(namePointer, spec, iscapture);
+        SdlMetrics.end(GET_DEFAULT_AUDIO_INFO, start);
         if (Pointer.nativeValue(namePointer.getValue()) == 0L) {
             return result;
         }
@@ -406,12 +490,17 @@ public final class SdlAudio {
      * @see #SDL_UnlockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_AudioDeviceID SDL_OpenAudioDevice(
+    public static SDL_AudioDeviceID SDL_OpenAudioDevice(
             String device,
             int iscapture,
             SDL_AudioSpec desired,
             SDL_AudioSpec obtained,
-            int allowedChanges);
+            int allowedChanges) {
+        long start = SdlMetrics.begin();
+        SDL_AudioDeviceID result = InternalNativeFunctions.SDL_OpenAudioDevice(device, iscapture, desired, obtained, allowedChanges);
+        SdlMetrics.end(OPEN_AUDIO_DEVICE, start);
+        return result;
+    }
 
     /**
      * This function is a legacy means of querying the audio device.
@@ -430,7 +519,12 @@ public final class SdlAudio {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_AudioStatus.class)
-    public static native int SDL_GetAudioStatus();
+    public static int SDL_GetAudioStatus() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetAudioStatus();
+        SdlMetrics.end(GET_AUDIO_STATUS, start);
+        return result;
+    }
 
     /**
      * Use this function to get the current audio state of an audio device.
@@ -442,8 +536,13 @@ public final class SdlAudio {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_AudioStatus.class)
-    public static native int SDL_GetAudioDeviceStatus(
-            SDL_AudioDeviceID dev);
+    public static int SDL_GetAudioDeviceStatus(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetAudioDeviceStatus(dev);
+        SdlMetrics.end(GET_AUDIO_DEVICE_STATUS, start);
+        return result;
+    }
 
     /**
      * This function is a legacy means of pausing the audio device.
@@ -462,8 +561,12 @@ public final class SdlAudio {
      * @see #SDL_PauseAudioDevice(SDL_AudioDeviceID, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_PauseAudio(
-            int pauseOn);
+    public static void SDL_PauseAudio(
+            int pauseOn) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_PauseAudio(pauseOn);
+        SdlMetrics.end(PAUSE_AUDIO, start);
+    }
 
     /**
      * Use this function to pause and unpause audio playback on a specified
@@ -491,9 +594,13 @@ public final class SdlAudio {
      * @see #SDL_LockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_PauseAudioDevice(
+    public static void SDL_PauseAudioDevice(
             SDL_AudioDeviceID dev,
-            int pauseOn);
+            int pauseOn) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_PauseAudioDevice(dev, pauseOn);
+        SdlMetrics.end(PAUSE_AUDIO_DEVICE, start);
+    }
 
     /**
      * Load the audio data of a WAVE file into memory.
@@ -575,12 +682,17 @@ public final class SdlAudio {
      * @since This function is available since SDL 2.0.0.
      */
     // TODO: Test
-    public static native SDL_AudioSpec SDL_LoadWAV_RW(
+    public static SDL_AudioSpec SDL_LoadWAV_RW(
             SDL_RWops src,
             int freesrc,
             SDL_AudioSpec spec,
             PointerByReference audioBuf,
-            IntByReference audioLen);
+            IntByReference audioLen) {
+        long start = SdlMetrics.begin();
+        SDL_AudioSpec result = InternalNativeFunctions.SDL_LoadWAV_RW(src, freesrc, spec, audioBuf, audioLen);
+        SdlMetrics.end(LOAD_WAV_RW, start);
+        return result;
+    }
 
     /**
      * Loads a WAV from a file.
@@ -608,8 +720,12 @@ public final class SdlAudio {
      * @see #SDL_LoadWAV_RW(SDL_RWops, int, SDL_AudioSpec, PointerByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreeWAV(
-            Pointer audioBuf);
+    public static void SDL_FreeWAV(
+            Pointer audioBuf) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeWAV(audioBuf);
+        SdlMetrics.end(FREE_WAV, start);
+    }
 
     /**
      * Initialize an SDL_AudioCVT structure for conversion.
@@ -641,14 +757,19 @@ public final class SdlAudio {
      * @see #SDL_ConvertAudio(SDL_AudioCVT)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_BuildAudioCVT(
+    public static int SDL_BuildAudioCVT(
             SDL_AudioCVT cvt,
             SDL_AudioFormat srcFormat,
             byte srcChannels,
             int srcRate,
             SDL_AudioFormat dstFormat,
             byte dstChannels,
-            int dstRate);
+            int dstRate) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_BuildAudioCVT(cvt, srcFormat, srcChannels, srcRate, dstFormat, dstChannels, dstRate);
+        SdlMetrics.end(BUILD_AUDIO_CVT, start);
+        return result;
+    }
 
     /**
      * Convert audio data to a desired audio format.
@@ -686,8 +807,13 @@ public final class SdlAudio {
      * @see #SDL_BuildAudioCVT(SDL_AudioCVT, SDL_AudioFormat, byte, int, SDL_AudioFormat, byte, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ConvertAudio(
-            SDL_AudioCVT cvt);
+    public static int SDL_ConvertAudio(
+            SDL_AudioCVT cvt) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ConvertAudio(cvt);
+        SdlMetrics.end(CONVERT_AUDIO, start);
+        return result;
+    }
 
     /**
      * Create a new audio stream.
@@ -707,13 +833,18 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native SDL_AudioStream SDL_NewAudioStream(
+    public static SDL_AudioStream SDL_NewAudioStream(
             SDL_AudioFormat srcFormat,
             byte srcChannels,
             int srcRate,
             SDL_AudioFormat dstFormat,
             byte dstChannels,
-            int dstRate);
+            int dstRate) {
+        long start = SdlMetrics.begin();
+        SDL_AudioStream result = InternalNativeFunctions.SDL_NewAudioStream(srcFormat, srcChannels, srcRate, dstFormat, dstChannels, dstRate);
+        SdlMetrics.end(NEW_AUDIO_STREAM, start);
+        return result;
+    }
 
     /**
      * Add data to be converted/resampled to the stream.
@@ -730,10 +861,15 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_AudioStreamPut(
+    public static int SDL_AudioStreamPut(
             SDL_AudioStream stream,
             Pointer buf,
-            int len);
+            int len) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_AudioStreamPut(stream, buf, len);
+        SdlMetrics.end(AUDIO_STREAM_PUT, start);
+        return result;
+    }
 
     /**
      * Get converted/resampled data from the stream
@@ -750,10 +886,15 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_AudioStreamGet(
+    public static int SDL_AudioStreamGet(
             SDL_AudioStream stream,
             Pointer buf,
-            int len);
+            int len) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_AudioStreamGet(stream, buf, len);
+        SdlMetrics.end(AUDIO_STREAM_GET, start);
+        return result;
+    }
 
     /**
      * Get the number of converted/resampled bytes available.
@@ -770,8 +911,13 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_AudioStreamAvailable(
-            SDL_AudioStream stream);
+    public static int SDL_AudioStreamAvailable(
+            SDL_AudioStream stream) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_AudioStreamAvailable(stream);
+        SdlMetrics.end(AUDIO_STREAM_AVAILABLE, start);
+        return result;
+    }
 
     /**
      * Tell the stream that you're done sending data, and anything being buffered
@@ -789,8 +935,13 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_AudioStreamFlush(
-            SDL_AudioStream stream);
+    public static int SDL_AudioStreamFlush(
+            SDL_AudioStream stream) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_AudioStreamFlush(stream);
+        SdlMetrics.end(AUDIO_STREAM_FLUSH, start);
+        return result;
+    }
 
     /**
      * Clear any pending data in the stream without converting it
@@ -803,8 +954,12 @@ public final class SdlAudio {
      * @see #SDL_FreeAudioStream(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native void SDL_AudioStreamClear(
-            SDL_AudioStream stream);
+    public static void SDL_AudioStreamClear(
+            SDL_AudioStream stream) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_AudioStreamClear(stream);
+        SdlMetrics.end(AUDIO_STREAM_CLEAR, start);
+    }
 
     /**
      * Free an audio stream
@@ -817,8 +972,12 @@ public final class SdlAudio {
      * @see #SDL_AudioStreamClear(SDL_AudioStream)
      * @since This function is available since SDL 2.0.7.
      */
-    public static native void SDL_FreeAudioStream(
-            SDL_AudioStream stream);
+    public static void SDL_FreeAudioStream(
+            SDL_AudioStream stream) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeAudioStream(stream);
+        SdlMetrics.end(FREE_AUDIO_STREAM, start);
+    }
 
     /**
      * This function is a legacy means of mixing audio.
@@ -840,11 +999,15 @@ public final class SdlAudio {
      * @see #SDL_MixAudioFormat(Pointer, Pointer, SDL_AudioFormat, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_MixAudio(
+    public static void SDL_MixAudio(
             Pointer dst,
             Pointer src,
             int len,
-            int volume);
+            int volume) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_MixAudio(dst, src, len, volume);
+        SdlMetrics.end(MIX_AUDIO, start);
+    }
 
     /**
      * Mix audio data in a specified format.
@@ -875,12 +1038,16 @@ public final class SdlAudio {
      *               for full audio volume
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_MixAudioFormat(
+    public static void SDL_MixAudioFormat(
             Pointer dst,
             Pointer src,
             SDL_AudioFormat format,
             int len,
-            int volume);
+            int volume) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_MixAudioFormat(dst, src, format, len, volume);
+        SdlMetrics.end(MIX_AUDIO_FORMAT, start);
+    }
 
     /**
      * Queue more audio on non-callback devices.
@@ -926,10 +1093,15 @@ public final class SdlAudio {
      * @see #SDL_GetQueuedAudioSize(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_QueueAudio(
+    public static int SDL_QueueAudio(
             SDL_AudioDeviceID dev,
             Pointer data,
-            int len);
+            int len) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_QueueAudio(dev, data, len);
+        SdlMetrics.end(QUEUE_AUDIO, start);
+        return result;
+    }
 
     /**
      * Dequeue more audio on non-callback devices.
@@ -975,10 +1147,15 @@ public final class SdlAudio {
      * @see #SDL_GetQueuedAudioSize(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_DequeueAudio(
+    public static int SDL_DequeueAudio(
             SDL_AudioDeviceID dev,
             Pointer data,
-            int len);
+            int len) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_DequeueAudio(dev, data, len);
+        SdlMetrics.end(DEQUEUE_AUDIO, start);
+        return result;
+    }
 
     /**
      * Get the number of bytes of still-queued audio.
@@ -1010,8 +1187,13 @@ public final class SdlAudio {
      * @see #SDL_DequeueAudio(SDL_AudioDeviceID, Pointer, int)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_GetQueuedAudioSize(
-            SDL_AudioDeviceID dev);
+    public static int SDL_GetQueuedAudioSize(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetQueuedAudioSize(dev);
+        SdlMetrics.end(GET_QUEUED_AUDIO_SIZE, start);
+        return result;
+    }
 
     /**
      * Drop any queued audio data waiting to be sent to the hardware.
@@ -1043,8 +1225,12 @@ public final class SdlAudio {
      * @see #SDL_DequeueAudio(SDL_AudioDeviceID, Pointer, int)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native void SDL_ClearQueuedAudio(
-            SDL_AudioDeviceID dev);
+    public static void SDL_ClearQueuedAudio(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ClearQueuedAudio(dev);
+        SdlMetrics.end(CLEAR_QUEUED_AUDIO, start);
+    }
 
     /**
      * This function is a legacy means of locking the audio device.
@@ -1063,7 +1249,11 @@ public final class SdlAudio {
      * @see #SDL_UnlockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LockAudio();
+    public static void SDL_LockAudio() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LockAudio();
+        SdlMetrics.end(LOCK_AUDIO, start);
+    }
 
     /**
      * Use this function to lock out the audio callback function for a specified
@@ -1100,8 +1290,12 @@ public final class SdlAudio {
      * @see #SDL_UnlockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LockAudioDevice(
-            SDL_AudioDeviceID dev);
+    public static void SDL_LockAudioDevice(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LockAudioDevice(dev);
+        SdlMetrics.end(LOCK_AUDIO_DEVICE, start);
+    }
 
     /**
      * This function is a legacy means of unlocking the audio device.
@@ -1119,7 +1313,11 @@ public final class SdlAudio {
      * @see #SDL_UnlockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_UnlockAudio();
+    public static void SDL_UnlockAudio() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockAudio();
+        SdlMetrics.end(UNLOCK_AUDIO, start);
+    }
 
     /**
      * Use this function to unlock the audio callback function for a specified
@@ -1131,8 +1329,12 @@ public final class SdlAudio {
      * @see #SDL_LockAudioDevice(SDL_AudioDeviceID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_UnlockAudioDevice(
-            SDL_AudioDeviceID dev);
+    public static void SDL_UnlockAudioDevice(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockAudioDevice(dev);
+        SdlMetrics.end(UNLOCK_AUDIO_DEVICE, start);
+    }
 
     /**
      * This function is a legacy means of closing the audio device.
@@ -1148,7 +1350,11 @@ public final class SdlAudio {
      * @see #SDL_OpenAudio(SDL_AudioSpec, SDL_AudioSpec)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_CloseAudio();
+    public static void SDL_CloseAudio() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_CloseAudio();
+        SdlMetrics.end(CLOSE_AUDIO, start);
+    }
 
     /**
      * Use this function to shut down audio processing and close the audio device.
@@ -1170,8 +1376,12 @@ public final class SdlAudio {
      * @see #SDL_OpenAudioDevice(String, int, SDL_AudioSpec, SDL_AudioSpec, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_CloseAudioDevice(
-            SDL_AudioDeviceID dev);
+    public static void SDL_CloseAudioDevice(
+            SDL_AudioDeviceID dev) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_CloseAudioDevice(dev);
+        SdlMetrics.end(CLOSE_AUDIO_DEVICE, start);
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -1186,5 +1396,148 @@ public final class SdlAudio {
                 PointerByReference name,
                 SDL_AudioSpec spec,
                 int iscapture);
+
+        public static native int SDL_GetNumAudioDrivers();
+
+        public static native String SDL_GetAudioDriver(
+                int index);
+
+        public static native int SDL_AudioInit(
+                String driverName);
+
+        public static native void SDL_AudioQuit();
+
+        public static native String SDL_GetCurrentAudioDriver();
+
+        public static native int SDL_OpenAudio(
+                SDL_AudioSpec desired,
+                SDL_AudioSpec obtained);
+
+        public static native int SDL_GetNumAudioDevices(
+                int iscapture);
+
+        public static native String SDL_GetAudioDeviceName(
+                int index,
+                int iscapture);
+
+        public static native int SDL_GetAudioDeviceSpec(
+                int index,
+                int iscapture,
+                SDL_AudioSpec spec);
+
+        public static native SDL_AudioDeviceID SDL_OpenAudioDevice(
+                String device,
+                int iscapture,
+                SDL_AudioSpec desired,
+                SDL_AudioSpec obtained,
+                int allowedChanges);
+
+        public static native int SDL_GetAudioStatus();
+
+        public static native int SDL_GetAudioDeviceStatus(
+                SDL_AudioDeviceID dev);
+
+        public static native void SDL_PauseAudio(
+                int pauseOn);
+
+        public static native void SDL_PauseAudioDevice(
+                SDL_AudioDeviceID dev,
+                int pauseOn);
+
+        public static native SDL_AudioSpec SDL_LoadWAV_RW(
+                SDL_RWops src,
+                int freesrc,
+                SDL_AudioSpec spec,
+                PointerByReference audioBuf,
+                IntByReference audioLen);
+
+        public static native void SDL_FreeWAV(
+                Pointer audioBuf);
+
+        public static native int SDL_BuildAudioCVT(
+                SDL_AudioCVT cvt,
+                SDL_AudioFormat srcFormat,
+                byte srcChannels,
+                int srcRate,
+                SDL_AudioFormat dstFormat,
+                byte dstChannels,
+                int dstRate);
+
+        public static native int SDL_ConvertAudio(
+                SDL_AudioCVT cvt);
+
+        public static native SDL_AudioStream SDL_NewAudioStream(
+                SDL_AudioFormat srcFormat,
+                byte srcChannels,
+                int srcRate,
+                SDL_AudioFormat dstFormat,
+                byte dstChannels,
+                int dstRate);
+
+        public static native int SDL_AudioStreamPut(
+                SDL_AudioStream stream,
+                Pointer buf,
+                int len);
+
+        public static native int SDL_AudioStreamGet(
+                SDL_AudioStream stream,
+                Pointer buf,
+                int len);
+
+        public static native int SDL_AudioStreamAvailable(
+                SDL_AudioStream stream);
+
+        public static native int SDL_AudioStreamFlush(
+                SDL_AudioStream stream);
+
+        public static native void SDL_AudioStreamClear(
+                SDL_AudioStream stream);
+
+        public static native void SDL_FreeAudioStream(
+                SDL_AudioStream stream);
+
+        public static native void SDL_MixAudio(
+                Pointer dst,
+                Pointer src,
+                int len,
+                int volume);
+
+        public static native void SDL_MixAudioFormat(
+                Pointer dst,
+                Pointer src,
+                SDL_AudioFormat format,
+                int len,
+                int volume);
+
+        public static native int SDL_QueueAudio(
+                SDL_AudioDeviceID dev,
+                Pointer data,
+                int len);
+
+        public static native int SDL_DequeueAudio(
+                SDL_AudioDeviceID dev,
+                Pointer data,
+                int len);
+
+        public static native int SDL_GetQueuedAudioSize(
+                SDL_AudioDeviceID dev);
+
+        public static native void SDL_ClearQueuedAudio(
+                SDL_AudioDeviceID dev);
+
+        public static native void SDL_LockAudio();
+
+        public static native void SDL_LockAudioDevice(
+                SDL_AudioDeviceID dev);
+
+        public static native void SDL_UnlockAudio();
+
+        public static native void SDL_UnlockAudioDevice(
+                SDL_AudioDeviceID dev);
+
+        public static native void SDL_CloseAudio();
+
+        public static native void SDL_CloseAudioDevice(
+                SDL_AudioDeviceID dev);
     }
 }
@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.blendmode;
 import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
 import com.mrcrayfish.controllable_sdl.api.render.SDL_Texture;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -12,9 +15,7 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlBlendmode {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlBlendmode.class);
-    }
+    private static final NativeFunctionStats COMPOSE_CUSTOM_BLEND_MODE = SdlMetrics.register("SDL_ComposeCustomBlendMode", NativeCallKind.CALL);
 
     private SdlBlendmode() {
     }
@@ -114,11 +115,34 @@ public final class SdlBlendmode {
      * @since This function is available since SDL 2.0.6.
      */
     @MagicConstant(valuesFromClass = SDL_BlendMode.class)
-    public static native int SDL_ComposeCustomBlendMode(
+    public static int SDL_ComposeCustomBlendMode(
             @MagicConstant(valuesFromClass = SDL_BlendFactor.class) int srcColorFactor,
             @MagicConstant(valuesFromClass = SDL_BlendFactor.class) int dstColorFactor,
             @MagicConstant(valuesFromClass = SDL_BlendOperation.class) int colorOperation,
             @MagicConstant(valuesFromClass = SDL_BlendFactor.class) int srcAlphaFactor,
             @MagicConstant(valuesFromClass = SDL_BlendFactor.class) int dstAlphaFactor,
-            @MagicConstant(valuesFromClass = SDL_BlendOperation.class) int alphaOperation);
+            @MagicConstant(valuesFromClass = SDL_BlendOperation.class) int alphaOperation) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ComposeCustomBlendMode(srcColorFactor, dstColorFactor, colorOperation, srcAlphaFactor, dstAlphaFactor, alphaOperation);
+        SdlMetrics.end(COMPOSE_CUSTOM_BLEND_MODE, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_ComposeCustomBlendMode(
+                int srcColorFactor,
+                int dstColorFactor,
+                int colorOperation,
+                int srcAlphaFactor,
+                int dstAlphaFactor,
+                int alphaOperation);
+    }
 }
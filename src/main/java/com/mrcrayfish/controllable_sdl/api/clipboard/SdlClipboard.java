@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.clipboard;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_clipboard.h
@@ -11,9 +14,12 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlClipboard {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlClipboard.class);
-    }
+    private static final NativeFunctionStats SET_CLIPBOARD_TEXT = SdlMetrics.register("SDL_SetClipboardText", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_CLIPBOARD_TEXT = SdlMetrics.register("SDL_HasClipboardText", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_PRIMARY_SELECTION_TEXT = SdlMetrics.register("SDL_SetPrimarySelectionText", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_PRIMARY_SELECTION_TEXT = SdlMetrics.register("SDL_HasPrimarySelectionText", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CLIPBOARD_TEXT = SdlMetrics.register("SDL_GetClipboardText", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_PRIMARY_SELECTION_TEXT = SdlMetrics.register("SDL_GetPrimarySelectionText", NativeCallKind.CALL);
 
     private SdlClipboard() {
     }
@@ -28,8 +34,13 @@ public final class SdlClipboard {
      * @see #SDL_HasClipboardText()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetClipboardText(
-            String text);
+    public static int SDL_SetClipboardText(
+            String text) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetClipboardText(text);
+        SdlMetrics.end(SET_CLIPBOARD_TEXT, start);
+        return result;
+    }
 
     /**
      * Get UTF-8 text from the clipboard, which must be freed with SDL_free().
@@ -44,7 +55,9 @@ public final class SdlClipboard {
      * @since This function is available since SDL 2.0.0.
      */
     public static String SDL_GetClipboardText() {
+        long start = SdlMetrics.begin();
         Pointer text = InternalNativeFunctions.SDL_GetClipboardText();
+        SdlMetrics.end(GET_CLIPBOARD_TEXT, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(text);
     }
 
@@ -56,7 +69,12 @@ public final class SdlClipboard {
      * @see #SDL_SetClipboardText(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_HasClipboardText();
+    public static boolean SDL_HasClipboardText() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasClipboardText();
+        SdlMetrics.end(HAS_CLIPBOARD_TEXT, start);
+        return result;
+    }
 
     /**
      * Put UTF-8 text into the primary selection.
@@ -68,8 +86,13 @@ public final class SdlClipboard {
      * @see #SDL_HasPrimarySelectionText()
      * @since This function is available since SDL 2.26.0.
      */
-    public static native int SDL_SetPrimarySelectionText(
-            String text);
+    public static int SDL_SetPrimarySelectionText(
+            String text) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetPrimarySelectionText(text);
+        SdlMetrics.end(SET_PRIMARY_SELECTION_TEXT, start);
+        return result;
+    }
 
     /**
      * Get UTF-8 text from the primary selection.
@@ -84,7 +107,9 @@ public final class SdlClipboard {
      * @since This function is available since SDL 2.26.0.
      */
     public static String SDL_GetPrimarySelectionText() {
+        long start = SdlMetrics.begin();
         Pointer text = InternalNativeFunctions.SDL_GetPrimarySelectionText();
+        SdlMetrics.end(GET_PRIMARY_SELECTION_TEXT, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(text);
     }
 
@@ -98,7 +123,12 @@ public final class SdlClipboard {
      * @see #SDL_SetPrimarySelectionText(String)
      * @since This function is available since SDL 2.26.0.
      */
-    public static native boolean SDL_HasPrimarySelectionText();
+    public static boolean SDL_HasPrimarySelectionText() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasPrimarySelectionText();
+        SdlMetrics.end(HAS_PRIMARY_SELECTION_TEXT, start);
+        return result;
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -112,5 +142,15 @@ public final class SdlClipboard {
         public static native Pointer SDL_GetClipboardText();
 
         public static native Pointer SDL_GetPrimarySelectionText();
+
+        public static native int SDL_SetClipboardText(
+                String text);
+
+        public static native boolean SDL_HasClipboardText();
+
+        public static native int SDL_SetPrimarySelectionText(
+                String text);
+
+        public static native boolean SDL_HasPrimarySelectionText();
     }
 }
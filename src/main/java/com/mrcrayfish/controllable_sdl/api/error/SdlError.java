@@ -4,6 +4,9 @@ import java.util.Locale;
 import com.sun.jna.Library;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_error.h
@@ -12,9 +15,10 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlError {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlError.class);
-    }
+    private static final NativeFunctionStats GET_ERROR = SdlMetrics.register("SDL_GetError", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_ERROR_MSG = SdlMetrics.register("SDL_GetErrorMsg", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLEAR_ERROR = SdlMetrics.register("SDL_ClearError", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_ERROR = SdlMetrics.register("SDL_SetError", NativeCallKind.CALL);
 
     private SdlError() {
     }
@@ -81,7 +85,10 @@ public final class SdlError {
             String fmt,
             Object... args) {
         String message = String.format(lang, fmt, args);
-        return NativeVarargFunctions.INSTANCE.SDL_SetError(message);
+        long start = SdlMetrics.begin();
+        int result = NativeVarargFunctions.INSTANCE.SDL_SetError(message);
+        SdlMetrics.end(SET_ERROR, start);
+        return result;
     }
 
     // TODO: Test if Java and SDL threads work
@@ -119,7 +126,12 @@ public final class SdlError {
      * @see #SDL_SetError(String, Object...)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetError();
+    public static String SDL_GetError() {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetError();
+        SdlMetrics.end(GET_ERROR, start);
+        return result;
+    }
 
     /**
      * Get the last error message that was set for the current thread.
@@ -137,9 +149,14 @@ public final class SdlError {
      * @see #SDL_GetError()
      * @since This function is available since SDL 2.0.14.
      */
-    public static native Pointer SDL_GetErrorMsg(
+    public static Pointer SDL_GetErrorMsg(
             Pointer errstr,
-            int maxlen);
+            int maxlen) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GetErrorMsg(errstr, maxlen);
+        SdlMetrics.end(GET_ERROR_MSG, start);
+        return result;
+    }
 
     /**
      * Clear any previous error message for this thread.
@@ -148,7 +165,11 @@ public final class SdlError {
      * @see #SDL_SetError(String, Object...)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_ClearError();
+    public static void SDL_ClearError() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ClearError();
+        SdlMetrics.end(CLEAR_ERROR, start);
+    }
 
     /* Varargs are not supported in JNA Direct mapping, so Interface mapping is used here. */
     private interface NativeVarargFunctions extends Library {
@@ -159,4 +180,22 @@ public final class SdlError {
                 String fmt,
                 Object... args);
     }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native String SDL_GetError();
+
+        public static native Pointer SDL_GetErrorMsg(
+                Pointer errstr,
+                int maxlen);
+
+        public static native void SDL_ClearError();
+    }
 }
@@ -5,7 +5,11 @@ import com.sun.jna.Callback;
 import com.sun.jna.CallbackReference;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
+import com.mrcrayfish.controllable_sdl.jna.HotPath;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_DISABLE;
@@ -20,9 +24,23 @@ import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_QUERY
  */
 public final class SdlEvents {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlEvents.class);
-    }
+    private static final NativeFunctionStats PUMP_EVENTS = SdlMetrics.register("SDL_PumpEvents", NativeCallKind.EVENT_PUMP);
+    private static final NativeFunctionStats POLL_EVENT = SdlMetrics.register("SDL_PollEvent", NativeCallKind.EVENT_PUMP);
+    private static final NativeFunctionStats WAIT_EVENT = SdlMetrics.register("SDL_WaitEvent", NativeCallKind.EVENT_PUMP);
+    private static final NativeFunctionStats WAIT_EVENT_TIMEOUT = SdlMetrics.register("SDL_WaitEventTimeout", NativeCallKind.EVENT_PUMP);
+    private static final NativeFunctionStats PEEP_EVENTS = SdlMetrics.register("SDL_PeepEvents", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_EVENT = SdlMetrics.register("SDL_HasEvent", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_EVENTS = SdlMetrics.register("SDL_HasEvents", NativeCallKind.CALL);
+    private static final NativeFunctionStats FLUSH_EVENT = SdlMetrics.register("SDL_FlushEvent", NativeCallKind.CALL);
+    private static final NativeFunctionStats FLUSH_EVENTS = SdlMetrics.register("SDL_FlushEvents", NativeCallKind.CALL);
+    private static final NativeFunctionStats PUSH_EVENT = SdlMetrics.register("SDL_PushEvent", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_EVENT_FILTER = SdlMetrics.register("SDL_SetEventFilter", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_EVENT_FILTER = SdlMetrics.register("SDL_GetEventFilter", NativeCallKind.CALL);
+    private static final NativeFunctionStats ADD_EVENT_WATCH = SdlMetrics.register("SDL_AddEventWatch", NativeCallKind.CALL);
+    private static final NativeFunctionStats DEL_EVENT_WATCH = SdlMetrics.register("SDL_DelEventWatch", NativeCallKind.CALL);
+    private static final NativeFunctionStats FILTER_EVENTS = SdlMetrics.register("SDL_FilterEvents", NativeCallKind.CALL);
+    private static final NativeFunctionStats EVENT_STATE = SdlMetrics.register("SDL_EventState", NativeCallKind.CALL);
+    private static final NativeFunctionStats REGISTER_EVENTS = SdlMetrics.register("SDL_RegisterEvents", NativeCallKind.CALL);
 
     private SdlEvents() {
     }
@@ -48,7 +66,11 @@ public final class SdlEvents {
      * @see #SDL_WaitEvent(SDL_Event)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_PumpEvents();
+    public static void SDL_PumpEvents() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_PumpEvents();
+        SdlMetrics.end(PUMP_EVENTS, start);
+    }
 
     // TODO: Test
 
@@ -88,12 +110,17 @@ public final class SdlEvents {
      * @see #SDL_PushEvent(SDL_Event)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_PeepEvents(
+    public static int SDL_PeepEvents(
             Pointer events,
             int numEvents,
             @MagicConstant(valuesFromClass = SDL_eventaction.class) int action,
             @MagicConstant(valuesFromClass = SDL_EventType.class) int minType,
-            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType);
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType) {
+        long start = SdlMetrics.begin();
+        int result = HotPath.SDL_PeepEvents(events, numEvents, action, minType, maxType);
+        SdlMetrics.end(PEEP_EVENTS, start);
+        return result;
+    }
 
     /**
      * Check for the existence of a certain event type in the event queue.
@@ -107,8 +134,13 @@ public final class SdlEvents {
      * @see #SDL_HasEvents(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_HasEvent(
-            @MagicConstant(valuesFromClass = SDL_EventType.class) int type);
+    public static boolean SDL_HasEvent(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int type) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasEvent(type);
+        SdlMetrics.end(HAS_EVENT, start);
+        return result;
+    }
 
     /**
      * Check for the existence of certain event types in the event queue.
@@ -124,9 +156,14 @@ public final class SdlEvents {
      * @see #SDL_HasEvents(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_HasEvents(
+    public static boolean SDL_HasEvents(
             @MagicConstant(valuesFromClass = SDL_EventType.class) int minType,
-            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType);
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasEvents(minType, maxType);
+        SdlMetrics.end(HAS_EVENTS, start);
+        return result;
+    }
 
     /**
      * Clear events of a specific type from the event queue.
@@ -146,8 +183,12 @@ public final class SdlEvents {
      * @see #SDL_FlushEvents(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FlushEvent(
-            @MagicConstant(valuesFromClass = SDL_EventType.class) int type);
+    public static void SDL_FlushEvent(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int type) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FlushEvent(type);
+        SdlMetrics.end(FLUSH_EVENT, start);
+    }
 
     /**
      * Clear events of a range of types from the event queue.
@@ -170,9 +211,13 @@ public final class SdlEvents {
      * @see #SDL_FlushEvent(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FlushEvents(
+    public static void SDL_FlushEvents(
             @MagicConstant(valuesFromClass = SDL_EventType.class) int minType,
-            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType);
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FlushEvents(minType, maxType);
+        SdlMetrics.end(FLUSH_EVENTS, start);
+    }
 
     /**
      * Poll for currently pending events.
@@ -217,8 +262,13 @@ public final class SdlEvents {
      * @see #SDL_WaitEventTimeout(SDL_Event, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_PollEvent(
-            SDL_Event event);
+    public static int SDL_PollEvent(
+            SDL_Event event) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_PollEvent(event);
+        SdlMetrics.end(POLL_EVENT, start);
+        return result;
+    }
 
     /**
      * Wait indefinitely for the next available event.
@@ -238,8 +288,13 @@ public final class SdlEvents {
      * @see #SDL_WaitEventTimeout(SDL_Event, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_WaitEvent(
-            SDL_Event event);
+    public static int SDL_WaitEvent(
+            SDL_Event event) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_WaitEvent(event);
+        SdlMetrics.end(WAIT_EVENT, start);
+        return result;
+    }
 
     /**
      * Wait until the specified timeout (in milliseconds) for the next available
@@ -263,9 +318,14 @@ public final class SdlEvents {
      * @see #SDL_WaitEvent(SDL_Event)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_WaitEventTimeout(
+    public static int SDL_WaitEventTimeout(
             SDL_Event event,
-            int timeout);
+            int timeout) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_WaitEventTimeout(event, timeout);
+        SdlMetrics.end(WAIT_EVENT_TIMEOUT, start);
+        return result;
+    }
 
     /**
      * Add an event to the event queue.
@@ -297,8 +357,33 @@ public final class SdlEvents {
      * @see #SDL_RegisterEvents(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_PushEvent(
-            SDL_Event event);
+    public static int SDL_PushEvent(
+            SDL_Event event) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_PushEvent(event);
+        SdlMetrics.end(PUSH_EVENT, start);
+        return result;
+    }
+
+    /**
+     * Add an event held in native memory to the event queue.
+     *
+     * <p>This is the same as {@link #SDL_PushEvent(SDL_Event)}, but the event is not written from a
+     * {@link SDL_Event} union first. It can point into an {@link com.mrcrayfish.controllable_sdl.event.EventBatch
+     * EventBatch} or any other block of {@code SDL_Event} sized memory.</p>
+     *
+     * @param event the SDL_Event to be added to the queue
+     * @return 1 on success, 0 if the event was filtered, or a negative error
+     * code on failure; call SDL_GetError() for more information.
+     * @since This function is available since SDL 2.0.0.
+     */
+    public static int SDL_PushEvent(
+            Pointer event) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_PushEvent(event);
+        SdlMetrics.end(PUSH_EVENT, start);
+        return result;
+    }
 
     /**
      * Set up a filter to process all events before they change internal state and
@@ -343,9 +428,13 @@ public final class SdlEvents {
      * @see #SDL_PushEvent(SDL_Event)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetEventFilter(
+    public static void SDL_SetEventFilter(
             SDL_EventFilter filter,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetEventFilter(filter, userdata);
+        SdlMetrics.end(SET_EVENT_FILTER, start);
+    }
 
     /**
      * Query the current event filter.
@@ -388,9 +477,14 @@ public final class SdlEvents {
      * @see #SDL_SetEventFilter(SDL_EventFilter, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GetEventFilter(
+    public static boolean SDL_GetEventFilter(
             PointerByReference filter,
-            PointerByReference userdata);
+            PointerByReference userdata) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetEventFilter(filter, userdata);
+        SdlMetrics.end(GET_EVENT_FILTER, start);
+        return result;
+    }
 
     /**
      * Add a callback to be triggered when an event is added to the event queue.
@@ -416,9 +510,13 @@ public final class SdlEvents {
      * @see #SDL_SetEventFilter(SDL_EventFilter, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_AddEventWatch(
+    public static void SDL_AddEventWatch(
             SDL_EventFilter filter,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_AddEventWatch(filter, userdata);
+        SdlMetrics.end(ADD_EVENT_WATCH, start);
+    }
 
     /**
      * Remove an event watch callback added with SDL_AddEventWatch().
@@ -431,9 +529,13 @@ public final class SdlEvents {
      * @see #SDL_AddEventWatch(SDL_EventFilter, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DelEventWatch(
+    public static void SDL_DelEventWatch(
             SDL_EventFilter filter,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DelEventWatch(filter, userdata);
+        SdlMetrics.end(DEL_EVENT_WATCH, start);
+    }
 
     /**
      * Run a specific filter function on the current event queue, removing any
@@ -449,9 +551,13 @@ public final class SdlEvents {
      * @see #SDL_SetEventFilter(SDL_EventFilter, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FilterEvents(
+    public static void SDL_FilterEvents(
             SDL_EventFilter filter,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FilterEvents(filter, userdata);
+        SdlMetrics.end(FILTER_EVENTS, start);
+    }
 
     /**
      * Set the state of processing events by type.
@@ -473,9 +579,14 @@ public final class SdlEvents {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(intValues = {SDL_DISABLE, SDL_ENABLE})
-    public static native byte SDL_EventState(
+    public static byte SDL_EventState(
             @MagicConstant(valuesFromClass = SDL_EventType.class) int type,
-            @MagicConstant(intValues = {SDL_QUERY, SDL_IGNORE, SDL_ENABLE}) int state);
+            @MagicConstant(intValues = {SDL_QUERY, SDL_IGNORE, SDL_ENABLE}) int state) {
+        long start = SdlMetrics.begin();
+        byte result = InternalNativeFunctions.SDL_EventState(type, state);
+        SdlMetrics.end(EVENT_STATE, start);
+        return result;
+    }
 
     @MagicConstant(intValues = {SDL_DISABLE, SDL_ENABLE})
     public static byte SDL_GetEventState(
@@ -500,6 +611,80 @@ public final class SdlEvents {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_EventType.class)
-    public static native int SDL_RegisterEvents(
-            int numEvents);
+    public static int SDL_RegisterEvents(
+            int numEvents) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RegisterEvents(numEvents);
+        SdlMetrics.end(REGISTER_EVENTS, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native void SDL_PumpEvents();
+
+        public static native int SDL_PollEvent(
+                SDL_Event event);
+
+        public static native int SDL_WaitEvent(
+                SDL_Event event);
+
+        public static native int SDL_WaitEventTimeout(
+                SDL_Event event,
+                int timeout);
+
+        public static native boolean SDL_HasEvent(
+                int type);
+
+        public static native boolean SDL_HasEvents(
+                int minType,
+                int maxType);
+
+        public static native void SDL_FlushEvent(
+                int type);
+
+        public static native void SDL_FlushEvents(
+                int minType,
+                int maxType);
+
+        public static native int SDL_PushEvent(
+                SDL_Event event);
+
+        public static native int SDL_PushEvent(
+                Pointer event);
+
+        public static native void SDL_SetEventFilter(
+                SDL_EventFilter filter,
+                Pointer userdata);
+
+        public static native boolean SDL_GetEventFilter(
+                PointerByReference filter,
+                PointerByReference userdata);
+
+        public static native void SDL_AddEventWatch(
+                SDL_EventFilter filter,
+                Pointer userdata);
+
+        public static native void SDL_DelEventWatch(
+                SDL_EventFilter filter,
+                Pointer userdata);
+
+        public static native void SDL_FilterEvents(
+                SDL_EventFilter filter,
+                Pointer userdata);
+
+        public static native byte SDL_EventState(
+                int type,
+                int state);
+
+        public static native int SDL_RegisterEvents(
+                int numEvents);
+    }
 }
@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.filesystem;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_filesystem.h
@@ -11,6 +14,9 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlFilesystem {
 
+    private static final NativeFunctionStats GET_BASE_PATH = SdlMetrics.register("SDL_GetBasePath", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_PREF_PATH = SdlMetrics.register("SDL_GetPrefPath", NativeCallKind.CALL);
+
     /**
      * Get the directory where the application was run from.
      *
@@ -51,7 +57,9 @@ public final class SdlFilesystem {
      * @since This function is available since SDL 2.0.1.
      */
     public static String SDL_GetBasePath() {
+        long start = SdlMetrics.begin();
         Pointer path = InternalNativeFunctions.SDL_GetBasePath();
+        SdlMetrics.end(GET_BASE_PATH, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(path);
     }
 
@@ -107,7 +115,9 @@ public final class SdlFilesystem {
     public static String SDL_GetPrefPath(
             String org,
             String app) {
+        long start = SdlMetrics.begin();
         Pointer path = InternalNativeFunctions.SDL_GetPrefPath(org, app);
+        SdlMetrics.end(GET_PREF_PATH, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(path);
     }
 
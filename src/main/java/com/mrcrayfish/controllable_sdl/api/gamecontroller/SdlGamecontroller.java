@@ -10,8 +10,12 @@ import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickGUID;
 import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
 import com.mrcrayfish.controllable_sdl.api.rwops.SDL_RWops;
 import com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType;
+import com.mrcrayfish.controllable_sdl.jna.HotPath;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromFile;
@@ -65,9 +69,64 @@ import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromFile;
  */
 public final class SdlGamecontroller {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlGamecontroller.class);
-    }
+    private static final NativeFunctionStats IS_GAME_CONTROLLER = SdlMetrics.register("SDL_IsGameController", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_NAME_FOR_INDEX = SdlMetrics.register("SDL_GameControllerNameForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_NAME = SdlMetrics.register("SDL_GameControllerName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_BUTTON = SdlMetrics.register("SDL_GameControllerGetButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_AXIS = SdlMetrics.register("SDL_GameControllerGetAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_ADD_MAPPINGS_FROM_RW = SdlMetrics.register("SDL_GameControllerAddMappingsFromRW", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_ADD_MAPPING = SdlMetrics.register("SDL_GameControllerAddMapping", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_NUM_MAPPINGS = SdlMetrics.register("SDL_GameControllerNumMappings", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_PATH_FOR_INDEX = SdlMetrics.register("SDL_GameControllerPathForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_TYPE_FOR_INDEX = SdlMetrics.register("SDL_GameControllerTypeForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_OPEN = SdlMetrics.register("SDL_GameControllerOpen", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_FROM_INSTANCE_ID = SdlMetrics.register("SDL_GameControllerFromInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_FROM_PLAYER_INDEX = SdlMetrics.register("SDL_GameControllerFromPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_PATH = SdlMetrics.register("SDL_GameControllerPath", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_TYPE = SdlMetrics.register("SDL_GameControllerGetType", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_PLAYER_INDEX = SdlMetrics.register("SDL_GameControllerGetPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_SET_PLAYER_INDEX = SdlMetrics.register("SDL_GameControllerSetPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_VENDOR = SdlMetrics.register("SDL_GameControllerGetVendor", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_PRODUCT = SdlMetrics.register("SDL_GameControllerGetProduct", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_PRODUCT_VERSION = SdlMetrics.register("SDL_GameControllerGetProductVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_FIRMWARE_VERSION = SdlMetrics.register("SDL_GameControllerGetFirmwareVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_SERIAL = SdlMetrics.register("SDL_GameControllerGetSerial", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_STEAM_HANDLE = SdlMetrics.register("SDL_GameControllerGetSteamHandle", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_ATTACHED = SdlMetrics.register("SDL_GameControllerGetAttached", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_JOYSTICK = SdlMetrics.register("SDL_GameControllerGetJoystick", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_EVENT_STATE = SdlMetrics.register("SDL_GameControllerEventState", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_UPDATE = SdlMetrics.register("SDL_GameControllerUpdate", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_AXIS_FROM_STRING = SdlMetrics.register("SDL_GameControllerGetAxisFromString", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_STRING_FOR_AXIS = SdlMetrics.register("SDL_GameControllerGetStringForAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_BIND_FOR_AXIS = SdlMetrics.register("SDL_GameControllerGetBindForAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_AXIS = SdlMetrics.register("SDL_GameControllerHasAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_BUTTON_FROM_STRING = SdlMetrics.register("SDL_GameControllerGetButtonFromString", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_STRING_FOR_BUTTON = SdlMetrics.register("SDL_GameControllerGetStringForButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_BIND_FOR_BUTTON = SdlMetrics.register("SDL_GameControllerGetBindForButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_BUTTON = SdlMetrics.register("SDL_GameControllerHasButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_NUM_TOUCHPADS = SdlMetrics.register("SDL_GameControllerGetNumTouchpads", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_NUM_TOUCHPAD_FINGERS = SdlMetrics.register("SDL_GameControllerGetNumTouchpadFingers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_TOUCHPAD_FINGER = SdlMetrics.register("SDL_GameControllerGetTouchpadFinger", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_SENSOR = SdlMetrics.register("SDL_GameControllerHasSensor", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_SET_SENSOR_ENABLED = SdlMetrics.register("SDL_GameControllerSetSensorEnabled", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_IS_SENSOR_ENABLED = SdlMetrics.register("SDL_GameControllerIsSensorEnabled", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_SENSOR_DATA_RATE = SdlMetrics.register("SDL_GameControllerGetSensorDataRate", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_SENSOR_DATA = SdlMetrics.register("SDL_GameControllerGetSensorData", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_SENSOR_DATA_WITH_TIMESTAMP = SdlMetrics.register("SDL_GameControllerGetSensorDataWithTimestamp", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_RUMBLE = SdlMetrics.register("SDL_GameControllerRumble", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_RUMBLE_TRIGGERS = SdlMetrics.register("SDL_GameControllerRumbleTriggers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_LED = SdlMetrics.register("SDL_GameControllerHasLED", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_RUMBLE = SdlMetrics.register("SDL_GameControllerHasRumble", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_HAS_RUMBLE_TRIGGERS = SdlMetrics.register("SDL_GameControllerHasRumbleTriggers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_SET_LED = SdlMetrics.register("SDL_GameControllerSetLED", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_SEND_EFFECT = SdlMetrics.register("SDL_GameControllerSendEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_CLOSE = SdlMetrics.register("SDL_GameControllerClose", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_APPLE_SF_SYMBOLS_NAME_FOR_BUTTON = SdlMetrics.register("SDL_GameControllerGetAppleSFSymbolsNameForButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_GET_APPLE_SF_SYMBOLS_NAME_FOR_AXIS = SdlMetrics.register("SDL_GameControllerGetAppleSFSymbolsNameForAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_MAPPING_FOR_INDEX = SdlMetrics.register("SDL_GameControllerMappingForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_MAPPING_FOR_GUID = SdlMetrics.register("SDL_GameControllerMappingForGUID", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_MAPPING = SdlMetrics.register("SDL_GameControllerMapping", NativeCallKind.CALL);
+    private static final NativeFunctionStats GAME_CONTROLLER_MAPPING_FOR_DEVICE_INDEX = SdlMetrics.register("SDL_GameControllerMappingForDeviceIndex", NativeCallKind.CALL);
 
     private SdlGamecontroller() {
     }
@@ -98,9 +157,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerMappingForGUID(SDL_JoystickGUID)
      * @since This function is available since SDL 2.0.2.
      */
-    public static native int SDL_GameControllerAddMappingsFromRW(
+    public static int SDL_GameControllerAddMappingsFromRW(
             SDL_RWops rw,
-            int freerw);
+            int freerw) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerAddMappingsFromRW(rw, freerw);
+        SdlMetrics.end(GAME_CONTROLLER_ADD_MAPPINGS_FROM_RW, start);
+        return result;
+    }
 
     /**
      * Load a set of mappings from a file, filtered by the current SDL_GetPlatform()
@@ -137,8 +201,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerMappingForGUID(SDL_JoystickGUID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GameControllerAddMapping(
-            String mappingString);
+    public static int SDL_GameControllerAddMapping(
+            String mappingString) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerAddMapping(mappingString);
+        SdlMetrics.end(GAME_CONTROLLER_ADD_MAPPING, start);
+        return result;
+    }
 
     /**
      * Get the number of mappings installed.
@@ -146,7 +215,12 @@ public final class SdlGamecontroller {
      * @return the number of mappings.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native int SDL_GameControllerNumMappings();
+    public static int SDL_GameControllerNumMappings() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerNumMappings();
+        SdlMetrics.end(GAME_CONTROLLER_NUM_MAPPINGS, start);
+        return result;
+    }
 
     /**
      * Get the mapping at a particular index.
@@ -157,7 +231,9 @@ public final class SdlGamecontroller {
      */
     public static String SDL_GameControllerMappingForIndex(
             int mappingIndex) {
+        long start = SdlMetrics.begin();
         Pointer pointer = InternalNativeFunctions.SDL_GameControllerMappingForIndex(mappingIndex);
+        SdlMetrics.end(GAME_CONTROLLER_MAPPING_FOR_INDEX, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(pointer);
     }
 
@@ -173,7 +249,9 @@ public final class SdlGamecontroller {
      */
     public static String SDL_GameControllerMappingForGUID(
             SDL_JoystickGUID guid) {
+        long start = SdlMetrics.begin();
         Pointer pointer = InternalNativeFunctions.SDL_GameControllerMappingForGUID(guid);
+        SdlMetrics.end(GAME_CONTROLLER_MAPPING_FOR_GUID, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(pointer);
     }
 
@@ -192,7 +270,9 @@ public final class SdlGamecontroller {
      */
     public static String SDL_GameControllerMapping(
             SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
         Pointer pointer = InternalNativeFunctions.SDL_GameControllerMapping(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_MAPPING, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(pointer);
     }
 
@@ -210,8 +290,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_IsGameController(
-            int joystickIndex);
+    public static boolean SDL_IsGameController(
+            int joystickIndex) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsGameController(joystickIndex);
+        SdlMetrics.end(IS_GAME_CONTROLLER, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name for the game controller.
@@ -230,8 +315,13 @@ public final class SdlGamecontroller {
      * @see #SDL_IsGameController(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GameControllerNameForIndex(
-            int joystickIndex);
+    public static String SDL_GameControllerNameForIndex(
+            int joystickIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerNameForIndex(joystickIndex);
+        SdlMetrics.end(GAME_CONTROLLER_NAME_FOR_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent path for the game controller.
@@ -248,8 +338,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerPath(SDL_GameController)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native String SDL_GameControllerPathForIndex(
-            int joystickIndex);
+    public static String SDL_GameControllerPathForIndex(
+            int joystickIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerPathForIndex(joystickIndex);
+        SdlMetrics.end(GAME_CONTROLLER_PATH_FOR_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the type of a game controller.
@@ -262,8 +357,13 @@ public final class SdlGamecontroller {
      * @since This function is available since SDL 2.0.12.
      */
     @MagicConstant(valuesFromClass = SDL_GameControllerType.class)
-    public static native int SDL_GameControllerTypeForIndex(
-            int joystickIndex);
+    public static int SDL_GameControllerTypeForIndex(
+            int joystickIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerTypeForIndex(joystickIndex);
+        SdlMetrics.end(GAME_CONTROLLER_TYPE_FOR_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the mapping of a game controller.
@@ -278,7 +378,9 @@ public final class SdlGamecontroller {
      */
     public static String SDL_GameControllerMappingForDeviceIndex(
             int joystickIndex) {
+        long start = SdlMetrics.begin();
         Pointer pointer = InternalNativeFunctions.SDL_GameControllerMappingForDeviceIndex(joystickIndex);
+        SdlMetrics.end(GAME_CONTROLLER_MAPPING_FOR_DEVICE_INDEX, start);
         return JnaUtils.extractStringAndReleaseNativeSdlMemory(pointer);
     }
 
@@ -302,8 +404,13 @@ public final class SdlGamecontroller {
      * @see #SDL_IsGameController(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_GameController SDL_GameControllerOpen(
-            int joystickIndex);
+    public static SDL_GameController SDL_GameControllerOpen(
+            int joystickIndex) {
+        long start = SdlMetrics.begin();
+        SDL_GameController result = InternalNativeFunctions.SDL_GameControllerOpen(joystickIndex);
+        SdlMetrics.end(GAME_CONTROLLER_OPEN, start);
+        return result;
+    }
 
     /**
      * Get the SDL_GameController associated with an instance id.
@@ -313,8 +420,13 @@ public final class SdlGamecontroller {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.4.
      */
-    public static native SDL_GameController SDL_GameControllerFromInstanceID(
-            SDL_JoystickID joyId);
+    public static SDL_GameController SDL_GameControllerFromInstanceID(
+            SDL_JoystickID joyId) {
+        long start = SdlMetrics.begin();
+        SDL_GameController result = InternalNativeFunctions.SDL_GameControllerFromInstanceID(joyId);
+        SdlMetrics.end(GAME_CONTROLLER_FROM_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Get the SDL_GameController associated with a player index.
@@ -329,8 +441,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerSetPlayerIndex(SDL_GameController, int)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native SDL_GameController SDL_GameControllerFromPlayerIndex(
-            int playerIndex);
+    public static SDL_GameController SDL_GameControllerFromPlayerIndex(
+            int playerIndex) {
+        long start = SdlMetrics.begin();
+        SDL_GameController result = InternalNativeFunctions.SDL_GameControllerFromPlayerIndex(playerIndex);
+        SdlMetrics.end(GAME_CONTROLLER_FROM_PLAYER_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the implementation-dependent name for an opened game controller.
@@ -346,8 +463,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GameControllerName(
-            SDL_GameController gamecontroller);
+    public static String SDL_GameControllerName(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerName(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_NAME, start);
+        return result;
+    }
 
     /**
      * Get the implementation-dependent path for an opened game controller.
@@ -362,8 +484,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerPathForIndex(int)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native String SDL_GameControllerPath(
-            SDL_GameController gamecontroller);
+    public static String SDL_GameControllerPath(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerPath(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_PATH, start);
+        return result;
+    }
 
     /**
      * Get the type of this currently opened controller
@@ -376,8 +503,13 @@ public final class SdlGamecontroller {
      * @since This function is available since SDL 2.0.12.
      */
     @MagicConstant(valuesFromClass = SDL_GameControllerType.class)
-    public static native int SDL_GameControllerGetType(
-            SDL_GameController gamecontroller);
+    public static int SDL_GameControllerGetType(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetType(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the player index of an opened game controller.
@@ -388,8 +520,13 @@ public final class SdlGamecontroller {
      * @return the player index for controller, or -1 if it's not available.
      * @since This function is available since SDL 2.0.9.
      */
-    public static native int SDL_GameControllerGetPlayerIndex(
-            SDL_GameController gamecontroller);
+    public static int SDL_GameControllerGetPlayerIndex(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetPlayerIndex(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_PLAYER_INDEX, start);
+        return result;
+    }
 
     /**
      * Set the player index of an opened game controller.
@@ -399,9 +536,13 @@ public final class SdlGamecontroller {
      *                       clear the player index and turn off player LEDs.
      * @since This function is available since SDL 2.0.12.
      */
-    public static native void SDL_GameControllerSetPlayerIndex(
+    public static void SDL_GameControllerSetPlayerIndex(
             SDL_GameController gamecontroller,
-            int playerIndex);
+            int playerIndex) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GameControllerSetPlayerIndex(gamecontroller, playerIndex);
+        SdlMetrics.end(GAME_CONTROLLER_SET_PLAYER_INDEX, start);
+    }
 
     /**
      * Get the USB vendor ID of an opened controller, if available.
@@ -412,8 +553,13 @@ public final class SdlGamecontroller {
      * @return the USB vendor ID, or zero if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_GameControllerGetVendor(
-            SDL_GameController gamecontroller);
+    public static short SDL_GameControllerGetVendor(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_GameControllerGetVendor(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_VENDOR, start);
+        return result;
+    }
 
     /**
      * Get the USB product ID of an opened controller, if available.
@@ -424,8 +570,13 @@ public final class SdlGamecontroller {
      * @return the USB product ID, or zero if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_GameControllerGetProduct(
-            SDL_GameController gamecontroller);
+    public static short SDL_GameControllerGetProduct(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_GameControllerGetProduct(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_PRODUCT, start);
+        return result;
+    }
 
     /**
      * Get the product version of an opened controller, if available.
@@ -436,8 +587,13 @@ public final class SdlGamecontroller {
      * @return the USB product version, or zero if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_GameControllerGetProductVersion(
-            SDL_GameController gamecontroller);
+    public static short SDL_GameControllerGetProductVersion(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_GameControllerGetProductVersion(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_PRODUCT_VERSION, start);
+        return result;
+    }
 
     /**
      * Get the firmware version of an opened controller, if available.
@@ -448,8 +604,13 @@ public final class SdlGamecontroller {
      * @return the controller firmware version, or zero if unavailable.
      * @since This function is available since SDL 2.24.0.
      */
-    public static native short SDL_GameControllerGetFirmwareVersion(
-            SDL_GameController gamecontroller);
+    public static short SDL_GameControllerGetFirmwareVersion(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_GameControllerGetFirmwareVersion(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_FIRMWARE_VERSION, start);
+        return result;
+    }
 
     /**
      * Get the serial number of an opened controller, if available.
@@ -461,8 +622,13 @@ public final class SdlGamecontroller {
      * @return the serial number, or NULL if unavailable.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native String SDL_GameControllerGetSerial(
-            SDL_GameController gamecontroller);
+    public static String SDL_GameControllerGetSerial(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerGetSerial(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_SERIAL, start);
+        return result;
+    }
 
     /**
      * Get the Steam Input handle of an opened controller, if available.
@@ -474,8 +640,13 @@ public final class SdlGamecontroller {
      * @return he gamepad handle, or 0 if unavailable.
      * @since This function is available since SDL 2.30.0.
      */
-    public static native long SDL_GameControllerGetSteamHandle(
-        SDL_GameController gamecontroller);
+    public static long SDL_GameControllerGetSteamHandle(
+        SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_GameControllerGetSteamHandle(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_STEAM_HANDLE, start);
+        return result;
+    }
 
     /**
      * Check if a controller has been opened and is currently connected.
@@ -488,8 +659,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GameControllerGetAttached(
-            SDL_GameController gamecontroller);
+    public static boolean SDL_GameControllerGetAttached(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerGetAttached(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_ATTACHED, start);
+        return result;
+    }
 
     /**
      * Get the Joystick ID from a Game Controller.
@@ -509,8 +685,13 @@ public final class SdlGamecontroller {
      * @return a SDL_Joystick object; call SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Joystick SDL_GameControllerGetJoystick(
-            SDL_GameController gamecontroller);
+    public static SDL_Joystick SDL_GameControllerGetJoystick(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        SDL_Joystick result = InternalNativeFunctions.SDL_GameControllerGetJoystick(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_JOYSTICK, start);
+        return result;
+    }
 
     /**
      * Query or change current state of Game Controller events.
@@ -528,8 +709,13 @@ public final class SdlGamecontroller {
      * @see com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick#SDL_JoystickEventState(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GameControllerEventState(
-            int state);
+    public static int SDL_GameControllerEventState(
+            int state) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerEventState(state);
+        SdlMetrics.end(GAME_CONTROLLER_EVENT_STATE, start);
+        return result;
+    }
 
     /**
      * Manually pump game controller updates if not using the loop.
@@ -540,7 +726,11 @@ public final class SdlGamecontroller {
      *
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GameControllerUpdate();
+    public static void SDL_GameControllerUpdate() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GameControllerUpdate();
+        SdlMetrics.end(GAME_CONTROLLER_UPDATE, start);
+    }
 
     /**
      * Convert a string into SDL_GameControllerAxis enum.
@@ -561,8 +751,13 @@ public final class SdlGamecontroller {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class)
-    public static native int SDL_GameControllerGetAxisFromString(
-            String str);
+    public static int SDL_GameControllerGetAxisFromString(
+            String str) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetAxisFromString(str);
+        SdlMetrics.end(GAME_CONTROLLER_GET_AXIS_FROM_STRING, start);
+        return result;
+    }
 
     /**
      * Convert from an SDL_GameControllerAxis enum to a string.
@@ -576,8 +771,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetAxisFromString(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GameControllerGetStringForAxis(
-            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis);
+    public static String SDL_GameControllerGetStringForAxis(
+            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerGetStringForAxis(axis);
+        SdlMetrics.end(GAME_CONTROLLER_GET_STRING_FOR_AXIS, start);
+        return result;
+    }
 
     /**
      * Get the SDL joystick layer binding for a controller axis mapping.
@@ -590,9 +790,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetBindForButton(SDL_GameController, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_GameControllerButtonBind SDL_GameControllerGetBindForAxis(
+    public static SDL_GameControllerButtonBind SDL_GameControllerGetBindForAxis(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis);
+            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        long start = SdlMetrics.begin();
+        SDL_GameControllerButtonBind result = InternalNativeFunctions.SDL_GameControllerGetBindForAxis(gamecontroller, axis);
+        SdlMetrics.end(GAME_CONTROLLER_GET_BIND_FOR_AXIS, start);
+        return result;
+    }
 
     /**
      * Query whether a game controller has a given axis.
@@ -605,9 +810,14 @@ public final class SdlGamecontroller {
      * @return true if the controller has this axis, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_GameControllerHasAxis(
+    public static boolean SDL_GameControllerHasAxis(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis);
+            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasAxis(gamecontroller, axis);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_AXIS, start);
+        return result;
+    }
 
     /**
      * Get the current state of an axis control on a game controller.
@@ -624,9 +834,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetButton(SDL_GameController, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native short SDL_GameControllerGetAxis(
+    public static short SDL_GameControllerGetAxis(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis);
+            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        long start = SdlMetrics.begin();
+        short result = HotPath.SDL_GameControllerGetAxis(gamecontroller, axis);
+        SdlMetrics.end(GAME_CONTROLLER_GET_AXIS, start);
+        return result;
+    }
 
     /**
      * Convert a string into an SDL_GameControllerButton enum.
@@ -642,8 +857,13 @@ public final class SdlGamecontroller {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_GameControllerButton.class)
-    public static native int SDL_GameControllerGetButtonFromString(
-            String str);
+    public static int SDL_GameControllerGetButtonFromString(
+            String str) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetButtonFromString(str);
+        SdlMetrics.end(GAME_CONTROLLER_GET_BUTTON_FROM_STRING, start);
+        return result;
+    }
 
     /**
      * Convert from an SDL_GameControllerButton enum to a string.
@@ -657,8 +877,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetButtonFromString(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GameControllerGetStringForButton(
-            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button);
+    public static String SDL_GameControllerGetStringForButton(
+            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerGetStringForButton(button);
+        SdlMetrics.end(GAME_CONTROLLER_GET_STRING_FOR_BUTTON, start);
+        return result;
+    }
 
     /**
      * Get the SDL joystick layer binding for a controller button mapping.
@@ -671,9 +896,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetBindForAxis(SDL_GameController, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_GameControllerButtonBind SDL_GameControllerGetBindForButton(
+    public static SDL_GameControllerButtonBind SDL_GameControllerGetBindForButton(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button);
+            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        long start = SdlMetrics.begin();
+        SDL_GameControllerButtonBind result = InternalNativeFunctions.SDL_GameControllerGetBindForButton(gamecontroller, button);
+        SdlMetrics.end(GAME_CONTROLLER_GET_BIND_FOR_BUTTON, start);
+        return result;
+    }
 
     /**
      * Query whether a game controller has a given button.
@@ -686,9 +916,14 @@ public final class SdlGamecontroller {
      * @return true if the controller has this button, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_GameControllerHasButton(
+    public static boolean SDL_GameControllerHasButton(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button);
+            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasButton(gamecontroller, button);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_BUTTON, start);
+        return result;
+    }
 
     /**
      * Get the current state of a button on a game controller.
@@ -700,9 +935,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetAxis(SDL_GameController, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native byte SDL_GameControllerGetButton(
+    public static byte SDL_GameControllerGetButton(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button);
+            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        long start = SdlMetrics.begin();
+        byte result = InternalNativeFunctions.SDL_GameControllerGetButton(gamecontroller, button);
+        SdlMetrics.end(GAME_CONTROLLER_GET_BUTTON, start);
+        return result;
+    }
 
 
     /**
@@ -710,8 +950,13 @@ public final class SdlGamecontroller {
      *
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerGetNumTouchpads(
-            SDL_GameController gamecontroller);
+    public static int SDL_GameControllerGetNumTouchpads(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetNumTouchpads(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_GET_NUM_TOUCHPADS, start);
+        return result;
+    }
 
     /**
      * Get the number of supported simultaneous fingers on a touchpad on a game
@@ -719,23 +964,33 @@ public final class SdlGamecontroller {
      *
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerGetNumTouchpadFingers(
+    public static int SDL_GameControllerGetNumTouchpadFingers(
             SDL_GameController gamecontroller,
-            int touchpad);
+            int touchpad) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetNumTouchpadFingers(gamecontroller, touchpad);
+        SdlMetrics.end(GAME_CONTROLLER_GET_NUM_TOUCHPAD_FINGERS, start);
+        return result;
+    }
 
     /**
      * Get the current state of a finger on a touchpad on a game controller.
      *
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerGetTouchpadFinger(
+    public static int SDL_GameControllerGetTouchpadFinger(
             SDL_GameController gamecontroller,
             int touchpad,
             int finger,
             ByteByReference state,
             FloatByReference x,
             FloatByReference y,
-            FloatByReference pressure);
+            FloatByReference pressure) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetTouchpadFinger(gamecontroller, touchpad, finger, state, x, y, pressure);
+        SdlMetrics.end(GAME_CONTROLLER_GET_TOUCHPAD_FINGER, start);
+        return result;
+    }
 
     /**
      * Return whether a game controller has a particular sensor.
@@ -745,9 +1000,14 @@ public final class SdlGamecontroller {
      * @return true if the sensor exists, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_GameControllerHasSensor(
+    public static boolean SDL_GameControllerHasSensor(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type);
+            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasSensor(gamecontroller, type);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_SENSOR, start);
+        return result;
+    }
 
     /**
      * Set whether data reporting for a game controller sensor is enabled.
@@ -758,10 +1018,15 @@ public final class SdlGamecontroller {
      * @return 0 or -1 if an error occurred.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerSetSensorEnabled(
+    public static int SDL_GameControllerSetSensorEnabled(
             SDL_GameController gamecontroller,
             @MagicConstant(valuesFromClass = SDL_SensorType.class) int type,
-            boolean enabled);
+            boolean enabled) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerSetSensorEnabled(gamecontroller, type, enabled);
+        SdlMetrics.end(GAME_CONTROLLER_SET_SENSOR_ENABLED, start);
+        return result;
+    }
 
     /**
      * Query whether sensor data reporting is enabled for a game controller.
@@ -771,9 +1036,14 @@ public final class SdlGamecontroller {
      * @return true if the sensor is enabled, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_GameControllerIsSensorEnabled(
+    public static boolean SDL_GameControllerIsSensorEnabled(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type);
+            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerIsSensorEnabled(gamecontroller, type);
+        SdlMetrics.end(GAME_CONTROLLER_IS_SENSOR_ENABLED, start);
+        return result;
+    }
 
     /**
      * Get the data rate (number of events per second) of a game controller
@@ -784,9 +1054,14 @@ public final class SdlGamecontroller {
      * @return the data rate, or 0.0f if the data rate is not available.
      * @since This function is available since SDL 2.0.16.
      */
-    public static native float SDL_GameControllerGetSensorDataRate(
+    public static float SDL_GameControllerGetSensorDataRate(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type);
+            @MagicConstant(valuesFromClass = SDL_SensorType.class) int type) {
+        long start = SdlMetrics.begin();
+        float result = InternalNativeFunctions.SDL_GameControllerGetSensorDataRate(gamecontroller, type);
+        SdlMetrics.end(GAME_CONTROLLER_GET_SENSOR_DATA_RATE, start);
+        return result;
+    }
 
     /**
      * Get the current state of a game controller sensor.
@@ -801,11 +1076,16 @@ public final class SdlGamecontroller {
      * @return 0 or -1 if an error occurred.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerGetSensorData(
+    public static int SDL_GameControllerGetSensorData(
             SDL_GameController gamecontroller,
             @MagicConstant(valuesFromClass = SDL_SensorType.class) int type,
             Pointer data,
-            int numValues);
+            int numValues) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetSensorData(gamecontroller, type, data, numValues);
+        SdlMetrics.end(GAME_CONTROLLER_GET_SENSOR_DATA, start);
+        return result;
+    }
 
     /**
      * Get the current state of a game controller sensor with the timestamp of the
@@ -823,12 +1103,17 @@ public final class SdlGamecontroller {
      * @return 0 or -1 if an error occurred.
      * @since This function is available since SDL 2.26.0.
      */
-    public static native int SDL_GameControllerGetSensorDataWithTimestamp(
+    public static int SDL_GameControllerGetSensorDataWithTimestamp(
             SDL_GameController gamecontroller,
             @MagicConstant(valuesFromClass = SDL_SensorType.class) int type,
             LongByReference timestamp,
             Pointer data,
-            int numValues);
+            int numValues) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerGetSensorDataWithTimestamp(gamecontroller, type, timestamp, data, numValues);
+        SdlMetrics.end(GAME_CONTROLLER_GET_SENSOR_DATA_WITH_TIMESTAMP, start);
+        return result;
+    }
 
 
     /**
@@ -847,11 +1132,16 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerHasRumble(SDL_GameController)
      * @since This function is available since SDL 2.0.9.
      */
-    public static native int SDL_GameControllerRumble(
+    public static int SDL_GameControllerRumble(
             SDL_GameController gamecontroller,
             short lowFrequencyRumble,
             short highFrequencyRumble,
-            int durationMs);
+            int durationMs) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerRumble(gamecontroller, lowFrequencyRumble, highFrequencyRumble, durationMs);
+        SdlMetrics.end(GAME_CONTROLLER_RUMBLE, start);
+        return result;
+    }
 
     /**
      * Start a rumble effect in the game controller's triggers.
@@ -874,11 +1164,16 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerHasRumbleTriggers(SDL_GameController)
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerRumbleTriggers(
+    public static int SDL_GameControllerRumbleTriggers(
             SDL_GameController gamecontroller,
             short leftRumble,
             short rightRumble,
-            int durationMs);
+            int durationMs) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerRumbleTriggers(gamecontroller, leftRumble, rightRumble, durationMs);
+        SdlMetrics.end(GAME_CONTROLLER_RUMBLE_TRIGGERS, start);
+        return result;
+    }
 
     /**
      * Query whether a game controller has an LED.
@@ -887,8 +1182,13 @@ public final class SdlGamecontroller {
      * @return true if this controller has a modifiable LED, false otherwise
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_GameControllerHasLED(
-            SDL_GameController gamecontroller);
+    public static boolean SDL_GameControllerHasLED(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasLED(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_LED, start);
+        return result;
+    }
 
     /**
      * Query whether a game controller has rumble support.
@@ -898,8 +1198,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerRumble(SDL_GameController, short, short, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native boolean SDL_GameControllerHasRumble(
-            SDL_GameController gamecontroller);
+    public static boolean SDL_GameControllerHasRumble(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasRumble(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_RUMBLE, start);
+        return result;
+    }
 
     /**
      * Query whether a game controller has rumble support on triggers.
@@ -909,8 +1214,13 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerRumbleTriggers(SDL_GameController, short, short, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native boolean SDL_GameControllerHasRumbleTriggers(
-            SDL_GameController gamecontroller);
+    public static boolean SDL_GameControllerHasRumbleTriggers(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GameControllerHasRumbleTriggers(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_HAS_RUMBLE_TRIGGERS, start);
+        return result;
+    }
 
     /**
      * Update a game controller's LED color.
@@ -922,11 +1232,16 @@ public final class SdlGamecontroller {
      * @return 0, or -1 if this controller does not have a modifiable LED
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_GameControllerSetLED(
+    public static int SDL_GameControllerSetLED(
             SDL_GameController gamecontroller,
             byte red,
             byte green,
-            byte blue);
+            byte blue) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerSetLED(gamecontroller, red, green, blue);
+        SdlMetrics.end(GAME_CONTROLLER_SET_LED, start);
+        return result;
+    }
 
     /**
      * Send a controller specific effect packet
@@ -938,10 +1253,15 @@ public final class SdlGamecontroller {
      * packets
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_GameControllerSendEffect(
+    public static int SDL_GameControllerSendEffect(
             SDL_GameController gamecontroller,
             Pointer data,
-            int size);
+            int size) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GameControllerSendEffect(gamecontroller, data, size);
+        SdlMetrics.end(GAME_CONTROLLER_SEND_EFFECT, start);
+        return result;
+    }
 
     /**
      * Close a game controller previously opened with SDL_GameControllerOpen().
@@ -951,8 +1271,12 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GameControllerClose(
-            SDL_GameController gamecontroller);
+    public static void SDL_GameControllerClose(
+            SDL_GameController gamecontroller) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GameControllerClose(gamecontroller);
+        SdlMetrics.end(GAME_CONTROLLER_CLOSE, start);
+    }
 
     /**
      * Return the sfSymbolsName for a given button on a game controller on Apple
@@ -964,9 +1288,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetAppleSFSymbolsNameForAxis(SDL_GameController, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native String SDL_GameControllerGetAppleSFSymbolsNameForButton(
+    public static String SDL_GameControllerGetAppleSFSymbolsNameForButton(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button);
+            @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerGetAppleSFSymbolsNameForButton(gamecontroller, button);
+        SdlMetrics.end(GAME_CONTROLLER_GET_APPLE_SF_SYMBOLS_NAME_FOR_BUTTON, start);
+        return result;
+    }
 
     /**
      * Return the sfSymbolsName for a given axis on a game controller on Apple
@@ -978,9 +1307,14 @@ public final class SdlGamecontroller {
      * @see #SDL_GameControllerGetAppleSFSymbolsNameForButton(SDL_GameController, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native String SDL_GameControllerGetAppleSFSymbolsNameForAxis(
+    public static String SDL_GameControllerGetAppleSFSymbolsNameForAxis(
             SDL_GameController gamecontroller,
-            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis);
+            @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GameControllerGetAppleSFSymbolsNameForAxis(gamecontroller, axis);
+        SdlMetrics.end(GAME_CONTROLLER_GET_APPLE_SF_SYMBOLS_NAME_FOR_AXIS, start);
+        return result;
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -991,6 +1325,19 @@ public final class SdlGamecontroller {
         private InternalNativeFunctions() {
         }
 
+        public static native boolean SDL_IsGameController(
+                int joystickIndex);
+
+        public static native String SDL_GameControllerNameForIndex(
+                int joystickIndex);
+
+        public static native String SDL_GameControllerName(
+                SDL_GameController gamecontroller);
+
+        public static native byte SDL_GameControllerGetButton(
+                SDL_GameController gamecontroller,
+                int button);
+
         public static native Pointer SDL_GameControllerMappingForIndex(
                 int mappingIndex);
 
@@ -1002,5 +1349,188 @@ public final class SdlGamecontroller {
 
         public static native Pointer SDL_GameControllerMappingForDeviceIndex(
                 int joystickIndex);
+
+        public static native int SDL_GameControllerAddMappingsFromRW(
+                SDL_RWops rw,
+                int freerw);
+
+        public static native int SDL_GameControllerAddMapping(
+                String mappingString);
+
+        public static native int SDL_GameControllerNumMappings();
+
+        public static native String SDL_GameControllerPathForIndex(
+                int joystickIndex);
+
+        public static native int SDL_GameControllerTypeForIndex(
+                int joystickIndex);
+
+        public static native SDL_GameController SDL_GameControllerOpen(
+                int joystickIndex);
+
+        public static native SDL_GameController SDL_GameControllerFromInstanceID(
+                SDL_JoystickID joyId);
+
+        public static native SDL_GameController SDL_GameControllerFromPlayerIndex(
+                int playerIndex);
+
+        public static native String SDL_GameControllerPath(
+                SDL_GameController gamecontroller);
+
+        public static native int SDL_GameControllerGetType(
+                SDL_GameController gamecontroller);
+
+        public static native int SDL_GameControllerGetPlayerIndex(
+                SDL_GameController gamecontroller);
+
+        public static native void SDL_GameControllerSetPlayerIndex(
+                SDL_GameController gamecontroller,
+                int playerIndex);
+
+        public static native short SDL_GameControllerGetVendor(
+                SDL_GameController gamecontroller);
+
+        public static native short SDL_GameControllerGetProduct(
+                SDL_GameController gamecontroller);
+
+        public static native short SDL_GameControllerGetProductVersion(
+                SDL_GameController gamecontroller);
+
+        public static native short SDL_GameControllerGetFirmwareVersion(
+                SDL_GameController gamecontroller);
+
+        public static native String SDL_GameControllerGetSerial(
+                SDL_GameController gamecontroller);
+
+        public static native long SDL_GameControllerGetSteamHandle(
+                SDL_GameController gamecontroller);
+
+        public static native boolean SDL_GameControllerGetAttached(
+                SDL_GameController gamecontroller);
+
+        public static native SDL_Joystick SDL_GameControllerGetJoystick(
+                SDL_GameController gamecontroller);
+
+        public static native int SDL_GameControllerEventState(
+                int state);
+
+        public static native void SDL_GameControllerUpdate();
+
+        public static native int SDL_GameControllerGetAxisFromString(
+                String str);
+
+        public static native String SDL_GameControllerGetStringForAxis(
+                int axis);
+
+        public static native SDL_GameControllerButtonBind SDL_GameControllerGetBindForAxis(
+                SDL_GameController gamecontroller,
+                int axis);
+
+        public static native boolean SDL_GameControllerHasAxis(
+                SDL_GameController gamecontroller,
+                int axis);
+
+        public static native int SDL_GameControllerGetButtonFromString(
+                String str);
+
+        public static native String SDL_GameControllerGetStringForButton(
+                int button);
+
+        public static native SDL_GameControllerButtonBind SDL_GameControllerGetBindForButton(
+                SDL_GameController gamecontroller,
+                int button);
+
+        public static native boolean SDL_GameControllerHasButton(
+                SDL_GameController gamecontroller,
+                int button);
+
+        public static native int SDL_GameControllerGetNumTouchpads(
+                SDL_GameController gamecontroller);
+
+        public static native int SDL_GameControllerGetNumTouchpadFingers(
+                SDL_GameController gamecontroller,
+                int touchpad);
+
+        public static native int SDL_GameControllerGetTouchpadFinger(
+                SDL_GameController gamecontroller,
+                int touchpad,
+                int finger,
+                ByteByReference state,
+                FloatByReference x,
+                FloatByReference y,
+                FloatByReference pressure);
+
+        public static native boolean SDL_GameControllerHasSensor(
+                SDL_GameController gamecontroller,
+                int type);
+
+        public static native int SDL_GameControllerSetSensorEnabled(
+                SDL_GameController gamecontroller,
+                int type,
+                boolean enabled);
+
+        public static native boolean SDL_GameControllerIsSensorEnabled(
+                SDL_GameController gamecontroller,
+                int type);
+
+        public static native float SDL_GameControllerGetSensorDataRate(
+                SDL_GameController gamecontroller,
+                int type);
+
+        public static native int SDL_GameControllerGetSensorData(
+                SDL_GameController gamecontroller,
+                int type,
+                Pointer data,
+                int numValues);
+
+        public static native int SDL_GameControllerGetSensorDataWithTimestamp(
+                SDL_GameController gamecontroller,
+                int type,
+                LongByReference timestamp,
+                Pointer data,
+                int numValues);
+
+        public static native int SDL_GameControllerRumble(
+                SDL_GameController gamecontroller,
+                short lowFrequencyRumble,
+                short highFrequencyRumble,
+                int durationMs);
+
+        public static native int SDL_GameControllerRumbleTriggers(
+                SDL_GameController gamecontroller,
+                short leftRumble,
+                short rightRumble,
+                int durationMs);
+
+        public static native boolean SDL_GameControllerHasLED(
+                SDL_GameController gamecontroller);
+
+        public static native boolean SDL_GameControllerHasRumble(
+                SDL_GameController gamecontroller);
+
+        public static native boolean SDL_GameControllerHasRumbleTriggers(
+                SDL_GameController gamecontroller);
+
+        public static native int SDL_GameControllerSetLED(
+                SDL_GameController gamecontroller,
+                byte red,
+                byte green,
+                byte blue);
+
+        public static native int SDL_GameControllerSendEffect(
+                SDL_GameController gamecontroller,
+                Pointer data,
+                int size);
+
+        public static native void SDL_GameControllerClose(
+                SDL_GameController gamecontroller);
+
+        public static native String SDL_GameControllerGetAppleSFSymbolsNameForButton(
+                SDL_GameController gamecontroller,
+                int button);
+
+        public static native String SDL_GameControllerGetAppleSFSymbolsNameForAxis(
+                SDL_GameController gamecontroller,
+                int axis);
     }
 }
@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.gesture;
 import com.mrcrayfish.controllable_sdl.api.rwops.SDL_RWops;
 import com.mrcrayfish.controllable_sdl.api.touch.SDL_TouchID;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_gesture.h
@@ -11,9 +14,10 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlGesture {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlGesture.class);
-    }
+    private static final NativeFunctionStats RECORD_GESTURE = SdlMetrics.register("SDL_RecordGesture", NativeCallKind.CALL);
+    private static final NativeFunctionStats SAVE_ALL_DOLLAR_TEMPLATES = SdlMetrics.register("SDL_SaveAllDollarTemplates", NativeCallKind.CALL);
+    private static final NativeFunctionStats SAVE_DOLLAR_TEMPLATE = SdlMetrics.register("SDL_SaveDollarTemplate", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOAD_DOLLAR_TEMPLATES = SdlMetrics.register("SDL_LoadDollarTemplates", NativeCallKind.CALL);
 
     private SdlGesture() {
     }
@@ -29,8 +33,13 @@ public final class SdlGesture {
      * @see com.mrcrayfish.controllable_sdl.api.touch.SdlTouch#SDL_GetTouchDevice(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RecordGesture(
-            SDL_TouchID touchId);
+    public static int SDL_RecordGesture(
+            SDL_TouchID touchId) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RecordGesture(touchId);
+        SdlMetrics.end(RECORD_GESTURE, start);
+        return result;
+    }
 
     /**
      * Save all currently loaded Dollar Gesture templates.
@@ -42,8 +51,13 @@ public final class SdlGesture {
      * @see #SDL_SaveDollarTemplate(SDL_GestureID, SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SaveAllDollarTemplates(
-            SDL_RWops dst);
+    public static int SDL_SaveAllDollarTemplates(
+            SDL_RWops dst) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SaveAllDollarTemplates(dst);
+        SdlMetrics.end(SAVE_ALL_DOLLAR_TEMPLATES, start);
+        return result;
+    }
 
     /**
      * Save a currently loaded Dollar Gesture template.
@@ -56,9 +70,14 @@ public final class SdlGesture {
      * @see #SDL_SaveAllDollarTemplates(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SaveDollarTemplate(
+    public static int SDL_SaveDollarTemplate(
             SDL_GestureID gestureId,
-            SDL_RWops dst);
+            SDL_RWops dst) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SaveDollarTemplate(gestureId, dst);
+        SdlMetrics.end(SAVE_DOLLAR_TEMPLATE, start);
+        return result;
+    }
 
     /**
      * Load Dollar Gesture templates from a file.
@@ -71,7 +90,36 @@ public final class SdlGesture {
      * @see #SDL_SaveDollarTemplate(SDL_GestureID, SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_LoadDollarTemplates(
+    public static int SDL_LoadDollarTemplates(
             SDL_TouchID touchId,
-            SDL_RWops src);
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LoadDollarTemplates(touchId, src);
+        SdlMetrics.end(LOAD_DOLLAR_TEMPLATES, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_RecordGesture(
+                SDL_TouchID touchId);
+
+        public static native int SDL_SaveAllDollarTemplates(
+                SDL_RWops dst);
+
+        public static native int SDL_SaveDollarTemplate(
+                SDL_GestureID gestureId,
+                SDL_RWops dst);
+
+        public static native int SDL_LoadDollarTemplates(
+                SDL_TouchID touchId,
+                SDL_RWops src);
+    }
 }
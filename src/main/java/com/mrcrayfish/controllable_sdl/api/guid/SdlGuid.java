@@ -4,6 +4,9 @@ import java.nio.charset.StandardCharsets;
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_guid.h
@@ -12,6 +15,9 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlGuid {
 
+    private static final NativeFunctionStats GUID_FROM_STRING = SdlMetrics.register("SDL_GUIDFromString", NativeCallKind.CALL);
+    private static final NativeFunctionStats GUID_TO_STRING = SdlMetrics.register("SDL_GUIDToString", NativeCallKind.CALL);
+
     /**
      * Get an ASCII string representation for a given {@link SDL_GUID}.
      *
@@ -24,7 +30,9 @@ public final class SdlGuid {
     public static String SDL_GUIDToString(
             SDL_GUID guid) {
         try (Memory textBuffer = new Memory(33L)) {
+            long start = SdlMetrics.begin();
             InternalNativeFunctions.SDL_GUIDToString(guid, textBuffer, (int) textBuffer.size());
+            SdlMetrics.end(GUID_TO_STRING, start);
             return textBuffer.getString(0L, StandardCharsets.US_ASCII.toString());
         }
     }
@@ -41,8 +49,13 @@ public final class SdlGuid {
      * @see #SDL_GUIDToString(SDL_GUID)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native SDL_GUID SDL_GUIDFromString(
-            String pchGUID);
+    public static SDL_GUID SDL_GUIDFromString(
+            String pchGUID) {
+        long start = SdlMetrics.begin();
+        SDL_GUID result = InternalNativeFunctions.SDL_GUIDFromString(pchGUID);
+        SdlMetrics.end(GUID_FROM_STRING, start);
+        return result;
+    }
 
     private final static class InternalNativeFunctions {
 
@@ -57,5 +70,8 @@ public final class SdlGuid {
                 SDL_GUID guid,
                 Pointer pszGUID,
                 int cbGUID);
+
+        public static native SDL_GUID SDL_GUIDFromString(
+                String pchGUID);
     }
 }
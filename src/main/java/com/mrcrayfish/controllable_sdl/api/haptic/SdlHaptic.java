@@ -2,6 +2,9 @@ package com.mrcrayfish.controllable_sdl.api.haptic;
 
 import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -99,9 +102,36 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlHaptic {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlHaptic.class);
-    }
+    private static final NativeFunctionStats NUM_HAPTICS = SdlMetrics.register("SDL_NumHaptics", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_NAME = SdlMetrics.register("SDL_HapticName", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_OPEN = SdlMetrics.register("SDL_HapticOpen", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_OPENED = SdlMetrics.register("SDL_HapticOpened", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_INDEX = SdlMetrics.register("SDL_HapticIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats MOUSE_IS_HAPTIC = SdlMetrics.register("SDL_MouseIsHaptic", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_OPEN_FROM_MOUSE = SdlMetrics.register("SDL_HapticOpenFromMouse", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_IS_HAPTIC = SdlMetrics.register("SDL_JoystickIsHaptic", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_OPEN_FROM_JOYSTICK = SdlMetrics.register("SDL_HapticOpenFromJoystick", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_CLOSE = SdlMetrics.register("SDL_HapticClose", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_NUM_EFFECTS = SdlMetrics.register("SDL_HapticNumEffects", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_NUM_EFFECTS_PLAYING = SdlMetrics.register("SDL_HapticNumEffectsPlaying", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_QUERY = SdlMetrics.register("SDL_HapticQuery", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_NUM_AXES = SdlMetrics.register("SDL_HapticNumAxes", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_EFFECT_SUPPORTED = SdlMetrics.register("SDL_HapticEffectSupported", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_NEW_EFFECT = SdlMetrics.register("SDL_HapticNewEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_UPDATE_EFFECT = SdlMetrics.register("SDL_HapticUpdateEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_RUN_EFFECT = SdlMetrics.register("SDL_HapticRunEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_STOP_EFFECT = SdlMetrics.register("SDL_HapticStopEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_DESTROY_EFFECT = SdlMetrics.register("SDL_HapticDestroyEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_GET_EFFECT_STATUS = SdlMetrics.register("SDL_HapticGetEffectStatus", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_SET_GAIN = SdlMetrics.register("SDL_HapticSetGain", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_SET_AUTOCENTER = SdlMetrics.register("SDL_HapticSetAutocenter", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_PAUSE = SdlMetrics.register("SDL_HapticPause", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_UNPAUSE = SdlMetrics.register("SDL_HapticUnpause", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_STOP_ALL = SdlMetrics.register("SDL_HapticStopAll", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_RUMBLE_SUPPORTED = SdlMetrics.register("SDL_HapticRumbleSupported", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_RUMBLE_INIT = SdlMetrics.register("SDL_HapticRumbleInit", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_RUMBLE_PLAY = SdlMetrics.register("SDL_HapticRumblePlay", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAPTIC_RUMBLE_STOP = SdlMetrics.register("SDL_HapticRumbleStop", NativeCallKind.CALL);
 
     private SdlHaptic() {
     }
@@ -114,7 +144,12 @@ public final class SdlHaptic {
      * @see #SDL_HapticName(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_NumHaptics();
+    public static int SDL_NumHaptics() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_NumHaptics();
+        SdlMetrics.end(NUM_HAPTICS, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name of a haptic device.
@@ -128,8 +163,13 @@ public final class SdlHaptic {
      * @see #SDL_NumHaptics()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_HapticName(
-            int deviceIndex);
+    public static String SDL_HapticName(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_HapticName(deviceIndex);
+        SdlMetrics.end(HAPTIC_NAME, start);
+        return result;
+    }
 
     /**
      * Open a haptic device for use.
@@ -154,8 +194,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticStopAll(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Haptic SDL_HapticOpen(
-            int deviceIndex);
+    public static SDL_Haptic SDL_HapticOpen(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_Haptic result = InternalNativeFunctions.SDL_HapticOpen(deviceIndex);
+        SdlMetrics.end(HAPTIC_OPEN, start);
+        return result;
+    }
 
     /**
      * Check if the haptic device at the designated index has been opened.
@@ -167,8 +212,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticOpened(
-            int deviceIndex);
+    public static int SDL_HapticOpened(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticOpened(deviceIndex);
+        SdlMetrics.end(HAPTIC_OPENED, start);
+        return result;
+    }
 
     /**
      * Get the index of a haptic device.
@@ -180,8 +230,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticOpened(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticIndex(
-            SDL_Haptic haptic);
+    public static int SDL_HapticIndex(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticIndex(haptic);
+        SdlMetrics.end(HAPTIC_INDEX, start);
+        return result;
+    }
 
     /**
      * Query whether or not the current mouse has haptic capabilities.
@@ -190,7 +245,12 @@ public final class SdlHaptic {
      * @see #SDL_HapticOpenFromMouse()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_MouseIsHaptic();
+    public static boolean SDL_MouseIsHaptic() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_MouseIsHaptic();
+        SdlMetrics.end(MOUSE_IS_HAPTIC, start);
+        return result;
+    }
 
     /**
      * Try to open a haptic device from the current mouse.
@@ -201,7 +261,12 @@ public final class SdlHaptic {
      * @see #SDL_MouseIsHaptic()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Haptic SDL_HapticOpenFromMouse();
+    public static SDL_Haptic SDL_HapticOpenFromMouse() {
+        long start = SdlMetrics.begin();
+        SDL_Haptic result = InternalNativeFunctions.SDL_HapticOpenFromMouse();
+        SdlMetrics.end(HAPTIC_OPEN_FROM_MOUSE, start);
+        return result;
+    }
 
     /**
      * Query if a joystick has haptic features.
@@ -213,8 +278,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticOpenFromJoystick(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickIsHaptic(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickIsHaptic(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickIsHaptic(joystick);
+        SdlMetrics.end(JOYSTICK_IS_HAPTIC, start);
+        return result;
+    }
 
     /**
      * Open a haptic device for use from a joystick device.
@@ -235,8 +305,13 @@ public final class SdlHaptic {
      * @see #SDL_JoystickIsHaptic(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Haptic SDL_HapticOpenFromJoystick(
-            SDL_Joystick joystick);
+    public static SDL_Haptic SDL_HapticOpenFromJoystick(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        SDL_Haptic result = InternalNativeFunctions.SDL_HapticOpenFromJoystick(joystick);
+        SdlMetrics.end(HAPTIC_OPEN_FROM_JOYSTICK, start);
+        return result;
+    }
 
     /**
      * Close a haptic device previously opened with SDL_HapticOpen().
@@ -245,8 +320,12 @@ public final class SdlHaptic {
      * @see #SDL_HapticOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_HapticClose(
-            SDL_Haptic haptic);
+    public static void SDL_HapticClose(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_HapticClose(haptic);
+        SdlMetrics.end(HAPTIC_CLOSE, start);
+    }
 
     /**
      * Get the number of effects a haptic device can store.
@@ -262,8 +341,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticQuery(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticNumEffects(
-            SDL_Haptic haptic);
+    public static int SDL_HapticNumEffects(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticNumEffects(haptic);
+        SdlMetrics.end(HAPTIC_NUM_EFFECTS, start);
+        return result;
+    }
 
     /**
      * Get the number of effects a haptic device can play at the same time.
@@ -278,8 +362,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticQuery(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticNumEffectsPlaying(
-            SDL_Haptic haptic);
+    public static int SDL_HapticNumEffectsPlaying(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticNumEffectsPlaying(haptic);
+        SdlMetrics.end(HAPTIC_NUM_EFFECTS_PLAYING, start);
+        return result;
+    }
 
     /**
      * Get the haptic device's supported features in bitwise manner.
@@ -292,8 +381,13 @@ public final class SdlHaptic {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(flagsFromClass = SDL_HapticEffectType.class)
-    public static native int SDL_HapticQuery(
-            SDL_Haptic haptic);
+    public static int SDL_HapticQuery(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticQuery(haptic);
+        SdlMetrics.end(HAPTIC_QUERY, start);
+        return result;
+    }
 
     /**
      * Get the number of haptic axes the device has.
@@ -306,8 +400,13 @@ public final class SdlHaptic {
      * call SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticNumAxes(
-            SDL_Haptic haptic);
+    public static int SDL_HapticNumAxes(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticNumAxes(haptic);
+        SdlMetrics.end(HAPTIC_NUM_AXES, start);
+        return result;
+    }
 
     /**
      * Check to see if an effect is supported by a haptic device.
@@ -321,9 +420,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticQuery(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticEffectSupported(
+    public static int SDL_HapticEffectSupported(
             SDL_Haptic haptic,
-            SDL_HapticEffect effect);
+            SDL_HapticEffect effect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticEffectSupported(haptic, effect);
+        SdlMetrics.end(HAPTIC_EFFECT_SUPPORTED, start);
+        return result;
+    }
 
     /**
      * Create a new haptic effect on a specified device.
@@ -338,9 +442,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticUpdateEffect(SDL_Haptic, int, SDL_HapticEffect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticNewEffect(
+    public static int SDL_HapticNewEffect(
             SDL_Haptic haptic,
-            SDL_HapticEffect effect);
+            SDL_HapticEffect effect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticNewEffect(haptic, effect);
+        SdlMetrics.end(HAPTIC_NEW_EFFECT, start);
+        return result;
+    }
 
     /**
      * Update the properties of an effect.
@@ -361,10 +470,15 @@ public final class SdlHaptic {
      * @see #SDL_HapticRunEffect(SDL_Haptic, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticUpdateEffect(
+    public static int SDL_HapticUpdateEffect(
             SDL_Haptic haptic,
             int effect,
-            SDL_HapticEffect data);
+            SDL_HapticEffect data) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticUpdateEffect(haptic, effect, data);
+        SdlMetrics.end(HAPTIC_UPDATE_EFFECT, start);
+        return result;
+    }
 
     /**
      * Run the haptic effect on its associated haptic device.
@@ -386,10 +500,15 @@ public final class SdlHaptic {
      * @see #SDL_HapticStopEffect(SDL_Haptic, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticRunEffect(
+    public static int SDL_HapticRunEffect(
             SDL_Haptic haptic,
             int effect,
-            int iterations);
+            int iterations) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticRunEffect(haptic, effect, iterations);
+        SdlMetrics.end(HAPTIC_RUN_EFFECT, start);
+        return result;
+    }
 
     /**
      * Stop the haptic effect on its associated haptic device.
@@ -404,9 +523,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticRunEffect(SDL_Haptic, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticStopEffect(
+    public static int SDL_HapticStopEffect(
             SDL_Haptic haptic,
-            int effect);
+            int effect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticStopEffect(haptic, effect);
+        SdlMetrics.end(HAPTIC_STOP_EFFECT, start);
+        return result;
+    }
 
     /**
      * Destroy a haptic effect on the device.
@@ -419,9 +543,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticNewEffect(SDL_Haptic, SDL_HapticEffect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_HapticDestroyEffect(
+    public static void SDL_HapticDestroyEffect(
             SDL_Haptic haptic,
-            int effect);
+            int effect) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_HapticDestroyEffect(haptic, effect);
+        SdlMetrics.end(HAPTIC_DESTROY_EFFECT, start);
+    }
 
     /**
      * Get the status of the current effect on the specified haptic device.
@@ -436,9 +564,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticStopEffect(SDL_Haptic, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticGetEffectStatus(
+    public static int SDL_HapticGetEffectStatus(
             SDL_Haptic haptic,
-            int effect);
+            int effect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticGetEffectStatus(haptic, effect);
+        SdlMetrics.end(HAPTIC_GET_EFFECT_STATUS, start);
+        return result;
+    }
 
     /**
      * Set the global gain of the specified haptic device.
@@ -457,9 +590,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticQuery(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticSetGain(
+    public static int SDL_HapticSetGain(
             SDL_Haptic haptic,
-            int gain);
+            int gain) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticSetGain(haptic, gain);
+        SdlMetrics.end(HAPTIC_SET_GAIN, start);
+        return result;
+    }
 
     /**
      * Set the global autocenter of the device.
@@ -476,9 +614,14 @@ public final class SdlHaptic {
      * @see #SDL_HapticQuery(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticSetAutocenter(
+    public static int SDL_HapticSetAutocenter(
             SDL_Haptic haptic,
-            int autocenter);
+            int autocenter) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticSetAutocenter(haptic, autocenter);
+        SdlMetrics.end(HAPTIC_SET_AUTOCENTER, start);
+        return result;
+    }
 
     /**
      * Pause a haptic device.
@@ -495,8 +638,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticUnpause(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticPause(
-            SDL_Haptic haptic);
+    public static int SDL_HapticPause(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticPause(haptic);
+        SdlMetrics.end(HAPTIC_PAUSE, start);
+        return result;
+    }
 
     /**
      * Unpause a haptic device.
@@ -509,8 +657,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticPause(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticUnpause(
-            SDL_Haptic haptic);
+    public static int SDL_HapticUnpause(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticUnpause(haptic);
+        SdlMetrics.end(HAPTIC_UNPAUSE, start);
+        return result;
+    }
 
     /**
      * Stop all the currently playing effects on a haptic device.
@@ -520,8 +673,13 @@ public final class SdlHaptic {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticStopAll(
-            SDL_Haptic haptic);
+    public static int SDL_HapticStopAll(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticStopAll(haptic);
+        SdlMetrics.end(HAPTIC_STOP_ALL, start);
+        return result;
+    }
 
     /**
      * Check whether rumble is supported on a haptic device.
@@ -535,8 +693,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticRumbleStop(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticRumbleSupported(
-            SDL_Haptic haptic);
+    public static int SDL_HapticRumbleSupported(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticRumbleSupported(haptic);
+        SdlMetrics.end(HAPTIC_RUMBLE_SUPPORTED, start);
+        return result;
+    }
 
     /**
      * Initialize a haptic device for simple rumble playback.
@@ -550,8 +713,13 @@ public final class SdlHaptic {
      * @see #SDL_HapticRumbleSupported(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticRumbleInit(
-            SDL_Haptic haptic);
+    public static int SDL_HapticRumbleInit(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticRumbleInit(haptic);
+        SdlMetrics.end(HAPTIC_RUMBLE_INIT, start);
+        return result;
+    }
 
     /**
      * Run a simple rumble effect on a haptic device.
@@ -566,10 +734,15 @@ public final class SdlHaptic {
      * @see #SDL_HapticRumbleSupported(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticRumblePlay(
+    public static int SDL_HapticRumblePlay(
             SDL_Haptic haptic,
             float strength,
-            int length);
+            int length) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticRumblePlay(haptic, strength, length);
+        SdlMetrics.end(HAPTIC_RUMBLE_PLAY, start);
+        return result;
+    }
 
     /**
      * Stop the simple rumble on a haptic device.
@@ -582,6 +755,121 @@ public final class SdlHaptic {
      * @see #SDL_HapticRumbleSupported(SDL_Haptic)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_HapticRumbleStop(
-            SDL_Haptic haptic);
+    public static int SDL_HapticRumbleStop(
+            SDL_Haptic haptic) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_HapticRumbleStop(haptic);
+        SdlMetrics.end(HAPTIC_RUMBLE_STOP, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_NumHaptics();
+
+        public static native String SDL_HapticName(
+                int deviceIndex);
+
+        public static native SDL_Haptic SDL_HapticOpen(
+                int deviceIndex);
+
+        public static native int SDL_HapticOpened(
+                int deviceIndex);
+
+        public static native int SDL_HapticIndex(
+                SDL_Haptic haptic);
+
+        public static native boolean SDL_MouseIsHaptic();
+
+        public static native SDL_Haptic SDL_HapticOpenFromMouse();
+
+        public static native int SDL_JoystickIsHaptic(
+                SDL_Joystick joystick);
+
+        public static native SDL_Haptic SDL_HapticOpenFromJoystick(
+                SDL_Joystick joystick);
+
+        public static native void SDL_HapticClose(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticNumEffects(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticNumEffectsPlaying(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticQuery(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticNumAxes(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticEffectSupported(
+                SDL_Haptic haptic,
+                SDL_HapticEffect effect);
+
+        public static native int SDL_HapticNewEffect(
+                SDL_Haptic haptic,
+                SDL_HapticEffect effect);
+
+        public static native int SDL_HapticUpdateEffect(
+                SDL_Haptic haptic,
+                int effect,
+                SDL_HapticEffect data);
+
+        public static native int SDL_HapticRunEffect(
+                SDL_Haptic haptic,
+                int effect,
+                int iterations);
+
+        public static native int SDL_HapticStopEffect(
+                SDL_Haptic haptic,
+                int effect);
+
+        public static native void SDL_HapticDestroyEffect(
+                SDL_Haptic haptic,
+                int effect);
+
+        public static native int SDL_HapticGetEffectStatus(
+                SDL_Haptic haptic,
+                int effect);
+
+        public static native int SDL_HapticSetGain(
+                SDL_Haptic haptic,
+                int gain);
+
+        public static native int SDL_HapticSetAutocenter(
+                SDL_Haptic haptic,
+                int autocenter);
+
+        public static native int SDL_HapticPause(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticUnpause(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticStopAll(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticRumbleSupported(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticRumbleInit(
+                SDL_Haptic haptic);
+
+        public static native int SDL_HapticRumblePlay(
+                SDL_Haptic haptic,
+                float strength,
+                int length);
+
+        public static native int SDL_HapticRumbleStop(
+                SDL_Haptic haptic);
+    }
 }
@@ -1,14 +1,18 @@
 package com.mrcrayfish.controllable_sdl.api.hidapi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.WString;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
 import com.mrcrayfish.controllable_sdl.jna.StringRef;
 import com.mrcrayfish.controllable_sdl.jna.size_t;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_hidapi.h
@@ -53,6 +57,26 @@ import com.mrcrayfish.controllable_sdl.jna.size_t;
  */
 public final class SdlHidApi {
 
+    private static final NativeFunctionStats HID_INIT = SdlMetrics.register("SDL_hid_init", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_EXIT = SdlMetrics.register("SDL_hid_exit", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_DEVICE_CHANGE_COUNT = SdlMetrics.register("SDL_hid_device_change_count", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_OPEN_PATH = SdlMetrics.register("SDL_hid_open_path", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_WRITE = SdlMetrics.register("SDL_hid_write", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_READ_TIMEOUT = SdlMetrics.register("SDL_hid_read_timeout", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_READ = SdlMetrics.register("SDL_hid_read", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_SET_NONBLOCKING = SdlMetrics.register("SDL_hid_set_nonblocking", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_SEND_FEATURE_REPORT = SdlMetrics.register("SDL_hid_send_feature_report", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_GET_FEATURE_REPORT = SdlMetrics.register("SDL_hid_get_feature_report", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_CLOSE = SdlMetrics.register("SDL_hid_close", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_BLE_SCAN = SdlMetrics.register("SDL_hid_ble_scan", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_ENUMERATE = SdlMetrics.register("SDL_hid_enumerate", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_FREE_ENUMERATION = SdlMetrics.register("SDL_hid_free_enumeration", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_OPEN = SdlMetrics.register("SDL_hid_open", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_GET_MANUFACTURER_STRING = SdlMetrics.register("SDL_hid_get_manufacturer_string", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_GET_PRODUCT_STRING = SdlMetrics.register("SDL_hid_get_product_string", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_GET_SERIAL_NUMBER_STRING = SdlMetrics.register("SDL_hid_get_serial_number_string", NativeCallKind.CALL);
+    private static final NativeFunctionStats HID_GET_INDEXED_STRING = SdlMetrics.register("SDL_hid_get_indexed_string", NativeCallKind.CALL);
+
     /**
      * Initialize the HIDAPI library.
      *
@@ -68,7 +92,12 @@ public final class SdlHidApi {
      * @see #SDL_hid_exit()
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_init();
+    public static int SDL_hid_init() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_init();
+        SdlMetrics.end(HID_INIT, start);
+        return result;
+    }
 
     /**
      * Finalize the HIDAPI library.
@@ -80,7 +109,12 @@ public final class SdlHidApi {
      * @see #SDL_hid_init()
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_exit();
+    public static int SDL_hid_exit() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_exit();
+        SdlMetrics.end(HID_EXIT, start);
+        return result;
+    }
 
     /**
      * Check to see if devices may have been added or removed.
@@ -99,7 +133,12 @@ public final class SdlHidApi {
      * @see #SDL_hid_enumerate(short, short)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_device_change_count();
+    public static int SDL_hid_device_change_count() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_device_change_count();
+        SdlMetrics.end(HID_DEVICE_CHANGE_COUNT, start);
+        return result;
+    }
 
     /**
      * Enumerate the HID Devices.
@@ -121,9 +160,13 @@ public final class SdlHidApi {
     public static List<SDL_hid_device_info> SDL_hid_enumerate(
             short vendorId,
             short productId) {
+        long start = SdlMetrics.begin();
         SDL_hid_device_info_raw rawStruct = InternalNativeFunctions.SDL_hid_enumerate(vendorId, productId);
+        SdlMetrics.end(HID_ENUMERATE, start);
         List<SDL_hid_device_info> devInfoList = convert(rawStruct);
+        start = SdlMetrics.begin();
         InternalNativeFunctions.SDL_hid_free_enumeration(rawStruct.getPointer());
+        SdlMetrics.end(HID_FREE_ENUMERATION, start);
         return devInfoList;
     }
 
@@ -170,8 +213,11 @@ public final class SdlHidApi {
             short vendorId,
             short productId,
             String serialNumber) {
-        return InternalNativeFunctions.SDL_hid_open(
+        long start = SdlMetrics.begin();
+        SDL_hid_device result = InternalNativeFunctions.SDL_hid_open(
                 vendorId, productId, serialNumber != null ? new WString(serialNumber) : null);
+        SdlMetrics.end(HID_OPEN, start);
+        return result;
     }
 
     /**
@@ -185,9 +231,14 @@ public final class SdlHidApi {
      * failure.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native SDL_hid_device SDL_hid_open_path(
+    public static SDL_hid_device SDL_hid_open_path(
             String path,
-            int bExclusive);
+            int bExclusive) {
+        long start = SdlMetrics.begin();
+        SDL_hid_device result = InternalNativeFunctions.SDL_hid_open_path(path, bExclusive);
+        SdlMetrics.end(HID_OPEN_PATH, start);
+        return result;
+    }
 
     /**
      * Write an Output report to a HID device.
@@ -216,8 +267,36 @@ public final class SdlHidApi {
     public static int SDL_hid_write(
             SDL_hid_device dev,
             byte[] data) {
-        try (Memory buffer = JnaUtils.writeArrayToNativeMemory(data)) {
-            return SDL_hid_write(dev, buffer, new size_t(buffer.size()));
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_hid_write(dev, JnaUtils.writeArrayToNativeMemory(arena, data), new size_t(data.length));
+        }
+    }
+
+    /**
+     * Write an Output report to a HID device.
+     *
+     * <p>The first byte of {@code data} must contain the Report ID. For devices which only
+     * support a single report, this must be set to 0x0.</p>
+     *
+     * <p>This is a buffer version of the raw function {@link #SDL_hid_write(SDL_hid_device, Pointer, size_t)}.
+     * The remaining bytes of {@code data} are sent and the position of the buffer is advanced by the number of
+     * bytes written. A direct buffer is sent without any copying.</p>
+     *
+     * @param dev  A device handle returned from SDL_hid_open().
+     * @param data The data to send, including the report number as the first
+     *             byte.
+     * @return the actual number of bytes written and -1 on error.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_write(
+            SDL_hid_device dev,
+            ByteBuffer data) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            int result = SDL_hid_write(dev, JnaUtils.getBufferPointer(arena, data), new size_t(data.remaining()));
+            if (result > 0) {
+                data.position(data.position() + result);
+            }
+            return result;
         }
     }
 
@@ -246,10 +325,15 @@ public final class SdlHidApi {
      * @return the actual number of bytes written and -1 on error.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_write(
+    public static int SDL_hid_write(
             SDL_hid_device dev,
             Pointer data,
-            size_t length);
+            size_t length) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_write(dev, data, length);
+        SdlMetrics.end(HID_WRITE, start);
+        return result;
+    }
 
     /**
      * Read an Input report from a HID device with timeout.
@@ -276,13 +360,101 @@ public final class SdlHidApi {
             SDL_hid_device dev,
             byte[] data,
             int milliseconds) {
-        try (Memory buffer = new Memory(data.length)) {
-            int result = SDL_hid_read_timeout(dev, buffer, new size_t(buffer.size()), milliseconds);
-            buffer.read(0L, data, 0, data.length);
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(data.length);
+            int result = SDL_hid_read_timeout(dev, buffer, new size_t(data.length), milliseconds);
+            if (result > 0) {
+                buffer.read(0L, data, 0, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read an Input report from a HID device with timeout.
+     *
+     * <p>Input reports are returned to the host through the INTERRUPT IN endpoint.
+     * The first byte will contain the Report number if the device uses numbered
+     * reports.</p>
+     *
+     * <p>This is a buffer version of the raw function {@link #SDL_hid_read_timeout(SDL_hid_device, Pointer, size_t, int)}.
+     * The report is read into the remaining bytes of {@code data} and the position of the buffer is advanced by the
+     * number of bytes read. A direct buffer is read into without any copying, so a reader polling at a high rate can
+     * reuse the same buffer for every call.</p>
+     *
+     * @param dev          A device handle returned from SDL_hid_open().
+     * @param data         A buffer to put the read data into. The number of remaining bytes is the number of bytes
+     *                     to read. For devices with multiple reports, make sure to read an extra byte for the
+     *                     report number.
+     * @param milliseconds timeout in milliseconds or -1 for blocking wait.
+     * @return the actual number of bytes read and -1 on error. If no packet was
+     * available to be read within the timeout period, this function
+     * returns 0.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_read_timeout(
+            SDL_hid_device dev,
+            ByteBuffer data,
+            int milliseconds) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = getReadPointer(arena, data);
+            int result = SDL_hid_read_timeout(dev, buffer, new size_t(data.remaining()), milliseconds);
+            completeRead(buffer, data, result);
             return result;
         }
     }
 
+    /**
+     * Read every Input report currently queued for a HID device, without waiting.
+     *
+     * <p>This function is not part of SDL. It calls {@link #SDL_hid_read_timeout(SDL_hid_device, Pointer, size_t, int)
+     * SDL_hid_read_timeout} with a timeout of 0 until no report is left, so a reader that wakes up once per frame can
+     * drain several reports with a single call. Every report is read into a slot of {@code reportSize} bytes of the
+     * remaining bytes of {@code data}, so report {@code i} starts at {@code position + i * reportSize}, and its length is
+     * stored in {@code lengths[i]}. The position of the buffer is advanced past the last slot read. A direct buffer
+     * is read into without any copying.</p>
+     *
+     * @param dev        A device handle returned from SDL_hid_open().
+     * @param data       A buffer to put the reports into.
+     * @param reportSize The number of bytes to read per report, including the report number for devices with
+     *                   multiple reports.
+     * @param lengths    Receives the number of bytes of every report read. Its length is the maximum number of
+     *                   reports read.
+     * @return the number of reports read, or -1 if the first read failed. Reading stops at the first error once a
+     * report was read, so the reports already read are not lost.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_read_all(
+            SDL_hid_device dev,
+            ByteBuffer data,
+            int reportSize,
+            int[] lengths) {
+        if (reportSize < 1) {
+            throw new IllegalArgumentException("Report size must be positive: " + reportSize);
+        }
+        int maxReports = Math.min(lengths.length, data.remaining() / reportSize);
+        if (maxReports == 0) {
+            return 0;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = getReadPointer(arena, data);
+            size_t length = new size_t(reportSize);
+            int count = 0;
+            while (count < maxReports) {
+                int result = SDL_hid_read_timeout(dev, buffer.share((long) count * reportSize), length, 0);
+                if (result < 0 && count == 0) {
+                    return -1;
+                }
+                if (result <= 0) {
+                    break;
+                }
+                lengths[count++] = result;
+            }
+            completeRead(buffer, data, count * reportSize);
+            return count;
+        }
+    }
+
     /**
      * Read an Input report from a HID device with timeout.
      *
@@ -303,11 +475,16 @@ public final class SdlHidApi {
      * returns 0.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_read_timeout(
+    public static int SDL_hid_read_timeout(
             SDL_hid_device dev,
             Pointer data,
             size_t length,
-            int milliseconds);
+            int milliseconds) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_read_timeout(dev, data, length, milliseconds);
+        SdlMetrics.end(HID_READ_TIMEOUT, start);
+        return result;
+    }
 
     /**
      * Read an Input report from a HID device.
@@ -331,9 +508,43 @@ public final class SdlHidApi {
     public static int SDL_hid_read(
             SDL_hid_device dev,
             byte[] data) {
-        try (Memory buffer = new Memory(data.length)) {
-            int result = SDL_hid_read(dev, buffer, new size_t(buffer.size()));
-            buffer.read(0L, data, 0, data.length);
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(data.length);
+            int result = SDL_hid_read(dev, buffer, new size_t(data.length));
+            if (result > 0) {
+                buffer.read(0L, data, 0, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Read an Input report from a HID device.
+     *
+     * <p>Input reports are returned to the host through the INTERRUPT IN endpoint.
+     * The first byte will contain the Report number if the device uses numbered
+     * reports.</p>
+     *
+     * <p>This is a buffer version of the raw function {@link #SDL_hid_read(SDL_hid_device, Pointer, size_t)}.
+     * The report is read into the remaining bytes of {@code data} and the position of the buffer is advanced by the
+     * number of bytes read. A direct buffer is read into without any copying, so a reader polling at a high rate can
+     * reuse the same buffer for every call.</p>
+     *
+     * @param dev  A device handle returned from SDL_hid_open().
+     * @param data A buffer to put the read data into. The number of remaining bytes is the number of bytes to
+     *             read. For devices with multiple reports, make sure to read an extra byte for the report number.
+     * @return the actual number of bytes read and -1 on error. If no packet was
+     * available to be read and the handle is in non-blocking mode, this
+     * function returns 0.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_read(
+            SDL_hid_device dev,
+            ByteBuffer data) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = getReadPointer(arena, data);
+            int result = SDL_hid_read(dev, buffer, new size_t(data.remaining()));
+            completeRead(buffer, data, result);
             return result;
         }
     }
@@ -357,10 +568,15 @@ public final class SdlHidApi {
      * function returns 0.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_read(
+    public static int SDL_hid_read(
             SDL_hid_device dev,
             Pointer data,
-            size_t length);
+            size_t length) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_read(dev, data, length);
+        SdlMetrics.end(HID_READ, start);
+        return result;
+    }
 
     /**
      * Set the device handle to be non-blocking.
@@ -377,9 +593,14 @@ public final class SdlHidApi {
      * @return 0 on success and -1 on error.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_set_nonblocking(
+    public static int SDL_hid_set_nonblocking(
             SDL_hid_device dev,
-            int nonblock);
+            int nonblock) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_set_nonblocking(dev, nonblock);
+        SdlMetrics.end(HID_SET_NONBLOCKING, start);
+        return result;
+    }
 
     /**
      * Send a Feature report to the device.
@@ -405,8 +626,36 @@ public final class SdlHidApi {
     public static int SDL_hid_send_feature_report(
             SDL_hid_device dev,
             byte[] data) {
-        try (Memory buffer = JnaUtils.writeArrayToNativeMemory(data)) {
-            return SDL_hid_send_feature_report(dev, buffer, new size_t(buffer.size()));
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_hid_send_feature_report(dev, JnaUtils.writeArrayToNativeMemory(arena, data), new size_t(data.length));
+        }
+    }
+
+    /**
+     * Send a Feature report to the device.
+     *
+     * <p>The first byte of {@code data} must contain the Report ID. For devices
+     * which only support a single report, this must be set to 0x0.</p>
+     *
+     * <p>This is a buffer version of the raw function {@link #SDL_hid_send_feature_report(SDL_hid_device, Pointer, size_t)}.
+     * The remaining bytes of {@code data} are sent and the position of the buffer is advanced by the number of
+     * bytes written. A direct buffer is sent without any copying.</p>
+     *
+     * @param dev  A device handle returned from SDL_hid_open().
+     * @param data The data to send, including the report number as the first
+     *             byte.
+     * @return the actual number of bytes written and -1 on error.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_send_feature_report(
+            SDL_hid_device dev,
+            ByteBuffer data) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            int result = SDL_hid_send_feature_report(dev, JnaUtils.getBufferPointer(arena, data), new size_t(data.remaining()));
+            if (result > 0) {
+                data.position(data.position() + result);
+            }
+            return result;
         }
     }
 
@@ -433,10 +682,15 @@ public final class SdlHidApi {
      * @return the actual number of bytes written and -1 on error.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_send_feature_report(
+    public static int SDL_hid_send_feature_report(
             SDL_hid_device dev,
             Pointer data,
-            size_t length);
+            size_t length) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_send_feature_report(dev, data, length);
+        SdlMetrics.end(HID_SEND_FEATURE_REPORT, start);
+        return result;
+    }
 
     /**
      * Get a feature report from a HID device.
@@ -463,10 +717,40 @@ public final class SdlHidApi {
     public static int SDL_hid_get_feature_report(
             SDL_hid_device dev,
             byte[] data) {
-        int result;
-        try (Memory buffer = new Memory(data.length)) {
-            result = SDL_hid_get_feature_report(dev, buffer, new size_t(buffer.size()));
-            buffer.read(0L, data, 0, data.length);
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = JnaUtils.writeArrayToNativeMemory(arena, data);
+            int result = SDL_hid_get_feature_report(dev, buffer, new size_t(data.length));
+            if (result > 0) {
+                buffer.read(0L, data, 0, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Get a feature report from a HID device.
+     *
+     * <p>Set the byte at the position of {@code data} to the Report ID of the report to be read.
+     * Upon return, that byte will still contain the Report ID, followed by the report data.</p>
+     *
+     * <p>This is a buffer version of the raw function {@link #SDL_hid_get_feature_report(SDL_hid_device, Pointer, size_t)}.
+     * The report is read into the remaining bytes of {@code data} and the position of the buffer is advanced by the
+     * number of bytes read, including the report ID. A direct buffer is read into without any copying.</p>
+     *
+     * @param dev  A device handle returned from SDL_hid_open().
+     * @param data A buffer holding the Report ID to put the read data into. The number of remaining bytes is
+     *             the number of bytes to read, including the report ID.
+     * @return the number of bytes read plus one for the report ID (which is
+     * still in the first byte), or -1 on error.
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_hid_get_feature_report(
+            SDL_hid_device dev,
+            ByteBuffer data) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = JnaUtils.getBufferPointer(arena, data);
+            int result = SDL_hid_get_feature_report(dev, buffer, new size_t(data.remaining()));
+            completeRead(buffer, data, result);
             return result;
         }
     }
@@ -492,10 +776,15 @@ public final class SdlHidApi {
      * still in the first byte), or -1 on error.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_hid_get_feature_report(
+    public static int SDL_hid_get_feature_report(
             SDL_hid_device dev,
             Pointer data,
-            size_t length);
+            size_t length) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_hid_get_feature_report(dev, data, length);
+        SdlMetrics.end(HID_GET_FEATURE_REPORT, start);
+        return result;
+    }
 
     /**
      * Close a HID device.
@@ -503,8 +792,12 @@ public final class SdlHidApi {
      * @param dev A device handle returned from SDL_hid_open().
      * @since This function is available since SDL 2.0.18.
      */
-    public static native void SDL_hid_close(
-            SDL_hid_device dev);
+    public static void SDL_hid_close(
+            SDL_hid_device dev) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_hid_close(dev);
+        SdlMetrics.end(HID_CLOSE, start);
+    }
 
     /**
      * Get The Manufacturer String from a HID device.
@@ -519,8 +812,11 @@ public final class SdlHidApi {
             SDL_hid_device dev,
             StringRef text,
             int maxlen) {
-        try (Memory buffer = new Memory(maxlen * 2L)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(maxlen * 2L);
+            long start = SdlMetrics.begin();
             int result = InternalNativeFunctions.SDL_hid_get_manufacturer_string(dev, buffer, new size_t(maxlen));
+            SdlMetrics.end(HID_GET_MANUFACTURER_STRING, start);
             text.setValue(buffer.getWideString(0L));
             return result;
         }
@@ -539,8 +835,11 @@ public final class SdlHidApi {
             SDL_hid_device dev,
             StringRef text,
             int maxlen) {
-        try (Memory buffer = new Memory(maxlen * 2L)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(maxlen * 2L);
+            long start = SdlMetrics.begin();
             int result = InternalNativeFunctions.SDL_hid_get_product_string(dev, buffer, new size_t(maxlen));
+            SdlMetrics.end(HID_GET_PRODUCT_STRING, start);
             text.setValue(buffer.getWideString(0L));
             return result;
         }
@@ -559,8 +858,11 @@ public final class SdlHidApi {
             SDL_hid_device dev,
             StringRef text,
             int maxlen) {
-        try (Memory buffer = new Memory(maxlen * 2L)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(maxlen * 2L);
+            long start = SdlMetrics.begin();
             int result = InternalNativeFunctions.SDL_hid_get_serial_number_string(dev, buffer, new size_t(maxlen));
+            SdlMetrics.end(HID_GET_SERIAL_NUMBER_STRING, start);
             text.setValue(buffer.getWideString(0L));
             return result;
         }
@@ -581,8 +883,11 @@ public final class SdlHidApi {
             int stringIndex,
             StringRef text,
             int maxlen) {
-        try (Memory buffer = new Memory(maxlen * 2L)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = arena.allocate(maxlen * 2L);
+            long start = SdlMetrics.begin();
             int result = InternalNativeFunctions.SDL_hid_get_indexed_string(dev, stringIndex, buffer, new size_t(maxlen));
+            SdlMetrics.end(HID_GET_INDEXED_STRING, start);
             text.setValue(buffer.getWideString(0L));
             return result;
         }
@@ -594,8 +899,30 @@ public final class SdlHidApi {
      * @param active true to start the scan, false to stop the scan
      * @since This function is available since SDL 2.0.18.
      */
-    public static native void SDL_hid_ble_scan(
-            boolean active);
+    public static void SDL_hid_ble_scan(
+            boolean active) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_hid_ble_scan(active);
+        SdlMetrics.end(HID_BLE_SCAN, start);
+    }
+
+    private static Pointer getReadPointer(ScratchArena arena, ByteBuffer data) {
+        return data.isDirect() ? JnaUtils.getBufferPointer(arena, data) : arena.allocate(data.remaining());
+    }
+
+    private static void completeRead(Pointer buffer, ByteBuffer data, int length) {
+        if (length <= 0) {
+            return;
+        }
+        if (!data.isDirect()) {
+            if (data.hasArray()) {
+                buffer.read(0L, data.array(), data.arrayOffset() + data.position(), length);
+            } else {
+                data.duplicate().put(buffer.getByteArray(0L, length));
+            }
+        }
+        data.position(data.position() + length);
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -647,5 +974,51 @@ public final class SdlHidApi {
                 int stringIndex,
                 Pointer text,
                 size_t maxlen);
+
+        public static native int SDL_hid_init();
+
+        public static native int SDL_hid_exit();
+
+        public static native int SDL_hid_device_change_count();
+
+        public static native SDL_hid_device SDL_hid_open_path(
+                String path,
+                int bExclusive);
+
+        public static native int SDL_hid_write(
+                SDL_hid_device dev,
+                Pointer data,
+                size_t length);
+
+        public static native int SDL_hid_read_timeout(
+                SDL_hid_device dev,
+                Pointer data,
+                size_t length,
+                int milliseconds);
+
+        public static native int SDL_hid_read(
+                SDL_hid_device dev,
+                Pointer data,
+                size_t length);
+
+        public static native int SDL_hid_set_nonblocking(
+                SDL_hid_device dev,
+                int nonblock);
+
+        public static native int SDL_hid_send_feature_report(
+                SDL_hid_device dev,
+                Pointer data,
+                size_t length);
+
+        public static native int SDL_hid_get_feature_report(
+                SDL_hid_device dev,
+                Pointer data,
+                size_t length);
+
+        public static native void SDL_hid_close(
+                SDL_hid_device dev);
+
+        public static native void SDL_hid_ble_scan(
+                boolean active);
     }
 }
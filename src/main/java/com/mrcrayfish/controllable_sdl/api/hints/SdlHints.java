@@ -2,6 +2,9 @@ package com.mrcrayfish.controllable_sdl.api.hints;
 
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -22,9 +25,15 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlHints {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlHints.class);
-    }
+    private static final NativeFunctionStats SET_HINT_WITH_PRIORITY = SdlMetrics.register("SDL_SetHintWithPriority", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_HINT = SdlMetrics.register("SDL_SetHint", NativeCallKind.CALL);
+    private static final NativeFunctionStats RESET_HINT = SdlMetrics.register("SDL_ResetHint", NativeCallKind.CALL);
+    private static final NativeFunctionStats RESET_HINTS = SdlMetrics.register("SDL_ResetHints", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_HINT = SdlMetrics.register("SDL_GetHint", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_HINT_BOOLEAN = SdlMetrics.register("SDL_GetHintBoolean", NativeCallKind.CALL);
+    private static final NativeFunctionStats ADD_HINT_CALLBACK = SdlMetrics.register("SDL_AddHintCallback", NativeCallKind.CALL);
+    private static final NativeFunctionStats DEL_HINT_CALLBACK = SdlMetrics.register("SDL_DelHintCallback", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLEAR_HINTS = SdlMetrics.register("SDL_ClearHints", NativeCallKind.CALL);
 
     private SdlHints() {
     }
@@ -44,10 +53,15 @@ public final class SdlHints {
      * @see #SDL_SetHint(String, String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_SetHintWithPriority(
+    public static boolean SDL_SetHintWithPriority(
             String name,
             String value,
-            @MagicConstant(valuesFromClass = SDL_HintPriority.class) int priority);
+            @MagicConstant(valuesFromClass = SDL_HintPriority.class) int priority) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_SetHintWithPriority(name, value, priority);
+        SdlMetrics.end(SET_HINT_WITH_PRIORITY, start);
+        return result;
+    }
 
     /**
      * Set a hint with normal priority.
@@ -63,9 +77,14 @@ public final class SdlHints {
      * @see #SDL_SetHintWithPriority(String, String, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_SetHint(
+    public static boolean SDL_SetHint(
             String name,
-            String value);
+            String value) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_SetHint(name, value);
+        SdlMetrics.end(SET_HINT, start);
+        return result;
+    }
 
     /**
      * Reset a hint to the default value.
@@ -80,8 +99,13 @@ public final class SdlHints {
      * @see #SDL_SetHint(String, String)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native boolean SDL_ResetHint(
-            String name);
+    public static boolean SDL_ResetHint(
+            String name) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_ResetHint(name);
+        SdlMetrics.end(RESET_HINT, start);
+        return result;
+    }
 
     /**
      * Reset all hints to the default values.
@@ -95,7 +119,11 @@ public final class SdlHints {
      * @see #SDL_ResetHint(String)
      * @since This function is available since SDL 2.26.0.
      */
-    public static native void SDL_ResetHints();
+    public static void SDL_ResetHints() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ResetHints();
+        SdlMetrics.end(RESET_HINTS, start);
+    }
 
     /**
      * Get the value of a hint.
@@ -106,8 +134,13 @@ public final class SdlHints {
      * @see #SDL_SetHintWithPriority(String, String, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetHint(
-            String name);
+    public static String SDL_GetHint(
+            String name) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetHint(name);
+        SdlMetrics.end(GET_HINT, start);
+        return result;
+    }
 
     /**
      * Get the boolean value of a hint variable.
@@ -120,9 +153,14 @@ public final class SdlHints {
      * @see #SDL_SetHint(String, String)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native boolean SDL_GetHintBoolean(
+    public static boolean SDL_GetHintBoolean(
             String name,
-            boolean defaultValue);
+            boolean defaultValue) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetHintBoolean(name, defaultValue);
+        SdlMetrics.end(GET_HINT_BOOLEAN, start);
+        return result;
+    }
 
     /**
      * Add a function to watch a particular hint.
@@ -134,10 +172,14 @@ public final class SdlHints {
      * @see #SDL_DelHintCallback(String, SDL_HintCallback, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_AddHintCallback(
+    public static void SDL_AddHintCallback(
             String name,
             SDL_HintCallback callback,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_AddHintCallback(name, callback, userdata);
+        SdlMetrics.end(ADD_HINT_CALLBACK, start);
+    }
 
     /**
      * Remove a function watching a particular hint.
@@ -149,10 +191,14 @@ public final class SdlHints {
      * @see #SDL_AddHintCallback(String, SDL_HintCallback, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DelHintCallback(
+    public static void SDL_DelHintCallback(
             String name,
             SDL_HintCallback callback,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DelHintCallback(name, callback, userdata);
+        SdlMetrics.end(DEL_HINT_CALLBACK, start);
+    }
 
     /**
      * Clear all hints.
@@ -167,5 +213,52 @@ public final class SdlHints {
      * @see #SDL_ResetHints()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_ClearHints();
+    public static void SDL_ClearHints() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ClearHints();
+        SdlMetrics.end(CLEAR_HINTS, start);
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native boolean SDL_SetHintWithPriority(
+                String name,
+                String value,
+                int priority);
+
+        public static native boolean SDL_SetHint(
+                String name,
+                String value);
+
+        public static native boolean SDL_ResetHint(
+                String name);
+
+        public static native void SDL_ResetHints();
+
+        public static native String SDL_GetHint(
+                String name);
+
+        public static native boolean SDL_GetHintBoolean(
+                String name,
+                boolean defaultValue);
+
+        public static native void SDL_AddHintCallback(
+                String name,
+                SDL_HintCallback callback,
+                Pointer userdata);
+
+        public static native void SDL_DelHintCallback(
+                String name,
+                SDL_HintCallback callback,
+                Pointer userdata);
+
+        public static native void SDL_ClearHints();
+    }
 }
@@ -5,7 +5,11 @@ import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.ShortByReference;
 import com.mrcrayfish.controllable_sdl.api.joystick.virtual.SDL_VirtualJoystickDesc;
+import com.mrcrayfish.controllable_sdl.jna.HotPath;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 
@@ -37,9 +41,64 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlJoystick {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlJoystick.class);
-    }
+    private static final NativeFunctionStats NUM_JOYSTICKS = SdlMetrics.register("SDL_NumJoysticks", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NAME_FOR_INDEX = SdlMetrics.register("SDL_JoystickNameForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NAME = SdlMetrics.register("SDL_JoystickName", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_AXIS = SdlMetrics.register("SDL_JoystickGetAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_BUTTON = SdlMetrics.register("SDL_JoystickGetButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_JOYSTICKS = SdlMetrics.register("SDL_LockJoysticks", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_JOYSTICKS = SdlMetrics.register("SDL_UnlockJoysticks", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_PATH_FOR_INDEX = SdlMetrics.register("SDL_JoystickPathForIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_PLAYER_INDEX = SdlMetrics.register("SDL_JoystickGetDevicePlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_GUID = SdlMetrics.register("SDL_JoystickGetDeviceGUID", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_VENDOR = SdlMetrics.register("SDL_JoystickGetDeviceVendor", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_PRODUCT = SdlMetrics.register("SDL_JoystickGetDeviceProduct", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_PRODUCT_VERSION = SdlMetrics.register("SDL_JoystickGetDeviceProductVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_TYPE = SdlMetrics.register("SDL_JoystickGetDeviceType", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_DEVICE_INSTANCE_ID = SdlMetrics.register("SDL_JoystickGetDeviceInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_OPEN = SdlMetrics.register("SDL_JoystickOpen", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_FROM_INSTANCE_ID = SdlMetrics.register("SDL_JoystickFromInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_FROM_PLAYER_INDEX = SdlMetrics.register("SDL_JoystickFromPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_ATTACH_VIRTUAL = SdlMetrics.register("SDL_JoystickAttachVirtual", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_ATTACH_VIRTUAL_EX = SdlMetrics.register("SDL_JoystickAttachVirtualEx", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_DETACH_VIRTUAL = SdlMetrics.register("SDL_JoystickDetachVirtual", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_IS_VIRTUAL = SdlMetrics.register("SDL_JoystickIsVirtual", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SET_VIRTUAL_AXIS = SdlMetrics.register("SDL_JoystickSetVirtualAxis", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SET_VIRTUAL_BUTTON = SdlMetrics.register("SDL_JoystickSetVirtualButton", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SET_VIRTUAL_HAT = SdlMetrics.register("SDL_JoystickSetVirtualHat", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_PATH = SdlMetrics.register("SDL_JoystickPath", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_PLAYER_INDEX = SdlMetrics.register("SDL_JoystickGetPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SET_PLAYER_INDEX = SdlMetrics.register("SDL_JoystickSetPlayerIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_GUID = SdlMetrics.register("SDL_JoystickGetGUID", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_VENDOR = SdlMetrics.register("SDL_JoystickGetVendor", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_PRODUCT = SdlMetrics.register("SDL_JoystickGetProduct", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_PRODUCT_VERSION = SdlMetrics.register("SDL_JoystickGetProductVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_FIRMWARE_VERSION = SdlMetrics.register("SDL_JoystickGetFirmwareVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_SERIAL = SdlMetrics.register("SDL_JoystickGetSerial", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_TYPE = SdlMetrics.register("SDL_JoystickGetType", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_GUID_FROM_STRING = SdlMetrics.register("SDL_JoystickGetGUIDFromString", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_JOYSTICK_GUID_INFO = SdlMetrics.register("SDL_GetJoystickGUIDInfo", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_ATTACHED = SdlMetrics.register("SDL_JoystickGetAttached", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_INSTANCE_ID = SdlMetrics.register("SDL_JoystickInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NUM_AXES = SdlMetrics.register("SDL_JoystickNumAxes", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NUM_BALLS = SdlMetrics.register("SDL_JoystickNumBalls", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NUM_HATS = SdlMetrics.register("SDL_JoystickNumHats", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_NUM_BUTTONS = SdlMetrics.register("SDL_JoystickNumButtons", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_UPDATE = SdlMetrics.register("SDL_JoystickUpdate", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_EVENT_STATE = SdlMetrics.register("SDL_JoystickEventState", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_AXIS_INITIAL_STATE = SdlMetrics.register("SDL_JoystickGetAxisInitialState", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_HAT = SdlMetrics.register("SDL_JoystickGetHat", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_BALL = SdlMetrics.register("SDL_JoystickGetBall", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_RUMBLE = SdlMetrics.register("SDL_JoystickRumble", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_RUMBLE_TRIGGERS = SdlMetrics.register("SDL_JoystickRumbleTriggers", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_HAS_LED = SdlMetrics.register("SDL_JoystickHasLED", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_HAS_RUMBLE = SdlMetrics.register("SDL_JoystickHasRumble", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_HAS_RUMBLE_TRIGGERS = SdlMetrics.register("SDL_JoystickHasRumbleTriggers", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SET_LED = SdlMetrics.register("SDL_JoystickSetLED", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_SEND_EFFECT = SdlMetrics.register("SDL_JoystickSendEffect", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_CLOSE = SdlMetrics.register("SDL_JoystickClose", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_CURRENT_POWER_LEVEL = SdlMetrics.register("SDL_JoystickCurrentPowerLevel", NativeCallKind.CALL);
+    private static final NativeFunctionStats JOYSTICK_GET_GUID_STRING = SdlMetrics.register("SDL_JoystickGetGUIDString", NativeCallKind.CALL);
 
     private SdlJoystick() {
     }
@@ -61,7 +120,11 @@ public final class SdlJoystick {
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native void SDL_LockJoysticks();
+    public static void SDL_LockJoysticks() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LockJoysticks();
+        SdlMetrics.end(LOCK_JOYSTICKS, start);
+    }
 
     /**
      * Unlocking for multi-threaded access to the joystick API
@@ -75,7 +138,11 @@ public final class SdlJoystick {
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native void SDL_UnlockJoysticks();
+    public static void SDL_UnlockJoysticks() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockJoysticks();
+        SdlMetrics.end(UNLOCK_JOYSTICKS, start);
+    }
 
     /**
      * Count the number of joysticks attached to the system.
@@ -87,7 +154,12 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_NumJoysticks();
+    public static int SDL_NumJoysticks() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_NumJoysticks();
+        SdlMetrics.end(NUM_JOYSTICKS, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name of a joystick.
@@ -102,8 +174,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_JoystickNameForIndex(
-            int deviceIndex);
+    public static String SDL_JoystickNameForIndex(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_JoystickNameForIndex(deviceIndex);
+        SdlMetrics.end(JOYSTICK_NAME_FOR_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent path of a joystick.
@@ -118,8 +195,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native String SDL_JoystickPathForIndex(
-            int deviceIndex);
+    public static String SDL_JoystickPathForIndex(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_JoystickPathForIndex(deviceIndex);
+        SdlMetrics.end(JOYSTICK_PATH_FOR_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the player index of a joystick, or -1 if it's not available This can be
@@ -127,8 +209,13 @@ public final class SdlJoystick {
      *
      * @since This function is available since SDL 2.0.9.
      */
-    public static native int SDL_JoystickGetDevicePlayerIndex(
-            int deviceIndex);
+    public static int SDL_JoystickGetDevicePlayerIndex(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickGetDevicePlayerIndex(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_PLAYER_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the implementation-dependent GUID for the joystick at a given device
@@ -144,8 +231,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickGetGUIDString(SDL_JoystickGUID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_JoystickGUID SDL_JoystickGetDeviceGUID(
-            int deviceIndex);
+    public static SDL_JoystickGUID SDL_JoystickGetDeviceGUID(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_JoystickGUID result = InternalNativeFunctions.SDL_JoystickGetDeviceGUID(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_GUID, start);
+        return result;
+    }
 
     /**
      * Get the USB vendor ID of a joystick, if available.
@@ -159,8 +251,13 @@ public final class SdlJoystick {
      * invalid index, this function returns zero
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetDeviceVendor(
-            int deviceIndex);
+    public static short SDL_JoystickGetDeviceVendor(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetDeviceVendor(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_VENDOR, start);
+        return result;
+    }
 
     /**
      * Get the USB product ID of a joystick, if available.
@@ -174,8 +271,13 @@ public final class SdlJoystick {
      * invalid index, this function returns zero
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetDeviceProduct(
-            int deviceIndex);
+    public static short SDL_JoystickGetDeviceProduct(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetDeviceProduct(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_PRODUCT, start);
+        return result;
+    }
 
     /**
      * Get the product version of a joystick, if available.
@@ -189,8 +291,13 @@ public final class SdlJoystick {
      * invalid index, this function returns zero
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetDeviceProductVersion(
-            int deviceIndex);
+    public static short SDL_JoystickGetDeviceProductVersion(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetDeviceProductVersion(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_PRODUCT_VERSION, start);
+        return result;
+    }
 
     /**
      * Get the type of a joystick, if available.
@@ -204,8 +311,13 @@ public final class SdlJoystick {
      * @since This function is available since SDL 2.0.6.
      */
     @MagicConstant(valuesFromClass = SDL_JoystickType.class)
-    public static native int SDL_JoystickGetDeviceType(
-            int deviceIndex);
+    public static int SDL_JoystickGetDeviceType(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickGetDeviceType(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the instance ID of a joystick.
@@ -218,8 +330,13 @@ public final class SdlJoystick {
      * index, this function returns -1
      * @since This function is available since SDL 2.0.6.
      */
-    public static native SDL_JoystickID SDL_JoystickGetDeviceInstanceID(
-            int deviceIndex);
+    public static SDL_JoystickID SDL_JoystickGetDeviceInstanceID(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_JoystickID result = InternalNativeFunctions.SDL_JoystickGetDeviceInstanceID(deviceIndex);
+        SdlMetrics.end(JOYSTICK_GET_DEVICE_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Open a joystick for use.
@@ -239,8 +356,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickInstanceID(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Joystick SDL_JoystickOpen(
-            int deviceIndex);
+    public static SDL_Joystick SDL_JoystickOpen(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_Joystick result = InternalNativeFunctions.SDL_JoystickOpen(deviceIndex);
+        SdlMetrics.end(JOYSTICK_OPEN, start);
+        return result;
+    }
 
     /**
      * Get the SDL_Joystick associated with an instance id.
@@ -250,8 +372,13 @@ public final class SdlJoystick {
      * for more information.
      * @since This function is available since SDL 2.0.4.
      */
-    public static native SDL_Joystick SDL_JoystickFromInstanceID(
-            SDL_JoystickID instanceId);
+    public static SDL_Joystick SDL_JoystickFromInstanceID(
+            SDL_JoystickID instanceId) {
+        long start = SdlMetrics.begin();
+        SDL_Joystick result = InternalNativeFunctions.SDL_JoystickFromInstanceID(instanceId);
+        SdlMetrics.end(JOYSTICK_FROM_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Get the SDL_Joystick associated with a player index.
@@ -261,8 +388,13 @@ public final class SdlJoystick {
      * for more information.
      * @since This function is available since SDL 2.0.12.
      */
-    public static native SDL_Joystick SDL_JoystickFromPlayerIndex(
-            int playerIndex);
+    public static SDL_Joystick SDL_JoystickFromPlayerIndex(
+            int playerIndex) {
+        long start = SdlMetrics.begin();
+        SDL_Joystick result = InternalNativeFunctions.SDL_JoystickFromPlayerIndex(playerIndex);
+        SdlMetrics.end(JOYSTICK_FROM_PLAYER_INDEX, start);
+        return result;
+    }
 
     /**
      * Attach a new virtual joystick.
@@ -270,11 +402,16 @@ public final class SdlJoystick {
      * @return the joystick's device index, or -1 if an error occurred.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickAttachVirtual(
+    public static int SDL_JoystickAttachVirtual(
             @MagicConstant(valuesFromClass = SDL_JoystickType.class) int type,
             int naxes,
             int nbuttons,
-            int nhats);
+            int nhats) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickAttachVirtual(type, naxes, nbuttons, nhats);
+        SdlMetrics.end(JOYSTICK_ATTACH_VIRTUAL, start);
+        return result;
+    }
 
     /**
      * Attach a new virtual joystick with extended properties.
@@ -282,8 +419,13 @@ public final class SdlJoystick {
      * @return the joystick's device index, or -1 if an error occurred.
      * @since This function is available since SDL 2.24.0.
      */
-    public static native int SDL_JoystickAttachVirtualEx(
-            SDL_VirtualJoystickDesc desc);
+    public static int SDL_JoystickAttachVirtualEx(
+            SDL_VirtualJoystickDesc desc) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickAttachVirtualEx(desc);
+        SdlMetrics.end(JOYSTICK_ATTACH_VIRTUAL_EX, start);
+        return result;
+    }
 
     /**
      * Detach a virtual joystick.
@@ -293,8 +435,13 @@ public final class SdlJoystick {
      * @return 0 on success, or -1 if an error occurred.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickDetachVirtual(
-            int deviceIndex);
+    public static int SDL_JoystickDetachVirtual(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickDetachVirtual(deviceIndex);
+        SdlMetrics.end(JOYSTICK_DETACH_VIRTUAL, start);
+        return result;
+    }
 
     /**
      * Query whether or not the joystick at a given device index is virtual.
@@ -303,8 +450,13 @@ public final class SdlJoystick {
      * @return true if the joystick is virtual, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_JoystickIsVirtual(
-            int deviceIndex);
+    public static boolean SDL_JoystickIsVirtual(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickIsVirtual(deviceIndex);
+        SdlMetrics.end(JOYSTICK_IS_VIRTUAL, start);
+        return result;
+    }
 
     /**
      * Set values on an opened, virtual-joystick's axis.
@@ -325,10 +477,15 @@ public final class SdlJoystick {
      * @return 0 on success, -1 on error.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickSetVirtualAxis(
+    public static int SDL_JoystickSetVirtualAxis(
             SDL_Joystick joystick,
             int axis,
-            short value);
+            short value) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickSetVirtualAxis(joystick, axis, value);
+        SdlMetrics.end(JOYSTICK_SET_VIRTUAL_AXIS, start);
+        return result;
+    }
 
     /**
      * Set values on an opened, virtual-joystick's button.
@@ -345,10 +502,15 @@ public final class SdlJoystick {
      * @return 0 on success, -1 on error.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickSetVirtualButton(
+    public static int SDL_JoystickSetVirtualButton(
             SDL_Joystick joystick,
             int button,
-            byte value);
+            byte value) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickSetVirtualButton(joystick, button, value);
+        SdlMetrics.end(JOYSTICK_SET_VIRTUAL_BUTTON, start);
+        return result;
+    }
 
     /**
      * Set values on an opened, virtual-joystick's hat.
@@ -365,10 +527,15 @@ public final class SdlJoystick {
      * @return 0 on success, -1 on error.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickSetVirtualHat(
+    public static int SDL_JoystickSetVirtualHat(
             SDL_Joystick joystick,
             int hat,
-            byte value);
+            byte value) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickSetVirtualHat(joystick, hat, value);
+        SdlMetrics.end(JOYSTICK_SET_VIRTUAL_HAT, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name of a joystick.
@@ -380,8 +547,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_JoystickName(
-            SDL_Joystick joystick);
+    public static String SDL_JoystickName(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_JoystickName(joystick);
+        SdlMetrics.end(JOYSTICK_NAME, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent path of a joystick.
@@ -392,8 +564,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickPathForIndex(int)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native String SDL_JoystickPath(
-            SDL_Joystick joystick);
+    public static String SDL_JoystickPath(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_JoystickPath(joystick);
+        SdlMetrics.end(JOYSTICK_PATH, start);
+        return result;
+    }
 
     /**
      * Get the player index of an opened joystick.
@@ -405,8 +582,13 @@ public final class SdlJoystick {
      * @return the player index, or -1 if it's not available.
      * @since This function is available since SDL 2.0.9.
      */
-    public static native int SDL_JoystickGetPlayerIndex(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickGetPlayerIndex(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickGetPlayerIndex(joystick);
+        SdlMetrics.end(JOYSTICK_GET_PLAYER_INDEX, start);
+        return result;
+    }
 
     /**
      * Set the player index of an opened joystick.
@@ -416,9 +598,13 @@ public final class SdlJoystick {
      *                    the player index and turn off player LEDs.
      * @since This function is available since SDL 2.0.12.
      */
-    public static native void SDL_JoystickSetPlayerIndex(
+    public static void SDL_JoystickSetPlayerIndex(
             SDL_Joystick joystick,
-            int playerIndex);
+            int playerIndex) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_JoystickSetPlayerIndex(joystick, playerIndex);
+        SdlMetrics.end(JOYSTICK_SET_PLAYER_INDEX, start);
+    }
 
     /**
      * Get the implementation-dependent GUID for the joystick.
@@ -433,8 +619,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickGetGUIDString(SDL_JoystickGUID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_JoystickGUID SDL_JoystickGetGUID(
-            SDL_Joystick joystick);
+    public static SDL_JoystickGUID SDL_JoystickGetGUID(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        SDL_JoystickGUID result = InternalNativeFunctions.SDL_JoystickGetGUID(joystick);
+        SdlMetrics.end(JOYSTICK_GET_GUID, start);
+        return result;
+    }
 
     /**
      * Get the USB vendor ID of an opened joystick, if available.
@@ -445,8 +636,13 @@ public final class SdlJoystick {
      * @return the USB vendor ID of the selected joystick, or 0 if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetVendor(
-            SDL_Joystick joystick);
+    public static short SDL_JoystickGetVendor(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetVendor(joystick);
+        SdlMetrics.end(JOYSTICK_GET_VENDOR, start);
+        return result;
+    }
 
     /**
      * Get the USB product ID of an opened joystick, if available.
@@ -457,8 +653,13 @@ public final class SdlJoystick {
      * @return the USB product ID of the selected joystick, or 0 if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetProduct(
-            SDL_Joystick joystick);
+    public static short SDL_JoystickGetProduct(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetProduct(joystick);
+        SdlMetrics.end(JOYSTICK_GET_PRODUCT, start);
+        return result;
+    }
 
     /**
      * Get the product version of an opened joystick, if available.
@@ -469,8 +670,13 @@ public final class SdlJoystick {
      * @return the product version of the selected joystick, or 0 if unavailable.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native short SDL_JoystickGetProductVersion(
-            SDL_Joystick joystick);
+    public static short SDL_JoystickGetProductVersion(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetProductVersion(joystick);
+        SdlMetrics.end(JOYSTICK_GET_PRODUCT_VERSION, start);
+        return result;
+    }
 
     /**
      * Get the firmware version of an opened joystick, if available.
@@ -482,8 +688,13 @@ public final class SdlJoystick {
      * unavailable.
      * @since This function is available since SDL 2.24.0.
      */
-    public static native short SDL_JoystickGetFirmwareVersion(
-            SDL_Joystick joystick);
+    public static short SDL_JoystickGetFirmwareVersion(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetFirmwareVersion(joystick);
+        SdlMetrics.end(JOYSTICK_GET_FIRMWARE_VERSION, start);
+        return result;
+    }
 
     /**
      * Get the serial number of an opened joystick, if available.
@@ -495,8 +706,13 @@ public final class SdlJoystick {
      * unavailable.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native String SDL_JoystickGetSerial(
-            SDL_Joystick joystick);
+    public static String SDL_JoystickGetSerial(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_JoystickGetSerial(joystick);
+        SdlMetrics.end(JOYSTICK_GET_SERIAL, start);
+        return result;
+    }
 
     /**
      * Get the type of an opened joystick.
@@ -506,8 +722,13 @@ public final class SdlJoystick {
      * @since This function is available since SDL 2.0.6.
      */
     @MagicConstant(valuesFromClass = SDL_JoystickType.class)
-    public static native int SDL_JoystickGetType(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickGetType(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickGetType(joystick);
+        SdlMetrics.end(JOYSTICK_GET_TYPE, start);
+        return result;
+    }
 
     /**
      * Get an ASCII string representation for a given SDL_JoystickGUID.
@@ -521,7 +742,9 @@ public final class SdlJoystick {
     public static String SDL_JoystickGetGUIDString(
             SDL_JoystickGUID guid) {
         try (Memory textBuffer = new Memory(33L)) {
+            long start = SdlMetrics.begin();
             InternalNativeFunctions.SDL_JoystickGetGUIDString(guid, textBuffer, (int) textBuffer.size());
+            SdlMetrics.end(JOYSTICK_GET_GUID_STRING, start);
             return textBuffer.getString(0L, "US_ASCII");
         }
     }
@@ -538,8 +761,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickGetGUIDString(SDL_JoystickGUID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_JoystickGUID SDL_JoystickGetGUIDFromString(
-            String pchGUID);
+    public static SDL_JoystickGUID SDL_JoystickGetGUIDFromString(
+            String pchGUID) {
+        long start = SdlMetrics.begin();
+        SDL_JoystickGUID result = InternalNativeFunctions.SDL_JoystickGetGUIDFromString(pchGUID);
+        SdlMetrics.end(JOYSTICK_GET_GUID_FROM_STRING, start);
+        return result;
+    }
 
     /**
      * Get the device information encoded in a SDL_JoystickGUID structure
@@ -556,12 +784,16 @@ public final class SdlJoystick {
      * @see #SDL_JoystickGetDeviceGUID(int)
      * @since This function is available since SDL 2.26.0.
      */
-    public static native void SDL_GetJoystickGUIDInfo(
+    public static void SDL_GetJoystickGUIDInfo(
             SDL_JoystickGUID guid,
             ShortByReference vendor,
             ShortByReference product,
             ShortByReference version,
-            ShortByReference crc16);
+            ShortByReference crc16) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetJoystickGUIDInfo(guid, vendor, product, version, crc16);
+        SdlMetrics.end(GET_JOYSTICK_GUID_INFO, start);
+    }
 
     /**
      * Get the status of a specified joystick.
@@ -573,8 +805,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_JoystickGetAttached(
-            SDL_Joystick joystick);
+    public static boolean SDL_JoystickGetAttached(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickGetAttached(joystick);
+        SdlMetrics.end(JOYSTICK_GET_ATTACHED, start);
+        return result;
+    }
 
     /**
      * Get the instance ID of an opened joystick.
@@ -585,8 +822,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_JoystickID SDL_JoystickInstanceID(
-            SDL_Joystick joystick);
+    public static SDL_JoystickID SDL_JoystickInstanceID(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        SDL_JoystickID result = InternalNativeFunctions.SDL_JoystickInstanceID(joystick);
+        SdlMetrics.end(JOYSTICK_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Get the number of general axis controls on a joystick.
@@ -603,8 +845,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickNumAxes(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickNumAxes(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickNumAxes(joystick);
+        SdlMetrics.end(JOYSTICK_NUM_AXES, start);
+        return result;
+    }
 
     /**
      * Get the number of trackballs on a joystick.
@@ -620,8 +867,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickGetBall(SDL_Joystick, int, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickNumBalls(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickNumBalls(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickNumBalls(joystick);
+        SdlMetrics.end(JOYSTICK_NUM_BALLS, start);
+        return result;
+    }
 
     /**
      * Get the number of POV hats on a joystick.
@@ -633,8 +885,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickNumHats(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickNumHats(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickNumHats(joystick);
+        SdlMetrics.end(JOYSTICK_NUM_HATS, start);
+        return result;
+    }
 
     /**
      * Get the number of buttons on a joystick.
@@ -646,8 +903,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickNumButtons(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickNumButtons(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickNumButtons(joystick);
+        SdlMetrics.end(JOYSTICK_NUM_BUTTONS, start);
+        return result;
+    }
 
     /**
      * Update the current state of the open joysticks.
@@ -658,7 +920,11 @@ public final class SdlJoystick {
      * @see #SDL_JoystickEventState(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_JoystickUpdate();
+    public static void SDL_JoystickUpdate() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_JoystickUpdate();
+        SdlMetrics.end(JOYSTICK_UPDATE, start);
+    }
 
     /**
      * Enable/disable joystick event polling.
@@ -681,8 +947,13 @@ public final class SdlJoystick {
      * @see com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerEventState(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickEventState(
-            int state);
+    public static int SDL_JoystickEventState(
+            int state) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickEventState(state);
+        SdlMetrics.end(JOYSTICK_EVENT_STATE, start);
+        return result;
+    }
 
     /**
      * Get the current state of an axis control on a joystick.
@@ -704,9 +975,14 @@ public final class SdlJoystick {
      * @see #SDL_JoystickNumAxes(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native short SDL_JoystickGetAxis(
+    public static short SDL_JoystickGetAxis(
             SDL_Joystick joystick,
-            int axis);
+            int axis) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_JoystickGetAxis(joystick, axis);
+        SdlMetrics.end(JOYSTICK_GET_AXIS, start);
+        return result;
+    }
 
     /**
      * Get the initial state of an axis control on a joystick.
@@ -721,10 +997,15 @@ public final class SdlJoystick {
      * @return true if this axis has any initial value, or false if not.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native boolean SDL_JoystickGetAxisInitialState(
+    public static boolean SDL_JoystickGetAxisInitialState(
             SDL_Joystick joystick,
             int axis,
-            ShortByReference state);
+            ShortByReference state) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickGetAxisInitialState(joystick, axis, state);
+        SdlMetrics.end(JOYSTICK_GET_AXIS_INITIAL_STATE, start);
+        return result;
+    }
 
     /**
      * Get the current state of a POV hat on a joystick.
@@ -747,9 +1028,14 @@ public final class SdlJoystick {
      * @see #SDL_JoystickNumHats(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native byte SDL_JoystickGetHat(
+    public static byte SDL_JoystickGetHat(
             SDL_Joystick joystick,
-            int hat);
+            int hat) {
+        long start = SdlMetrics.begin();
+        byte result = InternalNativeFunctions.SDL_JoystickGetHat(joystick, hat);
+        SdlMetrics.end(JOYSTICK_GET_HAT, start);
+        return result;
+    }
 
     /**
      * Get the ball axis change since the last poll.
@@ -768,11 +1054,16 @@ public final class SdlJoystick {
      * @see #SDL_JoystickNumBalls(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_JoystickGetBall(
+    public static int SDL_JoystickGetBall(
             SDL_Joystick joystick,
             int ball,
             IntByReference dx,
-            IntByReference dy);
+            IntByReference dy) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickGetBall(joystick, ball, dx, dy);
+        SdlMetrics.end(JOYSTICK_GET_BALL, start);
+        return result;
+    }
 
     /**
      * Get the current state of a button on a joystick.
@@ -784,9 +1075,14 @@ public final class SdlJoystick {
      * @see #SDL_JoystickNumButtons(SDL_Joystick)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native byte SDL_JoystickGetButton(
+    public static byte SDL_JoystickGetButton(
             SDL_Joystick joystick,
-            int button);
+            int button) {
+        long start = SdlMetrics.begin();
+        byte result = HotPath.SDL_JoystickGetButton(joystick, button);
+        SdlMetrics.end(JOYSTICK_GET_BUTTON, start);
+        return result;
+    }
 
     /**
      * Start a rumble effect.
@@ -804,11 +1100,16 @@ public final class SdlJoystick {
      * @see #SDL_JoystickHasRumble(SDL_Joystick)
      * @since This function is available since SDL 2.0.9.
      */
-    public static native int SDL_JoystickRumble(
+    public static int SDL_JoystickRumble(
             SDL_Joystick joystick,
             short lowFrequencyRumble,
             short highFrequencyRumble,
-            int durationMs);
+            int durationMs) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickRumble(joystick, lowFrequencyRumble, highFrequencyRumble, durationMs);
+        SdlMetrics.end(JOYSTICK_RUMBLE, start);
+        return result;
+    }
 
     /**
      * Start a rumble effect in the joystick's triggers
@@ -831,11 +1132,16 @@ public final class SdlJoystick {
      * @see #SDL_JoystickHasRumbleTriggers(SDL_Joystick)
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickRumbleTriggers(
+    public static int SDL_JoystickRumbleTriggers(
             SDL_Joystick joystick,
             short leftRumble,
             short rightRumble,
-            int durationMs);
+            int durationMs) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickRumbleTriggers(joystick, leftRumble, rightRumble, durationMs);
+        SdlMetrics.end(JOYSTICK_RUMBLE_TRIGGERS, start);
+        return result;
+    }
 
     /**
      * Query whether a joystick has an LED.
@@ -847,8 +1153,13 @@ public final class SdlJoystick {
      * @return true if the joystick has a modifiable LED, false otherwise.
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_JoystickHasLED(
-            SDL_Joystick joystick);
+    public static boolean SDL_JoystickHasLED(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickHasLED(joystick);
+        SdlMetrics.end(JOYSTICK_HAS_LED, start);
+        return result;
+    }
 
     /**
      * Query whether a joystick has rumble support.
@@ -858,8 +1169,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickRumble(SDL_Joystick, short, short, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native boolean SDL_JoystickHasRumble(
-            SDL_Joystick joystick);
+    public static boolean SDL_JoystickHasRumble(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickHasRumble(joystick);
+        SdlMetrics.end(JOYSTICK_HAS_RUMBLE, start);
+        return result;
+    }
 
     /**
      * Query whether a joystick has rumble support on triggers.
@@ -869,8 +1185,13 @@ public final class SdlJoystick {
      * @see #SDL_JoystickRumbleTriggers(SDL_Joystick, short, short, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native boolean SDL_JoystickHasRumbleTriggers(
-            SDL_Joystick joystick);
+    public static boolean SDL_JoystickHasRumbleTriggers(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_JoystickHasRumbleTriggers(joystick);
+        SdlMetrics.end(JOYSTICK_HAS_RUMBLE_TRIGGERS, start);
+        return result;
+    }
 
     /**
      * Update a joystick's LED color.
@@ -885,11 +1206,16 @@ public final class SdlJoystick {
      * @return 0 on success, -1 if this joystick does not have a modifiable LED
      * @since This function is available since SDL 2.0.14.
      */
-    public static native int SDL_JoystickSetLED(
+    public static int SDL_JoystickSetLED(
             SDL_Joystick joystick,
             byte red,
             byte green,
-            byte blue);
+            byte blue) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickSetLED(joystick, red, green, blue);
+        SdlMetrics.end(JOYSTICK_SET_LED, start);
+        return result;
+    }
 
     /**
      * Send a joystick specific effect packet
@@ -900,10 +1226,15 @@ public final class SdlJoystick {
      * @return 0, or -1 if this joystick or driver doesn't support effect packets
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_JoystickSendEffect(
+    public static int SDL_JoystickSendEffect(
             SDL_Joystick joystick,
             Pointer data,
-            int size);
+            int size) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickSendEffect(joystick, data, size);
+        SdlMetrics.end(JOYSTICK_SEND_EFFECT, start);
+        return result;
+    }
 
     /**
      * Close a joystick previously opened with SDL_JoystickOpen().
@@ -912,8 +1243,12 @@ public final class SdlJoystick {
      * @see #SDL_JoystickOpen(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_JoystickClose(
-            SDL_Joystick joystick);
+    public static void SDL_JoystickClose(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_JoystickClose(joystick);
+        SdlMetrics.end(JOYSTICK_CLOSE, start);
+    }
 
     /**
      * Get the battery level of a joystick as SDL_JoystickPowerLevel.
@@ -924,8 +1259,13 @@ public final class SdlJoystick {
      * @since This function is available since SDL 2.0.4.
      */
     @MagicConstant(valuesFromClass = SDL_JoystickPowerLevel.class)
-    public static native int SDL_JoystickCurrentPowerLevel(
-            SDL_Joystick joystick);
+    public static int SDL_JoystickCurrentPowerLevel(
+            SDL_Joystick joystick) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_JoystickCurrentPowerLevel(joystick);
+        SdlMetrics.end(JOYSTICK_CURRENT_POWER_LEVEL, start);
+        return result;
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -936,9 +1276,205 @@ public final class SdlJoystick {
         private InternalNativeFunctions() {
         }
 
+        public static native int SDL_NumJoysticks();
+
+        public static native String SDL_JoystickNameForIndex(
+                int deviceIndex);
+
+        public static native String SDL_JoystickName(
+                SDL_Joystick joystick);
+
+        public static native short SDL_JoystickGetAxis(
+                SDL_Joystick joystick,
+                int axis);
+
         public static native void SDL_JoystickGetGUIDString(
                 SDL_JoystickGUID guid,
                 Pointer pszGUID,
                 int cbGUID);
+
+        public static native void SDL_LockJoysticks();
+
+        public static native void SDL_UnlockJoysticks();
+
+        public static native String SDL_JoystickPathForIndex(
+                int deviceIndex);
+
+        public static native int SDL_JoystickGetDevicePlayerIndex(
+                int deviceIndex);
+
+        public static native SDL_JoystickGUID SDL_JoystickGetDeviceGUID(
+                int deviceIndex);
+
+        public static native short SDL_JoystickGetDeviceVendor(
+                int deviceIndex);
+
+        public static native short SDL_JoystickGetDeviceProduct(
+                int deviceIndex);
+
+        public static native short SDL_JoystickGetDeviceProductVersion(
+                int deviceIndex);
+
+        public static native int SDL_JoystickGetDeviceType(
+                int deviceIndex);
+
+        public static native SDL_JoystickID SDL_JoystickGetDeviceInstanceID(
+                int deviceIndex);
+
+        public static native SDL_Joystick SDL_JoystickOpen(
+                int deviceIndex);
+
+        public static native SDL_Joystick SDL_JoystickFromInstanceID(
+                SDL_JoystickID instanceId);
+
+        public static native SDL_Joystick SDL_JoystickFromPlayerIndex(
+                int playerIndex);
+
+        public static native int SDL_JoystickAttachVirtual(
+                int type,
+                int naxes,
+                int nbuttons,
+                int nhats);
+
+        public static native int SDL_JoystickAttachVirtualEx(
+                SDL_VirtualJoystickDesc desc);
+
+        public static native int SDL_JoystickDetachVirtual(
+                int deviceIndex);
+
+        public static native boolean SDL_JoystickIsVirtual(
+                int deviceIndex);
+
+        public static native int SDL_JoystickSetVirtualAxis(
+                SDL_Joystick joystick,
+                int axis,
+                short value);
+
+        public static native int SDL_JoystickSetVirtualButton(
+                SDL_Joystick joystick,
+                int button,
+                byte value);
+
+        public static native int SDL_JoystickSetVirtualHat(
+                SDL_Joystick joystick,
+                int hat,
+                byte value);
+
+        public static native String SDL_JoystickPath(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickGetPlayerIndex(
+                SDL_Joystick joystick);
+
+        public static native void SDL_JoystickSetPlayerIndex(
+                SDL_Joystick joystick,
+                int playerIndex);
+
+        public static native SDL_JoystickGUID SDL_JoystickGetGUID(
+                SDL_Joystick joystick);
+
+        public static native short SDL_JoystickGetVendor(
+                SDL_Joystick joystick);
+
+        public static native short SDL_JoystickGetProduct(
+                SDL_Joystick joystick);
+
+        public static native short SDL_JoystickGetProductVersion(
+                SDL_Joystick joystick);
+
+        public static native short SDL_JoystickGetFirmwareVersion(
+                SDL_Joystick joystick);
+
+        public static native String SDL_JoystickGetSerial(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickGetType(
+                SDL_Joystick joystick);
+
+        public static native SDL_JoystickGUID SDL_JoystickGetGUIDFromString(
+                String pchGUID);
+
+        public static native void SDL_GetJoystickGUIDInfo(
+                SDL_JoystickGUID guid,
+                ShortByReference vendor,
+                ShortByReference product,
+                ShortByReference version,
+                ShortByReference crc16);
+
+        public static native boolean SDL_JoystickGetAttached(
+                SDL_Joystick joystick);
+
+        public static native SDL_JoystickID SDL_JoystickInstanceID(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickNumAxes(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickNumBalls(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickNumHats(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickNumButtons(
+                SDL_Joystick joystick);
+
+        public static native void SDL_JoystickUpdate();
+
+        public static native int SDL_JoystickEventState(
+                int state);
+
+        public static native boolean SDL_JoystickGetAxisInitialState(
+                SDL_Joystick joystick,
+                int axis,
+                ShortByReference state);
+
+        public static native byte SDL_JoystickGetHat(
+                SDL_Joystick joystick,
+                int hat);
+
+        public static native int SDL_JoystickGetBall(
+                SDL_Joystick joystick,
+                int ball,
+                IntByReference dx,
+                IntByReference dy);
+
+        public static native int SDL_JoystickRumble(
+                SDL_Joystick joystick,
+                short lowFrequencyRumble,
+                short highFrequencyRumble,
+                int durationMs);
+
+        public static native int SDL_JoystickRumbleTriggers(
+                SDL_Joystick joystick,
+                short leftRumble,
+                short rightRumble,
+                int durationMs);
+
+        public static native boolean SDL_JoystickHasLED(
+                SDL_Joystick joystick);
+
+        public static native boolean SDL_JoystickHasRumble(
+                SDL_Joystick joystick);
+
+        public static native boolean SDL_JoystickHasRumbleTriggers(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickSetLED(
+                SDL_Joystick joystick,
+                byte red,
+                byte green,
+                byte blue);
+
+        public static native int SDL_JoystickSendEffect(
+                SDL_Joystick joystick,
+                Pointer data,
+                int size);
+
+        public static native void SDL_JoystickClose(
+                SDL_Joystick joystick);
+
+        public static native int SDL_JoystickCurrentPowerLevel(
+                SDL_Joystick joystick);
     }
 }
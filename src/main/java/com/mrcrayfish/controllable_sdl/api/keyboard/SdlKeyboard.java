@@ -8,6 +8,9 @@ import com.mrcrayfish.controllable_sdl.api.rect.SDL_Rect;
 import com.mrcrayfish.controllable_sdl.api.scancode.SDL_Scancode;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -17,9 +20,25 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlKeyboard {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlKeyboard.class);
-    }
+    private static final NativeFunctionStats GET_KEYBOARD_FOCUS = SdlMetrics.register("SDL_GetKeyboardFocus", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_KEYBOARD_STATE = SdlMetrics.register("SDL_GetKeyboardState", NativeCallKind.CALL);
+    private static final NativeFunctionStats RESET_KEYBOARD = SdlMetrics.register("SDL_ResetKeyboard", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_MOD_STATE = SdlMetrics.register("SDL_GetModState", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_MOD_STATE = SdlMetrics.register("SDL_SetModState", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_KEY_FROM_SCANCODE = SdlMetrics.register("SDL_GetKeyFromScancode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SCANCODE_FROM_KEY = SdlMetrics.register("SDL_GetScancodeFromKey", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SCANCODE_NAME = SdlMetrics.register("SDL_GetScancodeName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SCANCODE_FROM_NAME = SdlMetrics.register("SDL_GetScancodeFromName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_KEY_NAME = SdlMetrics.register("SDL_GetKeyName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_KEY_FROM_NAME = SdlMetrics.register("SDL_GetKeyFromName", NativeCallKind.CALL);
+    private static final NativeFunctionStats START_TEXT_INPUT = SdlMetrics.register("SDL_StartTextInput", NativeCallKind.CALL);
+    private static final NativeFunctionStats IS_TEXT_INPUT_ACTIVE = SdlMetrics.register("SDL_IsTextInputActive", NativeCallKind.CALL);
+    private static final NativeFunctionStats STOP_TEXT_INPUT = SdlMetrics.register("SDL_StopTextInput", NativeCallKind.CALL);
+    private static final NativeFunctionStats CLEAR_COMPOSITION = SdlMetrics.register("SDL_ClearComposition", NativeCallKind.CALL);
+    private static final NativeFunctionStats IS_TEXT_INPUT_SHOWN = SdlMetrics.register("SDL_IsTextInputShown", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXT_INPUT_RECT = SdlMetrics.register("SDL_SetTextInputRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_SCREEN_KEYBOARD_SUPPORT = SdlMetrics.register("SDL_HasScreenKeyboardSupport", NativeCallKind.CALL);
+    private static final NativeFunctionStats IS_SCREEN_KEYBOARD_SHOWN = SdlMetrics.register("SDL_IsScreenKeyboardShown", NativeCallKind.CALL);
 
     private SdlKeyboard() {
     }
@@ -30,7 +49,12 @@ public final class SdlKeyboard {
      * @return the window with keyboard focus.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_GetKeyboardFocus();
+    public static SDL_Window SDL_GetKeyboardFocus() {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_GetKeyboardFocus();
+        SdlMetrics.end(GET_KEYBOARD_FOCUS, start);
+        return result;
+    }
 
     /**
      * Get a snapshot of the current state of the keyboard.
@@ -60,8 +84,13 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     // TODO: Test and make more Java friendly. i.e. introduce a new Java class encapsulating the returned byte array
-    public static native Pointer SDL_GetKeyboardState(
-            IntByReference numkeys);
+    public static Pointer SDL_GetKeyboardState(
+            IntByReference numkeys) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GetKeyboardState(numkeys);
+        SdlMetrics.end(GET_KEYBOARD_STATE, start);
+        return result;
+    }
 
     /**
      * Clear the state of the keyboard
@@ -71,7 +100,11 @@ public final class SdlKeyboard {
      * @see #SDL_GetKeyboardState(IntByReference)
      * @since This function is available since SDL 2.24.0.
      */
-    public static native void SDL_ResetKeyboard();
+    public static void SDL_ResetKeyboard() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ResetKeyboard();
+        SdlMetrics.end(RESET_KEYBOARD, start);
+    }
 
     /**
      * Get the current key modifier state for the keyboard.
@@ -83,7 +116,12 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_Keymod.class)
-    public static native int SDL_GetModState();
+    public static int SDL_GetModState() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetModState();
+        SdlMetrics.end(GET_MOD_STATE, start);
+        return result;
+    }
 
     /**
      * Set the current key modifier state for the keyboard.
@@ -100,8 +138,12 @@ public final class SdlKeyboard {
      * @see #SDL_GetModState()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetModState(
-            @MagicConstant(valuesFromClass = SDL_Keymod.class) int modstate);
+    public static void SDL_SetModState(
+            @MagicConstant(valuesFromClass = SDL_Keymod.class) int modstate) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetModState(modstate);
+        SdlMetrics.end(SET_MOD_STATE, start);
+    }
 
     /**
      * Get the key code corresponding to the given scancode according to the
@@ -116,8 +158,13 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_Keycode.class)
-    public static native int SDL_GetKeyFromScancode(
-            @MagicConstant(valuesFromClass = SDL_Scancode.class) int scancode);
+    public static int SDL_GetKeyFromScancode(
+            @MagicConstant(valuesFromClass = SDL_Scancode.class) int scancode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetKeyFromScancode(scancode);
+        SdlMetrics.end(GET_KEY_FROM_SCANCODE, start);
+        return result;
+    }
 
     /**
      * Get the scancode corresponding to the given key code according to the
@@ -132,8 +179,13 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_Scancode.class)
-    public static native int SDL_GetScancodeFromKey(
-            @MagicConstant(valuesFromClass = SDL_Keycode.class) int key);
+    public static int SDL_GetScancodeFromKey(
+            @MagicConstant(valuesFromClass = SDL_Keycode.class) int key) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetScancodeFromKey(key);
+        SdlMetrics.end(GET_SCANCODE_FROM_KEY, start);
+        return result;
+    }
 
     /**
      * Get a human-readable name for a scancode.
@@ -156,8 +208,13 @@ public final class SdlKeyboard {
      * @see #SDL_GetScancodeFromName(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetScancodeName(
-            @MagicConstant(valuesFromClass = SDL_Scancode.class) int scancode);
+    public static String SDL_GetScancodeName(
+            @MagicConstant(valuesFromClass = SDL_Scancode.class) int scancode) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetScancodeName(scancode);
+        SdlMetrics.end(GET_SCANCODE_NAME, start);
+        return result;
+    }
 
     /**
      * Get a scancode from a human-readable name.
@@ -171,8 +228,13 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_Scancode.class)
-    public static native int SDL_GetScancodeFromName(
-            String name);
+    public static int SDL_GetScancodeFromName(
+            String name) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetScancodeFromName(name);
+        SdlMetrics.end(GET_SCANCODE_FROM_NAME, start);
+        return result;
+    }
 
     /**
      * Get a human-readable name for a key.
@@ -189,8 +251,13 @@ public final class SdlKeyboard {
      * @see #SDL_GetScancodeFromKey(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetKeyName(
-            @MagicConstant(valuesFromClass = SDL_Keycode.class) int key);
+    public static String SDL_GetKeyName(
+            @MagicConstant(valuesFromClass = SDL_Keycode.class) int key) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetKeyName(key);
+        SdlMetrics.end(GET_KEY_NAME, start);
+        return result;
+    }
 
     /**
      * Get a key code from a human-readable name.
@@ -204,8 +271,13 @@ public final class SdlKeyboard {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_Keycode.class)
-    public static native int SDL_GetKeyFromName(
-            String name);
+    public static int SDL_GetKeyFromName(
+            String name) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetKeyFromName(name);
+        SdlMetrics.end(GET_KEY_FROM_NAME, start);
+        return result;
+    }
 
     /**
      * Start accepting Unicode text input events.
@@ -221,7 +293,11 @@ public final class SdlKeyboard {
      * @see #SDL_StopTextInput()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_StartTextInput();
+    public static void SDL_StartTextInput() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_StartTextInput();
+        SdlMetrics.end(START_TEXT_INPUT, start);
+    }
 
     /**
      * Check whether or not Unicode text input events are enabled.
@@ -230,7 +306,12 @@ public final class SdlKeyboard {
      * @see #SDL_StartTextInput()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_IsTextInputActive();
+    public static boolean SDL_IsTextInputActive() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsTextInputActive();
+        SdlMetrics.end(IS_TEXT_INPUT_ACTIVE, start);
+        return result;
+    }
 
     /**
      * Stop receiving any text input events.
@@ -238,7 +319,11 @@ public final class SdlKeyboard {
      * @see #SDL_StartTextInput()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_StopTextInput();
+    public static void SDL_StopTextInput() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_StopTextInput();
+        SdlMetrics.end(STOP_TEXT_INPUT, start);
+    }
 
     /**
      * Dismiss the composition window/IME without disabling the subsystem.
@@ -247,14 +332,23 @@ public final class SdlKeyboard {
      * @see #SDL_StopTextInput()
      * @since This function is available since SDL 2.0.22.
      */
-    public static native void SDL_ClearComposition();
+    public static void SDL_ClearComposition() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ClearComposition();
+        SdlMetrics.end(CLEAR_COMPOSITION, start);
+    }
 
     /**
      * Returns if an IME Composite or Candidate window is currently shown.
      *
      * @since This function is available since SDL 2.0.22.
      */
-    public static native boolean SDL_IsTextInputShown();
+    public static boolean SDL_IsTextInputShown() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsTextInputShown();
+        SdlMetrics.end(IS_TEXT_INPUT_SHOWN, start);
+        return result;
+    }
 
     /**
      * Set the rectangle used to type Unicode text inputs.
@@ -272,8 +366,12 @@ public final class SdlKeyboard {
      * @see #SDL_StartTextInput()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetTextInputRect(
-            SDL_Rect rect);
+    public static void SDL_SetTextInputRect(
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetTextInputRect(rect);
+        SdlMetrics.end(SET_TEXT_INPUT_RECT, start);
+    }
 
     /**
      * Check whether the platform has screen keyboard support.
@@ -284,7 +382,12 @@ public final class SdlKeyboard {
      * @see #SDL_IsScreenKeyboardShown(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_HasScreenKeyboardSupport();
+    public static boolean SDL_HasScreenKeyboardSupport() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasScreenKeyboardSupport();
+        SdlMetrics.end(HAS_SCREEN_KEYBOARD_SUPPORT, start);
+        return result;
+    }
 
     /**
      * Check whether the screen keyboard is shown for given window.
@@ -294,6 +397,69 @@ public final class SdlKeyboard {
      * @see #SDL_HasScreenKeyboardSupport()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_IsScreenKeyboardShown(
-            SDL_Window window);
+    public static boolean SDL_IsScreenKeyboardShown(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsScreenKeyboardShown(window);
+        SdlMetrics.end(IS_SCREEN_KEYBOARD_SHOWN, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native SDL_Window SDL_GetKeyboardFocus();
+
+        public static native Pointer SDL_GetKeyboardState(
+                IntByReference numkeys);
+
+        public static native void SDL_ResetKeyboard();
+
+        public static native int SDL_GetModState();
+
+        public static native void SDL_SetModState(
+                int modstate);
+
+        public static native int SDL_GetKeyFromScancode(
+                int scancode);
+
+        public static native int SDL_GetScancodeFromKey(
+                int key);
+
+        public static native String SDL_GetScancodeName(
+                int scancode);
+
+        public static native int SDL_GetScancodeFromName(
+                String name);
+
+        public static native String SDL_GetKeyName(
+                int key);
+
+        public static native int SDL_GetKeyFromName(
+                String name);
+
+        public static native void SDL_StartTextInput();
+
+        public static native boolean SDL_IsTextInputActive();
+
+        public static native void SDL_StopTextInput();
+
+        public static native void SDL_ClearComposition();
+
+        public static native boolean SDL_IsTextInputShown();
+
+        public static native void SDL_SetTextInputRect(
+                SDL_Rect rect);
+
+        public static native boolean SDL_HasScreenKeyboardSupport();
+
+        public static native boolean SDL_IsScreenKeyboardShown(
+                SDL_Window window);
+    }
 }
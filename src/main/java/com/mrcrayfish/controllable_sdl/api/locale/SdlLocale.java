@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 import static com.mrcrayfish.controllable_sdl.api.stdinc.SdlStdinc.SDL_free;
 
@@ -14,9 +17,7 @@ import static com.mrcrayfish.controllable_sdl.api.stdinc.SdlStdinc.SDL_free;
  */
 public final class SdlLocale {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlLocale.class);
-    }
+    private static final NativeFunctionStats GET_PREFERRED_LOCALES = SdlMetrics.register("SDL_GetPreferredLocales", NativeCallKind.CALL);
 
     private SdlLocale() {
     }
@@ -119,5 +120,22 @@ public final class SdlLocale {
      * @deprecated Use more Java-style version {@link #SDL_GetPreferredLocalesList()}
      */
     @Deprecated
-    public static native Pointer SDL_GetPreferredLocales();
+    public static Pointer SDL_GetPreferredLocales() {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GetPreferredLocales();
+        SdlMetrics.end(GET_PREFERRED_LOCALES, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native Pointer SDL_GetPreferredLocales();
+    }
 }
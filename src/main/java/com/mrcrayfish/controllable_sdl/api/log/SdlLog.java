@@ -4,6 +4,9 @@ import com.sun.jna.Library;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,9 +54,20 @@ import static com.mrcrayfish.controllable_sdl.api.log.SdlLogConst.SDL_MAX_LOG_ME
  */
 public final class SdlLog {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlLog.class);
-    }
+    private static final NativeFunctionStats LOG_SET_ALL_PRIORITY = SdlMetrics.register("SDL_LogSetAllPriority", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_SET_PRIORITY = SdlMetrics.register("SDL_LogSetPriority", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_GET_PRIORITY = SdlMetrics.register("SDL_LogGetPriority", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_RESET_PRIORITIES = SdlMetrics.register("SDL_LogResetPriorities", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_GET_OUTPUT_FUNCTION = SdlMetrics.register("SDL_LogGetOutputFunction", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_SET_OUTPUT_FUNCTION = SdlMetrics.register("SDL_LogSetOutputFunction", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG = SdlMetrics.register("SDL_Log", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_VERBOSE = SdlMetrics.register("SDL_LogVerbose", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_DEBUG = SdlMetrics.register("SDL_LogDebug", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_INFO = SdlMetrics.register("SDL_LogInfo", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_WARN = SdlMetrics.register("SDL_LogWarn", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_ERROR = SdlMetrics.register("SDL_LogError", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_CRITICAL = SdlMetrics.register("SDL_LogCritical", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOG_MESSAGE = SdlMetrics.register("SDL_LogMessage", NativeCallKind.CALL);
 
     private SdlLog() {
     }
@@ -65,8 +79,12 @@ public final class SdlLog {
      * @see #SDL_LogSetPriority(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogSetAllPriority(
-            @MagicConstant(valuesFromClass = SDL_LogPriority.class) int priority);
+    public static void SDL_LogSetAllPriority(
+            @MagicConstant(valuesFromClass = SDL_LogPriority.class) int priority) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogSetAllPriority(priority);
+        SdlMetrics.end(LOG_SET_ALL_PRIORITY, start);
+    }
 
     /**
      * Set the priority of a particular log category.
@@ -77,9 +95,13 @@ public final class SdlLog {
      * @see #SDL_LogSetAllPriority(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogSetPriority(
+    public static void SDL_LogSetPriority(
             @MagicConstant(valuesFromClass = SDL_LogCategory.class) int category,
-            @MagicConstant(valuesFromClass = SDL_LogPriority.class) int priority);
+            @MagicConstant(valuesFromClass = SDL_LogPriority.class) int priority) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogSetPriority(category, priority);
+        SdlMetrics.end(LOG_SET_PRIORITY, start);
+    }
 
     /**
      * Get the priority of a particular log category.
@@ -90,8 +112,13 @@ public final class SdlLog {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_LogPriority.class)
-    public static native int SDL_LogGetPriority(
-            @MagicConstant(valuesFromClass = SDL_LogCategory.class) int category);
+    public static int SDL_LogGetPriority(
+            @MagicConstant(valuesFromClass = SDL_LogCategory.class) int category) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LogGetPriority(category);
+        SdlMetrics.end(LOG_GET_PRIORITY, start);
+        return result;
+    }
 
     /**
      * Reset all priorities to default.
@@ -102,7 +129,11 @@ public final class SdlLog {
      * @see #SDL_LogSetPriority(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogResetPriorities();
+    public static void SDL_LogResetPriorities() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogResetPriorities();
+        SdlMetrics.end(LOG_RESET_PRIORITIES, start);
+    }
 
     /**
      * Log a message with SDL_LOG_CATEGORY_APPLICATION and SDL_LOG_PRIORITY_INFO.
@@ -125,7 +156,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_Log(fmt, args);
+        SdlMetrics.end(LOG, start);
     }
 
     /**
@@ -151,7 +184,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogVerbose(category, fmt, args);
+        SdlMetrics.end(LOG_VERBOSE, start);
     }
 
     /**
@@ -177,7 +212,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogDebug(category, fmt, args);
+        SdlMetrics.end(LOG_DEBUG, start);
     }
 
     /**
@@ -203,7 +240,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogInfo(category, fmt, args);
+        SdlMetrics.end(LOG_INFO, start);
     }
 
     /**
@@ -229,7 +268,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogWarn(category, fmt, args);
+        SdlMetrics.end(LOG_WARN, start);
     }
 
     /**
@@ -255,7 +296,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogError(category, fmt, args);
+        SdlMetrics.end(LOG_ERROR, start);
     }
 
     /**
@@ -281,7 +324,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogCritical(category, fmt, args);
+        SdlMetrics.end(LOG_CRITICAL, start);
     }
 
     /**
@@ -309,7 +354,9 @@ public final class SdlLog {
         if (fmt.length() > SDL_MAX_LOG_MESSAGE) {
             throw new IllegalArgumentException("Log message is too long (" + fmt.length() + " characters), maximum is " + SDL_MAX_LOG_MESSAGE);
         }
+        long start = SdlMetrics.begin();
         NativeVarargFunctions.INSTANCE.SDL_LogMessage(category, priority, fmt, args);
+        SdlMetrics.end(LOG_MESSAGE, start);
     }
 
     /**
@@ -322,9 +369,13 @@ public final class SdlLog {
      * @see #SDL_LogSetOutputFunction(Pointer, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogGetOutputFunction(
+    public static void SDL_LogGetOutputFunction(
             PointerByReference callback,
-            PointerByReference userdata);
+            PointerByReference userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogGetOutputFunction(callback, userdata);
+        SdlMetrics.end(LOG_GET_OUTPUT_FUNCTION, start);
+    }
 
     /**
      * Replace the default log output function with one of your own.
@@ -334,9 +385,13 @@ public final class SdlLog {
      * @see #SDL_LogGetOutputFunction(PointerByReference, PointerByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogSetOutputFunction(
+    public static void SDL_LogSetOutputFunction(
             SDL_LogOutputFunction callback,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogSetOutputFunction(callback, userdata);
+        SdlMetrics.end(LOG_SET_OUTPUT_FUNCTION, start);
+    }
 
     /**
      * Replace the default log output function with one of your own.
@@ -346,9 +401,13 @@ public final class SdlLog {
      * @see #SDL_LogGetOutputFunction(PointerByReference, PointerByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_LogSetOutputFunction(
+    public static void SDL_LogSetOutputFunction(
             Pointer callback,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LogSetOutputFunction(callback, userdata);
+        SdlMetrics.end(LOG_SET_OUTPUT_FUNCTION, start);
+    }
 
     /**
      * <p>Log message handler that will route all SDL internal logging to Java's SLF4J.</p>
@@ -496,4 +555,38 @@ public final class SdlLog {
                 String fmt,
                 Object... args);
     }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native void SDL_LogSetAllPriority(
+                int priority);
+
+        public static native void SDL_LogSetPriority(
+                int category,
+                int priority);
+
+        public static native int SDL_LogGetPriority(
+                int category);
+
+        public static native void SDL_LogResetPriorities();
+
+        public static native void SDL_LogGetOutputFunction(
+                PointerByReference callback,
+                PointerByReference userdata);
+
+        public static native void SDL_LogSetOutputFunction(
+                SDL_LogOutputFunction callback,
+                Pointer userdata);
+
+        public static native void SDL_LogSetOutputFunction(
+                Pointer callback,
+                Pointer userdata);
+    }
 }
@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.messagebox;
 import com.sun.jna.ptr.IntByReference;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.messagebox.SDL_MessageBoxFlags.SDL_MESSAGEBOX_ERROR;
@@ -11,9 +14,8 @@ import static com.mrcrayfish.controllable_sdl.api.messagebox.SDL_MessageBoxFlags
 
 public final class SdlMessagebox {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlMessagebox.class);
-    }
+    private static final NativeFunctionStats SHOW_MESSAGE_BOX = SdlMetrics.register("SDL_ShowMessageBox", NativeCallKind.CALL);
+    private static final NativeFunctionStats SHOW_SIMPLE_MESSAGE_BOX = SdlMetrics.register("SDL_ShowSimpleMessageBox", NativeCallKind.CALL);
 
     private SdlMessagebox() {
     }
@@ -49,9 +51,14 @@ public final class SdlMessagebox {
      * @see #SDL_ShowSimpleMessageBox(int, String, String, SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ShowMessageBox(
+    public static int SDL_ShowMessageBox(
             SDL_MessageBoxData messageboxdata,
-            IntByReference buttonid);
+            IntByReference buttonid) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ShowMessageBox(messageboxdata, buttonid);
+        SdlMetrics.end(SHOW_MESSAGE_BOX, start);
+        return result;
+    }
 
     /**
      * Display a simple modal message box.
@@ -92,9 +99,34 @@ public final class SdlMessagebox {
      * @see #SDL_ShowMessageBox(SDL_MessageBoxData, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ShowSimpleMessageBox(
+    public static int SDL_ShowSimpleMessageBox(
             @MagicConstant(flags = {SDL_MESSAGEBOX_INFORMATION, SDL_MESSAGEBOX_WARNING, SDL_MESSAGEBOX_ERROR}) int flags,
             String title,
             String message,
-            SDL_Window window);
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ShowSimpleMessageBox(flags, title, message, window);
+        SdlMetrics.end(SHOW_SIMPLE_MESSAGE_BOX, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_ShowMessageBox(
+                SDL_MessageBoxData messageboxdata,
+                IntByReference buttonid);
+
+        public static native int SDL_ShowSimpleMessageBox(
+                int flags,
+                String title,
+                String message,
+                SDL_Window window);
+    }
 }
@@ -4,6 +4,9 @@ import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_metal.h
@@ -12,11 +15,12 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlMetal {
 
-    // TODO: Test on macOS
+    private static final NativeFunctionStats METAL_CREATE_VIEW = SdlMetrics.register("SDL_Metal_CreateView", NativeCallKind.CALL);
+    private static final NativeFunctionStats METAL_DESTROY_VIEW = SdlMetrics.register("SDL_Metal_DestroyView", NativeCallKind.CALL);
+    private static final NativeFunctionStats METAL_GET_LAYER = SdlMetrics.register("SDL_Metal_GetLayer", NativeCallKind.CALL);
+    private static final NativeFunctionStats METAL_GET_DRAWABLE_SIZE = SdlMetrics.register("SDL_Metal_GetDrawableSize", NativeCallKind.CALL);
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlMetal.class);
-    }
+    // TODO: Test on macOS
 
     private SdlMetal() {
     }
@@ -35,8 +39,13 @@ public final class SdlMetal {
      * @see #SDL_Metal_GetLayer(SDL_MetalView)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native SDL_MetalView SDL_Metal_CreateView(
-            SDL_Window window);
+    public static SDL_MetalView SDL_Metal_CreateView(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        SDL_MetalView result = InternalNativeFunctions.SDL_Metal_CreateView(window);
+        SdlMetrics.end(METAL_CREATE_VIEW, start);
+        return result;
+    }
 
     /**
      * Destroy an existing SDL_MetalView object.
@@ -47,8 +56,12 @@ public final class SdlMetal {
      * @see #SDL_Metal_CreateView(SDL_Window)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native void SDL_Metal_DestroyView(
-            SDL_MetalView view);
+    public static void SDL_Metal_DestroyView(
+            SDL_MetalView view) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_Metal_DestroyView(view);
+        SdlMetrics.end(METAL_DESTROY_VIEW, start);
+    }
 
     /**
      * Get a pointer to the backing CAMetalLayer for the given view.
@@ -56,8 +69,13 @@ public final class SdlMetal {
      * @see #SDL_Metal_CreateView(SDL_Window)
      * @since This function is available since SDL 2.0.14.
      */
-    public static native Pointer SDL_Metal_GetLayer(
-            SDL_MetalView view);
+    public static Pointer SDL_Metal_GetLayer(
+            SDL_MetalView view) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_Metal_GetLayer(view);
+        SdlMetrics.end(METAL_GET_LAYER, start);
+        return result;
+    }
 
     /**
      * Get the size of a window's underlying drawable in pixels (for use with
@@ -70,8 +88,36 @@ public final class SdlMetal {
      * @see com.mrcrayfish.controllable_sdl.api.video.SdlVideo#SDL_CreateWindow(String, int, int, int, int, int)
      * @since This function is available since SDL 2.0.14.
      */
-    public static native void SDL_Metal_GetDrawableSize(
+    public static void SDL_Metal_GetDrawableSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_Metal_GetDrawableSize(window, w, h);
+        SdlMetrics.end(METAL_GET_DRAWABLE_SIZE, start);
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native SDL_MetalView SDL_Metal_CreateView(
+                SDL_Window window);
+
+        public static native void SDL_Metal_DestroyView(
+                SDL_MetalView view);
+
+        public static native Pointer SDL_Metal_GetLayer(
+                SDL_MetalView view);
+
+        public static native void SDL_Metal_GetDrawableSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+    }
 }
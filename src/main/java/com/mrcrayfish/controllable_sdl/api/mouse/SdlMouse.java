@@ -5,6 +5,9 @@ import com.sun.jna.ptr.IntByReference;
 import com.mrcrayfish.controllable_sdl.api.surface.SDL_Surface;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_DISABLE;
@@ -18,9 +21,23 @@ import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_QUERY
  */
 public final class SdlMouse {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlMouse.class);
-    }
+    private static final NativeFunctionStats GET_MOUSE_FOCUS = SdlMetrics.register("SDL_GetMouseFocus", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_MOUSE_STATE = SdlMetrics.register("SDL_GetMouseState", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_GLOBAL_MOUSE_STATE = SdlMetrics.register("SDL_GetGlobalMouseState", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RELATIVE_MOUSE_STATE = SdlMetrics.register("SDL_GetRelativeMouseState", NativeCallKind.CALL);
+    private static final NativeFunctionStats WARP_MOUSE_IN_WINDOW = SdlMetrics.register("SDL_WarpMouseInWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats WARP_MOUSE_GLOBAL = SdlMetrics.register("SDL_WarpMouseGlobal", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_RELATIVE_MOUSE_MODE = SdlMetrics.register("SDL_SetRelativeMouseMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats CAPTURE_MOUSE = SdlMetrics.register("SDL_CaptureMouse", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RELATIVE_MOUSE_MODE = SdlMetrics.register("SDL_GetRelativeMouseMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_CURSOR = SdlMetrics.register("SDL_CreateCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_COLOR_CURSOR = SdlMetrics.register("SDL_CreateColorCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_SYSTEM_CURSOR = SdlMetrics.register("SDL_CreateSystemCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_CURSOR = SdlMetrics.register("SDL_SetCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CURSOR = SdlMetrics.register("SDL_GetCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DEFAULT_CURSOR = SdlMetrics.register("SDL_GetDefaultCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_CURSOR = SdlMetrics.register("SDL_FreeCursor", NativeCallKind.CALL);
+    private static final NativeFunctionStats SHOW_CURSOR = SdlMetrics.register("SDL_ShowCursor", NativeCallKind.CALL);
 
     private SdlMouse() {
     }
@@ -31,7 +48,12 @@ public final class SdlMouse {
      * @return the window with mouse focus.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_GetMouseFocus();
+    public static SDL_Window SDL_GetMouseFocus() {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_GetMouseFocus();
+        SdlMetrics.end(GET_MOUSE_FOCUS, start);
+        return result;
+    }
 
     /**
      * Retrieve the current state of the mouse.
@@ -53,9 +75,14 @@ public final class SdlMouse {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(flagsFromClass = SDL_ButtonMask.class)
-    public static native int SDL_GetMouseState(
+    public static int SDL_GetMouseState(
             IntByReference x,
-            IntByReference y);
+            IntByReference y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetMouseState(x, y);
+        SdlMetrics.end(GET_MOUSE_STATE, start);
+        return result;
+    }
 
     /**
      * Get the current state of the mouse in relation to the desktop.
@@ -83,9 +110,14 @@ public final class SdlMouse {
      * @since This function is available since SDL 2.0.4.
      */
     @MagicConstant(flagsFromClass = SDL_ButtonMask.class)
-    public static native int SDL_GetGlobalMouseState(
+    public static int SDL_GetGlobalMouseState(
             IntByReference x,
-            IntByReference y);
+            IntByReference y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetGlobalMouseState(x, y);
+        SdlMetrics.end(GET_GLOBAL_MOUSE_STATE, start);
+        return result;
+    }
 
     /**
      * Retrieve the relative state of the mouse.
@@ -103,9 +135,14 @@ public final class SdlMouse {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(flagsFromClass = SDL_ButtonMask.class)
-    public static native int SDL_GetRelativeMouseState(
+    public static int SDL_GetRelativeMouseState(
             IntByReference x,
-            IntByReference y);
+            IntByReference y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRelativeMouseState(x, y);
+        SdlMetrics.end(GET_RELATIVE_MOUSE_STATE, start);
+        return result;
+    }
 
     /**
      * Move the mouse cursor to the given position within the window.
@@ -124,10 +161,14 @@ public final class SdlMouse {
      * @see #SDL_WarpMouseGlobal(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_WarpMouseInWindow(
+    public static void SDL_WarpMouseInWindow(
             SDL_Window window,
             int x,
-            int y);
+            int y) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_WarpMouseInWindow(window, x, y);
+        SdlMetrics.end(WARP_MOUSE_IN_WINDOW, start);
+    }
 
     /**
      * Move the mouse to the given position in global screen space.
@@ -147,9 +188,14 @@ public final class SdlMouse {
      * @see #SDL_WarpMouseInWindow(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_WarpMouseGlobal(
+    public static int SDL_WarpMouseGlobal(
             int x,
-            int y);
+            int y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_WarpMouseGlobal(x, y);
+        SdlMetrics.end(WARP_MOUSE_GLOBAL, start);
+        return result;
+    }
 
     /**
      * Set relative mouse mode.
@@ -167,8 +213,13 @@ public final class SdlMouse {
      * @see #SDL_GetRelativeMouseMode()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetRelativeMouseMode(
-            boolean enabled);
+    public static int SDL_SetRelativeMouseMode(
+            boolean enabled) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetRelativeMouseMode(enabled);
+        SdlMetrics.end(SET_RELATIVE_MOUSE_MODE, start);
+        return result;
+    }
 
     /**
      * Capture the mouse and to track input outside an SDL window.
@@ -212,8 +263,13 @@ public final class SdlMouse {
      * @see #SDL_GetGlobalMouseState(IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_CaptureMouse(
-            boolean enabled);
+    public static int SDL_CaptureMouse(
+            boolean enabled) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_CaptureMouse(enabled);
+        SdlMetrics.end(CAPTURE_MOUSE, start);
+        return result;
+    }
 
     /**
      * Query whether relative mouse mode is enabled.
@@ -222,7 +278,12 @@ public final class SdlMouse {
      * @see #SDL_SetRelativeMouseMode(boolean)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GetRelativeMouseMode();
+    public static boolean SDL_GetRelativeMouseMode() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetRelativeMouseMode();
+        SdlMetrics.end(GET_RELATIVE_MOUSE_MODE, start);
+        return result;
+    }
 
     /**
      * Create a cursor using the specified bitmap data and mask (in MSB format).
@@ -264,13 +325,18 @@ public final class SdlMouse {
      * @see #SDL_ShowCursor(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Cursor SDL_CreateCursor(
+    public static SDL_Cursor SDL_CreateCursor(
             Pointer data,
             Pointer mask,
             int w,
             int h,
             int hotX,
-            int hotY);
+            int hotY) {
+        long start = SdlMetrics.begin();
+        SDL_Cursor result = InternalNativeFunctions.SDL_CreateCursor(data, mask, w, h, hotX, hotY);
+        SdlMetrics.end(CREATE_CURSOR, start);
+        return result;
+    }
 
     /**
      * Create a color cursor.
@@ -284,10 +350,15 @@ public final class SdlMouse {
      * @see #SDL_FreeCursor(SDL_Cursor)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Cursor SDL_CreateColorCursor(
+    public static SDL_Cursor SDL_CreateColorCursor(
             SDL_Surface surface,
             int hotX,
-            int hotY);
+            int hotY) {
+        long start = SdlMetrics.begin();
+        SDL_Cursor result = InternalNativeFunctions.SDL_CreateColorCursor(surface, hotX, hotY);
+        SdlMetrics.end(CREATE_COLOR_CURSOR, start);
+        return result;
+    }
 
     /**
      * Create a system cursor.
@@ -298,8 +369,13 @@ public final class SdlMouse {
      * @see #SDL_FreeCursor(SDL_Cursor)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Cursor SDL_CreateSystemCursor(
-            @MagicConstant(valuesFromClass = SDL_SystemCursor.class) int id);
+    public static SDL_Cursor SDL_CreateSystemCursor(
+            @MagicConstant(valuesFromClass = SDL_SystemCursor.class) int id) {
+        long start = SdlMetrics.begin();
+        SDL_Cursor result = InternalNativeFunctions.SDL_CreateSystemCursor(id);
+        SdlMetrics.end(CREATE_SYSTEM_CURSOR, start);
+        return result;
+    }
 
     /**
      * Set the active cursor.
@@ -315,8 +391,12 @@ public final class SdlMouse {
      * @see #SDL_ShowCursor(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetCursor(
-            SDL_Cursor cursor);
+    public static void SDL_SetCursor(
+            SDL_Cursor cursor) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetCursor(cursor);
+        SdlMetrics.end(SET_CURSOR, start);
+    }
 
     /**
      * Get the active cursor.
@@ -328,7 +408,12 @@ public final class SdlMouse {
      * @see #SDL_SetCursor(SDL_Cursor)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Cursor SDL_GetCursor();
+    public static SDL_Cursor SDL_GetCursor() {
+        long start = SdlMetrics.begin();
+        SDL_Cursor result = InternalNativeFunctions.SDL_GetCursor();
+        SdlMetrics.end(GET_CURSOR, start);
+        return result;
+    }
 
     /**
      * Get the default cursor.
@@ -340,7 +425,12 @@ public final class SdlMouse {
      * @see #SDL_CreateSystemCursor(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Cursor SDL_GetDefaultCursor();
+    public static SDL_Cursor SDL_GetDefaultCursor() {
+        long start = SdlMetrics.begin();
+        SDL_Cursor result = InternalNativeFunctions.SDL_GetDefaultCursor();
+        SdlMetrics.end(GET_DEFAULT_CURSOR, start);
+        return result;
+    }
 
     /**
      * Free a previously-created cursor.
@@ -354,8 +444,12 @@ public final class SdlMouse {
      * @see #SDL_CreateSystemCursor(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreeCursor(
-            SDL_Cursor cursor);
+    public static void SDL_FreeCursor(
+            SDL_Cursor cursor) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeCursor(cursor);
+        SdlMetrics.end(FREE_CURSOR, start);
+    }
 
     /**
      * Toggle whether or not the cursor is shown.
@@ -376,6 +470,81 @@ public final class SdlMouse {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(intValues = {SDL_ENABLE, SDL_DISABLE})
-    public static native int SDL_ShowCursor(
-            @MagicConstant(intValues = {SDL_ENABLE, SDL_DISABLE, SDL_QUERY}) int toggle);
+    public static int SDL_ShowCursor(
+            @MagicConstant(intValues = {SDL_ENABLE, SDL_DISABLE, SDL_QUERY}) int toggle) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ShowCursor(toggle);
+        SdlMetrics.end(SHOW_CURSOR, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native SDL_Window SDL_GetMouseFocus();
+
+        public static native int SDL_GetMouseState(
+                IntByReference x,
+                IntByReference y);
+
+        public static native int SDL_GetGlobalMouseState(
+                IntByReference x,
+                IntByReference y);
+
+        public static native int SDL_GetRelativeMouseState(
+                IntByReference x,
+                IntByReference y);
+
+        public static native void SDL_WarpMouseInWindow(
+                SDL_Window window,
+                int x,
+                int y);
+
+        public static native int SDL_WarpMouseGlobal(
+                int x,
+                int y);
+
+        public static native int SDL_SetRelativeMouseMode(
+                boolean enabled);
+
+        public static native int SDL_CaptureMouse(
+                boolean enabled);
+
+        public static native boolean SDL_GetRelativeMouseMode();
+
+        public static native SDL_Cursor SDL_CreateCursor(
+                Pointer data,
+                Pointer mask,
+                int w,
+                int h,
+                int hotX,
+                int hotY);
+
+        public static native SDL_Cursor SDL_CreateColorCursor(
+                SDL_Surface surface,
+                int hotX,
+                int hotY);
+
+        public static native SDL_Cursor SDL_CreateSystemCursor(
+                int id);
+
+        public static native void SDL_SetCursor(
+                SDL_Cursor cursor);
+
+        public static native SDL_Cursor SDL_GetCursor();
+
+        public static native SDL_Cursor SDL_GetDefaultCursor();
+
+        public static native void SDL_FreeCursor(
+                SDL_Cursor cursor);
+
+        public static native int SDL_ShowCursor(
+                int toggle);
+    }
 }
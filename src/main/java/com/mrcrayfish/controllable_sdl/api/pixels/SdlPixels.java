@@ -1,14 +1,17 @@
 package com.mrcrayfish.controllable_sdl.api.pixels;
 
 import java.util.List;
-import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.ByteByReference;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.ShortByReference;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -18,9 +21,20 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlPixels {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlPixels.class);
-    }
+    private static final NativeFunctionStats GET_PIXEL_FORMAT_NAME = SdlMetrics.register("SDL_GetPixelFormatName", NativeCallKind.CALL);
+    private static final NativeFunctionStats PIXEL_FORMAT_ENUM_TO_MASKS = SdlMetrics.register("SDL_PixelFormatEnumToMasks", NativeCallKind.CALL);
+    private static final NativeFunctionStats MASKS_TO_PIXEL_FORMAT_ENUM = SdlMetrics.register("SDL_MasksToPixelFormatEnum", NativeCallKind.CALL);
+    private static final NativeFunctionStats ALLOC_FORMAT = SdlMetrics.register("SDL_AllocFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_FORMAT = SdlMetrics.register("SDL_FreeFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats ALLOC_PALETTE = SdlMetrics.register("SDL_AllocPalette", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_PIXEL_FORMAT_PALETTE = SdlMetrics.register("SDL_SetPixelFormatPalette", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_PALETTE_COLORS = SdlMetrics.register("SDL_SetPaletteColors", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_PALETTE = SdlMetrics.register("SDL_FreePalette", NativeCallKind.CALL);
+    private static final NativeFunctionStats MAP_RGB = SdlMetrics.register("SDL_MapRGB", NativeCallKind.CALL);
+    private static final NativeFunctionStats MAP_RGBA = SdlMetrics.register("SDL_MapRGBA", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RGB = SdlMetrics.register("SDL_GetRGB", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RGBA = SdlMetrics.register("SDL_GetRGBA", NativeCallKind.CALL);
+    private static final NativeFunctionStats CALCULATE_GAMMA_RAMP = SdlMetrics.register("SDL_CalculateGammaRamp", NativeCallKind.CALL);
 
     private SdlPixels() {
     }
@@ -33,8 +47,13 @@ public final class SdlPixels {
      * {@code SDL_PIXELFORMAT_UNKNOWN} if the format isn't recognized.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetPixelFormatName(
-            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format);
+    public static String SDL_GetPixelFormatName(
+            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetPixelFormatName(format);
+        SdlMetrics.end(GET_PIXEL_FORMAT_NAME, start);
+        return result;
+    }
 
     /**
      * Convert one of the enumerated pixel formats to a bpp value and RGBA masks.
@@ -50,13 +69,18 @@ public final class SdlPixels {
      * @see #SDL_MasksToPixelFormatEnum(int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_PixelFormatEnumToMasks(
+    public static boolean SDL_PixelFormatEnumToMasks(
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format,
             IntByReference bpp,
             IntByReference rMask,
             IntByReference gMask,
             IntByReference bMask,
-            IntByReference aMask);
+            IntByReference aMask) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_PixelFormatEnumToMasks(format, bpp, rMask, gMask, bMask, aMask);
+        SdlMetrics.end(PIXEL_FORMAT_ENUM_TO_MASKS, start);
+        return result;
+    }
 
     /**
      * Convert a bpp value and RGBA masks to an enumerated pixel format.
@@ -74,12 +98,17 @@ public final class SdlPixels {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class)
-    public static native int SDL_MasksToPixelFormatEnum(
+    public static int SDL_MasksToPixelFormatEnum(
             int bpp,
             int rMask,
             int gMask,
             int bMask,
-            int aMask);
+            int aMask) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_MasksToPixelFormatEnum(bpp, rMask, gMask, bMask, aMask);
+        SdlMetrics.end(MASKS_TO_PIXEL_FORMAT_ENUM, start);
+        return result;
+    }
 
     /**
      * Create an SDL_PixelFormat structure corresponding to a pixel format.
@@ -94,8 +123,13 @@ public final class SdlPixels {
      * @see #SDL_FreeFormat(SDL_PixelFormat)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_PixelFormat SDL_AllocFormat(
-            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int pixelFormat);
+    public static SDL_PixelFormat SDL_AllocFormat(
+            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int pixelFormat) {
+        long start = SdlMetrics.begin();
+        SDL_PixelFormat result = InternalNativeFunctions.SDL_AllocFormat(pixelFormat);
+        SdlMetrics.end(ALLOC_FORMAT, start);
+        return result;
+    }
 
     /**
      * Free an SDL_PixelFormat structure allocated by SDL_AllocFormat().
@@ -104,8 +138,12 @@ public final class SdlPixels {
      * @see #SDL_AllocFormat(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreeFormat(
-            SDL_PixelFormat format);
+    public static void SDL_FreeFormat(
+            SDL_PixelFormat format) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeFormat(format);
+        SdlMetrics.end(FREE_FORMAT, start);
+    }
 
     /**
      * Create a palette structure with the specified number of color entries.
@@ -119,8 +157,13 @@ public final class SdlPixels {
      * @see #SDL_FreePalette(SDL_Palette)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Palette SDL_AllocPalette(
-            int ncolors);
+    public static SDL_Palette SDL_AllocPalette(
+            int ncolors) {
+        long start = SdlMetrics.begin();
+        SDL_Palette result = InternalNativeFunctions.SDL_AllocPalette(ncolors);
+        SdlMetrics.end(ALLOC_PALETTE, start);
+        return result;
+    }
 
     /**
      * Set the palette for a pixel format structure.
@@ -133,9 +176,14 @@ public final class SdlPixels {
      * @see #SDL_FreePalette(SDL_Palette)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetPixelFormatPalette(
+    public static int SDL_SetPixelFormatPalette(
             SDL_PixelFormat format,
-            SDL_Palette palette);
+            SDL_Palette palette) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetPixelFormatPalette(format, palette);
+        SdlMetrics.end(SET_PIXEL_FORMAT_PALETTE, start);
+        return result;
+    }
 
     /**
      * Set a range of colors in a palette.
@@ -164,8 +212,8 @@ public final class SdlPixels {
         if (ncolors > colors.size()) {
             throw new IllegalArgumentException("ncolors [" + ncolors + "] is greater than the size of the list of colors [" + colors.size() + "]");
         }
-        try (Memory buffer = JnaUtils.writeListToNativeMemory(colors)) {
-            return SDL_SetPaletteColors(palette, buffer, firstcolor, ncolors);
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_SetPaletteColors(palette, JnaUtils.writeListToNativeMemory(arena, colors), firstcolor, ncolors);
         }
     }
 
@@ -185,11 +233,16 @@ public final class SdlPixels {
      * @see com.mrcrayfish.controllable_sdl.api.surface.SdlSurface#SDL_CreateRGBSurface(int, int, int, int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetPaletteColors(
+    public static int SDL_SetPaletteColors(
             SDL_Palette palette,
             Pointer colors,
             int firstcolor,
-            int ncolors);
+            int ncolors) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetPaletteColors(palette, colors, firstcolor, ncolors);
+        SdlMetrics.end(SET_PALETTE_COLORS, start);
+        return result;
+    }
 
     /**
      * Free a palette created with SDL_AllocPalette().
@@ -198,8 +251,12 @@ public final class SdlPixels {
      * @see #SDL_AllocPalette(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreePalette(
-            SDL_Palette palette);
+    public static void SDL_FreePalette(
+            SDL_Palette palette) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreePalette(palette);
+        SdlMetrics.end(FREE_PALETTE, start);
+    }
 
     /**
      * Map an RGB triple to an opaque pixel value for a given pixel format.
@@ -229,11 +286,16 @@ public final class SdlPixels {
      * @see #SDL_MapRGBA(SDL_PixelFormat, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_MapRGB(
+    public static int SDL_MapRGB(
             SDL_PixelFormat format,
             byte r,
             byte g,
-            byte b);
+            byte b) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_MapRGB(format, r, g, b);
+        SdlMetrics.end(MAP_RGB, start);
+        return result;
+    }
 
     /**
      * Map an RGBA quadruple to a pixel value for a given pixel format.
@@ -265,12 +327,17 @@ public final class SdlPixels {
      * @see #SDL_MapRGB(SDL_PixelFormat, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_MapRGBA(
+    public static int SDL_MapRGBA(
             SDL_PixelFormat format,
             byte r,
             byte g,
             byte b,
-            byte a);
+            byte a) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_MapRGBA(format, r, g, b, a);
+        SdlMetrics.end(MAP_RGBA, start);
+        return result;
+    }
 
     /**
      * Get RGB values from a pixel in the specified format.
@@ -291,12 +358,16 @@ public final class SdlPixels {
      * @see #SDL_MapRGBA(SDL_PixelFormat, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetRGB(
+    public static void SDL_GetRGB(
             int pixel,
             SDL_PixelFormat format,
             ByteByReference r,
             ByteByReference g,
-            ByteByReference b);
+            ByteByReference b) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetRGB(pixel, format, r, g, b);
+        SdlMetrics.end(GET_RGB, start);
+    }
 
     /**
      * Get RGBA values from a pixel in the specified format.
@@ -321,13 +392,17 @@ public final class SdlPixels {
      * @see #SDL_MapRGBA(SDL_PixelFormat, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetRGBA(
+    public static void SDL_GetRGBA(
             int pixel,
             SDL_PixelFormat format,
             ByteByReference r,
             ByteByReference g,
             ByteByReference b,
-            ByteByReference a);
+            ByteByReference a) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetRGBA(pixel, format, r, g, b, a);
+        SdlMetrics.end(GET_RGBA, start);
+    }
 
     /**
      * Calculate a 256 entry gamma ramp for a gamma value.
@@ -337,7 +412,93 @@ public final class SdlPixels {
      * @see com.mrcrayfish.controllable_sdl.api.video.SdlVideo#SDL_SetWindowGammaRamp(SDL_Window, short[], short[], short[]) SDL_SetWindowGammaRamp(SDL_Window, short[], short[], short[])
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_CalculateGammaRamp(
+    public static void SDL_CalculateGammaRamp(
             float gamma,
-            ShortByReference ramp);
+            ShortByReference ramp) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_CalculateGammaRamp(gamma, ramp);
+        SdlMetrics.end(CALCULATE_GAMMA_RAMP, start);
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native String SDL_GetPixelFormatName(
+                int format);
+
+        public static native boolean SDL_PixelFormatEnumToMasks(
+                int format,
+                IntByReference bpp,
+                IntByReference rMask,
+                IntByReference gMask,
+                IntByReference bMask,
+                IntByReference aMask);
+
+        public static native int SDL_MasksToPixelFormatEnum(
+                int bpp,
+                int rMask,
+                int gMask,
+                int bMask,
+                int aMask);
+
+        public static native SDL_PixelFormat SDL_AllocFormat(
+                int pixelFormat);
+
+        public static native void SDL_FreeFormat(
+                SDL_PixelFormat format);
+
+        public static native SDL_Palette SDL_AllocPalette(
+                int ncolors);
+
+        public static native int SDL_SetPixelFormatPalette(
+                SDL_PixelFormat format,
+                SDL_Palette palette);
+
+        public static native int SDL_SetPaletteColors(
+                SDL_Palette palette,
+                Pointer colors,
+                int firstcolor,
+                int ncolors);
+
+        public static native void SDL_FreePalette(
+                SDL_Palette palette);
+
+        public static native int SDL_MapRGB(
+                SDL_PixelFormat format,
+                byte r,
+                byte g,
+                byte b);
+
+        public static native int SDL_MapRGBA(
+                SDL_PixelFormat format,
+                byte r,
+                byte g,
+                byte b,
+                byte a);
+
+        public static native void SDL_GetRGB(
+                int pixel,
+                SDL_PixelFormat format,
+                ByteByReference r,
+                ByteByReference g,
+                ByteByReference b);
+
+        public static native void SDL_GetRGBA(
+                int pixel,
+                SDL_PixelFormat format,
+                ByteByReference r,
+                ByteByReference g,
+                ByteByReference b,
+                ByteByReference a);
+
+        public static native void SDL_CalculateGammaRamp(
+                float gamma,
+                ShortByReference ramp);
+    }
 }
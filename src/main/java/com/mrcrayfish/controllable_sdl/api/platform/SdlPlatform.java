@@ -1,6 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api.platform;
 
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_platform.h
@@ -9,9 +12,7 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlPlatform {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlPlatform.class);
-    }
+    private static final NativeFunctionStats GET_PLATFORM = SdlMetrics.register("SDL_GetPlatform", NativeCallKind.CALL);
 
     private SdlPlatform() {
     }
@@ -32,5 +33,22 @@ public final class SdlPlatform {
      * available, returns a string beginning with the text "Unknown".
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetPlatform();
+    public static String SDL_GetPlatform() {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetPlatform();
+        SdlMetrics.end(GET_PLATFORM, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native String SDL_GetPlatform();
+    }
 }
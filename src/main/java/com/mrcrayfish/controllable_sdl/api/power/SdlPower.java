@@ -2,6 +2,9 @@ package com.mrcrayfish.controllable_sdl.api.power;
 
 import com.sun.jna.ptr.IntByReference;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -11,9 +14,7 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlPower {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlPower.class);
-    }
+    private static final NativeFunctionStats GET_POWER_INFO = SdlMetrics.register("SDL_GetPowerInfo", NativeCallKind.CALL);
 
     private SdlPower() {
     }
@@ -44,7 +45,26 @@ public final class SdlPower {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_PowerState.class)
-    public static native int SDL_GetPowerInfo(
+    public static int SDL_GetPowerInfo(
             IntByReference seconds,
-            IntByReference percent);
+            IntByReference percent) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetPowerInfo(seconds, percent);
+        SdlMetrics.end(GET_POWER_INFO, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_GetPowerInfo(
+                IntByReference seconds,
+                IntByReference percent);
+    }
 }
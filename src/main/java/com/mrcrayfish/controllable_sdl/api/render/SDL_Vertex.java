@@ -10,6 +10,9 @@ import com.mrcrayfish.controllable_sdl.jna.PojoStructure;
  */
 public final class SDL_Vertex implements PojoStructure {
 
+    /** The size of the native structure in bytes, which is also the stride of packed vertex buffers */
+    public static final int SIZE = 20;
+
     /** Vertex position X, in SDL_Renderer coordinates */
     public float positionX;
 
@@ -106,7 +109,7 @@ public final class SDL_Vertex implements PojoStructure {
 
     @Override
     public long size() {
-        return 20L;
+        return SIZE;
     }
 
     @Override
@@ -1,7 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api.render;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.List;
-import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.ByteByReference;
 import com.sun.jna.ptr.FloatByReference;
@@ -18,8 +20,13 @@ import com.mrcrayfish.controllable_sdl.api.video.SDL_GLContext;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_WindowFlags;
 import com.mrcrayfish.controllable_sdl.jna.ContiguousArrayList;
+import com.mrcrayfish.controllable_sdl.jna.HotPath;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_SetError;
@@ -53,9 +60,87 @@ import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_SetError;
  */
 public final class SdlRender {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlRender.class);
-    }
+    private static final NativeFunctionStats RENDER_PRESENT = SdlMetrics.register("SDL_RenderPresent", NativeCallKind.RENDER_PRESENT);
+    private static final NativeFunctionStats RENDER_GEOMETRY = SdlMetrics.register("SDL_RenderGeometry", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_RENDER_DRIVERS = SdlMetrics.register("SDL_GetNumRenderDrivers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDER_DRIVER_INFO = SdlMetrics.register("SDL_GetRenderDriverInfo", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_WINDOW_AND_RENDERER = SdlMetrics.register("SDL_CreateWindowAndRenderer", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_RENDERER = SdlMetrics.register("SDL_CreateRenderer", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_SOFTWARE_RENDERER = SdlMetrics.register("SDL_CreateSoftwareRenderer", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDERER = SdlMetrics.register("SDL_GetRenderer", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_WINDOW = SdlMetrics.register("SDL_RenderGetWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDERER_INFO = SdlMetrics.register("SDL_GetRendererInfo", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDERER_OUTPUT_SIZE = SdlMetrics.register("SDL_GetRendererOutputSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_TEXTURE = SdlMetrics.register("SDL_CreateTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_TEXTURE_FROM_SURFACE = SdlMetrics.register("SDL_CreateTextureFromSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats QUERY_TEXTURE = SdlMetrics.register("SDL_QueryTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXTURE_COLOR_MOD = SdlMetrics.register("SDL_SetTextureColorMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TEXTURE_COLOR_MOD = SdlMetrics.register("SDL_GetTextureColorMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXTURE_ALPHA_MOD = SdlMetrics.register("SDL_SetTextureAlphaMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TEXTURE_ALPHA_MOD = SdlMetrics.register("SDL_GetTextureAlphaMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXTURE_BLEND_MODE = SdlMetrics.register("SDL_SetTextureBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TEXTURE_BLEND_MODE = SdlMetrics.register("SDL_GetTextureBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXTURE_SCALE_MODE = SdlMetrics.register("SDL_SetTextureScaleMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TEXTURE_SCALE_MODE = SdlMetrics.register("SDL_GetTextureScaleMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_TEXTURE_USER_DATA = SdlMetrics.register("SDL_SetTextureUserData", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TEXTURE_USER_DATA = SdlMetrics.register("SDL_GetTextureUserData", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPDATE_TEXTURE = SdlMetrics.register("SDL_UpdateTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPDATE_YUV_TEXTURE = SdlMetrics.register("SDL_UpdateYUVTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPDATE_NV_TEXTURE = SdlMetrics.register("SDL_UpdateNVTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_TEXTURE = SdlMetrics.register("SDL_LockTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_TEXTURE_TO_SURFACE = SdlMetrics.register("SDL_LockTextureToSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_TEXTURE = SdlMetrics.register("SDL_UnlockTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_TARGET_SUPPORTED = SdlMetrics.register("SDL_RenderTargetSupported", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_RENDER_TARGET = SdlMetrics.register("SDL_SetRenderTarget", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDER_TARGET = SdlMetrics.register("SDL_GetRenderTarget", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_LOGICAL_SIZE = SdlMetrics.register("SDL_RenderSetLogicalSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_LOGICAL_SIZE = SdlMetrics.register("SDL_RenderGetLogicalSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_INTEGER_SCALE = SdlMetrics.register("SDL_RenderSetIntegerScale", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_INTEGER_SCALE = SdlMetrics.register("SDL_RenderGetIntegerScale", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_VIEWPORT = SdlMetrics.register("SDL_RenderSetViewport", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_VIEWPORT = SdlMetrics.register("SDL_RenderGetViewport", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_CLIP_RECT = SdlMetrics.register("SDL_RenderSetClipRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_CLIP_RECT = SdlMetrics.register("SDL_RenderGetClipRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_IS_CLIP_ENABLED = SdlMetrics.register("SDL_RenderIsClipEnabled", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_SCALE = SdlMetrics.register("SDL_RenderSetScale", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_SCALE = SdlMetrics.register("SDL_RenderGetScale", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_WINDOW_TO_LOGICAL = SdlMetrics.register("SDL_RenderWindowToLogical", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_LOGICAL_TO_WINDOW = SdlMetrics.register("SDL_RenderLogicalToWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_RENDER_DRAW_COLOR = SdlMetrics.register("SDL_SetRenderDrawColor", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDER_DRAW_COLOR = SdlMetrics.register("SDL_GetRenderDrawColor", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_RENDER_DRAW_BLEND_MODE = SdlMetrics.register("SDL_SetRenderDrawBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RENDER_DRAW_BLEND_MODE = SdlMetrics.register("SDL_GetRenderDrawBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_CLEAR = SdlMetrics.register("SDL_RenderClear", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_POINT = SdlMetrics.register("SDL_RenderDrawPoint", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_POINTS = SdlMetrics.register("SDL_RenderDrawPoints", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_LINE = SdlMetrics.register("SDL_RenderDrawLine", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_LINES = SdlMetrics.register("SDL_RenderDrawLines", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_RECT = SdlMetrics.register("SDL_RenderDrawRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_RECTS = SdlMetrics.register("SDL_RenderDrawRects", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_FILL_RECT = SdlMetrics.register("SDL_RenderFillRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_FILL_RECTS = SdlMetrics.register("SDL_RenderFillRects", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_COPY = SdlMetrics.register("SDL_RenderCopy", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_COPY_EX = SdlMetrics.register("SDL_RenderCopyEx", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_POINT_F = SdlMetrics.register("SDL_RenderDrawPointF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_POINTS_F = SdlMetrics.register("SDL_RenderDrawPointsF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_LINE_F = SdlMetrics.register("SDL_RenderDrawLineF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_LINES_F = SdlMetrics.register("SDL_RenderDrawLinesF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_RECT_F = SdlMetrics.register("SDL_RenderDrawRectF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_DRAW_RECTS_F = SdlMetrics.register("SDL_RenderDrawRectsF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_FILL_RECT_F = SdlMetrics.register("SDL_RenderFillRectF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_FILL_RECTS_F = SdlMetrics.register("SDL_RenderFillRectsF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_COPY_F = SdlMetrics.register("SDL_RenderCopyF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_COPY_EX_F = SdlMetrics.register("SDL_RenderCopyExF", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GEOMETRY_RAW = SdlMetrics.register("SDL_RenderGeometryRaw", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_READ_PIXELS = SdlMetrics.register("SDL_RenderReadPixels", NativeCallKind.CALL);
+    private static final NativeFunctionStats DESTROY_TEXTURE = SdlMetrics.register("SDL_DestroyTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats DESTROY_RENDERER = SdlMetrics.register("SDL_DestroyRenderer", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_FLUSH = SdlMetrics.register("SDL_RenderFlush", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_BIND_TEXTURE = SdlMetrics.register("SDL_GL_BindTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_UNBIND_TEXTURE = SdlMetrics.register("SDL_GL_UnbindTexture", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_METAL_LAYER = SdlMetrics.register("SDL_RenderGetMetalLayer", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_GET_METAL_COMMAND_ENCODER = SdlMetrics.register("SDL_RenderGetMetalCommandEncoder", NativeCallKind.CALL);
+    private static final NativeFunctionStats RENDER_SET_V_SYNC = SdlMetrics.register("SDL_RenderSetVSync", NativeCallKind.CALL);
 
     private SdlRender() {
     }
@@ -75,7 +160,12 @@ public final class SdlRender {
      * @see #SDL_GetRenderDriverInfo(int, SDL_RendererInfo)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumRenderDrivers();
+    public static int SDL_GetNumRenderDrivers() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumRenderDrivers();
+        SdlMetrics.end(GET_NUM_RENDER_DRIVERS, start);
+        return result;
+    }
 
     /**
      * Get info about a specific 2D rendering driver for the current display.
@@ -89,9 +179,14 @@ public final class SdlRender {
      * @see #SDL_GetNumRenderDrivers()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetRenderDriverInfo(
+    public static int SDL_GetRenderDriverInfo(
             int index,
-            SDL_RendererInfo info);
+            SDL_RendererInfo info) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRenderDriverInfo(index, info);
+        SdlMetrics.end(GET_RENDER_DRIVER_INFO, start);
+        return result;
+    }
 
     /**
      * Create a window and default renderer.
@@ -108,12 +203,17 @@ public final class SdlRender {
      * @see com.mrcrayfish.controllable_sdl.api.video.SdlVideo#SDL_CreateWindow(String, int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_CreateWindowAndRenderer(
+    public static int SDL_CreateWindowAndRenderer(
             int width,
             int height,
             @MagicConstant(flagsFromClass = SDL_WindowFlags.class) int windowFlags,
             SDL_Window.Ref window,
-            SDL_Renderer.Ref renderer);
+            SDL_Renderer.Ref renderer) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_CreateWindowAndRenderer(width, height, windowFlags, window, renderer);
+        SdlMetrics.end(CREATE_WINDOW_AND_RENDERER, start);
+        return result;
+    }
 
     /**
      * Create a 2D rendering context for a window.
@@ -130,10 +230,15 @@ public final class SdlRender {
      * @see #SDL_GetRendererInfo(SDL_Renderer, SDL_RendererInfo)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Renderer SDL_CreateRenderer(
+    public static SDL_Renderer SDL_CreateRenderer(
             SDL_Window window,
             int index,
-            @MagicConstant(valuesFromClass = SDL_RendererFlags.class) int flags);
+            @MagicConstant(valuesFromClass = SDL_RendererFlags.class) int flags) {
+        long start = SdlMetrics.begin();
+        SDL_Renderer result = InternalNativeFunctions.SDL_CreateRenderer(window, index, flags);
+        SdlMetrics.end(CREATE_RENDERER, start);
+        return result;
+    }
 
     /**
      * Create a 2D software rendering context for a surface.
@@ -152,8 +257,13 @@ public final class SdlRender {
      * @see #SDL_DestroyRenderer(SDL_Renderer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Renderer SDL_CreateSoftwareRenderer(
-            SDL_Surface surface);
+    public static SDL_Renderer SDL_CreateSoftwareRenderer(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        SDL_Renderer result = InternalNativeFunctions.SDL_CreateSoftwareRenderer(surface);
+        SdlMetrics.end(CREATE_SOFTWARE_RENDERER, start);
+        return result;
+    }
 
     /**
      * Get the renderer associated with a window.
@@ -164,8 +274,13 @@ public final class SdlRender {
      * @see #SDL_CreateRenderer(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Renderer SDL_GetRenderer(
-            SDL_Window window);
+    public static SDL_Renderer SDL_GetRenderer(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        SDL_Renderer result = InternalNativeFunctions.SDL_GetRenderer(window);
+        SdlMetrics.end(GET_RENDERER, start);
+        return result;
+    }
 
     /**
      * Get the window associated with a renderer.
@@ -175,8 +290,13 @@ public final class SdlRender {
      * more information.
      * @since This function is available since SDL 2.0.22.
      */
-    public static native SDL_Window SDL_RenderGetWindow(
-            SDL_Renderer renderer);
+    public static SDL_Window SDL_RenderGetWindow(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_RenderGetWindow(renderer);
+        SdlMetrics.end(RENDER_GET_WINDOW, start);
+        return result;
+    }
 
     /**
      * Get information about a rendering context.
@@ -189,9 +309,14 @@ public final class SdlRender {
      * @see #SDL_CreateRenderer(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetRendererInfo(
+    public static int SDL_GetRendererInfo(
             SDL_Renderer renderer,
-            SDL_RendererInfo info);
+            SDL_RendererInfo info) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRendererInfo(renderer, info);
+        SdlMetrics.end(GET_RENDERER_INFO, start);
+        return result;
+    }
 
     /**
      * Get the output size in pixels of a rendering context.
@@ -208,10 +333,15 @@ public final class SdlRender {
      * @see #SDL_GetRenderer(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetRendererOutputSize(
+    public static int SDL_GetRendererOutputSize(
             SDL_Renderer renderer,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRendererOutputSize(renderer, w, h);
+        SdlMetrics.end(GET_RENDERER_OUTPUT_SIZE, start);
+        return result;
+    }
 
     /**
      * Create a texture for a rendering context.
@@ -233,12 +363,17 @@ public final class SdlRender {
      * @see #SDL_UpdateTexture(SDL_Texture, SDL_Rect, Pointer, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Texture SDL_CreateTexture(
+    public static SDL_Texture SDL_CreateTexture(
             SDL_Renderer renderer,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format,
             @MagicConstant(valuesFromClass = SDL_TextureAccess.class) int access,
             int w,
-            int h);
+            int h) {
+        long start = SdlMetrics.begin();
+        SDL_Texture result = InternalNativeFunctions.SDL_CreateTexture(renderer, format, access, w, h);
+        SdlMetrics.end(CREATE_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Create a texture from an existing surface.
@@ -262,9 +397,14 @@ public final class SdlRender {
      * @see #SDL_QueryTexture(SDL_Texture, IntByReference, IntByReference, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Texture SDL_CreateTextureFromSurface(
+    public static SDL_Texture SDL_CreateTextureFromSurface(
             SDL_Renderer renderer,
-            SDL_Surface surface);
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        SDL_Texture result = InternalNativeFunctions.SDL_CreateTextureFromSurface(renderer, surface);
+        SdlMetrics.end(CREATE_TEXTURE_FROM_SURFACE, start);
+        return result;
+    }
 
     /**
      * Query the attributes of a texture.
@@ -286,12 +426,17 @@ public final class SdlRender {
      * @see #SDL_CreateTexture(SDL_Renderer, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_QueryTexture(
+    public static int SDL_QueryTexture(
             SDL_Texture texture,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) IntByReference format,
             @MagicConstant(valuesFromClass = SDL_TextureAccess.class) IntByReference access,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_QueryTexture(texture, format, access, w, h);
+        SdlMetrics.end(QUERY_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Set an additional color value multiplied into render copy operations.
@@ -317,11 +462,16 @@ public final class SdlRender {
      * @see #SDL_SetTextureAlphaMod(SDL_Texture, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetTextureColorMod(
+    public static int SDL_SetTextureColorMod(
             SDL_Texture texture,
             byte r,
             byte g,
-            byte b);
+            byte b) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetTextureColorMod(texture, r, g, b);
+        SdlMetrics.end(SET_TEXTURE_COLOR_MOD, start);
+        return result;
+    }
 
     /**
      * Get the additional color value multiplied into render copy operations.
@@ -336,11 +486,16 @@ public final class SdlRender {
      * @see #SDL_SetTextureColorMod(SDL_Texture, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetTextureColorMod(
+    public static int SDL_GetTextureColorMod(
             SDL_Texture texture,
             ByteByReference r,
             ByteByReference g,
-            ByteByReference b);
+            ByteByReference b) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTextureColorMod(texture, r, g, b);
+        SdlMetrics.end(GET_TEXTURE_COLOR_MOD, start);
+        return result;
+    }
 
     /**
      * Set an additional alpha value multiplied into render copy operations.
@@ -363,9 +518,14 @@ public final class SdlRender {
      * @see #SDL_SetTextureColorMod(SDL_Texture, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetTextureAlphaMod(
+    public static int SDL_SetTextureAlphaMod(
             SDL_Texture texture,
-            byte alpha);
+            byte alpha) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetTextureAlphaMod(texture, alpha);
+        SdlMetrics.end(SET_TEXTURE_ALPHA_MOD, start);
+        return result;
+    }
 
     /**
      * Get the additional alpha value multiplied into render copy operations.
@@ -378,9 +538,14 @@ public final class SdlRender {
      * @see #SDL_SetTextureAlphaMod(SDL_Texture, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetTextureAlphaMod(
+    public static int SDL_GetTextureAlphaMod(
             SDL_Texture texture,
-            ByteByReference alpha);
+            ByteByReference alpha) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTextureAlphaMod(texture, alpha);
+        SdlMetrics.end(GET_TEXTURE_ALPHA_MOD, start);
+        return result;
+    }
 
     /**
      * Set the blend mode for a texture, used by SDL_RenderCopy().
@@ -396,9 +561,14 @@ public final class SdlRender {
      * @see #SDL_RenderCopy(SDL_Renderer, SDL_Texture, SDL_Rect, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetTextureBlendMode(
+    public static int SDL_SetTextureBlendMode(
             SDL_Texture texture,
-            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode);
+            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetTextureBlendMode(texture, blendMode);
+        SdlMetrics.end(SET_TEXTURE_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Get the blend mode used for texture copy operations.
@@ -410,9 +580,14 @@ public final class SdlRender {
      * @see #SDL_SetTextureBlendMode(SDL_Texture, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetTextureBlendMode(
+    public static int SDL_GetTextureBlendMode(
             SDL_Texture texture,
-            SDL_BlendMode.Ref blendMode);
+            SDL_BlendMode.Ref blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTextureBlendMode(texture, blendMode);
+        SdlMetrics.end(GET_TEXTURE_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Set the scale mode used for texture scale operations.
@@ -425,9 +600,14 @@ public final class SdlRender {
      * @see #SDL_GetTextureScaleMode(SDL_Texture, SDL_ScaleMode.Ref)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native int SDL_SetTextureScaleMode(
+    public static int SDL_SetTextureScaleMode(
             SDL_Texture texture,
-            @MagicConstant(valuesFromClass = SDL_ScaleMode.class) int scaleMode);
+            @MagicConstant(valuesFromClass = SDL_ScaleMode.class) int scaleMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetTextureScaleMode(texture, scaleMode);
+        SdlMetrics.end(SET_TEXTURE_SCALE_MODE, start);
+        return result;
+    }
 
     /**
      * Get the scale mode used for texture scale operations.
@@ -438,9 +618,14 @@ public final class SdlRender {
      * @see #SDL_SetTextureScaleMode(SDL_Texture, int)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native int SDL_GetTextureScaleMode(
+    public static int SDL_GetTextureScaleMode(
             SDL_Texture texture,
-            SDL_ScaleMode.Ref scaleMode);
+            SDL_ScaleMode.Ref scaleMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTextureScaleMode(texture, scaleMode);
+        SdlMetrics.end(GET_TEXTURE_SCALE_MODE, start);
+        return result;
+    }
 
     /**
      * Associate a user-specified pointer with a texture.
@@ -451,9 +636,14 @@ public final class SdlRender {
      * @see #SDL_GetTextureUserData(SDL_Texture)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_SetTextureUserData(
+    public static int SDL_SetTextureUserData(
             SDL_Texture texture,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetTextureUserData(texture, userdata);
+        SdlMetrics.end(SET_TEXTURE_USER_DATA, start);
+        return result;
+    }
 
     /**
      * Get the user-specified pointer associated with a texture
@@ -464,8 +654,13 @@ public final class SdlRender {
      * @see #SDL_SetTextureUserData(SDL_Texture, Pointer)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native Pointer SDL_GetTextureUserData(
-            SDL_Texture texture);
+    public static Pointer SDL_GetTextureUserData(
+            SDL_Texture texture) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GetTextureUserData(texture);
+        SdlMetrics.end(GET_TEXTURE_USER_DATA, start);
+        return result;
+    }
 
     /**
      * Update the given texture rectangle with new pixel data.
@@ -494,11 +689,16 @@ public final class SdlRender {
      * @see #SDL_UnlockTexture(SDL_Texture)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_UpdateTexture(
+    public static int SDL_UpdateTexture(
             SDL_Texture texture,
             SDL_Rect rect,
             Pointer pixels,
-            int pitch);
+            int pitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpdateTexture(texture, rect, pixels, pitch);
+        SdlMetrics.end(UPDATE_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Update a rectangle within a planar YV12 or IYUV texture with new pixel
@@ -525,7 +725,7 @@ public final class SdlRender {
      * @see #SDL_UpdateTexture(SDL_Texture, SDL_Rect, Pointer, int)
      * @since This function is available since SDL 2.0.1.
      */
-    public static native int SDL_UpdateYUVTexture(
+    public static int SDL_UpdateYUVTexture(
             SDL_Texture texture,
             SDL_Rect rect,
             Pointer yPlane,
@@ -533,7 +733,12 @@ public final class SdlRender {
             Pointer uPlane,
             int uPitch,
             Pointer vPlane,
-            int vPitch);
+            int vPitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpdateYUVTexture(texture, rect, yPlane, yPitch, uPlane, uPitch, vPlane, vPitch);
+        SdlMetrics.end(UPDATE_YUV_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Update a rectangle within a planar NV12 or NV21 texture with new pixels.
@@ -554,13 +759,18 @@ public final class SdlRender {
      * @return 0 on success, or -1 if the texture is not valid.
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_UpdateNVTexture(
+    public static int SDL_UpdateNVTexture(
             SDL_Texture texture,
             SDL_Rect rect,
             Pointer yPlane,
             int yPitch,
             Pointer uvPlane,
-            int uvPitch);
+            int uvPitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpdateNVTexture(texture, rect, yPlane, yPitch, uvPlane, uvPitch);
+        SdlMetrics.end(UPDATE_NV_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Lock a portion of the texture for **write-only** pixel access.
@@ -587,11 +797,16 @@ public final class SdlRender {
      * @see #SDL_UnlockTexture(SDL_Texture)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_LockTexture(
+    public static int SDL_LockTexture(
             SDL_Texture texture,
             SDL_Rect rect,
             PointerByReference pixels,
-            IntByReference pitch);
+            IntByReference pitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LockTexture(texture, rect, pixels, pitch);
+        SdlMetrics.end(LOCK_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Lock a portion of the texture for **write-only** pixel access, and expose
@@ -623,10 +838,15 @@ public final class SdlRender {
      * @see #SDL_UnlockTexture(SDL_Texture)
      * @since This function is available since SDL 2.0.12.
      */
-    public static native int SDL_LockTextureToSurface(
+    public static int SDL_LockTextureToSurface(
             SDL_Texture texture,
             SDL_Rect rect,
-            SDL_Surface.Ref surface);
+            SDL_Surface.Ref surface) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LockTextureToSurface(texture, rect, surface);
+        SdlMetrics.end(LOCK_TEXTURE_TO_SURFACE, start);
+        return result;
+    }
 
     /**
      * Unlock a texture, uploading the changes to video memory, if needed.
@@ -643,8 +863,12 @@ public final class SdlRender {
      * @see #SDL_LockTexture(SDL_Texture, SDL_Rect, PointerByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_UnlockTexture(
-            SDL_Texture texture);
+    public static void SDL_UnlockTexture(
+            SDL_Texture texture) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockTexture(texture);
+        SdlMetrics.end(UNLOCK_TEXTURE, start);
+    }
 
     /**
      * Determine whether a renderer supports the use of render targets.
@@ -654,8 +878,13 @@ public final class SdlRender {
      * @see #SDL_SetRenderTarget(SDL_Renderer, SDL_Texture)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_RenderTargetSupported(
-            SDL_Renderer renderer);
+    public static boolean SDL_RenderTargetSupported(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_RenderTargetSupported(renderer);
+        SdlMetrics.end(RENDER_TARGET_SUPPORTED, start);
+        return result;
+    }
 
     /**
      * Set a texture as the current rendering target.
@@ -677,9 +906,14 @@ public final class SdlRender {
      * @see #SDL_GetRenderTarget(SDL_Renderer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetRenderTarget(
+    public static int SDL_SetRenderTarget(
             SDL_Renderer renderer,
-            SDL_Texture texture);
+            SDL_Texture texture) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetRenderTarget(renderer, texture);
+        SdlMetrics.end(SET_RENDER_TARGET, start);
+        return result;
+    }
 
     /**
      * Get the current render target.
@@ -692,8 +926,13 @@ public final class SdlRender {
      * @see #SDL_SetRenderTarget(SDL_Renderer, SDL_Texture)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Texture SDL_GetRenderTarget(
-            SDL_Renderer renderer);
+    public static SDL_Texture SDL_GetRenderTarget(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        SDL_Texture result = InternalNativeFunctions.SDL_GetRenderTarget(renderer);
+        SdlMetrics.end(GET_RENDER_TARGET, start);
+        return result;
+    }
 
     /**
      * Set a device independent resolution for rendering.
@@ -719,10 +958,15 @@ public final class SdlRender {
      * @see #SDL_RenderGetLogicalSize(SDL_Renderer, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderSetLogicalSize(
+    public static int SDL_RenderSetLogicalSize(
             SDL_Renderer renderer,
             int w,
-            int h);
+            int h) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetLogicalSize(renderer, w, h);
+        SdlMetrics.end(RENDER_SET_LOGICAL_SIZE, start);
+        return result;
+    }
 
     /**
      * Get device independent resolution for rendering.
@@ -741,10 +985,14 @@ public final class SdlRender {
      * @see #SDL_RenderSetLogicalSize(SDL_Renderer, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RenderGetLogicalSize(
+    public static void SDL_RenderGetLogicalSize(
             SDL_Renderer renderer,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderGetLogicalSize(renderer, w, h);
+        SdlMetrics.end(RENDER_GET_LOGICAL_SIZE, start);
+    }
 
     /**
      * Set whether to force integer scales for resolution-independent rendering.
@@ -761,9 +1009,14 @@ public final class SdlRender {
      * @see #SDL_RenderSetLogicalSize(SDL_Renderer, int, int)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_RenderSetIntegerScale(
+    public static int SDL_RenderSetIntegerScale(
             SDL_Renderer renderer,
-            boolean enable);
+            boolean enable) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetIntegerScale(renderer, enable);
+        SdlMetrics.end(RENDER_SET_INTEGER_SCALE, start);
+        return result;
+    }
 
     /**
      * Get whether integer scales are forced for resolution-independent rendering.
@@ -774,8 +1027,13 @@ public final class SdlRender {
      * @see #SDL_RenderSetIntegerScale(SDL_Renderer, boolean)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native boolean SDL_RenderGetIntegerScale(
-            SDL_Renderer renderer);
+    public static boolean SDL_RenderGetIntegerScale(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_RenderGetIntegerScale(renderer);
+        SdlMetrics.end(RENDER_GET_INTEGER_SCALE, start);
+        return result;
+    }
 
     /**
      * Set the drawing area for rendering on the current target.
@@ -791,9 +1049,14 @@ public final class SdlRender {
      * @see #SDL_RenderGetViewport(SDL_Renderer, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderSetViewport(
+    public static int SDL_RenderSetViewport(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetViewport(renderer, rect);
+        SdlMetrics.end(RENDER_SET_VIEWPORT, start);
+        return result;
+    }
 
     /**
      * Get the drawing area for the current target.
@@ -803,9 +1066,13 @@ public final class SdlRender {
      * @see #SDL_RenderSetViewport(SDL_Renderer, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RenderGetViewport(
+    public static void SDL_RenderGetViewport(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderGetViewport(renderer, rect);
+        SdlMetrics.end(RENDER_GET_VIEWPORT, start);
+    }
 
     /**
      * Set the clip rectangle for rendering on the specified target.
@@ -820,9 +1087,14 @@ public final class SdlRender {
      * @see #SDL_RenderIsClipEnabled(SDL_Renderer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderSetClipRect(
+    public static int SDL_RenderSetClipRect(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetClipRect(renderer, rect);
+        SdlMetrics.end(RENDER_SET_CLIP_RECT, start);
+        return result;
+    }
 
     /**
      * Get the clip rectangle for the current target.
@@ -835,9 +1107,13 @@ public final class SdlRender {
      * @see #SDL_RenderSetClipRect(SDL_Renderer, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RenderGetClipRect(
+    public static void SDL_RenderGetClipRect(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderGetClipRect(renderer, rect);
+        SdlMetrics.end(RENDER_GET_CLIP_RECT, start);
+    }
 
     /**
      * Get whether clipping is enabled on the given renderer.
@@ -849,8 +1125,13 @@ public final class SdlRender {
      * @see #SDL_RenderSetClipRect(SDL_Renderer, SDL_Rect)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native boolean SDL_RenderIsClipEnabled(
-            SDL_Renderer renderer);
+    public static boolean SDL_RenderIsClipEnabled(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_RenderIsClipEnabled(renderer);
+        SdlMetrics.end(RENDER_IS_CLIP_ENABLED, start);
+        return result;
+    }
 
     /**
      * Set the drawing scale for rendering on the current target.
@@ -872,10 +1153,15 @@ public final class SdlRender {
      * @see #SDL_RenderSetLogicalSize(SDL_Renderer, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderSetScale(
+    public static int SDL_RenderSetScale(
             SDL_Renderer renderer,
             float scaleX,
-            float scaleY);
+            float scaleY) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetScale(renderer, scaleX, scaleY);
+        SdlMetrics.end(RENDER_SET_SCALE, start);
+        return result;
+    }
 
     /**
      * Get the drawing scale for the current target.
@@ -886,10 +1172,14 @@ public final class SdlRender {
      * @see #SDL_RenderSetScale(SDL_Renderer, float, float)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RenderGetScale(
+    public static void SDL_RenderGetScale(
             SDL_Renderer renderer,
             FloatByReference scaleX,
-            FloatByReference scaleY);
+            FloatByReference scaleY) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderGetScale(renderer, scaleX, scaleY);
+        SdlMetrics.end(RENDER_GET_SCALE, start);
+    }
 
     /**
      * Get logical coordinates of point in renderer when given real coordinates of
@@ -910,12 +1200,16 @@ public final class SdlRender {
      * @see #SDL_RenderSetLogicalSize(SDL_Renderer, int, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native void SDL_RenderWindowToLogical(
+    public static void SDL_RenderWindowToLogical(
             SDL_Renderer renderer,
             int windowX,
             int windowY,
             FloatByReference logicalX,
-            FloatByReference logicalY);
+            FloatByReference logicalY) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderWindowToLogical(renderer, windowX, windowY, logicalX, logicalY);
+        SdlMetrics.end(RENDER_WINDOW_TO_LOGICAL, start);
+    }
 
 
     /**
@@ -937,12 +1231,16 @@ public final class SdlRender {
      * @see #SDL_RenderSetLogicalSize(SDL_Renderer, int, int)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native void SDL_RenderLogicalToWindow(
+    public static void SDL_RenderLogicalToWindow(
             SDL_Renderer renderer,
             float logicalX,
             float logicalY,
             IntByReference windowX,
-            IntByReference windowY);
+            IntByReference windowY) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderLogicalToWindow(renderer, logicalX, logicalY, windowX, windowY);
+        SdlMetrics.end(RENDER_LOGICAL_TO_WINDOW, start);
+    }
 
     /**
      * Set the color used for drawing operations (Rect, Line and Clear).
@@ -971,12 +1269,17 @@ public final class SdlRender {
      * @see #SDL_RenderFillRects(SDL_Renderer, ContiguousArrayList)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetRenderDrawColor(
+    public static int SDL_SetRenderDrawColor(
             SDL_Renderer renderer,
             byte r,
             byte g,
             byte b,
-            byte a);
+            byte a) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetRenderDrawColor(renderer, r, g, b, a);
+        SdlMetrics.end(SET_RENDER_DRAW_COLOR, start);
+        return result;
+    }
 
     /**
      * Get the color used for drawing operations (Rect, Line and Clear).
@@ -995,12 +1298,17 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetRenderDrawColor(
+    public static int SDL_GetRenderDrawColor(
             SDL_Renderer renderer,
             ByteByReference r,
             ByteByReference g,
             ByteByReference b,
-            ByteByReference a);
+            ByteByReference a) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRenderDrawColor(renderer, r, g, b, a);
+        SdlMetrics.end(GET_RENDER_DRAW_COLOR, start);
+        return result;
+    }
 
     /**
      * Set the blend mode used for drawing operations (Fill and Line).
@@ -1022,9 +1330,14 @@ public final class SdlRender {
      * @see #SDL_RenderFillRects(SDL_Renderer, ContiguousArrayList)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetRenderDrawBlendMode(
+    public static int SDL_SetRenderDrawBlendMode(
             SDL_Renderer renderer,
-            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode);
+            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetRenderDrawBlendMode(renderer, blendMode);
+        SdlMetrics.end(SET_RENDER_DRAW_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Get the blend mode used for drawing operations.
@@ -1036,9 +1349,14 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawBlendMode(SDL_Renderer, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetRenderDrawBlendMode(
+    public static int SDL_GetRenderDrawBlendMode(
             SDL_Renderer renderer,
-            SDL_BlendMode.Ref blendMode);
+            SDL_BlendMode.Ref blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRenderDrawBlendMode(renderer, blendMode);
+        SdlMetrics.end(GET_RENDER_DRAW_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Clear the current rendering target with the drawing color.
@@ -1052,8 +1370,13 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderClear(
-            SDL_Renderer renderer);
+    public static int SDL_RenderClear(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderClear(renderer);
+        SdlMetrics.end(RENDER_CLEAR, start);
+        return result;
+    }
 
     /**
      * Draw a point on the current rendering target.
@@ -1078,10 +1401,15 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawPoint(
+    public static int SDL_RenderDrawPoint(
             SDL_Renderer renderer,
             int x,
-            int y);
+            int y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawPoint(renderer, x, y);
+        SdlMetrics.end(RENDER_DRAW_POINT, start);
+        return result;
+    }
 
     /**
      * Draw multiple points on the current rendering target.
@@ -1111,8 +1439,8 @@ public final class SdlRender {
         if (points.size() == 0) {
             return 0;
         }
-        try (Memory pointsBuffer = JnaUtils.writeListToNativeMemory(points)) {
-            return SDL_RenderDrawPoints(renderer, pointsBuffer, points.size());
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawPoints(renderer, JnaUtils.writeListToNativeMemory(arena, points), points.size());
         }
     }
 
@@ -1155,8 +1483,8 @@ public final class SdlRender {
             SDL_SetError("Invalid length of the int[] array. It must consist of pairs of `int x` and `int y`.");
             return -1;
         }
-        try (Memory pointsBuffer = JnaUtils.writeArrayToNativeMemory(intXandY)) {
-            return SDL_RenderDrawPoints(renderer, pointsBuffer, intXandY.length / 2);
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawPoints(renderer, JnaUtils.writeArrayToNativeMemory(arena, intXandY), intXandY.length / 2);
         }
     }
 
@@ -1184,10 +1512,15 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawPoints(
+    public static int SDL_RenderDrawPoints(
             SDL_Renderer renderer,
             Pointer points,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawPoints(renderer, points, count);
+        SdlMetrics.end(RENDER_DRAW_POINTS, start);
+        return result;
+    }
 
     /**
      * Draw a line on the current rendering target.
@@ -1214,12 +1547,17 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawLine(
+    public static int SDL_RenderDrawLine(
             SDL_Renderer renderer,
             int x1,
             int y1,
             int x2,
-            int y2);
+            int y2) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawLine(renderer, x1, y1, x2, y2);
+        SdlMetrics.end(RENDER_DRAW_LINE, start);
+        return result;
+    }
 
     /**
      * Draw a series of connected lines on the current rendering target.
@@ -1249,8 +1587,8 @@ public final class SdlRender {
         if (points.size() == 0) {
             return 0;
         }
-        try (Memory pointsBuffer = JnaUtils.writeListToNativeMemory(points)) {
-            return SDL_RenderDrawLines(renderer, pointsBuffer, points.size());
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawLines(renderer, JnaUtils.writeListToNativeMemory(arena, points), points.size());
         }
     }
 
@@ -1278,10 +1616,15 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawLines(
+    public static int SDL_RenderDrawLines(
             SDL_Renderer renderer,
             Pointer points,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawLines(renderer, points, count);
+        SdlMetrics.end(RENDER_DRAW_LINES, start);
+        return result;
+    }
 
     /**
      * Draw a rectangle on the current rendering target.
@@ -1303,9 +1646,14 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawRect(
+    public static int SDL_RenderDrawRect(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawRect(renderer, rect);
+        SdlMetrics.end(RENDER_DRAW_RECT, start);
+        return result;
+    }
 
     /**
      * Draw some number of rectangles on the current rendering target.
@@ -1362,10 +1710,15 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderDrawRects(
+    public static int SDL_RenderDrawRects(
             SDL_Renderer renderer,
             Pointer rects,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawRects(renderer, rects, count);
+        SdlMetrics.end(RENDER_DRAW_RECTS, start);
+        return result;
+    }
 
     /**
      * Fill a rectangle on the current rendering target with the drawing color.
@@ -1391,9 +1744,14 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderFillRect(
+    public static int SDL_RenderFillRect(
             SDL_Renderer renderer,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderFillRect(renderer, rect);
+        SdlMetrics.end(RENDER_FILL_RECT, start);
+        return result;
+    }
 
     /**
      * Fill some number of rectangles on the current rendering target with the
@@ -1448,10 +1806,15 @@ public final class SdlRender {
      * @see #SDL_RenderPresent(SDL_Renderer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderFillRects(
+    public static int SDL_RenderFillRects(
             SDL_Renderer renderer,
             Pointer rects,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderFillRects(renderer, rects, count);
+        SdlMetrics.end(RENDER_FILL_RECTS, start);
+        return result;
+    }
 
     /**
      * Copy a portion of the texture to the current rendering target.
@@ -1479,11 +1842,16 @@ public final class SdlRender {
      * @see #SDL_SetTextureColorMod(SDL_Texture, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderCopy(
+    public static int SDL_RenderCopy(
             SDL_Renderer renderer,
             SDL_Texture texture,
             SDL_Rect srcRect,
-            SDL_Rect dstRect);
+            SDL_Rect dstRect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderCopy(renderer, texture, srcRect, dstRect);
+        SdlMetrics.end(RENDER_COPY, start);
+        return result;
+    }
 
     /**
      * Copy a portion of the texture to the current rendering, with optional
@@ -1535,9 +1903,8 @@ public final class SdlRender {
         if (center == null) {
             return SDL_RenderCopyEx(renderer, texture, srcRect, dstRect, angle, (Pointer) null, flip);
         } else {
-            try (Memory rawCenterPoint = new Memory(center.size())) {
-                center.write(rawCenterPoint, 0L);
-                return SDL_RenderCopyEx(renderer, texture, srcRect, dstRect, angle, rawCenterPoint, flip);
+            try (ScratchArena arena = ScratchArena.push()) {
+                return SDL_RenderCopyEx(renderer, texture, srcRect, dstRect, angle, JnaUtils.writeToNativeMemory(arena, center), flip);
             }
         }
     }
@@ -1582,14 +1949,19 @@ public final class SdlRender {
      * @see #SDL_SetTextureColorMod(SDL_Texture, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderCopyEx(
+    public static int SDL_RenderCopyEx(
             SDL_Renderer renderer,
             SDL_Texture texture,
             SDL_Rect srcRect,
             SDL_Rect dstRect,
             double angle,
             Pointer center,
-            @MagicConstant(valuesFromClass = SDL_RendererFlip.class) int flip);
+            @MagicConstant(valuesFromClass = SDL_RendererFlip.class) int flip) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderCopyEx(renderer, texture, srcRect, dstRect, angle, center, flip);
+        SdlMetrics.end(RENDER_COPY_EX, start);
+        return result;
+    }
 
     /**
      * Draw a point on the current rendering target at subpixel precision.
@@ -1600,10 +1972,15 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawPointF(
+    public static int SDL_RenderDrawPointF(
             SDL_Renderer renderer,
             float x,
-            float y);
+            float y) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawPointF(renderer, x, y);
+        SdlMetrics.end(RENDER_DRAW_POINT_F, start);
+        return result;
+    }
 
     /**
      * Draw multiple points on the current rendering target at subpixel precision.
@@ -1621,8 +1998,35 @@ public final class SdlRender {
         if (fPoints.size() == 0) {
             return 0;
         }
-        try (Memory fPointsBuffer = JnaUtils.writeListToNativeMemory(fPoints)) {
-            return SDL_RenderDrawPointsF(renderer, fPointsBuffer, fPoints.size());
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawPointsF(renderer, JnaUtils.writeListToNativeMemory(arena, fPoints), fPoints.size());
+        }
+    }
+
+    /**
+     * Draw multiple points on the current rendering target at subpixel precision.
+     *
+     * <p>This is a buffer version of the function. The remaining floats of the buffer hold the X and Y values
+     * of the points, interleaving one another. A direct buffer is passed to SDL without copying, so no
+     * structure has to be created per point.</p>
+     *
+     * @param renderer The renderer which should draw multiple points.
+     * @param xy       The X and Y values of the points to draw
+     * @return 0 on success, or -1 on error
+     * @since This function is available since SDL 2.0.10.
+     */
+    public static int SDL_RenderDrawPointsF(
+            SDL_Renderer renderer,
+            FloatBuffer xy) {
+        if (!xy.hasRemaining()) {
+            return 0;
+        }
+        if (xy.remaining() % 2 != 0) {
+            SDL_SetError("Invalid number of floats in the buffer. It must consist of pairs of `float x` and `float y`.");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawPointsF(renderer, JnaUtils.getBufferPointer(arena, xy), xy.remaining() / 2);
         }
     }
 
@@ -1638,10 +2042,15 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawPointsF(
+    public static int SDL_RenderDrawPointsF(
             SDL_Renderer renderer,
             Pointer fPoints,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawPointsF(renderer, fPoints, count);
+        SdlMetrics.end(RENDER_DRAW_POINTS_F, start);
+        return result;
+    }
 
     /**
      * Draw a line on the current rendering target at subpixel precision.
@@ -1654,12 +2063,17 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawLineF(
+    public static int SDL_RenderDrawLineF(
             SDL_Renderer renderer,
             float x1,
             float y1,
             float x2,
-            float y2);
+            float y2) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawLineF(renderer, x1, y1, x2, y2);
+        SdlMetrics.end(RENDER_DRAW_LINE_F, start);
+        return result;
+    }
 
     /**
      * Draw a series of connected lines on the current rendering target at
@@ -1678,8 +2092,36 @@ public final class SdlRender {
         if (fPoints.size() == 0) {
             return 0;
         }
-        try (Memory fPointsBuffer = JnaUtils.writeListToNativeMemory(fPoints)) {
-            return SDL_RenderDrawLinesF(renderer, fPointsBuffer, fPoints.size());
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawLinesF(renderer, JnaUtils.writeListToNativeMemory(arena, fPoints), fPoints.size());
+        }
+    }
+
+    /**
+     * Draw a series of connected lines on the current rendering target at
+     * subpixel precision.
+     *
+     * <p>This is a buffer version of the function. The remaining floats of the buffer hold the X and Y values
+     * of the points along the lines, interleaving one another. A direct buffer is passed to SDL without copying,
+     * so no structure has to be created per point.</p>
+     *
+     * @param renderer The renderer which should draw multiple lines.
+     * @param xy       The X and Y values of the points along the lines
+     * @return 0 on success, or -1 on error
+     * @since This function is available since SDL 2.0.10.
+     */
+    public static int SDL_RenderDrawLinesF(
+            SDL_Renderer renderer,
+            FloatBuffer xy) {
+        if (!xy.hasRemaining()) {
+            return 0;
+        }
+        if (xy.remaining() % 2 != 0) {
+            SDL_SetError("Invalid number of floats in the buffer. It must consist of pairs of `float x` and `float y`.");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawLinesF(renderer, JnaUtils.getBufferPointer(arena, xy), xy.remaining() / 2);
         }
     }
 
@@ -1696,10 +2138,15 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawLinesF(
+    public static int SDL_RenderDrawLinesF(
             SDL_Renderer renderer,
             Pointer fPoints,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawLinesF(renderer, fPoints, count);
+        SdlMetrics.end(RENDER_DRAW_LINES_F, start);
+        return result;
+    }
 
     /**
      * Draw a rectangle on the current rendering target at subpixel precision.
@@ -1710,9 +2157,14 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawRectF(
+    public static int SDL_RenderDrawRectF(
             SDL_Renderer renderer,
-            SDL_FRect rect);
+            SDL_FRect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawRectF(renderer, rect);
+        SdlMetrics.end(RENDER_DRAW_RECT_F, start);
+        return result;
+    }
 
     /**
      * Draw some number of rectangles on the current rendering target at subpixel
@@ -1734,6 +2186,34 @@ public final class SdlRender {
         return SDL_RenderDrawRectsF(renderer, fRects.autoWriteAndGetPointer(), fRects.size());
     }
 
+    /**
+     * Draw some number of rectangles on the current rendering target at subpixel
+     * precision.
+     *
+     * <p>This is a buffer version of the function. The remaining floats of the buffer hold the X, Y, width
+     * and height of every rectangle, in the layout of {@link SDL_FRect}. A direct buffer is passed to SDL without
+     * copying.</p>
+     *
+     * @param renderer The renderer which should draw multiple rectangles.
+     * @param xywh     The X, Y, width and height of the rectangles to draw
+     * @return 0 on success, or -1 on error
+     * @since This function is available since SDL 2.0.10.
+     */
+    public static int SDL_RenderDrawRectsF(
+            SDL_Renderer renderer,
+            FloatBuffer xywh) {
+        if (!xywh.hasRemaining()) {
+            return 0;
+        }
+        if (xywh.remaining() % 4 != 0) {
+            SDL_SetError("Invalid number of floats in the buffer. It must consist of `float x`, `float y`, `float w` and `float h` values.");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderDrawRectsF(renderer, JnaUtils.getBufferPointer(arena, xywh), xywh.remaining() / 4);
+        }
+    }
+
     /**
      * Draw some number of rectangles on the current rendering target at subpixel
      * precision.
@@ -1747,10 +2227,15 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderDrawRectsF(
+    public static int SDL_RenderDrawRectsF(
             SDL_Renderer renderer,
             Pointer fRects,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderDrawRectsF(renderer, fRects, count);
+        SdlMetrics.end(RENDER_DRAW_RECTS_F, start);
+        return result;
+    }
 
     /**
      * Fill a rectangle on the current rendering target with the drawing color at
@@ -1762,9 +2247,14 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderFillRectF(
+    public static int SDL_RenderFillRectF(
             SDL_Renderer renderer,
-            SDL_FRect rect);
+            SDL_FRect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderFillRectF(renderer, rect);
+        SdlMetrics.end(RENDER_FILL_RECT_F, start);
+        return result;
+    }
 
     /**
      * Fill some number of rectangles on the current rendering target with the
@@ -1786,6 +2276,34 @@ public final class SdlRender {
         return SDL_RenderFillRectsF(renderer, fRects.autoWriteAndGetPointer(), fRects.size());
     }
 
+    /**
+     * Fill some number of rectangles on the current rendering target with the
+     * drawing color at subpixel precision.
+     *
+     * <p>This is a buffer version of the function. The remaining floats of the buffer hold the X, Y, width
+     * and height of every rectangle, in the layout of {@link SDL_FRect}. A direct buffer is passed to SDL without
+     * copying.</p>
+     *
+     * @param renderer The renderer which should fill multiple rectangles.
+     * @param xywh     The X, Y, width and height of the rectangles to fill
+     * @return 0 on success, or -1 on error
+     * @since This function is available since SDL 2.0.10.
+     */
+    public static int SDL_RenderFillRectsF(
+            SDL_Renderer renderer,
+            FloatBuffer xywh) {
+        if (!xywh.hasRemaining()) {
+            return 0;
+        }
+        if (xywh.remaining() % 4 != 0) {
+            SDL_SetError("Invalid number of floats in the buffer. It must consist of `float x`, `float y`, `float w` and `float h` values.");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderFillRectsF(renderer, JnaUtils.getBufferPointer(arena, xywh), xywh.remaining() / 4);
+        }
+    }
+
     /**
      * Fill some number of rectangles on the current rendering target with the
      * drawing color at subpixel precision.
@@ -1799,10 +2317,15 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderFillRectsF(
+    public static int SDL_RenderFillRectsF(
             SDL_Renderer renderer,
             Pointer rects,
-            int count);
+            int count) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderFillRectsF(renderer, rects, count);
+        SdlMetrics.end(RENDER_FILL_RECTS_F, start);
+        return result;
+    }
 
     /**
      * Copy a portion of the texture to the current rendering target at subpixel
@@ -1817,11 +2340,16 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderCopyF(
+    public static int SDL_RenderCopyF(
             SDL_Renderer renderer,
             SDL_Texture texture,
             SDL_Rect srcRect,
-            SDL_FRect dstFRect);
+            SDL_FRect dstFRect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderCopyF(renderer, texture, srcRect, dstFRect);
+        SdlMetrics.end(RENDER_COPY_F, start);
+        return result;
+    }
 
     /**
      * Copy a portion of the source texture to the current rendering target, with
@@ -1856,13 +2384,52 @@ public final class SdlRender {
         if (center == null) {
             return SDL_RenderCopyExF(renderer, texture, srcRect, dstFRect, angle, (Pointer) null, flip);
         } else {
-            try (Memory rawCenterPoint = new Memory(center.size())) {
-                center.write(rawCenterPoint, 0L);
-                return SDL_RenderCopyExF(renderer, texture, srcRect, dstFRect, angle, rawCenterPoint, flip);
+            try (ScratchArena arena = ScratchArena.push()) {
+                return SDL_RenderCopyExF(renderer, texture, srcRect, dstFRect, angle, JnaUtils.writeToNativeMemory(arena, center), flip);
             }
         }
     }
 
+    /**
+     * Copy a portion of the source texture to the current rendering target, with
+     * rotation and flipping, at subpixel precision.
+     *
+     * <p>This is a buffer version of the function. The remaining floats of the center buffer hold the X and Y
+     * of the point the rotation is done around. A direct buffer is passed to SDL without copying, so no
+     * {@link SDL_FPoint} has to be created per call.</p>
+     *
+     * @param renderer The renderer which should copy parts of a texture.
+     * @param texture  The source texture.
+     * @param srcRect  A pointer to the source rectangle, or null for the entire
+     *                 texture.
+     * @param dstFRect A pointer to the destination rectangle, or null for the
+     *                 entire rendering target.
+     * @param angle    An angle in degrees that indicates the rotation that will be
+     *                 applied to dstrect, rotating it in a clockwise direction
+     * @param center   The X and Y of the point around which dstrect will be rotated
+     *                 (if null, rotation will be done around dstrect.w/2, dstrect.h/2).
+     * @param flip     A SDL_RendererFlip value stating which flipping actions should
+     *                 be performed on the texture
+     * @return 0 on success, or -1 on error
+     * @since This function is available since SDL 2.0.10.
+     */
+    public static int SDL_RenderCopyExF(
+            SDL_Renderer renderer,
+            SDL_Texture texture,
+            SDL_Rect srcRect,
+            SDL_FRect dstFRect,
+            double angle,
+            FloatBuffer center,
+            @MagicConstant(valuesFromClass = SDL_RendererFlip.class) int flip) {
+        if (center != null && center.remaining() < 2) {
+            SDL_SetError("The center buffer must hold `float x` and `float y`.");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderCopyExF(renderer, texture, srcRect, dstFRect, angle, JnaUtils.getBufferPointer(arena, center), flip);
+        }
+    }
+
     /**
      * Copy a portion of the source texture to the current rendering target, with
      * rotation and flipping, at subpixel precision.
@@ -1886,14 +2453,19 @@ public final class SdlRender {
      * @return 0 on success, or -1 on error
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderCopyExF(
+    public static int SDL_RenderCopyExF(
             SDL_Renderer renderer,
             SDL_Texture texture,
             SDL_Rect srcRect,
             SDL_FRect dstFRect,
             double angle,
             Pointer center,
-            @MagicConstant(valuesFromClass = SDL_RendererFlip.class) int flip);
+            @MagicConstant(valuesFromClass = SDL_RendererFlip.class) int flip) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderCopyExF(renderer, texture, srcRect, dstFRect, angle, center, flip);
+        SdlMetrics.end(RENDER_COPY_EX_F, start);
+        return result;
+    }
 
     /**
      * Render a list of triangles, optionally using a texture and indices into the
@@ -1921,12 +2493,89 @@ public final class SdlRender {
         if (vertices.size() == 0) {
             return 0;
         }
-        try (Memory buffer = JnaUtils.writeListToNativeMemory(vertices);
-             Memory indicesBuffer = JnaUtils.writeArrayToNativeMemory(indices)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer buffer = JnaUtils.writeListToNativeMemory(arena, vertices);
+            Pointer indicesBuffer = JnaUtils.writeArrayToNativeMemory(arena, indices);
             return SDL_RenderGeometry(renderer, texture, buffer, vertices.size(), indicesBuffer, indices != null ? indices.length : 0);
         }
     }
 
+    /**
+     * Render a list of triangles, optionally using a texture and indices into the
+     * vertex array Color and alpha modulation is done per vertex
+     * (SDL_SetTextureColorMod and SDL_SetTextureAlphaMod are ignored).
+     *
+     * <p>This is a buffer version of the function. The remaining bytes of the vertex buffer hold packed
+     * vertices in the layout of {@link SDL_Vertex}: {@code float x, float y, byte r, byte g, byte b, byte a,
+     * float u, float v}, {@link SDL_Vertex#SIZE} bytes each. Direct buffers are passed to SDL without copying,
+     * so no {@link SDL_Vertex} has to be created per vertex.</p>
+     *
+     * @param renderer The rendering context.
+     * @param texture  (optional) The SDL texture to use.
+     * @param vertices The packed vertices, in native byte order.
+     * @param indices  (optional) The indices into the vertices, if null all vertices will be
+     *                 rendered in sequential order.
+     * @return 0 on success, or -1 if the operation is not supported
+     * @see #SDL_RenderGeometry(SDL_Renderer, SDL_Texture, FloatBuffer, IntBuffer)
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_RenderGeometry(
+            SDL_Renderer renderer,
+            SDL_Texture texture,
+            ByteBuffer vertices,
+            IntBuffer indices) {
+        if (!vertices.hasRemaining()) {
+            return 0;
+        }
+        if (vertices.remaining() % SDL_Vertex.SIZE != 0) {
+            SDL_SetError("Invalid number of bytes in the vertex buffer. It must be a multiple of " + SDL_Vertex.SIZE + ".");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderGeometry(renderer, texture, JnaUtils.getBufferPointer(arena, vertices), vertices.remaining() / SDL_Vertex.SIZE,
+                    JnaUtils.getBufferPointer(arena, indices), indices != null ? indices.remaining() : 0);
+        }
+    }
+
+    /**
+     * Render a list of triangles, optionally using a texture and indices into the
+     * vertex array Color and alpha modulation is done per vertex
+     * (SDL_SetTextureColorMod and SDL_SetTextureAlphaMod are ignored).
+     *
+     * <p>This is a buffer version of the function. Every vertex takes 5 floats of the buffer in the layout of
+     * {@link SDL_Vertex}: {@code x, y, rgba, u, v}, where the color is the native-ordered bytes
+     * {@code r, g, b, a} stored in a float slot, for example with {@code buffer.put(Float.intBitsToFloat(rgba))}
+     * or through an {@code IntBuffer} view of the same memory. Direct buffers are passed to SDL without copying,
+     * so no {@link SDL_Vertex} has to be created per vertex.</p>
+     *
+     * @param renderer The rendering context.
+     * @param texture  (optional) The SDL texture to use.
+     * @param vertices The interleaved vertices.
+     * @param indices  (optional) The indices into the vertices, if null all vertices will be
+     *                 rendered in sequential order.
+     * @return 0 on success, or -1 if the operation is not supported
+     * @see #SDL_RenderGeometry(SDL_Renderer, SDL_Texture, ByteBuffer, IntBuffer)
+     * @since This function is available since SDL 2.0.18.
+     */
+    public static int SDL_RenderGeometry(
+            SDL_Renderer renderer,
+            SDL_Texture texture,
+            FloatBuffer vertices,
+            IntBuffer indices) {
+        if (!vertices.hasRemaining()) {
+            return 0;
+        }
+        int floatsPerVertex = SDL_Vertex.SIZE / 4;
+        if (vertices.remaining() % floatsPerVertex != 0) {
+            SDL_SetError("Invalid number of floats in the vertex buffer. It must be a multiple of " + floatsPerVertex + ".");
+            return -1;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_RenderGeometry(renderer, texture, JnaUtils.getBufferPointer(arena, vertices), vertices.remaining() / floatsPerVertex,
+                    JnaUtils.getBufferPointer(arena, indices), indices != null ? indices.remaining() : 0);
+        }
+    }
+
     /**
      * Render a list of triangles, optionally using a texture and indices into the
      * vertex array Color and alpha modulation is done per vertex
@@ -1948,13 +2597,18 @@ public final class SdlRender {
      * @see SDL_Vertex
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_RenderGeometry(
+    public static int SDL_RenderGeometry(
             SDL_Renderer renderer,
             SDL_Texture texture,
             Pointer vertices,
             int numVertices,
             Pointer indices,
-            int numIndices);
+            int numIndices) {
+        long start = SdlMetrics.begin();
+        int result = HotPath.SDL_RenderGeometry(renderer, texture, vertices, numVertices, indices, numIndices);
+        SdlMetrics.end(RENDER_GEOMETRY, start);
+        return result;
+    }
 
     /**
      * Render a list of triangles, optionally using a texture and indices into the
@@ -1979,7 +2633,7 @@ public final class SdlRender {
      * @see SDL_Vertex
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_RenderGeometryRaw(
+    public static int SDL_RenderGeometryRaw(
             SDL_Renderer renderer,
             SDL_Texture texture,
             Pointer xy,
@@ -1991,7 +2645,12 @@ public final class SdlRender {
             int numVertices,
             Pointer indices,
             int numIndices,
-            int sizeIndices);
+            int sizeIndices) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderGeometryRaw(renderer, texture, xy, xyStride, color, colorStride, uv, uvStride, numVertices, indices, numIndices, sizeIndices);
+        SdlMetrics.end(RENDER_GEOMETRY_RAW, start);
+        return result;
+    }
 
     /**
      * Read pixels from the current rendering target to an array of pixels.
@@ -2018,12 +2677,17 @@ public final class SdlRender {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_RenderReadPixels(
+    public static int SDL_RenderReadPixels(
             SDL_Renderer renderer,
             SDL_Rect rect,
             int format,
             Pointer pixels,
-            int pitch);
+            int pitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderReadPixels(renderer, rect, format, pixels, pitch);
+        SdlMetrics.end(RENDER_READ_PIXELS, start);
+        return result;
+    }
 
     /**
      * Update the screen with any rendering performed since the previous call.
@@ -2063,8 +2727,12 @@ public final class SdlRender {
      * @see #SDL_SetRenderDrawColor(SDL_Renderer, byte, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RenderPresent(
-            SDL_Renderer renderer);
+    public static void SDL_RenderPresent(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RenderPresent(renderer);
+        SdlMetrics.end(RENDER_PRESENT, start);
+    }
 
     /**
      * Destroy the specified texture.
@@ -2077,8 +2745,12 @@ public final class SdlRender {
      * @see #SDL_CreateTextureFromSurface(SDL_Renderer, SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DestroyTexture(
-            SDL_Texture texture);
+    public static void SDL_DestroyTexture(
+            SDL_Texture texture) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DestroyTexture(texture);
+        SdlMetrics.end(DESTROY_TEXTURE, start);
+    }
 
     /**
      * Destroy the rendering context for a window and free associated textures.
@@ -2090,8 +2762,12 @@ public final class SdlRender {
      * @see #SDL_CreateRenderer(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DestroyRenderer(
-            SDL_Renderer renderer);
+    public static void SDL_DestroyRenderer(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DestroyRenderer(renderer);
+        SdlMetrics.end(DESTROY_RENDERER, start);
+    }
 
     /**
      * Force the rendering context to flush any pending commands to the underlying
@@ -2121,8 +2797,13 @@ public final class SdlRender {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RenderFlush(
-            SDL_Renderer renderer);
+    public static int SDL_RenderFlush(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderFlush(renderer);
+        SdlMetrics.end(RENDER_FLUSH, start);
+        return result;
+    }
 
     /**
      * Bind an OpenGL/ES/ES2 texture to the current context.
@@ -2157,10 +2838,15 @@ public final class SdlRender {
      * @see #SDL_GL_UnbindTexture(SDL_Texture)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_BindTexture(
+    public static int SDL_GL_BindTexture(
             SDL_Texture texture,
             FloatByReference texw,
-            FloatByReference texh);
+            FloatByReference texh) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_BindTexture(texture, texw, texh);
+        SdlMetrics.end(GL_BIND_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Unbind an OpenGL/ES/ES2 texture from the current context.
@@ -2173,8 +2859,13 @@ public final class SdlRender {
      * @see com.mrcrayfish.controllable_sdl.api.video.SdlVideo#SDL_GL_MakeCurrent(SDL_Window, SDL_GLContext)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_UnbindTexture(
-            SDL_Texture texture);
+    public static int SDL_GL_UnbindTexture(
+            SDL_Texture texture) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_UnbindTexture(texture);
+        SdlMetrics.end(GL_UNBIND_TEXTURE, start);
+        return result;
+    }
 
     /**
      * Get the CAMetalLayer associated with the given Metal renderer.
@@ -2188,8 +2879,13 @@ public final class SdlRender {
      * @see #SDL_RenderGetMetalCommandEncoder(SDL_Renderer)
      * @since This function is available since SDL 2.0.8.
      */
-    public static native Pointer SDL_RenderGetMetalLayer(
-            SDL_Renderer renderer);
+    public static Pointer SDL_RenderGetMetalLayer(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_RenderGetMetalLayer(renderer);
+        SdlMetrics.end(RENDER_GET_METAL_LAYER, start);
+        return result;
+    }
 
     /**
      * Get the Metal command encoder for the current frame
@@ -2208,8 +2904,13 @@ public final class SdlRender {
      * @see #SDL_RenderGetMetalLayer(SDL_Renderer)
      * @since This function is available since SDL 2.0.8.
      */
-    public static native Pointer SDL_RenderGetMetalCommandEncoder(
-            SDL_Renderer renderer);
+    public static Pointer SDL_RenderGetMetalCommandEncoder(
+            SDL_Renderer renderer) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_RenderGetMetalCommandEncoder(renderer);
+        SdlMetrics.end(RENDER_GET_METAL_COMMAND_ENCODER, start);
+        return result;
+    }
 
     /**
      * Toggle VSync of the given renderer.
@@ -2219,7 +2920,413 @@ public final class SdlRender {
      * @return a 0 int on success, or non-zero on failure
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_RenderSetVSync(
+    public static int SDL_RenderSetVSync(
             SDL_Renderer renderer,
-            int vsync);
+            int vsync) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RenderSetVSync(renderer, vsync);
+        SdlMetrics.end(RENDER_SET_V_SYNC, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native void SDL_RenderPresent(
+                SDL_Renderer renderer);
+
+        public static native int SDL_GetNumRenderDrivers();
+
+        public static native int SDL_GetRenderDriverInfo(
+                int index,
+                SDL_RendererInfo info);
+
+        public static native int SDL_CreateWindowAndRenderer(
+                int width,
+                int height,
+                int windowFlags,
+                SDL_Window.Ref window,
+                SDL_Renderer.Ref renderer);
+
+        public static native SDL_Renderer SDL_CreateRenderer(
+                SDL_Window window,
+                int index,
+                int flags);
+
+        public static native SDL_Renderer SDL_CreateSoftwareRenderer(
+                SDL_Surface surface);
+
+        public static native SDL_Renderer SDL_GetRenderer(
+                SDL_Window window);
+
+        public static native SDL_Window SDL_RenderGetWindow(
+                SDL_Renderer renderer);
+
+        public static native int SDL_GetRendererInfo(
+                SDL_Renderer renderer,
+                SDL_RendererInfo info);
+
+        public static native int SDL_GetRendererOutputSize(
+                SDL_Renderer renderer,
+                IntByReference w,
+                IntByReference h);
+
+        public static native SDL_Texture SDL_CreateTexture(
+                SDL_Renderer renderer,
+                int format,
+                int access,
+                int w,
+                int h);
+
+        public static native SDL_Texture SDL_CreateTextureFromSurface(
+                SDL_Renderer renderer,
+                SDL_Surface surface);
+
+        public static native int SDL_QueryTexture(
+                SDL_Texture texture,
+                IntByReference format,
+                IntByReference access,
+                IntByReference w,
+                IntByReference h);
+
+        public static native int SDL_SetTextureColorMod(
+                SDL_Texture texture,
+                byte r,
+                byte g,
+                byte b);
+
+        public static native int SDL_GetTextureColorMod(
+                SDL_Texture texture,
+                ByteByReference r,
+                ByteByReference g,
+                ByteByReference b);
+
+        public static native int SDL_SetTextureAlphaMod(
+                SDL_Texture texture,
+                byte alpha);
+
+        public static native int SDL_GetTextureAlphaMod(
+                SDL_Texture texture,
+                ByteByReference alpha);
+
+        public static native int SDL_SetTextureBlendMode(
+                SDL_Texture texture,
+                int blendMode);
+
+        public static native int SDL_GetTextureBlendMode(
+                SDL_Texture texture,
+                SDL_BlendMode.Ref blendMode);
+
+        public static native int SDL_SetTextureScaleMode(
+                SDL_Texture texture,
+                int scaleMode);
+
+        public static native int SDL_GetTextureScaleMode(
+                SDL_Texture texture,
+                SDL_ScaleMode.Ref scaleMode);
+
+        public static native int SDL_SetTextureUserData(
+                SDL_Texture texture,
+                Pointer userdata);
+
+        public static native Pointer SDL_GetTextureUserData(
+                SDL_Texture texture);
+
+        public static native int SDL_UpdateTexture(
+                SDL_Texture texture,
+                SDL_Rect rect,
+                Pointer pixels,
+                int pitch);
+
+        public static native int SDL_UpdateYUVTexture(
+                SDL_Texture texture,
+                SDL_Rect rect,
+                Pointer yPlane,
+                int yPitch,
+                Pointer uPlane,
+                int uPitch,
+                Pointer vPlane,
+                int vPitch);
+
+        public static native int SDL_UpdateNVTexture(
+                SDL_Texture texture,
+                SDL_Rect rect,
+                Pointer yPlane,
+                int yPitch,
+                Pointer uvPlane,
+                int uvPitch);
+
+        public static native int SDL_LockTexture(
+                SDL_Texture texture,
+                SDL_Rect rect,
+                PointerByReference pixels,
+                IntByReference pitch);
+
+        public static native int SDL_LockTextureToSurface(
+                SDL_Texture texture,
+                SDL_Rect rect,
+                SDL_Surface.Ref surface);
+
+        public static native void SDL_UnlockTexture(
+                SDL_Texture texture);
+
+        public static native boolean SDL_RenderTargetSupported(
+                SDL_Renderer renderer);
+
+        public static native int SDL_SetRenderTarget(
+                SDL_Renderer renderer,
+                SDL_Texture texture);
+
+        public static native SDL_Texture SDL_GetRenderTarget(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderSetLogicalSize(
+                SDL_Renderer renderer,
+                int w,
+                int h);
+
+        public static native void SDL_RenderGetLogicalSize(
+                SDL_Renderer renderer,
+                IntByReference w,
+                IntByReference h);
+
+        public static native int SDL_RenderSetIntegerScale(
+                SDL_Renderer renderer,
+                boolean enable);
+
+        public static native boolean SDL_RenderGetIntegerScale(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderSetViewport(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native void SDL_RenderGetViewport(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native int SDL_RenderSetClipRect(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native void SDL_RenderGetClipRect(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native boolean SDL_RenderIsClipEnabled(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderSetScale(
+                SDL_Renderer renderer,
+                float scaleX,
+                float scaleY);
+
+        public static native void SDL_RenderGetScale(
+                SDL_Renderer renderer,
+                FloatByReference scaleX,
+                FloatByReference scaleY);
+
+        public static native void SDL_RenderWindowToLogical(
+                SDL_Renderer renderer,
+                int windowX,
+                int windowY,
+                FloatByReference logicalX,
+                FloatByReference logicalY);
+
+        public static native void SDL_RenderLogicalToWindow(
+                SDL_Renderer renderer,
+                float logicalX,
+                float logicalY,
+                IntByReference windowX,
+                IntByReference windowY);
+
+        public static native int SDL_SetRenderDrawColor(
+                SDL_Renderer renderer,
+                byte r,
+                byte g,
+                byte b,
+                byte a);
+
+        public static native int SDL_GetRenderDrawColor(
+                SDL_Renderer renderer,
+                ByteByReference r,
+                ByteByReference g,
+                ByteByReference b,
+                ByteByReference a);
+
+        public static native int SDL_SetRenderDrawBlendMode(
+                SDL_Renderer renderer,
+                int blendMode);
+
+        public static native int SDL_GetRenderDrawBlendMode(
+                SDL_Renderer renderer,
+                SDL_BlendMode.Ref blendMode);
+
+        public static native int SDL_RenderClear(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderDrawPoint(
+                SDL_Renderer renderer,
+                int x,
+                int y);
+
+        public static native int SDL_RenderDrawPoints(
+                SDL_Renderer renderer,
+                Pointer points,
+                int count);
+
+        public static native int SDL_RenderDrawLine(
+                SDL_Renderer renderer,
+                int x1,
+                int y1,
+                int x2,
+                int y2);
+
+        public static native int SDL_RenderDrawLines(
+                SDL_Renderer renderer,
+                Pointer points,
+                int count);
+
+        public static native int SDL_RenderDrawRect(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native int SDL_RenderDrawRects(
+                SDL_Renderer renderer,
+                Pointer rects,
+                int count);
+
+        public static native int SDL_RenderFillRect(
+                SDL_Renderer renderer,
+                SDL_Rect rect);
+
+        public static native int SDL_RenderFillRects(
+                SDL_Renderer renderer,
+                Pointer rects,
+                int count);
+
+        public static native int SDL_RenderCopy(
+                SDL_Renderer renderer,
+                SDL_Texture texture,
+                SDL_Rect srcRect,
+                SDL_Rect dstRect);
+
+        public static native int SDL_RenderCopyEx(
+                SDL_Renderer renderer,
+                SDL_Texture texture,
+                SDL_Rect srcRect,
+                SDL_Rect dstRect,
+                double angle,
+                Pointer center,
+                int flip);
+
+        public static native int SDL_RenderDrawPointF(
+                SDL_Renderer renderer,
+                float x,
+                float y);
+
+        public static native int SDL_RenderDrawPointsF(
+                SDL_Renderer renderer,
+                Pointer fPoints,
+                int count);
+
+        public static native int SDL_RenderDrawLineF(
+                SDL_Renderer renderer,
+                float x1,
+                float y1,
+                float x2,
+                float y2);
+
+        public static native int SDL_RenderDrawLinesF(
+                SDL_Renderer renderer,
+                Pointer fPoints,
+                int count);
+
+        public static native int SDL_RenderDrawRectF(
+                SDL_Renderer renderer,
+                SDL_FRect rect);
+
+        public static native int SDL_RenderDrawRectsF(
+                SDL_Renderer renderer,
+                Pointer fRects,
+                int count);
+
+        public static native int SDL_RenderFillRectF(
+                SDL_Renderer renderer,
+                SDL_FRect rect);
+
+        public static native int SDL_RenderFillRectsF(
+                SDL_Renderer renderer,
+                Pointer rects,
+                int count);
+
+        public static native int SDL_RenderCopyF(
+                SDL_Renderer renderer,
+                SDL_Texture texture,
+                SDL_Rect srcRect,
+                SDL_FRect dstFRect);
+
+        public static native int SDL_RenderCopyExF(
+                SDL_Renderer renderer,
+                SDL_Texture texture,
+                SDL_Rect srcRect,
+                SDL_FRect dstFRect,
+                double angle,
+                Pointer center,
+                int flip);
+
+        public static native int SDL_RenderGeometryRaw(
+                SDL_Renderer renderer,
+                SDL_Texture texture,
+                Pointer xy,
+                int xyStride,
+                Pointer color,
+                int colorStride,
+                Pointer uv,
+                int uvStride,
+                int numVertices,
+                Pointer indices,
+                int numIndices,
+                int sizeIndices);
+
+        public static native int SDL_RenderReadPixels(
+                SDL_Renderer renderer,
+                SDL_Rect rect,
+                int format,
+                Pointer pixels,
+                int pitch);
+
+        public static native void SDL_DestroyTexture(
+                SDL_Texture texture);
+
+        public static native void SDL_DestroyRenderer(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderFlush(
+                SDL_Renderer renderer);
+
+        public static native int SDL_GL_BindTexture(
+                SDL_Texture texture,
+                FloatByReference texw,
+                FloatByReference texh);
+
+        public static native int SDL_GL_UnbindTexture(
+                SDL_Texture texture);
+
+        public static native Pointer SDL_RenderGetMetalLayer(
+                SDL_Renderer renderer);
+
+        public static native Pointer SDL_RenderGetMetalCommandEncoder(
+                SDL_Renderer renderer);
+
+        public static native int SDL_RenderSetVSync(
+                SDL_Renderer renderer,
+                int vsync);
+    }
 }
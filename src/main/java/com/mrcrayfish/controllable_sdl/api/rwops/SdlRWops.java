@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.rwops;
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
 import com.mrcrayfish.controllable_sdl.jna.size_t;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -13,9 +16,34 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlRWops {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlRWops.class);
-    }
+    private static final NativeFunctionStats RW_FROM_FILE = SdlMetrics.register("SDL_RWFromFile", NativeCallKind.CALL);
+    private static final NativeFunctionStats RW_FROM_FP = SdlMetrics.register("SDL_RWFromFP", NativeCallKind.CALL);
+    private static final NativeFunctionStats RW_FROM_MEM = SdlMetrics.register("SDL_RWFromMem", NativeCallKind.CALL);
+    private static final NativeFunctionStats RW_FROM_CONST_MEM = SdlMetrics.register("SDL_RWFromConstMem", NativeCallKind.CALL);
+    private static final NativeFunctionStats ALLOC_RW = SdlMetrics.register("SDL_AllocRW", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_RW = SdlMetrics.register("SDL_FreeRW", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WSIZE = SdlMetrics.register("SDL_RWsize", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WSEEK = SdlMetrics.register("SDL_RWseek", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WTELL = SdlMetrics.register("SDL_RWtell", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WREAD = SdlMetrics.register("SDL_RWread", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WWRITE = SdlMetrics.register("SDL_RWwrite", NativeCallKind.CALL);
+    private static final NativeFunctionStats R_WCLOSE = SdlMetrics.register("SDL_RWclose", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOAD_FILE_RW = SdlMetrics.register("SDL_LoadFile_RW", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOAD_FILE = SdlMetrics.register("SDL_LoadFile", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_U8 = SdlMetrics.register("SDL_ReadU8", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_LE16 = SdlMetrics.register("SDL_ReadLE16", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_BE16 = SdlMetrics.register("SDL_ReadBE16", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_LE32 = SdlMetrics.register("SDL_ReadLE32", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_BE32 = SdlMetrics.register("SDL_ReadBE32", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_LE64 = SdlMetrics.register("SDL_ReadLE64", NativeCallKind.CALL);
+    private static final NativeFunctionStats READ_BE64 = SdlMetrics.register("SDL_ReadBE64", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_U8 = SdlMetrics.register("SDL_WriteU8", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_LE16 = SdlMetrics.register("SDL_WriteLE16", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_BE16 = SdlMetrics.register("SDL_WriteBE16", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_LE32 = SdlMetrics.register("SDL_WriteLE32", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_BE32 = SdlMetrics.register("SDL_WriteBE32", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_LE64 = SdlMetrics.register("SDL_WriteLE64", NativeCallKind.CALL);
+    private static final NativeFunctionStats WRITE_BE64 = SdlMetrics.register("SDL_WriteBE64", NativeCallKind.CALL);
 
     private SdlRWops() {
     }
@@ -81,9 +109,14 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_RWops SDL_RWFromFile(
+    public static SDL_RWops SDL_RWFromFile(
             String file,
-            String mode);
+            String mode) {
+        long start = SdlMetrics.begin();
+        SDL_RWops result = InternalNativeFunctions.SDL_RWFromFile(file, mode);
+        SdlMetrics.end(RW_FROM_FILE, start);
+        return result;
+    }
 
     /**
      * Use this function to create an SDL_RWops structure from a standard I/O file
@@ -113,9 +146,14 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_RWops SDL_RWFromFP(
+    public static SDL_RWops SDL_RWFromFP(
             Pointer fp,
-            boolean autoclose);
+            boolean autoclose) {
+        long start = SdlMetrics.begin();
+        SDL_RWops result = InternalNativeFunctions.SDL_RWFromFP(fp, autoclose);
+        SdlMetrics.end(RW_FROM_FP, start);
+        return result;
+    }
 
     /**
      * Use this function to prepare a read-write memory buffer for use with
@@ -146,9 +184,14 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_RWops SDL_RWFromMem(
+    public static SDL_RWops SDL_RWFromMem(
             Pointer mem,
-            int size);
+            int size) {
+        long start = SdlMetrics.begin();
+        SDL_RWops result = InternalNativeFunctions.SDL_RWFromMem(mem, size);
+        SdlMetrics.end(RW_FROM_MEM, start);
+        return result;
+    }
 
     /**
      * Use this function to prepare a read-only memory buffer for use with RWops.
@@ -180,9 +223,14 @@ public final class SdlRWops {
      * @see #SDL_RWtell(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_RWops SDL_RWFromConstMem(
+    public static SDL_RWops SDL_RWFromConstMem(
             Pointer mem,
-            int size);
+            int size) {
+        long start = SdlMetrics.begin();
+        SDL_RWops result = InternalNativeFunctions.SDL_RWFromConstMem(mem, size);
+        SdlMetrics.end(RW_FROM_CONST_MEM, start);
+        return result;
+    }
 
     /**
      * Use this function to allocate an empty, unpopulated SDL_RWops structure.
@@ -205,7 +253,12 @@ public final class SdlRWops {
      * @see #SDL_FreeRW(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_RWops SDL_AllocRW();
+    public static SDL_RWops SDL_AllocRW() {
+        long start = SdlMetrics.begin();
+        SDL_RWops result = InternalNativeFunctions.SDL_AllocRW();
+        SdlMetrics.end(ALLOC_RW, start);
+        return result;
+    }
 
     /**
      * Use this function to free an SDL_RWops structure allocated by
@@ -262,8 +315,12 @@ public final class SdlRWops {
      * @see #SDL_AllocRW()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreeRW(
-            Pointer area);
+    public static void SDL_FreeRW(
+            Pointer area) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeRW(area);
+        SdlMetrics.end(FREE_RW, start);
+    }
 
     /**
      * Use this function to get the size of the data stream in an SDL_RWops.
@@ -274,8 +331,13 @@ public final class SdlRWops {
      * for more information.
      * @since This function is available since SDL 2.0.10.
      */
-    public static native long SDL_RWsize(
-            SDL_RWops context);
+    public static long SDL_RWsize(
+            SDL_RWops context) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_RWsize(context);
+        SdlMetrics.end(R_WSIZE, start);
+        return result;
+    }
 
     /**
      * Seek within an SDL_RWops data stream.
@@ -310,10 +372,15 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.10.
      */
-    public static native long SDL_RWseek(
+    public static long SDL_RWseek(
             SDL_RWops context,
             long offset,
-            @MagicConstant(valuesFromClass = SdlRWopsSeekType.class) int whence);
+            @MagicConstant(valuesFromClass = SdlRWopsSeekType.class) int whence) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_RWseek(context, offset, whence);
+        SdlMetrics.end(R_WSEEK, start);
+        return result;
+    }
 
     /**
      * Determine the current read/write offset in an SDL_RWops data stream.
@@ -336,8 +403,13 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.10.
      */
-    public static native long SDL_RWtell(
-            SDL_RWops context);
+    public static long SDL_RWtell(
+            SDL_RWops context) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_RWtell(context);
+        SdlMetrics.end(R_WTELL, start);
+        return result;
+    }
 
     /**
      * Read from a data source.
@@ -365,11 +437,16 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.10.
      */
-    public static native size_t SDL_RWread(
+    public static size_t SDL_RWread(
             SDL_RWops context,
             Pointer ptr,
             size_t itemSize,
-            size_t maxnum);
+            size_t maxnum) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_RWread(context, ptr, itemSize, maxnum);
+        SdlMetrics.end(R_WREAD, start);
+        return result;
+    }
 
     /**
      * Write to an SDL_RWops data stream.
@@ -397,11 +474,16 @@ public final class SdlRWops {
      * @see #SDL_RWseek(SDL_RWops, long, int)
      * @since This function is available since SDL 2.0.10.
      */
-    public static native size_t SDL_RWwrite(
+    public static size_t SDL_RWwrite(
             SDL_RWops context,
             Pointer ptr,
             size_t itemSize,
-            size_t num);
+            size_t num) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_RWwrite(context, ptr, itemSize, num);
+        SdlMetrics.end(R_WWRITE, start);
+        return result;
+    }
 
     /**
      * Close and free an allocated SDL_RWops structure.
@@ -459,8 +541,13 @@ public final class SdlRWops {
      * @see #SDL_RWwrite(SDL_RWops, Pointer, size_t, size_t)
      * @since This function is available since SDL 2.0.10.
      */
-    public static native int SDL_RWclose(
-            Pointer context);
+    public static int SDL_RWclose(
+            Pointer context) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_RWclose(context);
+        SdlMetrics.end(R_WCLOSE, start);
+        return result;
+    }
 
     /**
      * Load all the data from an SDL data stream.
@@ -477,10 +564,15 @@ public final class SdlRWops {
      * @return the data, or null if there was an error.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native Pointer SDL_LoadFile_RW(
+    public static Pointer SDL_LoadFile_RW(
             SDL_RWops src,
             size_t.Ref datasize,
-            int freesrc);
+            int freesrc) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_LoadFile_RW(src, datasize, freesrc);
+        SdlMetrics.end(LOAD_FILE_RW, start);
+        return result;
+    }
 
     /**
      * Load all the data from a file path.
@@ -496,9 +588,14 @@ public final class SdlRWops {
      * @return the data, or null if there was an error.
      * @since This function is available since SDL 2.0.10.
      */
-    public static native Pointer SDL_LoadFile(
+    public static Pointer SDL_LoadFile(
             String file,
-            size_t.Ref datasize);
+            size_t.Ref datasize) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_LoadFile(file, datasize);
+        SdlMetrics.end(LOAD_FILE, start);
+        return result;
+    }
 
     /**
      * Use this function to read a byte from an SDL_RWops.
@@ -509,8 +606,13 @@ public final class SdlRWops {
      * @see #SDL_WriteU8(SDL_RWops, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native byte SDL_ReadU8(
-            SDL_RWops src);
+    public static byte SDL_ReadU8(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        byte result = InternalNativeFunctions.SDL_ReadU8(src);
+        SdlMetrics.end(READ_U8, start);
+        return result;
+    }
 
     /**
      * Use this function to read 16 bits of little-endian data from an SDL_RWops
@@ -524,8 +626,13 @@ public final class SdlRWops {
      * @see #SDL_ReadBE16(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native short SDL_ReadLE16(
-            SDL_RWops src);
+    public static short SDL_ReadLE16(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_ReadLE16(src);
+        SdlMetrics.end(READ_LE16, start);
+        return result;
+    }
 
     /**
      * Use this function to read 16 bits of big-endian data from an SDL_RWops and
@@ -539,8 +646,13 @@ public final class SdlRWops {
      * @see #SDL_ReadLE16(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native short SDL_ReadBE16(
-            SDL_RWops src);
+    public static short SDL_ReadBE16(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        short result = InternalNativeFunctions.SDL_ReadBE16(src);
+        SdlMetrics.end(READ_BE16, start);
+        return result;
+    }
 
     /**
      * Use this function to read 32 bits of little-endian data from an SDL_RWops
@@ -554,8 +666,13 @@ public final class SdlRWops {
      * @see #SDL_ReadBE32(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ReadLE32(
-            SDL_RWops src);
+    public static int SDL_ReadLE32(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ReadLE32(src);
+        SdlMetrics.end(READ_LE32, start);
+        return result;
+    }
 
     /**
      * Use this function to read 32 bits of big-endian data from an SDL_RWops and
@@ -569,8 +686,13 @@ public final class SdlRWops {
      * @see #SDL_ReadLE32(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ReadBE32(
-            SDL_RWops src);
+    public static int SDL_ReadBE32(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ReadBE32(src);
+        SdlMetrics.end(READ_BE32, start);
+        return result;
+    }
 
     /**
      * Use this function to read 64 bits of little-endian data from an SDL_RWops
@@ -584,8 +706,13 @@ public final class SdlRWops {
      * @see #SDL_ReadBE64(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native long SDL_ReadLE64(
-            SDL_RWops src);
+    public static long SDL_ReadLE64(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_ReadLE64(src);
+        SdlMetrics.end(READ_LE64, start);
+        return result;
+    }
 
     /**
      * Use this function to read 64 bits of big-endian data from an SDL_RWops and
@@ -599,8 +726,13 @@ public final class SdlRWops {
      * @see #SDL_ReadLE64(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native long SDL_ReadBE64(
-            SDL_RWops src);
+    public static long SDL_ReadBE64(
+            SDL_RWops src) {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_ReadBE64(src);
+        SdlMetrics.end(READ_BE64, start);
+        return result;
+    }
 
     /**
      * Use this function to write a byte to an SDL_RWops.
@@ -612,9 +744,14 @@ public final class SdlRWops {
      * @see #SDL_ReadU8(SDL_RWops)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteU8(
+    public static size_t SDL_WriteU8(
             SDL_RWops dst,
-            byte value);
+            byte value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteU8(dst, value);
+        SdlMetrics.end(WRITE_U8, start);
+        return result;
+    }
 
     /**
      * Use this function to write 16 bits in native format to a SDL_RWops as
@@ -630,9 +767,14 @@ public final class SdlRWops {
      * @see #SDL_WriteBE16(SDL_RWops, short)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteLE16(
+    public static size_t SDL_WriteLE16(
             SDL_RWops dst,
-            short value);
+            short value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteLE16(dst, value);
+        SdlMetrics.end(WRITE_LE16, start);
+        return result;
+    }
 
     /**
      * Use this function to write 16 bits in native format to a SDL_RWops as
@@ -647,9 +789,14 @@ public final class SdlRWops {
      * @see #SDL_WriteLE16(SDL_RWops, short)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteBE16(
+    public static size_t SDL_WriteBE16(
             SDL_RWops dst,
-            short value);
+            short value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteBE16(dst, value);
+        SdlMetrics.end(WRITE_BE16, start);
+        return result;
+    }
 
     /**
      * Use this function to write 32 bits in native format to a SDL_RWops as
@@ -665,9 +812,14 @@ public final class SdlRWops {
      * @see #SDL_WriteBE32(SDL_RWops, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteLE32(
+    public static size_t SDL_WriteLE32(
             SDL_RWops dst,
-            int value);
+            int value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteLE32(dst, value);
+        SdlMetrics.end(WRITE_LE32, start);
+        return result;
+    }
 
     /**
      * Use this function to write 32 bits in native format to a SDL_RWops as
@@ -682,9 +834,14 @@ public final class SdlRWops {
      * @see #SDL_WriteLE32(SDL_RWops, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteBE32(
+    public static size_t SDL_WriteBE32(
             SDL_RWops dst,
-            int value);
+            int value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteBE32(dst, value);
+        SdlMetrics.end(WRITE_BE32, start);
+        return result;
+    }
 
     /**
      * Use this function to write 64 bits in native format to a SDL_RWops as
@@ -700,9 +857,14 @@ public final class SdlRWops {
      * @see #SDL_WriteBE64(SDL_RWops, long)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteLE64(
+    public static size_t SDL_WriteLE64(
             SDL_RWops dst,
-            long value);
+            long value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteLE64(dst, value);
+        SdlMetrics.end(WRITE_LE64, start);
+        return result;
+    }
 
     /**
      * Use this function to write 64 bits in native format to a SDL_RWops as
@@ -717,7 +879,127 @@ public final class SdlRWops {
      * @see #SDL_WriteLE64(SDL_RWops, long)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native size_t SDL_WriteBE64(
+    public static size_t SDL_WriteBE64(
             SDL_RWops dst,
-            long value);
+            long value) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_WriteBE64(dst, value);
+        SdlMetrics.end(WRITE_BE64, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native SDL_RWops SDL_RWFromFile(
+                String file,
+                String mode);
+
+        public static native SDL_RWops SDL_RWFromFP(
+                Pointer fp,
+                boolean autoclose);
+
+        public static native SDL_RWops SDL_RWFromMem(
+                Pointer mem,
+                int size);
+
+        public static native SDL_RWops SDL_RWFromConstMem(
+                Pointer mem,
+                int size);
+
+        public static native SDL_RWops SDL_AllocRW();
+
+        public static native void SDL_FreeRW(
+                Pointer area);
+
+        public static native long SDL_RWsize(
+                SDL_RWops context);
+
+        public static native long SDL_RWseek(
+                SDL_RWops context,
+                long offset,
+                int whence);
+
+        public static native long SDL_RWtell(
+                SDL_RWops context);
+
+        public static native size_t SDL_RWread(
+                SDL_RWops context,
+                Pointer ptr,
+                size_t itemSize,
+                size_t maxnum);
+
+        public static native size_t SDL_RWwrite(
+                SDL_RWops context,
+                Pointer ptr,
+                size_t itemSize,
+                size_t num);
+
+        public static native int SDL_RWclose(
+                Pointer context);
+
+        public static native Pointer SDL_LoadFile_RW(
+                SDL_RWops src,
+                size_t.Ref datasize,
+                int freesrc);
+
+        public static native Pointer SDL_LoadFile(
+                String file,
+                size_t.Ref datasize);
+
+        public static native byte SDL_ReadU8(
+                SDL_RWops src);
+
+        public static native short SDL_ReadLE16(
+                SDL_RWops src);
+
+        public static native short SDL_ReadBE16(
+                SDL_RWops src);
+
+        public static native int SDL_ReadLE32(
+                SDL_RWops src);
+
+        public static native int SDL_ReadBE32(
+                SDL_RWops src);
+
+        public static native long SDL_ReadLE64(
+                SDL_RWops src);
+
+        public static native long SDL_ReadBE64(
+                SDL_RWops src);
+
+        public static native size_t SDL_WriteU8(
+                SDL_RWops dst,
+                byte value);
+
+        public static native size_t SDL_WriteLE16(
+                SDL_RWops dst,
+                short value);
+
+        public static native size_t SDL_WriteBE16(
+                SDL_RWops dst,
+                short value);
+
+        public static native size_t SDL_WriteLE32(
+                SDL_RWops dst,
+                int value);
+
+        public static native size_t SDL_WriteBE32(
+                SDL_RWops dst,
+                int value);
+
+        public static native size_t SDL_WriteLE64(
+                SDL_RWops dst,
+                long value);
+
+        public static native size_t SDL_WriteBE64(
+                SDL_RWops dst,
+                long value);
+    }
 }
@@ -3,6 +3,9 @@ package com.mrcrayfish.controllable_sdl.api.sensor;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.LongByReference;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -71,9 +74,23 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlSensor {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlSensor.class);
-    }
+    private static final NativeFunctionStats LOCK_SENSORS = SdlMetrics.register("SDL_LockSensors", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_SENSORS = SdlMetrics.register("SDL_UnlockSensors", NativeCallKind.CALL);
+    private static final NativeFunctionStats NUM_SENSORS = SdlMetrics.register("SDL_NumSensors", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DEVICE_NAME = SdlMetrics.register("SDL_SensorGetDeviceName", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DEVICE_TYPE = SdlMetrics.register("SDL_SensorGetDeviceType", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DEVICE_NON_PORTABLE_TYPE = SdlMetrics.register("SDL_SensorGetDeviceNonPortableType", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DEVICE_INSTANCE_ID = SdlMetrics.register("SDL_SensorGetDeviceInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_OPEN = SdlMetrics.register("SDL_SensorOpen", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_FROM_INSTANCE_ID = SdlMetrics.register("SDL_SensorFromInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_NAME = SdlMetrics.register("SDL_SensorGetName", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_TYPE = SdlMetrics.register("SDL_SensorGetType", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_NON_PORTABLE_TYPE = SdlMetrics.register("SDL_SensorGetNonPortableType", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_INSTANCE_ID = SdlMetrics.register("SDL_SensorGetInstanceID", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DATA = SdlMetrics.register("SDL_SensorGetData", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_GET_DATA_WITH_TIMESTAMP = SdlMetrics.register("SDL_SensorGetDataWithTimestamp", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_CLOSE = SdlMetrics.register("SDL_SensorClose", NativeCallKind.CALL);
+    private static final NativeFunctionStats SENSOR_UPDATE = SdlMetrics.register("SDL_SensorUpdate", NativeCallKind.CALL);
 
     private SdlSensor() {
     }
@@ -88,16 +105,29 @@ public final class SdlSensor {
      * API functions that take a sensor index will be valid, and sensor events
      * will not be delivered.</p>
      */
-    public static native void SDL_LockSensors();
+    public static void SDL_LockSensors() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_LockSensors();
+        SdlMetrics.end(LOCK_SENSORS, start);
+    }
 
-    public static native void SDL_UnlockSensors();
+    public static void SDL_UnlockSensors() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockSensors();
+        SdlMetrics.end(UNLOCK_SENSORS, start);
+    }
 
     /**
      * Count the number of sensors attached to the system right now.
      *
      * @return the number of sensors detected.
      */
-    public static native int SDL_NumSensors();
+    public static int SDL_NumSensors() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_NumSensors();
+        SdlMetrics.end(NUM_SENSORS, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name of a sensor.
@@ -105,8 +135,13 @@ public final class SdlSensor {
      * @param deviceIndex The sensor to obtain name from
      * @return the sensor name, or {@code null} if {@code deviceIndex} is out of range.
      */
-    public static native String SDL_SensorGetDeviceName(
-            int deviceIndex);
+    public static String SDL_SensorGetDeviceName(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_SensorGetDeviceName(deviceIndex);
+        SdlMetrics.end(SENSOR_GET_DEVICE_NAME, start);
+        return result;
+    }
 
     /**
      * Get the type of a sensor.
@@ -116,8 +151,13 @@ public final class SdlSensor {
      * out of range.
      */
     @MagicConstant(valuesFromClass = SDL_SensorType.class)
-    public static native int SDL_SensorGetDeviceType(
-            int deviceIndex);
+    public static int SDL_SensorGetDeviceType(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetDeviceType(deviceIndex);
+        SdlMetrics.end(SENSOR_GET_DEVICE_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the platform dependent type of a sensor.
@@ -126,8 +166,13 @@ public final class SdlSensor {
      * @return the sensor platform dependent type, or {@code -1} if {@code deviceIndex} is out
      * of range.
      */
-    public static native int SDL_SensorGetDeviceNonPortableType(
-            int deviceIndex);
+    public static int SDL_SensorGetDeviceNonPortableType(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetDeviceNonPortableType(deviceIndex);
+        SdlMetrics.end(SENSOR_GET_DEVICE_NON_PORTABLE_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the instance ID of a sensor.
@@ -135,8 +180,13 @@ public final class SdlSensor {
      * @param deviceIndex The sensor to get instance ID from
      * @return the sensor instance ID, or {@code -1} if {@code deviceIndex} is out of range.
      */
-    public static native SDL_SensorID SDL_SensorGetDeviceInstanceID(
-            int deviceIndex);
+    public static SDL_SensorID SDL_SensorGetDeviceInstanceID(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_SensorID result = InternalNativeFunctions.SDL_SensorGetDeviceInstanceID(deviceIndex);
+        SdlMetrics.end(SENSOR_GET_DEVICE_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Open a sensor for use.
@@ -144,8 +194,13 @@ public final class SdlSensor {
      * @param deviceIndex The sensor to open
      * @return an SDL_Sensor sensor object, or {@code null} if an error occurred.
      */
-    public static native SDL_Sensor SDL_SensorOpen(
-            int deviceIndex);
+    public static SDL_Sensor SDL_SensorOpen(
+            int deviceIndex) {
+        long start = SdlMetrics.begin();
+        SDL_Sensor result = InternalNativeFunctions.SDL_SensorOpen(deviceIndex);
+        SdlMetrics.end(SENSOR_OPEN, start);
+        return result;
+    }
 
     /**
      * Return the SDL_Sensor associated with an instance ID.
@@ -153,8 +208,13 @@ public final class SdlSensor {
      * @param instanceId The sensor from instance ID
      * @return an SDL_Sensor object.
      */
-    public static native SDL_Sensor SDL_SensorFromInstanceID(
-            SDL_SensorID instanceId);
+    public static SDL_Sensor SDL_SensorFromInstanceID(
+            SDL_SensorID instanceId) {
+        long start = SdlMetrics.begin();
+        SDL_Sensor result = InternalNativeFunctions.SDL_SensorFromInstanceID(instanceId);
+        SdlMetrics.end(SENSOR_FROM_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Get the implementation dependent name of a sensor.
@@ -162,8 +222,13 @@ public final class SdlSensor {
      * @param sensor The SDL_Sensor object
      * @return the sensor name, or {@code null} if {@code sensor} is {@code null}.
      */
-    public static native String SDL_SensorGetName(
-            SDL_Sensor sensor);
+    public static String SDL_SensorGetName(
+            SDL_Sensor sensor) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_SensorGetName(sensor);
+        SdlMetrics.end(SENSOR_GET_NAME, start);
+        return result;
+    }
 
     /**
      * Get the type of a sensor.
@@ -173,8 +238,13 @@ public final class SdlSensor {
      * {@code null}.
      */
     @MagicConstant(valuesFromClass = SDL_SensorType.class)
-    public static native int SDL_SensorGetType(
-            SDL_Sensor sensor);
+    public static int SDL_SensorGetType(
+            SDL_Sensor sensor) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetType(sensor);
+        SdlMetrics.end(SENSOR_GET_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the platform dependent type of a sensor.
@@ -182,8 +252,13 @@ public final class SdlSensor {
      * @param sensor The SDL_Sensor object to inspect
      * @return the sensor platform dependent type, or {@code -1} if {@code sensor} is {@code null}.
      */
-    public static native int SDL_SensorGetNonPortableType(
-            SDL_Sensor sensor);
+    public static int SDL_SensorGetNonPortableType(
+            SDL_Sensor sensor) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetNonPortableType(sensor);
+        SdlMetrics.end(SENSOR_GET_NON_PORTABLE_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the instance ID of a sensor.
@@ -191,8 +266,13 @@ public final class SdlSensor {
      * @param sensor The SDL_Sensor object to inspect
      * @return the sensor instance ID, or {@code -1} if {@code sensor} is {@code null}.
      */
-    public static native SDL_SensorID SDL_SensorGetInstanceID(
-            SDL_Sensor sensor);
+    public static SDL_SensorID SDL_SensorGetInstanceID(
+            SDL_Sensor sensor) {
+        long start = SdlMetrics.begin();
+        SDL_SensorID result = InternalNativeFunctions.SDL_SensorGetInstanceID(sensor);
+        SdlMetrics.end(SENSOR_GET_INSTANCE_ID, start);
+        return result;
+    }
 
     /**
      * Get the current state of an opened sensor.
@@ -204,10 +284,15 @@ public final class SdlSensor {
      * @param numValues The number of values to write to data
      * @return 0 or -1 if an error occurred.
      */
-    public static native int SDL_SensorGetData(
+    public static int SDL_SensorGetData(
             SDL_Sensor sensor,
             Pointer data,
-            int numValues);
+            int numValues) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetData(sensor, data, numValues);
+        SdlMetrics.end(SENSOR_GET_DATA, start);
+        return result;
+    }
 
     /**
      * Get the current state of an opened sensor with the timestamp of the last
@@ -223,19 +308,28 @@ public final class SdlSensor {
      * @return 0 or -1 if an error occurred.
      * @since This function is available since SDL 2.26.0.
      */
-    public static native int SDL_SensorGetDataWithTimestamp(
+    public static int SDL_SensorGetDataWithTimestamp(
             SDL_Sensor sensor,
             LongByReference timestamp,
             Pointer data,
-            int numValues);
+            int numValues) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SensorGetDataWithTimestamp(sensor, timestamp, data, numValues);
+        SdlMetrics.end(SENSOR_GET_DATA_WITH_TIMESTAMP, start);
+        return result;
+    }
 
     /**
      * Close a sensor previously opened with SDL_SensorOpen().
      *
      * @param sensor The SDL_Sensor object to close
      */
-    public static native void SDL_SensorClose(
-            SDL_Sensor sensor);
+    public static void SDL_SensorClose(
+            SDL_Sensor sensor) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SensorClose(sensor);
+        SdlMetrics.end(SENSOR_CLOSE, start);
+    }
 
     /**
      * Update the current state of the open sensors.
@@ -246,5 +340,71 @@ public final class SdlSensor {
      * <p>This needs to be called from the thread that initialized the sensor
      * subsystem.</p>
      */
-    public static native void SDL_SensorUpdate();
+    public static void SDL_SensorUpdate() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SensorUpdate();
+        SdlMetrics.end(SENSOR_UPDATE, start);
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native void SDL_LockSensors();
+
+        public static native void SDL_UnlockSensors();
+
+        public static native int SDL_NumSensors();
+
+        public static native String SDL_SensorGetDeviceName(
+                int deviceIndex);
+
+        public static native int SDL_SensorGetDeviceType(
+                int deviceIndex);
+
+        public static native int SDL_SensorGetDeviceNonPortableType(
+                int deviceIndex);
+
+        public static native SDL_SensorID SDL_SensorGetDeviceInstanceID(
+                int deviceIndex);
+
+        public static native SDL_Sensor SDL_SensorOpen(
+                int deviceIndex);
+
+        public static native SDL_Sensor SDL_SensorFromInstanceID(
+                SDL_SensorID instanceId);
+
+        public static native String SDL_SensorGetName(
+                SDL_Sensor sensor);
+
+        public static native int SDL_SensorGetType(
+                SDL_Sensor sensor);
+
+        public static native int SDL_SensorGetNonPortableType(
+                SDL_Sensor sensor);
+
+        public static native SDL_SensorID SDL_SensorGetInstanceID(
+                SDL_Sensor sensor);
+
+        public static native int SDL_SensorGetData(
+                SDL_Sensor sensor,
+                Pointer data,
+                int numValues);
+
+        public static native int SDL_SensorGetDataWithTimestamp(
+                SDL_Sensor sensor,
+                LongByReference timestamp,
+                Pointer data,
+                int numValues);
+
+        public static native void SDL_SensorClose(
+                SDL_Sensor sensor);
+
+        public static native void SDL_SensorUpdate();
+    }
 }
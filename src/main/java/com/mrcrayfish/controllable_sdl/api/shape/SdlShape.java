@@ -4,6 +4,9 @@ import com.mrcrayfish.controllable_sdl.api.surface.SDL_Surface;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_WindowFlags;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.shape.WindowShapeMode.ShapeModeBinarizeAlpha;
@@ -17,9 +20,10 @@ import static com.mrcrayfish.controllable_sdl.api.shape.WindowShapeMode.ShapeMod
  */
 public final class SdlShape {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlShape.class);
-    }
+    private static final NativeFunctionStats SET_WINDOW_SHAPE = SdlMetrics.register("SDL_SetWindowShape", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SHAPED_WINDOW_MODE = SdlMetrics.register("SDL_GetShapedWindowMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_SHAPED_WINDOW = SdlMetrics.register("SDL_CreateShapedWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats IS_SHAPED_WINDOW = SdlMetrics.register("SDL_IsShapedWindow", NativeCallKind.CALL);
 
     private SdlShape() {
     }
@@ -43,10 +47,15 @@ public final class SdlShape {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(intValues = {0, SdlShapeConst.SDL_INVALID_SHAPE_ARGUMENT, SdlShapeConst.SDL_NONSHAPEABLE_WINDOW})
-    public static native int SDL_SetWindowShape(
+    public static int SDL_SetWindowShape(
             SDL_Window window,
             SDL_Surface shape,
-            SDL_WindowShapeMode shapeMode);
+            SDL_WindowShapeMode shapeMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowShape(window, shape, shapeMode);
+        SdlMetrics.end(SET_WINDOW_SHAPE, start);
+        return result;
+    }
 
 
     /**
@@ -65,9 +74,14 @@ public final class SdlShape {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(intValues = {0, SdlShapeConst.SDL_NONSHAPEABLE_WINDOW, SdlShapeConst.SDL_WINDOW_LACKS_SHAPE})
-    public static native int SDL_GetShapedWindowMode(
+    public static int SDL_GetShapedWindowMode(
             SDL_Window window,
-            SDL_WindowShapeMode shapeMode);
+            SDL_WindowShapeMode shapeMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetShapedWindowMode(window, shapeMode);
+        SdlMetrics.end(GET_SHAPED_WINDOW_MODE, start);
+        return result;
+    }
 
     /**
      * Create a window that can be shaped with the specified position, dimensions,
@@ -96,13 +110,18 @@ public final class SdlShape {
      * @see com.mrcrayfish.controllable_sdl.api.video.SdlVideo#SDL_DestroyWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_CreateShapedWindow(
+    public static SDL_Window SDL_CreateShapedWindow(
             String title,
             int x,
             int y,
             int w,
             int h,
-            @MagicConstant(flagsFromClass = SDL_WindowFlags.class) int flags);
+            @MagicConstant(flagsFromClass = SDL_WindowFlags.class) int flags) {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_CreateShapedWindow(title, x, y, w, h, flags);
+        SdlMetrics.end(CREATE_SHAPED_WINDOW, start);
+        return result;
+    }
 
     /**
      * Return whether the given window is a shaped window.
@@ -113,6 +132,41 @@ public final class SdlShape {
      * @see #SDL_CreateShapedWindow(String, int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_IsShapedWindow(
-            SDL_Window window);
+    public static boolean SDL_IsShapedWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsShapedWindow(window);
+        SdlMetrics.end(IS_SHAPED_WINDOW, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_SetWindowShape(
+                SDL_Window window,
+                SDL_Surface shape,
+                SDL_WindowShapeMode shapeMode);
+
+        public static native int SDL_GetShapedWindowMode(
+                SDL_Window window,
+                SDL_WindowShapeMode shapeMode);
+
+        public static native SDL_Window SDL_CreateShapedWindow(
+                String title,
+                int x,
+                int y,
+                int w,
+                int h,
+                int flags);
+
+        public static native boolean SDL_IsShapedWindow(
+                SDL_Window window);
+    }
 }
@@ -5,6 +5,9 @@ import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
 import com.mrcrayfish.controllable_sdl.jna.size_t;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_stdinc.h
@@ -13,9 +16,17 @@ import com.mrcrayfish.controllable_sdl.jna.size_t;
  */
 public final class SdlStdinc {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlStdinc.class);
-    }
+    private static final NativeFunctionStats MALLOC = SdlMetrics.register("SDL_malloc", NativeCallKind.CALL);
+    private static final NativeFunctionStats CALLOC = SdlMetrics.register("SDL_calloc", NativeCallKind.CALL);
+    private static final NativeFunctionStats REALLOC = SdlMetrics.register("SDL_realloc", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE = SdlMetrics.register("SDL_free", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_ORIGINAL_MEMORY_FUNCTIONS = SdlMetrics.register("SDL_GetOriginalMemoryFunctions", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_MEMORY_FUNCTIONS = SdlMetrics.register("SDL_GetMemoryFunctions", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_MEMORY_FUNCTIONS = SdlMetrics.register("SDL_SetMemoryFunctions", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_ALLOCATIONS = SdlMetrics.register("SDL_GetNumAllocations", NativeCallKind.CALL);
+    private static final NativeFunctionStats GETENV = SdlMetrics.register("SDL_getenv", NativeCallKind.CALL);
+    private static final NativeFunctionStats SETENV = SdlMetrics.register("SDL_setenv", NativeCallKind.CALL);
+    private static final NativeFunctionStats UTF8STRLEN = SdlMetrics.register("SDL_utf8strlen", NativeCallKind.CALL);
 
     private SdlStdinc() {
     }
@@ -28,19 +39,38 @@ public final class SdlStdinc {
         return (a & 0xFF) | ((b & 0xFF) << 8) | ((c & 0xFF) << 16) | ((d & 0xFF) << 24);
     }
 
-    public static native Pointer SDL_malloc(
-            size_t size);
+    public static Pointer SDL_malloc(
+            size_t size) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_malloc(size);
+        SdlMetrics.end(MALLOC, start);
+        return result;
+    }
 
-    public static native Pointer SDL_calloc(
+    public static Pointer SDL_calloc(
             int nmemb,
-            size_t size);
+            size_t size) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_calloc(nmemb, size);
+        SdlMetrics.end(CALLOC, start);
+        return result;
+    }
 
-    public static native Pointer SDL_realloc(
+    public static Pointer SDL_realloc(
             Pointer mem,
-            size_t size);
+            size_t size) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_realloc(mem, size);
+        SdlMetrics.end(REALLOC, start);
+        return result;
+    }
 
-    public static native void SDL_free(
-            Pointer mem);
+    public static void SDL_free(
+            Pointer mem) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_free(mem);
+        SdlMetrics.end(FREE, start);
+    }
 
     /**
      * Get the original set of SDL memory functions
@@ -63,11 +93,15 @@ public final class SdlStdinc {
      *
      * @since This function is available since SDL 2.24.0.
      */
-    public static native void SDL_GetOriginalMemoryFunctions(
+    public static void SDL_GetOriginalMemoryFunctions(
             PointerByReference mallocFunc,
             PointerByReference callocFunc,
             PointerByReference reallocFunc,
-            PointerByReference freeFunc);
+            PointerByReference freeFunc) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetOriginalMemoryFunctions(mallocFunc, callocFunc, reallocFunc, freeFunc);
+        SdlMetrics.end(GET_ORIGINAL_MEMORY_FUNCTIONS, start);
+    }
 
     /**
      * Get the current set of SDL memory functions
@@ -90,11 +124,15 @@ public final class SdlStdinc {
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native void SDL_GetMemoryFunctions(
+    public static void SDL_GetMemoryFunctions(
             PointerByReference mallocFunc,
             PointerByReference callocFunc,
             PointerByReference reallocFunc,
-            PointerByReference freeFunc);
+            PointerByReference freeFunc) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetMemoryFunctions(mallocFunc, callocFunc, reallocFunc, freeFunc);
+        SdlMetrics.end(GET_MEMORY_FUNCTIONS, start);
+    }
 
     private static AllocationFunctions collectAllocationFunctions(
             PointerByReference mallocFunc,
@@ -113,37 +151,62 @@ public final class SdlStdinc {
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_SetMemoryFunctions(
+    public static int SDL_SetMemoryFunctions(
             SDL_malloc_func mallocFunc,
             SDL_calloc_func callocFunc,
             SDL_realloc_func reallocFunc,
-            SDL_free_func freeFunc);
+            SDL_free_func freeFunc) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetMemoryFunctions(mallocFunc, callocFunc, reallocFunc, freeFunc);
+        SdlMetrics.end(SET_MEMORY_FUNCTIONS, start);
+        return result;
+    }
 
     /**
      * Replace SDL's memory allocation functions with a custom set
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_SetMemoryFunctions(
+    public static int SDL_SetMemoryFunctions(
             Pointer mallocFunc,
             Pointer callocFunc,
             Pointer reallocFunc,
-            Pointer freeFunc);
+            Pointer freeFunc) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetMemoryFunctions(mallocFunc, callocFunc, reallocFunc, freeFunc);
+        SdlMetrics.end(SET_MEMORY_FUNCTIONS, start);
+        return result;
+    }
 
     /**
      * Get the number of outstanding (unfreed) allocations
      *
      * @since This function is available since SDL 2.0.7.
      */
-    public static native int SDL_GetNumAllocations();
+    public static int SDL_GetNumAllocations() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumAllocations();
+        SdlMetrics.end(GET_NUM_ALLOCATIONS, start);
+        return result;
+    }
 
-    public static native String SDL_getenv(
-            String name);
+    public static String SDL_getenv(
+            String name) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_getenv(name);
+        SdlMetrics.end(GETENV, start);
+        return result;
+    }
 
-    public static native int SDL_setenv(
+    public static int SDL_setenv(
             String name,
             String value,
-            int overwrite);
+            int overwrite) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_setenv(name, value, overwrite);
+        SdlMetrics.end(SETENV, start);
+        return result;
+    }
 
     public static byte SDL_min(
             byte x,
@@ -252,6 +315,72 @@ public final class SdlStdinc {
         return x < a ? a : x > b ? b : x;
     }
 
-    public static native size_t SDL_utf8strlen(
-            Pointer stringInMemory);
+    public static size_t SDL_utf8strlen(
+            Pointer stringInMemory) {
+        long start = SdlMetrics.begin();
+        size_t result = InternalNativeFunctions.SDL_utf8strlen(stringInMemory);
+        SdlMetrics.end(UTF8STRLEN, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native Pointer SDL_malloc(
+                size_t size);
+
+        public static native Pointer SDL_calloc(
+                int nmemb,
+                size_t size);
+
+        public static native Pointer SDL_realloc(
+                Pointer mem,
+                size_t size);
+
+        public static native void SDL_free(
+                Pointer mem);
+
+        public static native void SDL_GetOriginalMemoryFunctions(
+                PointerByReference mallocFunc,
+                PointerByReference callocFunc,
+                PointerByReference reallocFunc,
+                PointerByReference freeFunc);
+
+        public static native void SDL_GetMemoryFunctions(
+                PointerByReference mallocFunc,
+                PointerByReference callocFunc,
+                PointerByReference reallocFunc,
+                PointerByReference freeFunc);
+
+        public static native int SDL_SetMemoryFunctions(
+                SDL_malloc_func mallocFunc,
+                SDL_calloc_func callocFunc,
+                SDL_realloc_func reallocFunc,
+                SDL_free_func freeFunc);
+
+        public static native int SDL_SetMemoryFunctions(
+                Pointer mallocFunc,
+                Pointer callocFunc,
+                Pointer reallocFunc,
+                Pointer freeFunc);
+
+        public static native int SDL_GetNumAllocations();
+
+        public static native String SDL_getenv(
+                String name);
+
+        public static native int SDL_setenv(
+                String name,
+                String value,
+                int overwrite);
+
+        public static native size_t SDL_utf8strlen(
+                Pointer stringInMemory);
+    }
 }
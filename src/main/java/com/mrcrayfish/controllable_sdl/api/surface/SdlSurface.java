@@ -11,6 +11,9 @@ import com.mrcrayfish.controllable_sdl.api.rect.SDL_Rect;
 import com.mrcrayfish.controllable_sdl.api.rwops.SDL_RWops;
 import com.mrcrayfish.controllable_sdl.jna.ContiguousArrayList;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops.SDL_RWFromFile;
@@ -23,9 +26,45 @@ import static com.mrcrayfish.controllable_sdl.api.surface.SDL_SurfaceFlags.SDL_R
  */
 public final class SdlSurface {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlSurface.class);
-    }
+    private static final NativeFunctionStats CREATE_RGB_SURFACE = SdlMetrics.register("SDL_CreateRGBSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_RGB_SURFACE_WITH_FORMAT = SdlMetrics.register("SDL_CreateRGBSurfaceWithFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_RGB_SURFACE_FROM = SdlMetrics.register("SDL_CreateRGBSurfaceFrom", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_RGB_SURFACE_WITH_FORMAT_FROM = SdlMetrics.register("SDL_CreateRGBSurfaceWithFormatFrom", NativeCallKind.CALL);
+    private static final NativeFunctionStats FREE_SURFACE = SdlMetrics.register("SDL_FreeSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_SURFACE_PALETTE = SdlMetrics.register("SDL_SetSurfacePalette", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOCK_SURFACE = SdlMetrics.register("SDL_LockSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats UNLOCK_SURFACE = SdlMetrics.register("SDL_UnlockSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOAD_BMP_RW = SdlMetrics.register("SDL_LoadBMP_RW", NativeCallKind.CALL);
+    private static final NativeFunctionStats SAVE_BMP_RW = SdlMetrics.register("SDL_SaveBMP_RW", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_SURFACE_RLE = SdlMetrics.register("SDL_SetSurfaceRLE", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_SURFACE_RLE = SdlMetrics.register("SDL_HasSurfaceRLE", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_COLOR_KEY = SdlMetrics.register("SDL_SetColorKey", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_COLOR_KEY = SdlMetrics.register("SDL_HasColorKey", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_COLOR_KEY = SdlMetrics.register("SDL_GetColorKey", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_SURFACE_COLOR_MOD = SdlMetrics.register("SDL_SetSurfaceColorMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SURFACE_COLOR_MOD = SdlMetrics.register("SDL_GetSurfaceColorMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_SURFACE_ALPHA_MOD = SdlMetrics.register("SDL_SetSurfaceAlphaMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SURFACE_ALPHA_MOD = SdlMetrics.register("SDL_GetSurfaceAlphaMod", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_SURFACE_BLEND_MODE = SdlMetrics.register("SDL_SetSurfaceBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_SURFACE_BLEND_MODE = SdlMetrics.register("SDL_GetSurfaceBlendMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_CLIP_RECT = SdlMetrics.register("SDL_SetClipRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CLIP_RECT = SdlMetrics.register("SDL_GetClipRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats DUPLICATE_SURFACE = SdlMetrics.register("SDL_DuplicateSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats CONVERT_SURFACE = SdlMetrics.register("SDL_ConvertSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats CONVERT_SURFACE_FORMAT = SdlMetrics.register("SDL_ConvertSurfaceFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats CONVERT_PIXELS = SdlMetrics.register("SDL_ConvertPixels", NativeCallKind.CALL);
+    private static final NativeFunctionStats PREMULTIPLY_ALPHA = SdlMetrics.register("SDL_PremultiplyAlpha", NativeCallKind.CALL);
+    private static final NativeFunctionStats FILL_RECT = SdlMetrics.register("SDL_FillRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats FILL_RECTS = SdlMetrics.register("SDL_FillRects", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPPER_BLIT = SdlMetrics.register("SDL_UpperBlit", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOWER_BLIT = SdlMetrics.register("SDL_LowerBlit", NativeCallKind.CALL);
+    private static final NativeFunctionStats SOFT_STRETCH = SdlMetrics.register("SDL_SoftStretch", NativeCallKind.CALL);
+    private static final NativeFunctionStats SOFT_STRETCH_LINEAR = SdlMetrics.register("SDL_SoftStretchLinear", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPPER_BLIT_SCALED = SdlMetrics.register("SDL_UpperBlitScaled", NativeCallKind.CALL);
+    private static final NativeFunctionStats LOWER_BLIT_SCALED = SdlMetrics.register("SDL_LowerBlitScaled", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_YUV_CONVERSION_MODE = SdlMetrics.register("SDL_SetYUVConversionMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_YUV_CONVERSION_MODE = SdlMetrics.register("SDL_GetYUVConversionMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_YUV_CONVERSION_MODE_FOR_RESOLUTION = SdlMetrics.register("SDL_GetYUVConversionModeForResolution", NativeCallKind.CALL);
 
     private SdlSurface() {
     }
@@ -80,7 +119,7 @@ public final class SdlSurface {
      * @see #SDL_FreeSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_CreateRGBSurface(
+    public static SDL_Surface SDL_CreateRGBSurface(
             @MagicConstant(intValues = {0}) int flags,
             int width,
             int height,
@@ -88,7 +127,12 @@ public final class SdlSurface {
             int rMask,
             int gMask,
             int bMask,
-            int aMask);
+            int aMask) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_CreateRGBSurface(flags, width, height, depth, rMask, gMask, bMask, aMask);
+        SdlMetrics.end(CREATE_RGB_SURFACE, start);
+        return result;
+    }
 
     /**
      * Allocate a new RGB surface with a specific pixel format.
@@ -109,12 +153,17 @@ public final class SdlSurface {
      * @see #SDL_FreeSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native SDL_Surface SDL_CreateRGBSurfaceWithFormat(
+    public static SDL_Surface SDL_CreateRGBSurfaceWithFormat(
             @MagicConstant(intValues = {0}) int flags,
             int width,
             int height,
             int depth,
-            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format);
+            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_CreateRGBSurfaceWithFormat(flags, width, height, depth, format);
+        SdlMetrics.end(CREATE_RGB_SURFACE_WITH_FORMAT, start);
+        return result;
+    }
 
     /**
      * Allocate a new RGB surface with existing pixel data.
@@ -142,7 +191,7 @@ public final class SdlSurface {
      * @see #SDL_FreeSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_CreateRGBSurfaceFrom(
+    public static SDL_Surface SDL_CreateRGBSurfaceFrom(
             Pointer pixels,
             int width,
             int height,
@@ -151,7 +200,12 @@ public final class SdlSurface {
             int rMask,
             int gMask,
             int bMask,
-            int aMask);
+            int aMask) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_CreateRGBSurfaceFrom(pixels, width, height, depth, pitch, rMask, gMask, bMask, aMask);
+        SdlMetrics.end(CREATE_RGB_SURFACE_FROM, start);
+        return result;
+    }
 
     /**
      * Allocate a new RGB surface with with a specific pixel format and existing
@@ -177,13 +231,18 @@ public final class SdlSurface {
      * @see #SDL_FreeSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native SDL_Surface SDL_CreateRGBSurfaceWithFormatFrom(
+    public static SDL_Surface SDL_CreateRGBSurfaceWithFormatFrom(
             Pointer pixels,
             int width,
             int height,
             int depth,
             int pitch,
-            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format);
+            @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int format) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_CreateRGBSurfaceWithFormatFrom(pixels, width, height, depth, pitch, format);
+        SdlMetrics.end(CREATE_RGB_SURFACE_WITH_FORMAT_FROM, start);
+        return result;
+    }
 
     /**
      * Free an RGB surface.
@@ -197,8 +256,12 @@ public final class SdlSurface {
      * @see #SDL_LoadBMP_RW(SDL_RWops, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_FreeSurface(
-            SDL_Surface surface);
+    public static void SDL_FreeSurface(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_FreeSurface(surface);
+        SdlMetrics.end(FREE_SURFACE, start);
+    }
 
     /**
      * Set the palette used by a surface.
@@ -211,9 +274,14 @@ public final class SdlSurface {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetSurfacePalette(
+    public static int SDL_SetSurfacePalette(
             SDL_Surface surface,
-            SDL_Palette palette);
+            SDL_Palette palette) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetSurfacePalette(surface, palette);
+        SdlMetrics.end(SET_SURFACE_PALETTE, start);
+        return result;
+    }
 
     /**
      * Set up a surface for directly accessing the pixels.
@@ -234,8 +302,13 @@ public final class SdlSurface {
      * @see #SDL_UnlockSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_LockSurface(
-            SDL_Surface surface);
+    public static int SDL_LockSurface(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LockSurface(surface);
+        SdlMetrics.end(LOCK_SURFACE, start);
+        return result;
+    }
 
     /**
      * Release a surface after directly accessing the pixels.
@@ -244,8 +317,12 @@ public final class SdlSurface {
      * @see #SDL_LockSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_UnlockSurface(
-            SDL_Surface surface);
+    public static void SDL_UnlockSurface(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_UnlockSurface(surface);
+        SdlMetrics.end(UNLOCK_SURFACE, start);
+    }
 
     /**
      * Load a BMP image from a seekable SDL data stream.
@@ -267,9 +344,14 @@ public final class SdlSurface {
      * @see #SDL_SaveBMP_RW(SDL_Surface, SDL_RWops, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_LoadBMP_RW(
+    public static SDL_Surface SDL_LoadBMP_RW(
             SDL_RWops src,
-            int freesrc);
+            int freesrc) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_LoadBMP_RW(src, freesrc);
+        SdlMetrics.end(LOAD_BMP_RW, start);
+        return result;
+    }
 
     /**
      * Load a surface from a file.
@@ -299,10 +381,15 @@ public final class SdlSurface {
      * @see #SDL_SaveBMP(SDL_Surface, String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SaveBMP_RW(
+    public static int SDL_SaveBMP_RW(
             SDL_Surface surface,
             SDL_RWops dst,
-            int freedst);
+            int freedst) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SaveBMP_RW(surface, dst, freedst);
+        SdlMetrics.end(SAVE_BMP_RW, start);
+        return result;
+    }
 
     /**
      * Save a surface to a file.
@@ -333,9 +420,14 @@ public final class SdlSurface {
      * @see #SDL_UnlockSurface(SDL_Surface)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetSurfaceRLE(
+    public static int SDL_SetSurfaceRLE(
             SDL_Surface surface,
-            int flag);
+            int flag) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetSurfaceRLE(surface, flag);
+        SdlMetrics.end(SET_SURFACE_RLE, start);
+        return result;
+    }
 
     /**
      * Returns whether the surface is RLE enabled
@@ -347,8 +439,13 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceRLE(SDL_Surface, int)
      * @since This function is available since SDL 2.0.14.
      */
-    public static native boolean SDL_HasSurfaceRLE(
-            SDL_Surface surface);
+    public static boolean SDL_HasSurfaceRLE(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasSurfaceRLE(surface);
+        SdlMetrics.end(HAS_SURFACE_RLE, start);
+        return result;
+    }
 
     /**
      * Set the color key (transparent pixel) in a surface.
@@ -372,10 +469,15 @@ public final class SdlSurface {
      * @see #SDL_GetColorKey(SDL_Surface, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetColorKey(
+    public static int SDL_SetColorKey(
             SDL_Surface surface,
             int flag,
-            int key);
+            int key) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetColorKey(surface, flag, key);
+        SdlMetrics.end(SET_COLOR_KEY, start);
+        return result;
+    }
 
     /**
      * Returns whether the surface has a color key
@@ -388,8 +490,13 @@ public final class SdlSurface {
      * @see #SDL_GetColorKey(SDL_Surface, IntByReference)
      * @since This function is available since SDL 2.0.9.
      */
-    public static native boolean SDL_HasColorKey(
-            SDL_Surface surface);
+    public static boolean SDL_HasColorKey(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasColorKey(surface);
+        SdlMetrics.end(HAS_COLOR_KEY, start);
+        return result;
+    }
 
     /**
      * Get the color key (transparent pixel) for a surface.
@@ -407,9 +514,14 @@ public final class SdlSurface {
      * @see #SDL_SetColorKey(SDL_Surface, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetColorKey(
+    public static int SDL_GetColorKey(
             SDL_Surface surface,
-            IntByReference key);
+            IntByReference key) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetColorKey(surface, key);
+        SdlMetrics.end(GET_COLOR_KEY, start);
+        return result;
+    }
 
     /**
      * Set an additional color value multiplied into blit operations.
@@ -431,11 +543,16 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceAlphaMod(SDL_Surface, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetSurfaceColorMod(
+    public static int SDL_SetSurfaceColorMod(
             SDL_Surface surface,
             byte r,
             byte g,
-            byte b);
+            byte b) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetSurfaceColorMod(surface, r, g, b);
+        SdlMetrics.end(SET_SURFACE_COLOR_MOD, start);
+        return result;
+    }
 
     /**
      * Get the additional color value multiplied into blit operations.
@@ -450,11 +567,16 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceColorMod(SDL_Surface, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetSurfaceColorMod(
+    public static int SDL_GetSurfaceColorMod(
             SDL_Surface surface,
             ByteByReference r,
             ByteByReference g,
-            ByteByReference b);
+            ByteByReference b) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetSurfaceColorMod(surface, r, g, b);
+        SdlMetrics.end(GET_SURFACE_COLOR_MOD, start);
+        return result;
+    }
 
     /**
      * Set an additional alpha value used in blit operations.
@@ -473,9 +595,14 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceColorMod(SDL_Surface, byte, byte, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetSurfaceAlphaMod(
+    public static int SDL_SetSurfaceAlphaMod(
             SDL_Surface surface,
-            byte alpha);
+            byte alpha) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetSurfaceAlphaMod(surface, alpha);
+        SdlMetrics.end(SET_SURFACE_ALPHA_MOD, start);
+        return result;
+    }
 
     /**
      * Get the additional alpha value used in blit operations.
@@ -488,9 +615,14 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceAlphaMod(SDL_Surface, byte)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetSurfaceAlphaMod(
+    public static int SDL_GetSurfaceAlphaMod(
             SDL_Surface surface,
-            ByteByReference alpha);
+            ByteByReference alpha) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetSurfaceAlphaMod(surface, alpha);
+        SdlMetrics.end(GET_SURFACE_ALPHA_MOD, start);
+        return result;
+    }
 
     /**
      * Set the blend mode used for blit operations.
@@ -506,9 +638,14 @@ public final class SdlSurface {
      * @see #SDL_GetSurfaceBlendMode(SDL_Surface, SDL_BlendMode.Ref)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetSurfaceBlendMode(
+    public static int SDL_SetSurfaceBlendMode(
             SDL_Surface surface,
-            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode);
+            @MagicConstant(valuesFromClass = SDL_BlendMode.class) int blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetSurfaceBlendMode(surface, blendMode);
+        SdlMetrics.end(SET_SURFACE_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Get the blend mode used for blit operations.
@@ -520,9 +657,14 @@ public final class SdlSurface {
      * @see #SDL_SetSurfaceBlendMode(SDL_Surface, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetSurfaceBlendMode(
+    public static int SDL_GetSurfaceBlendMode(
             SDL_Surface surface,
-            SDL_BlendMode.Ref blendMode);
+            SDL_BlendMode.Ref blendMode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetSurfaceBlendMode(surface, blendMode);
+        SdlMetrics.end(GET_SURFACE_BLEND_MODE, start);
+        return result;
+    }
 
     /**
      * Set the clipping rectangle for a surface.
@@ -542,9 +684,14 @@ public final class SdlSurface {
      * @see #SDL_GetClipRect(SDL_Surface, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_SetClipRect(
+    public static boolean SDL_SetClipRect(
             SDL_Surface surface,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_SetClipRect(surface, rect);
+        SdlMetrics.end(SET_CLIP_RECT, start);
+        return result;
+    }
 
     /**
      * Get the clipping rectangle for a surface.
@@ -560,9 +707,13 @@ public final class SdlSurface {
      * @see #SDL_SetClipRect(SDL_Surface, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetClipRect(
+    public static void SDL_GetClipRect(
             SDL_Surface surface,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetClipRect(surface, rect);
+        SdlMetrics.end(GET_CLIP_RECT, start);
+    }
 
     /*
      * Creates a new surface identical to the existing surface.
@@ -573,8 +724,13 @@ public final class SdlSurface {
      * @return a copy of the surface, or null on failure; call SDL_GetError() for
      *          more information.
      */
-    public static native SDL_Surface SDL_DuplicateSurface(
-            SDL_Surface surface);
+    public static SDL_Surface SDL_DuplicateSurface(
+            SDL_Surface surface) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_DuplicateSurface(surface);
+        SdlMetrics.end(DUPLICATE_SURFACE, start);
+        return result;
+    }
 
     /**
      * Copy an existing surface to a new surface of the specified format.
@@ -596,10 +752,15 @@ public final class SdlSurface {
      * @see #SDL_CreateRGBSurface(int, int, int, int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_ConvertSurface(
+    public static SDL_Surface SDL_ConvertSurface(
             SDL_Surface src,
             SDL_PixelFormat fmt,
-            int flags);
+            int flags) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_ConvertSurface(src, fmt, flags);
+        SdlMetrics.end(CONVERT_SURFACE, start);
+        return result;
+    }
 
     /**
      * Copy an existing surface to a new surface of the specified format enum.
@@ -621,10 +782,15 @@ public final class SdlSurface {
      * @see #SDL_CreateRGBSurface(int, int, int, int, int, int, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_ConvertSurfaceFormat(
+    public static SDL_Surface SDL_ConvertSurfaceFormat(
             SDL_Surface src,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int pixelFormat,
-            int flags);
+            int flags) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_ConvertSurfaceFormat(src, pixelFormat, flags);
+        SdlMetrics.end(CONVERT_SURFACE_FORMAT, start);
+        return result;
+    }
 
     /**
      * Copy a block of pixels of one format to another format.
@@ -641,7 +807,7 @@ public final class SdlSurface {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_ConvertPixels(
+    public static int SDL_ConvertPixels(
             int width,
             int height,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int srcFormat,
@@ -649,7 +815,12 @@ public final class SdlSurface {
             int srcPitch,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int dstFormat,
             Pointer dst,
-            int dstPitch);
+            int dstPitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_ConvertPixels(width, height, srcFormat, src, srcPitch, dstFormat, dst, dstPitch);
+        SdlMetrics.end(CONVERT_PIXELS, start);
+        return result;
+    }
 
     /**
      * Premultiply the alpha on a block of pixels.
@@ -670,7 +841,7 @@ public final class SdlSurface {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_PremultiplyAlpha(
+    public static int SDL_PremultiplyAlpha(
             int width,
             int height,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int srcFormat,
@@ -678,7 +849,12 @@ public final class SdlSurface {
             int srcPitch,
             @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class) int dstFormat,
             Pointer dst,
-            int dstPitch);
+            int dstPitch) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_PremultiplyAlpha(width, height, srcFormat, src, srcPitch, dstFormat, dst, dstPitch);
+        SdlMetrics.end(PREMULTIPLY_ALPHA, start);
+        return result;
+    }
 
     /**
      * Perform a fast fill of a rectangle with a specific color.
@@ -701,10 +877,15 @@ public final class SdlSurface {
      * @see #SDL_FillRects(SDL_Surface, ContiguousArrayList, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_FillRect(
+    public static int SDL_FillRect(
             SDL_Surface dst,
             SDL_Rect rect,
-            int color);
+            int color) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_FillRect(dst, rect, color);
+        SdlMetrics.end(FILL_RECT, start);
+        return result;
+    }
 
     /**
      * Perform a fast fill of a set of rectangles with a specific color.
@@ -762,11 +943,16 @@ public final class SdlSurface {
      * @see #SDL_FillRect(SDL_Surface, SDL_Rect, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_FillRects(
+    public static int SDL_FillRects(
             SDL_Surface dst,
             Pointer rects,
             int count,
-            int color);
+            int color) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_FillRects(dst, rects, count, color);
+        SdlMetrics.end(FILL_RECTS, start);
+        return result;
+    }
 
     /**
      * Performs a fast blit from the source surface to the destination surface.
@@ -847,11 +1033,16 @@ public final class SdlSurface {
      * @since This function is available since SDL 2.0.0.
      */
     @Deprecated
-    public static native int SDL_UpperBlit(
+    public static int SDL_UpperBlit(
             SDL_Surface src,
             SDL_Rect srcrect,
             SDL_Surface dst,
-            SDL_Rect dstrect);
+            SDL_Rect dstrect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpperBlit(src, srcrect, dst, dstrect);
+        SdlMetrics.end(UPPER_BLIT, start);
+        return result;
+    }
 
     /**
      * Perform low-level surface blitting only.
@@ -873,11 +1064,16 @@ public final class SdlSurface {
      * @see #SDL_BlitSurface(SDL_Surface, SDL_Rect, SDL_Surface, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_LowerBlit(
+    public static int SDL_LowerBlit(
             SDL_Surface src,
             SDL_Rect srcrect,
             SDL_Surface dst,
-            SDL_Rect dstrect);
+            SDL_Rect dstrect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LowerBlit(src, srcrect, dst, dstrect);
+        SdlMetrics.end(LOWER_BLIT, start);
+        return result;
+    }
 
     /**
      * Perform a fast, low quality, stretch blit between two surfaces of the same
@@ -887,22 +1083,32 @@ public final class SdlSurface {
      *
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SoftStretch(
+    public static int SDL_SoftStretch(
             SDL_Surface src,
             SDL_Rect srcrect,
             SDL_Surface dst,
-            SDL_Rect dstrect);
+            SDL_Rect dstrect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SoftStretch(src, srcrect, dst, dstrect);
+        SdlMetrics.end(SOFT_STRETCH, start);
+        return result;
+    }
 
     /**
      * Perform bilinear scaling between two surfaces of the same format, 32BPP.
      *
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_SoftStretchLinear(
+    public static int SDL_SoftStretchLinear(
             SDL_Surface src,
             SDL_Rect srcrect,
             SDL_Surface dst,
-            SDL_Rect dstrect);
+            SDL_Rect dstrect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SoftStretchLinear(src, srcrect, dst, dstrect);
+        SdlMetrics.end(SOFT_STRETCH_LINEAR, start);
+        return result;
+    }
 
     /**
      * Perform a scaled surface copy to a destination surface.
@@ -934,11 +1140,16 @@ public final class SdlSurface {
      * @since This function is available since SDL 2.0.0.
      */
     @Deprecated
-    public static native int SDL_UpperBlitScaled(
+    public static int SDL_UpperBlitScaled(
             SDL_Surface src,
             SDL_Rect srcRect,
             SDL_Surface dst,
-            SDL_Rect dstRect);
+            SDL_Rect dstRect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpperBlitScaled(src, srcRect, dst, dstRect);
+        SdlMetrics.end(UPPER_BLIT_SCALED, start);
+        return result;
+    }
 
     /**
      * Perform low-level surface scaled blitting only.
@@ -957,19 +1168,28 @@ public final class SdlSurface {
      * @see #SDL_BlitScaled(SDL_Surface, SDL_Rect, SDL_Surface, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_LowerBlitScaled(
+    public static int SDL_LowerBlitScaled(
             SDL_Surface src,
             SDL_Rect srcRect,
             SDL_Surface dst,
-            SDL_Rect dstRect);
+            SDL_Rect dstRect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_LowerBlitScaled(src, srcRect, dst, dstRect);
+        SdlMetrics.end(LOWER_BLIT_SCALED, start);
+        return result;
+    }
 
     /**
      * Set the YUV conversion mode
      *
      * @since This function is available since SDL 2.0.8.
      */
-    public static native void SDL_SetYUVConversionMode(
-            @MagicConstant(valuesFromClass = SDL_YUV_CONVERSION_MODE.class) int mode);
+    public static void SDL_SetYUVConversionMode(
+            @MagicConstant(valuesFromClass = SDL_YUV_CONVERSION_MODE.class) int mode) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetYUVConversionMode(mode);
+        SdlMetrics.end(SET_YUV_CONVERSION_MODE, start);
+    }
 
     /**
      * Get the YUV conversion mode
@@ -977,7 +1197,12 @@ public final class SdlSurface {
      * @since This function is available since SDL 2.0.8.
      */
     @MagicConstant(valuesFromClass = SDL_YUV_CONVERSION_MODE.class)
-    public static native int SDL_GetYUVConversionMode();
+    public static int SDL_GetYUVConversionMode() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetYUVConversionMode();
+        SdlMetrics.end(GET_YUV_CONVERSION_MODE, start);
+        return result;
+    }
 
     /**
      * Get the YUV conversion mode, returning the correct mode for the resolution
@@ -986,7 +1211,224 @@ public final class SdlSurface {
      * @since This function is available since SDL 2.0.8.
      */
     @MagicConstant(valuesFromClass = SDL_YUV_CONVERSION_MODE.class)
-    public static native int SDL_GetYUVConversionModeForResolution(
+    public static int SDL_GetYUVConversionModeForResolution(
             int width,
-            int height);
+            int height) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetYUVConversionModeForResolution(width, height);
+        SdlMetrics.end(GET_YUV_CONVERSION_MODE_FOR_RESOLUTION, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native SDL_Surface SDL_CreateRGBSurface(
+                int flags,
+                int width,
+                int height,
+                int depth,
+                int rMask,
+                int gMask,
+                int bMask,
+                int aMask);
+
+        public static native SDL_Surface SDL_CreateRGBSurfaceWithFormat(
+                int flags,
+                int width,
+                int height,
+                int depth,
+                int format);
+
+        public static native SDL_Surface SDL_CreateRGBSurfaceFrom(
+                Pointer pixels,
+                int width,
+                int height,
+                int depth,
+                int pitch,
+                int rMask,
+                int gMask,
+                int bMask,
+                int aMask);
+
+        public static native SDL_Surface SDL_CreateRGBSurfaceWithFormatFrom(
+                Pointer pixels,
+                int width,
+                int height,
+                int depth,
+                int pitch,
+                int format);
+
+        public static native void SDL_FreeSurface(
+                SDL_Surface surface);
+
+        public static native int SDL_SetSurfacePalette(
+                SDL_Surface surface,
+                SDL_Palette palette);
+
+        public static native int SDL_LockSurface(
+                SDL_Surface surface);
+
+        public static native void SDL_UnlockSurface(
+                SDL_Surface surface);
+
+        public static native SDL_Surface SDL_LoadBMP_RW(
+                SDL_RWops src,
+                int freesrc);
+
+        public static native int SDL_SaveBMP_RW(
+                SDL_Surface surface,
+                SDL_RWops dst,
+                int freedst);
+
+        public static native int SDL_SetSurfaceRLE(
+                SDL_Surface surface,
+                int flag);
+
+        public static native boolean SDL_HasSurfaceRLE(
+                SDL_Surface surface);
+
+        public static native int SDL_SetColorKey(
+                SDL_Surface surface,
+                int flag,
+                int key);
+
+        public static native boolean SDL_HasColorKey(
+                SDL_Surface surface);
+
+        public static native int SDL_GetColorKey(
+                SDL_Surface surface,
+                IntByReference key);
+
+        public static native int SDL_SetSurfaceColorMod(
+                SDL_Surface surface,
+                byte r,
+                byte g,
+                byte b);
+
+        public static native int SDL_GetSurfaceColorMod(
+                SDL_Surface surface,
+                ByteByReference r,
+                ByteByReference g,
+                ByteByReference b);
+
+        public static native int SDL_SetSurfaceAlphaMod(
+                SDL_Surface surface,
+                byte alpha);
+
+        public static native int SDL_GetSurfaceAlphaMod(
+                SDL_Surface surface,
+                ByteByReference alpha);
+
+        public static native int SDL_SetSurfaceBlendMode(
+                SDL_Surface surface,
+                int blendMode);
+
+        public static native int SDL_GetSurfaceBlendMode(
+                SDL_Surface surface,
+                SDL_BlendMode.Ref blendMode);
+
+        public static native boolean SDL_SetClipRect(
+                SDL_Surface surface,
+                SDL_Rect rect);
+
+        public static native void SDL_GetClipRect(
+                SDL_Surface surface,
+                SDL_Rect rect);
+
+        public static native SDL_Surface SDL_DuplicateSurface(
+                SDL_Surface surface);
+
+        public static native SDL_Surface SDL_ConvertSurface(
+                SDL_Surface src,
+                SDL_PixelFormat fmt,
+                int flags);
+
+        public static native SDL_Surface SDL_ConvertSurfaceFormat(
+                SDL_Surface src,
+                int pixelFormat,
+                int flags);
+
+        public static native int SDL_ConvertPixels(
+                int width,
+                int height,
+                int srcFormat,
+                Pointer src,
+                int srcPitch,
+                int dstFormat,
+                Pointer dst,
+                int dstPitch);
+
+        public static native int SDL_PremultiplyAlpha(
+                int width,
+                int height,
+                int srcFormat,
+                Pointer src,
+                int srcPitch,
+                int dstFormat,
+                Pointer dst,
+                int dstPitch);
+
+        public static native int SDL_FillRect(
+                SDL_Surface dst,
+                SDL_Rect rect,
+                int color);
+
+        public static native int SDL_FillRects(
+                SDL_Surface dst,
+                Pointer rects,
+                int count,
+                int color);
+
+        public static native int SDL_UpperBlit(
+                SDL_Surface src,
+                SDL_Rect srcrect,
+                SDL_Surface dst,
+                SDL_Rect dstrect);
+
+        public static native int SDL_LowerBlit(
+                SDL_Surface src,
+                SDL_Rect srcrect,
+                SDL_Surface dst,
+                SDL_Rect dstrect);
+
+        public static native int SDL_SoftStretch(
+                SDL_Surface src,
+                SDL_Rect srcrect,
+                SDL_Surface dst,
+                SDL_Rect dstrect);
+
+        public static native int SDL_SoftStretchLinear(
+                SDL_Surface src,
+                SDL_Rect srcrect,
+                SDL_Surface dst,
+                SDL_Rect dstrect);
+
+        public static native int SDL_UpperBlitScaled(
+                SDL_Surface src,
+                SDL_Rect srcRect,
+                SDL_Surface dst,
+                SDL_Rect dstRect);
+
+        public static native int SDL_LowerBlitScaled(
+                SDL_Surface src,
+                SDL_Rect srcRect,
+                SDL_Surface dst,
+                SDL_Rect dstRect);
+
+        public static native void SDL_SetYUVConversionMode(
+                int mode);
+
+        public static native int SDL_GetYUVConversionMode();
+
+        public static native int SDL_GetYUVConversionModeForResolution(
+                int width,
+                int height);
+    }
 }
@@ -2,6 +2,9 @@ package com.mrcrayfish.controllable_sdl.api.syswm;
 
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_syswm.h
@@ -10,9 +13,7 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlSysWM {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlSysWM.class);
-    }
+    private static final NativeFunctionStats GET_WINDOW_WM_INFO = SdlMetrics.register("SDL_GetWindowWMInfo", NativeCallKind.CALL);
 
     private SdlSysWM() {
     }
@@ -32,7 +33,26 @@ public final class SdlSysWM {
      * call SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GetWindowWMInfo(
+    public static boolean SDL_GetWindowWMInfo(
             SDL_Window window,
-            SDL_SysWMInfo info);
+            SDL_SysWMInfo info) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetWindowWMInfo(window, info);
+        SdlMetrics.end(GET_WINDOW_WM_INFO, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native boolean SDL_GetWindowWMInfo(
+                SDL_Window window,
+                SDL_SysWMInfo info);
+    }
 }
@@ -2,6 +2,9 @@ package com.mrcrayfish.controllable_sdl.api.timer;
 
 import com.sun.jna.Pointer;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_timer.h
@@ -10,9 +13,13 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlTimer {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlTimer.class);
-    }
+    private static final NativeFunctionStats GET_TICKS = SdlMetrics.register("SDL_GetTicks", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TICKS64 = SdlMetrics.register("SDL_GetTicks64", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_PERFORMANCE_COUNTER = SdlMetrics.register("SDL_GetPerformanceCounter", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_PERFORMANCE_FREQUENCY = SdlMetrics.register("SDL_GetPerformanceFrequency", NativeCallKind.CALL);
+    private static final NativeFunctionStats DELAY = SdlMetrics.register("SDL_Delay", NativeCallKind.CALL);
+    private static final NativeFunctionStats ADD_TIMER = SdlMetrics.register("SDL_AddTimer", NativeCallKind.CALL);
+    private static final NativeFunctionStats REMOVE_TIMER = SdlMetrics.register("SDL_RemoveTimer", NativeCallKind.CALL);
 
     private SdlTimer() {
     }
@@ -33,7 +40,12 @@ public final class SdlTimer {
      * @see #SDL_TICKS_PASSED(int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetTicks();
+    public static int SDL_GetTicks() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTicks();
+        SdlMetrics.end(GET_TICKS, start);
+        return result;
+    }
 
     /**
      * Get the number of milliseconds since SDL library initialization.
@@ -56,7 +68,12 @@ public final class SdlTimer {
      * since the SDL library initialized.
      * @since This function is available since SDL 2.0.18.
      */
-    public static native long SDL_GetTicks64();
+    public static long SDL_GetTicks64() {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_GetTicks64();
+        SdlMetrics.end(GET_TICKS64, start);
+        return result;
+    }
 
     /**
      * Compare 32-bit SDL ticks values, and return true if {@code A} has passed {@code B}.
@@ -99,7 +116,12 @@ public final class SdlTimer {
      * @see #SDL_GetPerformanceFrequency()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native long SDL_GetPerformanceCounter();
+    public static long SDL_GetPerformanceCounter() {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_GetPerformanceCounter();
+        SdlMetrics.end(GET_PERFORMANCE_COUNTER, start);
+        return result;
+    }
 
     /**
      * Get the count per second of the high resolution counter.
@@ -108,7 +130,12 @@ public final class SdlTimer {
      * @see #SDL_GetPerformanceCounter()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native long SDL_GetPerformanceFrequency();
+    public static long SDL_GetPerformanceFrequency() {
+        long start = SdlMetrics.begin();
+        long result = InternalNativeFunctions.SDL_GetPerformanceFrequency();
+        SdlMetrics.end(GET_PERFORMANCE_FREQUENCY, start);
+        return result;
+    }
 
     /**
      * Wait a specified number of milliseconds before returning.
@@ -120,8 +147,12 @@ public final class SdlTimer {
      * @param ms the number of milliseconds to delay
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_Delay(
-            int ms);
+    public static void SDL_Delay(
+            int ms) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_Delay(ms);
+        SdlMetrics.end(DELAY, start);
+    }
 
     /**
      * Call a callback function at a future time.
@@ -153,10 +184,15 @@ public final class SdlTimer {
      * @see #SDL_RemoveTimer(SDL_TimerID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_TimerID SDL_AddTimer(
+    public static SDL_TimerID SDL_AddTimer(
             int interval,
             SDL_TimerCallback callback,
-            Pointer param);
+            Pointer param) {
+        long start = SdlMetrics.begin();
+        SDL_TimerID result = InternalNativeFunctions.SDL_AddTimer(interval, callback, param);
+        SdlMetrics.end(ADD_TIMER, start);
+        return result;
+    }
 
     /**
      * Remove a timer created with SDL_AddTimer().
@@ -167,6 +203,40 @@ public final class SdlTimer {
      * @see #SDL_AddTimer(int, SDL_TimerCallback, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_RemoveTimer(
-            SDL_TimerID id);
+    public static boolean SDL_RemoveTimer(
+            SDL_TimerID id) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_RemoveTimer(id);
+        SdlMetrics.end(REMOVE_TIMER, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_GetTicks();
+
+        public static native long SDL_GetTicks64();
+
+        public static native long SDL_GetPerformanceCounter();
+
+        public static native long SDL_GetPerformanceFrequency();
+
+        public static native void SDL_Delay(
+                int ms);
+
+        public static native SDL_TimerID SDL_AddTimer(
+                int interval,
+                SDL_TimerCallback callback,
+                Pointer param);
+
+        public static native boolean SDL_RemoveTimer(
+                SDL_TimerID id);
+    }
 }
@@ -1,6 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api.touch;
 
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 /**
@@ -10,9 +13,12 @@ import org.intellij.lang.annotations.MagicConstant;
  */
 public final class SdlTouch {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlTouch.class);
-    }
+    private static final NativeFunctionStats GET_NUM_TOUCH_DEVICES = SdlMetrics.register("SDL_GetNumTouchDevices", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TOUCH_DEVICE = SdlMetrics.register("SDL_GetTouchDevice", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TOUCH_NAME = SdlMetrics.register("SDL_GetTouchName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TOUCH_DEVICE_TYPE = SdlMetrics.register("SDL_GetTouchDeviceType", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_TOUCH_FINGERS = SdlMetrics.register("SDL_GetNumTouchFingers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_TOUCH_FINGER = SdlMetrics.register("SDL_GetTouchFinger", NativeCallKind.CALL);
 
     private SdlTouch() {
     }
@@ -31,7 +37,12 @@ public final class SdlTouch {
      * @see #SDL_GetTouchDevice(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumTouchDevices();
+    public static int SDL_GetNumTouchDevices() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumTouchDevices();
+        SdlMetrics.end(GET_NUM_TOUCH_DEVICES, start);
+        return result;
+    }
 
     /**
      * Get the touch ID with the given index.
@@ -42,8 +53,13 @@ public final class SdlTouch {
      * @see #SDL_GetNumTouchDevices()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_TouchID SDL_GetTouchDevice(
-            int index);
+    public static SDL_TouchID SDL_GetTouchDevice(
+            int index) {
+        long start = SdlMetrics.begin();
+        SDL_TouchID result = InternalNativeFunctions.SDL_GetTouchDevice(index);
+        SdlMetrics.end(GET_TOUCH_DEVICE, start);
+        return result;
+    }
 
     /**
      * Get the touch device name as reported from the driver or null if the index
@@ -51,8 +67,13 @@ public final class SdlTouch {
      *
      * @since This function is available since SDL 2.0.22.
      */
-    public static native String SDL_GetTouchName(
-            int index);
+    public static String SDL_GetTouchName(
+            int index) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetTouchName(index);
+        SdlMetrics.end(GET_TOUCH_NAME, start);
+        return result;
+    }
 
     /**
      * Get the type of the given touch device.
@@ -60,8 +81,13 @@ public final class SdlTouch {
      * @since This function is available since SDL 2.0.10.
      */
     @MagicConstant(valuesFromClass = SDL_TouchDeviceType.class)
-    public static native int SDL_GetTouchDeviceType(
-            SDL_TouchID touchID);
+    public static int SDL_GetTouchDeviceType(
+            SDL_TouchID touchID) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetTouchDeviceType(touchID);
+        SdlMetrics.end(GET_TOUCH_DEVICE_TYPE, start);
+        return result;
+    }
 
     /**
      * Get the number of active fingers for a given touch device.
@@ -72,8 +98,13 @@ public final class SdlTouch {
      * @see #SDL_GetTouchFinger(SDL_TouchID, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumTouchFingers(
-            SDL_TouchID touchID);
+    public static int SDL_GetNumTouchFingers(
+            SDL_TouchID touchID) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumTouchFingers(touchID);
+        SdlMetrics.end(GET_NUM_TOUCH_FINGERS, start);
+        return result;
+    }
 
     /**
      * Get the finger object for specified touch device ID and finger index.
@@ -87,7 +118,40 @@ public final class SdlTouch {
      * @see com.mrcrayfish.controllable_sdl.api.gesture.SdlGesture#SDL_RecordGesture(SDL_TouchID)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Finger SDL_GetTouchFinger(
+    public static SDL_Finger SDL_GetTouchFinger(
             SDL_TouchID touchID,
-            int index);
+            int index) {
+        long start = SdlMetrics.begin();
+        SDL_Finger result = InternalNativeFunctions.SDL_GetTouchFinger(touchID, index);
+        SdlMetrics.end(GET_TOUCH_FINGER, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_GetNumTouchDevices();
+
+        public static native SDL_TouchID SDL_GetTouchDevice(
+                int index);
+
+        public static native String SDL_GetTouchName(
+                int index);
+
+        public static native int SDL_GetTouchDeviceType(
+                SDL_TouchID touchID);
+
+        public static native int SDL_GetNumTouchFingers(
+                SDL_TouchID touchID);
+
+        public static native SDL_Finger SDL_GetTouchFinger(
+                SDL_TouchID touchID,
+                int index);
+    }
 }
@@ -1,6 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api.version;
 
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 import static com.mrcrayfish.controllable_sdl.api.version.SdlVersionConst.SDL_MAJOR_VERSION;
 import static com.mrcrayfish.controllable_sdl.api.version.SdlVersionConst.SDL_MINOR_VERSION;
@@ -13,9 +16,8 @@ import static com.mrcrayfish.controllable_sdl.api.version.SdlVersionConst.SDL_PA
  */
 public final class SdlVersion {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlVersion.class);
-    }
+    private static final NativeFunctionStats GET_VERSION = SdlMetrics.register("SDL_GetVersion", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_REVISION = SdlMetrics.register("SDL_GetRevision", NativeCallKind.CALL);
 
     private SdlVersion() {
     }
@@ -136,8 +138,12 @@ public final class SdlVersion {
      * @see #SDL_GetRevision()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetVersion(
-            SDL_version ver);
+    public static void SDL_GetVersion(
+            SDL_version ver) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetVersion(ver);
+        SdlMetrics.end(GET_VERSION, start);
+    }
 
     /**
      * Get the code revision of the native SDL library that is currently loaded in memory.
@@ -165,5 +171,25 @@ public final class SdlVersion {
      * @see #SDL_GetJavaBindingsVersion()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetRevision();
+    public static String SDL_GetRevision() {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetRevision();
+        SdlMetrics.end(GET_REVISION, start);
+        return result;
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native void SDL_GetVersion(
+                SDL_version ver);
+
+        public static native String SDL_GetRevision();
+    }
 }
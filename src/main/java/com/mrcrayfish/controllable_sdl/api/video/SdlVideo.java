@@ -1,6 +1,5 @@
 package com.mrcrayfish.controllable_sdl.api.video;
 
-import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.FloatByReference;
 import com.sun.jna.ptr.IntByReference;
@@ -10,8 +9,12 @@ import com.mrcrayfish.controllable_sdl.api.rect.SDL_Rect;
 import com.mrcrayfish.controllable_sdl.api.surface.SDL_Surface;
 import com.mrcrayfish.controllable_sdl.jna.ContiguousArrayList;
 import com.mrcrayfish.controllable_sdl.jna.JnaUtils;
+import com.mrcrayfish.controllable_sdl.jna.ScratchArena;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
 import com.mrcrayfish.controllable_sdl.jna.size_t;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 import org.intellij.lang.annotations.MagicConstant;
 
 import static com.mrcrayfish.controllable_sdl.api.stdinc.SdlStdinc.SDL_free;
@@ -25,9 +28,103 @@ import static com.mrcrayfish.controllable_sdl.api.video.SDL_WindowFlags.SDL_WIND
  */
 public final class SdlVideo {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlVideo.class);
-    }
+    private static final NativeFunctionStats GET_NUM_VIDEO_DRIVERS = SdlMetrics.register("SDL_GetNumVideoDrivers", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_VIDEO_DRIVER = SdlMetrics.register("SDL_GetVideoDriver", NativeCallKind.CALL);
+    private static final NativeFunctionStats VIDEO_INIT = SdlMetrics.register("SDL_VideoInit", NativeCallKind.CALL);
+    private static final NativeFunctionStats VIDEO_QUIT = SdlMetrics.register("SDL_VideoQuit", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CURRENT_VIDEO_DRIVER = SdlMetrics.register("SDL_GetCurrentVideoDriver", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_VIDEO_DISPLAYS = SdlMetrics.register("SDL_GetNumVideoDisplays", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_NAME = SdlMetrics.register("SDL_GetDisplayName", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_BOUNDS = SdlMetrics.register("SDL_GetDisplayBounds", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_USABLE_BOUNDS = SdlMetrics.register("SDL_GetDisplayUsableBounds", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_DPI = SdlMetrics.register("SDL_GetDisplayDPI", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_ORIENTATION = SdlMetrics.register("SDL_GetDisplayOrientation", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_NUM_DISPLAY_MODES = SdlMetrics.register("SDL_GetNumDisplayModes", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DISPLAY_MODE = SdlMetrics.register("SDL_GetDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_DESKTOP_DISPLAY_MODE = SdlMetrics.register("SDL_GetDesktopDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CURRENT_DISPLAY_MODE = SdlMetrics.register("SDL_GetCurrentDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_CLOSEST_DISPLAY_MODE = SdlMetrics.register("SDL_GetClosestDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_POINT_DISPLAY_INDEX = SdlMetrics.register("SDL_GetPointDisplayIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_RECT_DISPLAY_INDEX = SdlMetrics.register("SDL_GetRectDisplayIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_DISPLAY_INDEX = SdlMetrics.register("SDL_GetWindowDisplayIndex", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_DISPLAY_MODE = SdlMetrics.register("SDL_SetWindowDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_DISPLAY_MODE = SdlMetrics.register("SDL_GetWindowDisplayMode", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_PIXEL_FORMAT = SdlMetrics.register("SDL_GetWindowPixelFormat", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_WINDOW = SdlMetrics.register("SDL_CreateWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats CREATE_WINDOW_FROM = SdlMetrics.register("SDL_CreateWindowFrom", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_ID = SdlMetrics.register("SDL_GetWindowID", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_FROM_ID = SdlMetrics.register("SDL_GetWindowFromID", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_FLAGS = SdlMetrics.register("SDL_GetWindowFlags", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_TITLE = SdlMetrics.register("SDL_SetWindowTitle", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_TITLE = SdlMetrics.register("SDL_GetWindowTitle", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_ICON = SdlMetrics.register("SDL_SetWindowIcon", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_DATA = SdlMetrics.register("SDL_SetWindowData", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_DATA = SdlMetrics.register("SDL_GetWindowData", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_POSITION = SdlMetrics.register("SDL_SetWindowPosition", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_POSITION = SdlMetrics.register("SDL_GetWindowPosition", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_SIZE = SdlMetrics.register("SDL_SetWindowSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_SIZE = SdlMetrics.register("SDL_GetWindowSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_BORDERS_SIZE = SdlMetrics.register("SDL_GetWindowBordersSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_SIZE_IN_PIXELS = SdlMetrics.register("SDL_GetWindowSizeInPixels", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_MINIMUM_SIZE = SdlMetrics.register("SDL_SetWindowMinimumSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_MINIMUM_SIZE = SdlMetrics.register("SDL_GetWindowMinimumSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_MAXIMUM_SIZE = SdlMetrics.register("SDL_SetWindowMaximumSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_MAXIMUM_SIZE = SdlMetrics.register("SDL_GetWindowMaximumSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_BORDERED = SdlMetrics.register("SDL_SetWindowBordered", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_RESIZABLE = SdlMetrics.register("SDL_SetWindowResizable", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_ALWAYS_ON_TOP = SdlMetrics.register("SDL_SetWindowAlwaysOnTop", NativeCallKind.CALL);
+    private static final NativeFunctionStats SHOW_WINDOW = SdlMetrics.register("SDL_ShowWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats HIDE_WINDOW = SdlMetrics.register("SDL_HideWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats RAISE_WINDOW = SdlMetrics.register("SDL_RaiseWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats MAXIMIZE_WINDOW = SdlMetrics.register("SDL_MaximizeWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats MINIMIZE_WINDOW = SdlMetrics.register("SDL_MinimizeWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats RESTORE_WINDOW = SdlMetrics.register("SDL_RestoreWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_FULLSCREEN = SdlMetrics.register("SDL_SetWindowFullscreen", NativeCallKind.CALL);
+    private static final NativeFunctionStats HAS_WINDOW_SURFACE = SdlMetrics.register("SDL_HasWindowSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_SURFACE = SdlMetrics.register("SDL_GetWindowSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPDATE_WINDOW_SURFACE = SdlMetrics.register("SDL_UpdateWindowSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats UPDATE_WINDOW_SURFACE_RECTS = SdlMetrics.register("SDL_UpdateWindowSurfaceRects", NativeCallKind.CALL);
+    private static final NativeFunctionStats DESTROY_WINDOW_SURFACE = SdlMetrics.register("SDL_DestroyWindowSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_GRAB = SdlMetrics.register("SDL_SetWindowGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_KEYBOARD_GRAB = SdlMetrics.register("SDL_SetWindowKeyboardGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_MOUSE_GRAB = SdlMetrics.register("SDL_SetWindowMouseGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_GRAB = SdlMetrics.register("SDL_GetWindowGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_KEYBOARD_GRAB = SdlMetrics.register("SDL_GetWindowKeyboardGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_MOUSE_GRAB = SdlMetrics.register("SDL_GetWindowMouseGrab", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_GRABBED_WINDOW = SdlMetrics.register("SDL_GetGrabbedWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_MOUSE_RECT = SdlMetrics.register("SDL_SetWindowMouseRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_MOUSE_RECT = SdlMetrics.register("SDL_GetWindowMouseRect", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_BRIGHTNESS = SdlMetrics.register("SDL_SetWindowBrightness", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_BRIGHTNESS = SdlMetrics.register("SDL_GetWindowBrightness", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_OPACITY = SdlMetrics.register("SDL_SetWindowOpacity", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_OPACITY = SdlMetrics.register("SDL_GetWindowOpacity", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_MODAL_FOR = SdlMetrics.register("SDL_SetWindowModalFor", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_INPUT_FOCUS = SdlMetrics.register("SDL_SetWindowInputFocus", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_GAMMA_RAMP = SdlMetrics.register("SDL_SetWindowGammaRamp", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_GAMMA_RAMP = SdlMetrics.register("SDL_GetWindowGammaRamp", NativeCallKind.CALL);
+    private static final NativeFunctionStats SET_WINDOW_HIT_TEST = SdlMetrics.register("SDL_SetWindowHitTest", NativeCallKind.CALL);
+    private static final NativeFunctionStats FLASH_WINDOW = SdlMetrics.register("SDL_FlashWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats DESTROY_WINDOW = SdlMetrics.register("SDL_DestroyWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats IS_SCREEN_SAVER_ENABLED = SdlMetrics.register("SDL_IsScreenSaverEnabled", NativeCallKind.CALL);
+    private static final NativeFunctionStats ENABLE_SCREEN_SAVER = SdlMetrics.register("SDL_EnableScreenSaver", NativeCallKind.CALL);
+    private static final NativeFunctionStats DISABLE_SCREEN_SAVER = SdlMetrics.register("SDL_DisableScreenSaver", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_LOAD_LIBRARY = SdlMetrics.register("SDL_GL_LoadLibrary", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_PROC_ADDRESS = SdlMetrics.register("SDL_GL_GetProcAddress", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_UNLOAD_LIBRARY = SdlMetrics.register("SDL_GL_UnloadLibrary", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_EXTENSION_SUPPORTED = SdlMetrics.register("SDL_GL_ExtensionSupported", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_RESET_ATTRIBUTES = SdlMetrics.register("SDL_GL_ResetAttributes", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_SET_ATTRIBUTE = SdlMetrics.register("SDL_GL_SetAttribute", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_ATTRIBUTE = SdlMetrics.register("SDL_GL_GetAttribute", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_CREATE_CONTEXT = SdlMetrics.register("SDL_GL_CreateContext", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_MAKE_CURRENT = SdlMetrics.register("SDL_GL_MakeCurrent", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_CURRENT_WINDOW = SdlMetrics.register("SDL_GL_GetCurrentWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_CURRENT_CONTEXT = SdlMetrics.register("SDL_GL_GetCurrentContext", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_DRAWABLE_SIZE = SdlMetrics.register("SDL_GL_GetDrawableSize", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_SET_SWAP_INTERVAL = SdlMetrics.register("SDL_GL_SetSwapInterval", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_GET_SWAP_INTERVAL = SdlMetrics.register("SDL_GL_GetSwapInterval", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_SWAP_WINDOW = SdlMetrics.register("SDL_GL_SwapWindow", NativeCallKind.CALL);
+    private static final NativeFunctionStats GL_DELETE_CONTEXT = SdlMetrics.register("SDL_GL_DeleteContext", NativeCallKind.CALL);
+    private static final NativeFunctionStats GET_WINDOW_ICC_PROFILE = SdlMetrics.register("SDL_GetWindowICCProfile", NativeCallKind.CALL);
 
     private SdlVideo() {
     }
@@ -40,7 +137,12 @@ public final class SdlVideo {
      * @see #SDL_GetVideoDriver(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumVideoDrivers();
+    public static int SDL_GetNumVideoDrivers() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumVideoDrivers();
+        SdlMetrics.end(GET_NUM_VIDEO_DRIVERS, start);
+        return result;
+    }
 
     /**
      * Get the name of a built in video driver.
@@ -53,8 +155,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDrivers()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetVideoDriver(
-            int index);
+    public static String SDL_GetVideoDriver(
+            int index) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetVideoDriver(index);
+        SdlMetrics.end(GET_VIDEO_DRIVER, start);
+        return result;
+    }
 
     /**
      * Initialize the video subsystem, optionally specifying a video driver.
@@ -83,8 +190,13 @@ public final class SdlVideo {
      * @see #SDL_VideoQuit()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_VideoInit(
-            String driverName);
+    public static int SDL_VideoInit(
+            String driverName) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_VideoInit(driverName);
+        SdlMetrics.end(VIDEO_INIT, start);
+        return result;
+    }
 
     /**
      * Shut down the video subsystem, if initialized with SDL_VideoInit().
@@ -94,7 +206,11 @@ public final class SdlVideo {
      * @see #SDL_VideoInit(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_VideoQuit();
+    public static void SDL_VideoQuit() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_VideoQuit();
+        SdlMetrics.end(VIDEO_QUIT, start);
+    }
 
     /**
      * Get the name of the currently initialized video driver.
@@ -105,7 +221,12 @@ public final class SdlVideo {
      * @see #SDL_GetVideoDriver(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetCurrentVideoDriver();
+    public static String SDL_GetCurrentVideoDriver() {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetCurrentVideoDriver();
+        SdlMetrics.end(GET_CURRENT_VIDEO_DRIVER, start);
+        return result;
+    }
 
     /**
      * Get the number of available video displays.
@@ -115,7 +236,12 @@ public final class SdlVideo {
      * @see #SDL_GetDisplayBounds(int, SDL_Rect)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumVideoDisplays();
+    public static int SDL_GetNumVideoDisplays() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumVideoDisplays();
+        SdlMetrics.end(GET_NUM_VIDEO_DISPLAYS, start);
+        return result;
+    }
 
     /**
      * Get the name of a display in UTF-8 encoding.
@@ -127,8 +253,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetDisplayName(
-            int displayIndex);
+    public static String SDL_GetDisplayName(
+            int displayIndex) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetDisplayName(displayIndex);
+        SdlMetrics.end(GET_DISPLAY_NAME, start);
+        return result;
+    }
 
     /**
      * Get the desktop area represented by a display.
@@ -142,9 +273,14 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetDisplayBounds(
+    public static int SDL_GetDisplayBounds(
             int displayIndex,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDisplayBounds(displayIndex, rect);
+        SdlMetrics.end(GET_DISPLAY_BOUNDS, start);
+        return result;
+    }
 
     /**
      * Get the usable desktop area represented by a display.
@@ -173,9 +309,14 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_GetDisplayUsableBounds(
+    public static int SDL_GetDisplayUsableBounds(
             int displayIndex,
-            SDL_Rect rect);
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDisplayUsableBounds(displayIndex, rect);
+        SdlMetrics.end(GET_DISPLAY_USABLE_BOUNDS, start);
+        return result;
+    }
 
     /**
      * Get the dots/pixels-per-inch for a display.
@@ -208,11 +349,16 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_GetDisplayDPI(
+    public static int SDL_GetDisplayDPI(
             int displayIndex,
             FloatByReference ddpi,
             FloatByReference hdpi,
-            FloatByReference vdpi);
+            FloatByReference vdpi) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDisplayDPI(displayIndex, ddpi, hdpi, vdpi);
+        SdlMetrics.end(GET_DISPLAY_DPI, start);
+        return result;
+    }
 
     /**
      * Get the orientation of a display.
@@ -224,8 +370,13 @@ public final class SdlVideo {
      * @since This function is available since SDL 2.0.9.
      */
     @MagicConstant(valuesFromClass = SDL_DisplayOrientation.class)
-    public static native int SDL_GetDisplayOrientation(
-            int displayIndex);
+    public static int SDL_GetDisplayOrientation(
+            int displayIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDisplayOrientation(displayIndex);
+        SdlMetrics.end(GET_DISPLAY_ORIENTATION, start);
+        return result;
+    }
 
     /**
      * Get the number of available display modes.
@@ -240,8 +391,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetNumDisplayModes(
-            int displayIndex);
+    public static int SDL_GetNumDisplayModes(
+            int displayIndex) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetNumDisplayModes(displayIndex);
+        SdlMetrics.end(GET_NUM_DISPLAY_MODES, start);
+        return result;
+    }
 
     /**
      * Get information about a specific display mode.
@@ -265,10 +421,15 @@ public final class SdlVideo {
      * @see #SDL_GetNumDisplayModes(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetDisplayMode(
+    public static int SDL_GetDisplayMode(
             int displayIndex,
             int modeIndex,
-            SDL_DisplayMode mode);
+            SDL_DisplayMode mode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDisplayMode(displayIndex, modeIndex, mode);
+        SdlMetrics.end(GET_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Get information about the desktop's display mode.
@@ -288,9 +449,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowDisplayMode(SDL_Window, SDL_DisplayMode)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetDesktopDisplayMode(
+    public static int SDL_GetDesktopDisplayMode(
             int displayIndex,
-            SDL_DisplayMode mode);
+            SDL_DisplayMode mode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetDesktopDisplayMode(displayIndex, mode);
+        SdlMetrics.end(GET_DESKTOP_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Get information about the current display mode.
@@ -311,9 +477,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowDisplayMode(SDL_Window, SDL_DisplayMode)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetCurrentDisplayMode(
+    public static int SDL_GetCurrentDisplayMode(
             int displayIndex,
-            SDL_DisplayMode mode);
+            SDL_DisplayMode mode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetCurrentDisplayMode(displayIndex, mode);
+        SdlMetrics.end(GET_CURRENT_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Get the closest match to the requested display mode.
@@ -336,10 +507,15 @@ public final class SdlVideo {
      * @see #SDL_GetNumDisplayModes(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_DisplayMode SDL_GetClosestDisplayMode(
+    public static SDL_DisplayMode SDL_GetClosestDisplayMode(
             int displayIndex,
             SDL_DisplayMode mode,
-            SDL_DisplayMode closest);
+            SDL_DisplayMode closest) {
+        long start = SdlMetrics.begin();
+        SDL_DisplayMode result = InternalNativeFunctions.SDL_GetClosestDisplayMode(displayIndex, mode, closest);
+        SdlMetrics.end(GET_CLOSEST_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Get the index of the display containing a point
@@ -355,9 +531,8 @@ public final class SdlVideo {
      */
     public static int SDL_GetPointDisplayIndex(
             SDL_Point point) {
-        try (Memory rawPoint = new Memory(point.size())) {
-            point.write(rawPoint, 0L);
-            return SDL_GetPointDisplayIndex(rawPoint);
+        try (ScratchArena arena = ScratchArena.push()) {
+            return SDL_GetPointDisplayIndex(JnaUtils.writeToNativeMemory(arena, point));
         }
     }
 
@@ -374,8 +549,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.24.0.
      */
-    public static native int SDL_GetPointDisplayIndex(
-            Pointer point);
+    public static int SDL_GetPointDisplayIndex(
+            Pointer point) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetPointDisplayIndex(point);
+        SdlMetrics.end(GET_POINT_DISPLAY_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the index of the display primarily containing a rect
@@ -388,8 +568,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.24.0.
      */
-    public static native int SDL_GetRectDisplayIndex(
-            SDL_Rect rect);
+    public static int SDL_GetRectDisplayIndex(
+            SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetRectDisplayIndex(rect);
+        SdlMetrics.end(GET_RECT_DISPLAY_INDEX, start);
+        return result;
+    }
 
     /**
      * Get the index of the display associated with a window.
@@ -402,8 +587,13 @@ public final class SdlVideo {
      * @see #SDL_GetNumVideoDisplays()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetWindowDisplayIndex(
-            SDL_Window window);
+    public static int SDL_GetWindowDisplayIndex(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowDisplayIndex(window);
+        SdlMetrics.end(GET_WINDOW_DISPLAY_INDEX, start);
+        return result;
+    }
 
     /**
      * Set the display mode to use when a window is visible at fullscreen.
@@ -422,9 +612,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowFullscreen(SDL_Window, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetWindowDisplayMode(
+    public static int SDL_SetWindowDisplayMode(
             SDL_Window window,
-            SDL_DisplayMode mode);
+            SDL_DisplayMode mode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowDisplayMode(window, mode);
+        SdlMetrics.end(SET_WINDOW_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Query the display mode to use when a window is visible at fullscreen.
@@ -438,9 +633,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowFullscreen(SDL_Window, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetWindowDisplayMode(
+    public static int SDL_GetWindowDisplayMode(
             SDL_Window window,
-            SDL_DisplayMode mode);
+            SDL_DisplayMode mode) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowDisplayMode(window, mode);
+        SdlMetrics.end(GET_WINDOW_DISPLAY_MODE, start);
+        return result;
+    }
 
     /**
      * Get the raw ICC profile data for the screen the window is currently on.
@@ -453,7 +653,9 @@ public final class SdlVideo {
     public static byte[] SDL_GetWindowICCProfile(
             SDL_Window window) {
         size_t.Ref sizeRef = new size_t.Ref();
+        long start = SdlMetrics.begin();
         Pointer mem = InternalNativeFunctions.SDL_GetWindowICCProfile(window, sizeRef);
+        SdlMetrics.end(GET_WINDOW_ICC_PROFILE, start);
         if (Pointer.nativeValue(mem) == 0L) {
             return null;
         }
@@ -472,8 +674,13 @@ public final class SdlVideo {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(valuesFromClass = SDL_PixelFormatEnum.class)
-    public static native int SDL_GetWindowPixelFormat(
-            SDL_Window window);
+    public static int SDL_GetWindowPixelFormat(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowPixelFormat(window);
+        SdlMetrics.end(GET_WINDOW_PIXEL_FORMAT, start);
+        return result;
+    }
 
     /**
      * Create a window with the specified position, dimensions, and flags.
@@ -546,13 +753,18 @@ public final class SdlVideo {
      * @see #SDL_DestroyWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_CreateWindow(
+    public static SDL_Window SDL_CreateWindow(
             String title,
             int x,
             int y,
             int w,
             int h,
-            @MagicConstant(flagsFromClass = SDL_WindowFlags.class) int flags);
+            @MagicConstant(flagsFromClass = SDL_WindowFlags.class) int flags) {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_CreateWindow(title, x, y, w, h, flags);
+        SdlMetrics.end(CREATE_WINDOW, start);
+        return result;
+    }
 
     /**
      * Create an SDL window from an existing native window.
@@ -569,8 +781,13 @@ public final class SdlVideo {
      * @see #SDL_DestroyWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_CreateWindowFrom(
-            Pointer data);
+    public static SDL_Window SDL_CreateWindowFrom(
+            Pointer data) {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_CreateWindowFrom(data);
+        SdlMetrics.end(CREATE_WINDOW_FROM, start);
+        return result;
+    }
 
     /**
      * Get the numeric ID of a window.
@@ -584,8 +801,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowFromID(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetWindowID(
-            SDL_Window window);
+    public static int SDL_GetWindowID(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowID(window);
+        SdlMetrics.end(GET_WINDOW_ID, start);
+        return result;
+    }
 
     /**
      * Get a window from a stored ID.
@@ -599,8 +821,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowID(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_GetWindowFromID(
-            int id);
+    public static SDL_Window SDL_GetWindowFromID(
+            int id) {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_GetWindowFromID(id);
+        SdlMetrics.end(GET_WINDOW_FROM_ID, start);
+        return result;
+    }
 
     /**
      * Get the window flags.
@@ -617,8 +844,13 @@ public final class SdlVideo {
      * @since This function is available since SDL 2.0.0.
      */
     @MagicConstant(flagsFromClass = SDL_WindowFlags.class)
-    public static native int SDL_GetWindowFlags(
-            SDL_Window window);
+    public static int SDL_GetWindowFlags(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowFlags(window);
+        SdlMetrics.end(GET_WINDOW_FLAGS, start);
+        return result;
+    }
 
     /**
      * Set the title of a window.
@@ -630,9 +862,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowTitle(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowTitle(
+    public static void SDL_SetWindowTitle(
             SDL_Window window,
-            String title);
+            String title) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowTitle(window, title);
+        SdlMetrics.end(SET_WINDOW_TITLE, start);
+    }
 
     /**
      * Get the title of a window.
@@ -643,8 +879,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowTitle(SDL_Window, String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native String SDL_GetWindowTitle(
-            SDL_Window window);
+    public static String SDL_GetWindowTitle(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        String result = InternalNativeFunctions.SDL_GetWindowTitle(window);
+        SdlMetrics.end(GET_WINDOW_TITLE, start);
+        return result;
+    }
 
     /**
      * Set the icon for a window.
@@ -653,9 +894,13 @@ public final class SdlVideo {
      * @param icon   an SDL_Surface structure containing the icon for the window
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowIcon(
+    public static void SDL_SetWindowIcon(
             SDL_Window window,
-            SDL_Surface icon);
+            SDL_Surface icon) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowIcon(window, icon);
+        SdlMetrics.end(SET_WINDOW_ICON, start);
+    }
 
     /**
      * Associate an arbitrary named pointer with a window.
@@ -669,10 +914,15 @@ public final class SdlVideo {
      * @see #SDL_GetWindowData(SDL_Window, String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native Pointer SDL_SetWindowData(
+    public static Pointer SDL_SetWindowData(
             SDL_Window window,
             String name,
-            Pointer userdata);
+            Pointer userdata) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_SetWindowData(window, name, userdata);
+        SdlMetrics.end(SET_WINDOW_DATA, start);
+        return result;
+    }
 
     /**
      * Retrieve the data pointer associated with a window.
@@ -683,9 +933,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowData(SDL_Window, String, Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native Pointer SDL_GetWindowData(
+    public static Pointer SDL_GetWindowData(
             SDL_Window window,
-            String name);
+            String name) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GetWindowData(window, name);
+        SdlMetrics.end(GET_WINDOW_DATA, start);
+        return result;
+    }
 
     /**
      * Set the position of a window.
@@ -700,10 +955,14 @@ public final class SdlVideo {
      * @see #SDL_GetWindowPosition(SDL_Window, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowPosition(
+    public static void SDL_SetWindowPosition(
             SDL_Window window,
             int x,
-            int y);
+            int y) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowPosition(window, x, y);
+        SdlMetrics.end(SET_WINDOW_POSITION, start);
+    }
 
     /**
      * Get the position of a window.
@@ -719,10 +978,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowPosition(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetWindowPosition(
+    public static void SDL_GetWindowPosition(
             SDL_Window window,
             IntByReference x,
-            IntByReference y);
+            IntByReference y) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetWindowPosition(window, x, y);
+        SdlMetrics.end(GET_WINDOW_POSITION, start);
+    }
 
     /**
      * Set the size of a window's client area.
@@ -744,10 +1007,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowDisplayMode(SDL_Window, SDL_DisplayMode)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowSize(
+    public static void SDL_SetWindowSize(
             SDL_Window window,
             int w,
-            int h);
+            int h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowSize(window, w, h);
+        SdlMetrics.end(SET_WINDOW_SIZE, start);
+    }
 
     /**
      * Get the size of a window's client area.
@@ -771,10 +1038,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowSize(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetWindowSize(
+    public static void SDL_GetWindowSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetWindowSize(window, w, h);
+        SdlMetrics.end(GET_WINDOW_SIZE, start);
+    }
 
     /**
      * Get the size of a window's borders (decorations) around the client area.
@@ -806,12 +1077,17 @@ public final class SdlVideo {
      * @see #SDL_GetWindowSize(SDL_Window, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_GetWindowBordersSize(
+    public static int SDL_GetWindowBordersSize(
             SDL_Window window,
             IntByReference top,
             IntByReference left,
             IntByReference bottom,
-            IntByReference right);
+            IntByReference right) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowBordersSize(window, top, left, bottom, right);
+        SdlMetrics.end(GET_WINDOW_BORDERS_SIZE, start);
+        return result;
+    }
 
     /**
      * Get the size of a window in pixels.
@@ -828,10 +1104,14 @@ public final class SdlVideo {
      * @see #SDL_GetWindowSize(SDL_Window, IntByReference, IntByReference)
      * @since This function is available since SDL 2.26.0.
      */
-    public static native void SDL_GetWindowSizeInPixels(
+    public static void SDL_GetWindowSizeInPixels(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetWindowSizeInPixels(window, w, h);
+        SdlMetrics.end(GET_WINDOW_SIZE_IN_PIXELS, start);
+    }
 
     /**
      * Set the minimum size of a window's client area.
@@ -843,10 +1123,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMaximumSize(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowMinimumSize(
+    public static void SDL_SetWindowMinimumSize(
             SDL_Window window,
             int minW,
-            int minH);
+            int minH) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowMinimumSize(window, minW, minH);
+        SdlMetrics.end(SET_WINDOW_MINIMUM_SIZE, start);
+    }
 
     /**
      * Get the minimum size of a window's client area.
@@ -860,10 +1144,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMinimumSize(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetWindowMinimumSize(
+    public static void SDL_GetWindowMinimumSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetWindowMinimumSize(window, w, h);
+        SdlMetrics.end(GET_WINDOW_MINIMUM_SIZE, start);
+    }
 
     /**
      * Set the maximum size of a window's client area.
@@ -875,10 +1163,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMinimumSize(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowMaximumSize(
+    public static void SDL_SetWindowMaximumSize(
             SDL_Window window,
             int maxW,
-            int maxH);
+            int maxH) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowMaximumSize(window, maxW, maxH);
+        SdlMetrics.end(SET_WINDOW_MAXIMUM_SIZE, start);
+    }
 
     /**
      * Get the maximum size of a window's client area.
@@ -892,10 +1184,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMaximumSize(SDL_Window, int, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GetWindowMaximumSize(
+    public static void SDL_GetWindowMaximumSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GetWindowMaximumSize(window, w, h);
+        SdlMetrics.end(GET_WINDOW_MAXIMUM_SIZE, start);
+    }
 
     /**
      * Set the border state of a window.
@@ -911,9 +1207,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowFlags(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_SetWindowBordered(
+    public static void SDL_SetWindowBordered(
             SDL_Window window,
-            boolean bordered);
+            boolean bordered) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowBordered(window, bordered);
+        SdlMetrics.end(SET_WINDOW_BORDERED, start);
+    }
 
     /**
      * Set the user-resizable state of a window.
@@ -929,9 +1229,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowFlags(SDL_Window)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native void SDL_SetWindowResizable(
+    public static void SDL_SetWindowResizable(
             SDL_Window window,
-            boolean resizable);
+            boolean resizable) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowResizable(window, resizable);
+        SdlMetrics.end(SET_WINDOW_RESIZABLE, start);
+    }
 
     /**
      * Set the window to always be above the others.
@@ -945,9 +1249,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowFlags(SDL_Window)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native void SDL_SetWindowAlwaysOnTop(
+    public static void SDL_SetWindowAlwaysOnTop(
             SDL_Window window,
-            boolean onTop);
+            boolean onTop) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowAlwaysOnTop(window, onTop);
+        SdlMetrics.end(SET_WINDOW_ALWAYS_ON_TOP, start);
+    }
 
     /**
      * Show a window.
@@ -957,8 +1265,12 @@ public final class SdlVideo {
      * @see #SDL_RaiseWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_ShowWindow(
-            SDL_Window window);
+    public static void SDL_ShowWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_ShowWindow(window);
+        SdlMetrics.end(SHOW_WINDOW, start);
+    }
 
     /**
      * Hide a window.
@@ -967,8 +1279,12 @@ public final class SdlVideo {
      * @see #SDL_ShowWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_HideWindow(
-            SDL_Window window);
+    public static void SDL_HideWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_HideWindow(window);
+        SdlMetrics.end(HIDE_WINDOW, start);
+    }
 
     /**
      * Raise a window above other windows and set the input focus.
@@ -976,8 +1292,12 @@ public final class SdlVideo {
      * @param window the window to raise
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RaiseWindow(
-            SDL_Window window);
+    public static void SDL_RaiseWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RaiseWindow(window);
+        SdlMetrics.end(RAISE_WINDOW, start);
+    }
 
     /**
      * Make a window as large as possible.
@@ -987,8 +1307,12 @@ public final class SdlVideo {
      * @see #SDL_RestoreWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_MaximizeWindow(
-            SDL_Window window);
+    public static void SDL_MaximizeWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_MaximizeWindow(window);
+        SdlMetrics.end(MAXIMIZE_WINDOW, start);
+    }
 
     /**
      * Minimize a window to an iconic representation.
@@ -998,8 +1322,12 @@ public final class SdlVideo {
      * @see #SDL_RestoreWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_MinimizeWindow(
-            SDL_Window window);
+    public static void SDL_MinimizeWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_MinimizeWindow(window);
+        SdlMetrics.end(MINIMIZE_WINDOW, start);
+    }
 
     /**
      * Restore the size and position of a minimized or maximized window.
@@ -1009,8 +1337,12 @@ public final class SdlVideo {
      * @see #SDL_MinimizeWindow(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_RestoreWindow(
-            SDL_Window window);
+    public static void SDL_RestoreWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_RestoreWindow(window);
+        SdlMetrics.end(RESTORE_WINDOW, start);
+    }
 
     /**
      * Set a window's fullscreen state.
@@ -1027,9 +1359,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowDisplayMode(SDL_Window, SDL_DisplayMode)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetWindowFullscreen(
+    public static int SDL_SetWindowFullscreen(
             SDL_Window window,
-            @MagicConstant(flags = {SDL_WINDOW_FULLSCREEN, SDL_WINDOW_FULLSCREEN_DESKTOP, 0}) int flags);
+            @MagicConstant(flags = {SDL_WINDOW_FULLSCREEN, SDL_WINDOW_FULLSCREEN_DESKTOP, 0}) int flags) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowFullscreen(window, flags);
+        SdlMetrics.end(SET_WINDOW_FULLSCREEN, start);
+        return result;
+    }
 
     /**
      * Return whether the window has a surface associated with it.
@@ -1038,8 +1375,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowSurface(SDL_Window)
      * @since This function is available since SDL 2.28.0.
      */
-    public static native boolean SDL_HasWindowSurface(
-            SDL_Window window);
+    public static boolean SDL_HasWindowSurface(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_HasWindowSurface(window);
+        SdlMetrics.end(HAS_WINDOW_SURFACE, start);
+        return result;
+    }
 
     /**
      * Get the SDL surface associated with the window.
@@ -1064,8 +1406,13 @@ public final class SdlVideo {
      * @see #SDL_UpdateWindowSurfaceRects(SDL_Window, ContiguousArrayList)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Surface SDL_GetWindowSurface(
-            SDL_Window window);
+    public static SDL_Surface SDL_GetWindowSurface(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        SDL_Surface result = InternalNativeFunctions.SDL_GetWindowSurface(window);
+        SdlMetrics.end(GET_WINDOW_SURFACE, start);
+        return result;
+    }
 
     /**
      * Copy the window surface to the screen.
@@ -1082,8 +1429,13 @@ public final class SdlVideo {
      * @see #SDL_UpdateWindowSurfaceRects(SDL_Window, ContiguousArrayList)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_UpdateWindowSurface(
-            SDL_Window window);
+    public static int SDL_UpdateWindowSurface(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpdateWindowSurface(window);
+        SdlMetrics.end(UPDATE_WINDOW_SURFACE, start);
+        return result;
+    }
 
     /**
      * Copy areas of the window surface to the screen.
@@ -1131,10 +1483,15 @@ public final class SdlVideo {
      * @see #SDL_UpdateWindowSurface(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_UpdateWindowSurfaceRects(
+    public static int SDL_UpdateWindowSurfaceRects(
             SDL_Window window,
             Pointer rects,
-            int numrects);
+            int numrects) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_UpdateWindowSurfaceRects(window, rects, numrects);
+        SdlMetrics.end(UPDATE_WINDOW_SURFACE_RECTS, start);
+        return result;
+    }
 
     /**
      * Destroy the surface associated with the window.
@@ -1148,8 +1505,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowSurface(SDL_Window)
      * @see #SDL_HasWindowSurface(SDL_Window)
      */
-    public static native int SDL_DestroyWindowSurface(
-            SDL_Window window);
+    public static int SDL_DestroyWindowSurface(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_DestroyWindowSurface(window);
+        SdlMetrics.end(DESTROY_WINDOW_SURFACE, start);
+        return result;
+    }
 
     /**
      * Set a window's input grab mode.
@@ -1167,9 +1529,14 @@ public final class SdlVideo {
      * @see #SDL_GetWindowGrab(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetWindowGrab(
+    public static int SDL_SetWindowGrab(
             SDL_Window window,
-            boolean grabbed);
+            boolean grabbed) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowGrab(window, grabbed);
+        SdlMetrics.end(SET_WINDOW_GRAB, start);
+        return result;
+    }
 
     /**
      * Set a window's keyboard grab mode.
@@ -1197,9 +1564,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGrab(SDL_Window, boolean)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native void SDL_SetWindowKeyboardGrab(
+    public static void SDL_SetWindowKeyboardGrab(
             SDL_Window window,
-            boolean grabbed);
+            boolean grabbed) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowKeyboardGrab(window, grabbed);
+        SdlMetrics.end(SET_WINDOW_KEYBOARD_GRAB, start);
+    }
 
     /**
      * Set a window's mouse grab mode.
@@ -1213,9 +1584,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGrab(SDL_Window, boolean)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native void SDL_SetWindowMouseGrab(
+    public static void SDL_SetWindowMouseGrab(
             SDL_Window window,
-            boolean grabbed);
+            boolean grabbed) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_SetWindowMouseGrab(window, grabbed);
+        SdlMetrics.end(SET_WINDOW_MOUSE_GRAB, start);
+    }
 
     /**
      * Get a window's input grab mode.
@@ -1225,8 +1600,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGrab(SDL_Window, boolean)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GetWindowGrab(
-            SDL_Window window);
+    public static boolean SDL_GetWindowGrab(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetWindowGrab(window);
+        SdlMetrics.end(GET_WINDOW_GRAB, start);
+        return result;
+    }
 
     /**
      * Get a window's keyboard grab mode.
@@ -1237,8 +1617,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowGrab(SDL_Window)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native boolean SDL_GetWindowKeyboardGrab(
-            SDL_Window window);
+    public static boolean SDL_GetWindowKeyboardGrab(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetWindowKeyboardGrab(window);
+        SdlMetrics.end(GET_WINDOW_KEYBOARD_GRAB, start);
+        return result;
+    }
 
     /**
      * Get a window's mouse grab mode.
@@ -1249,8 +1634,13 @@ public final class SdlVideo {
      * @see #SDL_GetWindowGrab(SDL_Window)
      * @since This function is available since SDL 2.0.16.
      */
-    public static native boolean SDL_GetWindowMouseGrab(
-            SDL_Window window);
+    public static boolean SDL_GetWindowMouseGrab(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GetWindowMouseGrab(window);
+        SdlMetrics.end(GET_WINDOW_MOUSE_GRAB, start);
+        return result;
+    }
 
     /**
      * Get the window that currently has an input grab enabled.
@@ -1260,7 +1650,12 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGrab(SDL_Window, boolean)
      * @since This function is available since SDL 2.0.4.
      */
-    public static native SDL_Window SDL_GetGrabbedWindow();
+    public static SDL_Window SDL_GetGrabbedWindow() {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_GetGrabbedWindow();
+        SdlMetrics.end(GET_GRABBED_WINDOW, start);
+        return result;
+    }
 
     /**
      * Confines the cursor to the specified area of a window.
@@ -1277,8 +1672,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMouseGrab(SDL_Window, boolean)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native int SDL_SetWindowMouseRect(
-            SDL_Window window, SDL_Rect rect);
+    public static int SDL_SetWindowMouseRect(
+            SDL_Window window, SDL_Rect rect) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowMouseRect(window, rect);
+        SdlMetrics.end(SET_WINDOW_MOUSE_RECT, start);
+        return result;
+    }
 
     /**
      * Get the mouse confinement rectangle of a window.
@@ -1289,8 +1689,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowMouseRect(SDL_Window, SDL_Rect)
      * @since This function is available since SDL 2.0.18.
      */
-    public static native SDL_Rect SDL_GetWindowMouseRect(
-            SDL_Window window);
+    public static SDL_Rect SDL_GetWindowMouseRect(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        SDL_Rect result = InternalNativeFunctions.SDL_GetWindowMouseRect(window);
+        SdlMetrics.end(GET_WINDOW_MOUSE_RECT, start);
+        return result;
+    }
 
     /**
      * Set the brightness (gamma multiplier) for a given window's display.
@@ -1316,9 +1721,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGammaRamp(SDL_Window, short[], short[], short[])
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetWindowBrightness(
+    public static int SDL_SetWindowBrightness(
             SDL_Window window,
-            float brightness);
+            float brightness) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowBrightness(window, brightness);
+        SdlMetrics.end(SET_WINDOW_BRIGHTNESS, start);
+        return result;
+    }
 
     /**
      * Get the brightness (gamma multiplier) for a given window's display.
@@ -1335,8 +1745,13 @@ public final class SdlVideo {
      * @see #SDL_SetWindowBrightness(SDL_Window, float)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native float SDL_GetWindowBrightness(
-            SDL_Window window);
+    public static float SDL_GetWindowBrightness(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        float result = InternalNativeFunctions.SDL_GetWindowBrightness(window);
+        SdlMetrics.end(GET_WINDOW_BRIGHTNESS, start);
+        return result;
+    }
 
     /**
      * Set the opacity for a window.
@@ -1353,9 +1768,14 @@ public final class SdlVideo {
      * @see #SDL_GetWindowOpacity(SDL_Window, FloatByReference)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_SetWindowOpacity(
+    public static int SDL_SetWindowOpacity(
             SDL_Window window,
-            float opacity);
+            float opacity) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowOpacity(window, opacity);
+        SdlMetrics.end(SET_WINDOW_OPACITY, start);
+        return result;
+    }
 
     /**
      * Get the opacity of a window.
@@ -1374,9 +1794,14 @@ public final class SdlVideo {
      * @see #SDL_SetWindowOpacity(SDL_Window, float)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_GetWindowOpacity(
+    public static int SDL_GetWindowOpacity(
             SDL_Window window,
-            FloatByReference outOpacity);
+            FloatByReference outOpacity) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowOpacity(window, outOpacity);
+        SdlMetrics.end(GET_WINDOW_OPACITY, start);
+        return result;
+    }
 
     /**
      * Set the window as a modal for another window.
@@ -1387,9 +1812,14 @@ public final class SdlVideo {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_SetWindowModalFor(
+    public static int SDL_SetWindowModalFor(
             SDL_Window modalWindow,
-            SDL_Window parentWindow);
+            SDL_Window parentWindow) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowModalFor(modalWindow, parentWindow);
+        SdlMetrics.end(SET_WINDOW_MODAL_FOR, start);
+        return result;
+    }
 
     /**
      * Explicitly set input focus to the window.
@@ -1404,8 +1834,13 @@ public final class SdlVideo {
      * @see #SDL_RaiseWindow(SDL_Window)
      * @since This function is available since SDL 2.0.5.
      */
-    public static native int SDL_SetWindowInputFocus(
-            SDL_Window window);
+    public static int SDL_SetWindowInputFocus(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowInputFocus(window);
+        SdlMetrics.end(SET_WINDOW_INPUT_FOCUS, start);
+        return result;
+    }
 
     /**
      * Set the gamma ramp for the display that owns a given window.
@@ -1451,9 +1886,10 @@ public final class SdlVideo {
         if (blue == null || blue.length != 256) {
             throw new IllegalArgumentException("Blue array length must be 256 but was " + (blue != null ? blue.length : "null"));
         }
-        try (Memory redMemory = JnaUtils.writeArrayToNativeMemory(red);
-             Memory greenMemory = JnaUtils.writeArrayToNativeMemory(green);
-             Memory blueMemory = JnaUtils.writeArrayToNativeMemory(blue)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer redMemory = JnaUtils.writeArrayToNativeMemory(arena, red);
+            Pointer greenMemory = JnaUtils.writeArrayToNativeMemory(arena, green);
+            Pointer blueMemory = JnaUtils.writeArrayToNativeMemory(arena, blue);
             return SDL_SetWindowGammaRamp(window, redMemory, greenMemory, blueMemory);
         }
     }
@@ -1489,11 +1925,16 @@ public final class SdlVideo {
      * @see #SDL_GetWindowGammaRamp(SDL_Window, short[], short[], short[])
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_SetWindowGammaRamp(
+    public static int SDL_SetWindowGammaRamp(
             SDL_Window window,
             Pointer red,
             Pointer green,
-            Pointer blue);
+            Pointer blue) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowGammaRamp(window, red, green, blue);
+        SdlMetrics.end(SET_WINDOW_GAMMA_RAMP, start);
+        return result;
+    }
 
     /**
      * Get the gamma ramp for a given window's display.
@@ -1523,9 +1964,10 @@ public final class SdlVideo {
             short[] red,
             short[] green,
             short[] blue) {
-        try (Memory redMemory = new Memory(256 * 2L);
-             Memory greenMemory = new Memory(256 * 2L);
-             Memory blueMemory = new Memory(256 * 2L)) {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer redMemory = arena.allocate(256 * 2L);
+            Pointer greenMemory = arena.allocate(256 * 2L);
+            Pointer blueMemory = arena.allocate(256 * 2L);
             int result = SDL_GetWindowGammaRamp(window, redMemory, greenMemory, blueMemory);
             redMemory.read(0L, red, 0, 256);
             greenMemory.read(0L, green, 0, 256);
@@ -1558,11 +2000,16 @@ public final class SdlVideo {
      * @see #SDL_SetWindowGammaRamp(SDL_Window, short[], short[], short[])
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GetWindowGammaRamp(
+    public static int SDL_GetWindowGammaRamp(
             SDL_Window window,
             Pointer red,
             Pointer green,
-            Pointer blue);
+            Pointer blue) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GetWindowGammaRamp(window, red, green, blue);
+        SdlMetrics.end(GET_WINDOW_GAMMA_RAMP, start);
+        return result;
+    }
 
     /**
      * Provide a callback that decides if a window region has special properties.
@@ -1603,10 +2050,15 @@ public final class SdlVideo {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.4.
      */
-    public static native int SDL_SetWindowHitTest(
+    public static int SDL_SetWindowHitTest(
             SDL_Window window,
             SDL_HitTest callback,
-            Pointer callbackData);
+            Pointer callbackData) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_SetWindowHitTest(window, callback, callbackData);
+        SdlMetrics.end(SET_WINDOW_HIT_TEST, start);
+        return result;
+    }
 
     /**
      * Request a window to demand attention from the user.
@@ -1617,9 +2069,14 @@ public final class SdlVideo {
      * SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.16.
      */
-    public static native int SDL_FlashWindow(
+    public static int SDL_FlashWindow(
             SDL_Window window,
-            @MagicConstant(valuesFromClass = SDL_FlashOperation.class) int operation);
+            @MagicConstant(valuesFromClass = SDL_FlashOperation.class) int operation) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_FlashWindow(window, operation);
+        SdlMetrics.end(FLASH_WINDOW, start);
+        return result;
+    }
 
     /**
      * Destroy a window.
@@ -1632,8 +2089,12 @@ public final class SdlVideo {
      * @see #SDL_CreateWindowFrom(Pointer)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DestroyWindow(
-            SDL_Window window);
+    public static void SDL_DestroyWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DestroyWindow(window);
+        SdlMetrics.end(DESTROY_WINDOW, start);
+    }
 
     /**
      * Check whether the screensaver is currently enabled.
@@ -1649,7 +2110,12 @@ public final class SdlVideo {
      * @see #SDL_EnableScreenSaver()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_IsScreenSaverEnabled();
+    public static boolean SDL_IsScreenSaverEnabled() {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_IsScreenSaverEnabled();
+        SdlMetrics.end(IS_SCREEN_SAVER_ENABLED, start);
+        return result;
+    }
 
     /**
      * Allow the screen to be blanked by a screen saver.
@@ -1658,7 +2124,11 @@ public final class SdlVideo {
      * @see #SDL_IsScreenSaverEnabled()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_EnableScreenSaver();
+    public static void SDL_EnableScreenSaver() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_EnableScreenSaver();
+        SdlMetrics.end(ENABLE_SCREEN_SAVER, start);
+    }
 
     /**
      * Prevent the screen from being blanked by a screen saver.
@@ -1673,7 +2143,11 @@ public final class SdlVideo {
      * @see #SDL_IsScreenSaverEnabled()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_DisableScreenSaver();
+    public static void SDL_DisableScreenSaver() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_DisableScreenSaver();
+        SdlMetrics.end(DISABLE_SCREEN_SAVER, start);
+    }
 
     /**
      * Dynamically load an OpenGL library.
@@ -1693,8 +2167,13 @@ public final class SdlVideo {
      * @see #SDL_GL_UnloadLibrary()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_LoadLibrary(
-            String path);
+    public static int SDL_GL_LoadLibrary(
+            String path) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_LoadLibrary(path);
+        SdlMetrics.end(GL_LOAD_LIBRARY, start);
+        return result;
+    }
 
     /**
      * Get an OpenGL function by name.
@@ -1745,8 +2224,13 @@ public final class SdlVideo {
      * @see #SDL_GL_UnloadLibrary()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native Pointer SDL_GL_GetProcAddress(
-            String proc);
+    public static Pointer SDL_GL_GetProcAddress(
+            String proc) {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_GL_GetProcAddress(proc);
+        SdlMetrics.end(GL_GET_PROC_ADDRESS, start);
+        return result;
+    }
 
     /**
      * Unload the OpenGL library previously loaded by SDL_GL_LoadLibrary().
@@ -1754,7 +2238,11 @@ public final class SdlVideo {
      * @see #SDL_GL_LoadLibrary(String)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GL_UnloadLibrary();
+    public static void SDL_GL_UnloadLibrary() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GL_UnloadLibrary();
+        SdlMetrics.end(GL_UNLOAD_LIBRARY, start);
+    }
 
     /**
      * Check if an OpenGL extension is supported for the current context.
@@ -1774,8 +2262,13 @@ public final class SdlVideo {
      * @return true if the extension is supported, false otherwise.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native boolean SDL_GL_ExtensionSupported(
-            String extension);
+    public static boolean SDL_GL_ExtensionSupported(
+            String extension) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_GL_ExtensionSupported(extension);
+        SdlMetrics.end(GL_EXTENSION_SUPPORTED, start);
+        return result;
+    }
 
     /**
      * Reset all previously set OpenGL context attributes to their default values.
@@ -1784,7 +2277,11 @@ public final class SdlVideo {
      * @see #SDL_GL_SetAttribute(int, int) SDL_GL_SetAttribute(SDL_GLattr, int)
      * @since This function is available since SDL 2.0.2.
      */
-    public static native void SDL_GL_ResetAttributes();
+    public static void SDL_GL_ResetAttributes() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GL_ResetAttributes();
+        SdlMetrics.end(GL_RESET_ATTRIBUTES, start);
+    }
 
     /**
      * Set an OpenGL window attribute before window creation.
@@ -1802,9 +2299,14 @@ public final class SdlVideo {
      * @see #SDL_GL_ResetAttributes()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_SetAttribute(
+    public static int SDL_GL_SetAttribute(
             @MagicConstant(valuesFromClass = SDL_GLattr.class) int attr,
-            int value);
+            int value) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_SetAttribute(attr, value);
+        SdlMetrics.end(GL_SET_ATTRIBUTE, start);
+        return result;
+    }
 
     /**
      * Get the actual value for an attribute from the current context.
@@ -1817,9 +2319,14 @@ public final class SdlVideo {
      * @see #SDL_GL_SetAttribute(int, int) SDL_GL_SetAttribute(SDL_GLattr, int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_GetAttribute(
+    public static int SDL_GL_GetAttribute(
             @MagicConstant(valuesFromClass = SDL_GLattr.class) int attr,
-            IntByReference value);
+            IntByReference value) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_GetAttribute(attr, value);
+        SdlMetrics.end(GL_GET_ATTRIBUTE, start);
+        return result;
+    }
 
     /**
      * Create an OpenGL context for an OpenGL window, and make it current.
@@ -1839,8 +2346,13 @@ public final class SdlVideo {
      * @see #SDL_GL_MakeCurrent(SDL_Window, SDL_GLContext)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_GLContext SDL_GL_CreateContext(
-            SDL_Window window);
+    public static SDL_GLContext SDL_GL_CreateContext(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        SDL_GLContext result = InternalNativeFunctions.SDL_GL_CreateContext(window);
+        SdlMetrics.end(GL_CREATE_CONTEXT, start);
+        return result;
+    }
 
     /**
      * Set up an OpenGL context for rendering into an OpenGL window.
@@ -1854,9 +2366,14 @@ public final class SdlVideo {
      * @see #SDL_GL_CreateContext(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_MakeCurrent(
+    public static int SDL_GL_MakeCurrent(
             SDL_Window window,
-            SDL_GLContext context);
+            SDL_GLContext context) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_MakeCurrent(window, context);
+        SdlMetrics.end(GL_MAKE_CURRENT, start);
+        return result;
+    }
 
     /**
      * Get the currently active OpenGL window.
@@ -1865,7 +2382,12 @@ public final class SdlVideo {
      * call SDL_GetError() for more information.
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_Window SDL_GL_GetCurrentWindow();
+    public static SDL_Window SDL_GL_GetCurrentWindow() {
+        long start = SdlMetrics.begin();
+        SDL_Window result = InternalNativeFunctions.SDL_GL_GetCurrentWindow();
+        SdlMetrics.end(GL_GET_CURRENT_WINDOW, start);
+        return result;
+    }
 
     /**
      * Get the currently active OpenGL context.
@@ -1875,7 +2397,12 @@ public final class SdlVideo {
      * @see #SDL_GL_MakeCurrent(SDL_Window, SDL_GLContext)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native SDL_GLContext SDL_GL_GetCurrentContext();
+    public static SDL_GLContext SDL_GL_GetCurrentContext() {
+        long start = SdlMetrics.begin();
+        SDL_GLContext result = InternalNativeFunctions.SDL_GL_GetCurrentContext();
+        SdlMetrics.end(GL_GET_CURRENT_CONTEXT, start);
+        return result;
+    }
 
     /**
      * Get the size of a window's underlying drawable in pixels.
@@ -1895,10 +2422,14 @@ public final class SdlVideo {
      * @see #SDL_GetWindowSize(SDL_Window, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.1.
      */
-    public static native void SDL_GL_GetDrawableSize(
+    public static void SDL_GL_GetDrawableSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GL_GetDrawableSize(window, w, h);
+        SdlMetrics.end(GL_GET_DRAWABLE_SIZE, start);
+    }
 
     /**
      * Set the swap interval for the current OpenGL context.
@@ -1925,8 +2456,13 @@ public final class SdlVideo {
      * @see #SDL_GL_GetSwapInterval()
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_SetSwapInterval(
-            int interval);
+    public static int SDL_GL_SetSwapInterval(
+            int interval) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_SetSwapInterval(interval);
+        SdlMetrics.end(GL_SET_SWAP_INTERVAL, start);
+        return result;
+    }
 
     /**
      * Get the swap interval for the current OpenGL context.
@@ -1941,7 +2477,12 @@ public final class SdlVideo {
      * @see #SDL_GL_SetSwapInterval(int)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native int SDL_GL_GetSwapInterval();
+    public static int SDL_GL_GetSwapInterval() {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_GL_GetSwapInterval();
+        SdlMetrics.end(GL_GET_SWAP_INTERVAL, start);
+        return result;
+    }
 
     /**
      * Update a window with OpenGL rendering.
@@ -1956,8 +2497,12 @@ public final class SdlVideo {
      * @param window the window to change
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GL_SwapWindow(
-            SDL_Window window);
+    public static void SDL_GL_SwapWindow(
+            SDL_Window window) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GL_SwapWindow(window);
+        SdlMetrics.end(GL_SWAP_WINDOW, start);
+    }
 
     /**
      * Delete an OpenGL context.
@@ -1966,8 +2511,12 @@ public final class SdlVideo {
      * @see #SDL_GL_CreateContext(SDL_Window)
      * @since This function is available since SDL 2.0.0.
      */
-    public static native void SDL_GL_DeleteContext(
-            SDL_GLContext context);
+    public static void SDL_GL_DeleteContext(
+            SDL_GLContext context) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_GL_DeleteContext(context);
+        SdlMetrics.end(GL_DELETE_CONTEXT, start);
+    }
 
     private static final class InternalNativeFunctions {
 
@@ -1981,5 +2530,353 @@ public final class SdlVideo {
         public static native Pointer SDL_GetWindowICCProfile(
                 SDL_Window window,
                 size_t.Ref size);
+
+        public static native int SDL_GetNumVideoDrivers();
+
+        public static native String SDL_GetVideoDriver(
+                int index);
+
+        public static native int SDL_VideoInit(
+                String driverName);
+
+        public static native void SDL_VideoQuit();
+
+        public static native String SDL_GetCurrentVideoDriver();
+
+        public static native int SDL_GetNumVideoDisplays();
+
+        public static native String SDL_GetDisplayName(
+                int displayIndex);
+
+        public static native int SDL_GetDisplayBounds(
+                int displayIndex,
+                SDL_Rect rect);
+
+        public static native int SDL_GetDisplayUsableBounds(
+                int displayIndex,
+                SDL_Rect rect);
+
+        public static native int SDL_GetDisplayDPI(
+                int displayIndex,
+                FloatByReference ddpi,
+                FloatByReference hdpi,
+                FloatByReference vdpi);
+
+        public static native int SDL_GetDisplayOrientation(
+                int displayIndex);
+
+        public static native int SDL_GetNumDisplayModes(
+                int displayIndex);
+
+        public static native int SDL_GetDisplayMode(
+                int displayIndex,
+                int modeIndex,
+                SDL_DisplayMode mode);
+
+        public static native int SDL_GetDesktopDisplayMode(
+                int displayIndex,
+                SDL_DisplayMode mode);
+
+        public static native int SDL_GetCurrentDisplayMode(
+                int displayIndex,
+                SDL_DisplayMode mode);
+
+        public static native SDL_DisplayMode SDL_GetClosestDisplayMode(
+                int displayIndex,
+                SDL_DisplayMode mode,
+                SDL_DisplayMode closest);
+
+        public static native int SDL_GetPointDisplayIndex(
+                Pointer point);
+
+        public static native int SDL_GetRectDisplayIndex(
+                SDL_Rect rect);
+
+        public static native int SDL_GetWindowDisplayIndex(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowDisplayMode(
+                SDL_Window window,
+                SDL_DisplayMode mode);
+
+        public static native int SDL_GetWindowDisplayMode(
+                SDL_Window window,
+                SDL_DisplayMode mode);
+
+        public static native int SDL_GetWindowPixelFormat(
+                SDL_Window window);
+
+        public static native SDL_Window SDL_CreateWindow(
+                String title,
+                int x,
+                int y,
+                int w,
+                int h,
+                int flags);
+
+        public static native SDL_Window SDL_CreateWindowFrom(
+                Pointer data);
+
+        public static native int SDL_GetWindowID(
+                SDL_Window window);
+
+        public static native SDL_Window SDL_GetWindowFromID(
+                int id);
+
+        public static native int SDL_GetWindowFlags(
+                SDL_Window window);
+
+        public static native void SDL_SetWindowTitle(
+                SDL_Window window,
+                String title);
+
+        public static native String SDL_GetWindowTitle(
+                SDL_Window window);
+
+        public static native void SDL_SetWindowIcon(
+                SDL_Window window,
+                SDL_Surface icon);
+
+        public static native Pointer SDL_SetWindowData(
+                SDL_Window window,
+                String name,
+                Pointer userdata);
+
+        public static native Pointer SDL_GetWindowData(
+                SDL_Window window,
+                String name);
+
+        public static native void SDL_SetWindowPosition(
+                SDL_Window window,
+                int x,
+                int y);
+
+        public static native void SDL_GetWindowPosition(
+                SDL_Window window,
+                IntByReference x,
+                IntByReference y);
+
+        public static native void SDL_SetWindowSize(
+                SDL_Window window,
+                int w,
+                int h);
+
+        public static native void SDL_GetWindowSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+
+        public static native int SDL_GetWindowBordersSize(
+                SDL_Window window,
+                IntByReference top,
+                IntByReference left,
+                IntByReference bottom,
+                IntByReference right);
+
+        public static native void SDL_GetWindowSizeInPixels(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+
+        public static native void SDL_SetWindowMinimumSize(
+                SDL_Window window,
+                int minW,
+                int minH);
+
+        public static native void SDL_GetWindowMinimumSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+
+        public static native void SDL_SetWindowMaximumSize(
+                SDL_Window window,
+                int maxW,
+                int maxH);
+
+        public static native void SDL_GetWindowMaximumSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+
+        public static native void SDL_SetWindowBordered(
+                SDL_Window window,
+                boolean bordered);
+
+        public static native void SDL_SetWindowResizable(
+                SDL_Window window,
+                boolean resizable);
+
+        public static native void SDL_SetWindowAlwaysOnTop(
+                SDL_Window window,
+                boolean onTop);
+
+        public static native void SDL_ShowWindow(
+                SDL_Window window);
+
+        public static native void SDL_HideWindow(
+                SDL_Window window);
+
+        public static native void SDL_RaiseWindow(
+                SDL_Window window);
+
+        public static native void SDL_MaximizeWindow(
+                SDL_Window window);
+
+        public static native void SDL_MinimizeWindow(
+                SDL_Window window);
+
+        public static native void SDL_RestoreWindow(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowFullscreen(
+                SDL_Window window,
+                int flags);
+
+        public static native boolean SDL_HasWindowSurface(
+                SDL_Window window);
+
+        public static native SDL_Surface SDL_GetWindowSurface(
+                SDL_Window window);
+
+        public static native int SDL_UpdateWindowSurface(
+                SDL_Window window);
+
+        public static native int SDL_UpdateWindowSurfaceRects(
+                SDL_Window window,
+                Pointer rects,
+                int numrects);
+
+        public static native int SDL_DestroyWindowSurface(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowGrab(
+                SDL_Window window,
+                boolean grabbed);
+
+        public static native void SDL_SetWindowKeyboardGrab(
+                SDL_Window window,
+                boolean grabbed);
+
+        public static native void SDL_SetWindowMouseGrab(
+                SDL_Window window,
+                boolean grabbed);
+
+        public static native boolean SDL_GetWindowGrab(
+                SDL_Window window);
+
+        public static native boolean SDL_GetWindowKeyboardGrab(
+                SDL_Window window);
+
+        public static native boolean SDL_GetWindowMouseGrab(
+                SDL_Window window);
+
+        public static native SDL_Window SDL_GetGrabbedWindow();
+
+        public static native int SDL_SetWindowMouseRect(
+                SDL_Window window,
+                SDL_Rect rect);
+
+        public static native SDL_Rect SDL_GetWindowMouseRect(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowBrightness(
+                SDL_Window window,
+                float brightness);
+
+        public static native float SDL_GetWindowBrightness(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowOpacity(
+                SDL_Window window,
+                float opacity);
+
+        public static native int SDL_GetWindowOpacity(
+                SDL_Window window,
+                FloatByReference outOpacity);
+
+        public static native int SDL_SetWindowModalFor(
+                SDL_Window modalWindow,
+                SDL_Window parentWindow);
+
+        public static native int SDL_SetWindowInputFocus(
+                SDL_Window window);
+
+        public static native int SDL_SetWindowGammaRamp(
+                SDL_Window window,
+                Pointer red,
+                Pointer green,
+                Pointer blue);
+
+        public static native int SDL_GetWindowGammaRamp(
+                SDL_Window window,
+                Pointer red,
+                Pointer green,
+                Pointer blue);
+
+        public static native int SDL_SetWindowHitTest(
+                SDL_Window window,
+                SDL_HitTest callback,
+                Pointer callbackData);
+
+        public static native int SDL_FlashWindow(
+                SDL_Window window,
+                int operation);
+
+        public static native void SDL_DestroyWindow(
+                SDL_Window window);
+
+        public static native boolean SDL_IsScreenSaverEnabled();
+
+        public static native void SDL_EnableScreenSaver();
+
+        public static native void SDL_DisableScreenSaver();
+
+        public static native int SDL_GL_LoadLibrary(
+                String path);
+
+        public static native Pointer SDL_GL_GetProcAddress(
+                String proc);
+
+        public static native void SDL_GL_UnloadLibrary();
+
+        public static native boolean SDL_GL_ExtensionSupported(
+                String extension);
+
+        public static native void SDL_GL_ResetAttributes();
+
+        public static native int SDL_GL_SetAttribute(
+                int attr,
+                int value);
+
+        public static native int SDL_GL_GetAttribute(
+                int attr,
+                IntByReference value);
+
+        public static native SDL_GLContext SDL_GL_CreateContext(
+                SDL_Window window);
+
+        public static native int SDL_GL_MakeCurrent(
+                SDL_Window window,
+                SDL_GLContext context);
+
+        public static native SDL_Window SDL_GL_GetCurrentWindow();
+
+        public static native SDL_GLContext SDL_GL_GetCurrentContext();
+
+        public static native void SDL_GL_GetDrawableSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+
+        public static native int SDL_GL_SetSwapInterval(
+                int interval);
+
+        public static native int SDL_GL_GetSwapInterval();
+
+        public static native void SDL_GL_SwapWindow(
+                SDL_Window window);
+
+        public static native void SDL_GL_DeleteContext(
+                SDL_GLContext context);
     }
 }
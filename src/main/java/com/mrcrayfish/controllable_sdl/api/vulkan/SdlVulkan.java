@@ -8,6 +8,9 @@ import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
 import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
+import com.mrcrayfish.controllable_sdl.metrics.NativeCallKind;
+import com.mrcrayfish.controllable_sdl.metrics.NativeFunctionStats;
+import com.mrcrayfish.controllable_sdl.metrics.SdlMetrics;
 
 /**
  * Definitions from file SDL_vulkan.h
@@ -16,9 +19,12 @@ import com.mrcrayfish.controllable_sdl.jna.SdlNativeLibraryLoader;
  */
 public final class SdlVulkan {
 
-    static {
-        SdlNativeLibraryLoader.registerNativeMethods(SdlVulkan.class);
-    }
+    private static final NativeFunctionStats VULKAN_LOAD_LIBRARY = SdlMetrics.register("SDL_Vulkan_LoadLibrary", NativeCallKind.CALL);
+    private static final NativeFunctionStats VULKAN_GET_VK_GET_INSTANCE_PROC_ADDR = SdlMetrics.register("SDL_Vulkan_GetVkGetInstanceProcAddr", NativeCallKind.CALL);
+    private static final NativeFunctionStats VULKAN_UNLOAD_LIBRARY = SdlMetrics.register("SDL_Vulkan_UnloadLibrary", NativeCallKind.CALL);
+    private static final NativeFunctionStats VULKAN_GET_INSTANCE_EXTENSIONS = SdlMetrics.register("SDL_Vulkan_GetInstanceExtensions", NativeCallKind.CALL);
+    private static final NativeFunctionStats VULKAN_CREATE_SURFACE = SdlMetrics.register("SDL_Vulkan_CreateSurface", NativeCallKind.CALL);
+    private static final NativeFunctionStats VULKAN_GET_DRAWABLE_SIZE = SdlMetrics.register("SDL_Vulkan_GetDrawableSize", NativeCallKind.CALL);
 
     private SdlVulkan() {
     }
@@ -62,8 +68,13 @@ public final class SdlVulkan {
      * @see #SDL_Vulkan_UnloadLibrary()
      * @since This function is available since SDL 2.0.6.
      */
-    public static native int SDL_Vulkan_LoadLibrary(
-            String path);
+    public static int SDL_Vulkan_LoadLibrary(
+            String path) {
+        long start = SdlMetrics.begin();
+        int result = InternalNativeFunctions.SDL_Vulkan_LoadLibrary(path);
+        SdlMetrics.end(VULKAN_LOAD_LIBRARY, start);
+        return result;
+    }
 
     /**
      * Get the address of the {@code vkGetInstanceProcAddr} function.
@@ -74,7 +85,12 @@ public final class SdlVulkan {
      * @return the function pointer for {@code vkGetInstanceProcAddr} or null on error.
      * @since This function is available since SDL 2.0.6.
      */
-    public static native Pointer SDL_Vulkan_GetVkGetInstanceProcAddr();
+    public static Pointer SDL_Vulkan_GetVkGetInstanceProcAddr() {
+        long start = SdlMetrics.begin();
+        Pointer result = InternalNativeFunctions.SDL_Vulkan_GetVkGetInstanceProcAddr();
+        SdlMetrics.end(VULKAN_GET_VK_GET_INSTANCE_PROC_ADDR, start);
+        return result;
+    }
 
     /**
      * Unload the Vulkan library previously loaded by SDL_Vulkan_LoadLibrary()
@@ -82,7 +98,11 @@ public final class SdlVulkan {
      * @see #SDL_Vulkan_LoadLibrary(String)
      * @since This function is available since SDL 2.0.6.
      */
-    public static native void SDL_Vulkan_UnloadLibrary();
+    public static void SDL_Vulkan_UnloadLibrary() {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_Vulkan_UnloadLibrary();
+        SdlMetrics.end(VULKAN_UNLOAD_LIBRARY, start);
+    }
 
     /**
      * Get the names of the Vulkan instance extensions needed to create a surface
@@ -144,10 +164,15 @@ public final class SdlVulkan {
      * @see #SDL_Vulkan_CreateSurface(SDL_Window, Pointer, PointerByReference)
      * @since This function is available since SDL 2.0.6.
      */
-    public static native boolean SDL_Vulkan_GetInstanceExtensions(
+    public static boolean SDL_Vulkan_GetInstanceExtensions(
             SDL_Window window,
             IntByReference pCount,
-            StringArray pNames);
+            StringArray pNames) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_Vulkan_GetInstanceExtensions(window, pCount, pNames);
+        SdlMetrics.end(VULKAN_GET_INSTANCE_EXTENSIONS, start);
+        return result;
+    }
 
     /**
      * Create a Vulkan rendering surface for a window.
@@ -165,10 +190,15 @@ public final class SdlVulkan {
      * @see #SDL_Vulkan_GetDrawableSize(SDL_Window, IntByReference, IntByReference)
      * @since This function is available since SDL 2.0.6.
      */
-    public static native boolean SDL_Vulkan_CreateSurface(
+    public static boolean SDL_Vulkan_CreateSurface(
             SDL_Window window,
             Pointer instance,
-            PointerByReference surface);
+            PointerByReference surface) {
+        long start = SdlMetrics.begin();
+        boolean result = InternalNativeFunctions.SDL_Vulkan_CreateSurface(window, instance, surface);
+        SdlMetrics.end(VULKAN_CREATE_SURFACE, start);
+        return result;
+    }
 
     /**
      * Get the size of the window's underlying drawable dimensions in pixels.
@@ -186,8 +216,44 @@ public final class SdlVulkan {
      * @see #SDL_Vulkan_CreateSurface(SDL_Window, Pointer, PointerByReference)
      * @since This function is available since SDL 2.0.6.
      */
-    public static native void SDL_Vulkan_GetDrawableSize(
+    public static void SDL_Vulkan_GetDrawableSize(
             SDL_Window window,
             IntByReference w,
-            IntByReference h);
+            IntByReference h) {
+        long start = SdlMetrics.begin();
+        InternalNativeFunctions.SDL_Vulkan_GetDrawableSize(window, w, h);
+        SdlMetrics.end(VULKAN_GET_DRAWABLE_SIZE, start);
+    }
+
+    private static final class InternalNativeFunctions {
+
+        static {
+            SdlNativeLibraryLoader.registerNativeMethods(InternalNativeFunctions.class);
+        }
+
+        private InternalNativeFunctions() {
+        }
+
+        public static native int SDL_Vulkan_LoadLibrary(
+                String path);
+
+        public static native Pointer SDL_Vulkan_GetVkGetInstanceProcAddr();
+
+        public static native void SDL_Vulkan_UnloadLibrary();
+
+        public static native boolean SDL_Vulkan_GetInstanceExtensions(
+                SDL_Window window,
+                IntByReference pCount,
+                StringArray pNames);
+
+        public static native boolean SDL_Vulkan_CreateSurface(
+                SDL_Window window,
+                Pointer instance,
+                PointerByReference surface);
+
+        public static native void SDL_Vulkan_GetDrawableSize(
+                SDL_Window window,
+                IntByReference w,
+                IntByReference h);
+    }
 }
@@ -0,0 +1,294 @@
+package com.mrcrayfish.controllable_sdl.concurrent;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_eventaction.SDL_GETEVENT;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+
+/**
+ * A lock-free, single-producer/single-consumer ring of {@code SDL_Event} slots held in native memory.
+ *
+ * <p>The producer is the thread that pumps SDL events. {@link #fill()} moves events from the SDL
+ * queue straight into the free slots of the ring using {@link SdlEvents#SDL_PeepEvents(Pointer, int, int, int, int)
+ * SDL_PeepEvents}, so events are never read into Java objects on the way. The consumer, typically a game logic
+ * thread, reads the published slots with {@link #read(Handler, int)} and the flyweight views from
+ * {@link com.mrcrayfish.controllable_sdl.event.view}.</p>
+ *
+ * <p>When the ring is full the behaviour depends on the {@link OverflowPolicy}. Either way it is
+ * recorded in {@link #getBackpressureCount()} or {@link #getOverrunCount()} so a slow consumer can be spotted.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * EventRing ring = new EventRing(1024, EventRing.OverflowPolicy.BACKPRESSURE);
+ *
+ * // SDL thread
+ * SDL_PumpEvents();
+ * ring.fill();
+ *
+ * // Worker thread
+ * ControllerAxisEventView axis = new ControllerAxisEventView();
+ * ring.read((buffer, offset) -&gt; {
+ *     if (axis.wrap(buffer, offset).getType() == SDL_CONTROLLERAXISMOTION) {
+ *         onAxis(axis.getWhich(), axis.getAxis(), axis.getValue());
+ *     }
+ * }, Integer.MAX_VALUE);
+ * </pre>
+ *
+ * <p>Exactly one thread may call the producer methods ({@link #fill()} and {@link #offer(ByteBuffer, int)})
+ * and exactly one thread may call {@link #read(Handler, int)}. The counters may be read from any thread.</p>
+ */
+public final class EventRing {
+
+    /**
+     * Describes what {@link #fill()} does once the ring is full but SDL still has events queued.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Leave the remaining events in the SDL queue, to be moved by a later fill once the consumer caught up.
+         * SDL itself drops events once its own queue overflows.
+         */
+        BACKPRESSURE,
+        /**
+         * Remove the remaining events from the SDL queue and discard them, so SDL never holds stale input.
+         */
+        DROP_NEWEST
+    }
+
+    /**
+     * Receives the events published to the ring.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * @param buffer a native-ordered buffer holding the event, valid only for the duration of the call
+         * @param offset the byte offset of the event within the buffer
+         */
+        void onEvent(ByteBuffer buffer, int offset);
+    }
+
+    // This field keeps the reference to the native memory to prevent it from being freed while the ring is in use.
+    private final Memory memory;
+    private final Pointer[] slots;
+    private final ByteBuffer producerBuffer;
+    private final ByteBuffer consumerBuffer;
+    private final int capacity;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final EventBatch discardBatch;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Producer-local copy of head, refreshed only when the ring looks full
+    private long cachedHead;
+    // Consumer-local copy of tail, refreshed only when the ring looks empty
+    private long cachedTail;
+
+    // Counters are only written by the producer thread, so the non-atomic increments are safe
+    private volatile long publishedCount;
+    private volatile long backpressureCount;
+    private volatile long overrunCount;
+
+    /**
+     * Allocate a new ring.
+     *
+     * @param capacity the number of event slots, rounded up to the next power of two
+     * @param policy   what to do with events that do not fit in the ring
+     */
+    public EventRing(int capacity, OverflowPolicy policy) {
+        if (capacity < 1 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 24));
+        }
+        this.capacity = roundToPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.policy = policy;
+        this.memory = new Memory((long) this.capacity * SDL_EVENT_SIZE);
+        this.memory.clear();
+        this.slots = new Pointer[this.capacity];
+        for (int i = 0; i < this.capacity; i++) {
+            this.slots[i] = memory.share((long) i * SDL_EVENT_SIZE, SDL_EVENT_SIZE);
+        }
+        ByteBuffer buffer = memory.getByteBuffer(0L, memory.size());
+        this.producerBuffer = buffer.duplicate().order(ByteOrder.nativeOrder());
+        this.consumerBuffer = buffer.duplicate().order(ByteOrder.nativeOrder());
+        this.discardBatch = policy == OverflowPolicy.DROP_NEWEST ? new EventBatch(64) : null;
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+
+    /**
+     * Move events of any type from the SDL queue into the ring. Producer thread only.
+     *
+     * @return the number of events published, or a negative error code on failure;
+     * call SDL_GetError() for more information.
+     * @see #fill(int, int)
+     */
+    public int fill() {
+        return fill(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    /**
+     * Move events within the given range of types from the SDL queue into the ring. Producer thread only.
+     *
+     * <p>This does not pump the event loop. Call {@link SdlEvents#SDL_PumpEvents()} first on the
+     * thread that initialized the video subsystem.</p>
+     *
+     * @param minType minimum value of the event type to be considered
+     * @param maxType maximum value of the event type to be considered
+     * @return the number of events published, or a negative error code on failure;
+     * call SDL_GetError() for more information.
+     */
+    public int fill(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int minType,
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType) {
+        long currentTail = tail.get();
+        int published = 0;
+        int free = freeSlots(currentTail);
+        while (free > 0) {
+            int index = (int) (currentTail & mask);
+            int contiguous = Math.min(free, capacity - index);
+            int result = SdlEvents.SDL_PeepEvents(slots[index], contiguous, SDL_GETEVENT, minType, maxType);
+            if (result < 0) {
+                // The events of the earlier blocks were published before the error
+                publishedCount += published;
+                return published > 0 ? published : result;
+            }
+            currentTail += result;
+            published += result;
+            tail.setRelease(currentTail);
+            if (result < contiguous) {
+                publishedCount += published;
+                return published;
+            }
+            free = freeSlots(currentTail);
+        }
+        publishedCount += published;
+        handleOverflow(minType, maxType);
+        return published;
+    }
+
+    private void handleOverflow(int minType, int maxType) {
+        if (!SdlEvents.SDL_HasEvents(minType, maxType)) {
+            return;
+        }
+        if (policy == OverflowPolicy.BACKPRESSURE) {
+            backpressureCount++;
+            return;
+        }
+        int dropped;
+        while ((dropped = discardBatch.drain(minType, maxType)) > 0) {
+            overrunCount += dropped;
+        }
+    }
+
+    /**
+     * Copy a single event into the ring. Producer thread only.
+     *
+     * <p>This allows events from any source, such as a recorded journal or an {@link EventBatch},
+     * to be handed to the consumer.</p>
+     *
+     * @param source a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     * @return true if the event was published, or false if the ring is full
+     */
+    public boolean offer(ByteBuffer source, int offset) {
+        long currentTail = tail.get();
+        if (freeSlots(currentTail) == 0) {
+            if (policy == OverflowPolicy.BACKPRESSURE) {
+                backpressureCount++;
+            } else {
+                overrunCount++;
+            }
+            return false;
+        }
+        producerBuffer.put((int) (currentTail & mask) * SDL_EVENT_SIZE, source, offset, SDL_EVENT_SIZE);
+        tail.setRelease(currentTail + 1);
+        publishedCount++;
+        return true;
+    }
+
+    private int freeSlots(long currentTail) {
+        int free = capacity - (int) (currentTail - cachedHead);
+        if (free == 0) {
+            cachedHead = head.getAcquire();
+            free = capacity - (int) (currentTail - cachedHead);
+        }
+        return free;
+    }
+
+    /**
+     * Hand up to {@code limit} published events to the handler, oldest first, then release their slots
+     * back to the producer. Consumer thread only.
+     *
+     * @param handler receives each event in turn
+     * @param limit   the maximum number of events to read
+     * @return the number of events read
+     */
+    public int read(Handler handler, int limit) {
+        long currentHead = head.get();
+        if (cachedTail == currentHead) {
+            cachedTail = tail.getAcquire();
+        }
+        int count = (int) Math.min(limit, cachedTail - currentHead);
+        for (int i = 0; i < count; i++) {
+            handler.onEvent(consumerBuffer, (int) ((currentHead + i) & mask) * SDL_EVENT_SIZE);
+        }
+        if (count > 0) {
+            head.setRelease(currentHead + count);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of published events not yet read. Only an estimate when called concurrently.
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    /**
+     * @return the number of event slots
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the total number of events published since the ring was created
+     */
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * @return how many times the producer found the ring full and left events queued, under {@link OverflowPolicy#BACKPRESSURE}
+     */
+    public long getBackpressureCount() {
+        return backpressureCount;
+    }
+
+    /**
+     * @return the total number of events discarded because the ring was full, under {@link OverflowPolicy#DROP_NEWEST}
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+}
@@ -0,0 +1,188 @@
+package com.mrcrayfish.controllable_sdl.device;
+
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerType;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickGUID;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerType.SDL_CONTROLLER_TYPE_UNKNOWN;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerMappingForDeviceIndex;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerNameForIndex;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerTypeForIndex;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_IsGameController;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickFromInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceProduct;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceProductVersion;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceType;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceVendor;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetGUIDString;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetSerial;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickNameForIndex;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickPathForIndex;
+
+/**
+ * The metadata of a connected joystick, read from SDL once and kept by a {@link DeviceRegistry}.
+ *
+ * <p>Instances are immutable. Every value is decoded when the instance is created, so the getters
+ * never call into SDL.</p>
+ */
+public final class DeviceInfo {
+
+    private final int instanceId;
+    private final String name;
+    private final String path;
+    private final long guidLeastSigBits;
+    private final long guidMostSigBits;
+    private final String guidString;
+    private final short vendor;
+    private final short product;
+    private final short productVersion;
+    private final int joystickType;
+    private final boolean gameController;
+    private final String controllerName;
+    private final int controllerType;
+    private final String mapping;
+    private final String serial;
+
+    private DeviceInfo(int instanceId, int deviceIndex) {
+        this.instanceId = instanceId;
+        this.name = SDL_JoystickNameForIndex(deviceIndex);
+        this.path = SDL_JoystickPathForIndex(deviceIndex);
+        SDL_JoystickGUID guid = SDL_JoystickGetDeviceGUID(deviceIndex);
+        this.guidLeastSigBits = guid.leastSigBits;
+        this.guidMostSigBits = guid.mostSigBits;
+        this.guidString = SDL_JoystickGetGUIDString(guid);
+        this.vendor = SDL_JoystickGetDeviceVendor(deviceIndex);
+        this.product = SDL_JoystickGetDeviceProduct(deviceIndex);
+        this.productVersion = SDL_JoystickGetDeviceProductVersion(deviceIndex);
+        this.joystickType = SDL_JoystickGetDeviceType(deviceIndex);
+        this.gameController = SDL_IsGameController(deviceIndex);
+        this.controllerName = gameController ? SDL_GameControllerNameForIndex(deviceIndex) : null;
+        this.controllerType = gameController ? SDL_GameControllerTypeForIndex(deviceIndex) : SDL_CONTROLLER_TYPE_UNKNOWN;
+        this.mapping = gameController ? SDL_GameControllerMappingForDeviceIndex(deviceIndex) : null;
+        SDL_Joystick joystick = SDL_JoystickFromInstanceID(new SDL_JoystickID(instanceId));
+        this.serial = joystick != null ? SDL_JoystickGetSerial(joystick) : null;
+    }
+
+    /**
+     * Read the metadata of a joystick from SDL.
+     *
+     * @param instanceId  the joystick instance id of the device
+     * @param deviceIndex the current device index of the same device
+     */
+    static DeviceInfo load(int instanceId, int deviceIndex) {
+        return new DeviceInfo(instanceId, deviceIndex);
+    }
+
+    /**
+     * @return the joystick instance id of the device
+     */
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * @return the joystick name, or null if it has none
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the implementation dependent path of the joystick, or null if it has none
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return a new copy of the GUID of the joystick
+     */
+    public SDL_JoystickGUID getGuid() {
+        SDL_JoystickGUID guid = new SDL_JoystickGUID();
+        guid.leastSigBits = guidLeastSigBits;
+        guid.mostSigBits = guidMostSigBits;
+        return guid;
+    }
+
+    /**
+     * @return the GUID of the joystick as formatted by {@code SDL_JoystickGetGUIDString}
+     */
+    public String getGuidString() {
+        return guidString;
+    }
+
+    /**
+     * @return the USB vendor ID, or 0 if not available
+     */
+    public short getVendor() {
+        return vendor;
+    }
+
+    /**
+     * @return the USB product ID, or 0 if not available
+     */
+    public short getProduct() {
+        return product;
+    }
+
+    /**
+     * @return the product version, or 0 if not available
+     */
+    public short getProductVersion() {
+        return productVersion;
+    }
+
+    /**
+     * @return the {@link SDL_JoystickType} of the joystick
+     */
+    @MagicConstant(valuesFromClass = SDL_JoystickType.class)
+    public int getJoystickType() {
+        return joystickType;
+    }
+
+    /**
+     * @return true if the joystick is supported by the game controller interface
+     */
+    public boolean isGameController() {
+        return gameController;
+    }
+
+    /**
+     * @return the game controller name, or null if the device is not a game controller
+     */
+    public String getControllerName() {
+        return controllerName;
+    }
+
+    /**
+     * @return the {@link SDL_GameControllerType} of the device
+     */
+    @MagicConstant(valuesFromClass = SDL_GameControllerType.class)
+    public int getControllerType() {
+        return controllerType;
+    }
+
+    /**
+     * @return the game controller mapping, or null if the device has none
+     */
+    public String getMapping() {
+        return mapping;
+    }
+
+    /**
+     * @return the serial number, or null if it is not available. SDL only reports the serial number of
+     * joysticks that were already opened when this metadata was read.
+     */
+    public String getSerial() {
+        return serial;
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceInfo{instanceId=" + instanceId + ", name=" + name + ", guid=" + guidString + "}";
+    }
+}
@@ -0,0 +1,280 @@
+package com.mrcrayfish.controllable_sdl.device;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyDeviceEventView;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEADDED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEREMAPPED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYDEVICEADDED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYDEVICEREMOVED;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_NumJoysticks;
+
+/**
+ * A cache of the {@link DeviceInfo} of every connected joystick, keyed by joystick instance id.
+ *
+ * <p>Names, GUIDs, serial numbers and mappings are decoded from SDL once per device instead of on every
+ * {@code SDL_JoystickNameForIndex} or {@code SDL_JoystickGetDeviceGUID} call, so a device list can be drawn every
+ * frame without any string or structure downcalls. Feed the device events to {@link #accept(EventBatch)} (or
+ * {@link #accept(SDL_Event)}) to keep the cache current:</p>
+ * <ul>
+ *     <li>{@code SDL_JOYDEVICEADDED} loads the metadata of the new device. The event carries a device index, which
+ *     is only resolved when the event is applied, so if devices were removed in between it can point at another
+ *     joystick. If the index resolves to a device already cached while another connected device is not, every device
+ *     is read again.</li>
+ *     <li>{@code SDL_JOYDEVICEREMOVED} forgets the device</li>
+ *     <li>{@code SDL_CONTROLLERDEVICEREMAPPED} invalidates the device, so the new mapping is read on the next lookup.
+ *     {@code SDL_CONTROLLERDEVICEADDED} does the same if the device was cached before it had a mapping.</li>
+ * </ul>
+ *
+ * <p>A lookup of a device that is not cached reads its metadata from SDL, which is counted as a miss.
+ * {@link #getHitRate()} tells how well the cache is working.</p>
+ *
+ * <p>Instances are not thread-safe. The registry should be updated and read on the thread that handles events.</p>
+ */
+public final class DeviceRegistry {
+
+    private final List<DeviceInfo> devices = new ArrayList<>();
+    private final JoyDeviceEventView joyDeviceView = new JoyDeviceEventView();
+    private final ControllerDeviceEventView controllerDeviceView = new ControllerDeviceEventView();
+    private long lookups;
+    private long misses;
+
+    /**
+     * Apply every device event of the batch. Other events are ignored.
+     */
+    public void accept(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            accept(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Apply a single event held in native memory. Events other than device events are ignored.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     */
+    public void accept(ByteBuffer buffer, int offset) {
+        int type = buffer.getInt(offset + EventView.TYPE_OFFSET);
+        switch (type) {
+            case SDL_JOYDEVICEADDED:
+            case SDL_JOYDEVICEREMOVED:
+                onDeviceEvent(type, joyDeviceView.wrap(buffer, offset).getWhich());
+                break;
+            case SDL_CONTROLLERDEVICEADDED:
+            case SDL_CONTROLLERDEVICEREMAPPED:
+                onDeviceEvent(type, controllerDeviceView.wrap(buffer, offset).getWhich());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Apply an event already read into an {@link SDL_Event}. Events other than device events are ignored.
+     */
+    public void accept(SDL_Event event) {
+        switch (event.type) {
+            case SDL_JOYDEVICEADDED:
+            case SDL_JOYDEVICEREMOVED:
+                onDeviceEvent(event.type, event.jdevice.which);
+                break;
+            case SDL_CONTROLLERDEVICEADDED:
+            case SDL_CONTROLLERDEVICEREMAPPED:
+                onDeviceEvent(event.type, event.cdevice.which);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onDeviceEvent(int type, int which) {
+        switch (type) {
+            case SDL_JOYDEVICEADDED:
+                // The added events report the device index, the others the instance id. The index is only resolved
+                // now, and -1 means the device was removed since and its removed event follows.
+                int instanceId = SDL_JoystickGetDeviceInstanceID(which).intValue();
+                if (instanceId == -1) {
+                    break;
+                }
+                if (find(instanceId) == null) {
+                    load(instanceId, which);
+                } else if (!isComplete()) {
+                    // The index points at another joystick than the one the event was sent for, which is not cached
+                    refresh();
+                }
+                break;
+            case SDL_CONTROLLERDEVICEADDED:
+                // Usually follows SDL_JOYDEVICEADDED, only reload if a mapping was added for a known joystick
+                DeviceInfo info = find(SDL_JoystickGetDeviceInstanceID(which).intValue());
+                if (info != null && !info.isGameController()) {
+                    invalidate(info.getInstanceId());
+                }
+                break;
+            default:
+                invalidate(which);
+                break;
+        }
+    }
+
+    /**
+     * @param instanceId the joystick instance id of the device
+     * @return the metadata of the device, or null if no such device is connected
+     */
+    public DeviceInfo get(int instanceId) {
+        lookups++;
+        DeviceInfo info = find(instanceId);
+        if (info != null) {
+            return info;
+        }
+        misses++;
+        int count = SDL_NumJoysticks();
+        for (int deviceIndex = 0; deviceIndex < count; deviceIndex++) {
+            if (SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue() == instanceId) {
+                load(instanceId, deviceIndex);
+                return find(instanceId);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Look up a device by its device index. Only the instance id of the device is queried from SDL.
+     *
+     * @param deviceIndex the index of the joystick, from 0 to {@code SDL_NumJoysticks()} - 1
+     * @return the metadata of the device, or null if the index is invalid
+     */
+    public DeviceInfo getForDeviceIndex(int deviceIndex) {
+        int instanceId = SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue();
+        if (instanceId == -1) {
+            lookups++;
+            misses++;
+            return null;
+        }
+        return get(instanceId);
+    }
+
+    /**
+     * Read the metadata of a device and cache it. If the device is no longer at that index once read, the device list
+     * changed in the meantime and the metadata may come from several devices, so every device is read again instead.
+     */
+    private void load(int instanceId, int deviceIndex) {
+        DeviceInfo info = DeviceInfo.load(instanceId, deviceIndex);
+        if (SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue() == instanceId) {
+            devices.add(info);
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * @return true if every connected joystick is cached. Only the instance ids are queried from SDL.
+     */
+    private boolean isComplete() {
+        int count = SDL_NumJoysticks();
+        for (int deviceIndex = 0; deviceIndex < count; deviceIndex++) {
+            if (find(SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private DeviceInfo find(int instanceId) {
+        for (int i = 0; i < devices.size(); i++) {
+            DeviceInfo info = devices.get(i);
+            if (info.getInstanceId() == instanceId) {
+                return info;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop the cached metadata of a device, so it is read again on the next lookup. Useful after opening a
+     * joystick, since SDL only reports the serial number of opened joysticks.
+     *
+     * @param instanceId the joystick instance id of the device
+     */
+    public void invalidate(int instanceId) {
+        for (int i = 0; i < devices.size(); i++) {
+            if (devices.get(i).getInstanceId() == instanceId) {
+                devices.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drop the metadata of every device and read it again for every connected joystick.
+     */
+    public void refresh() {
+        devices.clear();
+        int count = SDL_NumJoysticks();
+        for (int deviceIndex = 0; deviceIndex < count; deviceIndex++) {
+            int instanceId = SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue();
+            if (instanceId != -1) {
+                devices.add(DeviceInfo.load(instanceId, deviceIndex));
+            }
+        }
+    }
+
+    /**
+     * @return the number of devices currently cached
+     */
+    public int size() {
+        return devices.size();
+    }
+
+    /**
+     * @param index an index from 0 to {@link #size()} - 1
+     * @return the cached device at the given index. The order changes as devices are added and removed.
+     */
+    public DeviceInfo getAt(int index) {
+        return devices.get(index);
+    }
+
+    /**
+     * @return the number of calls to {@link #get(int)} and {@link #getForDeviceIndex(int)}
+     */
+    public long getLookupCount() {
+        return lookups;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return lookups - misses;
+    }
+
+    /**
+     * @return the number of lookups that had to read from SDL
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return the fraction of lookups answered from the cache, from 0 to 1, or 0 if there were no lookups
+     */
+    public double getHitRate() {
+        return lookups == 0 ? 0 : (double) (lookups - misses) / lookups;
+    }
+
+    /**
+     * Reset the lookup counters.
+     */
+    public void resetCounters() {
+        lookups = 0;
+        misses = 0;
+    }
+}
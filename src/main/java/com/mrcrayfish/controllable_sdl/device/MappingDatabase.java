@@ -0,0 +1,522 @@
+package com.mrcrayfish.controllable_sdl.device;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import com.mrcrayfish.controllable_sdl.api.guid.SDL_GUID;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyDeviceEventView;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYDEVICEADDED;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerAddMapping;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_NumJoysticks;
+import static com.mrcrayfish.controllable_sdl.api.platform.SdlPlatform.SDL_GetPlatform;
+
+/**
+ * A game controller mapping database, such as the community {@code gamecontrollerdb.txt}, indexed by GUID and handed
+ * to SDL one device at a time.
+ *
+ * <p>{@link com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerAddMappingsFromFile
+ * SDL_GameControllerAddMappingsFromFile} reads the whole file and keeps a parsed mapping for each of its thousands of
+ * entries, although only a handful of devices are ever connected. This class instead maps the file into memory and
+ * reads a sorted index of the GUIDs it holds. When a joystick is added, its GUID is looked up with a binary search and
+ * only its own mapping is passed to {@code SDL_GameControllerAddMapping}. From then on {@code SDL_IsGameController}
+ * reports the device as a game controller and it can be opened with {@code SDL_GameControllerOpen}. SDL does not send
+ * {@code SDL_CONTROLLERDEVICEADDED} for it, since that event is decided when the joystick is added, before its
+ * {@code SDL_JOYDEVICEADDED} event is handled here, so the application opens the controller itself when
+ * {@link #apply(int)} returns true.</p>
+ *
+ * <p>The index is built on the first run and saved next to the database, then reused as long as the size and
+ * modification time of the database and the platform are unchanged. Like SDL, only the entries whose
+ * {@code platform:} field matches the platform are used, and a later entry for the same GUID replaces an earlier
+ * one. A device whose exact GUID is not found falls back to the entry without the CRC of its name, as most entries
+ * of the community database are written, and then, for a GUID holding a vendor and product, to an entry that only
+ * differs in the version of the device, in the same order as SDL.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>{@code
+ * MappingDatabase mappings = MappingDatabase.open(Path.of("gamecontrollerdb.txt"), Path.of("gamecontrollerdb.idx"));
+ * // Each frame, before the events reach the rest of the application
+ * mappings.accept(batch);
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe. The database should be updated on the thread that handles events.</p>
+ */
+public final class MappingDatabase implements Closeable {
+
+    static final int MAGIC = 0x58444D43; // "CMDX" in big-endian order
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int ENTRY_SIZE = 24;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int SOURCE_SIZE_OFFSET = 8;
+    static final int SOURCE_MODIFIED_OFFSET = 16;
+    static final int COUNT_OFFSET = 24;
+    static final int PLATFORM_LENGTH_OFFSET = 28;
+    static final int PLATFORM_OFFSET = 32;
+    static final int MAX_PLATFORM_LENGTH = HEADER_SIZE - PLATFORM_OFFSET;
+
+    // Bytes 2 and 3 of a GUID hold the CRC of the device name, which database entries usually leave at zero
+    private static final long CRC_MASK = 0xFFFF0000FFFFFFFFL;
+    // Bytes 12 and 13 of a GUID hold the version of the device, if bytes 4 to 11 hold its vendor and product
+    private static final long VERSION_MASK = 0xFFFFFFFF0000FFFFL;
+    private static final byte[] PLATFORM_FIELD = "platform:".getBytes(StandardCharsets.US_ASCII);
+    private static final int GUID_LENGTH = 32;
+
+    private final FileChannel sourceChannel;
+    private final ByteBuffer source;
+    private final FileChannel indexChannel;
+    private final ByteBuffer index;
+    private final int size;
+    private final boolean rebuilt;
+    private final BitSet applied;
+    private final ByteBuffer guidBuffer = ByteBuffer.allocate(16).order(ByteOrder.nativeOrder());
+    private final JoyDeviceEventView deviceView = new JoyDeviceEventView();
+    private long lookups;
+    private long misses;
+
+    private MappingDatabase(FileChannel sourceChannel, ByteBuffer source, FileChannel indexChannel, ByteBuffer index, boolean rebuilt) {
+        this.sourceChannel = sourceChannel;
+        this.source = source;
+        this.indexChannel = indexChannel;
+        this.index = index;
+        this.size = index.getInt(COUNT_OFFSET);
+        this.rebuilt = rebuilt;
+        this.applied = new BitSet(size);
+    }
+
+    /**
+     * Open a mapping database for the platform SDL is running on.
+     *
+     * @see #open(Path, Path, String)
+     */
+    public static MappingDatabase open(Path database, Path indexFile) throws IOException {
+        return open(database, indexFile, SDL_GetPlatform());
+    }
+
+    /**
+     * Open a mapping database, building its index if it is missing or out of date.
+     *
+     * @param database  the mapping database, with one {@code GUID,name,mapping} entry per line
+     * @param indexFile where the index of the database is cached
+     * @param platform  the platform whose entries are used, as returned by {@code SDL_GetPlatform}
+     * @return the database
+     * @throws IOException if the database cannot be read, or the index cannot be written
+     */
+    public static MappingDatabase open(Path database, Path indexFile, String platform) throws IOException {
+        byte[] platformBytes = platform.getBytes(StandardCharsets.UTF_8);
+        if (platformBytes.length == 0 || platformBytes.length > MAX_PLATFORM_LENGTH) {
+            throw new IllegalArgumentException("Invalid platform: " + platform);
+        }
+        FileChannel sourceChannel = FileChannel.open(database, StandardOpenOption.READ);
+        FileChannel indexChannel = null;
+        try {
+            long sourceSize = sourceChannel.size();
+            if (sourceSize > Integer.MAX_VALUE) {
+                throw new IOException("Mapping database is too large: " + database);
+            }
+            long sourceModified = Files.getLastModifiedTime(database).toMillis();
+            ByteBuffer source = sourceChannel.map(FileChannel.MapMode.READ_ONLY, 0, sourceSize);
+            if (Files.isRegularFile(indexFile)) {
+                indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+                ByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+                if (isValid(index, sourceSize, sourceModified, platformBytes)) {
+                    return new MappingDatabase(sourceChannel, source, indexChannel, index, false);
+                }
+                indexChannel.close();
+                indexChannel = null;
+            }
+            writeIndex(indexFile, buildIndex(source, platformBytes, sourceSize, sourceModified));
+            indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+            ByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            return new MappingDatabase(sourceChannel, source, indexChannel, index, true);
+        } catch (IOException | RuntimeException e) {
+            if (indexChannel != null) {
+                indexChannel.close();
+            }
+            sourceChannel.close();
+            throw e;
+        }
+    }
+
+    private static boolean isValid(ByteBuffer index, long sourceSize, long sourceModified, byte[] platform) {
+        if (index.capacity() < HEADER_SIZE
+                || index.getInt(MAGIC_OFFSET) != MAGIC
+                || index.getInt(VERSION_OFFSET) != VERSION
+                || index.getLong(SOURCE_SIZE_OFFSET) != sourceSize
+                || index.getLong(SOURCE_MODIFIED_OFFSET) != sourceModified
+                || index.getInt(PLATFORM_LENGTH_OFFSET) != platform.length) {
+            return false;
+        }
+        for (int i = 0; i < platform.length; i++) {
+            if (index.get(PLATFORM_OFFSET + i) != platform[i]) {
+                return false;
+            }
+        }
+        int count = index.getInt(COUNT_OFFSET);
+        return count >= 0 && index.capacity() == HEADER_SIZE + (long) count * ENTRY_SIZE;
+    }
+
+    private static ByteBuffer buildIndex(ByteBuffer source, byte[] platform, long sourceSize, long sourceModified) {
+        int limit = source.capacity();
+        // Entries are collected as {GUID high, GUID low, offset << 32 | length}
+        long[] entries = new long[3 * 1024];
+        int count = 0;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && source.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && source.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            // Comments, blank lines and the reserved "xinput" GUID are skipped
+            if (lineEnd - lineStart > GUID_LENGTH && source.get(lineStart + GUID_LENGTH) == ','
+                    && isHex(source, lineStart, GUID_LENGTH) && matchesPlatform(source, lineStart, lineEnd, platform)) {
+                if (count * 3 == entries.length) {
+                    entries = Arrays.copyOf(entries, entries.length * 2);
+                }
+                entries[count * 3] = parseHex(source, lineStart);
+                entries[count * 3 + 1] = parseHex(source, lineStart + 16);
+                entries[count * 3 + 2] = (long) lineStart << 32 | (lineEnd - lineStart);
+                count++;
+            }
+            lineStart = next;
+        }
+
+        // Sort by GUID, keeping the order of the file for equal GUIDs so that the last entry wins
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        long[] sorted = entries;
+        Arrays.sort(order, (a, b) -> {
+            int result = Long.compareUnsigned(sorted[a * 3], sorted[b * 3]);
+            if (result == 0) {
+                result = Long.compareUnsigned(sorted[a * 3 + 1], sorted[b * 3 + 1]);
+            }
+            return result != 0 ? result : Integer.compare(a, b);
+        });
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            int entry = order[i];
+            if (i + 1 < count) {
+                int following = order[i + 1];
+                if (sorted[entry * 3] == sorted[following * 3] && sorted[entry * 3 + 1] == sorted[following * 3 + 1]) {
+                    continue;
+                }
+            }
+            order[unique++] = entry;
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + unique * ENTRY_SIZE);
+        index.putInt(MAGIC_OFFSET, MAGIC);
+        index.putInt(VERSION_OFFSET, VERSION);
+        index.putLong(SOURCE_SIZE_OFFSET, sourceSize);
+        index.putLong(SOURCE_MODIFIED_OFFSET, sourceModified);
+        index.putInt(COUNT_OFFSET, unique);
+        index.putInt(PLATFORM_LENGTH_OFFSET, platform.length);
+        index.put(PLATFORM_OFFSET, platform);
+        for (int i = 0; i < unique; i++) {
+            int entry = order[i];
+            int offset = HEADER_SIZE + i * ENTRY_SIZE;
+            index.putLong(offset, sorted[entry * 3]);
+            index.putLong(offset + 8, sorted[entry * 3 + 1]);
+            index.putInt(offset + 16, (int) (sorted[entry * 3 + 2] >>> 32));
+            index.putInt(offset + 20, (int) sorted[entry * 3 + 2]);
+        }
+        return index;
+    }
+
+    private static void writeIndex(Path indexFile, ByteBuffer index) throws IOException {
+        Path parent = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        // Written aside then moved, so a concurrent or interrupted run never sees a partial index
+        Path temp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (index.hasRemaining()) {
+                    channel.write(index);
+                }
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static boolean matchesPlatform(ByteBuffer source, int start, int end, byte[] platform) {
+        // The platform is compared up to the next comma and ignoring case, like SDL_GameControllerAddMappingsFromRW
+        int field = indexOf(source, start, end, PLATFORM_FIELD);
+        if (field == -1) {
+            return false;
+        }
+        int value = field + PLATFORM_FIELD.length;
+        if (value + platform.length >= end || source.get(value + platform.length) != ',') {
+            return false;
+        }
+        for (int i = 0; i < platform.length; i++) {
+            if (Character.toLowerCase(source.get(value + i)) != Character.toLowerCase(platform[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer source, int start, int end, byte[] pattern) {
+        outer:
+        for (int i = start; i <= end - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (source.get(i + j) != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isHex(ByteBuffer source, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (Character.digit(source.get(offset + i), 16) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the 16 hex digits at the offset as a big-endian value
+     */
+    private static long parseHex(ByteBuffer source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 16; i++) {
+            value = value << 4 | Character.digit(source.get(offset + i), 16);
+        }
+        return value;
+    }
+
+    /**
+     * Apply every event of the batch. Events other than {@code SDL_JOYDEVICEADDED} are ignored.
+     */
+    public void accept(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            accept(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Apply a single event held in native memory. A {@code SDL_JOYDEVICEADDED} event adds the mapping of the new
+     * device to SDL, other events are ignored. The device can then be opened as a game controller, but SDL sends no
+     * {@code SDL_CONTROLLERDEVICEADDED} event for it.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     */
+    public void accept(ByteBuffer buffer, int offset) {
+        if (buffer.getInt(offset + EventView.TYPE_OFFSET) == SDL_JOYDEVICEADDED) {
+            apply(deviceView.wrap(buffer, offset).getWhich());
+        }
+    }
+
+    /**
+     * Add the mappings of every joystick currently connected, for joysticks added before the database was opened.
+     *
+     * @return the number of mappings added to SDL
+     */
+    public int applyConnected() {
+        int added = 0;
+        int count = SDL_NumJoysticks();
+        for (int deviceIndex = 0; deviceIndex < count; deviceIndex++) {
+            if (apply(deviceIndex)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Add the mapping of a joystick to SDL, unless the database has none or it was already added. SDL only refreshes
+     * the mapping of controllers that are already open, so a joystick that was not a game controller before must be
+     * opened with {@code SDL_GameControllerOpen} by the caller.
+     *
+     * @param deviceIndex the index of the joystick, from 0 to {@code SDL_NumJoysticks()} - 1
+     * @return true if a mapping was added
+     */
+    public boolean apply(int deviceIndex) {
+        SDL_GUID guid = SDL_JoystickGetDeviceGUID(deviceIndex);
+        guidBuffer.order(ByteOrder.nativeOrder());
+        guidBuffer.putLong(0, guid.leastSigBits);
+        guidBuffer.putLong(8, guid.mostSigBits);
+        guidBuffer.order(ByteOrder.BIG_ENDIAN);
+        int entry = find(guidBuffer.getLong(0), guidBuffer.getLong(8));
+        if (entry == -1 || applied.get(entry)) {
+            return false;
+        }
+        applied.set(entry);
+        return SDL_GameControllerAddMapping(getMapping(entry)) != -1;
+    }
+
+    /**
+     * @param guid a GUID as formatted by {@code SDL_JoystickGetGUIDString}
+     * @return the mapping of the device, or null if the database has none
+     */
+    public String getMapping(String guid) {
+        if (guid.length() != GUID_LENGTH) {
+            throw new IllegalArgumentException("Invalid GUID: " + guid);
+        }
+        try {
+            int entry = find(Long.parseUnsignedLong(guid.substring(0, 16), 16), Long.parseUnsignedLong(guid.substring(16), 16));
+            return entry != -1 ? getMapping(entry) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid GUID: " + guid, e);
+        }
+    }
+
+    private String getMapping(int entry) {
+        int offset = HEADER_SIZE + entry * ENTRY_SIZE;
+        byte[] line = new byte[index.getInt(offset + 20)];
+        source.get(index.getInt(offset + 16), line);
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param high the first 8 bytes of the GUID, in big-endian order
+     * @param low  the last 8 bytes of the GUID, in big-endian order
+     * @return the index of the entry of the GUID, or of the same GUID without a CRC, or of either with any version,
+     * or -1 if there is none of them
+     */
+    private int find(long high, long low) {
+        lookups++;
+        boolean crc = (high & ~CRC_MASK) != 0;
+        int entry = search(high, low);
+        if (entry == -1 && crc) {
+            entry = search(high & CRC_MASK, low);
+        }
+        if (entry == -1 && hasVendorAndProduct(high, low)) {
+            // Like SDL, the version is only ignored once neither GUID has matched exactly
+            if (crc) {
+                entry = searchAnyVersion(high, low);
+            }
+            if (entry == -1) {
+                entry = searchAnyVersion(high & CRC_MASK, low);
+            }
+        }
+        if (entry == -1) {
+            misses++;
+        }
+        return entry;
+    }
+
+    private static boolean hasVendorAndProduct(long high, long low) {
+        // Bytes 6, 7, 10 and 11 are zero in a GUID holding a vendor and product, as read by SDL_GetJoystickGUIDInfo
+        return (high & 0xFFFF) == 0 && (low >>> 32 & 0xFFFF) == 0 && (high >>> 16 & 0xFFFF) != 0 && low >>> 48 != 0;
+    }
+
+    private int search(long high, long low) {
+        int entry = lowerBound(high, low);
+        if (entry < size) {
+            int offset = HEADER_SIZE + entry * ENTRY_SIZE;
+            if (index.getLong(offset) == high && index.getLong(offset + 8) == low) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private int searchAnyVersion(long high, long low) {
+        // The version sits below the vendor and product in the sort order, so every version is in a single run
+        for (int entry = lowerBound(high, low & 0xFFFFFFFF00000000L); entry < size; entry++) {
+            int offset = HEADER_SIZE + entry * ENTRY_SIZE;
+            long entryLow = index.getLong(offset + 8);
+            if (index.getLong(offset) != high || entryLow >>> 32 != low >>> 32) {
+                break;
+            }
+            if ((entryLow & VERSION_MASK) == (low & VERSION_MASK)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private int lowerBound(long high, long low) {
+        int from = 0;
+        int to = size;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            int offset = HEADER_SIZE + mid * ENTRY_SIZE;
+            int result = Long.compareUnsigned(index.getLong(offset), high);
+            if (result == 0) {
+                result = Long.compareUnsigned(index.getLong(offset + 8), low);
+            }
+            if (result < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * @return the number of GUIDs with a mapping for the platform
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the index was built when the database was opened, false if the cached index was used
+     */
+    public boolean isIndexRebuilt() {
+        return rebuilt;
+    }
+
+    /**
+     * @return the number of GUIDs looked up
+     */
+    public long getLookupCount() {
+        return lookups;
+    }
+
+    /**
+     * @return the number of GUIDs looked up that had no mapping
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return the number of mappings added to SDL
+     */
+    public int getAppliedCount() {
+        return applied.cardinality();
+    }
+
+    /**
+     * Close the database. Mappings already added to SDL are kept.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            indexChannel.close();
+        } finally {
+            sourceChannel.close();
+        }
+    }
+}
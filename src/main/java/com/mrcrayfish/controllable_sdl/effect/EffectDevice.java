@@ -0,0 +1,40 @@
+package com.mrcrayfish.controllable_sdl.effect;
+
+/**
+ * The rumble motors and LED of a game controller, written by an {@link EffectScheduler}.
+ *
+ * <p>{@link SdlEffectDevice} writes to an {@code SDL_GameController}. Tests and benchmarks can provide their own
+ * implementation to observe the writes without hardware.</p>
+ */
+public interface EffectDevice {
+
+    /**
+     * Start a rumble effect, replacing the previous one. Called from the flushing thread only.
+     *
+     * @param lowFrequency  the intensity of the low frequency (left) motor, from 0 to 0xFFFF
+     * @param highFrequency the intensity of the high frequency (right) motor, from 0 to 0xFFFF
+     * @param durationMs    the duration of the effect in milliseconds, or 0 to stop it
+     * @return 0, or -1 if rumble isn't supported
+     */
+    int rumble(int lowFrequency, int highFrequency, int durationMs);
+
+    /**
+     * Start a trigger rumble effect, replacing the previous one. Called from the flushing thread only.
+     *
+     * @param left       the intensity of the left trigger motor, from 0 to 0xFFFF
+     * @param right      the intensity of the right trigger motor, from 0 to 0xFFFF
+     * @param durationMs the duration of the effect in milliseconds, or 0 to stop it
+     * @return 0, or -1 if trigger rumble isn't supported
+     */
+    int rumbleTriggers(int left, int right, int durationMs);
+
+    /**
+     * Set the color of the LED. Called from the flushing thread only.
+     *
+     * @param red   the intensity of the red LED, from 0 to 255
+     * @param green the intensity of the green LED, from 0 to 255
+     * @param blue  the intensity of the blue LED, from 0 to 255
+     * @return 0, or -1 if the LED can't be set
+     */
+    int setLed(int red, int green, int blue);
+}
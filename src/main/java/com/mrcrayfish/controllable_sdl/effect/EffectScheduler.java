@@ -0,0 +1,598 @@
+package com.mrcrayfish.controllable_sdl.effect;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import com.mrcrayfish.controllable_sdl.metrics.LatencyHistogram;
+
+/**
+ * Collects the rumble and LED requests made for game controllers and writes them to the devices at most once per
+ * interval, from a background thread.
+ *
+ * <p>Every call to {@code SDL_GameControllerRumble}, {@code SDL_GameControllerRumbleTriggers} or
+ * {@code SDL_GameControllerSetLED} sends a report to the controller and blocks until the USB or Bluetooth write is
+ * done, so several systems starting effects in the same frame add up to a visible stall. Requests made through a
+ * {@link Channel} only update its state in memory, and the scheduler writes what changed when it flushes:</p>
+ * <ul>
+ *     <li>Overlapping rumble requests are blended. The requests with the highest priority that are still running
+ *     win, and among them each motor runs at the strongest intensity requested. A lower priority effect resumes once
+ *     the higher ones end. Trigger rumble is blended the same way, on its own.</li>
+ *     <li>A rumble is only written again when the blend changes, or when the last write is about to run out while
+ *     the blend has time left, so an effect requested every frame costs a single write.</li>
+ *     <li>Only the last LED color set before a flush is written, and only if it differs from the color written
+ *     before.</li>
+ * </ul>
+ *
+ * <p>For every {@link Effect}, the scheduler records the time spent in each device write and the time requests
+ * waited for the write applying them.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * EffectScheduler scheduler = new EffectScheduler(TimeUnit.MILLISECONDS.toNanos(8));
+ * EffectScheduler.Channel channel = scheduler.register(new SdlEffectDevice(controller));
+ * scheduler.start();
+ * ...
+ * channel.rumble(0xFFFF, 0x4000, 200, 1);
+ * channel.setLed(255, 0, 0);
+ * ...
+ * scheduler.close();
+ * </pre>
+ *
+ * <p>Requests may be made from any thread. Devices are only written by the thread flushing the scheduler, which is
+ * the thread started by {@link #start()}, or the callers of {@link #flush()} if it was not started. A device must
+ * stay open until its channel is unregistered or the scheduler is closed.</p>
+ */
+public final class EffectScheduler implements AutoCloseable {
+
+    /**
+     * The longest duration written to a device at once. Longer effects are written again before they run out.
+     */
+    public static final int MAX_WRITE_DURATION_MS = 0xFFFF;
+
+    /**
+     * The number of overlapping requests kept per channel for each kind of rumble. Past it, a new request replaces
+     * the one with the lowest priority that ends first.
+     */
+    public static final int MAX_OVERLAPPING = 8;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * The kinds of writes made to a device.
+     */
+    public enum Effect {
+        /**
+         * {@link EffectDevice#rumble(int, int, int)}
+         */
+        RUMBLE,
+        /**
+         * {@link EffectDevice#rumbleTriggers(int, int, int)}
+         */
+        TRIGGER_RUMBLE,
+        /**
+         * {@link EffectDevice#setLed(int, int, int)}
+         */
+        LED
+    }
+
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final List<Channel> channels = new CopyOnWriteArrayList<>();
+    private final LatencyHistogram[] writeLatency = new LatencyHistogram[Effect.values().length];
+    private final LatencyHistogram[] queueLatency = new LatencyHistogram[Effect.values().length];
+    private final LatencyHistogram flushTime = new LatencyHistogram();
+    private final LongAdder[] requestCounts = new LongAdder[Effect.values().length];
+    private final LongAdder[] writeCounts = new LongAdder[Effect.values().length];
+    private final LongAdder[] failedCounts = new LongAdder[Effect.values().length];
+    private final Object flushLock = new Object();
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param intervalNanos the time between two flushes of the background thread, which bounds how often each
+     *                      device is written
+     */
+    public EffectScheduler(long intervalNanos) {
+        this(intervalNanos, System::nanoTime);
+    }
+
+    EffectScheduler(long intervalNanos, LongSupplier clock) {
+        if (intervalNanos < 1) {
+            throw new IllegalArgumentException("The interval must be positive");
+        }
+        this.intervalNanos = intervalNanos;
+        this.clock = clock;
+        for (int i = 0; i < writeLatency.length; i++) {
+            writeLatency[i] = new LatencyHistogram();
+            queueLatency[i] = new LatencyHistogram();
+            requestCounts[i] = new LongAdder();
+            writeCounts[i] = new LongAdder();
+            failedCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Start scheduling the effects of a device.
+     *
+     * @param device the device to write
+     * @return the channel to make requests through
+     */
+    public Channel register(EffectDevice device) {
+        if (device == null) {
+            throw new IllegalArgumentException("The device must not be null");
+        }
+        Channel channel = new Channel(device);
+        channels.add(channel);
+        return channel;
+    }
+
+    /**
+     * Stop scheduling the effects of a device. Requests not yet written are dropped, and requests made through the
+     * channel afterwards are ignored. Once this returns, the device is no longer written by the scheduler.
+     *
+     * @param channel a channel returned by {@link #register(EffectDevice)}
+     */
+    public void unregister(Channel channel) {
+        if (channel.getScheduler() != this) {
+            throw new IllegalArgumentException("The channel was registered to another scheduler");
+        }
+        // Waits for a flush in progress, which may still be writing the device
+        synchronized (flushLock) {
+            channels.remove(channel);
+        }
+    }
+
+    /**
+     * Start the thread flushing the scheduler every interval.
+     *
+     * @throws IllegalStateException if the scheduler was already started
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("The effect scheduler was already started");
+        }
+        running = true;
+        thread = new Thread(this::run, "SDL Effect Scheduler #" + THREAD_COUNT.getAndIncrement());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        long next = clock.getAsLong() + intervalNanos;
+        while (running) {
+            long now = clock.getAsLong();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            flush(now);
+            next += intervalNanos;
+            if (next <= now) {
+                // A flush took longer than the interval, so restart from now rather than flushing in a burst
+                next = now + intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Write the changes requested since the last flush to every device. Only needed if the scheduler was not
+     * started, for example to flush once per frame from the game loop.
+     */
+    public void flush() {
+        flush(clock.getAsLong());
+    }
+
+    private void flush(long now) {
+        synchronized (flushLock) {
+            for (Channel channel : channels) {
+                channel.flush(now);
+            }
+            flushTime.record(clock.getAsLong() - now);
+        }
+    }
+
+    private void recordWrite(Effect effect, long start, int result, long queuedNanos) {
+        writeLatency[effect.ordinal()].record(clock.getAsLong() - start);
+        writeCounts[effect.ordinal()].increment();
+        if (result < 0) {
+            failedCounts[effect.ordinal()].increment();
+        }
+        if (queuedNanos >= 0) {
+            queueLatency[effect.ordinal()].record(queuedNanos);
+        }
+    }
+
+    /**
+     * @return the time between two flushes of the background thread
+     */
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * @param effect a kind of write
+     * @return the histogram of the time spent in each write of that kind
+     */
+    public LatencyHistogram getWriteLatency(Effect effect) {
+        return writeLatency[effect.ordinal()];
+    }
+
+    /**
+     * @param effect a kind of write
+     * @return the histogram of the time between the first request merged into a write of that kind and the start of
+     * the write
+     */
+    public LatencyHistogram getQueueLatency(Effect effect) {
+        return queueLatency[effect.ordinal()];
+    }
+
+    /**
+     * @return the histogram of the time taken by each flush, writes included
+     */
+    public LatencyHistogram getFlushTime() {
+        return flushTime;
+    }
+
+    /**
+     * @param effect a kind of write
+     * @return the number of requests of that kind made through the channels
+     */
+    public long getRequestCount(Effect effect) {
+        return requestCounts[effect.ordinal()].sum();
+    }
+
+    /**
+     * @param effect a kind of write
+     * @return the number of writes of that kind made to the devices
+     */
+    public long getWriteCount(Effect effect) {
+        return writeCounts[effect.ordinal()].sum();
+    }
+
+    /**
+     * @param effect a kind of write
+     * @return the number of writes of that kind the devices reported as unsupported
+     */
+    public long getFailedWriteCount(Effect effect) {
+        return failedCounts[effect.ordinal()].sum();
+    }
+
+    /**
+     * Stop the background thread and wait for it to finish its current flush. Effects already written keep playing
+     * until they end; stop them and call {@link #flush()} before closing to cut them short.
+     */
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            current = thread;
+            running = false;
+        }
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        boolean interrupted = false;
+        while (current.isAlive()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void checkIntensity(int value) {
+        if (value < 0 || value > 0xFFFF) {
+            throw new IllegalArgumentException("The intensity must be between 0 and 0xFFFF");
+        }
+    }
+
+    private static void checkColor(int value) {
+        if (value < 0 || value > 0xFF) {
+            throw new IllegalArgumentException("The color must be between 0 and 255");
+        }
+    }
+
+    /**
+     * The requests made for a single device. Requests only update the channel and return immediately.
+     */
+    public final class Channel {
+
+        private final EffectDevice device;
+        private final Blend rumble = new Blend();
+        private final Blend triggers = new Blend();
+        private int led = -1;
+        private int writtenLed = -1;
+        private long ledRequestedAt = -1L;
+
+        private Channel(EffectDevice device) {
+            this.device = device;
+        }
+
+        /**
+         * Request a rumble effect with priority 0.
+         *
+         * @see #rumble(int, int, int, int)
+         */
+        public void rumble(int lowFrequency, int highFrequency, int durationMs) {
+            rumble(lowFrequency, highFrequency, durationMs, 0);
+        }
+
+        /**
+         * Request a rumble effect, blended with the other effects running on the device.
+         *
+         * @param lowFrequency  the intensity of the low frequency (left) motor, from 0 to 0xFFFF
+         * @param highFrequency the intensity of the high frequency (right) motor, from 0 to 0xFFFF
+         * @param durationMs    the duration of the effect in milliseconds. An effect ending before the next flush
+         *                      is not played.
+         * @param priority      the priority of the effect. While it runs, effects with a lower priority are not
+         *                      played, even if they are stronger.
+         */
+        public void rumble(int lowFrequency, int highFrequency, int durationMs, int priority) {
+            checkIntensity(lowFrequency);
+            checkIntensity(highFrequency);
+            if (durationMs < 1) {
+                throw new IllegalArgumentException("The duration must be positive");
+            }
+            long now = clock.getAsLong();
+            synchronized (this) {
+                rumble.request(lowFrequency, highFrequency, priority, now + durationMs * 1_000_000L, now);
+            }
+            requestCounts[Effect.RUMBLE.ordinal()].increment();
+        }
+
+        /**
+         * Request a trigger rumble effect with priority 0.
+         *
+         * @see #rumbleTriggers(int, int, int, int)
+         */
+        public void rumbleTriggers(int left, int right, int durationMs) {
+            rumbleTriggers(left, right, durationMs, 0);
+        }
+
+        /**
+         * Request a trigger rumble effect, blended with the other trigger effects running on the device.
+         *
+         * @param left       the intensity of the left trigger motor, from 0 to 0xFFFF
+         * @param right      the intensity of the right trigger motor, from 0 to 0xFFFF
+         * @param durationMs the duration of the effect in milliseconds
+         * @param priority   the priority of the effect. While it runs, effects with a lower priority are not played,
+         *                   even if they are stronger.
+         */
+        public void rumbleTriggers(int left, int right, int durationMs, int priority) {
+            checkIntensity(left);
+            checkIntensity(right);
+            if (durationMs < 1) {
+                throw new IllegalArgumentException("The duration must be positive");
+            }
+            long now = clock.getAsLong();
+            synchronized (this) {
+                triggers.request(left, right, priority, now + durationMs * 1_000_000L, now);
+            }
+            requestCounts[Effect.TRIGGER_RUMBLE.ordinal()].increment();
+        }
+
+        /**
+         * Cancel every rumble effect requested for the device.
+         */
+        public void stopRumble() {
+            long now = clock.getAsLong();
+            synchronized (this) {
+                rumble.stop(now);
+            }
+            requestCounts[Effect.RUMBLE.ordinal()].increment();
+        }
+
+        /**
+         * Cancel every trigger rumble effect requested for the device.
+         */
+        public void stopTriggerRumble() {
+            long now = clock.getAsLong();
+            synchronized (this) {
+                triggers.stop(now);
+            }
+            requestCounts[Effect.TRIGGER_RUMBLE.ordinal()].increment();
+        }
+
+        /**
+         * Request a color for the LED of the device, replacing any color requested since the last flush.
+         *
+         * @param red   the intensity of the red LED, from 0 to 255
+         * @param green the intensity of the green LED, from 0 to 255
+         * @param blue  the intensity of the blue LED, from 0 to 255
+         */
+        public void setLed(int red, int green, int blue) {
+            checkColor(red);
+            checkColor(green);
+            checkColor(blue);
+            long now = clock.getAsLong();
+            synchronized (this) {
+                led = red << 16 | green << 8 | blue;
+                if (ledRequestedAt < 0) {
+                    ledRequestedAt = now;
+                }
+            }
+            requestCounts[Effect.LED.ordinal()].increment();
+        }
+
+        public EffectDevice getDevice() {
+            return device;
+        }
+
+        private EffectScheduler getScheduler() {
+            return EffectScheduler.this;
+        }
+
+        private void flush(long now) {
+            // The state to write is taken under the lock, and written without it so requests never wait for a device
+            boolean writeRumble;
+            int low = 0, high = 0, rumbleMs = 0;
+            long rumbleQueued = -1L;
+            boolean writeTriggers;
+            int left = 0, right = 0, triggersMs = 0;
+            long triggersQueued = -1L;
+            boolean writeLed;
+            int color = 0;
+            long ledQueued = -1L;
+            synchronized (this) {
+                long refreshNanos = 2 * intervalNanos;
+                writeRumble = rumble.prepare(now, refreshNanos);
+                if (writeRumble) {
+                    low = rumble.outFirst;
+                    high = rumble.outSecond;
+                    rumbleMs = rumble.outDurationMs;
+                    rumbleQueued = rumble.outQueuedNanos;
+                }
+                writeTriggers = triggers.prepare(now, refreshNanos);
+                if (writeTriggers) {
+                    left = triggers.outFirst;
+                    right = triggers.outSecond;
+                    triggersMs = triggers.outDurationMs;
+                    triggersQueued = triggers.outQueuedNanos;
+                }
+                writeLed = led >= 0 && led != writtenLed;
+                if (writeLed) {
+                    color = led;
+                    writtenLed = led;
+                    ledQueued = now - ledRequestedAt;
+                }
+                ledRequestedAt = -1L;
+            }
+            if (writeRumble) {
+                long start = clock.getAsLong();
+                int result = device.rumble(low, high, rumbleMs);
+                recordWrite(Effect.RUMBLE, start, result, rumbleQueued);
+            }
+            if (writeTriggers) {
+                long start = clock.getAsLong();
+                int result = device.rumbleTriggers(left, right, triggersMs);
+                recordWrite(Effect.TRIGGER_RUMBLE, start, result, triggersQueued);
+            }
+            if (writeLed) {
+                long start = clock.getAsLong();
+                int result = device.setLed(color >>> 16, color >>> 8 & 0xFF, color & 0xFF);
+                recordWrite(Effect.LED, start, result, ledQueued);
+            }
+        }
+    }
+
+    /**
+     * The overlapping requests for a pair of motors, and what was last written to them.
+     */
+    private static final class Blend {
+
+        private final int[] first = new int[MAX_OVERLAPPING];
+        private final int[] second = new int[MAX_OVERLAPPING];
+        private final int[] priority = new int[MAX_OVERLAPPING];
+        private final long[] ends = new long[MAX_OVERLAPPING];
+        private int size;
+        private long requestedAt = -1L;
+
+        private int writtenFirst;
+        private int writtenSecond;
+        private long writtenEnd;
+
+        private int outFirst;
+        private int outSecond;
+        private int outDurationMs;
+        private long outQueuedNanos;
+
+        void request(int first, int second, int priority, long end, long now) {
+            if (requestedAt < 0) {
+                requestedAt = now;
+            }
+            // The same effect requested again only runs for longer
+            for (int i = 0; i < size; i++) {
+                if (this.priority[i] == priority && this.first[i] == first && this.second[i] == second) {
+                    ends[i] = Math.max(ends[i], end);
+                    return;
+                }
+            }
+            int index = size < MAX_OVERLAPPING ? size++ : evict();
+            this.first[index] = first;
+            this.second[index] = second;
+            this.priority[index] = priority;
+            this.ends[index] = end;
+        }
+
+        private int evict() {
+            int index = 0;
+            for (int i = 1; i < size; i++) {
+                if (priority[i] < priority[index] || priority[i] == priority[index] && ends[i] < ends[index]) {
+                    index = i;
+                }
+            }
+            return index;
+        }
+
+        void stop(long now) {
+            size = 0;
+            if (requestedAt < 0) {
+                requestedAt = now;
+            }
+        }
+
+        /**
+         * @return true if the motors must be written with the {@code out} values
+         */
+        boolean prepare(long now, long refreshNanos) {
+            long queued = requestedAt >= 0 ? now - requestedAt : -1L;
+            requestedAt = -1L;
+
+            int count = 0;
+            int top = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (ends[i] > now) {
+                    first[count] = first[i];
+                    second[count] = second[i];
+                    priority[count] = priority[i];
+                    ends[count] = ends[i];
+                    top = Math.max(top, priority[count]);
+                    count++;
+                }
+            }
+            size = count;
+
+            int blendFirst = 0;
+            int blendSecond = 0;
+            long blendEnd = now;
+            for (int i = 0; i < size; i++) {
+                if (priority[i] == top) {
+                    blendFirst = Math.max(blendFirst, first[i]);
+                    blendSecond = Math.max(blendSecond, second[i]);
+                    blendEnd = Math.max(blendEnd, ends[i]);
+                }
+            }
+
+            if (writtenEnd <= now) {
+                // The device stopped on its own once the last write ran out
+                writtenFirst = 0;
+                writtenSecond = 0;
+            }
+            boolean changed = blendFirst != writtenFirst || blendSecond != writtenSecond;
+            boolean renew = (blendFirst | blendSecond) != 0 && blendEnd > writtenEnd && writtenEnd - now <= refreshNanos;
+            if (!changed && !renew) {
+                return false;
+            }
+            int durationMs = 0;
+            if ((blendFirst | blendSecond) != 0) {
+                durationMs = (int) Math.min(MAX_WRITE_DURATION_MS, (blendEnd - now + 999_999L) / 1_000_000L);
+            }
+            writtenFirst = blendFirst;
+            writtenSecond = blendSecond;
+            writtenEnd = now + durationMs * 1_000_000L;
+            outFirst = blendFirst;
+            outSecond = blendSecond;
+            outDurationMs = durationMs;
+            outQueuedNanos = queued;
+            return true;
+        }
+    }
+}
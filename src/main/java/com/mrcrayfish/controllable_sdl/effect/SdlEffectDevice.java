@@ -0,0 +1,45 @@
+package com.mrcrayfish.controllable_sdl.effect;
+
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller;
+
+/**
+ * An {@link EffectDevice} backed by an {@link SDL_GameController}, written with
+ * {@link SdlGamecontroller#SDL_GameControllerRumble(SDL_GameController, short, short, int)},
+ * {@link SdlGamecontroller#SDL_GameControllerRumbleTriggers(SDL_GameController, short, short, int)} and
+ * {@link SdlGamecontroller#SDL_GameControllerSetLED(SDL_GameController, byte, byte, byte)}.
+ */
+public final class SdlEffectDevice implements EffectDevice {
+
+    private final SDL_GameController controller;
+
+    /**
+     * @param controller an open game controller. It is not closed by the device and must stay open until the device
+     *                   is unregistered from its scheduler.
+     */
+    public SdlEffectDevice(SDL_GameController controller) {
+        if (controller == null) {
+            throw new IllegalArgumentException("The controller must not be null");
+        }
+        this.controller = controller;
+    }
+
+    public SDL_GameController getController() {
+        return controller;
+    }
+
+    @Override
+    public int rumble(int lowFrequency, int highFrequency, int durationMs) {
+        return SdlGamecontroller.SDL_GameControllerRumble(controller, (short) lowFrequency, (short) highFrequency, durationMs);
+    }
+
+    @Override
+    public int rumbleTriggers(int left, int right, int durationMs) {
+        return SdlGamecontroller.SDL_GameControllerRumbleTriggers(controller, (short) left, (short) right, durationMs);
+    }
+
+    @Override
+    public int setLed(int red, int green, int blue) {
+        return SdlGamecontroller.SDL_GameControllerSetLED(controller, (byte) red, (byte) green, (byte) blue);
+    }
+}
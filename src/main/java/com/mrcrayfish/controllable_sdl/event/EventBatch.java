@@ -0,0 +1,326 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerTouchpadEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyHatEventView;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_eventaction.SDL_GETEVENT;
+
+/**
+ * A reusable block of native memory that receives many events in a single call to
+ * {@link SdlEvents#SDL_PeepEvents(Pointer, int, int, int, int) SDL_PeepEvents}.
+ *
+ * <p>Unlike {@link SdlEvents#SDL_PollEvent(com.mrcrayfish.controllable_sdl.api.event.SDL_Event) SDL_PollEvent},
+ * no {@link com.mrcrayfish.controllable_sdl.api.event.SDL_Event SDL_Event} union is read by JNA. The events stay
+ * in native memory and are read through the typed accessors of this class, which use the fixed offsets
+ * of the C structures. Draining a full frame of events therefore costs one native call and allocates nothing.</p>
+ *
+ * <p>Every other field can be read by wrapping one of the flyweight views from
+ * {@link com.mrcrayfish.controllable_sdl.event.view} around an event with {@link #view(int, EventView)}.</p>
+ *
+ * <p>The accessors only make sense for the event types noted in their documentation. It is the
+ * responsibility of the caller to check {@link #getType(int)} first, just as with the C union.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * EventBatch batch = new EventBatch(256);
+ * while (gameIsStillRunning) {
+ *     SDL_PumpEvents();
+ *     while (batch.drain() > 0) {
+ *         for (int i = 0; i &lt; batch.size(); i++) {
+ *             if (batch.getType(i) == SDL_CONTROLLERAXISMOTION) {
+ *                 onAxis(batch.getWhich(i), batch.getAxis(i), batch.getAxisValue(i));
+ *             }
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Instances are not thread-safe. Each thread draining events should own its own batch.</p>
+ */
+public final class EventBatch {
+
+    /** Size in bytes of a single {@code SDL_Event} */
+    public static final int SDL_EVENT_SIZE = 56;
+
+    private static final int TYPE_OFFSET = EventView.TYPE_OFFSET;
+    private static final int TIMESTAMP_OFFSET = EventView.TIMESTAMP_OFFSET;
+    private static final int WHICH_OFFSET = ControllerAxisEventView.WHICH_OFFSET;
+    private static final int AXIS_OFFSET = ControllerAxisEventView.AXIS_OFFSET;
+    private static final int AXIS_VALUE_OFFSET = ControllerAxisEventView.VALUE_OFFSET;
+    private static final int BUTTON_OFFSET = ControllerButtonEventView.BUTTON_OFFSET;
+    private static final int STATE_OFFSET = ControllerButtonEventView.STATE_OFFSET;
+    private static final int HAT_OFFSET = JoyHatEventView.HAT_OFFSET;
+    private static final int HAT_VALUE_OFFSET = JoyHatEventView.VALUE_OFFSET;
+    private static final int SENSOR_OFFSET = ControllerSensorEventView.SENSOR_OFFSET;
+    private static final int SENSOR_DATA_OFFSET = ControllerSensorEventView.DATA_OFFSET;
+    private static final int SENSOR_TIMESTAMP_OFFSET = ControllerSensorEventView.TIMESTAMP_US_OFFSET;
+    private static final int TOUCHPAD_OFFSET = ControllerTouchpadEventView.TOUCHPAD_OFFSET;
+    private static final int FINGER_OFFSET = ControllerTouchpadEventView.FINGER_OFFSET;
+    private static final int TOUCHPAD_X_OFFSET = ControllerTouchpadEventView.X_OFFSET;
+    private static final int TOUCHPAD_Y_OFFSET = ControllerTouchpadEventView.Y_OFFSET;
+    private static final int TOUCHPAD_PRESSURE_OFFSET = ControllerTouchpadEventView.PRESSURE_OFFSET;
+
+    // This field keeps the reference to the native memory to prevent it from being freed while the buffer is in use.
+    private final Memory memory;
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private int size;
+
+    /**
+     * Allocate a new batch.
+     *
+     * @param capacity the maximum number of events retrieved by a single {@link #drain()}
+     */
+    public EventBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The batch must have a capacity of at least 1");
+        }
+        this.capacity = capacity;
+        this.memory = new Memory((long) capacity * SDL_EVENT_SIZE);
+        this.buffer = memory.getByteBuffer(0L, memory.size()).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Remove up to {@link #capacity()} events of any type from the front of the event queue.
+     *
+     * <p>This does not pump the event loop. Call {@link SdlEvents#SDL_PumpEvents()} first on the
+     * thread that initialized the video subsystem.</p>
+     *
+     * @return the number of events stored in this batch, or a negative error code on failure;
+     * call SDL_GetError() for more information.
+     */
+    public int drain() {
+        return drain(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    /**
+     * Remove up to {@link #capacity()} events within the given range of types from the front of the event queue.
+     *
+     * <p>Any events previously held by this batch are discarded.</p>
+     *
+     * @param minType minimum value of the event type to be considered
+     * @param maxType maximum value of the event type to be considered
+     * @return the number of events stored in this batch, or a negative error code on failure;
+     * call SDL_GetError() for more information.
+     */
+    public int drain(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int minType,
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int maxType) {
+        int result = SdlEvents.SDL_PeepEvents(memory, capacity, SDL_GETEVENT, minType, maxType);
+        size = Math.max(result, 0);
+        return result;
+    }
+
+    /**
+     * Forget all events held by this batch. The native memory is kept for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Drop the events at the end of this batch, after they were compacted by an {@link EventCoalescer}.
+     */
+    void truncate(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IllegalArgumentException("Cannot truncate a batch of " + this.size + " events to " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return the number of events retrieved by the last drain, less any removed by an {@link EventCoalescer}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of events this batch can hold
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return true if the last drain filled this batch, meaning more events may still be queued
+     */
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * @return the native memory backing this batch, as expected by {@code SDL_PeepEvents}
+     */
+    public Pointer getPointer() {
+        return memory;
+    }
+
+    /**
+     * @return a direct, native-ordered view of the memory backing this batch
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @param index the index of the event in this batch
+     * @return the byte offset of the event within {@link #getBuffer()}
+     */
+    public int offsetOf(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index * SDL_EVENT_SIZE;
+    }
+
+    /**
+     * Point the given flyweight view at an event of this batch.
+     *
+     * @param index the index of the event in this batch
+     * @param view  the view to reuse
+     * @return the same view, wrapped around the event
+     */
+    public <V extends EventView<V>> V view(int index, V view) {
+        return view.wrap(buffer, offsetOf(index));
+    }
+
+    /**
+     * Event type, shared with all events.
+     */
+    @MagicConstant(valuesFromClass = SDL_EventType.class)
+    public int getType(int index) {
+        return buffer.getInt(offsetOf(index) + TYPE_OFFSET);
+    }
+
+    /**
+     * In milliseconds, populated using SDL_GetTicks(). Shared with all events.
+     */
+    public int getTimestamp(int index) {
+        return buffer.getInt(offsetOf(index) + TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * The joystick instance id of joystick, game controller and sensor events.
+     */
+    public int getWhich(int index) {
+        return buffer.getInt(offsetOf(index) + WHICH_OFFSET);
+    }
+
+    /**
+     * The axis index of {@code SDL_JOYAXISMOTION} and {@code SDL_CONTROLLERAXISMOTION} events.
+     */
+    public byte getAxis(int index) {
+        return buffer.get(offsetOf(index) + AXIS_OFFSET);
+    }
+
+    /**
+     * The axis value (range: -32768 to 32767) of {@code SDL_JOYAXISMOTION} and {@code SDL_CONTROLLERAXISMOTION} events.
+     */
+    public short getAxisValue(int index) {
+        return buffer.getShort(offsetOf(index) + AXIS_VALUE_OFFSET);
+    }
+
+    /**
+     * The button index of {@code SDL_JOYBUTTON*} and {@code SDL_CONTROLLERBUTTON*} events.
+     */
+    public byte getButton(int index) {
+        return buffer.get(offsetOf(index) + BUTTON_OFFSET);
+    }
+
+    /**
+     * {@code SDL_PRESSED} or {@code SDL_RELEASED} of {@code SDL_JOYBUTTON*} and {@code SDL_CONTROLLERBUTTON*} events.
+     */
+    public byte getState(int index) {
+        return buffer.get(offsetOf(index) + STATE_OFFSET);
+    }
+
+    /**
+     * The hat index of {@code SDL_JOYHATMOTION} events.
+     */
+    public byte getHat(int index) {
+        return buffer.get(offsetOf(index) + HAT_OFFSET);
+    }
+
+    /**
+     * The hat position value of {@code SDL_JOYHATMOTION} events.
+     */
+    public byte getHatValue(int index) {
+        return buffer.get(offsetOf(index) + HAT_VALUE_OFFSET);
+    }
+
+    /**
+     * The type of the sensor, one of the values of {@code SDL_SensorType}, of {@code SDL_CONTROLLERSENSORUPDATE} events.
+     */
+    public int getSensor(int index) {
+        return buffer.getInt(offsetOf(index) + SENSOR_OFFSET);
+    }
+
+    /**
+     * Up to 3 values from the sensor of {@code SDL_CONTROLLERSENSORUPDATE} events.
+     *
+     * @param component the component of the sensor data, from 0 to 2
+     */
+    public float getSensorData(int index, int component) {
+        if (component < 0 || component > 2) {
+            throw new IndexOutOfBoundsException("Component: " + component);
+        }
+        return buffer.getFloat(offsetOf(index) + SENSOR_DATA_OFFSET + component * 4);
+    }
+
+    /**
+     * The timestamp of the sensor reading in microseconds, if the hardware provides that information,
+     * of {@code SDL_CONTROLLERSENSORUPDATE} events.
+     */
+    public long getSensorTimestampUs(int index) {
+        return buffer.getLong(offsetOf(index) + SENSOR_TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * The index of the touchpad of {@code SDL_CONTROLLERTOUCHPAD*} events.
+     */
+    public int getTouchpad(int index) {
+        return buffer.getInt(offsetOf(index) + TOUCHPAD_OFFSET);
+    }
+
+    /**
+     * The index of the finger on the touchpad of {@code SDL_CONTROLLERTOUCHPAD*} events.
+     */
+    public int getFinger(int index) {
+        return buffer.getInt(offsetOf(index) + FINGER_OFFSET);
+    }
+
+    /**
+     * Normalized in the range 0...1 with 0 being on the left, of {@code SDL_CONTROLLERTOUCHPAD*} events.
+     */
+    public float getTouchpadX(int index) {
+        return buffer.getFloat(offsetOf(index) + TOUCHPAD_X_OFFSET);
+    }
+
+    /**
+     * Normalized in the range 0...1 with 0 being at the top, of {@code SDL_CONTROLLERTOUCHPAD*} events.
+     */
+    public float getTouchpadY(int index) {
+        return buffer.getFloat(offsetOf(index) + TOUCHPAD_Y_OFFSET);
+    }
+
+    /**
+     * Normalized in the range 0...1, of {@code SDL_CONTROLLERTOUCHPAD*} events.
+     */
+    public float getTouchpadPressure(int index) {
+        return buffer.getFloat(offsetOf(index) + TOUCHPAD_PRESSURE_OFFSET);
+    }
+}
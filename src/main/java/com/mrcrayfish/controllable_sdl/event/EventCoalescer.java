@@ -0,0 +1,275 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyBallEventView;
+import com.mrcrayfish.controllable_sdl.event.view.MouseMotionEventView;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBALLMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_MOUSEMOTION;
+
+/**
+ * Merges the redundant events of a drained {@link EventBatch} before they are dispatched, so the cost of handling
+ * input follows the frame rate rather than the polling rate of the devices.
+ *
+ * <p>A pad polled at 1000 Hz queues an axis event per stick movement per millisecond, while a game only looks at the
+ * latest position once per frame. Each coalescible event type has a {@link Policy}:</p>
+ * <ul>
+ *     <li>{@code SDL_CONTROLLERAXISMOTION} and {@code SDL_JOYAXISMOTION} default to {@link Policy#LATEST}, keyed
+ *     by instance id and axis</li>
+ *     <li>{@code SDL_MOUSEMOTION} and {@code SDL_JOYBALLMOTION} default to {@link Policy#ACCUMULATE}, keyed by
+ *     window and mouse, or by instance id and ball</li>
+ *     <li>{@code SDL_CONTROLLERSENSORUPDATE} defaults to {@link Policy#KEEP_ALL}, as every sample carries its own
+ *     timestamp and is needed for sensor fusion. It can be set to {@link Policy#LATEST}, keyed by instance id and
+ *     sensor.</li>
+ * </ul>
+ *
+ * <p>A merged event takes the place of the last event it replaces, so it is still ordered after any button press that
+ * happened before it. Every other event type is kept as is.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * EventCoalescer coalescer = new EventCoalescer();
+ * SDL_PumpEvents();
+ * while (batch.drain() > 0) {
+ *     coalescer.coalesce(batch);
+ *     dispatcher.dispatch(batch);
+ * }
+ * </pre>
+ *
+ * <p>Instances are not thread-safe. Each thread draining events should own its own coalescer.</p>
+ */
+public final class EventCoalescer {
+
+    /**
+     * Describes how events of the same type and source within a batch are merged.
+     */
+    public enum Policy {
+        /**
+         * Keep every event.
+         */
+        KEEP_ALL,
+        /**
+         * Keep only the latest event of each source.
+         */
+        LATEST,
+        /**
+         * Keep only the latest event of each source, with the relative motion of the events it replaces added to its
+         * own. Only supported by {@code SDL_MOUSEMOTION} and {@code SDL_JOYBALLMOTION}.
+         */
+        ACCUMULATE
+    }
+
+    private static final int CONTROLLER_AXIS = 0;
+    private static final int JOY_AXIS = 1;
+    private static final int CONTROLLER_SENSOR = 2;
+    private static final int MOUSE_MOTION = 3;
+    private static final int JOY_BALL = 4;
+    private static final int NOT_COALESCIBLE = -1;
+    // The instance id of every coalescible event, or the window id of mouse motion
+    private static final int SOURCE_OFFSET = 8;
+
+    private final Policy[] policies = {Policy.LATEST, Policy.LATEST, Policy.KEEP_ALL, Policy.ACCUMULATE, Policy.ACCUMULATE};
+
+    // Open-addressing table of the sources seen in the current batch; an entry is only valid if its stamp matches
+    private int[] entryStamps = new int[0];
+    private int[] entryKinds;
+    private int[] entrySources;
+    private int[] entryChannels;
+    private int[] entryOffsets;
+    private int stamp;
+    private boolean[] dropped = new boolean[0];
+    private long elided;
+
+    /**
+     * Change the policy of a coalescible event type.
+     *
+     * @param type   one of {@code SDL_CONTROLLERAXISMOTION}, {@code SDL_JOYAXISMOTION},
+     *               {@code SDL_CONTROLLERSENSORUPDATE}, {@code SDL_MOUSEMOTION} or {@code SDL_JOYBALLMOTION}
+     * @param policy the new policy
+     * @return this coalescer
+     * @throws IllegalArgumentException if the type cannot be coalesced, or does not support the policy
+     */
+    public EventCoalescer setPolicy(@MagicConstant(valuesFromClass = SDL_EventType.class) int type, Policy policy) {
+        int kind = kindOf(type);
+        if (kind == NOT_COALESCIBLE) {
+            throw new IllegalArgumentException("Events of type 0x" + Integer.toHexString(type) + " cannot be coalesced");
+        }
+        if (policy == Policy.ACCUMULATE && kind != MOUSE_MOTION && kind != JOY_BALL) {
+            throw new IllegalArgumentException("Only relative motion events can be accumulated");
+        }
+        policies[kind] = policy;
+        return this;
+    }
+
+    /**
+     * @param type an event type
+     * @return the policy of the type, {@link Policy#KEEP_ALL} for types that cannot be coalesced
+     */
+    public Policy getPolicy(@MagicConstant(valuesFromClass = SDL_EventType.class) int type) {
+        int kind = kindOf(type);
+        return kind != NOT_COALESCIBLE ? policies[kind] : Policy.KEEP_ALL;
+    }
+
+    /**
+     * Merge the redundant events of the batch in place. The remaining events keep their relative order and
+     * {@link EventBatch#size()} is reduced accordingly.
+     *
+     * @param batch a batch filled by {@link EventBatch#drain()}
+     * @return the number of events removed from the batch
+     */
+    public int coalesce(EventBatch batch) {
+        int size = batch.size();
+        if (size < 2) {
+            return 0;
+        }
+        prepare(size);
+        ByteBuffer buffer = batch.getBuffer();
+        int removed = 0;
+
+        // Walk backwards so the first event seen of each source is the latest one, which is the one kept
+        for (int i = size - 1; i >= 0; i--) {
+            int offset = i * EventBatch.SDL_EVENT_SIZE;
+            int kind = kindOf(buffer.getInt(offset + EventView.TYPE_OFFSET));
+            if (kind == NOT_COALESCIBLE || policies[kind] == Policy.KEEP_ALL) {
+                continue;
+            }
+            int source = buffer.getInt(offset + SOURCE_OFFSET);
+            int channel = channelOf(buffer, offset, kind);
+            int keptOffset = findOrInsert(kind, source, channel, offset);
+            if (keptOffset < 0) {
+                continue;
+            }
+            if (policies[kind] == Policy.ACCUMULATE) {
+                accumulate(buffer, keptOffset, offset, kind);
+            }
+            dropped[i] = true;
+            removed++;
+        }
+
+        if (removed > 0) {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                if (dropped[read]) {
+                    continue;
+                }
+                if (write != read) {
+                    buffer.put(write * EventBatch.SDL_EVENT_SIZE, buffer, read * EventBatch.SDL_EVENT_SIZE, EventBatch.SDL_EVENT_SIZE);
+                }
+                write++;
+            }
+            batch.truncate(write);
+            elided += removed;
+        }
+        return removed;
+    }
+
+    /**
+     * @return the total number of events removed by this coalescer
+     */
+    public long getElidedCount() {
+        return elided;
+    }
+
+    private void prepare(int size) {
+        if (dropped.length < size) {
+            dropped = new boolean[size];
+        } else {
+            Arrays.fill(dropped, 0, size, false);
+        }
+        int tableSize = Integer.highestOneBit(Math.max(16, size) * 2 - 1) << 1;
+        if (entryStamps.length < tableSize) {
+            entryStamps = new int[tableSize];
+            entryKinds = new int[tableSize];
+            entrySources = new int[tableSize];
+            entryChannels = new int[tableSize];
+            entryOffsets = new int[tableSize];
+            stamp = 0;
+        }
+        if (++stamp == 0) {
+            Arrays.fill(entryStamps, 0);
+            stamp = 1;
+        }
+    }
+
+    /**
+     * @return the offset of the event already kept for the source, or -1 if this is the first event of the source
+     */
+    private int findOrInsert(int kind, int source, int channel, int offset) {
+        int mask = entryStamps.length - 1;
+        int hash = ((source * 31 + channel) * 31 + kind) * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (entryStamps[slot] == stamp) {
+            if (entryKinds[slot] == kind && entrySources[slot] == source && entryChannels[slot] == channel) {
+                return entryOffsets[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        entryStamps[slot] = stamp;
+        entryKinds[slot] = kind;
+        entrySources[slot] = source;
+        entryChannels[slot] = channel;
+        entryOffsets[slot] = offset;
+        return -1;
+    }
+
+    private static void accumulate(ByteBuffer buffer, int keptOffset, int offset, int kind) {
+        if (kind == MOUSE_MOTION) {
+            addInt(buffer, keptOffset + MouseMotionEventView.XREL_OFFSET, buffer.getInt(offset + MouseMotionEventView.XREL_OFFSET));
+            addInt(buffer, keptOffset + MouseMotionEventView.YREL_OFFSET, buffer.getInt(offset + MouseMotionEventView.YREL_OFFSET));
+        } else {
+            addShort(buffer, keptOffset + JoyBallEventView.XREL_OFFSET, buffer.getShort(offset + JoyBallEventView.XREL_OFFSET));
+            addShort(buffer, keptOffset + JoyBallEventView.YREL_OFFSET, buffer.getShort(offset + JoyBallEventView.YREL_OFFSET));
+        }
+    }
+
+    private static void addInt(ByteBuffer buffer, int index, int value) {
+        buffer.putInt(index, buffer.getInt(index) + value);
+    }
+
+    private static void addShort(ByteBuffer buffer, int index, short value) {
+        int sum = buffer.getShort(index) + value;
+        buffer.putShort(index, (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sum)));
+    }
+
+    private static int channelOf(ByteBuffer buffer, int offset, int kind) {
+        switch (kind) {
+            case CONTROLLER_AXIS:
+                return buffer.get(offset + ControllerAxisEventView.AXIS_OFFSET);
+            case JOY_AXIS:
+                return buffer.get(offset + JoyAxisEventView.AXIS_OFFSET);
+            case CONTROLLER_SENSOR:
+                return buffer.getInt(offset + ControllerSensorEventView.SENSOR_OFFSET);
+            case MOUSE_MOTION:
+                return buffer.getInt(offset + MouseMotionEventView.WHICH_OFFSET);
+            default:
+                return buffer.get(offset + JoyBallEventView.BALL_OFFSET);
+        }
+    }
+
+    private static int kindOf(int type) {
+        switch (type) {
+            case SDL_CONTROLLERAXISMOTION:
+                return CONTROLLER_AXIS;
+            case SDL_JOYAXISMOTION:
+                return JOY_AXIS;
+            case SDL_CONTROLLERSENSORUPDATE:
+                return CONTROLLER_SENSOR;
+            case SDL_MOUSEMOTION:
+                return MOUSE_MOTION;
+            case SDL_JOYBALLMOTION:
+                return JOY_BALL;
+            default:
+                return NOT_COALESCIBLE;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.event.view.AudioDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.CommonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerTouchpadEventView;
+import com.mrcrayfish.controllable_sdl.event.view.DisplayEventView;
+import com.mrcrayfish.controllable_sdl.event.view.DollarGestureEventView;
+import com.mrcrayfish.controllable_sdl.event.view.DropEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyBallEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyBatteryEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyHatEventView;
+import com.mrcrayfish.controllable_sdl.event.view.KeyboardEventView;
+import com.mrcrayfish.controllable_sdl.event.view.MouseButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.MouseMotionEventView;
+import com.mrcrayfish.controllable_sdl.event.view.MouseWheelEventView;
+import com.mrcrayfish.controllable_sdl.event.view.MultiGestureEventView;
+import com.mrcrayfish.controllable_sdl.event.view.QuitEventView;
+import com.mrcrayfish.controllable_sdl.event.view.SensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.SysWMEventView;
+import com.mrcrayfish.controllable_sdl.event.view.TextEditingEventView;
+import com.mrcrayfish.controllable_sdl.event.view.TextEditingExtEventView;
+import com.mrcrayfish.controllable_sdl.event.view.TextInputEventView;
+import com.mrcrayfish.controllable_sdl.event.view.TouchFingerEventView;
+import com.mrcrayfish.controllable_sdl.event.view.UserEventView;
+import com.mrcrayfish.controllable_sdl.event.view.WindowEventView;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.*;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_ENABLE;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_IGNORE;
+
+/**
+ * Dispatches events to handlers registered per event type, replacing a {@code switch} over {@code event.type}.
+ *
+ * <p>Handlers are kept in a table indexed by the event type, so dispatching an event is two array loads and no
+ * comparisons. Every handler receives a flyweight {@link EventView} wrapped around the event in native memory, of the
+ * view class matching the type, for example {@link ControllerAxisEventView} for {@code SDL_CONTROLLERAXISMOTION}.</p>
+ *
+ * <p>The dispatcher also decides which events SDL queues at all. Subscribing the first handler of a type enables it
+ * with {@code SDL_EventState(type, SDL_ENABLE)}, and unsubscribing the last one ignores it with {@code SDL_IGNORE}.
+ * Types nobody listens to, such as {@code SDL_MOUSEMOTION} or {@code SDL_SENSORUPDATE}, can be dropped before they
+ * reach the queue with {@link #ignore(int...)}. {@link #getUnhandledCount()} tells whether events are still being
+ * queued for nothing.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * EventDispatcher dispatcher = new EventDispatcher();
+ * dispatcher.ignore(SDL_MOUSEMOTION, SDL_SENSORUPDATE, SDL_SYSWMEVENT);
+ * dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class,
+ *         axis -&gt; onAxis(axis.getWhich(), axis.getAxis(), axis.getValue()));
+ *
+ * // Every frame
+ * dispatcher.pump(batch);
+ * </pre>
+ *
+ * <p>Instances are not thread-safe. Handlers should be subscribed and events dispatched on the thread that handles
+ * events.</p>
+ */
+public final class EventDispatcher {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_COUNT = (SDL_LASTEVENT + 1) >> PAGE_BITS;
+    private static final EventHandler<?>[] NO_HANDLERS = new EventHandler<?>[0];
+
+    private final IntBinaryOperator eventState;
+    // Two-level table: the high byte of the type selects a page, created the first time a type of the page is used
+    private final Slot[][] pages = new Slot[PAGE_COUNT][];
+    private EventCoalescer coalescer;
+    private long dispatched;
+    private long unhandled;
+
+    public EventDispatcher() {
+        this(SdlEvents::SDL_EventState);
+    }
+
+    /**
+     * @param eventState called as {@code SDL_EventState(type, state)} when a type is enabled or ignored
+     */
+    EventDispatcher(IntBinaryOperator eventState) {
+        this.eventState = eventState;
+    }
+
+    /**
+     * Subscribe a handler to every event of the given type, and enable the type if it was ignored.
+     *
+     * @param type     the event type
+     * @param viewType the view class of the type, see {@link #viewTypeOf(int)}
+     * @param handler  the handler, called in subscription order with the other handlers of the type
+     * @throws IllegalArgumentException if the type is out of range or {@code viewType} is not the view class of the type
+     */
+    public <V extends EventView<V>> void subscribe(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int type,
+            Class<V> viewType,
+            EventHandler<V> handler) {
+        Slot slot = getOrCreateSlot(type);
+        if (viewType != slot.view.getClass()) {
+            throw new IllegalArgumentException("Events of type 0x" + Integer.toHexString(type) + " are viewed as "
+                    + slot.view.getClass().getSimpleName() + ", not " + viewType.getSimpleName());
+        }
+        EventHandler<?>[] handlers = Arrays.copyOf(slot.handlers, slot.handlers.length + 1);
+        handlers[handlers.length - 1] = handler;
+        slot.handlers = handlers;
+        if (handlers.length == 1) {
+            eventState.applyAsInt(type, SDL_ENABLE);
+        }
+    }
+
+    /**
+     * Unsubscribe a handler, and ignore the type if it has no handler left.
+     *
+     * @param type    the event type the handler was subscribed to
+     * @param handler the handler
+     * @return true if the handler was subscribed
+     */
+    public boolean unsubscribe(
+            @MagicConstant(valuesFromClass = SDL_EventType.class) int type,
+            EventHandler<?> handler) {
+        Slot slot = getSlot(type);
+        if (slot == null) {
+            return false;
+        }
+        EventHandler<?>[] handlers = slot.handlers;
+        for (int i = 0; i < handlers.length; i++) {
+            if (handlers[i] == handler) {
+                EventHandler<?>[] remaining = new EventHandler<?>[handlers.length - 1];
+                System.arraycopy(handlers, 0, remaining, 0, i);
+                System.arraycopy(handlers, i + 1, remaining, i, remaining.length - i);
+                slot.handlers = remaining.length > 0 ? remaining : NO_HANDLERS;
+                if (remaining.length == 0) {
+                    eventState.applyAsInt(type, SDL_IGNORE);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop SDL from queuing events of the given types while they have no handler. Subscribing a handler enables
+     * the type again.
+     *
+     * @param types the event types
+     */
+    public void ignore(@MagicConstant(valuesFromClass = SDL_EventType.class) int... types) {
+        for (int type : types) {
+            checkType(type);
+            if (!hasHandlers(type)) {
+                eventState.applyAsInt(type, SDL_IGNORE);
+            }
+        }
+    }
+
+    /**
+     * @return true if at least one handler is subscribed to the type
+     */
+    public boolean hasHandlers(@MagicConstant(valuesFromClass = SDL_EventType.class) int type) {
+        Slot slot = getSlot(type);
+        return slot != null && slot.handlers.length > 0;
+    }
+
+    /**
+     * Dispatch every event of the batch.
+     */
+    public void dispatch(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            dispatch(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Dispatch a single event held in native memory.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     * @return true if at least one handler received the event
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean dispatch(ByteBuffer buffer, int offset) {
+        int type = buffer.getInt(offset + EventView.TYPE_OFFSET);
+        Slot slot = getSlot(type);
+        if (slot == null || slot.handlers.length == 0) {
+            unhandled++;
+            return false;
+        }
+        dispatched++;
+        EventView view = slot.view.wrap(buffer, offset);
+        for (EventHandler handler : slot.handlers) {
+            handler.handle(view);
+        }
+        return true;
+    }
+
+    /**
+     * Drain the whole event queue through the batch and dispatch every event.
+     *
+     * <p>As this calls {@code SDL_PeepEvents}, {@code SDL_PumpEvents} should be called first. See
+     * {@link EventBatch#drain()}. If a coalescer is set, each drained batch goes through it before being
+     * dispatched.</p>
+     *
+     * @param batch the batch used to read events from SDL
+     * @return the number of events drained, including those removed by the coalescer, or a negative error code on
+     * failure
+     */
+    public int pump(EventBatch batch) {
+        int total = 0;
+        boolean full;
+        do {
+            int count = batch.drain();
+            if (count < 0) {
+                return count;
+            }
+            full = batch.isFull();
+            if (coalescer != null) {
+                coalescer.coalesce(batch);
+            }
+            dispatch(batch);
+            total += count;
+        } while (full);
+        return total;
+    }
+
+    /**
+     * Merge redundant events in {@link #pump(EventBatch)} before they are dispatched.
+     *
+     * @param coalescer the coalescer, or null to dispatch every event
+     */
+    public void setCoalescer(EventCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * @return the coalescer used by {@link #pump(EventBatch)}, or null if there is none
+     */
+    public EventCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * @return the number of events received by at least one handler
+     */
+    public long getDispatchedCount() {
+        return dispatched;
+    }
+
+    /**
+     * @return the number of events that reached the dispatcher without any handler. A growing count means SDL is
+     * queuing a type that could be ignored.
+     */
+    public long getUnhandledCount() {
+        return unhandled;
+    }
+
+    /**
+     * @param type an event type
+     * @return the view class the handlers of the type receive
+     */
+    public static Class<? extends EventView<?>> viewTypeOf(@MagicConstant(valuesFromClass = SDL_EventType.class) int type) {
+        @SuppressWarnings("unchecked")
+        Class<? extends EventView<?>> viewType = (Class<? extends EventView<?>>) createView(type).getClass();
+        return viewType;
+    }
+
+    private Slot getSlot(int type) {
+        if (type < 0 || type > SDL_LASTEVENT) {
+            return null;
+        }
+        Slot[] page = pages[type >>> PAGE_BITS];
+        return page != null ? page[type & (PAGE_SIZE - 1)] : null;
+    }
+
+    private Slot getOrCreateSlot(int type) {
+        checkType(type);
+        Slot[] page = pages[type >>> PAGE_BITS];
+        if (page == null) {
+            page = pages[type >>> PAGE_BITS] = new Slot[PAGE_SIZE];
+        }
+        Slot slot = page[type & (PAGE_SIZE - 1)];
+        if (slot == null) {
+            slot = page[type & (PAGE_SIZE - 1)] = new Slot(createView(type));
+        }
+        return slot;
+    }
+
+    private static void checkType(int type) {
+        if (type <= SDL_FIRSTEVENT || type >= SDL_LASTEVENT) {
+            throw new IllegalArgumentException("Invalid event type: " + type);
+        }
+    }
+
+    private static EventView<?> createView(int type) {
+        if (type >= SDL_USEREVENT) {
+            return new UserEventView();
+        }
+        switch (type) {
+            case SDL_QUIT:
+                return new QuitEventView();
+            case SDL_DISPLAYEVENT:
+                return new DisplayEventView();
+            case SDL_WINDOWEVENT:
+                return new WindowEventView();
+            case SDL_SYSWMEVENT:
+                return new SysWMEventView();
+            case SDL_KEYDOWN:
+            case SDL_KEYUP:
+                return new KeyboardEventView();
+            case SDL_TEXTEDITING:
+                return new TextEditingEventView();
+            case SDL_TEXTINPUT:
+                return new TextInputEventView();
+            case SDL_TEXTEDITING_EXT:
+                return new TextEditingExtEventView();
+            case SDL_MOUSEMOTION:
+                return new MouseMotionEventView();
+            case SDL_MOUSEBUTTONDOWN:
+            case SDL_MOUSEBUTTONUP:
+                return new MouseButtonEventView();
+            case SDL_MOUSEWHEEL:
+                return new MouseWheelEventView();
+            case SDL_JOYAXISMOTION:
+                return new JoyAxisEventView();
+            case SDL_JOYBALLMOTION:
+                return new JoyBallEventView();
+            case SDL_JOYHATMOTION:
+                return new JoyHatEventView();
+            case SDL_JOYBUTTONDOWN:
+            case SDL_JOYBUTTONUP:
+                return new JoyButtonEventView();
+            case SDL_JOYDEVICEADDED:
+            case SDL_JOYDEVICEREMOVED:
+                return new JoyDeviceEventView();
+            case SDL_JOYBATTERYUPDATED:
+                return new JoyBatteryEventView();
+            case SDL_CONTROLLERAXISMOTION:
+                return new ControllerAxisEventView();
+            case SDL_CONTROLLERBUTTONDOWN:
+            case SDL_CONTROLLERBUTTONUP:
+                return new ControllerButtonEventView();
+            case SDL_CONTROLLERDEVICEADDED:
+            case SDL_CONTROLLERDEVICEREMOVED:
+            case SDL_CONTROLLERDEVICEREMAPPED:
+            case SDL_CONTROLLERSTEAMHANDLEUPDATED:
+                return new ControllerDeviceEventView();
+            case SDL_CONTROLLERTOUCHPADDOWN:
+            case SDL_CONTROLLERTOUCHPADMOTION:
+            case SDL_CONTROLLERTOUCHPADUP:
+                return new ControllerTouchpadEventView();
+            case SDL_CONTROLLERSENSORUPDATE:
+                return new ControllerSensorEventView();
+            case SDL_FINGERDOWN:
+            case SDL_FINGERUP:
+            case SDL_FINGERMOTION:
+                return new TouchFingerEventView();
+            case SDL_DOLLARGESTURE:
+            case SDL_DOLLARRECORD:
+                return new DollarGestureEventView();
+            case SDL_MULTIGESTURE:
+                return new MultiGestureEventView();
+            case SDL_DROPFILE:
+            case SDL_DROPTEXT:
+            case SDL_DROPBEGIN:
+            case SDL_DROPCOMPLETE:
+                return new DropEventView();
+            case SDL_AUDIODEVICEADDED:
+            case SDL_AUDIODEVICEREMOVED:
+                return new AudioDeviceEventView();
+            case SDL_SENSORUPDATE:
+                return new SensorEventView();
+            default:
+                return new CommonEventView();
+        }
+    }
+
+    private static final class Slot {
+
+        private final EventView<?> view;
+        private EventHandler<?>[] handlers = NO_HANDLERS;
+
+        private Slot(EventView<?> view) {
+            this.view = view;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+
+/**
+ * Receives the events of one type from an {@link EventDispatcher}.
+ *
+ * @param <V> the view type of the events
+ */
+@FunctionalInterface
+public interface EventHandler<V extends EventView<V>> {
+
+    /**
+     * Called on the thread dispatching the events.
+     *
+     * @param event a view of the event, shared with the other handlers of the type and only valid for the duration
+     *              of the call
+     */
+    void handle(V event);
+}
@@ -0,0 +1,373 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.api.timer.SdlTimer;
+import com.mrcrayfish.controllable_sdl.metrics.LatencyHistogram;
+
+/**
+ * Pumps SDL events on a dedicated thread and delivers them to consumers in batches, choosing between spinning,
+ * blocking in {@code SDL_WaitEventTimeout} and parking from the recent rate of events.
+ *
+ * <p>Busy-polling {@code SDL_PollEvent} gives the lowest latency but burns a core, while sleeping with
+ * {@code SDL_Delay} between polls adds up to the sleep time to every input. The pump keeps a moving average of the
+ * time between batches of events and picks a {@link Mode} for each wait from it and the {@link Policy}: it spins while
+ * events arrive faster than {@link Policy#getSpinBelowNanos()}, blocks in {@code SDL_WaitEventTimeout} while they
+ * arrive faster than {@link Policy#getWaitBelowNanos()}, and parks between polls once input goes quiet. Two policies
+ * are provided, {@link Policy#LATENCY_FIRST} and {@link Policy#POWER_FIRST}.</p>
+ *
+ * <p>The pump records two histograms. {@link #getWakeLatency()} holds, for every batch delivered, how long its oldest
+ * event waited in the queue, from the timestamp SDL gave it to {@code SDL_GetTicks} when the batch is drained. SDL
+ * timestamps events in milliseconds, so this is the resolution of the histogram, and events added with
+ * {@code SDL_PeepEvents} keep whatever timestamp they were given.
+ * {@link #getCpuTime()} holds the CPU time used by the pump thread in every window of
+ * {@value #CPU_WINDOW_MILLIS} ms, if the JVM supports measuring it.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * InputPump pump = new InputPump(256, InputPump.Policy.LATENCY_FIRST);
+ * pump.subscribe(dispatcher::dispatch);
+ * pump.start(() -&gt; SDL_Init(SDL_INIT_GAMECONTROLLER));
+ * ...
+ * pump.close();
+ * </pre>
+ *
+ * <p>SDL expects events to be pumped on the thread that initialized the video subsystem. The pump is meant for
+ * applications that only use the joystick, game controller or sensor subsystems, or that initialize SDL on the pump
+ * thread through {@link #start(Runnable)}. Consumers are called on the pump thread. Consumers may be added and removed
+ * from any thread, and the statistics may be read from any thread.</p>
+ */
+public final class InputPump implements AutoCloseable {
+
+    /**
+     * The length of the windows over which the CPU time of the pump thread is measured.
+     */
+    public static final int CPU_WINDOW_MILLIS = 100;
+
+    private static final long CPU_WINDOW_NANOS = CPU_WINDOW_MILLIS * 1_000_000L;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * How the pump waits for the next events.
+     */
+    public enum Mode {
+        /**
+         * Pump the queue in a busy loop.
+         */
+        SPIN,
+        /**
+         * Block in {@code SDL_WaitEventTimeout}, which returns as soon as an event is queued.
+         */
+        WAIT,
+        /**
+         * Park the thread for {@link Policy#getParkNanos()} between polls.
+         */
+        PARK
+    }
+
+    /**
+     * Receives the events delivered by the pump.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * @param batch the events, only valid for the duration of the call
+         */
+        void onEvents(EventBatch batch);
+    }
+
+    /**
+     * The thresholds the pump uses to choose a {@link Mode}.
+     */
+    public static final class Policy {
+
+        /**
+         * Spins while events arrive less than 2 ms apart and never parks, so input is noticed within microseconds
+         * during play and within the wait timeout otherwise.
+         */
+        public static final Policy LATENCY_FIRST = new Policy(2_000_000L, Long.MAX_VALUE, 10, 1_000_000L);
+
+        /**
+         * Never spins, and parks for 4 ms between polls once events are more than 50 ms apart, which adds at most a
+         * quarter of a 60 Hz frame of latency to the first input after a pause.
+         */
+        public static final Policy POWER_FIRST = new Policy(0L, 50_000_000L, 20, 4_000_000L);
+
+        private final long spinBelowNanos;
+        private final long waitBelowNanos;
+        private final int waitTimeoutMillis;
+        private final long parkNanos;
+
+        /**
+         * @param spinBelowNanos    spin while the average time between events is below this, or 0 to never spin
+         * @param waitBelowNanos    block in {@code SDL_WaitEventTimeout} while the average time between events is
+         *                          below this, and park otherwise; {@link Long#MAX_VALUE} to never park
+         * @param waitTimeoutMillis the timeout of {@code SDL_WaitEventTimeout}, which also bounds how long
+         *                          {@link #close()} waits for the pump to notice
+         * @param parkNanos         how long to park between polls
+         */
+        public Policy(long spinBelowNanos, long waitBelowNanos, int waitTimeoutMillis, long parkNanos) {
+            if (spinBelowNanos < 0 || waitBelowNanos < spinBelowNanos) {
+                throw new IllegalArgumentException("The thresholds must satisfy 0 <= spinBelowNanos <= waitBelowNanos");
+            }
+            if (waitTimeoutMillis < 1 || parkNanos < 1) {
+                throw new IllegalArgumentException("The wait timeout and park duration must be positive");
+            }
+            this.spinBelowNanos = spinBelowNanos;
+            this.waitBelowNanos = waitBelowNanos;
+            this.waitTimeoutMillis = waitTimeoutMillis;
+            this.parkNanos = parkNanos;
+        }
+
+        /**
+         * @param gapNanos the estimated time between events
+         * @return how the pump should wait for the next events
+         */
+        public Mode select(long gapNanos) {
+            if (gapNanos < spinBelowNanos) {
+                return Mode.SPIN;
+            }
+            return gapNanos < waitBelowNanos || waitBelowNanos == Long.MAX_VALUE ? Mode.WAIT : Mode.PARK;
+        }
+
+        /**
+         * @return the average time between events below which the pump spins
+         */
+        public long getSpinBelowNanos() {
+            return spinBelowNanos;
+        }
+
+        /**
+         * @return the average time between events below which the pump waits rather than parks
+         */
+        public long getWaitBelowNanos() {
+            return waitBelowNanos;
+        }
+
+        /**
+         * @return the timeout of {@code SDL_WaitEventTimeout}
+         */
+        public int getWaitTimeoutMillis() {
+            return waitTimeoutMillis;
+        }
+
+        /**
+         * @return how long the pump parks between polls
+         */
+        public long getParkNanos() {
+            return parkNanos;
+        }
+    }
+
+    private final EventBatch batch;
+    private final Policy policy;
+    private final List<Consumer> consumers = new CopyOnWriteArrayList<>();
+    private final LatencyHistogram wakeLatency = new LatencyHistogram();
+    private final LatencyHistogram cpuTime = new LatencyHistogram();
+    private final LongAdder[] modeCounts = new LongAdder[Mode.values().length];
+    private final LongAdder delivered = new LongAdder();
+    private volatile long gapEstimateNanos = Long.MAX_VALUE;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param batchCapacity the maximum number of events delivered in a single batch
+     * @param policy        the thresholds used to choose how to wait for events
+     */
+    public InputPump(int batchCapacity, Policy policy) {
+        this.batch = new EventBatch(batchCapacity);
+        this.policy = policy;
+        for (int i = 0; i < modeCounts.length; i++) {
+            modeCounts[i] = new LongAdder();
+        }
+    }
+
+    public void subscribe(Consumer consumer) {
+        consumers.add(consumer);
+    }
+
+    public void unsubscribe(Consumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Start the pump thread.
+     */
+    public void start() {
+        start(null);
+    }
+
+    /**
+     * Start the pump thread.
+     *
+     * @param init called on the pump thread before the first poll, for example to initialize SDL, or null
+     * @throws IllegalStateException if the pump was already started
+     */
+    public synchronized void start(Runnable init) {
+        if (thread != null) {
+            throw new IllegalStateException("The input pump was already started");
+        }
+        running = true;
+        thread = new Thread(() -> {
+            if (init != null) {
+                init.run();
+            }
+            run();
+        }, "SDL Input Pump #" + THREAD_COUNT.getAndIncrement());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean measureCpu = threads.isCurrentThreadCpuTimeSupported();
+        long windowStart = System.nanoTime();
+        long windowCpuStart = measureCpu ? threads.getCurrentThreadCpuTime() : 0L;
+        long lastCheck = windowStart;
+        long lastEvents = 0L;
+        long averageGap = Long.MAX_VALUE;
+
+        while (running) {
+            // An idle period counts as a long gap, so the pump backs off once input stops
+            long idle = lastEvents != 0L ? lastCheck - lastEvents : Long.MAX_VALUE;
+            Mode mode = policy.select(Math.max(averageGap, idle));
+            modeCounts[mode.ordinal()].increment();
+            switch (mode) {
+                case SPIN:
+                    SdlEvents.SDL_PumpEvents();
+                    break;
+                case WAIT:
+                    // A null event only waits for one to be queued, leaving it to be drained below
+                    SdlEvents.SDL_WaitEventTimeout(null, policy.getWaitTimeoutMillis());
+                    break;
+                default:
+                    LockSupport.parkNanos(policy.getParkNanos());
+                    SdlEvents.SDL_PumpEvents();
+                    break;
+            }
+
+            int count = drain();
+            long now = System.nanoTime();
+            if (count > 0) {
+                if (lastEvents != 0L) {
+                    long gap = now - lastEvents;
+                    // Exponential moving average over roughly the last 8 batches
+                    averageGap = averageGap == Long.MAX_VALUE ? gap : averageGap + ((gap - averageGap) >> 3);
+                    gapEstimateNanos = averageGap;
+                }
+                lastEvents = now;
+            } else if (mode == Mode.SPIN) {
+                Thread.onSpinWait();
+            }
+            lastCheck = now;
+
+            if (measureCpu && now - windowStart >= CPU_WINDOW_NANOS) {
+                long cpu = threads.getCurrentThreadCpuTime();
+                cpuTime.record(cpu - windowCpuStart);
+                windowCpuStart = cpu;
+                windowStart = now;
+            }
+        }
+    }
+
+    private int drain() {
+        int total = 0;
+        boolean full;
+        do {
+            int count = batch.drain();
+            if (count <= 0) {
+                break;
+            }
+            full = batch.isFull();
+            // The queue is drained in order, so the first event of the batch waited the longest
+            int waited = SdlTimer.SDL_GetTicks() - batch.getTimestamp(0);
+            if (waited >= 0) {
+                wakeLatency.record(waited * 1_000_000L);
+            }
+            for (Consumer consumer : consumers) {
+                consumer.onEvents(batch);
+            }
+            total += count;
+        } while (full);
+        delivered.add(total);
+        return total;
+    }
+
+    /**
+     * @return the histogram of the time the oldest event of each batch waited in the queue, at millisecond resolution
+     */
+    public LatencyHistogram getWakeLatency() {
+        return wakeLatency;
+    }
+
+    /**
+     * @return the histogram of the CPU time used by the pump thread per window of {@value #CPU_WINDOW_MILLIS} ms
+     */
+    public LatencyHistogram getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * @param mode a mode
+     * @return the number of times the pump waited for events in the given mode
+     */
+    public long getModeCount(Mode mode) {
+        return modeCounts[mode.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of events delivered
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * @return the moving average of the time between batches of events, or {@link Long#MAX_VALUE} before the second
+     * batch
+     */
+    public long getGapEstimateNanos() {
+        return gapEstimateNanos;
+    }
+
+    /**
+     * @return the policy of the pump
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Stop the pump thread and wait for it to finish its current wait.
+     */
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            current = thread;
+            running = false;
+        }
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        boolean interrupted = false;
+        while (current.isAlive()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mrcrayfish.controllable_sdl.event.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import org.intellij.lang.annotations.MagicConstant;
+
+/**
+ * A journal of events written by an {@link EventJournalWriter}, mapped read-only into memory.
+ *
+ * <p>The file starts with a header of {@value #HEADER_SIZE} bytes, followed by records of {@value #RECORD_SIZE}
+ * bytes: the nanoseconds elapsed since the journal was opened as a {@code long}, then the {@code SDL_Event} itself.
+ * Values are stored in the native byte order of the recording machine, like the events themselves, so journals are
+ * only portable between machines of the same byte order.</p>
+ *
+ * <p>Events are read in place through {@link #getBuffer()} and {@link #offsetOf(int)}, or through the flyweight views
+ * of {@link com.mrcrayfish.controllable_sdl.event.view} with {@link #view(int, EventView)}.</p>
+ */
+public final class EventJournal implements Closeable {
+
+    static final int MAGIC = 0x4A4C4453; // "SDLJ" in little-endian order
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final int EVENT_OFFSET = 8;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int START_MILLIS_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long startMillis;
+    private final int size;
+
+    private EventJournal(FileChannel channel, ByteBuffer buffer, long startMillis, int size) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.startMillis = startMillis;
+        this.size = size;
+    }
+
+    /**
+     * Map a journal into memory.
+     *
+     * @param path the journal file
+     * @return the journal
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public static EventJournal open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Not an event journal: " + path);
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Event journals larger than 2 GiB cannot be mapped: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, fileSize).order(ByteOrder.nativeOrder());
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not an event journal, or recorded with another byte order: " + path);
+            }
+            if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Unsupported event journal version " + buffer.getInt(VERSION_OFFSET) + ": " + path);
+            }
+            // The file may have been cut short, or left longer than needed if it could not be trimmed
+            long count = Math.min(buffer.getLong(COUNT_OFFSET), (fileSize - HEADER_SIZE) / RECORD_SIZE);
+            return new EventJournal(channel, buffer, buffer.getLong(START_MILLIS_OFFSET), (int) count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of events in the journal
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the wall-clock time the recording started at, in milliseconds since the epoch
+     */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * @param index the index of the event in the journal
+     * @return the time the event was recorded at, in nanoseconds since the recording started
+     */
+    public long getNanos(int index) {
+        return buffer.getLong(recordOffset(index));
+    }
+
+    /**
+     * @return the recording time of the last event in nanoseconds, or 0 if the journal is empty
+     */
+    public long getDurationNanos() {
+        return size > 0 ? getNanos(size - 1) : 0L;
+    }
+
+    /**
+     * @return a read-only, native-ordered view of the whole journal file
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @param index the index of the event in the journal
+     * @return the byte offset of the event within {@link #getBuffer()}
+     */
+    public int offsetOf(int index) {
+        return recordOffset(index) + EVENT_OFFSET;
+    }
+
+    /**
+     * @param index the index of the event in the journal
+     * @return the type of the event
+     */
+    @MagicConstant(valuesFromClass = SDL_EventType.class)
+    public int getType(int index) {
+        return buffer.getInt(offsetOf(index) + EventView.TYPE_OFFSET);
+    }
+
+    /**
+     * Point the given flyweight view at an event of the journal.
+     *
+     * @param index the index of the event in the journal
+     * @param view  the view to reuse
+     * @return the same view, wrapped around the event
+     */
+    public <V extends EventView<V>> V view(int index, V view) {
+        return view.wrap(buffer, offsetOf(index));
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Close the file. The mapping itself is released once the journal is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,171 @@
+package com.mrcrayfish.controllable_sdl.event.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+
+/**
+ * Records raw {@code SDL_Event}s with their arrival time into an append-only journal file, to be replayed later by
+ * an {@link EventReplayer}.
+ *
+ * <p>Each record is the nanosecond offset from the opening of the journal followed by the 56 bytes of the event, copied
+ * as is from native memory. The file is written through memory-mapped chunks, so recording an event is a copy into
+ * the page cache and never a system call. The record count in the header is updated after every record, so a journal
+ * left behind by a crashed process can still be read up to its last complete record.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * try (EventJournalWriter journal = new EventJournalWriter(Path.of("session.sdlj"))) {
+ *     while (gameIsStillRunning) {
+ *         SDL_PumpEvents();
+ *         batch.drain();
+ *         journal.record(batch);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Instances are not thread-safe. Events should be recorded by the thread draining them.</p>
+ */
+public final class EventJournalWriter implements Closeable {
+
+    private static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int chunkRecords;
+    private final long startNanos;
+    private MappedByteBuffer chunk;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Create a journal, replacing any existing file.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public EventJournalWriter(Path path) throws IOException {
+        this(path, DEFAULT_CHUNK_RECORDS);
+    }
+
+    /**
+     * Create a journal, replacing any existing file.
+     *
+     * @param path         the journal file
+     * @param chunkRecords the number of records mapped at once. The file grows by this many records at a time.
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public EventJournalWriter(Path path, int chunkRecords) throws IOException {
+        if (chunkRecords < 1 || (long) chunkRecords * EventJournal.RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkRecords);
+        }
+        this.chunkRecords = chunkRecords;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.header = map(0L, EventJournal.HEADER_SIZE);
+            this.header.putInt(EventJournal.MAGIC_OFFSET, EventJournal.MAGIC);
+            this.header.putInt(EventJournal.VERSION_OFFSET, EventJournal.VERSION);
+            this.header.putLong(EventJournal.START_MILLIS_OFFSET, System.currentTimeMillis());
+            this.header.putLong(EventJournal.COUNT_OFFSET, 0L);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.startNanos = System.nanoTime();
+    }
+
+    private MappedByteBuffer map(long position, int size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        buffer.order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
+    /**
+     * Record a single event, timestamped now.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     * @throws IOException if the journal cannot grow
+     */
+    public void record(ByteBuffer buffer, int offset) throws IOException {
+        record(buffer, offset, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record every event of the batch, all timestamped now.
+     *
+     * @param batch a batch filled by {@link EventBatch#drain()}
+     * @throws IOException if the journal cannot grow
+     */
+    public void record(EventBatch batch) throws IOException {
+        long nanos = System.nanoTime() - startNanos;
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            record(buffer, batch.offsetOf(i), nanos);
+        }
+    }
+
+    private void record(ByteBuffer buffer, int offset, long nanos) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("The journal is closed");
+        }
+        int index = (int) (count % chunkRecords);
+        if (index == 0) {
+            chunk = map(EventJournal.HEADER_SIZE + count * EventJournal.RECORD_SIZE, chunkRecords * EventJournal.RECORD_SIZE);
+        }
+        int position = index * EventJournal.RECORD_SIZE;
+        chunk.putLong(position, nanos);
+        chunk.put(position + EventJournal.EVENT_OFFSET, buffer, offset, EventBatch.SDL_EVENT_SIZE);
+        header.putLong(EventJournal.COUNT_OFFSET, ++count);
+    }
+
+    /**
+     * @return the number of events recorded
+     */
+    public long getRecordCount() {
+        return count;
+    }
+
+    /**
+     * Write the recorded events to the storage device. Closing the journal does this as well.
+     */
+    public void force() {
+        if (chunk != null) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Flush the journal and trim the unused end of the last chunk.
+     *
+     * <p>Some platforms, such as Windows, refuse to shrink a file while it is still mapped. The journal is then left
+     * with trailing zeroes, which readers ignore as they only read as many records as the header counts.</p>
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            force();
+            try {
+                channel.truncate(EventJournal.HEADER_SIZE + count * EventJournal.RECORD_SIZE);
+            } catch (IOException ignored) {
+                // See above, the header count stays authoritative
+            }
+        } finally {
+            chunk = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.mrcrayfish.controllable_sdl.event.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyHatEventView;
+import com.sun.jna.Memory;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYHATMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_eventaction.SDL_ADDEVENT;
+
+/**
+ * Replays the events of an {@link EventJournal} at their recorded pace, faster, or as fast as possible.
+ *
+ * <p>Events are handed to a {@link Target}. Three are provided:</p>
+ * <ul>
+ *     <li>{@link #pushEvents()} pushes each event with {@code SDL_PushEvent}, so they go through the event filter
+ *     and watchers like real input</li>
+ *     <li>{@link #addEvents(int)} adds events in blocks with {@code SDL_PeepEvents(SDL_ADDEVENT)}, bypassing the
+ *     filter. This is the fastest way to flood the input pipeline.</li>
+ *     <li>{@link #virtualJoysticks(IntFunction)} applies joystick and game controller input to virtual joysticks
+ *     with {@code SDL_JoystickSetVirtualAxis}, {@code Button} and {@code Hat}, so SDL generates the events itself
+ *     and the device state is updated too</li>
+ * </ul>
+ *
+ * <p>Events due at the same time are handed over back to back, then {@link Target#flush()} is called before waiting
+ * for the next one. An event that a target could not deliver, because SDL rejected or filtered it or because the
+ * target skips it, is counted by {@link Target#getRejectedCount()} and left out of the count returned by
+ * {@code replay}. Short waits are spun rather than parked, so the pacing stays accurate at rates well above
+ * 100,000 events per second.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * try (EventJournal journal = EventJournal.open(Path.of("session.sdlj"))) {
+ *     EventReplayer.replay(journal, EventReplayer.addEvents(256), 4.0);
+ * }
+ * </pre>
+ */
+public final class EventReplayer {
+
+    /**
+     * Replay as fast as possible, ignoring the recorded timestamps.
+     */
+    public static final double UNPACED = Double.POSITIVE_INFINITY;
+
+    // Waits shorter than this are spun, as parking a thread may oversleep by about this much
+    private static final long SPIN_THRESHOLD_NANOS = 100_000L;
+
+    /**
+     * Receives the replayed events.
+     */
+    public interface Target {
+
+        /**
+         * @param buffer a native-ordered buffer holding the event, valid only for the duration of the call
+         * @param offset the byte offset of the event within the buffer
+         */
+        void accept(ByteBuffer buffer, int offset);
+
+        /**
+         * Deliver any event held back by {@link #accept(ByteBuffer, int)}. Called before waiting for the next event
+         * and at the end of the replay.
+         */
+        default void flush() {
+        }
+
+        /**
+         * @return the number of events accepted so far that did not reach SDL, including those still held back that
+         * are known to be rejected once flushed
+         */
+        default long getRejectedCount() {
+            return 0L;
+        }
+    }
+
+    private EventReplayer() {
+    }
+
+    /**
+     * Replay every event of the journal on the calling thread.
+     *
+     * @param journal the journal
+     * @param target  the target of the events
+     * @param speed   the playback speed, 1.0 for the recorded pace, 2.0 for twice as fast, or {@link #UNPACED}
+     * @return the number of events delivered, fewer than the journal holds if the thread was interrupted or the
+     * target rejected some of them
+     */
+    public static int replay(EventJournal journal, Target target, double speed) {
+        return replay(journal, 0, journal.size(), target, speed);
+    }
+
+    /**
+     * Replay a range of events of the journal on the calling thread. The first event of the range is replayed
+     * immediately.
+     *
+     * @param journal the journal
+     * @param from    the index of the first event to replay
+     * @param to      the index after the last event to replay
+     * @param target  the target of the events
+     * @param speed   the playback speed, 1.0 for the recorded pace, 2.0 for twice as fast, or {@link #UNPACED}
+     * @return the number of events delivered, fewer than requested if the thread was interrupted or the target
+     * rejected some of them
+     */
+    public static int replay(EventJournal journal, int from, int to, Target target, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("The speed must be positive");
+        }
+        if (from < 0 || to > journal.size() || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size " + journal.size());
+        }
+        ByteBuffer buffer = journal.getBuffer();
+        boolean paced = speed != UNPACED;
+        long startNanos = System.nanoTime();
+        long firstNanos = from < to ? journal.getNanos(from) : 0L;
+        int index = from;
+        long rejected = target.getRejectedCount();
+        try {
+            while (index < to) {
+                if (paced) {
+                    long due = startNanos + (long) ((journal.getNanos(index) - firstNanos) / speed);
+                    if (due - System.nanoTime() > 0) {
+                        target.flush();
+                        if (!waitUntil(due)) {
+                            break;
+                        }
+                    }
+                }
+                target.accept(buffer, journal.offsetOf(index));
+                index++;
+            }
+        } finally {
+            target.flush();
+        }
+        return index - from - (int) (target.getRejectedCount() - rejected);
+    }
+
+    private static boolean waitUntil(long due) {
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a target pushing every event with {@code SDL_PushEvent}. Events dropped by the event filter or refused
+     * by SDL are counted as rejected. It must be used by a single thread.
+     */
+    public static Target pushEvents() {
+        return new PushEventsTarget();
+    }
+
+    /**
+     * @param capacity the maximum number of events added at once
+     * @return a target adding events to the queue in blocks with {@code SDL_PeepEvents}. Events that do not fit in
+     * the queue are counted as rejected. It must be used by a single thread.
+     */
+    public static Target addEvents(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1");
+        }
+        return new AddEventsTarget(capacity);
+    }
+
+    /**
+     * Create a target driving virtual joysticks from the joystick and game controller events of the journal. Axis,
+     * button and hat events are applied to the joystick resolved from their instance id, while every other event is
+     * skipped. Game controller axes and buttons are applied to the joystick axes and buttons of the same index, which
+     * matches virtual joysticks attached as {@code SDL_JOYSTICK_TYPE_GAMECONTROLLER}. Skipped events and values SDL
+     * refuses to apply are counted as rejected.
+     *
+     * <p>As with any virtual joystick, the values are only applied by the next {@code SDL_JoystickUpdate}, for example
+     * through {@code SDL_PumpEvents}.</p>
+     *
+     * @param joysticks resolves the instance id of a recorded event to the virtual joystick standing in for the
+     *                  device, or null to skip the event
+     * @return the target
+     */
+    public static Target virtualJoysticks(IntFunction<SDL_Joystick> joysticks) {
+        return new VirtualJoystickTarget(joysticks);
+    }
+
+    private static final class PushEventsTarget implements Target {
+
+        private final Memory memory = new Memory(EventBatch.SDL_EVENT_SIZE);
+        private final ByteBuffer scratch = memory.getByteBuffer(0L, memory.size()).order(ByteOrder.nativeOrder());
+        private long rejected;
+
+        @Override
+        public void accept(ByteBuffer buffer, int offset) {
+            scratch.put(0, buffer, offset, EventBatch.SDL_EVENT_SIZE);
+            // 1 if the event was added, 0 if it was filtered and negative on error
+            if (SdlEvents.SDL_PushEvent(memory) != 1) {
+                rejected++;
+            }
+        }
+
+        @Override
+        public long getRejectedCount() {
+            return rejected;
+        }
+    }
+
+    private static final class AddEventsTarget implements Target {
+
+        private final Memory memory;
+        private final ByteBuffer staging;
+        private final int capacity;
+        private int size;
+        private long rejected;
+
+        private AddEventsTarget(int capacity) {
+            this.capacity = capacity;
+            this.memory = new Memory((long) capacity * EventBatch.SDL_EVENT_SIZE);
+            this.staging = memory.getByteBuffer(0L, memory.size()).order(ByteOrder.nativeOrder());
+        }
+
+        @Override
+        public void accept(ByteBuffer buffer, int offset) {
+            staging.put(size * EventBatch.SDL_EVENT_SIZE, buffer, offset, EventBatch.SDL_EVENT_SIZE);
+            if (++size == capacity) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (size > 0) {
+                // The number of events added, fewer than requested if the queue is full, or negative on error
+                int added = SdlEvents.SDL_PeepEvents(memory, size, SDL_ADDEVENT, SDL_FIRSTEVENT, SDL_LASTEVENT);
+                rejected += size - Math.max(added, 0);
+                size = 0;
+            }
+        }
+
+        @Override
+        public long getRejectedCount() {
+            return rejected;
+        }
+    }
+
+    private static final class VirtualJoystickTarget implements Target {
+
+        private final IntFunction<SDL_Joystick> joysticks;
+        private long rejected;
+
+        private VirtualJoystickTarget(IntFunction<SDL_Joystick> joysticks) {
+            this.joysticks = joysticks;
+        }
+
+        @Override
+        public void accept(ByteBuffer buffer, int offset) {
+            int type = buffer.getInt(offset + EventView.TYPE_OFFSET);
+            switch (type) {
+                case SDL_JOYAXISMOTION:
+                    setAxis(buffer, offset, JoyAxisEventView.AXIS_OFFSET, JoyAxisEventView.VALUE_OFFSET);
+                    break;
+                case SDL_CONTROLLERAXISMOTION:
+                    setAxis(buffer, offset, ControllerAxisEventView.AXIS_OFFSET, ControllerAxisEventView.VALUE_OFFSET);
+                    break;
+                case SDL_JOYBUTTONDOWN:
+                case SDL_JOYBUTTONUP:
+                    setButton(buffer, offset, JoyButtonEventView.BUTTON_OFFSET, JoyButtonEventView.STATE_OFFSET);
+                    break;
+                case SDL_CONTROLLERBUTTONDOWN:
+                case SDL_CONTROLLERBUTTONUP:
+                    setButton(buffer, offset, ControllerButtonEventView.BUTTON_OFFSET, ControllerButtonEventView.STATE_OFFSET);
+                    break;
+                case SDL_JOYHATMOTION:
+                    SDL_Joystick joystick = resolve(buffer, offset);
+                    if (joystick == null || SdlJoystick.SDL_JoystickSetVirtualHat(joystick,
+                            buffer.get(offset + JoyHatEventView.HAT_OFFSET) & 0xFF, buffer.get(offset + JoyHatEventView.VALUE_OFFSET)) != 0) {
+                        rejected++;
+                    }
+                    break;
+                default:
+                    rejected++;
+                    break;
+            }
+        }
+
+        @Override
+        public long getRejectedCount() {
+            return rejected;
+        }
+
+        private SDL_Joystick resolve(ByteBuffer buffer, int offset) {
+            // Every event handled here has the instance id at the same offset
+            return joysticks.apply(buffer.getInt(offset + JoyAxisEventView.WHICH_OFFSET));
+        }
+
+        private void setAxis(ByteBuffer buffer, int offset, int axisOffset, int valueOffset) {
+            SDL_Joystick joystick = resolve(buffer, offset);
+            if (joystick == null || SdlJoystick.SDL_JoystickSetVirtualAxis(joystick, buffer.get(offset + axisOffset) & 0xFF,
+                    buffer.getShort(offset + valueOffset)) != 0) {
+                rejected++;
+            }
+        }
+
+        private void setButton(ByteBuffer buffer, int offset, int buttonOffset, int stateOffset) {
+            SDL_Joystick joystick = resolve(buffer, offset);
+            if (joystick == null || SdlJoystick.SDL_JoystickSetVirtualButton(joystick, buffer.get(offset + buttonOffset) & 0xFF,
+                    buffer.get(offset + stateOffset)) != 0) {
+                rejected++;
+            }
+        }
+    }
+}
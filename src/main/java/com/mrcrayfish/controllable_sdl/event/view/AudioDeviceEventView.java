@@ -0,0 +1,25 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_AudioDeviceEvent;
+
+/**
+ * Flyweight view of {@link SDL_AudioDeviceEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_AUDIODEVICEADDED SDL_AUDIODEVICEADDED}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_AUDIODEVICEREMOVED SDL_AUDIODEVICEREMOVED} events.</p>
+ */
+public final class AudioDeviceEventView extends EventView<AudioDeviceEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int ISCAPTURE_OFFSET = 12;
+
+    /** The audio device index for the ADDED event, SDL_AudioDeviceID for the REMOVED event */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** Zero if an output device, non-zero if a capture device */
+    public byte getIscapture() {
+        return buffer.get(offset + ISCAPTURE_OFFSET);
+    }
+}
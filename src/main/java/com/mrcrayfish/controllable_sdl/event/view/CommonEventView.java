@@ -0,0 +1,11 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_CommonEvent;
+
+/**
+ * Flyweight view of {@link SDL_CommonEvent}.
+ *
+ * <p>Valid for any event. Use it to inspect the type of an event before choosing a more specific view.</p>
+ */
+public final class CommonEventView extends EventView<CommonEventView> {
+}
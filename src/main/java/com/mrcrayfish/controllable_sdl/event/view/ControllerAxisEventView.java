@@ -0,0 +1,30 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerAxisEvent;
+
+/**
+ * Flyweight view of {@link SDL_ControllerAxisEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERAXISMOTION SDL_CONTROLLERAXISMOTION} events.</p>
+ */
+public final class ControllerAxisEventView extends EventView<ControllerAxisEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int AXIS_OFFSET = 12;
+    public static final int VALUE_OFFSET = 16;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The controller axis (SDL_GameControllerAxis) */
+    public byte getAxis() {
+        return buffer.get(offset + AXIS_OFFSET);
+    }
+
+    /** The axis value (range: -32768 to 32767) */
+    public short getValue() {
+        return buffer.getShort(offset + VALUE_OFFSET);
+    }
+}
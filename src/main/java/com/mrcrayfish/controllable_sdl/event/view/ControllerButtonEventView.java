@@ -0,0 +1,31 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerButtonEvent;
+
+/**
+ * Flyweight view of {@link SDL_ControllerButtonEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERBUTTONDOWN SDL_CONTROLLERBUTTONDOWN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERBUTTONUP SDL_CONTROLLERBUTTONUP} events.</p>
+ */
+public final class ControllerButtonEventView extends EventView<ControllerButtonEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int BUTTON_OFFSET = 12;
+    public static final int STATE_OFFSET = 13;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The controller button (SDL_GameControllerButton) */
+    public byte getButton() {
+        return buffer.get(offset + BUTTON_OFFSET);
+    }
+
+    /** {@code SDL_PRESSED} or {@code SDL_RELEASED} */
+    public byte getState() {
+        return buffer.get(offset + STATE_OFFSET);
+    }
+}
@@ -0,0 +1,20 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerDeviceEvent;
+
+/**
+ * Flyweight view of {@link SDL_ControllerDeviceEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERDEVICEADDED SDL_CONTROLLERDEVICEADDED}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERDEVICEREMOVED SDL_CONTROLLERDEVICEREMOVED}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERDEVICEREMAPPED SDL_CONTROLLERDEVICEREMAPPED} events.</p>
+ */
+public final class ControllerDeviceEventView extends EventView<ControllerDeviceEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+
+    /** The joystick device index for the ADDED event, instance id for the REMOVED or REMAPPED event */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerSensorEvent;
+
+/**
+ * Flyweight view of {@link SDL_ControllerSensorEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERSENSORUPDATE SDL_CONTROLLERSENSORUPDATE} events.</p>
+ */
+public final class ControllerSensorEventView extends EventView<ControllerSensorEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int SENSOR_OFFSET = 12;
+    public static final int DATA_OFFSET = 16;
+    public static final int TIMESTAMP_US_OFFSET = 32;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The type of the sensor, one of the values of {@code SDL_SensorType} */
+    public int getSensor() {
+        return buffer.getInt(offset + SENSOR_OFFSET);
+    }
+
+    /**
+     * Up to 3 values from the sensor, as defined in SDL_sensor.h
+     *
+     * @param component the component of the sensor data, from 0 to 2
+     */
+    public float getData(int component) {
+        if (component < 0 || component >= 3) {
+            throw new IndexOutOfBoundsException("Component: " + component);
+        }
+        return buffer.getFloat(offset + DATA_OFFSET + component * 4);
+    }
+
+    /** The timestamp of the sensor reading in microseconds, if the hardware provides this information */
+    public long getTimestampUs() {
+        return buffer.getLong(offset + TIMESTAMP_US_OFFSET);
+    }
+}
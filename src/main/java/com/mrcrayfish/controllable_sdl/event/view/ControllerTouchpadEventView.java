@@ -0,0 +1,50 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerTouchpadEvent;
+
+/**
+ * Flyweight view of {@link SDL_ControllerTouchpadEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERTOUCHPADDOWN SDL_CONTROLLERTOUCHPADDOWN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERTOUCHPADMOTION SDL_CONTROLLERTOUCHPADMOTION}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_CONTROLLERTOUCHPADUP SDL_CONTROLLERTOUCHPADUP} events.</p>
+ */
+public final class ControllerTouchpadEventView extends EventView<ControllerTouchpadEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int TOUCHPAD_OFFSET = 12;
+    public static final int FINGER_OFFSET = 16;
+    public static final int X_OFFSET = 20;
+    public static final int Y_OFFSET = 24;
+    public static final int PRESSURE_OFFSET = 28;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The index of the touchpad */
+    public int getTouchpad() {
+        return buffer.getInt(offset + TOUCHPAD_OFFSET);
+    }
+
+    /** The index of the finger on the touchpad */
+    public int getFinger() {
+        return buffer.getInt(offset + FINGER_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 with 0 being on the left */
+    public float getX() {
+        return buffer.getFloat(offset + X_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 with 0 being at the top */
+    public float getY() {
+        return buffer.getFloat(offset + Y_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 */
+    public float getPressure() {
+        return buffer.getFloat(offset + PRESSURE_OFFSET);
+    }
+}
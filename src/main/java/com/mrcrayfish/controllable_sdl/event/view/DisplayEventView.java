@@ -0,0 +1,30 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_DisplayEvent;
+
+/**
+ * Flyweight view of {@link SDL_DisplayEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DISPLAYEVENT SDL_DISPLAYEVENT} events.</p>
+ */
+public final class DisplayEventView extends EventView<DisplayEventView> {
+
+    public static final int DISPLAY_OFFSET = 8;
+    public static final int EVENT_OFFSET = 12;
+    public static final int DATA1_OFFSET = 16;
+
+    /** The associated display index */
+    public int getDisplay() {
+        return buffer.getInt(offset + DISPLAY_OFFSET);
+    }
+
+    /** {@link com.mrcrayfish.controllable_sdl.api.video.SDL_DisplayEventID SDL_DisplayEventID} */
+    public byte getEvent() {
+        return buffer.get(offset + EVENT_OFFSET);
+    }
+
+    /** Event dependent data */
+    public int getData1() {
+        return buffer.getInt(offset + DATA1_OFFSET);
+    }
+}
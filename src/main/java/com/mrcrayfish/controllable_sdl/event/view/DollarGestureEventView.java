@@ -0,0 +1,46 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_DollarGestureEvent;
+
+/**
+ * Flyweight view of {@link SDL_DollarGestureEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DOLLARGESTURE SDL_DOLLARGESTURE}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DOLLARRECORD SDL_DOLLARRECORD} events.</p>
+ */
+public final class DollarGestureEventView extends EventView<DollarGestureEventView> {
+
+    public static final int TOUCH_ID_OFFSET = 8;
+    public static final int GESTURE_ID_OFFSET = 16;
+    public static final int NUM_FINGERS_OFFSET = 24;
+    public static final int ERROR_OFFSET = 28;
+    public static final int X_OFFSET = 32;
+    public static final int Y_OFFSET = 36;
+
+    /** The touch device id */
+    public long getTouchId() {
+        return buffer.getLong(offset + TOUCH_ID_OFFSET);
+    }
+
+    public long getGestureId() {
+        return buffer.getLong(offset + GESTURE_ID_OFFSET);
+    }
+
+    public int getNumFingers() {
+        return buffer.getInt(offset + NUM_FINGERS_OFFSET);
+    }
+
+    public float getError() {
+        return buffer.getFloat(offset + ERROR_OFFSET);
+    }
+
+    /** Normalized center of gesture */
+    public float getX() {
+        return buffer.getFloat(offset + X_OFFSET);
+    }
+
+    /** Normalized center of gesture */
+    public float getY() {
+        return buffer.getFloat(offset + Y_OFFSET);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.sun.jna.Native;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_DropEvent;
+
+/**
+ * Flyweight view of {@link SDL_DropEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DROPBEGIN SDL_DROPBEGIN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DROPFILE SDL_DROPFILE}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DROPTEXT SDL_DROPTEXT}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_DROPCOMPLETE SDL_DROPCOMPLETE} events.</p>
+ */
+public final class DropEventView extends EventView<DropEventView> {
+
+    public static final int FILE_OFFSET = 8;
+    public static final int WINDOW_ID_OFFSET = FILE_OFFSET + Native.POINTER_SIZE;
+
+    /** The address of the file name, which should be freed with SDL_free(), is 0 on begin/complete */
+    public long getFileAddress() {
+        return getAddress(FILE_OFFSET);
+    }
+
+    /** The window that was dropped on, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_EventType;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import org.intellij.lang.annotations.MagicConstant;
+
+/**
+ * Base class of the flyweight event views.
+ *
+ * <p>A view is a reusable window onto a single {@code SDL_Event} held in native memory. Wrapping a view
+ * only stores a buffer and an offset, and every getter reads its field straight from a fixed offset of the
+ * C structure. Unlike the JNA structures in {@link com.mrcrayfish.controllable_sdl.api.event.events},
+ * nothing is read by reflection and nothing is allocated, so a single view instance can be wrapped around
+ * every event of a frame in turn.</p>
+ *
+ * <p>The buffer must use the native byte order. Buffers from {@link EventBatch#getBuffer()} already do.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * ControllerAxisEventView axis = new ControllerAxisEventView();
+ * for (int i = 0; i &lt; batch.size(); i++) {
+ *     if (batch.getType(i) == SDL_CONTROLLERAXISMOTION) {
+ *         batch.view(i, axis);
+ *         onAxis(axis.getWhich(), axis.getAxis(), axis.getValue());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <V> the concrete type of the view, returned by {@link #wrap(ByteBuffer, int)} for chaining
+ */
+public abstract class EventView<V extends EventView<V>> {
+
+    public static final int TYPE_OFFSET = 0;
+    public static final int TIMESTAMP_OFFSET = 4;
+
+    protected ByteBuffer buffer;
+    protected int offset;
+
+    /**
+     * Point this view at the event starting at the given offset of the buffer.
+     *
+     * @param buffer a native-ordered buffer holding one or more {@code SDL_Event}s
+     * @param offset the byte offset of the event within the buffer
+     * @return this view
+     */
+    @SuppressWarnings("unchecked")
+    public V wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return (V) this;
+    }
+
+    /**
+     * Point this view at the event stored at the given native address.
+     *
+     * <p>This creates a new {@link ByteBuffer} for the event. Prefer {@link #wrap(ByteBuffer, int)}
+     * on hot paths.</p>
+     *
+     * @param pointer the address of an {@code SDL_Event}
+     * @return this view
+     */
+    public V wrap(Pointer pointer) {
+        return wrap(pointer.getByteBuffer(0L, EventBatch.SDL_EVENT_SIZE).order(ByteOrder.nativeOrder()), 0);
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /** Event type, shared with all events */
+    @MagicConstant(valuesFromClass = SDL_EventType.class)
+    public int getType() {
+        return buffer.getInt(offset + TYPE_OFFSET);
+    }
+
+    /** In milliseconds, populated using SDL_GetTicks() */
+    public int getTimestamp() {
+        return buffer.getInt(offset + TIMESTAMP_OFFSET);
+    }
+
+    protected long getAddress(int fieldOffset) {
+        if (Native.POINTER_SIZE == 8) {
+            return buffer.getLong(offset + fieldOffset);
+        }
+        return buffer.getInt(offset + fieldOffset) & 0xFFFFFFFFL;
+    }
+
+    protected String getString(int fieldOffset, int maxLength) {
+        int start = offset + fieldOffset;
+        int length = 0;
+        while (length < maxLength && buffer.get(start + length) != 0) {
+            length++;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
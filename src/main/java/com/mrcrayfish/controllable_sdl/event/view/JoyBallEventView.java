@@ -0,0 +1,36 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_JoyBallEvent;
+
+/**
+ * Flyweight view of {@link SDL_JoyBallEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_JOYBALLMOTION SDL_JOYBALLMOTION} events.</p>
+ */
+public final class JoyBallEventView extends EventView<JoyBallEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int BALL_OFFSET = 12;
+    public static final int XREL_OFFSET = 16;
+    public static final int YREL_OFFSET = 18;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The joystick trackball index */
+    public byte getBall() {
+        return buffer.get(offset + BALL_OFFSET);
+    }
+
+    /** The relative motion in the X direction */
+    public short getXrel() {
+        return buffer.getShort(offset + XREL_OFFSET);
+    }
+
+    /** The relative motion in the Y direction */
+    public short getYrel() {
+        return buffer.getShort(offset + YREL_OFFSET);
+    }
+}
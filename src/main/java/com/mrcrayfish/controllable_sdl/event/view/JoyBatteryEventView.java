@@ -0,0 +1,24 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_JoyBatteryEvent;
+
+/**
+ * Flyweight view of {@link SDL_JoyBatteryEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_JOYBATTERYUPDATED SDL_JOYBATTERYUPDATED} events.</p>
+ */
+public final class JoyBatteryEventView extends EventView<JoyBatteryEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int LEVEL_OFFSET = 12;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The joystick battery level, one of the values of {@code SDL_JoystickPowerLevel} */
+    public int getLevel() {
+        return buffer.getInt(offset + LEVEL_OFFSET);
+    }
+}
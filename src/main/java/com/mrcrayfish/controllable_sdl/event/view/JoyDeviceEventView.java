@@ -0,0 +1,19 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_JoyDeviceEvent;
+
+/**
+ * Flyweight view of {@link SDL_JoyDeviceEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_JOYDEVICEADDED SDL_JOYDEVICEADDED}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_JOYDEVICEREMOVED SDL_JOYDEVICEREMOVED} events.</p>
+ */
+public final class JoyDeviceEventView extends EventView<JoyDeviceEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+
+    /** The joystick device index for the ADDED event, instance id for the REMOVED event */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_JoyHatEvent;
+
+/**
+ * Flyweight view of {@link SDL_JoyHatEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_JOYHATMOTION SDL_JOYHATMOTION} events.</p>
+ */
+public final class JoyHatEventView extends EventView<JoyHatEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int HAT_OFFSET = 12;
+    public static final int VALUE_OFFSET = 13;
+
+    /** The joystick instance id */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The joystick hat index */
+    public byte getHat() {
+        return buffer.get(offset + HAT_OFFSET);
+    }
+
+    /** The hat position value, a combination of the {@code SDL_HAT_*} constants */
+    public byte getValue() {
+        return buffer.get(offset + VALUE_OFFSET);
+    }
+}
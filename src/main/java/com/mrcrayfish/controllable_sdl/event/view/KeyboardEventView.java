@@ -0,0 +1,49 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_KeyboardEvent;
+
+/**
+ * Flyweight view of {@link SDL_KeyboardEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_KEYDOWN SDL_KEYDOWN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_KEYUP SDL_KEYUP} events.</p>
+ */
+public final class KeyboardEventView extends EventView<KeyboardEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int STATE_OFFSET = 12;
+    public static final int REPEAT_OFFSET = 13;
+    public static final int SCANCODE_OFFSET = 16;
+    public static final int SYM_OFFSET = 20;
+    public static final int MOD_OFFSET = 24;
+
+    /** The window with keyboard focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** {@code SDL_PRESSED} or {@code SDL_RELEASED} */
+    public byte getState() {
+        return buffer.get(offset + STATE_OFFSET);
+    }
+
+    /** Non-zero if this is a key repeat */
+    public byte getRepeat() {
+        return buffer.get(offset + REPEAT_OFFSET);
+    }
+
+    /** SDL physical key code of the key that was pressed or released */
+    public int getScancode() {
+        return buffer.getInt(offset + SCANCODE_OFFSET);
+    }
+
+    /** SDL virtual key code of the key that was pressed or released */
+    public int getSym() {
+        return buffer.getInt(offset + SYM_OFFSET);
+    }
+
+    /** Current key modifiers */
+    public short getMod() {
+        return buffer.getShort(offset + MOD_OFFSET);
+    }
+}
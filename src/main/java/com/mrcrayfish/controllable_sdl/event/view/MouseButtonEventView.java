@@ -0,0 +1,55 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MouseButtonEvent;
+
+/**
+ * Flyweight view of {@link SDL_MouseButtonEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_MOUSEBUTTONDOWN SDL_MOUSEBUTTONDOWN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_MOUSEBUTTONUP SDL_MOUSEBUTTONUP} events.</p>
+ */
+public final class MouseButtonEventView extends EventView<MouseButtonEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int WHICH_OFFSET = 12;
+    public static final int BUTTON_OFFSET = 16;
+    public static final int STATE_OFFSET = 17;
+    public static final int CLICKS_OFFSET = 18;
+    public static final int X_OFFSET = 20;
+    public static final int Y_OFFSET = 24;
+
+    /** The window with mouse focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The mouse instance id, or {@code SDL_TOUCH_MOUSEID} */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The mouse button index */
+    public byte getButton() {
+        return buffer.get(offset + BUTTON_OFFSET);
+    }
+
+    /** {@code SDL_PRESSED} or {@code SDL_RELEASED} */
+    public byte getState() {
+        return buffer.get(offset + STATE_OFFSET);
+    }
+
+    /** 1 for single-click, 2 for double-click, etc. */
+    public byte getClicks() {
+        return buffer.get(offset + CLICKS_OFFSET);
+    }
+
+    /** X coordinate, relative to window */
+    public int getX() {
+        return buffer.getInt(offset + X_OFFSET);
+    }
+
+    /** Y coordinate, relative to window */
+    public int getY() {
+        return buffer.getInt(offset + Y_OFFSET);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MouseMotionEvent;
+
+/**
+ * Flyweight view of {@link SDL_MouseMotionEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_MOUSEMOTION SDL_MOUSEMOTION} events.</p>
+ */
+public final class MouseMotionEventView extends EventView<MouseMotionEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int WHICH_OFFSET = 12;
+    public static final int STATE_OFFSET = 16;
+    public static final int X_OFFSET = 20;
+    public static final int Y_OFFSET = 24;
+    public static final int XREL_OFFSET = 28;
+    public static final int YREL_OFFSET = 32;
+
+    /** The window with mouse focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The mouse instance id, or {@code SDL_TOUCH_MOUSEID} */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The current button state */
+    public int getState() {
+        return buffer.getInt(offset + STATE_OFFSET);
+    }
+
+    /** X coordinate, relative to window */
+    public int getX() {
+        return buffer.getInt(offset + X_OFFSET);
+    }
+
+    /** Y coordinate, relative to window */
+    public int getY() {
+        return buffer.getInt(offset + Y_OFFSET);
+    }
+
+    /** The relative motion in the X direction */
+    public int getXrel() {
+        return buffer.getInt(offset + XREL_OFFSET);
+    }
+
+    /** The relative motion in the Y direction */
+    public int getYrel() {
+        return buffer.getInt(offset + YREL_OFFSET);
+    }
+}
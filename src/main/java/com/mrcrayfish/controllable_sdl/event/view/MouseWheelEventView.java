@@ -0,0 +1,66 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MouseWheelEvent;
+
+/**
+ * Flyweight view of {@link SDL_MouseWheelEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_MOUSEWHEEL SDL_MOUSEWHEEL} events.</p>
+ */
+public final class MouseWheelEventView extends EventView<MouseWheelEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int WHICH_OFFSET = 12;
+    public static final int X_OFFSET = 16;
+    public static final int Y_OFFSET = 20;
+    public static final int DIRECTION_OFFSET = 24;
+    public static final int PRECISE_X_OFFSET = 28;
+    public static final int PRECISE_Y_OFFSET = 32;
+    public static final int MOUSE_X_OFFSET = 36;
+    public static final int MOUSE_Y_OFFSET = 40;
+
+    /** The window with mouse focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The mouse instance id, or {@code SDL_TOUCH_MOUSEID} */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /** The amount scrolled horizontally, positive to the right and negative to the left */
+    public int getX() {
+        return buffer.getInt(offset + X_OFFSET);
+    }
+
+    /** The amount scrolled vertically, positive away from the user and negative toward the user */
+    public int getY() {
+        return buffer.getInt(offset + Y_OFFSET);
+    }
+
+    /** {@code SDL_MOUSEWHEEL_NORMAL} or {@code SDL_MOUSEWHEEL_FLIPPED} */
+    public int getDirection() {
+        return buffer.getInt(offset + DIRECTION_OFFSET);
+    }
+
+    /** The amount scrolled horizontally, with float precision */
+    public float getPreciseX() {
+        return buffer.getFloat(offset + PRECISE_X_OFFSET);
+    }
+
+    /** The amount scrolled vertically, with float precision */
+    public float getPreciseY() {
+        return buffer.getFloat(offset + PRECISE_Y_OFFSET);
+    }
+
+    /** X coordinate, relative to window */
+    public int getMouseX() {
+        return buffer.getInt(offset + MOUSE_X_OFFSET);
+    }
+
+    /** Y coordinate, relative to window */
+    public int getMouseY() {
+        return buffer.getInt(offset + MOUSE_Y_OFFSET);
+    }
+}
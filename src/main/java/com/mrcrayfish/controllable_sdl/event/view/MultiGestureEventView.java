@@ -0,0 +1,43 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MultiGestureEvent;
+
+/**
+ * Flyweight view of {@link SDL_MultiGestureEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_MULTIGESTURE SDL_MULTIGESTURE} events.</p>
+ */
+public final class MultiGestureEventView extends EventView<MultiGestureEventView> {
+
+    public static final int TOUCH_ID_OFFSET = 8;
+    public static final int D_THETA_OFFSET = 16;
+    public static final int D_DIST_OFFSET = 20;
+    public static final int X_OFFSET = 24;
+    public static final int Y_OFFSET = 28;
+    public static final int NUM_FINGERS_OFFSET = 32;
+
+    /** The touch device id */
+    public long getTouchId() {
+        return buffer.getLong(offset + TOUCH_ID_OFFSET);
+    }
+
+    public float getDTheta() {
+        return buffer.getFloat(offset + D_THETA_OFFSET);
+    }
+
+    public float getDDist() {
+        return buffer.getFloat(offset + D_DIST_OFFSET);
+    }
+
+    public float getX() {
+        return buffer.getFloat(offset + X_OFFSET);
+    }
+
+    public float getY() {
+        return buffer.getFloat(offset + Y_OFFSET);
+    }
+
+    public short getNumFingers() {
+        return buffer.getShort(offset + NUM_FINGERS_OFFSET);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_QuitEvent;
+
+/**
+ * Flyweight view of {@link SDL_QuitEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_QUIT SDL_QUIT} events.</p>
+ */
+public final class QuitEventView extends EventView<QuitEventView> {
+}
@@ -0,0 +1,37 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_SensorEvent;
+
+/**
+ * Flyweight view of {@link SDL_SensorEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_SENSORUPDATE SDL_SENSORUPDATE} events.</p>
+ */
+public final class SensorEventView extends EventView<SensorEventView> {
+
+    public static final int WHICH_OFFSET = 8;
+    public static final int DATA_OFFSET = 12;
+    public static final int TIMESTAMP_US_OFFSET = 40;
+
+    /** The instance ID of the sensor */
+    public int getWhich() {
+        return buffer.getInt(offset + WHICH_OFFSET);
+    }
+
+    /**
+     * Up to 6 values from the sensor - additional values can be queried using SDL_SensorGetData()
+     *
+     * @param component the component of the sensor data, from 0 to 5
+     */
+    public float getData(int component) {
+        if (component < 0 || component >= 6) {
+            throw new IndexOutOfBoundsException("Component: " + component);
+        }
+        return buffer.getFloat(offset + DATA_OFFSET + component * 4);
+    }
+
+    /** The timestamp of the sensor reading in microseconds, if the hardware provides this information */
+    public long getTimestampUs() {
+        return buffer.getLong(offset + TIMESTAMP_US_OFFSET);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_SysWMEvent;
+
+/**
+ * Flyweight view of {@link SDL_SysWMEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_SYSWMEVENT SDL_SYSWMEVENT} events.</p>
+ */
+public final class SysWMEventView extends EventView<SysWMEventView> {
+
+    public static final int MSG_OFFSET = 8;
+
+    /** The address of the driver dependent data, defined in SDL_syswm.h */
+    public long getMsgAddress() {
+        return getAddress(MSG_OFFSET);
+    }
+}
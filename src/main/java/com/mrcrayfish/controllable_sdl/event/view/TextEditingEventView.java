@@ -0,0 +1,36 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_TextEditingEvent;
+
+/**
+ * Flyweight view of {@link SDL_TextEditingEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_TEXTEDITING SDL_TEXTEDITING} events.</p>
+ */
+public final class TextEditingEventView extends EventView<TextEditingEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int TEXT_OFFSET = 12;
+    public static final int START_OFFSET = 44;
+    public static final int LENGTH_OFFSET = 48;
+
+    /** The window with keyboard focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The editing text */
+    public String getText() {
+        return getString(TEXT_OFFSET, 32);
+    }
+
+    /** The start cursor of selected editing text */
+    public int getStart() {
+        return buffer.getInt(offset + START_OFFSET);
+    }
+
+    /** The length of selected editing text */
+    public int getLength() {
+        return buffer.getInt(offset + LENGTH_OFFSET);
+    }
+}
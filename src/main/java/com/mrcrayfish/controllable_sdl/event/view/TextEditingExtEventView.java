@@ -0,0 +1,37 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.sun.jna.Native;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_TextEditingExtEvent;
+
+/**
+ * Flyweight view of {@link SDL_TextEditingExtEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_TEXTEDITING_EXT SDL_TEXTEDITING_EXT} events.</p>
+ */
+public final class TextEditingExtEventView extends EventView<TextEditingExtEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int TEXT_OFFSET = (12 + Native.POINTER_SIZE - 1) / Native.POINTER_SIZE * Native.POINTER_SIZE;
+    public static final int START_OFFSET = TEXT_OFFSET + Native.POINTER_SIZE;
+    public static final int LENGTH_OFFSET = START_OFFSET + 4;
+
+    /** The window with keyboard focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The address of the editing text, which should be freed with SDL_free() */
+    public long getTextAddress() {
+        return getAddress(TEXT_OFFSET);
+    }
+
+    /** The start cursor of selected editing text */
+    public int getStart() {
+        return buffer.getInt(offset + START_OFFSET);
+    }
+
+    /** The length of selected editing text */
+    public int getLength() {
+        return buffer.getInt(offset + LENGTH_OFFSET);
+    }
+}
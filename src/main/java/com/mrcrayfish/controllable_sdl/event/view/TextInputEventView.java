@@ -0,0 +1,24 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_TextInputEvent;
+
+/**
+ * Flyweight view of {@link SDL_TextInputEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_TEXTINPUT SDL_TEXTINPUT} events.</p>
+ */
+public final class TextInputEventView extends EventView<TextInputEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int TEXT_OFFSET = 12;
+
+    /** The window with keyboard focus, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** The input text */
+    public String getText() {
+        return getString(TEXT_OFFSET, 32);
+    }
+}
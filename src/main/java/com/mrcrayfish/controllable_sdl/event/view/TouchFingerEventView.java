@@ -0,0 +1,62 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_TouchFingerEvent;
+
+/**
+ * Flyweight view of {@link SDL_TouchFingerEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_FINGERMOTION SDL_FINGERMOTION}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_FINGERDOWN SDL_FINGERDOWN}
+ *     or {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_FINGERUP SDL_FINGERUP} events.</p>
+ */
+public final class TouchFingerEventView extends EventView<TouchFingerEventView> {
+
+    public static final int TOUCH_ID_OFFSET = 8;
+    public static final int FINGER_ID_OFFSET = 16;
+    public static final int X_OFFSET = 24;
+    public static final int Y_OFFSET = 28;
+    public static final int DX_OFFSET = 32;
+    public static final int DY_OFFSET = 36;
+    public static final int PRESSURE_OFFSET = 40;
+    public static final int WINDOW_ID_OFFSET = 44;
+
+    /** The touch device id */
+    public long getTouchId() {
+        return buffer.getLong(offset + TOUCH_ID_OFFSET);
+    }
+
+    /** The finger id */
+    public long getFingerId() {
+        return buffer.getLong(offset + FINGER_ID_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 */
+    public float getX() {
+        return buffer.getFloat(offset + X_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 */
+    public float getY() {
+        return buffer.getFloat(offset + Y_OFFSET);
+    }
+
+    /** Normalized in the range -1...1 */
+    public float getDx() {
+        return buffer.getFloat(offset + DX_OFFSET);
+    }
+
+    /** Normalized in the range -1...1 */
+    public float getDy() {
+        return buffer.getFloat(offset + DY_OFFSET);
+    }
+
+    /** Normalized in the range 0...1 */
+    public float getPressure() {
+        return buffer.getFloat(offset + PRESSURE_OFFSET);
+    }
+
+    /** The window underneath the finger, if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+}
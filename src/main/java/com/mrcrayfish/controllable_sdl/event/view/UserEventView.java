@@ -0,0 +1,37 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.sun.jna.Native;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_UserEvent;
+
+/**
+ * Flyweight view of {@link SDL_UserEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_USEREVENT SDL_USEREVENT} through {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_LASTEVENT SDL_LASTEVENT}-1 events.</p>
+ */
+public final class UserEventView extends EventView<UserEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int CODE_OFFSET = 12;
+    public static final int DATA1_OFFSET = 16;
+    public static final int DATA2_OFFSET = DATA1_OFFSET + Native.POINTER_SIZE;
+
+    /** The associated window if any */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** User defined event code */
+    public int getCode() {
+        return buffer.getInt(offset + CODE_OFFSET);
+    }
+
+    /** User defined data pointer */
+    public long getData1Address() {
+        return getAddress(DATA1_OFFSET);
+    }
+
+    /** User defined data pointer */
+    public long getData2Address() {
+        return getAddress(DATA2_OFFSET);
+    }
+}
@@ -0,0 +1,36 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_WindowEvent;
+
+/**
+ * Flyweight view of {@link SDL_WindowEvent}.
+ *
+ * <p>Valid for {@link com.mrcrayfish.controllable_sdl.api.event.SDL_EventType#SDL_WINDOWEVENT SDL_WINDOWEVENT} events.</p>
+ */
+public final class WindowEventView extends EventView<WindowEventView> {
+
+    public static final int WINDOW_ID_OFFSET = 8;
+    public static final int EVENT_OFFSET = 12;
+    public static final int DATA1_OFFSET = 16;
+    public static final int DATA2_OFFSET = 20;
+
+    /** The associated window */
+    public int getWindowID() {
+        return buffer.getInt(offset + WINDOW_ID_OFFSET);
+    }
+
+    /** {@link com.mrcrayfish.controllable_sdl.api.video.SDL_WindowEventID SDL_WindowEventID} */
+    public byte getEvent() {
+        return buffer.get(offset + EVENT_OFFSET);
+    }
+
+    /** Event dependent data */
+    public int getData1() {
+        return buffer.getInt(offset + DATA1_OFFSET);
+    }
+
+    /** Event dependent data */
+    public int getData2() {
+        return buffer.getInt(offset + DATA2_OFFSET);
+    }
+}
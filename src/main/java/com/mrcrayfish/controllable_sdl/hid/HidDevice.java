@@ -0,0 +1,29 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A source of raw HID input reports polled by a {@link HidPollingEngine}.
+ *
+ * <p>{@link SdlHidDevice} reads from an {@code SDL_hid_device}. {@link InMemoryHidDevice} serves reports
+ * pushed by a test, so the engine can be exercised without hardware.</p>
+ */
+public interface HidDevice extends AutoCloseable {
+
+    /**
+     * Read a single input report, waiting at most the given time. Called from the reader thread of the device only.
+     *
+     * @param data         a buffer to put the report into. The number of remaining bytes is the maximum number of
+     *                     bytes to read. The position is advanced by the number of bytes read.
+     * @param milliseconds timeout in milliseconds or -1 for blocking wait.
+     * @return the number of bytes read, 0 if no report was available within the timeout, or -1 on error. An error
+     * stops the reader of the device, so it should only be reported once the device is gone.
+     */
+    int read(ByteBuffer data, int milliseconds);
+
+    /**
+     * Release the device. Called once the reader of the device has stopped.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,202 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Polls HID devices on dedicated reader threads and delivers their raw reports to listeners in batches.
+ *
+ * <p>Every device added to the engine gets its own {@link HidReader}, which blocks in
+ * {@link HidDevice#read(java.nio.ByteBuffer, int)} and copies nothing: reports are read straight into a
+ * preallocated ring of the device. The thread owning the engine, typically the game loop, calls
+ * {@link #dispatch()} to hand every new report to the {@link HidReportListener}s, one {@link HidReports}
+ * batch per device.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * HidPollingEngine engine = new HidPollingEngine(256, 50, HidPollingEngine.ThreadMode.PLATFORM);
+ * engine.subscribe(reports -&gt; {
+ *     for (int i = 0; i &lt; reports.size(); i++) {
+ *         parse(reports.getBuffer(), reports.getOffset(i), reports.getLength(i));
+ *     }
+ * });
+ * engine.add(SdlHidDevice.open(path), 64);
+ *
+ * // Every frame
+ * engine.dispatch();
+ * </pre>
+ *
+ * <p>{@link #dispatch()} must only be called from one thread at a time. Devices and listeners may be added
+ * and removed from any thread.</p>
+ */
+public final class HidPollingEngine implements AutoCloseable {
+
+    /**
+     * The kind of thread each reader runs on.
+     */
+    public enum ThreadMode {
+        /**
+         * A daemon platform thread per device.
+         */
+        PLATFORM,
+        /**
+         * A virtual thread per device. Requires Java 21 or newer.
+         */
+        VIRTUAL
+    }
+
+    private static final MethodHandle START_VIRTUAL_THREAD = findStartVirtualThread();
+
+    private final int ringCapacity;
+    private final int pollTimeoutMillis;
+    private final ThreadMode threadMode;
+    private final List<HidReader> readers = new CopyOnWriteArrayList<>();
+    private final List<HidReportListener> listeners = new CopyOnWriteArrayList<>();
+    private final HidReports batch = new HidReports();
+    private int threadCount;
+
+    /**
+     * @param ringCapacity      the number of reports buffered per device, rounded up to the next power of two
+     * @param pollTimeoutMillis how long a reader waits for a report before checking whether it was removed
+     * @param threadMode        the kind of thread the readers run on
+     * @throws UnsupportedOperationException if virtual threads were requested but are not available
+     */
+    public HidPollingEngine(int ringCapacity, int pollTimeoutMillis, ThreadMode threadMode) {
+        if (pollTimeoutMillis < 0) {
+            throw new IllegalArgumentException("The poll timeout must not be negative");
+        }
+        if (threadMode == ThreadMode.VIRTUAL && START_VIRTUAL_THREAD == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        this.ringCapacity = ringCapacity;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.threadMode = threadMode;
+    }
+
+    private static MethodHandle findStartVirtualThread() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Thread.class, "startVirtualThread", MethodType.methodType(Thread.class, Runnable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Start polling a device.
+     *
+     * @param device     the device to poll. It is closed once its reader stops.
+     * @param reportSize the maximum size of a report, including the report number for devices with multiple reports
+     * @return the reader of the device
+     */
+    public HidReader add(HidDevice device, int reportSize) {
+        HidReader reader = new HidReader(device, ringCapacity, reportSize, pollTimeoutMillis);
+        Thread thread;
+        if (threadMode == ThreadMode.VIRTUAL) {
+            try {
+                thread = (Thread) START_VIRTUAL_THREAD.invokeExact((Runnable) reader);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to start a virtual thread", e);
+            }
+        } else {
+            synchronized (this) {
+                thread = new Thread(reader, "HID Reader #" + threadCount++);
+            }
+            thread.setDaemon(true);
+            thread.start();
+        }
+        reader.start(thread);
+        readers.add(reader);
+        return reader;
+    }
+
+    /**
+     * Stop polling a device and wait for its reader to close it. Reports not dispatched yet are discarded.
+     *
+     * @param reader a reader returned by {@link #add(HidDevice, int)}
+     */
+    public void remove(HidReader reader) throws InterruptedException {
+        if (readers.remove(reader)) {
+            reader.stop();
+            reader.join();
+        }
+    }
+
+    public void subscribe(HidReportListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(HidReportListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Hand the reports read since the last call to the listeners. Readers that stopped because their device failed
+     * are removed once their last reports were dispatched.
+     *
+     * @return the number of reports dispatched
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        for (HidReader reader : readers) {
+            HidReportRing ring = reader.getRing();
+            // Checked before the ring, since a stopped reader never publishes again
+            boolean stopped = !reader.isRunning();
+            int count = ring.available();
+            if (count == 0) {
+                if (stopped) {
+                    readers.remove(reader);
+                }
+                continue;
+            }
+            long first = ring.head();
+            long now = System.nanoTime();
+            batch.set(reader, first, count);
+            for (HidReportListener listener : listeners) {
+                listener.onReports(batch);
+            }
+            long latencySum = 0;
+            long maxLatency = 0;
+            for (int i = 0; i < count; i++) {
+                long latency = now - ring.readTimeOf(first + i);
+                latencySum += latency;
+                maxLatency = Math.max(maxLatency, latency);
+            }
+            reader.recordDispatch(count, latencySum, maxLatency);
+            ring.advance(count);
+            dispatched += count;
+        }
+        return dispatched;
+    }
+
+    /**
+     * @return the readers of the devices currently polled
+     */
+    public List<HidReader> getReaders() {
+        return List.copyOf(readers);
+    }
+
+    /**
+     * Stop polling every device and wait for the devices to be closed.
+     */
+    @Override
+    public void close() {
+        for (HidReader reader : readers) {
+            reader.stop();
+        }
+        boolean interrupted = false;
+        for (HidReader reader : readers) {
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        readers.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Polls a single {@link HidDevice} on its own thread and publishes the reports into the ring of the device.
+ * Created by {@link HidPollingEngine#add(HidDevice, int)}.
+ *
+ * <p>When the ring is full the reader keeps draining the device and drops the new reports, so the
+ * device never holds stale input. The counters may be read from any thread.</p>
+ */
+public final class HidReader implements Runnable {
+
+    private final HidDevice device;
+    private final HidReportRing ring;
+    private final int pollTimeoutMillis;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean running = true;
+    private volatile boolean failed;
+    private volatile Thread thread;
+
+    // Written by the reader thread only
+    private volatile long readCount;
+    private volatile long droppedCount;
+
+    // Written by the dispatching thread only
+    private volatile long dispatchedCount;
+    private volatile long latencySumNanos;
+    private volatile long maxLatencyNanos;
+
+    HidReader(HidDevice device, int ringCapacity, int reportSize, int pollTimeoutMillis) {
+        this.device = device;
+        this.ring = new HidReportRing(ringCapacity, reportSize);
+        this.pollTimeoutMillis = pollTimeoutMillis;
+    }
+
+    void start(Thread thread) {
+        this.thread = thread;
+    }
+
+    @Override
+    public void run() {
+        ByteBuffer discard = ByteBuffer.allocateDirect(ring.getSlotSize()).order(ByteOrder.nativeOrder());
+        try {
+            while (running) {
+                ByteBuffer slot = ring.claim();
+                int result = device.read(slot != null ? slot : discard.clear(), pollTimeoutMillis);
+                if (result < 0) {
+                    failed = true;
+                    break;
+                }
+                if (result == 0) {
+                    continue;
+                }
+                readCount++;
+                if (slot != null) {
+                    ring.publish(result, System.nanoTime());
+                } else {
+                    droppedCount++;
+                }
+            }
+        } finally {
+            running = false;
+            device.close();
+        }
+    }
+
+    void recordDispatch(int count, long latencySum, long maxLatency) {
+        dispatchedCount += count;
+        latencySumNanos += latencySum;
+        if (maxLatency > maxLatencyNanos) {
+            maxLatencyNanos = maxLatency;
+        }
+    }
+
+    /**
+     * Ask the reader to stop. The device is closed once the current read returns.
+     */
+    void stop() {
+        running = false;
+    }
+
+    void join() throws InterruptedException {
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    HidReportRing getRing() {
+        return ring;
+    }
+
+    /**
+     * @return the polled device
+     */
+    public HidDevice getDevice() {
+        return device;
+    }
+
+    /**
+     * @return true until the reader was removed or the device failed
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return true if the reader stopped because a read failed, usually because the device was removed
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * @return the number of reports read from the device, including dropped reports
+     */
+    public long getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * @return the number of reports dropped because the ring was full
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return the number of reports handed to the listeners
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount;
+    }
+
+    /**
+     * @return the average number of reports read per second since the reader was created
+     */
+    public double getReportRate() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed > 0 ? readCount * 1_000_000_000.0 / elapsed : 0;
+    }
+
+    /**
+     * @return the average time between reading a report and dispatching it, in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        long dispatched = dispatchedCount;
+        return dispatched > 0 ? latencySumNanos / dispatched : 0;
+    }
+
+    /**
+     * @return the longest time between reading a report and dispatching it, in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+}
@@ -0,0 +1,15 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+/**
+ * Receives the reports read by a {@link HidPollingEngine}.
+ */
+@FunctionalInterface
+public interface HidReportListener {
+
+    /**
+     * Called on the thread calling {@link HidPollingEngine#dispatch()}, once per device with new reports.
+     *
+     * @param reports the new reports of a device, valid only for the duration of the call
+     */
+    void onReports(HidReports reports);
+}
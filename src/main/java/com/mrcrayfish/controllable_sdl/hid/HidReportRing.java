@@ -0,0 +1,124 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A single-producer/single-consumer ring of fixed-size report slots in a direct buffer, written by the reader
+ * thread of a device and read by the thread dispatching the reports.
+ */
+final class HidReportRing {
+
+    private final ByteBuffer memory;
+    // Created once, so switching between devices while dispatching does not allocate
+    private final ByteBuffer readOnlyMemory;
+    private final ByteBuffer[] slots;
+    private final int[] lengths;
+    private final long[] readTimes;
+    private final int slotSize;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Producer-local copy of head, refreshed only when the ring looks full
+    private long cachedHead;
+
+    HidReportRing(int capacity, int slotSize) {
+        if (capacity < 1 || capacity > 1 << 20) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 20));
+        }
+        if (slotSize < 1) {
+            throw new IllegalArgumentException("The report size must be positive: " + slotSize);
+        }
+        int highest = Integer.highestOneBit(capacity);
+        this.capacity = highest == capacity ? capacity : highest << 1;
+        this.mask = this.capacity - 1;
+        this.slotSize = slotSize;
+        this.memory = ByteBuffer.allocateDirect(this.capacity * slotSize).order(ByteOrder.nativeOrder());
+        this.readOnlyMemory = memory.asReadOnlyBuffer().order(ByteOrder.nativeOrder());
+        this.slots = new ByteBuffer[this.capacity];
+        for (int i = 0; i < this.capacity; i++) {
+            this.slots[i] = memory.duplicate().position(i * slotSize).limit((i + 1) * slotSize).slice();
+        }
+        this.lengths = new int[this.capacity];
+        this.readTimes = new long[this.capacity];
+    }
+
+    /**
+     * Producer thread only.
+     *
+     * @return the cleared buffer of the next free slot, or null if the ring is full
+     */
+    ByteBuffer claim() {
+        long currentTail = tail.get();
+        if (currentTail - cachedHead >= capacity) {
+            cachedHead = head.getAcquire();
+            if (currentTail - cachedHead >= capacity) {
+                return null;
+            }
+        }
+        return slots[(int) (currentTail & mask)].clear();
+    }
+
+    /**
+     * Publish the slot returned by the last {@link #claim()}. Producer thread only.
+     */
+    void publish(int length, long readTimeNanos) {
+        long currentTail = tail.get();
+        int index = (int) (currentTail & mask);
+        lengths[index] = length;
+        readTimes[index] = readTimeNanos;
+        tail.setRelease(currentTail + 1);
+    }
+
+    /**
+     * @return the sequence of the oldest unread report. Consumer thread only.
+     */
+    long head() {
+        return head.get();
+    }
+
+    /**
+     * @return the number of published reports not read yet. Consumer thread only.
+     */
+    int available() {
+        return (int) (tail.getAcquire() - head.get());
+    }
+
+    /**
+     * Release the given number of reports to the producer. Consumer thread only.
+     */
+    void advance(int count) {
+        head.setRelease(head.get() + count);
+    }
+
+    int offsetOf(long sequence) {
+        return (int) (sequence & mask) * slotSize;
+    }
+
+    int lengthOf(long sequence) {
+        return lengths[(int) (sequence & mask)];
+    }
+
+    long readTimeOf(long sequence) {
+        return readTimes[(int) (sequence & mask)];
+    }
+
+    /**
+     * @return a read-only, native-ordered view of the memory of the ring, shared by every caller
+     */
+    ByteBuffer getReadOnlyMemory() {
+        return readOnlyMemory;
+    }
+
+    int getSlotSize() {
+        return slotSize;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A batch of raw reports of one device, handed to a {@link HidReportListener} by
+ * {@link HidPollingEngine#dispatch()}.
+ *
+ * <p>The reports stay in the ring of the device, so the batch is only valid for the duration of the
+ * listener call. Report {@code i} occupies {@link #getLength(int)} bytes starting at {@link #getOffset(int)}
+ * in {@link #getBuffer()}.</p>
+ */
+public final class HidReports {
+
+    private HidReader reader;
+    private HidReportRing ring;
+    private ByteBuffer buffer;
+    private long first;
+    private int size;
+
+    HidReports() {
+    }
+
+    void set(HidReader reader, long first, int size) {
+        if (this.reader != reader) {
+            this.reader = reader;
+            this.ring = reader.getRing();
+            this.buffer = ring.getReadOnlyMemory();
+        }
+        this.first = first;
+        this.size = size;
+    }
+
+    /**
+     * @return the reader of the device the reports were read from
+     */
+    public HidReader getReader() {
+        return reader;
+    }
+
+    /**
+     * @return the number of reports in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a read-only, native-ordered buffer holding the reports. Use absolute reads only.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the byte offset of the report within {@link #getBuffer()}
+     */
+    public int getOffset(int index) {
+        return ring.offsetOf(first + checkIndex(index));
+    }
+
+    /**
+     * @return the number of bytes of the report
+     */
+    public int getLength(int index) {
+        return ring.lengthOf(first + checkIndex(index));
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the report was read from the device
+     */
+    public long getReadTimeNanos(int index) {
+        return ring.readTimeOf(first + checkIndex(index));
+    }
+
+    /**
+     * Copy a report into an array.
+     *
+     * @return the number of bytes copied
+     */
+    public int copy(int index, byte[] dest) {
+        int length = Math.min(getLength(index), dest.length);
+        buffer.get(getOffset(index), dest, 0, length);
+        return length;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+}
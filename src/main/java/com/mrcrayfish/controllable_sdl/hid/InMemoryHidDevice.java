@@ -0,0 +1,73 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link HidDevice} serving reports pushed from Java, so code built on a {@link HidPollingEngine} can be tested
+ * without hardware.
+ *
+ * <p>Reports are returned in the order they were pushed. {@link #disconnect()} makes the next read fail, as a
+ * removed device would.</p>
+ */
+public final class InMemoryHidDevice implements HidDevice {
+
+    private static final byte[] DISCONNECTED = new byte[0];
+
+    private final LinkedBlockingQueue<byte[]> reports = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    /**
+     * Queue a report to be returned by a later read.
+     */
+    public void push(byte[] report) {
+        reports.add(report.clone());
+    }
+
+    /**
+     * Make the read following the already queued reports fail.
+     */
+    public void disconnect() {
+        reports.add(DISCONNECTED);
+    }
+
+    /**
+     * @return the number of reports not read yet
+     */
+    public int getPendingCount() {
+        return reports.size();
+    }
+
+    /**
+     * @return true once the device was closed by its reader
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int read(ByteBuffer data, int milliseconds) {
+        byte[] report;
+        try {
+            report = milliseconds < 0 ? reports.take() : reports.poll(milliseconds, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        if (report == null) {
+            return 0;
+        }
+        if (report == DISCONNECTED) {
+            return -1;
+        }
+        int length = Math.min(report.length, data.remaining());
+        data.put(report, 0, length);
+        return length;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.nio.ByteBuffer;
+import com.mrcrayfish.controllable_sdl.api.hidapi.SDL_hid_device;
+import com.mrcrayfish.controllable_sdl.api.hidapi.SdlHidApi;
+
+/**
+ * A {@link HidDevice} backed by an {@link SDL_hid_device}. Reports are read with
+ * {@link SdlHidApi#SDL_hid_read_timeout(SDL_hid_device, ByteBuffer, int)} straight into the report ring
+ * of the engine.
+ */
+public final class SdlHidDevice implements HidDevice {
+
+    private final SDL_hid_device device;
+
+    /**
+     * @param device a device handle returned from {@code SDL_hid_open()} or {@code SDL_hid_open_path()}. It is closed
+     *               together with this device.
+     */
+    public SdlHidDevice(SDL_hid_device device) {
+        if (device == null) {
+            throw new IllegalArgumentException("The device must not be null");
+        }
+        this.device = device;
+    }
+
+    /**
+     * Open the device at the given platform-specific path.
+     *
+     * @param path the path of the device, as found in {@code SDL_hid_device_info.path}
+     * @return the opened device, or null if it could not be opened; call SDL_GetError() for more information.
+     */
+    public static SdlHidDevice open(String path) {
+        SDL_hid_device device = SdlHidApi.SDL_hid_open_path(path, 0);
+        return device != null ? new SdlHidDevice(device) : null;
+    }
+
+    public SDL_hid_device getDevice() {
+        return device;
+    }
+
+    @Override
+    public int read(ByteBuffer data, int milliseconds) {
+        return SdlHidApi.SDL_hid_read_timeout(device, data, milliseconds);
+    }
+
+    @Override
+    public void close() {
+        SdlHidApi.SDL_hid_close(device);
+    }
+}
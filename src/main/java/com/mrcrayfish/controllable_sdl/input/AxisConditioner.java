@@ -0,0 +1,339 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTY;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_RIGHTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_RIGHTY;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERLEFT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERRIGHT;
+
+/**
+ * Applies calibration, deadzones, response curves and anti-deadzones to the axes of every connected game controller
+ * in one pass per frame.
+ *
+ * <p>Axes are passed as a block of {@code short} values, {@code SDL_CONTROLLER_AXIS_MAX} per pad in the order of
+ * {@code SDL_GameControllerAxis}, as read from {@code SDL_GameControllerGetAxis} or a
+ * {@link com.mrcrayfish.controllable_sdl.state.ControllerState ControllerState}. Each pad goes through:</p>
+ * <ol>
+ *     <li>the calibration offsets of its device, subtracted from the raw values. Offsets are keyed by the GUID of the
+ *     device with {@link #setCalibration(String, short[])} and attached to a pad with {@link #bind(int, String)}.</li>
+ *     <li>the deadzone: values within the inner deadzone become 0 and values past the outer one saturate. A
+ *     {@link DeadzoneShape#RADIAL radial} deadzone applies to the length of each stick, keeping its direction, and an
+ *     {@link DeadzoneShape#AXIAL axial} one to each axis on its own. Triggers always use an axial deadzone.</li>
+ *     <li>the response curve, mapping the magnitude left through a {@link ResponseCurve} lookup table</li>
+ *     <li>the anti-deadzone, raising any value outside the deadzone to at least the given magnitude, to cancel out a
+ *     deadzone applied again further on</li>
+ * </ol>
+ *
+ * <p>The pads are processed together: each stage is a loop over one axis of every pad, so the work is done on
+ * contiguous float arrays. On JDK 22 or newer, with {@code --add-modules jdk.incubator.vector}, these loops use the
+ * Vector API and process several pads per instruction. Otherwise plain loops are used, which can be forced by setting
+ * the {@value #KERNELS_PROPERTY} system property to {@code scalar}. Both give the same results.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>{@code
+ * AxisConditioner conditioner = new AxisConditioner(4);
+ * conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.RADIAL, 0.1f, 0.95f);
+ * conditioner.setStickCurve(ResponseCurve.power(2));
+ * conditioner.bind(0, deviceInfo.getGuidString());
+ * // Each frame
+ * conditioner.process(axes, axes, padCount);
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class AxisConditioner {
+
+    /**
+     * The system property choosing the kernels, either {@code vector} (the default where supported) or
+     * {@code scalar}. It is read once, when the first conditioner processes its axes.
+     */
+    public static final String KERNELS_PROPERTY = "controllable_sdl.kernels";
+
+    private static final float AXIS_SCALE = Short.MAX_VALUE;
+
+    // The indices produced by the vector kernels are gathered through this array, sized for the widest vectors
+    private static final int MAX_LANES = 64;
+
+    /**
+     * How the deadzone of a stick is measured.
+     */
+    public enum DeadzoneShape {
+        /**
+         * Each axis of the stick has its own deadzone. Aiming along an axis is easier, but small diagonal movements
+         * snap to the axes.
+         */
+        AXIAL,
+        /**
+         * The deadzone is a circle around the center of the stick, and the direction of the stick is preserved.
+         */
+        RADIAL
+    }
+
+    private final int maxPads;
+    private final short[] offsets;
+    private final String[] boundGuids;
+    private final Map<String, short[]> calibrations = new HashMap<>();
+
+    private final float[] leftX;
+    private final float[] leftY;
+    private final float[] rightX;
+    private final float[] rightY;
+    private final float[] leftTrigger;
+    private final float[] rightTrigger;
+    private final float[] before;
+    private final float[] after;
+    private final int[] scratch = new int[MAX_LANES];
+
+    private DeadzoneShape stickShape = DeadzoneShape.RADIAL;
+    private float stickInner;
+    private float stickOuter = 1f;
+    private float stickAnti;
+    private ResponseCurve stickCurve = ResponseCurve.LINEAR;
+    private float triggerInner;
+    private float triggerOuter = 1f;
+    private float triggerAnti;
+    private ResponseCurve triggerCurve = ResponseCurve.LINEAR;
+
+    /**
+     * Create a conditioner without calibration, deadzones, curves or anti-deadzones until it is configured.
+     *
+     * @param maxPads the maximum number of pads processed at once
+     */
+    public AxisConditioner(int maxPads) {
+        if (maxPads < 1) {
+            throw new IllegalArgumentException("At least one pad must be processed");
+        }
+        this.maxPads = maxPads;
+        this.offsets = new short[maxPads * SDL_CONTROLLER_AXIS_MAX];
+        this.boundGuids = new String[maxPads];
+        this.leftX = new float[maxPads];
+        this.leftY = new float[maxPads];
+        this.rightX = new float[maxPads];
+        this.rightY = new float[maxPads];
+        this.leftTrigger = new float[maxPads];
+        this.rightTrigger = new float[maxPads];
+        this.before = new float[maxPads];
+        this.after = new float[maxPads];
+    }
+
+    /**
+     * @return the name of the kernels in use, {@code "scalar"} or {@code "vector"}
+     */
+    public static String getKernelsName() {
+        return AxisKernels.getName();
+    }
+
+    /**
+     * Set the deadzone of both sticks.
+     *
+     * @param shape the shape of the deadzone
+     * @param inner the magnitude below which a stick reads 0, from 0 to 1
+     * @param outer the magnitude above which a stick reads 1, greater than {@code inner} and at most 1
+     */
+    public void setStickDeadzone(DeadzoneShape shape, float inner, float outer) {
+        checkDeadzone(inner, outer);
+        this.stickShape = shape;
+        this.stickInner = inner;
+        this.stickOuter = outer;
+    }
+
+    /**
+     * @param anti the smallest magnitude a stick reads outside its deadzone, from 0 (none) to below 1
+     */
+    public void setStickAntiDeadzone(float anti) {
+        checkAntiDeadzone(anti);
+        this.stickAnti = anti;
+    }
+
+    public void setStickCurve(ResponseCurve curve) {
+        this.stickCurve = curve;
+    }
+
+    /**
+     * Set the deadzone of both triggers.
+     *
+     * @param inner the value below which a trigger reads 0, from 0 to 1
+     * @param outer the value above which a trigger reads 1, greater than {@code inner} and at most 1
+     */
+    public void setTriggerDeadzone(float inner, float outer) {
+        checkDeadzone(inner, outer);
+        this.triggerInner = inner;
+        this.triggerOuter = outer;
+    }
+
+    /**
+     * @param anti the smallest value a trigger reads outside its deadzone, from 0 (none) to below 1
+     */
+    public void setTriggerAntiDeadzone(float anti) {
+        checkAntiDeadzone(anti);
+        this.triggerAnti = anti;
+    }
+
+    public void setTriggerCurve(ResponseCurve curve) {
+        this.triggerCurve = curve;
+    }
+
+    private static void checkDeadzone(float inner, float outer) {
+        if (!(inner >= 0f && inner < outer && outer <= 1f)) {
+            throw new IllegalArgumentException("Invalid deadzone: " + inner + " to " + outer);
+        }
+    }
+
+    private static void checkAntiDeadzone(float anti) {
+        if (!(anti >= 0f && anti < 1f)) {
+            throw new IllegalArgumentException("Invalid anti-deadzone: " + anti);
+        }
+    }
+
+    /**
+     * Set the calibration of a device, applied to every pad bound to its GUID.
+     *
+     * @param guid    the GUID of the device, as formatted by {@code SDL_JoystickGetGUIDString}
+     * @param offsets the value each axis reads at rest, indexed by {@code SDL_GameControllerAxis}
+     */
+    public void setCalibration(String guid, short[] offsets) {
+        if (offsets.length != SDL_CONTROLLER_AXIS_MAX) {
+            throw new IllegalArgumentException("Expected " + SDL_CONTROLLER_AXIS_MAX + " offsets, got " + offsets.length);
+        }
+        calibrations.put(guid, offsets.clone());
+        rebind(guid);
+    }
+
+    /**
+     * Remove the calibration of a device.
+     */
+    public void removeCalibration(String guid) {
+        if (calibrations.remove(guid) != null) {
+            rebind(guid);
+        }
+    }
+
+    /**
+     * @return a copy of the calibration offsets of a device, or null if it has none
+     */
+    public short[] getCalibration(String guid) {
+        short[] calibration = calibrations.get(guid);
+        return calibration != null ? calibration.clone() : null;
+    }
+
+    /**
+     * Attach the calibration of a device to a pad, typically when the device is connected.
+     *
+     * @param pad  the index of the pad in the axis blocks
+     * @param guid the GUID of the device, or null to process the pad without calibration
+     */
+    public void bind(int pad, String guid) {
+        if (pad < 0 || pad >= maxPads) {
+            throw new IndexOutOfBoundsException("Pad: " + pad + ", Max: " + maxPads);
+        }
+        boundGuids[pad] = guid;
+        short[] calibration = guid != null ? calibrations.get(guid) : null;
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            offsets[pad * SDL_CONTROLLER_AXIS_MAX + axis] = calibration != null ? calibration[axis] : 0;
+        }
+    }
+
+    private void rebind(String guid) {
+        for (int pad = 0; pad < maxPads; pad++) {
+            if (guid.equals(boundGuids[pad])) {
+                bind(pad, guid);
+            }
+        }
+    }
+
+    /**
+     * Condition the axes of a number of pads.
+     *
+     * @param in   the raw axes, {@code SDL_CONTROLLER_AXIS_MAX} values per pad
+     * @param out  where the conditioned axes are written, which may be {@code in}
+     * @param pads the number of pads, at most {@code maxPads}
+     */
+    public void process(short[] in, short[] out, int pads) {
+        if (pads < 0 || pads > maxPads) {
+            throw new IllegalArgumentException("Invalid pad count: " + pads);
+        }
+        int length = pads * SDL_CONTROLLER_AXIS_MAX;
+        if (in.length < length || out.length < length) {
+            throw new IllegalArgumentException("The axis blocks must hold " + length + " values");
+        }
+
+        for (int pad = 0; pad < pads; pad++) {
+            int base = pad * SDL_CONTROLLER_AXIS_MAX;
+            leftX[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_LEFTX);
+            leftY[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_LEFTY);
+            rightX[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_RIGHTX);
+            rightY[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_RIGHTY);
+            leftTrigger[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_TRIGGERLEFT);
+            rightTrigger[pad] = normalize(in, base, SDL_CONTROLLER_AXIS_TRIGGERRIGHT);
+        }
+
+        float stickInvRange = 1f / (stickOuter - stickInner);
+        if (stickShape == DeadzoneShape.RADIAL) {
+            radial(leftX, leftY, pads, stickInvRange);
+            radial(rightX, rightY, pads, stickInvRange);
+        } else {
+            axial(leftX, pads, stickInner, stickInvRange, stickCurve, stickAnti);
+            axial(leftY, pads, stickInner, stickInvRange, stickCurve, stickAnti);
+            axial(rightX, pads, stickInner, stickInvRange, stickCurve, stickAnti);
+            axial(rightY, pads, stickInner, stickInvRange, stickCurve, stickAnti);
+        }
+        float triggerInvRange = 1f / (triggerOuter - triggerInner);
+        axial(leftTrigger, pads, triggerInner, triggerInvRange, triggerCurve, triggerAnti);
+        axial(rightTrigger, pads, triggerInner, triggerInvRange, triggerCurve, triggerAnti);
+
+        for (int pad = 0; pad < pads; pad++) {
+            int base = pad * SDL_CONTROLLER_AXIS_MAX;
+            out[base + SDL_CONTROLLER_AXIS_LEFTX] = denormalize(leftX[pad]);
+            out[base + SDL_CONTROLLER_AXIS_LEFTY] = denormalize(leftY[pad]);
+            out[base + SDL_CONTROLLER_AXIS_RIGHTX] = denormalize(rightX[pad]);
+            out[base + SDL_CONTROLLER_AXIS_RIGHTY] = denormalize(rightY[pad]);
+            out[base + SDL_CONTROLLER_AXIS_TRIGGERLEFT] = denormalize(leftTrigger[pad]);
+            out[base + SDL_CONTROLLER_AXIS_TRIGGERRIGHT] = denormalize(rightTrigger[pad]);
+        }
+    }
+
+    private void radial(float[] x, float[] y, int pads, float invRange) {
+        AxisKernels.magnitude(x, y, before, pads);
+        shape(pads, stickInner, invRange, stickCurve, stickAnti);
+        AxisKernels.rescale(x, before, after, pads);
+        AxisKernels.rescale(y, before, after, pads);
+    }
+
+    private void axial(float[] v, int pads, float inner, float invRange, ResponseCurve curve, float anti) {
+        AxisKernels.abs(v, before, pads);
+        shape(pads, inner, invRange, curve, anti);
+        AxisKernels.rescale(v, before, after, pads);
+    }
+
+    /**
+     * Map the magnitudes in {@code before} through the deadzone, curve and anti-deadzone into {@code after}.
+     */
+    private void shape(int pads, float inner, float invRange, ResponseCurve curve, float anti) {
+        System.arraycopy(before, 0, after, 0, pads);
+        AxisKernels.deadzone(after, pads, inner, invRange);
+        if (curve != ResponseCurve.LINEAR) {
+            AxisKernels.curve(after, pads, curve.table, scratch);
+        }
+        if (anti > 0f) {
+            AxisKernels.lift(after, pads, anti);
+        }
+    }
+
+    private float normalize(short[] in, int base, int axis) {
+        int value = in[base + axis] - offsets[base + axis];
+        return Math.max(-1f, Math.min(value / AXIS_SCALE, 1f));
+    }
+
+    private static short denormalize(float value) {
+        return (short) Math.round(value * AXIS_SCALE);
+    }
+
+    public int getMaxPads() {
+        return maxPads;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+/**
+ * The stages of {@link AxisConditioner}, each a loop over the axes of every pad held in a float array.
+ *
+ * <p>This version runs the scalar loops of {@link ScalarAxisKernels}. The JAR is a multi-release JAR, and on JDK 22 or
+ * newer this class is replaced by a version running them with the {@code jdk.incubator.vector} API when that module
+ * is added to the JVM.</p>
+ */
+final class AxisKernels {
+
+    private AxisKernels() {
+    }
+
+    /**
+     * @return the name of the kernels in use, {@code "scalar"} or {@code "vector"}
+     */
+    static String getName() {
+        return "scalar";
+    }
+
+    static void magnitude(float[] x, float[] y, float[] out, int count) {
+        ScalarAxisKernels.magnitude(x, y, out, 0, count);
+    }
+
+    static void abs(float[] v, float[] out, int count) {
+        ScalarAxisKernels.abs(v, out, 0, count);
+    }
+
+    static void deadzone(float[] m, int count, float inner, float invRange) {
+        ScalarAxisKernels.deadzone(m, 0, count, inner, invRange);
+    }
+
+    static void lift(float[] s, int count, float anti) {
+        ScalarAxisKernels.lift(s, 0, count, anti);
+    }
+
+    static void curve(float[] s, int count, float[] lut, int[] scratch) {
+        ScalarAxisKernels.curve(s, 0, count, lut);
+    }
+
+    static void rescale(float[] v, float[] before, float[] after, int count) {
+        ScalarAxisKernels.rescale(v, before, after, 0, count);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A response curve for the magnitude of an axis, sampled into a lookup table.
+ *
+ * <p>The curve maps the magnitude left after the deadzone, from 0 to 1, to the magnitude reported. It is evaluated by
+ * linear interpolation between {@value #STEPS} + 1 samples, so any function costs the same per axis, and the samples
+ * are shared by the scalar and vector kernels of an {@link AxisConditioner}.</p>
+ */
+public final class ResponseCurve {
+
+    /**
+     * The number of intervals the curve is sampled at.
+     */
+    public static final int STEPS = 256;
+
+    /**
+     * The identity curve.
+     */
+    public static final ResponseCurve LINEAR = new ResponseCurve(x -> x);
+
+    // STEPS + 1 samples and a copy of the last one, so interpolating at 1 reads within the table
+    final float[] table = new float[STEPS + 2];
+
+    private ResponseCurve(DoubleUnaryOperator function) {
+        for (int i = 0; i <= STEPS; i++) {
+            double value = function.applyAsDouble((double) i / STEPS);
+            if (!(value >= 0 && value <= 1)) {
+                throw new IllegalArgumentException("The curve must map [0, 1] to [0, 1], but maps " + (double) i / STEPS + " to " + value);
+            }
+            table[i] = (float) value;
+        }
+        table[STEPS + 1] = table[STEPS];
+    }
+
+    /**
+     * Sample a curve.
+     *
+     * @param function a function mapping [0, 1] to [0, 1], usually with {@code f(0) = 0} and {@code f(1) = 1}
+     * @return the curve
+     */
+    public static ResponseCurve of(DoubleUnaryOperator function) {
+        return new ResponseCurve(function);
+    }
+
+    /**
+     * A power curve, {@code x^exponent}. Exponents above 1 give finer control near the center, below 1 a faster
+     * response.
+     */
+    public static ResponseCurve power(double exponent) {
+        if (!(exponent > 0)) {
+            throw new IllegalArgumentException("The exponent must be positive");
+        }
+        return new ResponseCurve(x -> Math.pow(x, exponent));
+    }
+
+    /**
+     * @param magnitude a magnitude from 0 to 1
+     * @return the magnitude mapped through the curve
+     */
+    public float apply(float magnitude) {
+        float position = Math.max(0f, Math.min(magnitude, 1f)) * STEPS;
+        int index = (int) position;
+        float a = table[index];
+        return (table[index + 1] - a) * (position - index) + a;
+    }
+}
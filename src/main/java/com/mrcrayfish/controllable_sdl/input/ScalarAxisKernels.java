@@ -0,0 +1,58 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+/**
+ * The scalar loops of the axis conditioning stages, over the range {@code [from, to)} of each array. They are used by
+ * {@link AxisKernels} when the Vector API is not available, and for the lanes left after the last full vector.
+ *
+ * <p>Every value is an axis normalized to [-1, 1]. The operations are written in the same order as the vector
+ * versions, so both produce the same results.</p>
+ */
+final class ScalarAxisKernels {
+
+    private ScalarAxisKernels() {
+    }
+
+    static void magnitude(float[] x, float[] y, float[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+        }
+    }
+
+    static void abs(float[] v, float[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = Math.abs(v[i]);
+        }
+    }
+
+    static void deadzone(float[] m, int from, int to, float inner, float invRange) {
+        for (int i = from; i < to; i++) {
+            float value = m[i];
+            m[i] = value <= inner ? 0f : Math.min((value - inner) * invRange, 1f);
+        }
+    }
+
+    static void lift(float[] s, int from, int to, float anti) {
+        float gain = 1f - anti;
+        for (int i = from; i < to; i++) {
+            float value = s[i];
+            s[i] = value <= 0f ? 0f : value * gain + anti;
+        }
+    }
+
+    static void curve(float[] s, int from, int to, float[] lut) {
+        float steps = lut.length - 2;
+        for (int i = from; i < to; i++) {
+            float position = s[i] * steps;
+            int index = (int) position;
+            float fraction = position - index;
+            float a = lut[index];
+            s[i] = (lut[index + 1] - a) * fraction + a;
+        }
+    }
+
+    static void rescale(float[] v, float[] before, float[] after, int from, int to) {
+        for (int i = from; i < to; i++) {
+            v[i] = before[i] <= 0f ? 0f : v[i] * after[i] / before[i];
+        }
+    }
+}
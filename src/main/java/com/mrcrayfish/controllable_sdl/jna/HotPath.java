@@ -0,0 +1,52 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Texture;
+import com.sun.jna.Pointer;
+
+/**
+ * The backend of the SDL functions called often enough for the cost of the native call itself to matter, such as
+ * {@code SDL_GameControllerGetAxis} and {@code SDL_PeepEvents}. The binding classes delegate these functions here,
+ * so their signatures stay the same whichever backend is used.
+ *
+ * <p>This version calls SDL through JNA. The JAR is a multi-release JAR, and on JDK 22 or newer this class is replaced
+ * by a version binding the same functions with {@code java.lang.foreign} downcall handles, which falls back to JNA
+ * if the foreign function API cannot be used. The JNA backend can also be forced by setting the
+ * {@value #BACKEND_PROPERTY} system property to {@code jna}.</p>
+ */
+public final class HotPath {
+
+    /**
+     * The system property choosing the backend, either {@code ffm} (the default where supported) or {@code jna}.
+     */
+    public static final String BACKEND_PROPERTY = "controllable_sdl.backend";
+
+    private HotPath() {
+    }
+
+    /**
+     * @return the name of the backend in use, {@code "jna"} or {@code "ffm"}
+     */
+    public static String getBackendName() {
+        return "jna";
+    }
+
+    public static short SDL_GameControllerGetAxis(SDL_GameController gamecontroller, int axis) {
+        return HotPathJna.SDL_GameControllerGetAxis(gamecontroller, axis);
+    }
+
+    public static byte SDL_JoystickGetButton(SDL_Joystick joystick, int button) {
+        return HotPathJna.SDL_JoystickGetButton(joystick, button);
+    }
+
+    public static int SDL_PeepEvents(Pointer events, int numEvents, int action, int minType, int maxType) {
+        return HotPathJna.SDL_PeepEvents(events, numEvents, action, minType, maxType);
+    }
+
+    public static int SDL_RenderGeometry(SDL_Renderer renderer, SDL_Texture texture, Pointer vertices, int numVertices,
+                                         Pointer indices, int numIndices) {
+        return HotPathJna.SDL_RenderGeometry(renderer, texture, vertices, numVertices, indices, numIndices);
+    }
+}
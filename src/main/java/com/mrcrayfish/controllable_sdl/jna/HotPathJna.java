@@ -0,0 +1,30 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Texture;
+import com.sun.jna.Pointer;
+
+/**
+ * JNA direct mappings of the functions behind {@link HotPath}. They are used on every JDK without the
+ * {@code java.lang.foreign} backend, and as its fallback.
+ */
+final class HotPathJna {
+
+    static {
+        SdlNativeLibraryLoader.registerNativeMethods(HotPathJna.class);
+    }
+
+    private HotPathJna() {
+    }
+
+    static native short SDL_GameControllerGetAxis(SDL_GameController gamecontroller, int axis);
+
+    static native byte SDL_JoystickGetButton(SDL_Joystick joystick, int button);
+
+    static native int SDL_PeepEvents(Pointer events, int numEvents, int action, int minType, int maxType);
+
+    static native int SDL_RenderGeometry(SDL_Renderer renderer, SDL_Texture texture, Pointer vertices, int numVertices,
+                                         Pointer indices, int numIndices);
+}
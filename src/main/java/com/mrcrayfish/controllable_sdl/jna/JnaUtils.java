@@ -1,7 +1,12 @@
 package com.mrcrayfish.controllable_sdl.jna;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.List;
 import com.sun.jna.Memory;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 
 import static com.mrcrayfish.controllable_sdl.api.stdinc.SdlStdinc.SDL_free;
@@ -55,6 +60,132 @@ public final class JnaUtils {
         return buffer;
     }
 
+    public static Pointer writeArrayToNativeMemory(ScratchArena arena, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Pointer pointer = arena.allocate(data.length);
+        pointer.write(0L, data, 0, data.length);
+        return pointer;
+    }
+
+    public static Pointer writeArrayToNativeMemory(ScratchArena arena, short[] data) {
+        if (data == null) {
+            return null;
+        }
+        Pointer pointer = arena.allocate(data.length * 2L);
+        pointer.write(0L, data, 0, data.length);
+        return pointer;
+    }
+
+    public static Pointer writeArrayToNativeMemory(ScratchArena arena, int[] data) {
+        if (data == null) {
+            return null;
+        }
+        Pointer pointer = arena.allocate(data.length * 4L);
+        pointer.write(0L, data, 0, data.length);
+        return pointer;
+    }
+
+    public static Pointer writeListToNativeMemory(ScratchArena arena, List<? extends PojoStructure> objects) {
+        long structSize = objects.get(0).size();
+        Pointer buffer = arena.allocate(objects.size() * structSize);
+        long offset = 0;
+        for (PojoStructure obj : objects) {
+            obj.write(buffer, offset);
+            offset += structSize;
+        }
+        return buffer;
+    }
+
+    public static Pointer writeToNativeMemory(ScratchArena arena, PojoStructure object) {
+        Pointer buffer = arena.allocate(object.size());
+        object.write(buffer, 0L);
+        return buffer;
+    }
+
+    /**
+     * Get a pointer to the remaining bytes of a buffer. Direct buffers are passed without copying, heap
+     * buffers are copied into the arena.
+     *
+     * @return a pointer to the byte at the position of the buffer, or null if the buffer is null
+     */
+    public static Pointer getBufferPointer(ScratchArena arena, ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        if (buffer.isDirect()) {
+            return Native.getDirectBufferPointer(buffer).share(buffer.position());
+        }
+        Pointer pointer = arena.allocate(buffer.remaining());
+        if (buffer.hasArray()) {
+            pointer.write(0L, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            for (int i = 0; i < buffer.remaining(); i++) {
+                pointer.setByte(i, buffer.get(buffer.position() + i));
+            }
+        }
+        return pointer;
+    }
+
+    /**
+     * Get a pointer to the remaining floats of a buffer. Direct buffers are passed without copying, heap
+     * buffers are copied into the arena.
+     *
+     * @return a pointer to the float at the position of the buffer, or null if the buffer is null
+     * @throws IllegalArgumentException if the buffer is direct but not in native byte order
+     */
+    public static Pointer getBufferPointer(ScratchArena arena, FloatBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        if (buffer.isDirect()) {
+            checkNativeOrder(buffer.order());
+            return Native.getDirectBufferPointer(buffer).share(buffer.position() * 4L);
+        }
+        Pointer pointer = arena.allocate(buffer.remaining() * 4L);
+        if (buffer.hasArray()) {
+            pointer.write(0L, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            for (int i = 0; i < buffer.remaining(); i++) {
+                pointer.setFloat(i * 4L, buffer.get(buffer.position() + i));
+            }
+        }
+        return pointer;
+    }
+
+    /**
+     * Get a pointer to the remaining ints of a buffer. Direct buffers are passed without copying, heap
+     * buffers are copied into the arena.
+     *
+     * @return a pointer to the int at the position of the buffer, or null if the buffer is null
+     * @throws IllegalArgumentException if the buffer is direct but not in native byte order
+     */
+    public static Pointer getBufferPointer(ScratchArena arena, IntBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        if (buffer.isDirect()) {
+            checkNativeOrder(buffer.order());
+            return Native.getDirectBufferPointer(buffer).share(buffer.position() * 4L);
+        }
+        Pointer pointer = arena.allocate(buffer.remaining() * 4L);
+        if (buffer.hasArray()) {
+            pointer.write(0L, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            for (int i = 0; i < buffer.remaining(); i++) {
+                pointer.setInt(i * 4L, buffer.get(buffer.position() + i));
+            }
+        }
+        return pointer;
+    }
+
+    private static void checkNativeOrder(ByteOrder order) {
+        if (order != ByteOrder.nativeOrder()) {
+            throw new IllegalArgumentException("Direct buffers must use the native byte order " + ByteOrder.nativeOrder() + " but was " + order);
+        }
+    }
+
     public static void append(StringBuilder result, String name) {
         if (result.length() > 0) {
             result.append(" | ");
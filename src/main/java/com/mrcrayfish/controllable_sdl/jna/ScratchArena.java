@@ -0,0 +1,195 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * A thread-local bump allocator of native memory, used for the short-lived buffers the Java-style wrappers
+ * pass to SDL.
+ *
+ * <p>Allocating a new {@link Memory} for every call is a {@code malloc}, a {@code free} and a cleaner
+ * registration. The arena instead keeps its native blocks for the lifetime of the thread and hands out
+ * slices of them. Everything allocated within a scope is released at once when the scope is closed, so a
+ * steady-state frame does not allocate native memory at all. The arena only grows when a scope needs more
+ * memory than ever before, which can be verified with {@link #getNativeAllocationCount()}.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * try (ScratchArena arena = ScratchArena.push()) {
+ *     Pointer points = JnaUtils.writeListToNativeMemory(arena, pointList);
+ *     return SDL_RenderDrawPoints(renderer, points, pointList.size());
+ * }
+ * </pre>
+ *
+ * <p>Scopes may be nested. Memory allocated within a scope must not be used after the scope is closed, and an
+ * arena must only be used by the thread it was obtained on.</p>
+ */
+public final class ScratchArena implements AutoCloseable {
+
+    private static final ThreadLocal<ScratchArena> ARENAS = ThreadLocal.withInitial(ScratchArena::new);
+    private static final LongAdder NATIVE_ALLOCATIONS = new LongAdder();
+    private static final LongAdder NATIVE_ALLOCATED_BYTES = new LongAdder();
+
+    private static final long INITIAL_BLOCK_SIZE = 4096L;
+    private static final long ALIGNMENT = 8L;
+
+    private final List<Memory> blocks = new ArrayList<>();
+    private int blockIndex;
+    private long offset;
+    private int[] markBlocks = new int[8];
+    private long[] markOffsets = new long[8];
+    private int depth;
+    private long allocations;
+
+    private ScratchArena() {
+    }
+
+    /**
+     * Open a new scope on the arena of the current thread.
+     *
+     * @return the arena of the current thread. Closing it closes the scope.
+     */
+    public static ScratchArena push() {
+        ScratchArena arena = ARENAS.get();
+        arena.pushScope();
+        return arena;
+    }
+
+    private void pushScope() {
+        if (depth == markBlocks.length) {
+            markBlocks = Arrays.copyOf(markBlocks, depth * 2);
+            markOffsets = Arrays.copyOf(markOffsets, depth * 2);
+        }
+        markBlocks[depth] = blockIndex;
+        markOffsets[depth] = offset;
+        depth++;
+    }
+
+    /**
+     * Close the innermost scope, releasing everything allocated within it.
+     */
+    @Override
+    public void close() {
+        if (depth == 0) {
+            throw new IllegalStateException("No scope is open");
+        }
+        depth--;
+        blockIndex = markBlocks[depth];
+        offset = markOffsets[depth];
+    }
+
+    /**
+     * Allocate native memory valid until the current scope is closed. The memory is aligned to 8 bytes and not
+     * zeroed.
+     *
+     * @param size the number of bytes to allocate
+     * @return a pointer to the allocated memory
+     * @throws IllegalStateException if no scope is open
+     */
+    public Pointer allocate(long size) {
+        if (depth == 0) {
+            throw new IllegalStateException("Memory can only be allocated within a scope");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative: " + size);
+        }
+        long alignedSize = (size + ALIGNMENT - 1) & -ALIGNMENT;
+        Memory block = blockIndex < blocks.size() ? blocks.get(blockIndex) : null;
+        if (block == null || offset + alignedSize > block.size()) {
+            block = nextBlock(alignedSize);
+        }
+        Pointer pointer = block.share(offset, size);
+        offset += alignedSize;
+        allocations++;
+        return pointer;
+    }
+
+    private Memory nextBlock(long minSize) {
+        // Blocks are never reallocated since earlier slices of the scope still point into them
+        for (int i = blockIndex + 1; i < blocks.size(); i++) {
+            if (blocks.get(i).size() >= minSize) {
+                blockIndex = i;
+                offset = 0L;
+                return blocks.get(i);
+            }
+        }
+        long size = blocks.isEmpty() ? INITIAL_BLOCK_SIZE : blocks.get(blocks.size() - 1).size() * 2;
+        while (size < minSize) {
+            size *= 2;
+        }
+        Memory block = new Memory(size);
+        NATIVE_ALLOCATIONS.increment();
+        NATIVE_ALLOCATED_BYTES.add(size);
+        blocks.add(block);
+        blockIndex = blocks.size() - 1;
+        offset = 0L;
+        return block;
+    }
+
+    /**
+     * Free every native block of the arena. Useful after a one-off large allocation grew the arena.
+     *
+     * @throws IllegalStateException if a scope is open
+     */
+    public void trim() {
+        if (depth != 0) {
+            throw new IllegalStateException("The arena cannot be trimmed while a scope is open");
+        }
+        for (Memory block : blocks) {
+            block.close();
+        }
+        blocks.clear();
+        blockIndex = 0;
+        offset = 0L;
+    }
+
+    /**
+     * @return the arena of the current thread, without opening a scope. Used to read its counters or trim it.
+     */
+    public static ScratchArena current() {
+        return ARENAS.get();
+    }
+
+    /**
+     * @return the number of allocations served by this arena
+     */
+    public long getAllocationCount() {
+        return allocations;
+    }
+
+    /**
+     * @return the total size of the native blocks held by this arena
+     */
+    public long getCapacity() {
+        long capacity = 0L;
+        for (Memory block : blocks) {
+            capacity += block.size();
+        }
+        return capacity;
+    }
+
+    /**
+     * @return the number of native blocks held by this arena
+     */
+    public int getBlockCount() {
+        return blocks.size();
+    }
+
+    /**
+     * @return the number of native blocks allocated by the arenas of all threads
+     */
+    public static long getNativeAllocationCount() {
+        return NATIVE_ALLOCATIONS.sum();
+    }
+
+    /**
+     * @return the number of bytes of native memory allocated by the arenas of all threads
+     */
+    public static long getNativeAllocatedBytes() {
+        return NATIVE_ALLOCATED_BYTES.sum();
+    }
+}
@@ -8,10 +8,22 @@ import com.sun.jna.Platform;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -22,10 +34,13 @@ public final class SdlNativeLibraryLoader {
 
     private static final Logger LOGGER = Logger.getLogger(SdlNativeLibraryLoader.class.getName());
     public static final String SDL_LIBRARY_NAME = "SDL2";
+    private static final String HASH_SUFFIX = ".sha256";
+    private static final String LOCK_FILE_NAME = ".lock";
 
     // This field keeps the reference to the loaded JNA library object to prevent it from being garbage collected.
-    private static NativeLibrary sdl2Library;
-    private static Path extractionPath;
+    // It is only written while holding the class lock, but read without it once the library is loaded.
+    private static volatile NativeLibrary sdl2Library;
+    private static volatile Path extractionPath;
 
     private SdlNativeLibraryLoader() {
     }
@@ -58,9 +73,19 @@ public final class SdlNativeLibraryLoader {
         return libraryPath;
     }
 
-    public static synchronized void registerNativeMethods(Class<?> nativeClass) {
-        loadSDL2NativeFromEmbeddedResources();
-        Native.register(nativeClass, sdl2Library);
+    /**
+     * Registers the native methods of a binding class. Only loading the library is done under a lock, so once it is
+     * loaded several classes can be registered in parallel, as done by {@link SdlPreloader}.
+     */
+    public static void registerNativeMethods(Class<?> nativeClass) {
+        Native.register(nativeClass, loadSDL2NativeFromEmbeddedResources());
+    }
+
+    /**
+     * @return the loaded SDL library, loading it first if needed. Used to look up symbols outside of JNA.
+     */
+    static NativeLibrary getLibrary() {
+        return loadSDL2NativeFromEmbeddedResources();
     }
 
     private static Map<String, Object> createOptions() {
@@ -70,35 +95,180 @@ public final class SdlNativeLibraryLoader {
         return options;
     }
 
-    public static synchronized <T extends Library> T loadSDL2InterfaceInstance(Class<T> libraryInterface) {
+    public static <T extends Library> T loadSDL2InterfaceInstance(Class<T> libraryInterface) {
         loadSDL2NativeFromEmbeddedResources();
         return Native.load(SDL_LIBRARY_NAME, libraryInterface, createOptions());
     }
 
-    private static void loadSDL2NativeFromEmbeddedResources() {
-        if(sdl2Library != null)
-            return;
+    private static NativeLibrary loadSDL2NativeFromEmbeddedResources() {
+        NativeLibrary library = sdl2Library;
+        if(library != null)
+            return library;
+        synchronized(SdlNativeLibraryLoader.class) {
+            if(sdl2Library == null) {
+                sdl2Library = loadSDL2Native();
+            }
+            return sdl2Library;
+        }
+    }
+
+    private static NativeLibrary loadSDL2Native() {
         String libraryName = System.mapLibraryName(SDL_LIBRARY_NAME);
         Path libraryPath = getExtractionPath();
-        Path libraryFile = libraryPath.resolve(libraryName);
-        if(Files.notExists(libraryFile)) {
-            extractPlatformSDL2NativeTo(libraryFile);
+        String resourcePath = Platform.RESOURCE_PREFIX + "/" + libraryName;
+        try {
+            extractIfStale(SdlNativeLibraryLoader.class.getClassLoader(), resourcePath, libraryPath.resolve(libraryName));
+        } catch(IOException e) {
+            throw new RuntimeException("Failed to extract " + libraryName, e);
         }
         NativeLibrary.addSearchPath(SDL_LIBRARY_NAME, libraryPath.toString());
-        sdl2Library = NativeLibrary.getInstance(SDL_LIBRARY_NAME, createOptions());
+        return NativeLibrary.getInstance(SDL_LIBRARY_NAME, createOptions());
     }
 
-    private static void extractPlatformSDL2NativeTo(Path outputFile)
+    /**
+     * Extracts the library resource, unless the library extracted by an earlier run is still current. A library
+     * whose recorded hash differs from the one packaged with the resource was extracted from a different build of
+     * the same SDL version, and is replaced.
+     */
+    static void extractIfStale(ClassLoader loader, String resourcePath, Path libraryFile) throws IOException
     {
-        String path = Platform.RESOURCE_PREFIX + "/" + System.mapLibraryName(SDL_LIBRARY_NAME);
-        try(InputStream is = SdlNativeLibraryLoader.class.getClassLoader().getResourceAsStream(path)) {
-            if(is != null) {
-                Files.copy(is, outputFile, StandardCopyOption.REPLACE_EXISTING);
-            } else {
-                throw new RuntimeException("Unsupported platform: " + Platform.RESOURCE_PREFIX);
+        String expectedHash = readExpectedHash(loader, resourcePath);
+        // The warm start path: a current library from an earlier run is loaded without opening the JAR resource
+        if(isExtracted(libraryFile, expectedHash)) {
+            return;
+        }
+        try(FileChannel channel = FileChannel.open(libraryFile.resolveSibling(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Held until the channel is closed
+            channel.lock();
+            // Another process may have extracted the library while this one was waiting for the lock
+            if(!isExtracted(libraryFile, expectedHash)) {
+                extractPlatformSDL2NativeTo(loader, resourcePath, libraryFile);
             }
+        }
+    }
+
+    /**
+     * Reads the {@code <library>.sha256} resource that the {@code hashNatives} task of the build packages next to
+     * each library. It is missing when the natives were added to the classpath by other means, in which case any
+     * library that is intact is accepted.
+     */
+    private static String readExpectedHash(ClassLoader loader, String resourcePath) {
+        try(InputStream is = loader.getResourceAsStream(resourcePath + HASH_SUFFIX)) {
+            if(is == null) {
+                LOGGER.fine(() -> "No hash is packaged for " + resourcePath);
+                return null;
+            }
+            String content = new String(is.readAllBytes(), StandardCharsets.US_ASCII).trim();
+            int end = content.indexOf(' ');
+            return (end != -1 ? content.substring(0, end) : content).toLowerCase(Locale.ROOT);
         } catch(IOException e) {
-            throw new RuntimeException(e);
+            return null;
+        }
+    }
+
+    private static void extractPlatformSDL2NativeTo(ClassLoader loader, String resourcePath, Path outputFile) throws IOException
+    {
+        try(InputStream is = loader.getResourceAsStream(resourcePath)) {
+            if(is == null) {
+                throw new RuntimeException("Unsupported platform: " + Platform.RESOURCE_PREFIX);
+            }
+            LOGGER.fine(() -> "Extracting " + resourcePath + " to " + outputFile);
+            extract(is, outputFile);
+        }
+    }
+
+    /**
+     * Writes the library to a temporary file in the same directory, flushes it to disk and then atomically
+     * renames it, so a process killed half-way never leaves a truncated library behind. The SHA-256, size and
+     * modification time of the content are recorded in a {@code <library>.sha256} file next to it, which is written
+     * the same way.
+     */
+    static void extract(InputStream in, Path outputFile) throws IOException
+    {
+        Path directory = outputFile.toAbsolutePath().getParent();
+        String fileName = outputFile.getFileName().toString();
+        Path tempLibrary = Files.createTempFile(directory, fileName, ".tmp");
+        Path tempHash = null;
+        try {
+            MessageDigest digest = newDigest();
+            long size;
+            try(FileChannel channel = FileChannel.open(tempLibrary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                OutputStream out = new DigestOutputStream(Channels.newOutputStream(channel), digest)) {
+                size = in.transferTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            // Renaming the file keeps its modification time
+            long modified = Files.getLastModifiedTime(tempLibrary).toMillis();
+            tempHash = Files.createTempFile(directory, fileName + HASH_SUFFIX, ".tmp");
+            Files.writeString(tempHash, hash + " " + size + " " + modified, StandardCharsets.US_ASCII);
+            moveAtomically(tempLibrary, outputFile);
+            moveAtomically(tempHash, directory.resolve(fileName + HASH_SUFFIX));
+        } finally {
+            Files.deleteIfExists(tempLibrary);
+            if(tempHash != null) {
+                Files.deleteIfExists(tempHash);
+            }
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException
+    {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch(AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Checks whether a previously extracted library is still current, against the {@code <library>.sha256} file
+     * written by {@link #extract(InputStream, Path)}. The recorded hash must match the expected one, and the size is
+     * compared first, so a truncated file is rejected without being read. If the modification time is also unchanged
+     * since extraction, the library is taken as is, so a warm start does not read the whole library. Otherwise it is
+     * hashed again.
+     *
+     * <p>The size and modification time shortcut is a cache staleness check, not an integrity check: it catches a
+     * library that was replaced or partially written, but not one altered on purpose with its modification time
+     * restored.</p>
+     *
+     * @param expectedHash the hash the library must have, or null to accept any recorded hash
+     */
+    static boolean isExtracted(Path libraryFile, String expectedHash)
+    {
+        Path hashFile = libraryFile.resolveSibling(libraryFile.getFileName() + HASH_SUFFIX);
+        try {
+            if(Files.notExists(libraryFile) || Files.notExists(hashFile)) {
+                return false;
+            }
+            String[] recorded = Files.readString(hashFile, StandardCharsets.US_ASCII).trim().split(" ");
+            if(recorded.length < 2 || recorded.length > 3 || Files.size(libraryFile) != Long.parseLong(recorded[1])) {
+                return false;
+            }
+            if(expectedHash != null && !expectedHash.equals(recorded[0])) {
+                return false;
+            }
+            // Files recorded before the modification time was added are always hashed
+            if(recorded.length == 3 && Files.getLastModifiedTime(libraryFile).toMillis() == Long.parseLong(recorded[2])) {
+                return true;
+            }
+            MessageDigest digest = newDigest();
+            try(InputStream is = new DigestInputStream(Files.newInputStream(libraryFile), digest)) {
+                is.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest()).equals(recorded[0]);
+        } catch(IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
@@ -0,0 +1,274 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import com.mrcrayfish.controllable_sdl.api.Sdl;
+import com.mrcrayfish.controllable_sdl.api.audio.SdlAudio;
+import com.mrcrayfish.controllable_sdl.api.blendmode.SdlBlendmode;
+import com.mrcrayfish.controllable_sdl.api.clipboard.SdlClipboard;
+import com.mrcrayfish.controllable_sdl.api.error.SdlError;
+import com.mrcrayfish.controllable_sdl.api.event.SdlEvents;
+import com.mrcrayfish.controllable_sdl.api.filesystem.SdlFilesystem;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller;
+import com.mrcrayfish.controllable_sdl.api.gesture.SdlGesture;
+import com.mrcrayfish.controllable_sdl.api.guid.SdlGuid;
+import com.mrcrayfish.controllable_sdl.api.haptic.SdlHaptic;
+import com.mrcrayfish.controllable_sdl.api.hidapi.SdlHidApi;
+import com.mrcrayfish.controllable_sdl.api.hints.SdlHints;
+import com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick;
+import com.mrcrayfish.controllable_sdl.api.keyboard.SdlKeyboard;
+import com.mrcrayfish.controllable_sdl.api.locale.SdlLocale;
+import com.mrcrayfish.controllable_sdl.api.log.SdlLog;
+import com.mrcrayfish.controllable_sdl.api.messagebox.SdlMessagebox;
+import com.mrcrayfish.controllable_sdl.api.metal.SdlMetal;
+import com.mrcrayfish.controllable_sdl.api.mouse.SdlMouse;
+import com.mrcrayfish.controllable_sdl.api.pixels.SdlPixels;
+import com.mrcrayfish.controllable_sdl.api.platform.SdlPlatform;
+import com.mrcrayfish.controllable_sdl.api.power.SdlPower;
+import com.mrcrayfish.controllable_sdl.api.rect.SdlRect;
+import com.mrcrayfish.controllable_sdl.api.render.SdlRender;
+import com.mrcrayfish.controllable_sdl.api.rwops.SdlRWops;
+import com.mrcrayfish.controllable_sdl.api.sensor.SdlSensor;
+import com.mrcrayfish.controllable_sdl.api.shape.SdlShape;
+import com.mrcrayfish.controllable_sdl.api.stdinc.SdlStdinc;
+import com.mrcrayfish.controllable_sdl.api.surface.SdlSurface;
+import com.mrcrayfish.controllable_sdl.api.syswm.SdlSysWM;
+import com.mrcrayfish.controllable_sdl.api.timer.SdlTimer;
+import com.mrcrayfish.controllable_sdl.api.touch.SdlTouch;
+import com.mrcrayfish.controllable_sdl.api.version.SdlVersion;
+import com.mrcrayfish.controllable_sdl.api.video.SdlVideo;
+import com.mrcrayfish.controllable_sdl.api.vulkan.SdlVulkan;
+
+/**
+ * Registers the native methods of binding classes ahead of time, in parallel on a small pool of threads.
+ *
+ * <p>Binding classes register themselves with JNA the first time they are initialized, which looks up every native
+ * symbol of the class. Without preloading, that cost is paid by whichever thread first touches the class, often the
+ * thread running the game loop. The preloader initializes the classes of the chosen {@link Subsystem}s up front and
+ * reports how long each one took.</p>
+ *
+ * <p>Preloading is optional and only moves work around: a class that was not preloaded still registers itself when
+ * first used. A class that fails to register is reported in the {@link Report} rather than failing the others.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * CompletableFuture&lt;SdlPreloader.Report&gt; preload = new SdlPreloader(2)
+ *         .add(SdlPreloader.Subsystem.CORE)
+ *         .add(SdlPreloader.Subsystem.EVENTS)
+ *         .add(SdlPreloader.Subsystem.GAMECONTROLLER)
+ *         .start();
+ *
+ * // Later, before the first frame
+ * SdlPreloader.Report report = preload.join();
+ * </pre>
+ */
+public final class SdlPreloader {
+
+    private static final Logger LOGGER = Logger.getLogger(SdlPreloader.class.getName());
+    private static final String NESTED_NATIVE_CLASS = "$InternalNativeFunctions";
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    /**
+     * Groups of binding classes that are usually needed together.
+     */
+    public enum Subsystem {
+        CORE(Sdl.class, SdlError.class, SdlHints.class, SdlVersion.class, SdlTimer.class, SdlStdinc.class, SdlLog.class),
+        EVENTS(SdlEvents.class),
+        JOYSTICK(SdlJoystick.class, SdlGuid.class),
+        GAMECONTROLLER(SdlGamecontroller.class, SdlSensor.class),
+        HAPTIC(SdlHaptic.class),
+        HIDAPI(SdlHidApi.class),
+        VIDEO(SdlVideo.class, SdlSurface.class, SdlPixels.class, SdlRect.class, SdlBlendmode.class, SdlRender.class,
+                SdlMouse.class, SdlKeyboard.class, SdlClipboard.class, SdlTouch.class, SdlGesture.class, SdlShape.class,
+                SdlSysWM.class, SdlVulkan.class, SdlMetal.class, SdlMessagebox.class),
+        AUDIO(SdlAudio.class),
+        PLATFORM(SdlPlatform.class, SdlPower.class, SdlLocale.class, SdlFilesystem.class, SdlRWops.class);
+
+        private final List<Class<?>> bindingClasses;
+
+        Subsystem(Class<?>... bindingClasses) {
+            this.bindingClasses = List.of(bindingClasses);
+        }
+
+        /**
+         * @return the binding classes of the subsystem
+         */
+        public List<Class<?>> getBindingClasses() {
+            return bindingClasses;
+        }
+    }
+
+    private final int parallelism;
+    private final Set<Class<?>> bindingClasses = new LinkedHashSet<>();
+
+    /**
+     * @param parallelism the number of threads registering classes at the same time
+     */
+    public SdlPreloader(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds every binding class of the subsystem.
+     *
+     * @return this preloader
+     */
+    public SdlPreloader add(Subsystem subsystem) {
+        bindingClasses.addAll(subsystem.getBindingClasses());
+        return this;
+    }
+
+    /**
+     * Adds a single binding class. Its {@code InternalNativeFunctions} nested class is registered as well, if it has one.
+     *
+     * @return this preloader
+     */
+    public SdlPreloader add(Class<?> bindingClass) {
+        bindingClasses.add(bindingClass);
+        return this;
+    }
+
+    /**
+     * Starts registering the added classes on daemon threads, which are shut down once every class is done.
+     *
+     * @return a future completed with the timings once every class has been registered or has failed
+     */
+    public CompletableFuture<Report> start() {
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, bindingClasses.size())), runnable -> {
+            Thread thread = new Thread(runnable, "SDL Preloader " + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startTime = System.nanoTime();
+        List<CompletableFuture<Timing>> futures = new ArrayList<>(bindingClasses.size());
+        for (Class<?> bindingClass : bindingClasses) {
+            futures.add(CompletableFuture.supplyAsync(() -> register(bindingClass), executor));
+        }
+        executor.shutdown();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<Timing> timings = new ArrayList<>(futures.size());
+            for (CompletableFuture<Timing> future : futures) {
+                timings.add(future.join());
+            }
+            Report report = new Report(timings, System.nanoTime() - startTime);
+            LOGGER.fine(() -> "Registered " + timings.size() + " binding classes in " + report.getTotalNanos() / 1_000_000 + " ms");
+            return report;
+        });
+    }
+
+    private static Timing register(Class<?> bindingClass) {
+        long startTime = System.nanoTime();
+        Throwable error = null;
+        try {
+            ClassLoader loader = bindingClass.getClassLoader();
+            Class.forName(bindingClass.getName(), true, loader);
+            try {
+                Class.forName(bindingClass.getName() + NESTED_NATIVE_CLASS, true, loader);
+            } catch (ClassNotFoundException ignored) {
+                // The binding class declares its native methods itself
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            error = e instanceof ExceptionInInitializerError && e.getCause() != null ? e.getCause() : e;
+            LOGGER.log(Level.WARNING, "Failed to register " + bindingClass.getName(), error);
+        }
+        Timing timing = new Timing(bindingClass, System.nanoTime() - startTime, error);
+        LOGGER.finer(() -> "Registered " + bindingClass.getName() + " in " + timing.getNanos() / 1000 + " us");
+        return timing;
+    }
+
+    /**
+     * The time taken to register a single binding class.
+     */
+    public static final class Timing {
+
+        private final Class<?> bindingClass;
+        private final long nanos;
+        private final Throwable error;
+
+        private Timing(Class<?> bindingClass, long nanos, Throwable error) {
+            this.bindingClass = bindingClass;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        /**
+         * @return the binding class
+         */
+        public Class<?> getBindingClass() {
+            return bindingClass;
+        }
+
+        /**
+         * @return the time spent initializing the class, including waiting for the library to be loaded
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the reason the class could not be registered, or null if it was registered
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return bindingClass.getSimpleName() + ": " + nanos / 1000 + " us" + (error != null ? " (failed: " + error + ")" : "");
+        }
+    }
+
+    /**
+     * The outcome of a preload.
+     */
+    public static final class Report {
+
+        private final List<Timing> timings;
+        private final long totalNanos;
+
+        private Report(List<Timing> timings, long totalNanos) {
+            this.timings = Collections.unmodifiableList(timings);
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * @return the timing of every class, in the order the classes were added
+         */
+        public List<Timing> getTimings() {
+            return timings;
+        }
+
+        /**
+         * @return the wall-clock time from {@link #start()} until the last class was registered
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return true if at least one class could not be registered
+         */
+        public boolean hasFailures() {
+            for (Timing timing : timings) {
+                if (timing.getError() != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count, total, maximum and histogram of durations in nanoseconds.
+ *
+ * <p>Durations are counted in power-of-two buckets: bucket {@code i} holds durations of less than {@code 2^i}
+ * nanoseconds and at least {@code 2^(i-1)}. Percentiles are therefore upper bounds, precise to a factor of two, which
+ * is enough to tell a cheap getter from a call that touches the OS, or a spinning thread from a sleeping one.</p>
+ *
+ * <p>Recording costs a few atomic increments and never allocates. Instances are thread-safe.</p>
+ */
+public final class LatencyHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * @param nanos the duration to record. Negative durations are counted as 0.
+     */
+    public void record(long nanos) {
+        nanos = Math.max(0L, nanos);
+        count.increment();
+        totalNanos.add(nanos);
+        buckets.incrementAndGet(Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos)));
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * @return the number of durations recorded since the last reset
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of the durations recorded since the last reset
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return the average duration, or 0 if none was recorded
+     */
+    public long getAverageNanos() {
+        long n = count.sum();
+        return n != 0 ? totalNanos.sum() / n : 0L;
+    }
+
+    /**
+     * @return the longest duration recorded since the last reset
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100, such as 99
+     * @return an upper bound of the duration under which the given percentile of the recorded durations fall, or 0 if
+     * none was recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+        long[] counts = getBuckets();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= threshold && seen > 0) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * @return a copy of the buckets, where index {@code i} counts the durations of less than {@code 2^i} nanoseconds
+     * and at least {@code 2^(i-1)}
+     */
+    public long[] getBuckets() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    /**
+     * Clears every counter. Durations recorded while resetting may be partially kept.
+     */
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0L);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+/**
+ * Decides which JFR event is emitted for calls of a native function.
+ */
+public enum NativeCallKind {
+    /**
+     * An ordinary call, recorded as a {@link SdlNativeCallEvent}.
+     */
+    CALL,
+    /**
+     * A call gathering input and filling the event queue, recorded as a {@link SdlEventPumpEvent}.
+     */
+    EVENT_PUMP,
+    /**
+     * {@code SDL_RenderPresent}, recorded as a {@link SdlRenderPresentEvent}.
+     */
+    RENDER_PRESENT
+}
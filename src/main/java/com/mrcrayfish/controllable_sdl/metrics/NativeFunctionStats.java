@@ -0,0 +1,98 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+/**
+ * The call count and latency histogram of a single native function.
+ *
+ * <p>Latencies are counted in the power-of-two buckets of a {@link LatencyHistogram}, so percentiles are upper bounds
+ * precise to a factor of two.</p>
+ *
+ * <p>Instances are created by {@link SdlMetrics#register(String, NativeCallKind)} and are thread-safe.</p>
+ */
+public final class NativeFunctionStats {
+
+    private final String functionName;
+    private final NativeCallKind kind;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    NativeFunctionStats(String functionName, NativeCallKind kind) {
+        this.functionName = functionName;
+        this.kind = kind;
+    }
+
+    void record(long nanos) {
+        latencies.record(nanos);
+    }
+
+    /**
+     * @return the name of the SDL function
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * @return the JFR event emitted for calls of the function
+     */
+    public NativeCallKind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the number of calls since the last reset
+     */
+    public long getCallCount() {
+        return latencies.getCount();
+    }
+
+    /**
+     * @return the time spent in the function since the last reset
+     */
+    public long getTotalNanos() {
+        return latencies.getTotalNanos();
+    }
+
+    /**
+     * @return the average duration of a call, or 0 if there was no call
+     */
+    public long getAverageNanos() {
+        return latencies.getAverageNanos();
+    }
+
+    /**
+     * @return the longest call since the last reset
+     */
+    public long getMaxNanos() {
+        return latencies.getMaxNanos();
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100, such as 99
+     * @return an upper bound of the duration under which the given percentile of calls completed, or 0 if there was
+     * no call
+     */
+    public long getPercentileNanos(double percentile) {
+        return latencies.getPercentileNanos(percentile);
+    }
+
+    /**
+     * @return a copy of the latency histogram, where index {@code i} counts the calls that took less than
+     * {@code 2^i} nanoseconds and at least {@code 2^(i-1)}
+     */
+    public long[] getHistogram() {
+        return latencies.getBuckets();
+    }
+
+    /**
+     * @return the latencies of the calls
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Clears every counter. Calls recorded while resetting may be partially kept.
+     */
+    public void reset() {
+        latencies.reset();
+    }
+}
@@ -0,0 +1,24 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.mrcrayfish.controllable_sdl.SdlEventPump")
+@Label("SDL Event Pump")
+@Description("A call of SDL_PumpEvents, SDL_PollEvent or SDL_WaitEvent, gathering input from devices")
+@Category({"ControllableSDL", "Events"})
+@StackTrace(false)
+final class SdlEventPumpEvent extends Event {
+
+    @Label("Function")
+    String function;
+
+    @Label("Pump Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long pumpDuration;
+}
@@ -0,0 +1,233 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in instrumentation of the calls made into SDL: a call count and latency histogram per native function, JFR
+ * events, and a JMX MBean to read the counters.
+ *
+ * <p>Recording is enabled by starting the JVM with {@code -D}{@value #ENABLED_PROPERTY}{@code =true}. The flag is read
+ * once, into a constant, so when it is off the probes around the native calls are folded away by the JIT compiler and
+ * cost nothing. When it is on, the counters are registered as the MBean {@value #OBJECT_NAME}, and every recorded call
+ * also emits one of the following JFR events if a recording has them enabled:</p>
+ * <ul>
+ *     <li>{@code com.mrcrayfish.controllable_sdl.SdlNativeCall} for ordinary calls</li>
+ *     <li>{@code com.mrcrayfish.controllable_sdl.SdlEventPump} for {@code SDL_PumpEvents}, {@code SDL_PollEvent},
+ *     {@code SDL_WaitEvent} and {@code SDL_WaitEventTimeout}</li>
+ *     <li>{@code com.mrcrayfish.controllable_sdl.SdlRenderPresent} for {@code SDL_RenderPresent}</li>
+ * </ul>
+ *
+ * <p>JNA direct mapping binds the {@code native} methods of the binding classes straight to SDL, so there is no place
+ * to hook every function at once. Instead, every function of the bindings delegates its public method to a private
+ * native method of the nested {@code InternalNativeFunctions} class, or to the vararg {@code Library} interface,
+ * between {@link #begin()} and {@link #end(NativeFunctionStats, long)}. The binding classes have no public
+ * {@code native} methods left, so every function called through them is recorded. A method that makes several native
+ * calls, such as one to release the memory SDL returned, records each of them under its own function.</p>
+ *
+ * <p>The functions backed by {@code HotPath} are recorded in the binding class too, so the figures cover the call
+ * whichever backend made it.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * private static final NativeFunctionStats NUM_JOYSTICKS = SdlMetrics.register("SDL_NumJoysticks", NativeCallKind.CALL);
+ *
+ * public static int SDL_NumJoysticks() {
+ *     long start = SdlMetrics.begin();
+ *     int result = InternalNativeFunctions.SDL_NumJoysticks();
+ *     SdlMetrics.end(NUM_JOYSTICKS, start);
+ *     return result;
+ * }
+ * </pre>
+ */
+public final class SdlMetrics {
+
+    /**
+     * The system property enabling the instrumentation.
+     */
+    public static final String ENABLED_PROPERTY = "controllable_sdl.metrics";
+
+    /**
+     * The name the MBean is registered under.
+     */
+    public static final String OBJECT_NAME = "com.mrcrayfish.controllable_sdl:type=SdlMetrics";
+
+    private static final Logger LOGGER = Logger.getLogger(SdlMetrics.class.getName());
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final Map<String, NativeFunctionStats> STATS = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+    private SdlMetrics() {
+    }
+
+    /**
+     * @return whether the instrumentation was enabled when the JVM started
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Gets the statistics of a function, creating them the first time. Call sites keep the result in a constant.
+     *
+     * @param functionName the name of the SDL function
+     * @param kind         the JFR event emitted for calls of the function
+     * @return the statistics of the function
+     */
+    public static NativeFunctionStats register(String functionName, NativeCallKind kind) {
+        return STATS.computeIfAbsent(functionName, name -> new NativeFunctionStats(name, kind));
+    }
+
+    /**
+     * @return the start time of a call to pass to {@link #end(NativeFunctionStats, long)}, or 0 if disabled
+     */
+    public static long begin() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a call that started at {@code start}. Does nothing if the instrumentation is disabled.
+     *
+     * @param stats the statistics of the function called
+     * @param start the value returned by {@link #begin()} before the call
+     */
+    public static void end(NativeFunctionStats stats, long start) {
+        if (!ENABLED) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        stats.record(duration);
+        NativeCallKind kind = stats.getKind();
+        if (kind == NativeCallKind.EVENT_PUMP) {
+            SdlEventPumpEvent event = new SdlEventPumpEvent();
+            if (event.shouldCommit()) {
+                event.function = stats.getFunctionName();
+                event.pumpDuration = duration;
+                event.commit();
+            }
+        } else if (kind == NativeCallKind.RENDER_PRESENT) {
+            SdlRenderPresentEvent event = new SdlRenderPresentEvent();
+            if (event.shouldCommit()) {
+                event.presentDuration = duration;
+                event.commit();
+            }
+        } else {
+            SdlNativeCallEvent event = new SdlNativeCallEvent();
+            if (event.shouldCommit()) {
+                event.function = stats.getFunctionName();
+                event.callDuration = duration;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * @param functionName the name of the SDL function
+     * @return the statistics of the function, or null if it is not instrumented
+     */
+    public static NativeFunctionStats get(String functionName) {
+        return STATS.get(functionName);
+    }
+
+    /**
+     * @return the statistics of every instrumented function
+     */
+    public static Collection<NativeFunctionStats> getAll() {
+        return Collections.unmodifiableCollection(STATS.values());
+    }
+
+    /**
+     * Clears the counters of every function.
+     */
+    public static void reset() {
+        STATS.values().forEach(NativeFunctionStats::reset);
+    }
+
+    /**
+     * Registers the counters with the platform MBean server. This is done automatically when the instrumentation is
+     * enabled, and does nothing if the MBean is already registered.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Bean(), name);
+            }
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Failed to register the SDL metrics MBean", e);
+        }
+    }
+
+    private static Map<String, Long> collect(ToLongFunction<NativeFunctionStats> getter) {
+        Map<String, Long> values = new TreeMap<>();
+        for (NativeFunctionStats stats : STATS.values()) {
+            if (stats.getCallCount() > 0) {
+                values.put(stats.getFunctionName(), getter.applyAsLong(stats));
+            }
+        }
+        return values;
+    }
+
+    private static final class Bean implements SdlMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public long getTotalCallCount() {
+            long total = 0;
+            for (NativeFunctionStats stats : STATS.values()) {
+                total += stats.getCallCount();
+            }
+            return total;
+        }
+
+        @Override
+        public Map<String, Long> getCallCounts() {
+            return collect(NativeFunctionStats::getCallCount);
+        }
+
+        @Override
+        public Map<String, Long> getTotalNanos() {
+            return collect(NativeFunctionStats::getTotalNanos);
+        }
+
+        @Override
+        public Map<String, Long> getAverageNanos() {
+            return collect(NativeFunctionStats::getAverageNanos);
+        }
+
+        @Override
+        public Map<String, Long> getP99Nanos() {
+            return collect(stats -> stats.getPercentileNanos(99));
+        }
+
+        @Override
+        public Map<String, Long> getMaxNanos() {
+            return collect(NativeFunctionStats::getMaxNanos);
+        }
+
+        @Override
+        public void reset() {
+            SdlMetrics.reset();
+        }
+    }
+}
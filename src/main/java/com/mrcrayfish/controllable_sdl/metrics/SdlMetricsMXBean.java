@@ -0,0 +1,51 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import java.util.Map;
+
+/**
+ * The native call counters of {@link SdlMetrics}, exposed over JMX as {@value SdlMetrics#OBJECT_NAME}.
+ *
+ * <p>Every map is keyed by SDL function name and only holds functions called at least once.</p>
+ */
+public interface SdlMetricsMXBean {
+
+    /**
+     * @return whether calls are being recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the number of native calls recorded since the last reset, across every function
+     */
+    long getTotalCallCount();
+
+    /**
+     * @return the number of calls of each function
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * @return the total time spent in each function, in nanoseconds
+     */
+    Map<String, Long> getTotalNanos();
+
+    /**
+     * @return the average duration of a call of each function, in nanoseconds
+     */
+    Map<String, Long> getAverageNanos();
+
+    /**
+     * @return an upper bound of the 99th percentile call duration of each function, in nanoseconds
+     */
+    Map<String, Long> getP99Nanos();
+
+    /**
+     * @return the longest call of each function, in nanoseconds
+     */
+    Map<String, Long> getMaxNanos();
+
+    /**
+     * Clears the counters of every function.
+     */
+    void reset();
+}
@@ -0,0 +1,24 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.mrcrayfish.controllable_sdl.SdlNativeCall")
+@Label("SDL Native Call")
+@Description("A call from Java into the SDL library")
+@Category({"ControllableSDL", "Native Calls"})
+@StackTrace(false)
+final class SdlNativeCallEvent extends Event {
+
+    @Label("Function")
+    String function;
+
+    @Label("Call Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long callDuration;
+}
@@ -0,0 +1,21 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.mrcrayfish.controllable_sdl.SdlRenderPresent")
+@Label("SDL Render Present")
+@Description("A call of SDL_RenderPresent, including any wait for vsync")
+@Category({"ControllableSDL", "Render"})
+@StackTrace(false)
+final class SdlRenderPresentEvent extends Event {
+
+    @Label("Present Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long presentDuration;
+}
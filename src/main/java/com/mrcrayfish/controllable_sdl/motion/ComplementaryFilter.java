@@ -0,0 +1,62 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+/**
+ * A complementary orientation filter for a gyroscope and an accelerometer.
+ *
+ * <p>The gyroscope is trusted over short periods and the accelerometer over long ones: each step adds to the angular
+ * velocity a correction proportional to the angle between the measured and estimated direction of gravity, then
+ * integrates it. This is cheaper than {@link MadgwickFilter} and behaves the same for small corrections.</p>
+ */
+public final class ComplementaryFilter extends OrientationFilter {
+
+    /**
+     * A gain correcting tilt over roughly two seconds.
+     */
+    public static final float DEFAULT_GAIN = 0.5f;
+
+    private final float gain;
+
+    public ComplementaryFilter() {
+        this(DEFAULT_GAIN);
+    }
+
+    /**
+     * @param gain the gain of the accelerometer correction, in radians per second per radian of error
+     */
+    public ComplementaryFilter(float gain) {
+        if (!(gain >= 0f)) {
+            throw new IllegalArgumentException("The gain must not be negative");
+        }
+        this.gain = gain;
+    }
+
+    @Override
+    void step(ControllerMotion m, float dt, float gx, float gy, float gz) {
+        float q0 = m.q0, q1 = m.q1, q2 = m.q2, q3 = m.q3;
+
+        float ax = m.ax, ay = m.ay, az = m.az;
+        float accelNorm = ax * ax + ay * ay + az * az;
+        if (m.hasAccel && accelNorm > 0f) {
+            float recip = invSqrt(accelNorm);
+            ax *= recip;
+            ay *= recip;
+            az *= recip;
+
+            // Direction of gravity in the controller frame, as estimated by the current orientation
+            float vx = 2f * (q1 * q3 - q0 * q2);
+            float vy = 2f * (q0 * q1 + q2 * q3);
+            float vz = q0 * q0 - q1 * q1 - q2 * q2 + q3 * q3;
+
+            // The cross product is the rotation bringing the estimate onto the measurement
+            gx += gain * (ay * vz - az * vy);
+            gy += gain * (az * vx - ax * vz);
+            gz += gain * (ax * vy - ay * vx);
+        }
+
+        float dq0 = 0.5f * (-q1 * gx - q2 * gy - q3 * gz);
+        float dq1 = 0.5f * (q0 * gx + q2 * gz - q3 * gy);
+        float dq2 = 0.5f * (q0 * gy - q1 * gz + q3 * gx);
+        float dq3 = 0.5f * (q0 * gz + q1 * gy - q2 * gx);
+        integrate(m, dt, dq0, dq1, dq2, dq3);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+/**
+ * The gyroscope and accelerometer samples of one controller, and its orientation as estimated by an
+ * {@link OrientationFilter}.
+ *
+ * <p>The orientation is a unit quaternion in the sensor axes of SDL: with the controller held in front of the player,
+ * +X points right, +Y up and +Z towards the player. It starts as the identity, meaning the controller lies flat, and
+ * rotates the controller frame into the reference frame.</p>
+ *
+ * <p>Instances are owned by a {@link MotionTracker} and are not thread-safe.</p>
+ */
+public final class ControllerMotion {
+
+    final SensorRing gyro;
+    final SensorRing accel;
+
+    // The orientation in the frame of the filters, where the up axis is Z. See OrientationFilter.
+    float q0 = 1f;
+    float q1;
+    float q2;
+    float q3;
+    long lastGyroUs = Long.MIN_VALUE;
+    float ax;
+    float ay;
+    float az;
+    boolean hasAccel;
+    int instanceId = -1;
+
+    ControllerMotion(int ringCapacity) {
+        this.gyro = new SensorRing(ringCapacity);
+        this.accel = new SensorRing(ringCapacity);
+    }
+
+    void reset(int instanceId) {
+        this.instanceId = instanceId;
+        this.gyro.clear();
+        this.accel.clear();
+        resetOrientation();
+    }
+
+    /**
+     * Forget the estimated orientation, for example to recenter motion aiming.
+     */
+    public void resetOrientation() {
+        q0 = 1f;
+        q1 = 0f;
+        q2 = 0f;
+        q3 = 0f;
+        lastGyroUs = Long.MIN_VALUE;
+        hasAccel = false;
+    }
+
+    /**
+     * @return the joystick instance id of the controller
+     */
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * @return the pending gyroscope samples, in radians per second
+     */
+    public SensorRing getGyro() {
+        return gyro;
+    }
+
+    /**
+     * @return the pending accelerometer samples, in meters per second squared
+     */
+    public SensorRing getAccel() {
+        return accel;
+    }
+
+    public float getOrientationW() {
+        return q0;
+    }
+
+    public float getOrientationX() {
+        return q2;
+    }
+
+    public float getOrientationY() {
+        return q3;
+    }
+
+    public float getOrientationZ() {
+        return q1;
+    }
+
+    /**
+     * @return the timestamp of the last gyroscope sample processed by a filter, in microseconds, or
+     * {@link Long#MIN_VALUE} if none was
+     */
+    public long getLastUpdateUs() {
+        return lastGyroUs;
+    }
+}
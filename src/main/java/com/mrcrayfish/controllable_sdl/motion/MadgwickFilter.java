@@ -0,0 +1,72 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+/**
+ * Madgwick's gradient descent orientation filter for a gyroscope and an accelerometer.
+ *
+ * <p>Each step integrates the gyroscope and moves the orientation by {@code beta} along the gradient that aligns the
+ * measured gravity with the estimated one. A larger {@code beta} corrects tilt faster but lets more of the
+ * controller's own acceleration into the estimate.</p>
+ */
+public final class MadgwickFilter extends OrientationFilter {
+
+    /**
+     * A gain suited to controllers held by hand, trading a few seconds of tilt convergence for a steady aim.
+     */
+    public static final float DEFAULT_BETA = 0.1f;
+
+    private final float beta;
+
+    public MadgwickFilter() {
+        this(DEFAULT_BETA);
+    }
+
+    /**
+     * @param beta the gain of the accelerometer correction, in radians per second
+     */
+    public MadgwickFilter(float beta) {
+        if (!(beta >= 0f)) {
+            throw new IllegalArgumentException("The gain must not be negative");
+        }
+        this.beta = beta;
+    }
+
+    @Override
+    void step(ControllerMotion m, float dt, float gx, float gy, float gz) {
+        float q0 = m.q0, q1 = m.q1, q2 = m.q2, q3 = m.q3;
+
+        // Rate of change of the quaternion from the gyroscope
+        float dq0 = 0.5f * (-q1 * gx - q2 * gy - q3 * gz);
+        float dq1 = 0.5f * (q0 * gx + q2 * gz - q3 * gy);
+        float dq2 = 0.5f * (q0 * gy - q1 * gz + q3 * gx);
+        float dq3 = 0.5f * (q0 * gz + q1 * gy - q2 * gx);
+
+        float ax = m.ax, ay = m.ay, az = m.az;
+        float accelNorm = ax * ax + ay * ay + az * az;
+        if (m.hasAccel && accelNorm > 0f) {
+            float recip = invSqrt(accelNorm);
+            ax *= recip;
+            ay *= recip;
+            az *= recip;
+
+            float _2q0 = 2f * q0, _2q1 = 2f * q1, _2q2 = 2f * q2, _2q3 = 2f * q3;
+            float _4q0 = 4f * q0, _4q1 = 4f * q1, _4q2 = 4f * q2;
+            float _8q1 = 8f * q1, _8q2 = 8f * q2;
+            float q0q0 = q0 * q0, q1q1 = q1 * q1, q2q2 = q2 * q2, q3q3 = q3 * q3;
+
+            // Gradient of the error between the measured and estimated direction of gravity
+            float s0 = _4q0 * q2q2 + _2q2 * ax + _4q0 * q1q1 - _2q1 * ay;
+            float s1 = _4q1 * q3q3 - _2q3 * ax + 4f * q0q0 * q1 - _2q0 * ay - _4q1 + _8q1 * q1q1 + _8q1 * q2q2 + _4q1 * az;
+            float s2 = 4f * q0q0 * q2 + _2q0 * ax + _4q2 * q3q3 - _2q3 * ay - _4q2 + _8q2 * q1q1 + _8q2 * q2q2 + _4q2 * az;
+            float s3 = 4f * q1q1 * q3 - _2q1 * ax + 4f * q2q2 * q3 - _2q2 * ay;
+            float gradientNorm = s0 * s0 + s1 * s1 + s2 * s2 + s3 * s3;
+            if (gradientNorm > 0f) {
+                recip = beta * invSqrt(gradientNorm);
+                dq0 -= s0 * recip;
+                dq1 -= s1 * recip;
+                dq2 -= s2 * recip;
+                dq3 -= s3 * recip;
+            }
+        }
+        integrate(m, dt, dq0, dq1, dq2, dq3);
+    }
+}
@@ -0,0 +1,199 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+import java.nio.ByteBuffer;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEREMOVED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_ACCEL;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_GYRO;
+
+/**
+ * Collects the gyroscope and accelerometer samples of every game controller from {@code SDL_CONTROLLERSENSORUPDATE}
+ * events and feeds them to an {@link OrientationFilter} once per frame.
+ *
+ * <p>Sensor events arrive at the rate of the hardware, often one per millisecond and per sensor, so reading them
+ * through {@link com.mrcrayfish.controllable_sdl.state.ControllerStateSnapshot ControllerStateSnapshot} would only keep
+ * the latest sample of each frame. The tracker instead appends every sample to the {@link SensorRing}s of its
+ * controller, and {@link #update(OrientationFilter)} integrates all of them at once. Nothing is allocated after
+ * construction.</p>
+ *
+ * <p>Sensors must be enabled with
+ * {@link com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerSetSensorEnabled
+ * SDL_GameControllerSetSensorEnabled} for their events to be sent. Only {@code SDL_SENSOR_ACCEL} and
+ * {@code SDL_SENSOR_GYRO} are tracked.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>{@code
+ * MotionTracker tracker = new MotionTracker(4, 256);
+ * OrientationFilter filter = new MadgwickFilter();
+ * // Each frame
+ * tracker.accept(batch);
+ * tracker.update(filter);
+ * ControllerMotion motion = tracker.get(instanceId);
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class MotionTracker {
+
+    private final ControllerMotion[] controllers;
+    private int count;
+    private long droppedEvents;
+
+    private final ControllerSensorEventView sensorView = new ControllerSensorEventView();
+    private final ControllerDeviceEventView deviceView = new ControllerDeviceEventView();
+
+    /**
+     * @param maxControllers the maximum number of controllers tracked at the same time
+     * @param ringCapacity   the number of samples buffered per sensor between two updates
+     */
+    public MotionTracker(int maxControllers, int ringCapacity) {
+        if (maxControllers < 1) {
+            throw new IllegalArgumentException("At least one controller must be tracked");
+        }
+        this.controllers = new ControllerMotion[maxControllers];
+        for (int i = 0; i < maxControllers; i++) {
+            this.controllers[i] = new ControllerMotion(ringCapacity);
+        }
+    }
+
+    /**
+     * Record the sensor samples of the batch. Other events are ignored, except {@code SDL_CONTROLLERDEVICEREMOVED}.
+     */
+    public void accept(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            accept(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Record a single event held in native memory.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     */
+    public void accept(ByteBuffer buffer, int offset) {
+        switch (buffer.getInt(offset + EventView.TYPE_OFFSET)) {
+            case SDL_CONTROLLERSENSORUPDATE:
+                sensorView.wrap(buffer, offset);
+                long timestampUs = sensorView.getTimestampUs();
+                if (timestampUs == 0) {
+                    // Drivers without a sensor clock only provide the millisecond event timestamp
+                    timestampUs = Integer.toUnsignedLong(sensorView.getTimestamp()) * 1000;
+                }
+                onSensor(sensorView.getWhich(), sensorView.getSensor(), timestampUs,
+                        sensorView.getData(0), sensorView.getData(1), sensorView.getData(2));
+                break;
+            case SDL_CONTROLLERDEVICEREMOVED:
+                remove(deviceView.wrap(buffer, offset).getWhich());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Record a sensor sample directly, for sources other than SDL events.
+     *
+     * @param instanceId  the joystick instance id of the controller
+     * @param sensor      {@code SDL_SENSOR_ACCEL} or {@code SDL_SENSOR_GYRO}; other types are ignored
+     * @param timestampUs the time of the sample, in microseconds
+     */
+    public void onSensor(int instanceId, int sensor, long timestampUs, float x, float y, float z) {
+        if (sensor != SDL_SENSOR_ACCEL && sensor != SDL_SENSOR_GYRO) {
+            return;
+        }
+        ControllerMotion motion = getOrCreate(instanceId);
+        if (motion == null) {
+            return;
+        }
+        (sensor == SDL_SENSOR_GYRO ? motion.gyro : motion.accel).add(timestampUs, x, y, z);
+    }
+
+    /**
+     * Process the pending samples of every controller.
+     *
+     * @return the number of gyroscope samples processed
+     */
+    public int update(OrientationFilter filter) {
+        int processed = 0;
+        for (int i = 0; i < count; i++) {
+            processed += filter.update(controllers[i]);
+        }
+        return processed;
+    }
+
+    private ControllerMotion getOrCreate(int instanceId) {
+        ControllerMotion motion = get(instanceId);
+        if (motion != null) {
+            return motion;
+        }
+        if (count == controllers.length) {
+            droppedEvents++;
+            return null;
+        }
+        motion = controllers[count++];
+        motion.reset(instanceId);
+        return motion;
+    }
+
+    /**
+     * @param instanceId the joystick instance id of the controller
+     * @return the motion of the controller, or null if no sensor sample of the controller has been recorded yet
+     */
+    public ControllerMotion get(int instanceId) {
+        for (int i = 0; i < count; i++) {
+            if (controllers[i].instanceId == instanceId) {
+                return controllers[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forget a controller, as done automatically for {@code SDL_CONTROLLERDEVICEREMOVED} events.
+     *
+     * @param instanceId the joystick instance id of the controller
+     */
+    public void remove(int instanceId) {
+        for (int i = 0; i < count; i++) {
+            if (controllers[i].instanceId == instanceId) {
+                ControllerMotion removed = controllers[i];
+                controllers[i] = controllers[--count];
+                controllers[count] = removed;
+                removed.instanceId = -1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of controllers currently tracked
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param index an index from 0 to {@link #size()} - 1
+     * @return the motion at the given index. The order changes as controllers are removed.
+     */
+    public ControllerMotion getAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return controllers[index];
+    }
+
+    /**
+     * @return the number of samples ignored because {@code maxControllers} controllers were already tracked
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
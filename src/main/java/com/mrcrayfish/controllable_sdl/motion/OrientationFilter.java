@@ -0,0 +1,93 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+/**
+ * Fuses the gyroscope and accelerometer samples of a controller into an orientation.
+ *
+ * <p>{@link #update(ControllerMotion)} processes every pending gyroscope sample in one loop, pairing each with the
+ * latest accelerometer sample recorded at or before it, then removes the processed samples from both rings. Calling
+ * it once per frame keeps the full sensor rate, typically 200 Hz to 1 kHz, without allocating or calling into SDL.
+ * The gyroscope integrates rotation and the accelerometer, which measures gravity while the controller is held
+ * still, pulls the tilt back to stop it from drifting. Yaw around the gravity axis is not observable from these two
+ * sensors and drifts slowly.</p>
+ *
+ * <p>Implementations work in a frame where gravity is along +Z, as usual for these filters. Samples are rotated into
+ * it from the SDL axes, where gravity is along +Y, and {@link ControllerMotion} rotates the result back.</p>
+ *
+ * <p>A filter holds no per-controller state, so a single instance can update every controller.</p>
+ */
+public abstract class OrientationFilter {
+
+    // Longer gaps, such as a controller waking up, are not integrated to avoid a sudden jump
+    private static final float MAX_STEP_SECONDS = 0.1f;
+
+    /**
+     * Process every pending sample of the controller.
+     *
+     * @param motion the samples and orientation of a controller
+     * @return the number of gyroscope samples processed
+     */
+    public final int update(ControllerMotion motion) {
+        SensorRing gyro = motion.gyro;
+        SensorRing accel = motion.accel;
+        int gyroCount = gyro.available();
+        int accelCount = accel.available();
+        int accelIndex = 0;
+        for (int i = 0; i < gyroCount; i++) {
+            long timestampUs = gyro.getTimestampUs(i);
+            while (accelIndex < accelCount && accel.getTimestampUs(accelIndex) <= timestampUs) {
+                // SDL axes (x, y, z) to the filter frame (z, x, y)
+                motion.ax = accel.getZ(accelIndex);
+                motion.ay = accel.getX(accelIndex);
+                motion.az = accel.getY(accelIndex);
+                motion.hasAccel = true;
+                accelIndex++;
+            }
+            long previousUs = motion.lastGyroUs;
+            motion.lastGyroUs = timestampUs;
+            if (previousUs == Long.MIN_VALUE) {
+                continue;
+            }
+            float dt = (timestampUs - previousUs) * 1e-6f;
+            if (dt <= 0f || dt > MAX_STEP_SECONDS) {
+                continue;
+            }
+            step(motion, dt, gyro.getZ(i), gyro.getX(i), gyro.getY(i));
+        }
+        gyro.advance(gyroCount);
+        // Keep the accelerometer samples newer than the last gyroscope sample for the next frame
+        accel.advance(accelIndex);
+        return gyroCount;
+    }
+
+    /**
+     * Advance the orientation of the controller by one gyroscope sample. The quaternion is read from and written to
+     * {@code motion.q0} to {@code q3}, and the latest accelerometer sample is {@code motion.ax} to {@code az} if
+     * {@code motion.hasAccel} is set. Every value is in the frame of the filter.
+     *
+     * @param motion the controller
+     * @param dt     the time since the previous gyroscope sample, in seconds
+     * @param gx     the angular velocity around X, in radians per second
+     * @param gy     the angular velocity around Y, in radians per second
+     * @param gz     the angular velocity around Z, in radians per second
+     */
+    abstract void step(ControllerMotion motion, float dt, float gx, float gy, float gz);
+
+    /**
+     * Integrate the rate of change of the quaternion over {@code dt} and normalize the result.
+     */
+    static void integrate(ControllerMotion m, float dt, float dq0, float dq1, float dq2, float dq3) {
+        float q0 = m.q0 + dq0 * dt;
+        float q1 = m.q1 + dq1 * dt;
+        float q2 = m.q2 + dq2 * dt;
+        float q3 = m.q3 + dq3 * dt;
+        float norm = invSqrt(q0 * q0 + q1 * q1 + q2 * q2 + q3 * q3);
+        m.q0 = q0 * norm;
+        m.q1 = q1 * norm;
+        m.q2 = q2 * norm;
+        m.q3 = q3 * norm;
+    }
+
+    static float invSqrt(float x) {
+        return (float) (1.0 / Math.sqrt(x));
+    }
+}
@@ -0,0 +1,130 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+/**
+ * A ring of timestamped three-axis sensor samples, stored as one primitive array per component.
+ *
+ * <p>Keeping the timestamps and each axis in their own array lets a filter walk the pending samples of a frame in a
+ * tight loop over contiguous memory, and adding a sample never allocates. Once the ring is full the oldest sample is
+ * overwritten and counted in {@link #getOverrunCount()}.</p>
+ *
+ * <p>Pending samples are addressed from 0, the oldest, to {@link #available()} - 1, the newest, and are removed with
+ * {@link #advance(int)} once processed.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class SensorRing {
+
+    private final long[] timestampsUs;
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] zs;
+    private final int mask;
+    private long head;
+    private long tail;
+    private long overruns;
+
+    /**
+     * @param capacity the number of samples held, rounded up to the next power of two
+     */
+    public SensorRing(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, 1);
+        this.timestampsUs = new long[size];
+        this.xs = new float[size];
+        this.ys = new float[size];
+        this.zs = new float[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Append a sample, overwriting the oldest one if the ring is full.
+     */
+    public void add(long timestampUs, float x, float y, float z) {
+        if (tail - head == timestampsUs.length) {
+            head++;
+            overruns++;
+        }
+        int index = (int) tail & mask;
+        timestampsUs[index] = timestampUs;
+        xs[index] = x;
+        ys[index] = y;
+        zs[index] = z;
+        tail++;
+    }
+
+    /**
+     * @return the number of pending samples
+     */
+    public int available() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Remove the oldest pending samples.
+     *
+     * @param count the number of samples to remove, at most {@link #available()}
+     */
+    public void advance(int count) {
+        if (count < 0 || count > available()) {
+            throw new IllegalArgumentException("Cannot advance " + count + " of " + available() + " samples");
+        }
+        head += count;
+    }
+
+    /**
+     * Remove every pending sample.
+     */
+    public void clear() {
+        head = tail;
+    }
+
+    /**
+     * @return the timestamp of a pending sample, in microseconds
+     */
+    public long getTimestampUs(int index) {
+        return timestampsUs[slot(index)];
+    }
+
+    public float getX(int index) {
+        return xs[slot(index)];
+    }
+
+    public float getY(int index) {
+        return ys[slot(index)];
+    }
+
+    public float getZ(int index) {
+        return zs[slot(index)];
+    }
+
+    /**
+     * @return the number of samples added since the ring was created
+     */
+    public long getTotalCount() {
+        return tail;
+    }
+
+    /**
+     * @return the number of samples overwritten before they were processed
+     */
+    public long getOverrunCount() {
+        return overruns;
+    }
+
+    /**
+     * @return the number of samples the ring holds
+     */
+    public int capacity() {
+        return timestampsUs.length;
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= tail - head) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Available: " + available());
+        }
+        return (int) (head + index) & mask;
+    }
+}
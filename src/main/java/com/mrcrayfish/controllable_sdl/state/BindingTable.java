@@ -0,0 +1,399 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.util.Arrays;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERLEFT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERRIGHT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerBindType.SDL_CONTROLLER_BINDTYPE_AXIS;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerBindType.SDL_CONTROLLER_BINDTYPE_BUTTON;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerBindType.SDL_CONTROLLER_BINDTYPE_HAT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerMapping;
+
+/**
+ * The bindings of a game controller onto the axes, buttons and hats of its joystick, compiled into flat primitive
+ * tables.
+ *
+ * <p>Reading a controller through {@code SDL_GameControllerGetAxis} and {@code SDL_GameControllerGetButton} costs a
+ * downcall per axis and button, and SDL walks the bindings of the controller on every call. A table is compiled once
+ * per device and derives the whole controller layout from a {@link JoystickState} in Java, with the same rules as
+ * SDL: axis ranges are rescaled, an axis bound to a button is pressed past the middle of its range, the first binding
+ * of an axis in mapping order with a non-zero value inside its output range wins (so a trigger ignores negative
+ * values) and several bindings of a button are combined.</p>
+ *
+ * <p>The table is compiled from the mapping string of the controller rather than from
+ * {@code SDL_GameControllerGetBindForAxis} and {@code SDL_GameControllerGetBindForButton}, since those only report the
+ * first binding of each element and leave out the half axis and inversion modifiers ({@code +a2}, {@code -a1},
+ * {@code a3~}), which change the values SDL reports.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>{@code
+ * BindingTable table = BindingTable.compile(controller);
+ * JoystickState raw = JoystickState.of(SDL_GameControllerGetJoystick(controller));
+ * ControllerState state = new ControllerState();
+ * // Each frame
+ * raw.accept(batch);
+ * table.apply(raw, state);
+ * }</pre>
+ *
+ * <p>Instances are immutable and can be shared between threads.</p>
+ */
+public final class BindingTable {
+
+    private static final int AXIS_MIN = Short.MIN_VALUE;
+    private static final int AXIS_MAX = Short.MAX_VALUE;
+
+    // Indexed by SDL_GameControllerAxis and SDL_GameControllerButton, as in SDL_gamecontroller.c
+    private static final String[] AXIS_NAMES = {
+            "leftx", "lefty", "rightx", "righty", "lefttrigger", "righttrigger"
+    };
+    private static final String[] BUTTON_NAMES = {
+            "a", "b", "x", "y", "back", "guide", "start", "leftstick", "rightstick", "leftshoulder", "rightshoulder",
+            "dpup", "dpdown", "dpleft", "dpright", "misc1", "paddle1", "paddle2", "paddle3", "paddle4", "touchpad"
+    };
+
+    // Bindings sorted by output: the axes, then the buttons. The bindings of an output are found through the starts.
+    private final int[] axisStarts;
+    private final int[] buttonStarts;
+    private final byte[] outputs;
+    private final byte[] inputTypes;
+    private final short[] inputIndices;
+    private final int[] inputMins;
+    private final int[] inputMaxs;
+    private final int[] outputMins;
+    private final int[] outputMaxs;
+
+    private BindingTable(Builder builder) {
+        int count = builder.count;
+        // A stable sort by output keeps the order of the mapping among the bindings of the same output
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(builder.outputs[a], builder.outputs[b]));
+        this.outputs = new byte[count];
+        this.inputTypes = new byte[count];
+        this.inputIndices = new short[count];
+        this.inputMins = new int[count];
+        this.inputMaxs = new int[count];
+        this.outputMins = new int[count];
+        this.outputMaxs = new int[count];
+        for (int i = 0; i < count; i++) {
+            int from = order[i];
+            outputs[i] = (byte) builder.outputs[from];
+            inputTypes[i] = (byte) builder.inputTypes[from];
+            inputIndices[i] = (short) builder.inputIndices[from];
+            inputMins[i] = builder.inputMins[from];
+            inputMaxs[i] = builder.inputMaxs[from];
+            outputMins[i] = builder.outputMins[from];
+            outputMaxs[i] = builder.outputMaxs[from];
+        }
+        this.axisStarts = new int[SDL_CONTROLLER_AXIS_MAX + 1];
+        this.buttonStarts = new int[SDL_CONTROLLER_BUTTON_MAX + 1];
+        int index = 0;
+        for (int axis = 0; axis <= SDL_CONTROLLER_AXIS_MAX; axis++) {
+            while (index < count && outputs[index] < axis) {
+                index++;
+            }
+            axisStarts[axis] = index;
+        }
+        for (int button = 0; button <= SDL_CONTROLLER_BUTTON_MAX; button++) {
+            while (index < count && outputs[index] < SDL_CONTROLLER_AXIS_MAX + button) {
+                index++;
+            }
+            buttonStarts[button] = index;
+        }
+    }
+
+    /**
+     * Compile the bindings of an open game controller.
+     *
+     * @throws IllegalStateException if SDL has no mapping for the controller
+     */
+    public static BindingTable compile(SDL_GameController controller) {
+        String mapping = SDL_GameControllerMapping(controller);
+        if (mapping == null) {
+            throw new IllegalStateException("The game controller has no mapping");
+        }
+        return parse(mapping);
+    }
+
+    /**
+     * Compile the bindings of a mapping string, in the {@code GUID,name,mapping} format of
+     * {@code SDL_GameControllerAddMapping}. Elements that are not recognized are skipped, like SDL does.
+     */
+    public static BindingTable parse(String mapping) {
+        Builder builder = new Builder();
+        int start = 0;
+        int field = 0;
+        while (start <= mapping.length()) {
+            int end = mapping.indexOf(',', start);
+            if (end == -1) {
+                end = mapping.length();
+            }
+            // The first two fields are the GUID and the name
+            if (field++ >= 2) {
+                int colon = mapping.indexOf(':', start);
+                if (colon != -1 && colon < end) {
+                    builder.add(mapping.substring(start, colon), mapping.substring(colon + 1, end));
+                }
+            }
+            start = end + 1;
+        }
+        return new BindingTable(builder);
+    }
+
+    /**
+     * Derive every axis and button of the controller from the joystick state. Other values of the controller state,
+     * such as touchpads and sensors, are left unchanged.
+     */
+    public void apply(JoystickState raw, ControllerState state) {
+        for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+            state.axes[axis] = getAxis(raw, axis);
+        }
+        long buttons = 0L;
+        for (int button = 0; button < SDL_CONTROLLER_BUTTON_MAX; button++) {
+            if (getButton(raw, button)) {
+                buttons |= 1L << button;
+            }
+        }
+        state.buttons = buttons;
+    }
+
+    /**
+     * @param raw  the state of the joystick of the controller
+     * @param axis the axis of the controller
+     * @return the value {@code SDL_GameControllerGetAxis} would return for the joystick state
+     */
+    public short getAxis(JoystickState raw, @MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        if (axis < 0 || axis >= SDL_CONTROLLER_AXIS_MAX) {
+            return 0;
+        }
+        for (int i = axisStarts[axis]; i < axisStarts[axis + 1]; i++) {
+            int value = 0;
+            switch (inputTypes[i]) {
+                case SDL_CONTROLLER_BINDTYPE_AXIS:
+                    int min = inputMins[i];
+                    int max = inputMaxs[i];
+                    value = raw.getAxis(inputIndices[i]);
+                    boolean inRange = min < max ? value >= min && value <= max : value >= max && value <= min;
+                    if (!inRange) {
+                        value = 0;
+                    } else if (min != outputMins[i] || max != outputMaxs[i]) {
+                        // Rescaled in single precision, exactly as SDL does
+                        float normalized = (float) (value - min) / (max - min);
+                        value = outputMins[i] + (int) (normalized * (outputMaxs[i] - outputMins[i]));
+                    }
+                    break;
+                case SDL_CONTROLLER_BINDTYPE_BUTTON:
+                    if (raw.getButton(inputIndices[i]) == SDL_PRESSED) {
+                        value = outputMaxs[i];
+                    }
+                    break;
+                case SDL_CONTROLLER_BINDTYPE_HAT:
+                    if ((raw.getHat(inputIndices[i]) & inputMins[i]) != 0) {
+                        value = outputMaxs[i];
+                    }
+                    break;
+                default:
+                    break;
+            }
+            // A zero value or one outside the output range leaves the axis to the next binding
+            int outputMin = outputMins[i];
+            int outputMax = outputMaxs[i];
+            boolean inOutputRange = outputMin < outputMax ? value >= outputMin && value <= outputMax : value >= outputMax && value <= outputMin;
+            if (value != 0 && inOutputRange) {
+                return (short) value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param raw    the state of the joystick of the controller
+     * @param button the button of the controller
+     * @return true if {@code SDL_GameControllerGetButton} would report the button as pressed for the joystick state
+     */
+    public boolean getButton(JoystickState raw, @MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        if (button < 0 || button >= SDL_CONTROLLER_BUTTON_MAX) {
+            return false;
+        }
+        for (int i = buttonStarts[button]; i < buttonStarts[button + 1]; i++) {
+            switch (inputTypes[i]) {
+                case SDL_CONTROLLER_BINDTYPE_AXIS:
+                    int min = inputMins[i];
+                    int max = inputMaxs[i];
+                    int value = raw.getAxis(inputIndices[i]);
+                    int threshold = min + (max - min) / 2;
+                    if (min < max) {
+                        if (value >= min && value <= max && value >= threshold) {
+                            return true;
+                        }
+                    } else if (value >= max && value <= min && value <= threshold) {
+                        return true;
+                    }
+                    break;
+                case SDL_CONTROLLER_BINDTYPE_BUTTON:
+                    if (raw.getButton(inputIndices[i]) == SDL_PRESSED) {
+                        return true;
+                    }
+                    break;
+                case SDL_CONTROLLER_BINDTYPE_HAT:
+                    if ((raw.getHat(inputIndices[i]) & inputMins[i]) != 0) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of bindings
+     */
+    public int size() {
+        return outputs.length;
+    }
+
+    private static final class Builder {
+
+        private int count;
+        private int[] outputs = new int[32];
+        private int[] inputTypes = new int[32];
+        private int[] inputIndices = new int[32];
+        private int[] inputMins = new int[32];
+        private int[] inputMaxs = new int[32];
+        private int[] outputMins = new int[32];
+        private int[] outputMaxs = new int[32];
+
+        private void add(String element, String input) {
+            char halfOutput = 0;
+            if (element.startsWith("+") || element.startsWith("-")) {
+                halfOutput = element.charAt(0);
+                element = element.substring(1);
+            }
+            int output;
+            int outputMin;
+            int outputMax;
+            int axis = indexOf(AXIS_NAMES, element);
+            int button = indexOf(BUTTON_NAMES, element);
+            if (axis != -1) {
+                output = axis;
+                if (axis == SDL_CONTROLLER_AXIS_TRIGGERLEFT || axis == SDL_CONTROLLER_AXIS_TRIGGERRIGHT) {
+                    outputMin = 0;
+                    outputMax = AXIS_MAX;
+                } else if (halfOutput == '+') {
+                    outputMin = 0;
+                    outputMax = AXIS_MAX;
+                } else if (halfOutput == '-') {
+                    outputMin = 0;
+                    outputMax = AXIS_MIN;
+                } else {
+                    outputMin = AXIS_MIN;
+                    outputMax = AXIS_MAX;
+                }
+            } else if (button != -1) {
+                output = SDL_CONTROLLER_AXIS_MAX + button;
+                outputMin = 0;
+                outputMax = 1;
+            } else {
+                return;
+            }
+
+            char halfInput = 0;
+            if (input.startsWith("+") || input.startsWith("-")) {
+                halfInput = input.charAt(0);
+                input = input.substring(1);
+            }
+            boolean invert = input.endsWith("~");
+            if (invert) {
+                input = input.substring(0, input.length() - 1);
+            }
+            if (input.length() < 2 || !Character.isDigit(input.charAt(1))) {
+                return;
+            }
+            int inputType;
+            int inputIndex;
+            int inputMin = 0;
+            int inputMax = 0;
+            try {
+                switch (input.charAt(0)) {
+                    case 'a':
+                        inputType = SDL_CONTROLLER_BINDTYPE_AXIS;
+                        inputIndex = Integer.parseInt(input.substring(1));
+                        if (halfInput == '+') {
+                            inputMax = AXIS_MAX;
+                        } else if (halfInput == '-') {
+                            inputMax = AXIS_MIN;
+                        } else {
+                            inputMin = AXIS_MIN;
+                            inputMax = AXIS_MAX;
+                        }
+                        if (invert) {
+                            int swap = inputMin;
+                            inputMin = inputMax;
+                            inputMax = swap;
+                        }
+                        break;
+                    case 'b':
+                        inputType = SDL_CONTROLLER_BINDTYPE_BUTTON;
+                        inputIndex = Integer.parseInt(input.substring(1));
+                        break;
+                    case 'h':
+                        int dot = input.indexOf('.');
+                        if (dot == -1) {
+                            return;
+                        }
+                        inputType = SDL_CONTROLLER_BINDTYPE_HAT;
+                        inputIndex = Integer.parseInt(input.substring(1, dot));
+                        // The hat mask is kept in the input minimum
+                        inputMin = Integer.parseInt(input.substring(dot + 1));
+                        break;
+                    default:
+                        return;
+                }
+            } catch (NumberFormatException e) {
+                return;
+            }
+            if (inputIndex > Short.MAX_VALUE) {
+                return;
+            }
+
+            if (count == outputs.length) {
+                int capacity = count * 2;
+                outputs = Arrays.copyOf(outputs, capacity);
+                inputTypes = Arrays.copyOf(inputTypes, capacity);
+                inputIndices = Arrays.copyOf(inputIndices, capacity);
+                inputMins = Arrays.copyOf(inputMins, capacity);
+                inputMaxs = Arrays.copyOf(inputMaxs, capacity);
+                outputMins = Arrays.copyOf(outputMins, capacity);
+                outputMaxs = Arrays.copyOf(outputMaxs, capacity);
+            }
+            outputs[count] = output;
+            inputTypes[count] = inputType;
+            inputIndices[count] = inputIndex;
+            inputMins[count] = inputMin;
+            inputMaxs[count] = inputMax;
+            outputMins[count] = outputMin;
+            outputMaxs[count] = outputMax;
+            count++;
+        }
+
+        private static int indexOf(String[] names, String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.util.Arrays;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton;
+import com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType;
+import org.intellij.lang.annotations.MagicConstant;
+
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_GYRO_R;
+
+/**
+ * The last known state of a single game controller, held in primitive fields.
+ *
+ * <p>Instances are updated by a {@link ControllerStateSnapshot}, or created by a reader thread as the destination
+ * of a {@link ControllerStatePublisher}. Reading a value is a plain field or array access and never calls into SDL.</p>
+ */
+public final class ControllerState {
+
+    /** The maximum number of touchpads tracked per controller */
+    public static final int MAX_TOUCHPADS = 2;
+
+    /** The maximum number of fingers tracked per touchpad */
+    public static final int MAX_FINGERS = 4;
+
+    /** The number of {@link SDL_SensorType} values tracked, indexed by the sensor type */
+    public static final int SENSOR_TYPES = SDL_SENSOR_GYRO_R + 1;
+
+    static final int TOUCH_STRIDE = 3;
+    static final int SENSOR_STRIDE = 3;
+
+    int instanceId = -1;
+    final short[] axes = new short[SDL_CONTROLLER_AXIS_MAX];
+    long buttons;
+    int fingersDown;
+    final float[] touch = new float[MAX_TOUCHPADS * MAX_FINGERS * TOUCH_STRIDE];
+    final float[] sensors = new float[SENSOR_TYPES * SENSOR_STRIDE];
+    final long[] sensorTimestampsUs = new long[SENSOR_TYPES];
+    int timestamp;
+
+    public ControllerState() {
+    }
+
+    void reset(int instanceId) {
+        this.instanceId = instanceId;
+        Arrays.fill(axes, (short) 0);
+        buttons = 0L;
+        fingersDown = 0;
+        Arrays.fill(touch, 0F);
+        Arrays.fill(sensors, 0F);
+        Arrays.fill(sensorTimestampsUs, 0L);
+        timestamp = 0;
+    }
+
+    /**
+     * Copy every value of another state into this one.
+     */
+    public void copyFrom(ControllerState other) {
+        instanceId = other.instanceId;
+        System.arraycopy(other.axes, 0, axes, 0, axes.length);
+        buttons = other.buttons;
+        fingersDown = other.fingersDown;
+        System.arraycopy(other.touch, 0, touch, 0, touch.length);
+        System.arraycopy(other.sensors, 0, sensors, 0, sensors.length);
+        System.arraycopy(other.sensorTimestampsUs, 0, sensorTimestampsUs, 0, sensorTimestampsUs.length);
+        timestamp = other.timestamp;
+    }
+
+    static int touchIndex(int touchpad, int finger) {
+        return (touchpad * MAX_FINGERS + finger) * TOUCH_STRIDE;
+    }
+
+    /**
+     * @return the joystick instance id of the controller, or -1 if this state is not in use
+     */
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * @param axis an axis from {@link SDL_GameControllerAxis}
+     * @return the axis value (range: -32768 to 32767), as reported by the last axis event
+     */
+    public short getAxis(@MagicConstant(valuesFromClass = SDL_GameControllerAxis.class) int axis) {
+        return axes[axis];
+    }
+
+    /**
+     * Copy all axis values, indexed by {@link SDL_GameControllerAxis}, into the given array.
+     */
+    public void getAxes(short[] destination) {
+        System.arraycopy(axes, 0, destination, 0, axes.length);
+    }
+
+    /**
+     * @param button a button from {@link SDL_GameControllerButton}
+     * @return true if the last event of the button was a press
+     */
+    public boolean isButtonDown(@MagicConstant(valuesFromClass = SDL_GameControllerButton.class) int button) {
+        return (buttons & 1L << button) != 0L;
+    }
+
+    /**
+     * @return the pressed buttons, one bit per {@link SDL_GameControllerButton} value
+     */
+    public long getButtons() {
+        return buttons;
+    }
+
+    /**
+     * @return true if the finger is currently touching the touchpad
+     */
+    public boolean isFingerDown(int touchpad, int finger) {
+        return (fingersDown & 1 << touchpad * MAX_FINGERS + finger) != 0;
+    }
+
+    /** Normalized in the range 0...1 with 0 being on the left */
+    public float getTouchpadX(int touchpad, int finger) {
+        return touch[touchIndex(touchpad, finger)];
+    }
+
+    /** Normalized in the range 0...1 with 0 being at the top */
+    public float getTouchpadY(int touchpad, int finger) {
+        return touch[touchIndex(touchpad, finger) + 1];
+    }
+
+    /** Normalized in the range 0...1 */
+    public float getTouchpadPressure(int touchpad, int finger) {
+        return touch[touchIndex(touchpad, finger) + 2];
+    }
+
+    /**
+     * @param sensor    the sensor type from {@link SDL_SensorType}
+     * @param component the component of the sensor data, from 0 to 2
+     * @return the value reported by the last sensor event
+     */
+    public float getSensorData(@MagicConstant(valuesFromClass = SDL_SensorType.class) int sensor, int component) {
+        return sensors[sensor * SENSOR_STRIDE + component];
+    }
+
+    /**
+     * @return the timestamp in microseconds of the last reading of the sensor, if the hardware provides this information
+     */
+    public long getSensorTimestampUs(@MagicConstant(valuesFromClass = SDL_SensorType.class) int sensor) {
+        return sensorTimestampsUs[sensor];
+    }
+
+    /**
+     * @return the SDL_GetTicks() timestamp of the last event applied to this state
+     */
+    public int getTimestamp() {
+        return timestamp;
+    }
+}
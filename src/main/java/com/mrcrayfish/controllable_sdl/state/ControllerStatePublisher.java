@@ -0,0 +1,165 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the controller states of a {@link ControllerStateSnapshot} from the thread that handles events to any
+ * number of reader threads, without locks and without calling into SDL.
+ *
+ * <p>The publisher holds two frames of preallocated {@link ControllerState}s. {@link #publish(ControllerStateSnapshot)}
+ * copies the snapshot into the frame readers are not looking at and then flips the current frame, so the render,
+ * physics and network threads no longer have to call
+ * {@link com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerGetAxis
+ * SDL_GameControllerGetAxis} under {@link com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick#SDL_LockJoysticks()
+ * SDL_LockJoysticks}. Each frame is guarded by a sequence number. A reader copies the values it wants and
+ * checks that the sequence did not change in the meantime, retrying otherwise, so it never observes a
+ * half-written frame. A retry only happens when a reader is still copying a frame two publications later.</p>
+ *
+ * <h2>Sample usage:</h2>
+ * <pre>
+ * // SDL thread, once per frame
+ * snapshot.accept(batch);
+ * publisher.publish(snapshot);
+ *
+ * // Any other thread
+ * ControllerState state = new ControllerState();
+ * if (publisher.read(instanceId, state)) {
+ *     float x = state.getAxis(SDL_CONTROLLER_AXIS_LEFTX) / 32767F;
+ * }
+ * </pre>
+ *
+ * <p>Exactly one thread may call {@link #publish(ControllerStateSnapshot)}. The read methods may be called from
+ * any thread, each with its own destination states.</p>
+ */
+public final class ControllerStatePublisher {
+
+    private final Frame[] frames = new Frame[2];
+    private final AtomicInteger current = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * @param maxControllers the maximum number of controllers published, usually the same as the snapshot
+     */
+    public ControllerStatePublisher(int maxControllers) {
+        if (maxControllers < 1) {
+            throw new IllegalArgumentException("At least one controller must be published");
+        }
+        this.frames[0] = new Frame(maxControllers);
+        this.frames[1] = new Frame(maxControllers);
+    }
+
+    /**
+     * Publish the current states of the snapshot. Must only be called from a single thread.
+     *
+     * @param snapshot the snapshot to copy the states from
+     * @throws IllegalArgumentException if the snapshot holds more controllers than this publisher
+     */
+    public void publish(ControllerStateSnapshot snapshot) {
+        int count = snapshot.size();
+        Frame next = frames[(current.get() + 1) & 1];
+        if (count > next.states.length) {
+            throw new IllegalArgumentException("Snapshot holds " + count + " controllers, at most " + next.states.length + " can be published");
+        }
+        long sequence = next.sequence.get();
+        next.sequence.set(sequence + 1);
+        VarHandle.storeStoreFence();
+        for (int i = 0; i < count; i++) {
+            next.states[i].copyFrom(snapshot.getAt(i));
+        }
+        next.count = count;
+        next.sequence.setRelease(sequence + 2);
+        current.setRelease((current.get() + 1) & 1);
+        version.setRelease(version.get() + 1);
+    }
+
+    /**
+     * Copy the last published state of a controller.
+     *
+     * @param instanceId the joystick instance id of the controller
+     * @param dest       the state to copy into
+     * @return true if the controller was part of the last publication, otherwise false and dest is left in an
+     * unspecified state
+     */
+    public boolean read(int instanceId, ControllerState dest) {
+        while (true) {
+            Frame frame = frames[current.getAcquire()];
+            long sequence = frame.sequence.getAcquire();
+            if ((sequence & 1) == 0) {
+                boolean found = false;
+                int count = frame.count;
+                for (int i = 0; i < count; i++) {
+                    ControllerState state = frame.states[i];
+                    if (state.instanceId == instanceId) {
+                        dest.copyFrom(state);
+                        found = true;
+                        break;
+                    }
+                }
+                VarHandle.loadLoadFence();
+                if (frame.sequence.get() == sequence) {
+                    return found;
+                }
+            }
+            retries.increment();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Copy the last published state of every controller.
+     *
+     * @param dest the states to copy into. Controllers that do not fit are skipped.
+     * @return the number of states copied into dest
+     */
+    public int readAll(ControllerState[] dest) {
+        while (true) {
+            Frame frame = frames[current.getAcquire()];
+            long sequence = frame.sequence.getAcquire();
+            if ((sequence & 1) == 0) {
+                int count = Math.min(frame.count, dest.length);
+                for (int i = 0; i < count; i++) {
+                    dest[i].copyFrom(frame.states[i]);
+                }
+                VarHandle.loadLoadFence();
+                if (frame.sequence.get() == sequence) {
+                    return count;
+                }
+            }
+            retries.increment();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return the number of publications so far. Readers can compare it with a previous value to skip
+     * copying when nothing was published.
+     */
+    public long getVersion() {
+        return version.getAcquire();
+    }
+
+    /**
+     * @return the number of times a reader had to retry because a frame was rewritten while it was being copied
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    private static final class Frame {
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final ControllerState[] states;
+        private int count;
+
+        private Frame(int maxControllers) {
+            this.states = new ControllerState[maxControllers];
+            for (int i = 0; i < maxControllers; i++) {
+                this.states[i] = new ControllerState();
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.nio.ByteBuffer;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerTouchpadEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEREMOVED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_MAX;
+
+/**
+ * A cache of the state of every game controller, kept up to date from {@code SDL_CONTROLLER*} events.
+ *
+ * <p>Instead of calling {@link com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerGetAxis
+ * SDL_GameControllerGetAxis} and {@link com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller#SDL_GameControllerGetButton
+ * SDL_GameControllerGetButton} for every axis and button of every controller each frame, feed the events of the frame
+ * to {@link #accept(EventBatch)} (or {@link #accept(SDL_Event)}) and read the resulting {@link ControllerState}s. Only the
+ * values that changed are touched, and polling a state never calls into SDL.</p>
+ *
+ * <p>States are keyed by joystick instance id. A state is created by the first event of a controller
+ * and recycled once its {@code SDL_CONTROLLERDEVICEREMOVED} event is applied. Since the snapshot only sees changes,
+ * values that were already held when a controller was opened stay at zero until they change.</p>
+ *
+ * <p>Instances are not thread-safe. The snapshot should be updated and read on the thread that handles events, and
+ * handed to other threads through a {@link ControllerStatePublisher}.</p>
+ */
+public final class ControllerStateSnapshot {
+
+    private final ControllerState[] states;
+    private int count;
+    private long droppedEvents;
+
+    private final ControllerAxisEventView axisView = new ControllerAxisEventView();
+    private final ControllerButtonEventView buttonView = new ControllerButtonEventView();
+    private final ControllerDeviceEventView deviceView = new ControllerDeviceEventView();
+    private final ControllerTouchpadEventView touchpadView = new ControllerTouchpadEventView();
+    private final ControllerSensorEventView sensorView = new ControllerSensorEventView();
+
+    /**
+     * @param maxControllers the maximum number of controllers tracked at the same time
+     */
+    public ControllerStateSnapshot(int maxControllers) {
+        if (maxControllers < 1) {
+            throw new IllegalArgumentException("At least one controller must be tracked");
+        }
+        this.states = new ControllerState[maxControllers];
+        for (int i = 0; i < maxControllers; i++) {
+            this.states[i] = new ControllerState();
+        }
+    }
+
+    /**
+     * Apply every event of the batch. Events other than {@code SDL_CONTROLLER*} events are ignored.
+     */
+    public void accept(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            accept(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Apply a single event held in native memory, such as a slot of an {@link com.mrcrayfish.controllable_sdl.concurrent.EventRing EventRing}.
+     * Events other than {@code SDL_CONTROLLER*} events are ignored.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     */
+    public void accept(ByteBuffer buffer, int offset) {
+        int type = buffer.getInt(offset + EventView.TYPE_OFFSET);
+        switch (type) {
+            case SDL_CONTROLLERAXISMOTION:
+                axisView.wrap(buffer, offset);
+                onAxis(axisView.getWhich(), axisView.getTimestamp(), axisView.getAxis(), axisView.getValue());
+                break;
+            case SDL_CONTROLLERBUTTONDOWN:
+            case SDL_CONTROLLERBUTTONUP:
+                buttonView.wrap(buffer, offset);
+                onButton(buttonView.getWhich(), buttonView.getTimestamp(), buttonView.getButton(), buttonView.getState());
+                break;
+            case SDL_CONTROLLERDEVICEREMOVED:
+                remove(deviceView.wrap(buffer, offset).getWhich());
+                break;
+            case SDL_CONTROLLERTOUCHPADDOWN:
+            case SDL_CONTROLLERTOUCHPADMOTION:
+            case SDL_CONTROLLERTOUCHPADUP:
+                touchpadView.wrap(buffer, offset);
+                onTouchpad(touchpadView.getWhich(), touchpadView.getTimestamp(), type, touchpadView.getTouchpad(),
+                        touchpadView.getFinger(), touchpadView.getX(), touchpadView.getY(), touchpadView.getPressure());
+                break;
+            case SDL_CONTROLLERSENSORUPDATE:
+                sensorView.wrap(buffer, offset);
+                onSensor(sensorView.getWhich(), sensorView.getTimestamp(), sensorView.getSensor(),
+                        sensorView.getData(0), sensorView.getData(1), sensorView.getData(2), sensorView.getTimestampUs());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Apply an event already read into an {@link SDL_Event}, for example by
+     * {@link com.mrcrayfish.controllable_sdl.api.event.SdlEvents#SDL_PollEvent(SDL_Event) SDL_PollEvent}.
+     * Events other than {@code SDL_CONTROLLER*} events are ignored.
+     */
+    public void accept(SDL_Event event) {
+        switch (event.type) {
+            case SDL_CONTROLLERAXISMOTION:
+                onAxis(event.caxis.which.intValue(), event.caxis.timestamp, event.caxis.axis, event.caxis.value);
+                break;
+            case SDL_CONTROLLERBUTTONDOWN:
+            case SDL_CONTROLLERBUTTONUP:
+                onButton(event.cbutton.which.intValue(), event.cbutton.timestamp, event.cbutton.button, event.cbutton.state);
+                break;
+            case SDL_CONTROLLERDEVICEREMOVED:
+                remove(event.cdevice.which);
+                break;
+            case SDL_CONTROLLERTOUCHPADDOWN:
+            case SDL_CONTROLLERTOUCHPADMOTION:
+            case SDL_CONTROLLERTOUCHPADUP:
+                onTouchpad(event.ctouchpad.which.intValue(), event.ctouchpad.timestamp, event.type, event.ctouchpad.touchpad,
+                        event.ctouchpad.finger, event.ctouchpad.x, event.ctouchpad.y, event.ctouchpad.pressure);
+                break;
+            case SDL_CONTROLLERSENSORUPDATE:
+                onSensor(event.csensor.which.intValue(), event.csensor.timestamp, event.csensor.sensor,
+                        event.csensor.data[0], event.csensor.data[1], event.csensor.data[2], event.csensor.timestampUs);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onAxis(int instanceId, int timestamp, int axis, short value) {
+        ControllerState state = getOrCreate(instanceId);
+        if (state == null || axis < 0 || axis >= SDL_CONTROLLER_AXIS_MAX) {
+            return;
+        }
+        state.axes[axis] = value;
+        state.timestamp = timestamp;
+    }
+
+    private void onButton(int instanceId, int timestamp, int button, byte buttonState) {
+        ControllerState state = getOrCreate(instanceId);
+        if (state == null || button < 0 || button >= SDL_CONTROLLER_BUTTON_MAX) {
+            return;
+        }
+        if (buttonState == SDL_PRESSED) {
+            state.buttons |= 1L << button;
+        } else {
+            state.buttons &= ~(1L << button);
+        }
+        state.timestamp = timestamp;
+    }
+
+    private void onTouchpad(int instanceId, int timestamp, int type, int touchpad, int finger, float x, float y, float pressure) {
+        ControllerState state = getOrCreate(instanceId);
+        if (state == null || touchpad < 0 || touchpad >= ControllerState.MAX_TOUCHPADS || finger < 0 || finger >= ControllerState.MAX_FINGERS) {
+            return;
+        }
+        int index = ControllerState.touchIndex(touchpad, finger);
+        state.touch[index] = x;
+        state.touch[index + 1] = y;
+        state.touch[index + 2] = pressure;
+        int bit = 1 << touchpad * ControllerState.MAX_FINGERS + finger;
+        if (type == SDL_CONTROLLERTOUCHPADUP) {
+            state.fingersDown &= ~bit;
+        } else {
+            state.fingersDown |= bit;
+        }
+        state.timestamp = timestamp;
+    }
+
+    private void onSensor(int instanceId, int timestamp, int sensor, float x, float y, float z, long timestampUs) {
+        ControllerState state = getOrCreate(instanceId);
+        if (state == null || sensor < 0 || sensor >= ControllerState.SENSOR_TYPES) {
+            return;
+        }
+        int index = sensor * ControllerState.SENSOR_STRIDE;
+        state.sensors[index] = x;
+        state.sensors[index + 1] = y;
+        state.sensors[index + 2] = z;
+        state.sensorTimestampsUs[sensor] = timestampUs;
+        state.timestamp = timestamp;
+    }
+
+    private ControllerState getOrCreate(int instanceId) {
+        ControllerState state = get(instanceId);
+        if (state != null) {
+            return state;
+        }
+        if (count == states.length) {
+            droppedEvents++;
+            return null;
+        }
+        state = states[count++];
+        state.reset(instanceId);
+        return state;
+    }
+
+    /**
+     * @param instanceId the joystick instance id of the controller
+     * @return the state of the controller, or null if no event of the controller has been applied yet
+     */
+    public ControllerState get(int instanceId) {
+        for (int i = 0; i < count; i++) {
+            if (states[i].instanceId == instanceId) {
+                return states[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forget the state of a controller, as done automatically for {@code SDL_CONTROLLERDEVICEREMOVED} events.
+     *
+     * @param instanceId the joystick instance id of the controller
+     */
+    public void remove(int instanceId) {
+        for (int i = 0; i < count; i++) {
+            if (states[i].instanceId == instanceId) {
+                ControllerState removed = states[i];
+                states[i] = states[--count];
+                states[count] = removed;
+                removed.instanceId = -1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the number of controllers currently tracked
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param index an index from 0 to {@link #size()} - 1
+     * @return the state at the given index. The order changes as controllers are removed.
+     */
+    public ControllerState getAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return states[index];
+    }
+
+    /**
+     * @return the number of events ignored because {@code maxControllers} controllers were already tracked
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -0,0 +1,192 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyHatEventView;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYHATMOTION;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetAxis;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetButton;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetHat;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickNumAxes;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickNumButtons;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickNumHats;
+
+/**
+ * The raw axes, buttons and hats of a single joystick, held in primitive arrays.
+ *
+ * <p>The state is filled either by {@link #read(SDL_Joystick)}, which reads every element in one pass, or from the
+ * {@code SDL_JOY*} events of the joystick. A {@link BindingTable} turns it into the state of a game controller.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class JoystickState {
+
+    private final int instanceId;
+    final short[] axes;
+    final byte[] buttons;
+    final byte[] hats;
+
+    private final JoyAxisEventView axisView = new JoyAxisEventView();
+    private final JoyButtonEventView buttonView = new JoyButtonEventView();
+    private final JoyHatEventView hatView = new JoyHatEventView();
+
+    /**
+     * @param instanceId the joystick instance id whose events are applied
+     * @param numAxes    the number of axes of the joystick
+     * @param numButtons the number of buttons of the joystick
+     * @param numHats    the number of hats of the joystick
+     */
+    public JoystickState(int instanceId, int numAxes, int numButtons, int numHats) {
+        if (numAxes < 0 || numButtons < 0 || numHats < 0) {
+            throw new IllegalArgumentException("Invalid element count");
+        }
+        this.instanceId = instanceId;
+        this.axes = new short[numAxes];
+        this.buttons = new byte[numButtons];
+        this.hats = new byte[numHats];
+    }
+
+    /**
+     * Create a state sized for an open joystick and read its current values.
+     */
+    public static JoystickState of(SDL_Joystick joystick) {
+        JoystickState state = new JoystickState(SDL_JoystickInstanceID(joystick).intValue(),
+                Math.max(SDL_JoystickNumAxes(joystick), 0), Math.max(SDL_JoystickNumButtons(joystick), 0),
+                Math.max(SDL_JoystickNumHats(joystick), 0));
+        state.read(joystick);
+        return state;
+    }
+
+    /**
+     * Read every axis, button and hat of the joystick.
+     */
+    public void read(SDL_Joystick joystick) {
+        for (int i = 0; i < axes.length; i++) {
+            axes[i] = SDL_JoystickGetAxis(joystick, i);
+        }
+        for (int i = 0; i < buttons.length; i++) {
+            buttons[i] = SDL_JoystickGetButton(joystick, i);
+        }
+        for (int i = 0; i < hats.length; i++) {
+            hats[i] = SDL_JoystickGetHat(joystick, i);
+        }
+    }
+
+    /**
+     * Apply every event of the batch. Events other than the axis, button and hat events of the joystick are ignored.
+     */
+    public void accept(EventBatch batch) {
+        ByteBuffer buffer = batch.getBuffer();
+        for (int i = 0; i < batch.size(); i++) {
+            accept(buffer, batch.offsetOf(i));
+        }
+    }
+
+    /**
+     * Apply a single event held in native memory. Events other than the axis, button and hat events of the joystick
+     * are ignored.
+     *
+     * @param buffer a native-ordered buffer holding the event
+     * @param offset the byte offset of the event within the buffer
+     * @return true if the event changed the state
+     */
+    public boolean accept(ByteBuffer buffer, int offset) {
+        switch (buffer.getInt(offset + EventView.TYPE_OFFSET)) {
+            case SDL_JOYAXISMOTION:
+                axisView.wrap(buffer, offset);
+                int axis = axisView.getAxis() & 0xFF;
+                if (axisView.getWhich() != instanceId || axis >= axes.length) {
+                    return false;
+                }
+                axes[axis] = axisView.getValue();
+                return true;
+            case SDL_JOYBUTTONDOWN:
+            case SDL_JOYBUTTONUP:
+                buttonView.wrap(buffer, offset);
+                int button = buttonView.getButton() & 0xFF;
+                if (buttonView.getWhich() != instanceId || button >= buttons.length) {
+                    return false;
+                }
+                buttons[button] = buttonView.getState();
+                return true;
+            case SDL_JOYHATMOTION:
+                hatView.wrap(buffer, offset);
+                int hat = hatView.getHat() & 0xFF;
+                if (hatView.getWhich() != instanceId || hat >= hats.length) {
+                    return false;
+                }
+                hats[hat] = hatView.getValue();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Reset every element to its rest value.
+     */
+    public void clear() {
+        Arrays.fill(axes, (short) 0);
+        Arrays.fill(buttons, (byte) 0);
+        Arrays.fill(hats, (byte) 0);
+    }
+
+    public int getInstanceId() {
+        return instanceId;
+    }
+
+    public int getNumAxes() {
+        return axes.length;
+    }
+
+    public int getNumButtons() {
+        return buttons.length;
+    }
+
+    public int getNumHats() {
+        return hats.length;
+    }
+
+    /**
+     * @return the value of the axis, or 0 if the joystick has no such axis
+     */
+    public short getAxis(int axis) {
+        return axis >= 0 && axis < axes.length ? axes[axis] : 0;
+    }
+
+    /**
+     * @return the state of the button, or 0 if the joystick has no such button
+     */
+    public byte getButton(int button) {
+        return button >= 0 && button < buttons.length ? buttons[button] : 0;
+    }
+
+    /**
+     * @return the position of the hat, or 0 if the joystick has no such hat
+     */
+    public byte getHat(int hat) {
+        return hat >= 0 && hat < hats.length ? hats[hat] : 0;
+    }
+
+    public void setAxis(int axis, short value) {
+        axes[axis] = value;
+    }
+
+    public void setButton(int button, byte state) {
+        buttons[button] = state;
+    }
+
+    public void setHat(int hat, byte value) {
+        hats[hat] = value;
+    }
+}
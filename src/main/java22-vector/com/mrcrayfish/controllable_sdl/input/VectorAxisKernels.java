@@ -0,0 +1,88 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The axis conditioning stages written with the {@code jdk.incubator.vector} API, processing as many pads per
+ * instruction as the preferred vector shape of the CPU holds. The lanes left after the last full vector go through
+ * {@link ScalarAxisKernels}.
+ */
+final class VectorAxisKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private VectorAxisKernels() {
+    }
+
+    static void magnitude(float[] x, float[] y, float[] out, int count) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, i);
+            vx.mul(vx).add(vy.mul(vy)).sqrt().intoArray(out, i);
+        }
+        ScalarAxisKernels.magnitude(x, y, out, i, count);
+    }
+
+    static void abs(float[] v, float[] out, int count) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, v, i).abs().intoArray(out, i);
+        }
+        ScalarAxisKernels.abs(v, out, i, count);
+    }
+
+    static void deadzone(float[] m, int count, float inner, float invRange) {
+        FloatVector zero = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector value = FloatVector.fromArray(SPECIES, m, i);
+            VectorMask<Float> dead = value.compare(VectorOperators.LE, inner);
+            value.sub(inner).mul(invRange).min(1f).blend(zero, dead).intoArray(m, i);
+        }
+        ScalarAxisKernels.deadzone(m, i, count, inner, invRange);
+    }
+
+    static void lift(float[] s, int count, float anti) {
+        float gain = 1f - anti;
+        FloatVector zero = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector value = FloatVector.fromArray(SPECIES, s, i);
+            VectorMask<Float> dead = value.compare(VectorOperators.LE, 0f);
+            value.mul(gain).add(anti).blend(zero, dead).intoArray(s, i);
+        }
+        ScalarAxisKernels.lift(s, i, count, anti);
+    }
+
+    static void curve(float[] s, int count, float[] lut, int[] scratch) {
+        float steps = lut.length - 2;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector position = FloatVector.fromArray(SPECIES, s, i).mul(steps);
+            IntVector index = (IntVector) position.convert(VectorOperators.F2I, 0);
+            FloatVector fraction = position.sub((FloatVector) index.convert(VectorOperators.I2F, 0));
+            index.intoArray(scratch, 0);
+            FloatVector a = FloatVector.fromArray(SPECIES, lut, 0, scratch, 0);
+            FloatVector b = FloatVector.fromArray(SPECIES, lut, 1, scratch, 0);
+            b.sub(a).mul(fraction).add(a).intoArray(s, i);
+        }
+        ScalarAxisKernels.curve(s, i, count, lut);
+    }
+
+    static void rescale(float[] v, float[] before, float[] after, int count) {
+        FloatVector zero = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            FloatVector b = FloatVector.fromArray(SPECIES, before, i);
+            VectorMask<Float> still = b.compare(VectorOperators.LE, 0f);
+            FloatVector.fromArray(SPECIES, v, i).mul(FloatVector.fromArray(SPECIES, after, i)).div(b)
+                    .blend(zero, still).intoArray(v, i);
+        }
+        ScalarAxisKernels.rescale(v, before, after, i, count);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+/**
+ * The stages of {@link AxisConditioner}, each a loop over the axes of every pad held in a float array.
+ *
+ * <p>This is the JDK 22 version of the class, loaded from the multi-release part of the JAR. The loops run on
+ * {@link VectorAxisKernels} when the {@code jdk.incubator.vector} module is in the boot layer, which needs
+ * {@code --add-modules jdk.incubator.vector} on the command line. Otherwise, or if the
+ * {@value AxisConditioner#KERNELS_PROPERTY} system property is set to {@code scalar}, the scalar loops are used.</p>
+ */
+final class AxisKernels {
+
+    // VectorAxisKernels is only linked when this is true, so the module does not need to be present otherwise
+    private static final boolean VECTOR = !"scalar".equals(System.getProperty(AxisConditioner.KERNELS_PROPERTY))
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private AxisKernels() {
+    }
+
+    /**
+     * @return the name of the kernels in use, {@code "scalar"} or {@code "vector"}
+     */
+    static String getName() {
+        return VECTOR ? "vector" : "scalar";
+    }
+
+    static void magnitude(float[] x, float[] y, float[] out, int count) {
+        if (VECTOR) {
+            VectorAxisKernels.magnitude(x, y, out, count);
+        } else {
+            ScalarAxisKernels.magnitude(x, y, out, 0, count);
+        }
+    }
+
+    static void abs(float[] v, float[] out, int count) {
+        if (VECTOR) {
+            VectorAxisKernels.abs(v, out, count);
+        } else {
+            ScalarAxisKernels.abs(v, out, 0, count);
+        }
+    }
+
+    static void deadzone(float[] m, int count, float inner, float invRange) {
+        if (VECTOR) {
+            VectorAxisKernels.deadzone(m, count, inner, invRange);
+        } else {
+            ScalarAxisKernels.deadzone(m, 0, count, inner, invRange);
+        }
+    }
+
+    static void lift(float[] s, int count, float anti) {
+        if (VECTOR) {
+            VectorAxisKernels.lift(s, count, anti);
+        } else {
+            ScalarAxisKernels.lift(s, 0, count, anti);
+        }
+    }
+
+    static void curve(float[] s, int count, float[] lut, int[] scratch) {
+        if (VECTOR) {
+            VectorAxisKernels.curve(s, count, lut, scratch);
+        } else {
+            ScalarAxisKernels.curve(s, 0, count, lut);
+        }
+    }
+
+    static void rescale(float[] v, float[] before, float[] after, int count) {
+        if (VECTOR) {
+            VectorAxisKernels.rescale(v, before, after, count);
+        } else {
+            ScalarAxisKernels.rescale(v, before, after, 0, count);
+        }
+    }
+}
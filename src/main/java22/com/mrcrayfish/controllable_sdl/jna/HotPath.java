@@ -0,0 +1,152 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Renderer;
+import com.mrcrayfish.controllable_sdl.api.render.SDL_Texture;
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+/**
+ * The backend of the SDL functions called often enough for the cost of the native call itself to matter, such as
+ * {@code SDL_GameControllerGetAxis} and {@code SDL_PeepEvents}. The binding classes delegate these functions here,
+ * so their signatures stay the same whichever backend is used.
+ *
+ * <p>This is the JDK 22 version of the class, loaded from the multi-release part of the JAR. The functions are bound
+ * with {@code java.lang.foreign} downcall handles to the symbols of the library already loaded by JNA, and pointers are
+ * passed as {@link MemorySegment} addresses without going through JNA's argument conversion. Every function is linked
+ * as an ordinary downcall: even the joystick getters take SDL's joystick lock, which the event pump may hold, and a
+ * critical downcall must never block. If the downcall handles cannot be created, for example because native access
+ * was denied, the JNA backend is used instead. It can also be forced by setting the {@value #BACKEND_PROPERTY} system
+ * property to {@code jna}.</p>
+ */
+public final class HotPath {
+
+    /**
+     * The system property choosing the backend, either {@code ffm} (the default where supported) or {@code jna}.
+     */
+    public static final String BACKEND_PROPERTY = "controllable_sdl.backend";
+
+    private static final Logger LOGGER = Logger.getLogger(HotPath.class.getName());
+
+    private static final boolean FFM;
+    private static final MethodHandle GAME_CONTROLLER_GET_AXIS;
+    private static final MethodHandle JOYSTICK_GET_BUTTON;
+    private static final MethodHandle PEEP_EVENTS;
+    private static final MethodHandle RENDER_GEOMETRY;
+
+    static {
+        MethodHandle getAxis = null;
+        MethodHandle getButton = null;
+        MethodHandle peepEvents = null;
+        MethodHandle renderGeometry = null;
+        boolean ffm = false;
+        if (!"jna".equalsIgnoreCase(System.getProperty(BACKEND_PROPERTY))) {
+            try {
+                Linker linker = Linker.nativeLinker();
+                getAxis = downcall(linker, "SDL_GameControllerGetAxis", FunctionDescriptor.of(JAVA_SHORT, ADDRESS, JAVA_INT));
+                getButton = downcall(linker, "SDL_JoystickGetButton", FunctionDescriptor.of(JAVA_BYTE, ADDRESS, JAVA_INT));
+                peepEvents = downcall(linker, "SDL_PeepEvents", FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT));
+                renderGeometry = downcall(linker, "SDL_RenderGeometry", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, JAVA_INT, ADDRESS, JAVA_INT));
+                ffm = true;
+            } catch (RuntimeException | LinkageError e) {
+                LOGGER.log(Level.WARNING, "Failed to bind SDL with java.lang.foreign, falling back to JNA", e);
+            }
+        }
+        FFM = ffm;
+        GAME_CONTROLLER_GET_AXIS = getAxis;
+        JOYSTICK_GET_BUTTON = getButton;
+        PEEP_EVENTS = peepEvents;
+        RENDER_GEOMETRY = renderGeometry;
+    }
+
+    private HotPath() {
+    }
+
+    private static MethodHandle downcall(Linker linker, String name, FunctionDescriptor descriptor) {
+        long address = Pointer.nativeValue(SdlNativeLibraryLoader.getLibrary().getFunction(name));
+        return linker.downcallHandle(MemorySegment.ofAddress(address), descriptor);
+    }
+
+    private static MemorySegment address(PointerType pointer) {
+        return MemorySegment.ofAddress(Pointer.nativeValue(pointer != null ? pointer.getPointer() : null));
+    }
+
+    private static MemorySegment address(Pointer pointer) {
+        return MemorySegment.ofAddress(Pointer.nativeValue(pointer));
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new IllegalStateException(t);
+    }
+
+    /**
+     * @return the name of the backend in use, {@code "jna"} or {@code "ffm"}
+     */
+    public static String getBackendName() {
+        return FFM ? "ffm" : "jna";
+    }
+
+    public static short SDL_GameControllerGetAxis(SDL_GameController gamecontroller, int axis) {
+        if (FFM) {
+            try {
+                return (short) GAME_CONTROLLER_GET_AXIS.invokeExact(address(gamecontroller), axis);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return HotPathJna.SDL_GameControllerGetAxis(gamecontroller, axis);
+    }
+
+    public static byte SDL_JoystickGetButton(SDL_Joystick joystick, int button) {
+        if (FFM) {
+            try {
+                return (byte) JOYSTICK_GET_BUTTON.invokeExact(address(joystick), button);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return HotPathJna.SDL_JoystickGetButton(joystick, button);
+    }
+
+    public static int SDL_PeepEvents(Pointer events, int numEvents, int action, int minType, int maxType) {
+        if (FFM) {
+            try {
+                return (int) PEEP_EVENTS.invokeExact(address(events), numEvents, action, minType, maxType);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return HotPathJna.SDL_PeepEvents(events, numEvents, action, minType, maxType);
+    }
+
+    public static int SDL_RenderGeometry(SDL_Renderer renderer, SDL_Texture texture, Pointer vertices, int numVertices,
+                                         Pointer indices, int numIndices) {
+        if (FFM) {
+            try {
+                return (int) RENDER_GEOMETRY.invokeExact(address(renderer), address(texture), address(vertices), numVertices,
+                        address(indices), numIndices);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return HotPathJna.SDL_RenderGeometry(renderer, texture, vertices, numVertices, indices, numIndices);
+    }
+}
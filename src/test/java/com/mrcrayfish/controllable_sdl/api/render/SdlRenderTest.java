@@ -1,5 +1,9 @@
 package com.mrcrayfish.controllable_sdl.api.render;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import com.mrcrayfish.controllable_sdl.api.rect.SDL_Rect;
 import com.mrcrayfish.controllable_sdl.api.surface.SDL_Surface;
 import com.mrcrayfish.controllable_sdl.api.video.SDL_Window;
@@ -21,6 +25,8 @@ import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_DestroyRe
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_GetNumRenderDrivers;
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_LockTextureToSurface;
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderCopy;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderFillRectsF;
+import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderGeometry;
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderGetViewport;
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_RenderPresent;
 import static com.mrcrayfish.controllable_sdl.api.render.SdlRender.SDL_UnlockTexture;
@@ -111,6 +117,39 @@ public final class SdlRenderTest {
         SDL_DestroyWindow(window);
     }
 
+    @Test
+    @DisabledIfEnvironmentVariable(named = "CI", matches = "true")
+    public void geometryFromBuffersShouldRender() {
+        SDL_Window window = SDL_CreateWindow("Test window", 200, 250, 400, 300, SDL_WINDOW_SHOWN);
+        if (window == null) {
+            throw new AssertionError("SDL Failure: " + SDL_GetError());
+        }
+        SDL_Renderer renderer = SDL_CreateRenderer(window, -1, SDL_RENDERER_ACCELERATED);
+        if (renderer == null) {
+            throw new AssertionError("SDL Failure: " + SDL_GetError());
+        }
+
+        ByteBuffer vertices = ByteBuffer.allocateDirect(3 * SDL_Vertex.SIZE).order(ByteOrder.nativeOrder());
+        float[][] positions = {{10F, 10F}, {200F, 40F}, {60F, 250F}};
+        for (float[] position : positions) {
+            vertices.putFloat(position[0]).putFloat(position[1]);
+            vertices.put((byte) 255).put((byte) 0).put((byte) 0).put((byte) 255);
+            vertices.putFloat(0F).putFloat(0F);
+        }
+        vertices.flip();
+        IntBuffer indices = ByteBuffer.allocateDirect(3 * 4).order(ByteOrder.nativeOrder()).asIntBuffer().put(new int[]{0, 1, 2}).flip();
+        assertEquals(0, SDL_RenderGeometry(renderer, null, vertices, indices), SDL_GetError());
+        assertEquals(0, SDL_RenderGeometry(renderer, null, vertices.asFloatBuffer(), null), SDL_GetError());
+
+        FloatBuffer rects = FloatBuffer.wrap(new float[]{300F, 10F, 20F, 20F, 330F, 10F, 20F, 20F});
+        assertEquals(0, SDL_RenderFillRectsF(renderer, rects), SDL_GetError());
+        assertEquals(-1, SDL_RenderFillRectsF(renderer, FloatBuffer.wrap(new float[]{1F, 2F, 3F})));
+        SDL_RenderPresent(renderer);
+
+        SDL_DestroyRenderer(renderer);
+        SDL_DestroyWindow(window);
+    }
+
     @AfterEach
     public void tearDown() {
         SDL_QuitSubSystem(SDL_INIT_EVERYTHING);
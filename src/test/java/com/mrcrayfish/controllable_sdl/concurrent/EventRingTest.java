@@ -0,0 +1,108 @@
+package com.mrcrayfish.controllable_sdl.concurrent;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReference;
+import com.mrcrayfish.controllable_sdl.event.view.JoyAxisEventView;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EventRingTest {
+
+    @Test
+    public void capacityShouldBeRoundedToPowerOfTwo() {
+        assertEquals(1, new EventRing(1, EventRing.OverflowPolicy.BACKPRESSURE).capacity());
+        assertEquals(8, new EventRing(5, EventRing.OverflowPolicy.BACKPRESSURE).capacity());
+        assertEquals(16, new EventRing(16, EventRing.OverflowPolicy.BACKPRESSURE).capacity());
+    }
+
+    @Test
+    public void fullRingShouldCountRejectedEvents() {
+        ByteBuffer event = axisEvent(0);
+        EventRing backpressure = new EventRing(4, EventRing.OverflowPolicy.BACKPRESSURE);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(backpressure.offer(event, 0));
+        }
+        assertFalse(backpressure.offer(event, 0));
+        assertEquals(4, backpressure.size());
+        assertEquals(4, backpressure.getPublishedCount());
+        assertEquals(1, backpressure.getBackpressureCount());
+        assertEquals(0, backpressure.getOverrunCount());
+
+        EventRing drop = new EventRing(2, EventRing.OverflowPolicy.DROP_NEWEST);
+        drop.offer(event, 0);
+        drop.offer(event, 0);
+        assertFalse(drop.offer(event, 0));
+        assertFalse(drop.offer(event, 0));
+        assertEquals(2, drop.getOverrunCount());
+        assertEquals(0, drop.getBackpressureCount());
+    }
+
+    @Test
+    public void eventsShouldBeReadInOrderAcrossWrapAround() {
+        EventRing ring = new EventRing(4, EventRing.OverflowPolicy.BACKPRESSURE);
+        JoyAxisEventView view = new JoyAxisEventView();
+        int[] next = {0};
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(ring.offer(axisEvent(round * 3 + i), 0));
+            }
+            int read = ring.read((buffer, offset) -> {
+                view.wrap(buffer, offset);
+                assertEquals(SDL_JOYAXISMOTION, view.getType());
+                assertEquals(next[0]++, view.getValue());
+            }, 2);
+            assertEquals(2, read);
+            ring.read((buffer, offset) -> assertEquals(next[0]++, view.wrap(buffer, offset).getValue()), Integer.MAX_VALUE);
+        }
+        assertEquals(30, next[0]);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    public void consumerShouldSeeEveryEventFromAnotherThread() throws InterruptedException {
+        int total = 200_000;
+        EventRing ring = new EventRing(64, EventRing.OverflowPolicy.BACKPRESSURE);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            JoyAxisEventView view = new JoyAxisEventView();
+            int[] expected = {0};
+            while (expected[0] < total) {
+                ring.read((buffer, offset) -> {
+                    int value = view.wrap(buffer, offset).getWhich();
+                    if (value != expected[0] && failure.get() == null) {
+                        failure.set("Expected " + expected[0] + " but read " + value);
+                    }
+                    expected[0]++;
+                }, 32);
+            }
+        });
+        consumer.start();
+        ByteBuffer event = axisEvent(0);
+        for (int i = 0; i < total; ) {
+            event.putInt(JoyAxisEventView.WHICH_OFFSET, i);
+            if (ring.offer(event, 0)) {
+                i++;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        consumer.join(30_000L);
+        assertFalse(consumer.isAlive());
+        assertNull(failure.get());
+        assertEquals(total, ring.getPublishedCount());
+    }
+
+    private static ByteBuffer axisEvent(int value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        buffer.putInt(JoyAxisEventView.TYPE_OFFSET, SDL_JOYAXISMOTION);
+        buffer.putShort(JoyAxisEventView.VALUE_OFFSET, (short) value);
+        return buffer;
+    }
+}
@@ -0,0 +1,121 @@
+package com.mrcrayfish.controllable_sdl.device;
+
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PumpEvents;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceInstanceID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetGUIDString;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickNameForIndex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class DeviceRegistryTest {
+
+    @BeforeEach
+    public void setUp() {
+        SDL_InitSubSystem(SDL_INIT_GAMECONTROLLER);
+        SDL_PumpEvents();
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+    }
+
+    @Test
+    public void devicesShouldBeCachedUntilRemoved() {
+        DeviceRegistry registry = new DeviceRegistry();
+        EventBatch batch = new EventBatch(64);
+
+        int deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 15, 1);
+        assertNotEquals(-1, deviceIndex);
+        int instanceId = SDL_JoystickGetDeviceInstanceID(deviceIndex).intValue();
+        SDL_PumpEvents();
+        batch.drain();
+        registry.accept(batch);
+
+        DeviceInfo info = registry.get(instanceId);
+        assertNotNull(info);
+        assertEquals(SDL_JoystickNameForIndex(deviceIndex), info.getName());
+        assertEquals(SDL_JoystickGetGUIDString(SDL_JoystickGetDeviceGUID(deviceIndex)), info.getGuidString());
+        assertSame(info, registry.get(instanceId));
+        assertSame(info, registry.getForDeviceIndex(deviceIndex));
+        assertEquals(3, registry.getLookupCount());
+        assertEquals(2, registry.getHitCount());
+        assertEquals(1.0, registry.getHitRate());
+
+        registry.invalidate(instanceId);
+        DeviceInfo reloaded = registry.get(instanceId);
+        assertEquals(info.getGuidString(), reloaded.getGuidString());
+        assertEquals(1, registry.getMissCount());
+
+        assertEquals(0, SDL_JoystickDetachVirtual(deviceIndex));
+        SDL_PumpEvents();
+        batch.drain();
+        registry.accept(batch);
+        assertEquals(0, registry.size());
+        assertNull(registry.get(instanceId));
+    }
+
+    @Test
+    public void deviceRemovedBeforeItsAddedEventShouldNotBeMistakenForAnother() {
+        DeviceRegistry registry = new DeviceRegistry();
+        EventBatch batch = new EventBatch(64);
+
+        int firstIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 15, 1);
+        int secondIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_WHEEL, 2, 4, 0);
+        int firstId = SDL_JoystickGetDeviceInstanceID(firstIndex).intValue();
+        int secondId = SDL_JoystickGetDeviceInstanceID(secondIndex).intValue();
+        // The first device is detached before its added event is applied, so index 0 now points at the second one
+        assertEquals(0, SDL_JoystickDetachVirtual(firstIndex));
+        assertEquals(secondId, SDL_JoystickGetDeviceInstanceID(0).intValue());
+        SDL_PumpEvents();
+        batch.drain();
+        registry.accept(batch);
+
+        assertEquals(1, registry.size());
+        DeviceInfo info = registry.getAt(0);
+        assertEquals(secondId, info.getInstanceId());
+        assertEquals(SDL_JoystickType.SDL_JOYSTICK_TYPE_WHEEL, info.getJoystickType());
+        assertEquals(SDL_JoystickGetGUIDString(SDL_JoystickGetDeviceGUID(0)), info.getGuidString());
+        assertNull(registry.get(firstId));
+
+        // The added event of the third device resolves to the fourth one, cached by a lookup under its old index, so
+        // nothing tells which device the event was sent for and the third one is read with every other device
+        int thirdIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 15, 1);
+        int fourthIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_FLIGHT_STICK, 3, 8, 1);
+        int thirdId = SDL_JoystickGetDeviceInstanceID(thirdIndex).intValue();
+        int fourthId = SDL_JoystickGetDeviceInstanceID(fourthIndex).intValue();
+        assertNotNull(registry.getForDeviceIndex(fourthIndex));
+        assertEquals(0, SDL_JoystickDetachVirtual(0));
+        SDL_PumpEvents();
+        batch.drain();
+        registry.accept(batch);
+
+        assertEquals(2, registry.size());
+        assertNull(registry.get(secondId));
+        assertEquals(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, registry.get(thirdId).getJoystickType());
+        assertEquals(SDL_JoystickType.SDL_JOYSTICK_TYPE_FLIGHT_STICK, registry.get(fourthId).getJoystickType());
+        assertEquals(2, registry.getHitCount());
+
+        assertEquals(0, SDL_JoystickDetachVirtual(1));
+        assertEquals(0, SDL_JoystickDetachVirtual(0));
+    }
+}
@@ -0,0 +1,150 @@
+package com.mrcrayfish.controllable_sdl.device;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.JoyDeviceEventView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEADDED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYDEVICEADDED;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_HasEvent;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PumpEvents;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerClose;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerOpen;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_IsGameController;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetGUIDString;
+import static com.mrcrayfish.controllable_sdl.api.platform.SdlPlatform.SDL_GetPlatform;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class MappingDatabaseTest {
+
+    private static final String PAD = "030000005e0400008e02000014010000,Xbox 360 Controller,a:b0,b:b1,platform:Linux,";
+    private static final String PAD_WINDOWS = "030000005e0400008e02000000000000,Xbox 360 Controller,a:b0,b:b1,platform:Windows,";
+    private static final String STICK = "03000000c82d00000190000011010000,8BitDo Stick,a:b1,b:b0,platform:linux,";
+    private static final String STICK_UPDATED = "03000000c82d00000190000011010000,8BitDo Stick,a:b0,b:b1,platform:Linux,";
+
+    private Path database;
+    private Path index;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        database = Files.createTempFile("controllable-sdl-mappings", ".txt");
+        index = Files.createTempFile("controllable-sdl-mappings", ".idx");
+        Files.delete(index);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(database);
+        Files.deleteIfExists(index);
+    }
+
+    @Test
+    public void mappingsShouldBeIndexedByGuid() throws IOException {
+        Files.writeString(database, "# Game Controller DB\r\n\r\n" + STICK + "\r\n" + PAD + "\r\n" + PAD_WINDOWS + "\r\nxinput,XInput Controller,a:b0,platform:Linux,\r\n" + STICK_UPDATED);
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Linux")) {
+            assertTrue(mappings.isIndexRebuilt());
+            assertEquals(2, mappings.size());
+            assertEquals(PAD, mappings.getMapping("030000005e0400008e02000014010000"));
+            // The platform is matched ignoring case, and the last entry of a GUID wins
+            assertEquals(STICK_UPDATED, mappings.getMapping("03000000C82D00000190000011010000"));
+            assertNull(mappings.getMapping("030000005e0400008f02000014010000"));
+            assertEquals(1, mappings.getMissCount());
+        }
+    }
+
+    @Test
+    public void guidWithCrcShouldFallBackToEntryWithout() throws IOException {
+        Files.writeString(database, PAD_WINDOWS + "\n");
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Windows")) {
+            assertEquals(PAD_WINDOWS, mappings.getMapping("03001f7a5e0400008e02000000000000"));
+            assertEquals(0, mappings.getMissCount());
+        }
+    }
+
+    @Test
+    public void guidWithOtherVersionShouldFallBackToEntryWithVendorAndProduct() throws IOException {
+        Files.writeString(database, PAD_WINDOWS + "\n" + STICK + "\n");
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Windows")) {
+            assertEquals(PAD_WINDOWS, mappings.getMapping("030000005e0400008e02000001000000"));
+            assertEquals(PAD_WINDOWS, mappings.getMapping("03001f7a5e0400008e02000001000000"));
+            // The rest of the GUID must still match, and so must the vendor and product
+            assertNull(mappings.getMapping("030000005e0400008e020000010000ff"));
+            assertNull(mappings.getMapping("030000005e0400008f02000000000000"));
+            assertEquals(2, mappings.getMissCount());
+        }
+    }
+
+    @Test
+    public void mappingShouldMakeJoystickAGameController() throws IOException {
+        SDL_InitSubSystem(SDL_INIT_GAMECONTROLLER);
+        int deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_UNKNOWN, 2, 2, 0);
+        assertNotEquals(-1, deviceIndex);
+        try {
+            SDL_PumpEvents();
+            assertFalse(SDL_IsGameController(deviceIndex));
+            String guid = SDL_JoystickGetGUIDString(SDL_JoystickGetDeviceGUID(deviceIndex));
+            Files.writeString(database, guid + ",Virtual Stick,a:b0,b:b1,leftx:a0,lefty:a1,platform:" + SDL_GetPlatform() + ",\n");
+            try (MappingDatabase mappings = MappingDatabase.open(database, index, SDL_GetPlatform())) {
+                ByteBuffer event = ByteBuffer.allocateDirect(EventBatch.SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+                event.putInt(EventView.TYPE_OFFSET, SDL_JOYDEVICEADDED);
+                event.putInt(JoyDeviceEventView.WHICH_OFFSET, deviceIndex);
+                mappings.accept(event, 0);
+                assertTrue(SDL_IsGameController(deviceIndex));
+                // SDL decided on the controller event when the joystick was added, so none follows the mapping
+                SDL_PumpEvents();
+                assertFalse(SDL_HasEvent(SDL_CONTROLLERDEVICEADDED));
+                SDL_GameController controller = SDL_GameControllerOpen(deviceIndex);
+                assertNotNull(controller);
+                SDL_GameControllerClose(controller);
+                // The mapping of a device is only added once
+                assertEquals(0, mappings.applyConnected());
+            }
+        } finally {
+            SDL_JoystickDetachVirtual(deviceIndex);
+            SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+        }
+    }
+
+    @Test
+    public void indexShouldBeReusedUntilDatabaseChanges() throws IOException {
+        Files.writeString(database, PAD + "\n");
+        MappingDatabase.open(database, index, "Linux").close();
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Linux")) {
+            assertFalse(mappings.isIndexRebuilt());
+            assertEquals(1, mappings.size());
+        }
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Windows")) {
+            assertTrue(mappings.isIndexRebuilt());
+            assertEquals(0, mappings.size());
+        }
+
+        Files.writeString(database, PAD + "\n" + STICK + "\n");
+        Files.setLastModifiedTime(database, FileTime.fromMillis(Files.getLastModifiedTime(database).toMillis() + 1000));
+        try (MappingDatabase mappings = MappingDatabase.open(database, index, "Linux")) {
+            assertTrue(mappings.isIndexRebuilt());
+            assertEquals(2, mappings.size());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.mrcrayfish.controllable_sdl.effect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EffectSchedulerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static final class RecordingDevice implements EffectDevice {
+
+        private final List<String> writes = new ArrayList<>();
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        @Override
+        public int rumble(int lowFrequency, int highFrequency, int durationMs) {
+            return record("rumble " + lowFrequency + " " + highFrequency + " " + durationMs, 0);
+        }
+
+        @Override
+        public int rumbleTriggers(int left, int right, int durationMs) {
+            return record("triggers " + left + " " + right + " " + durationMs, -1);
+        }
+
+        @Override
+        public int setLed(int red, int green, int blue) {
+            return record("led " + red + " " + green + " " + blue, 0);
+        }
+
+        private synchronized int record(String write, int result) {
+            writes.add(write);
+            written.countDown();
+            return result;
+        }
+
+        synchronized List<String> take() {
+            List<String> copy = new ArrayList<>(writes);
+            writes.clear();
+            return copy;
+        }
+    }
+
+    @Test
+    public void overlappingRumbleShouldBlendByPriority() {
+        AtomicLong clock = new AtomicLong(1000 * MS);
+        RecordingDevice device = new RecordingDevice();
+        EffectScheduler scheduler = new EffectScheduler(8 * MS, clock::get);
+        EffectScheduler.Channel channel = scheduler.register(device);
+
+        channel.rumble(0x4000, 0x1000, 100);
+        channel.rumble(0x2000, 0x8000, 50);
+        channel.rumble(0x1000, 0x1000, 200, -1);
+        scheduler.flush();
+        assertEquals(List.of("rumble 16384 32768 100"), device.take());
+
+        // A stronger effect with a higher priority takes over, and the blend resumes once it ends
+        clock.addAndGet(10 * MS);
+        channel.rumble(0xFFFF, 0, 20, 5);
+        scheduler.flush();
+        assertEquals(List.of("rumble 65535 0 20"), device.take());
+        clock.addAndGet(25 * MS);
+        scheduler.flush();
+        assertEquals(List.of("rumble 16384 32768 65"), device.take());
+
+        // The 0x2000/0x8000 effect ends, and the last priority 0 effect is left
+        clock.addAndGet(20 * MS);
+        scheduler.flush();
+        assertEquals(List.of("rumble 16384 4096 45"), device.take());
+
+        // Only the low priority effect is left, then nothing, which the device stops on its own
+        clock.addAndGet(50 * MS);
+        scheduler.flush();
+        assertEquals(List.of("rumble 4096 4096 95"), device.take());
+        clock.addAndGet(200 * MS);
+        scheduler.flush();
+        assertEquals(List.of(), device.take());
+        assertEquals(4, scheduler.getRequestCount(EffectScheduler.Effect.RUMBLE));
+        assertEquals(5, scheduler.getWriteCount(EffectScheduler.Effect.RUMBLE));
+    }
+
+    @Test
+    public void repeatedRequestsShouldCoalesce() {
+        AtomicLong clock = new AtomicLong();
+        RecordingDevice device = new RecordingDevice();
+        EffectScheduler scheduler = new EffectScheduler(8 * MS, clock::get);
+        EffectScheduler.Channel channel = scheduler.register(device);
+
+        // The same effect requested every frame for a second is written once, then renewed before it runs out
+        int writes = 0;
+        for (int frame = 0; frame < 60; frame++) {
+            channel.rumble(0x8000, 0x8000, 100);
+            channel.setLed(0, 128, 255);
+            scheduler.flush();
+            writes += device.take().size();
+            clock.addAndGet(16 * MS);
+        }
+        assertTrue(writes <= 12, "Expected at most 12 writes, got " + writes);
+        assertEquals(1, scheduler.getWriteCount(EffectScheduler.Effect.LED));
+        assertEquals(60, scheduler.getRequestCount(EffectScheduler.Effect.LED));
+
+        // Only the last color set before a flush is written
+        channel.setLed(255, 0, 0);
+        channel.setLed(0, 255, 0);
+        clock.addAndGet(3 * MS);
+        scheduler.flush();
+        assertTrue(device.take().contains("led 0 255 0"));
+        assertEquals(3 * MS, scheduler.getQueueLatency(EffectScheduler.Effect.LED).getMaxNanos());
+    }
+
+    @Test
+    public void stopShouldSilenceDevice() {
+        AtomicLong clock = new AtomicLong();
+        RecordingDevice device = new RecordingDevice();
+        EffectScheduler scheduler = new EffectScheduler(8 * MS, clock::get);
+        EffectScheduler.Channel channel = scheduler.register(device);
+
+        channel.rumbleTriggers(0xFFFF, 0xFFFF, 500);
+        scheduler.flush();
+        channel.stopTriggerRumble();
+        scheduler.flush();
+        scheduler.flush();
+        assertEquals(List.of("triggers 65535 65535 500", "triggers 0 0 0"), device.take());
+        assertEquals(2, scheduler.getFailedWriteCount(EffectScheduler.Effect.TRIGGER_RUMBLE));
+
+        // A stop with nothing playing writes nothing
+        channel.stopRumble();
+        scheduler.flush();
+        assertEquals(List.of(), device.take());
+
+        scheduler.unregister(channel);
+        channel.rumble(1, 1, 100);
+        scheduler.flush();
+        assertEquals(List.of(), device.take());
+        assertThrows(IllegalArgumentException.class, () -> channel.rumble(0x10000, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> channel.setLed(0, 256, 0));
+        assertThrows(IllegalArgumentException.class, () -> new EffectScheduler(8 * MS).unregister(channel));
+    }
+
+    @Test
+    public void threadShouldFlushRequests() throws InterruptedException {
+        RecordingDevice device = new RecordingDevice();
+        try (EffectScheduler scheduler = new EffectScheduler(TimeUnit.MILLISECONDS.toNanos(2))) {
+            EffectScheduler.Channel channel = scheduler.register(device);
+            scheduler.start();
+            assertThrows(IllegalStateException.class, scheduler::start);
+            channel.setLed(1, 2, 3);
+            assertTrue(device.written.await(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of("led 1 2 3"), device.take());
+    }
+}
@@ -0,0 +1,94 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerButtonEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_JoyAxisEvent;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_EVENTS;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_JOYAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PushEvent;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EventBatchTest {
+
+    @BeforeEach
+    public void setUp() {
+        SDL_InitSubSystem(SDL_INIT_EVENTS);
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    @Test
+    public void drainShouldExposeAllQueuedEvents() {
+        SDL_Event axisEvent = new SDL_Event();
+        axisEvent.setType(SDL_JoyAxisEvent.class);
+        axisEvent.jaxis.type = SDL_JOYAXISMOTION;
+        axisEvent.jaxis.which = new SDL_JoystickID(3);
+        axisEvent.jaxis.axis = 2;
+        axisEvent.jaxis.value = -12345;
+        assertEquals(1, SDL_PushEvent(axisEvent));
+
+        SDL_Event buttonEvent = new SDL_Event();
+        buttonEvent.setType(SDL_ControllerButtonEvent.class);
+        buttonEvent.cbutton.type = SDL_CONTROLLERBUTTONDOWN;
+        buttonEvent.cbutton.which = new SDL_JoystickID(4);
+        buttonEvent.cbutton.button = 7;
+        buttonEvent.cbutton.state = SDL_PRESSED;
+        assertEquals(1, SDL_PushEvent(buttonEvent));
+
+        EventBatch batch = new EventBatch(16);
+        assertEquals(2, batch.drain());
+        assertEquals(2, batch.size());
+        assertFalse(batch.isFull());
+
+        assertEquals(SDL_JOYAXISMOTION, batch.getType(0));
+        assertEquals(3, batch.getWhich(0));
+        assertEquals(2, batch.getAxis(0));
+        assertEquals(-12345, batch.getAxisValue(0));
+
+        assertEquals(SDL_CONTROLLERBUTTONDOWN, batch.getType(1));
+        assertEquals(4, batch.getWhich(1));
+        assertEquals(7, batch.getButton(1));
+        assertEquals(SDL_PRESSED, batch.getState(1));
+
+        assertEquals(0, batch.drain());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void drainShouldStopAtCapacity() {
+        for (int i = 0; i < 5; i++) {
+            SDL_Event event = new SDL_Event();
+            event.setType(SDL_JoyAxisEvent.class);
+            event.jaxis.type = SDL_JOYAXISMOTION;
+            event.jaxis.value = (short) i;
+            SDL_PushEvent(event);
+        }
+
+        EventBatch batch = new EventBatch(2);
+        assertEquals(2, batch.drain());
+        assertTrue(batch.isFull());
+        assertEquals(0, batch.getAxisValue(0));
+        assertEquals(1, batch.getAxisValue(1));
+        assertEquals(2, batch.drain());
+        assertEquals(1, batch.drain());
+        assertEquals(4, batch.getAxisValue(0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SDL_QuitSubSystem(SDL_INIT_EVENTS);
+    }
+}
@@ -0,0 +1,144 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerAxisEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerButtonEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerSensorEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MouseMotionEvent;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
+import com.mrcrayfish.controllable_sdl.event.view.MouseMotionEventView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_EVENTS;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_MOUSEMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_QUIT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PushEvent;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class EventCoalescerTest {
+
+    @BeforeEach
+    public void setUp() {
+        SDL_InitSubSystem(SDL_INIT_EVENTS);
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+    }
+
+    private static void pushAxis(int which, int axis, int value) {
+        SDL_Event event = new SDL_Event();
+        event.setType(SDL_ControllerAxisEvent.class);
+        event.caxis.type = SDL_CONTROLLERAXISMOTION;
+        event.caxis.which = new SDL_JoystickID(which);
+        event.caxis.axis = (byte) axis;
+        event.caxis.value = (short) value;
+        SDL_PushEvent(event);
+    }
+
+    private static void pushMotion(int x, int xrel, int yrel) {
+        SDL_Event event = new SDL_Event();
+        event.setType(SDL_MouseMotionEvent.class);
+        event.motion.type = SDL_MOUSEMOTION;
+        event.motion.x = x;
+        event.motion.xrel = xrel;
+        event.motion.yrel = yrel;
+        SDL_PushEvent(event);
+    }
+
+    private static void pushSensor(long timestampUs) {
+        SDL_Event event = new SDL_Event();
+        event.setType(SDL_ControllerSensorEvent.class);
+        event.csensor.type = SDL_CONTROLLERSENSORUPDATE;
+        event.csensor.which = new SDL_JoystickID(1);
+        event.csensor.timestampUs = timestampUs;
+        SDL_PushEvent(event);
+    }
+
+    @Test
+    public void latestShouldKeepTheLastValueOfEachAxis() {
+        pushAxis(1, 0, 100);
+        pushAxis(1, 1, 200);
+        pushAxis(1, 0, 300);
+        SDL_Event button = new SDL_Event();
+        button.setType(SDL_ControllerButtonEvent.class);
+        button.cbutton.type = SDL_CONTROLLERBUTTONDOWN;
+        button.cbutton.which = new SDL_JoystickID(1);
+        button.cbutton.state = SDL_PRESSED;
+        SDL_PushEvent(button);
+        pushAxis(2, 0, 400);
+        pushAxis(1, 0, 500);
+
+        EventBatch batch = new EventBatch(16);
+        assertEquals(6, batch.drain());
+        EventCoalescer coalescer = new EventCoalescer();
+        assertEquals(2, coalescer.coalesce(batch));
+        assertEquals(4, batch.size());
+        assertEquals(2, coalescer.getElidedCount());
+
+        assertEquals(1, batch.getAxis(0));
+        assertEquals(200, batch.getAxisValue(0));
+        assertEquals(SDL_CONTROLLERBUTTONDOWN, batch.getType(1));
+        assertEquals(2, batch.getWhich(2));
+        assertEquals(400, batch.getAxisValue(2));
+        assertEquals(1, batch.getWhich(3));
+        assertEquals(500, batch.getAxisValue(3));
+    }
+
+    @Test
+    public void accumulateShouldSumRelativeMotion() {
+        pushMotion(10, 1, -1);
+        pushMotion(12, 2, -2);
+        pushMotion(15, 3, -3);
+
+        EventBatch batch = new EventBatch(16);
+        assertEquals(3, batch.drain());
+        assertEquals(2, new EventCoalescer().coalesce(batch));
+        MouseMotionEventView motion = batch.view(0, new MouseMotionEventView());
+        assertEquals(15, motion.getX());
+        assertEquals(6, motion.getXrel());
+        assertEquals(-6, motion.getYrel());
+    }
+
+    @Test
+    public void sensorUpdatesShouldBeKeptByDefault() {
+        pushSensor(1000);
+        pushSensor(2000);
+        pushSensor(3000);
+
+        EventBatch batch = new EventBatch(16);
+        assertEquals(3, batch.drain());
+        EventCoalescer coalescer = new EventCoalescer();
+        assertEquals(0, coalescer.coalesce(batch));
+        assertEquals(3, batch.size());
+
+        SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+        pushSensor(1000);
+        pushSensor(2000);
+        batch.drain();
+        coalescer.setPolicy(SDL_CONTROLLERSENSORUPDATE, EventCoalescer.Policy.LATEST);
+        assertEquals(1, coalescer.coalesce(batch));
+        assertEquals(2000, batch.getSensorTimestampUs(0));
+    }
+
+    @Test
+    public void setPolicyShouldRejectUnsupportedTypes() {
+        EventCoalescer coalescer = new EventCoalescer();
+        assertThrows(IllegalArgumentException.class, () -> coalescer.setPolicy(SDL_QUIT, EventCoalescer.Policy.LATEST));
+        assertThrows(IllegalArgumentException.class, () -> coalescer.setPolicy(SDL_CONTROLLERAXISMOTION, EventCoalescer.Policy.ACCUMULATE));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SDL_QuitSubSystem(SDL_INIT_EVENTS);
+    }
+}
@@ -0,0 +1,106 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import com.mrcrayfish.controllable_sdl.event.view.UserEventView;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_MOUSEMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_USEREVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_ENABLE;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_IGNORE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EventDispatcherTest {
+
+    private final List<String> stateChanges = new ArrayList<>();
+    private final EventDispatcher dispatcher = new EventDispatcher((type, state) -> {
+        stateChanges.add(Integer.toHexString(type) + "=" + state);
+        return 0;
+    });
+
+    private static ByteBuffer axisEvent(int which, int axis, int value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(EventBatch.SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        buffer.putInt(EventView.TYPE_OFFSET, SDL_CONTROLLERAXISMOTION);
+        buffer.putInt(ControllerAxisEventView.WHICH_OFFSET, which);
+        buffer.put(ControllerAxisEventView.AXIS_OFFSET, (byte) axis);
+        buffer.putShort(ControllerAxisEventView.VALUE_OFFSET, (short) value);
+        return buffer;
+    }
+
+    @Test
+    public void subscribeShouldEnableTypeOnceAndUnsubscribeShouldIgnoreIt() {
+        EventHandler<ControllerAxisEventView> first = axis -> {};
+        EventHandler<ControllerAxisEventView> second = axis -> {};
+        dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class, first);
+        dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class, second);
+        assertEquals(List.of("650=" + SDL_ENABLE), stateChanges);
+
+        assertTrue(dispatcher.unsubscribe(SDL_CONTROLLERAXISMOTION, first));
+        assertTrue(dispatcher.hasHandlers(SDL_CONTROLLERAXISMOTION));
+        assertTrue(dispatcher.unsubscribe(SDL_CONTROLLERAXISMOTION, second));
+        assertFalse(dispatcher.unsubscribe(SDL_CONTROLLERAXISMOTION, second));
+        assertFalse(dispatcher.hasHandlers(SDL_CONTROLLERAXISMOTION));
+        assertEquals(List.of("650=" + SDL_ENABLE, "650=" + SDL_IGNORE), stateChanges);
+    }
+
+    @Test
+    public void dispatchShouldPassTheSameViewToEveryHandler() {
+        List<ControllerAxisEventView> views = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class, axis -> {
+            views.add(axis);
+            values.add((int) axis.getValue());
+        });
+        dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class, axis -> views.add(axis));
+
+        assertTrue(dispatcher.dispatch(axisEvent(1, 0, 1000), 0));
+        assertTrue(dispatcher.dispatch(axisEvent(1, 0, -2000), 0));
+        assertEquals(List.of(1000, -2000), values);
+        assertEquals(4, views.size());
+        views.forEach(view -> assertSame(views.get(0), view));
+        assertEquals(2, dispatcher.getDispatchedCount());
+        assertEquals(0, dispatcher.getUnhandledCount());
+    }
+
+    @Test
+    public void dispatchShouldCountEventsWithoutHandlers() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(EventBatch.SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        buffer.putInt(EventView.TYPE_OFFSET, SDL_MOUSEMOTION);
+        assertFalse(dispatcher.dispatch(buffer, 0));
+        assertEquals(1, dispatcher.getUnhandledCount());
+    }
+
+    @Test
+    public void ignoreShouldSkipTypesWithHandlers() {
+        dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerAxisEventView.class, axis -> {});
+        dispatcher.ignore(SDL_CONTROLLERAXISMOTION, SDL_MOUSEMOTION);
+        assertEquals(List.of("650=" + SDL_ENABLE, "400=" + SDL_IGNORE), stateChanges);
+    }
+
+    @Test
+    public void subscribeShouldRejectTheWrongView() {
+        assertThrows(IllegalArgumentException.class, () ->
+                dispatcher.subscribe(SDL_CONTROLLERAXISMOTION, ControllerButtonEventView.class, button -> {}));
+        assertThrows(IllegalArgumentException.class, () ->
+                dispatcher.subscribe(0, ControllerAxisEventView.class, axis -> {}));
+        assertTrue(stateChanges.isEmpty());
+    }
+
+    @Test
+    public void viewTypeOfShouldMapRelatedTypesToTheSameView() {
+        assertEquals(ControllerButtonEventView.class, EventDispatcher.viewTypeOf(SDL_CONTROLLERBUTTONDOWN));
+        assertEquals(UserEventView.class, EventDispatcher.viewTypeOf(SDL_USEREVENT + 5));
+    }
+}
@@ -0,0 +1,83 @@
+package com.mrcrayfish.controllable_sdl.event;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_UserEvent;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_EVENTS;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FIRSTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_LASTEVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_USEREVENT;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_FlushEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PushEvent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class InputPumpTest {
+
+    @Test
+    public void latencyFirstShouldSpinDuringBurstsAndNeverPark() {
+        InputPump.Policy policy = InputPump.Policy.LATENCY_FIRST;
+        assertEquals(InputPump.Mode.SPIN, policy.select(500_000L));
+        assertEquals(InputPump.Mode.WAIT, policy.select(16_000_000L));
+        assertEquals(InputPump.Mode.WAIT, policy.select(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void powerFirstShouldNeverSpinAndParkWhenIdle() {
+        InputPump.Policy policy = InputPump.Policy.POWER_FIRST;
+        assertEquals(InputPump.Mode.WAIT, policy.select(0L));
+        assertEquals(InputPump.Mode.WAIT, policy.select(16_000_000L));
+        assertEquals(InputPump.Mode.PARK, policy.select(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void policyShouldRejectInvertedThresholds() {
+        assertThrows(IllegalArgumentException.class, () -> new InputPump.Policy(10L, 5L, 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new InputPump.Policy(0L, 5L, 0, 1L));
+    }
+
+    @Test
+    public void pumpShouldDeliverPushedEvents() throws InterruptedException {
+        CountDownLatch received = new CountDownLatch(3);
+        AtomicInteger userEvents = new AtomicInteger();
+        CountDownLatch initialized = new CountDownLatch(1);
+        InputPump pump = new InputPump(16, InputPump.Policy.LATENCY_FIRST);
+        pump.subscribe(batch -> {
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.getType(i) == SDL_USEREVENT) {
+                    userEvents.incrementAndGet();
+                    received.countDown();
+                }
+            }
+        });
+        pump.start(() -> {
+            SDL_InitSubSystem(SDL_INIT_EVENTS);
+            SDL_FlushEvents(SDL_FIRSTEVENT, SDL_LASTEVENT);
+            initialized.countDown();
+        });
+        try {
+            assertTrue(initialized.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                SDL_Event event = new SDL_Event();
+                event.setType(SDL_UserEvent.class);
+                event.user.type = SDL_USEREVENT;
+                event.user.code = i;
+                SDL_PushEvent(event);
+            }
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+        } finally {
+            pump.close();
+            SDL_QuitSubSystem(SDL_INIT_EVENTS);
+        }
+        assertEquals(3, userEvents.get());
+        assertTrue(pump.getWakeLatency().getCount() > 0);
+        assertTrue(pump.getDeliveredCount() >= 3);
+    }
+}
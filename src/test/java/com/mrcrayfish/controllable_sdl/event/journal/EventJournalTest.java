@@ -0,0 +1,123 @@
+package com.mrcrayfish.controllable_sdl.event.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import com.mrcrayfish.controllable_sdl.event.EventBatch;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.EventView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class EventJournalTest {
+
+    private Path path;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        path = Files.createTempFile("controllable-sdl", ".sdlj");
+    }
+
+    private static ByteBuffer axisEvent(int value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(EventBatch.SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        buffer.putInt(EventView.TYPE_OFFSET, SDL_CONTROLLERAXISMOTION);
+        buffer.putInt(ControllerAxisEventView.WHICH_OFFSET, 7);
+        buffer.putShort(ControllerAxisEventView.VALUE_OFFSET, (short) value);
+        return buffer;
+    }
+
+    @Test
+    public void journalShouldReadBackRecordedEventsAcrossChunks() throws IOException {
+        try (EventJournalWriter writer = new EventJournalWriter(path, 4)) {
+            for (int i = 0; i < 10; i++) {
+                writer.record(axisEvent(i * 100), 0);
+            }
+            assertEquals(10, writer.getRecordCount());
+        }
+        assertEquals(EventJournal.HEADER_SIZE + 10L * EventJournal.RECORD_SIZE, Files.size(path));
+
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertEquals(10, journal.size());
+            ControllerAxisEventView axis = new ControllerAxisEventView();
+            long previous = -1;
+            for (int i = 0; i < 10; i++) {
+                assertEquals(SDL_CONTROLLERAXISMOTION, journal.getType(i));
+                assertEquals(7, journal.view(i, axis).getWhich());
+                assertEquals(i * 100, axis.getValue());
+                assertTrue(journal.getNanos(i) >= previous);
+                previous = journal.getNanos(i);
+            }
+        }
+    }
+
+    @Test
+    public void journalShouldBeReadableBeforeTheWriterIsClosed() throws IOException {
+        try (EventJournalWriter writer = new EventJournalWriter(path, 16)) {
+            writer.record(axisEvent(1), 0);
+            writer.record(axisEvent(2), 0);
+            writer.force();
+            try (EventJournal journal = EventJournal.open(path)) {
+                assertEquals(2, journal.size());
+                assertEquals(2, journal.view(1, new ControllerAxisEventView()).getValue());
+            }
+        }
+    }
+
+    @Test
+    public void replayShouldDeliverEveryEventInOrder() throws IOException {
+        try (EventJournalWriter writer = new EventJournalWriter(path)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.record(axisEvent(i), 0);
+            }
+        }
+        try (EventJournal journal = EventJournal.open(path)) {
+            List<Integer> values = new ArrayList<>();
+            ControllerAxisEventView axis = new ControllerAxisEventView();
+            assertEquals(1000, EventReplayer.replay(journal, (buffer, offset) -> values.add((int) axis.wrap(buffer, offset).getValue()), EventReplayer.UNPACED));
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, (int) values.get(i));
+            }
+            assertEquals(10, EventReplayer.replay(journal, 990, 1000, (buffer, offset) -> {}, 1000.0));
+            // Events the target rejects are not reported as delivered
+            EventReplayer.Target oddOnly = new EventReplayer.Target() {
+                private long rejected;
+
+                @Override
+                public void accept(ByteBuffer buffer, int offset) {
+                    if (axis.wrap(buffer, offset).getValue() % 2 == 0) {
+                        rejected++;
+                    }
+                }
+
+                @Override
+                public long getRejectedCount() {
+                    return rejected;
+                }
+            };
+            assertEquals(500, EventReplayer.replay(journal, oddOnly, EventReplayer.UNPACED));
+            assertEquals(5, EventReplayer.replay(journal, 990, 1000, oddOnly, EventReplayer.UNPACED));
+            assertThrows(IllegalArgumentException.class, () -> EventReplayer.replay(journal, (buffer, offset) -> {}, 0.0));
+        }
+    }
+
+    @Test
+    public void openShouldRejectOtherFiles() throws IOException {
+        Files.write(path, new byte[EventJournal.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> EventJournal.open(path));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,175 @@
+package com.mrcrayfish.controllable_sdl.event.view;
+
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerAxisEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerSensorEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerTouchpadEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_KeyboardEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_MouseWheelEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_SensorEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_TouchFingerEvent;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_UserEvent;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
+import com.mrcrayfish.controllable_sdl.api.touch.SDL_FingerID;
+import com.mrcrayfish.controllable_sdl.api.touch.SDL_TouchID;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_FINGERMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_KEYDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_MOUSEWHEEL;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_SENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_USEREVENT;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class EventViewTest {
+
+    @Test
+    public void unionShouldBeAsLargeAsTheNativeEvent() {
+        assertEquals(SDL_EVENT_SIZE, new SDL_Event().size());
+    }
+
+    @Test
+    public void controllerViewsShouldMatchStructureLayout() {
+        SDL_Event axis = new SDL_Event();
+        axis.setType(SDL_ControllerAxisEvent.class);
+        axis.caxis.type = SDL_CONTROLLERAXISMOTION;
+        axis.caxis.timestamp = 1234;
+        axis.caxis.which = new SDL_JoystickID(5);
+        axis.caxis.axis = 3;
+        axis.caxis.value = -32768;
+
+        SDL_Event sensor = new SDL_Event();
+        sensor.setType(SDL_ControllerSensorEvent.class);
+        sensor.csensor.type = SDL_CONTROLLERSENSORUPDATE;
+        sensor.csensor.which = new SDL_JoystickID(6);
+        sensor.csensor.sensor = 2;
+        sensor.csensor.data = new float[]{0.5F, -1.5F, 9.81F};
+        sensor.csensor.timestampUs = 0x0102030405060708L;
+
+        SDL_Event touchpad = new SDL_Event();
+        touchpad.setType(SDL_ControllerTouchpadEvent.class);
+        touchpad.ctouchpad.type = SDL_CONTROLLERTOUCHPADMOTION;
+        touchpad.ctouchpad.which = new SDL_JoystickID(7);
+        touchpad.ctouchpad.touchpad = 1;
+        touchpad.ctouchpad.finger = 2;
+        touchpad.ctouchpad.x = 0.25F;
+        touchpad.ctouchpad.y = 0.75F;
+        touchpad.ctouchpad.pressure = 0.5F;
+
+        Memory memory = writeEvents(axis, sensor, touchpad);
+
+        ControllerAxisEventView axisView = new ControllerAxisEventView().wrap(memory.getByteBuffer(0L, memory.size()), 0);
+        assertEquals(SDL_CONTROLLERAXISMOTION, axisView.getType());
+        assertEquals(1234, axisView.getTimestamp());
+        assertEquals(5, axisView.getWhich());
+        assertEquals(3, axisView.getAxis());
+        assertEquals(-32768, axisView.getValue());
+
+        ControllerSensorEventView sensorView = new ControllerSensorEventView().wrap(memory.share(SDL_EVENT_SIZE));
+        assertEquals(SDL_CONTROLLERSENSORUPDATE, sensorView.getType());
+        assertEquals(6, sensorView.getWhich());
+        assertEquals(2, sensorView.getSensor());
+        assertEquals(0.5F, sensorView.getData(0));
+        assertEquals(-1.5F, sensorView.getData(1));
+        assertEquals(9.81F, sensorView.getData(2));
+        assertEquals(0x0102030405060708L, sensorView.getTimestampUs());
+
+        ControllerTouchpadEventView touchpadView = new ControllerTouchpadEventView().wrap(memory.share(SDL_EVENT_SIZE * 2L));
+        assertEquals(7, touchpadView.getWhich());
+        assertEquals(1, touchpadView.getTouchpad());
+        assertEquals(2, touchpadView.getFinger());
+        assertEquals(0.25F, touchpadView.getX());
+        assertEquals(0.75F, touchpadView.getY());
+        assertEquals(0.5F, touchpadView.getPressure());
+    }
+
+    @Test
+    public void otherViewsShouldMatchStructureLayout() {
+        SDL_Event key = new SDL_Event();
+        key.setType(SDL_KeyboardEvent.class);
+        key.key.type = SDL_KEYDOWN;
+        key.key.windowID = 11;
+        key.key.repeat = 1;
+        key.key.keysym.scancode = 4;
+        key.key.keysym.sym = 'a';
+        key.key.keysym.mod = 0x0040;
+
+        SDL_Event wheel = new SDL_Event();
+        wheel.setType(SDL_MouseWheelEvent.class);
+        wheel.wheel.type = SDL_MOUSEWHEEL;
+        wheel.wheel.y = -3;
+        wheel.wheel.preciseY = -2.5F;
+        wheel.wheel.mouseX = 640;
+        wheel.wheel.mouseY = 480;
+
+        SDL_Event finger = new SDL_Event();
+        finger.setType(SDL_TouchFingerEvent.class);
+        finger.tfinger.type = SDL_FINGERMOTION;
+        finger.tfinger.touchId = new SDL_TouchID(Long.MAX_VALUE);
+        finger.tfinger.fingerId = new SDL_FingerID(42L);
+        finger.tfinger.dx = -0.125F;
+        finger.tfinger.windowID = 9;
+
+        SDL_Event sensor = new SDL_Event();
+        sensor.setType(SDL_SensorEvent.class);
+        sensor.sensor.type = SDL_SENSORUPDATE;
+        sensor.sensor.which = 3;
+        sensor.sensor.data = new float[]{1F, 2F, 3F, 4F, 5F, 6F};
+        sensor.sensor.timestampUs = 987654321L;
+
+        SDL_Event user = new SDL_Event();
+        user.setType(SDL_UserEvent.class);
+        user.user.type = SDL_USEREVENT;
+        user.user.code = 77;
+        user.user.data1 = new Pointer(0x1000L);
+        user.user.data2 = new Pointer(0x2000L);
+
+        Memory memory = writeEvents(key, wheel, finger, sensor, user);
+
+        KeyboardEventView keyView = new KeyboardEventView().wrap(memory.share(0L));
+        assertEquals(11, keyView.getWindowID());
+        assertEquals(1, keyView.getRepeat());
+        assertEquals(4, keyView.getScancode());
+        assertEquals('a', keyView.getSym());
+        assertEquals(0x0040, keyView.getMod());
+
+        MouseWheelEventView wheelView = new MouseWheelEventView().wrap(memory.share(SDL_EVENT_SIZE));
+        assertEquals(-3, wheelView.getY());
+        assertEquals(-2.5F, wheelView.getPreciseY());
+        assertEquals(640, wheelView.getMouseX());
+        assertEquals(480, wheelView.getMouseY());
+
+        TouchFingerEventView fingerView = new TouchFingerEventView().wrap(memory.share(SDL_EVENT_SIZE * 2L));
+        assertEquals(Long.MAX_VALUE, fingerView.getTouchId());
+        assertEquals(42L, fingerView.getFingerId());
+        assertEquals(-0.125F, fingerView.getDx());
+        assertEquals(9, fingerView.getWindowID());
+
+        SensorEventView sensorView = new SensorEventView().wrap(memory.share(SDL_EVENT_SIZE * 3L));
+        assertEquals(3, sensorView.getWhich());
+        assertEquals(6F, sensorView.getData(5));
+        assertEquals(987654321L, sensorView.getTimestampUs());
+
+        UserEventView userView = new UserEventView().wrap(memory.share(SDL_EVENT_SIZE * 4L));
+        assertEquals(77, userView.getCode());
+        assertEquals(0x1000L, userView.getData1Address());
+        assertEquals(0x2000L, userView.getData2Address());
+    }
+
+    private static Memory writeEvents(SDL_Event... events) {
+        Memory memory = new Memory((long) SDL_EVENT_SIZE * events.length);
+        memory.clear();
+        for (int i = 0; i < events.length; i++) {
+            events[i].write();
+            byte[] bytes = events[i].getPointer().getByteArray(0L, SDL_EVENT_SIZE);
+            memory.write((long) SDL_EVENT_SIZE * i, bytes, 0, bytes.length);
+        }
+        return memory;
+    }
+}
@@ -0,0 +1,98 @@
+package com.mrcrayfish.controllable_sdl.hid;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class HidPollingEngineTest {
+
+    @Test
+    public void reportsShouldBeDispatchedInOrder() throws InterruptedException {
+        try (HidPollingEngine engine = new HidPollingEngine(64, 5, HidPollingEngine.ThreadMode.PLATFORM)) {
+            List<byte[]> received = new ArrayList<>();
+            engine.subscribe(reports -> {
+                for (int i = 0; i < reports.size(); i++) {
+                    byte[] report = new byte[reports.getLength(i)];
+                    reports.copy(i, report);
+                    received.add(report);
+                }
+            });
+            InMemoryHidDevice device = new InMemoryHidDevice();
+            HidReader reader = engine.add(device, 8);
+            for (int i = 0; i < 20; i++) {
+                device.push(new byte[]{1, (byte) i, (byte) (i * 2)});
+            }
+            awaitRead(reader, 20);
+            assertEquals(20, engine.dispatch());
+            assertEquals(20, received.size());
+            for (int i = 0; i < 20; i++) {
+                assertArrayEquals(new byte[]{1, (byte) i, (byte) (i * 2)}, received.get(i));
+            }
+            assertEquals(20, reader.getDispatchedCount());
+            assertEquals(0, reader.getDroppedCount());
+            assertTrue(reader.getMaxLatencyNanos() >= reader.getAverageLatencyNanos());
+
+            engine.remove(reader);
+            assertTrue(device.isClosed());
+            assertTrue(engine.getReaders().isEmpty());
+        }
+    }
+
+    @Test
+    public void fullRingShouldDropNewReports() throws InterruptedException {
+        try (HidPollingEngine engine = new HidPollingEngine(4, 5, HidPollingEngine.ThreadMode.PLATFORM)) {
+            List<Integer> received = new ArrayList<>();
+            engine.subscribe(reports -> {
+                for (int i = 0; i < reports.size(); i++) {
+                    received.add((int) reports.getBuffer().get(reports.getOffset(i)));
+                }
+            });
+            InMemoryHidDevice device = new InMemoryHidDevice();
+            HidReader reader = engine.add(device, 4);
+            for (int i = 0; i < 10; i++) {
+                device.push(new byte[]{(byte) i});
+            }
+            awaitRead(reader, 10);
+            assertEquals(4, engine.dispatch());
+            assertEquals(List.of(0, 1, 2, 3), received);
+            assertEquals(6, reader.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void failedDeviceShouldBeRemovedAfterItsLastReports() throws InterruptedException {
+        try (HidPollingEngine engine = new HidPollingEngine(16, 5, HidPollingEngine.ThreadMode.PLATFORM)) {
+            List<HidReader> sources = new ArrayList<>();
+            engine.subscribe(reports -> sources.add(reports.getReader()));
+            InMemoryHidDevice device = new InMemoryHidDevice();
+            HidReader reader = engine.add(device, 4);
+            device.push(new byte[]{7});
+            device.disconnect();
+            reader.join();
+            assertTrue(reader.hasFailed());
+            assertFalse(reader.isRunning());
+            assertTrue(device.isClosed());
+
+            assertEquals(1, engine.dispatch());
+            assertSame(reader, sources.get(0));
+            assertEquals(0, engine.dispatch());
+            assertTrue(engine.getReaders().isEmpty());
+        }
+    }
+
+    private static void awaitRead(HidReader reader, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (reader.getReadCount() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Only " + reader.getReadCount() + " of " + count + " reports were read");
+            }
+            Thread.sleep(1L);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.mrcrayfish.controllable_sdl.input;
+
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTY;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_RIGHTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERLEFT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class AxisConditionerTest {
+
+    private static short[] pad(int leftX, int leftY, int rightX, int rightY, int leftTrigger, int rightTrigger) {
+        return new short[]{(short) leftX, (short) leftY, (short) rightX, (short) rightY, (short) leftTrigger, (short) rightTrigger};
+    }
+
+    @Test
+    public void defaultsShouldPassAxesThrough() {
+        AxisConditioner conditioner = new AxisConditioner(1);
+        short[] axes = pad(-32767, -1, 0, 12345, 0, 32767);
+        short[] out = new short[SDL_CONTROLLER_AXIS_MAX];
+        conditioner.process(axes, out, 1);
+        assertArrayEquals(axes, out);
+    }
+
+    @Test
+    public void radialDeadzoneShouldKeepDirection() {
+        AxisConditioner conditioner = new AxisConditioner(1);
+        conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.RADIAL, 0.2f, 0.9f);
+        short[] axes = pad(4000, -4000, 20000, 20000, 0, 0);
+        conditioner.process(axes, axes, 1);
+        // Inside the deadzone as a whole, although each axis alone would be outside an axial one of 0.1
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_LEFTX]);
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_LEFTY]);
+        assertEquals(axes[SDL_CONTROLLER_AXIS_RIGHTX], axes[SDL_CONTROLLER_AXIS_RIGHTX + 1]);
+        // Magnitude 0.863 maps to (0.863 - 0.2) / 0.7
+        double magnitude = Math.hypot(20000, 20000) / 32767;
+        double expected = (magnitude - 0.2) / 0.7 / magnitude * 20000;
+        assertEquals(expected, axes[SDL_CONTROLLER_AXIS_RIGHTX], 2);
+
+        axes = pad(32767, 32767, -32767, 0, 0, 0);
+        conditioner.process(axes, axes, 1);
+        assertEquals(Math.round(32767 / Math.sqrt(2)), axes[SDL_CONTROLLER_AXIS_LEFTX], 1);
+        assertEquals(-32767, axes[SDL_CONTROLLER_AXIS_RIGHTX]);
+    }
+
+    @Test
+    public void axialDeadzoneShouldApplyPerAxis() {
+        AxisConditioner conditioner = new AxisConditioner(1);
+        conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.AXIAL, 0.1f, 1f);
+        short[] axes = pad(30000, 2000, 0, 0, 0, 0);
+        conditioner.process(axes, axes, 1);
+        assertEquals(Math.round((30000 / 32767f - 0.1f) / 0.9f * 32767), axes[SDL_CONTROLLER_AXIS_LEFTX], 1);
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_LEFTY]);
+    }
+
+    @Test
+    public void curveAndAntiDeadzoneShouldShapeMagnitude() {
+        AxisConditioner conditioner = new AxisConditioner(1);
+        conditioner.setStickCurve(ResponseCurve.power(2));
+        conditioner.setTriggerDeadzone(0.05f, 1f);
+        conditioner.setTriggerAntiDeadzone(0.25f);
+        short[] axes = pad(16384, 0, 0, 0, 1000, 2000);
+        conditioner.process(axes, axes, 1);
+        assertEquals(32767 / 4, axes[SDL_CONTROLLER_AXIS_LEFTX], 20);
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_TRIGGERLEFT]);
+        assertTrue(axes[SDL_CONTROLLER_AXIS_TRIGGERLEFT + 1] >= 32767 / 4);
+
+        assertThrows(IllegalArgumentException.class, () -> ResponseCurve.of(x -> x * 2));
+        assertThrows(IllegalArgumentException.class, () -> conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.RADIAL, 0.5f, 0.5f));
+    }
+
+    @Test
+    public void calibrationShouldFollowGuid() {
+        AxisConditioner conditioner = new AxisConditioner(2);
+        conditioner.bind(1, "03000000c82d00000190000011010000");
+        conditioner.setCalibration("03000000c82d00000190000011010000", pad(1200, -800, 0, 0, 0, 0));
+        short[] axes = new short[2 * SDL_CONTROLLER_AXIS_MAX];
+        System.arraycopy(pad(1200, -800, 0, 0, 0, 0), 0, axes, 0, SDL_CONTROLLER_AXIS_MAX);
+        System.arraycopy(pad(1200, -800, 0, 0, 0, 0), 0, axes, SDL_CONTROLLER_AXIS_MAX, SDL_CONTROLLER_AXIS_MAX);
+        conditioner.process(axes, axes, 2);
+        assertEquals(1200, axes[SDL_CONTROLLER_AXIS_LEFTX]);
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_MAX + SDL_CONTROLLER_AXIS_LEFTX]);
+        assertEquals(0, axes[SDL_CONTROLLER_AXIS_MAX + SDL_CONTROLLER_AXIS_LEFTY]);
+
+        conditioner.removeCalibration("03000000c82d00000190000011010000");
+        axes[SDL_CONTROLLER_AXIS_MAX + SDL_CONTROLLER_AXIS_LEFTX] = 1200;
+        conditioner.process(axes, axes, 2);
+        assertEquals(1200, axes[SDL_CONTROLLER_AXIS_MAX + SDL_CONTROLLER_AXIS_LEFTX]);
+    }
+
+    @Test
+    public void padsShouldBeProcessedIndependently() {
+        AxisConditioner single = new AxisConditioner(1);
+        AxisConditioner block = new AxisConditioner(64);
+        for (AxisConditioner conditioner : new AxisConditioner[]{single, block}) {
+            conditioner.setStickDeadzone(AxisConditioner.DeadzoneShape.RADIAL, 0.08f, 0.97f);
+            conditioner.setStickCurve(ResponseCurve.power(1.6));
+            conditioner.setStickAntiDeadzone(0.1f);
+            conditioner.setTriggerDeadzone(0.02f, 0.98f);
+        }
+        short[] axes = new short[64 * SDL_CONTROLLER_AXIS_MAX];
+        for (int i = 0; i < axes.length; i++) {
+            axes[i] = (short) (i * 7919);
+        }
+        short[] out = new short[axes.length];
+        block.process(axes, out, 64);
+
+        short[] in = new short[SDL_CONTROLLER_AXIS_MAX];
+        short[] expected = new short[SDL_CONTROLLER_AXIS_MAX];
+        for (int pad = 0; pad < 64; pad++) {
+            System.arraycopy(axes, pad * SDL_CONTROLLER_AXIS_MAX, in, 0, SDL_CONTROLLER_AXIS_MAX);
+            single.process(in, expected, 1);
+            for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+                assertEquals(expected[axis], out[pad * SDL_CONTROLLER_AXIS_MAX + axis], "Pad " + pad + ", axis " + axis);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JnaUtilsTest {
+
+    @Test
+    public void directBuffersShouldBePassedWithoutCopying() {
+        FloatBuffer floats = ByteBuffer.allocateDirect(8 * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        floats.put(new float[]{1F, 2F, 3F, 4F, 5F, 6F, 7F, 8F}).position(2);
+        try (ScratchArena arena = ScratchArena.push()) {
+            long allocations = arena.getAllocationCount();
+            Pointer pointer = JnaUtils.getBufferPointer(arena, floats);
+            assertEquals(Pointer.nativeValue(Native.getDirectBufferPointer(floats)) + 8L, Pointer.nativeValue(pointer));
+            assertArrayEquals(new float[]{3F, 4F, 5F}, pointer.getFloatArray(0L, 3));
+            assertEquals(allocations, arena.getAllocationCount());
+            assertNull(JnaUtils.getBufferPointer(arena, (IntBuffer) null));
+        }
+    }
+
+    @Test
+    public void heapBuffersShouldBeCopied() {
+        IntBuffer ints = IntBuffer.wrap(new int[]{9, 8, 7, 6});
+        ints.position(1);
+        ByteBuffer readOnly = ByteBuffer.wrap(new byte[]{1, 2, 3}).asReadOnlyBuffer();
+        try (ScratchArena arena = ScratchArena.push()) {
+            assertArrayEquals(new int[]{8, 7, 6}, JnaUtils.getBufferPointer(arena, ints).getIntArray(0L, 3));
+            assertArrayEquals(new byte[]{1, 2, 3}, JnaUtils.getBufferPointer(arena, readOnly).getByteArray(0L, 3));
+        }
+    }
+
+    @Test
+    public void directBuffersShouldUseNativeOrder() {
+        ByteOrder foreign = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        FloatBuffer floats = ByteBuffer.allocateDirect(16).order(foreign).asFloatBuffer();
+        try (ScratchArena arena = ScratchArena.push()) {
+            assertThrows(IllegalArgumentException.class, () -> JnaUtils.getBufferPointer(arena, floats));
+        }
+    }
+}
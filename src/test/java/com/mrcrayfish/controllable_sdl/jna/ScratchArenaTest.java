@@ -0,0 +1,59 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.util.List;
+import com.mrcrayfish.controllable_sdl.api.rect.SDL_Point;
+import com.sun.jna.Pointer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ScratchArenaTest {
+
+    @Test
+    public void steadyStateShouldNotAllocateNativeMemory() {
+        int[] data = new int[512];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i * 3;
+        }
+        try (ScratchArena arena = ScratchArena.push()) {
+            JnaUtils.writeArrayToNativeMemory(arena, data);
+        }
+        long nativeAllocations = ScratchArena.getNativeAllocationCount();
+        for (int frame = 0; frame < 1000; frame++) {
+            try (ScratchArena arena = ScratchArena.push()) {
+                Pointer pointer = JnaUtils.writeArrayToNativeMemory(arena, data);
+                assertArrayEquals(data, pointer.getIntArray(0L, data.length));
+            }
+        }
+        assertEquals(nativeAllocations, ScratchArena.getNativeAllocationCount());
+    }
+
+    @Test
+    public void nestedScopesShouldKeepOuterAllocations() {
+        try (ScratchArena arena = ScratchArena.push()) {
+            Pointer outer = JnaUtils.writeArrayToNativeMemory(arena, new byte[]{1, 2, 3});
+            try (ScratchArena inner = ScratchArena.push()) {
+                // Larger than a single block, so the inner scope moves on to a new block
+                Pointer large = inner.allocate(64 * 1024);
+                large.setByte(0L, (byte) 9);
+                Pointer point = JnaUtils.writeListToNativeMemory(inner, List.of(new SDL_Point(4, 5), new SDL_Point(6, 7)));
+                assertArrayEquals(new int[]{4, 5, 6, 7}, point.getIntArray(0L, 4));
+            }
+            Pointer next = JnaUtils.writeArrayToNativeMemory(arena, new short[]{10, 11});
+            assertArrayEquals(new byte[]{1, 2, 3}, outer.getByteArray(0L, 3));
+            assertArrayEquals(new short[]{10, 11}, next.getShortArray(0L, 2));
+            assertEquals(8L, Pointer.nativeValue(next) - Pointer.nativeValue(outer));
+        }
+    }
+
+    @Test
+    public void allocationOutsideScopeShouldFail() {
+        ScratchArena arena = ScratchArena.current();
+        assertThrows(IllegalStateException.class, () -> arena.allocate(8));
+        assertThrows(IllegalStateException.class, arena::close);
+        arena.trim();
+        assertEquals(0, arena.getBlockCount());
+    }
+}
@@ -0,0 +1,101 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SdlNativeLibraryLoaderTest {
+
+    // SHA-256 of "library"
+    private static final String LIBRARY_HASH = "b718f1354f7247312eca086d9a024afe5fa717ddea5adeddd6f12bcf945b2e8c";
+
+    @Test
+    public void extractedLibraryShouldBeVerified() throws IOException {
+        Path directory = Files.createTempDirectory("controllable-sdl-test");
+        Path library = directory.resolve("libSDL2.so");
+        byte[] content = "library".getBytes(StandardCharsets.US_ASCII);
+        assertFalse(SdlNativeLibraryLoader.isExtracted(library, null));
+
+        SdlNativeLibraryLoader.extract(new ByteArrayInputStream(content), library);
+        assertArrayEquals(content, Files.readAllBytes(library));
+        assertTrue(SdlNativeLibraryLoader.isExtracted(library, null));
+        assertTrue(SdlNativeLibraryLoader.isExtracted(library, LIBRARY_HASH));
+        assertFalse(SdlNativeLibraryLoader.isExtracted(library, "0000"));
+
+        // Only the library and its hash file are left behind, no temporary files
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void truncatedOrModifiedLibraryShouldBeRejected() throws IOException {
+        Path directory = Files.createTempDirectory("controllable-sdl-test");
+        Path library = directory.resolve("libSDL2.so");
+        SdlNativeLibraryLoader.extract(new ByteArrayInputStream("library".getBytes(StandardCharsets.US_ASCII)), library);
+
+        Files.write(library, "libr".getBytes(StandardCharsets.US_ASCII));
+        assertFalse(SdlNativeLibraryLoader.isExtracted(library, null));
+
+        // A library of the same size is hashed again once its modification time has changed
+        FileTime modified = Files.getLastModifiedTime(library);
+        Files.write(library, "LIBRARY".getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(library, FileTime.fromMillis(modified.toMillis() + 1000));
+        assertFalse(SdlNativeLibraryLoader.isExtracted(library, null));
+
+        SdlNativeLibraryLoader.extract(new ByteArrayInputStream("library".getBytes(StandardCharsets.US_ASCII)), library);
+        assertTrue(SdlNativeLibraryLoader.isExtracted(library, null));
+    }
+
+    @Test
+    public void unchangedLibraryShouldNotBeHashed() throws IOException {
+        Path directory = Files.createTempDirectory("controllable-sdl-test");
+        Path library = directory.resolve("libSDL2.so");
+        SdlNativeLibraryLoader.extract(new ByteArrayInputStream("library".getBytes(StandardCharsets.US_ASCII)), library);
+
+        // With the size and modification time as recorded, the content is not read
+        FileTime modified = Files.getLastModifiedTime(library);
+        Files.write(library, "LIBRARY".getBytes(StandardCharsets.US_ASCII));
+        Files.setLastModifiedTime(library, modified);
+        assertTrue(SdlNativeLibraryLoader.isExtracted(library, null));
+        assertTrue(SdlNativeLibraryLoader.isExtracted(library, LIBRARY_HASH));
+
+        // A hash file written before the modification time was recorded still has the library hashed
+        Files.writeString(directory.resolve("libSDL2.so.sha256"), LIBRARY_HASH + " 7", StandardCharsets.US_ASCII);
+        assertFalse(SdlNativeLibraryLoader.isExtracted(library, null));
+    }
+
+    @Test
+    public void libraryFromAnotherBuildShouldBeExtractedAgain() throws IOException {
+        Path resources = Files.createTempDirectory("controllable-sdl-test");
+        Files.createDirectories(resources.resolve("linux-x86-64"));
+        Files.write(resources.resolve("linux-x86-64/libSDL2.so"), "library".getBytes(StandardCharsets.US_ASCII));
+        Path directory = Files.createTempDirectory("controllable-sdl-test");
+        Path library = directory.resolve("libSDL2.so");
+        // An intact library of the same size, extracted by a different build
+        SdlNativeLibraryLoader.extract(new ByteArrayInputStream("LIBRARY".getBytes(StandardCharsets.US_ASCII)), library);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{resources.toUri().toURL()}, null)) {
+            // Without a packaged hash, the library is current as long as it is intact
+            SdlNativeLibraryLoader.extractIfStale(loader, "linux-x86-64/libSDL2.so", library);
+            assertEquals("LIBRARY", Files.readString(library, StandardCharsets.US_ASCII));
+
+            Files.writeString(resources.resolve("linux-x86-64/libSDL2.so.sha256"), LIBRARY_HASH, StandardCharsets.US_ASCII);
+            SdlNativeLibraryLoader.extractIfStale(loader, "linux-x86-64/libSDL2.so", library);
+            assertEquals("library", Files.readString(library, StandardCharsets.US_ASCII));
+            assertTrue(SdlNativeLibraryLoader.isExtracted(library, LIBRARY_HASH));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mrcrayfish.controllable_sdl.jna;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SdlPreloaderTest {
+
+    private static final AtomicInteger INITIALIZED = new AtomicInteger();
+
+    @Test
+    public void shouldInitializeClassesAndNestedNativeFunctions() {
+        SdlPreloader.Report report = new SdlPreloader(2)
+                .add(Binding.class)
+                .add(NestedBinding.class)
+                .start()
+                .join();
+        assertFalse(report.hasFailures());
+        List<SdlPreloader.Timing> timings = report.getTimings();
+        assertEquals(2, timings.size());
+        assertSame(Binding.class, timings.get(0).getBindingClass());
+        assertSame(NestedBinding.class, timings.get(1).getBindingClass());
+        assertNull(timings.get(0).getError());
+        assertTrue(Binding.initialized);
+        assertTrue(NestedBinding.InternalNativeFunctions.initialized);
+        assertEquals(2, INITIALIZED.get());
+    }
+
+    @Test
+    public void failingClassShouldBeReported() {
+        SdlPreloader.Report report = new SdlPreloader(1)
+                .add(FailingBinding.class)
+                .start()
+                .join();
+        assertTrue(report.hasFailures());
+        assertTrue(report.getTimings().get(0).getError() instanceof IllegalStateException);
+    }
+
+    private static final class Binding {
+        static boolean initialized;
+
+        static {
+            initialized = true;
+            INITIALIZED.incrementAndGet();
+        }
+    }
+
+    private static final class NestedBinding {
+
+        private static final class InternalNativeFunctions {
+            static boolean initialized;
+
+            static {
+                initialized = true;
+                INITIALIZED.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class FailingBinding {
+        static {
+            if (INITIALIZED != null) {
+                throw new IllegalStateException("Failed to load the library");
+            }
+        }
+    }
+}
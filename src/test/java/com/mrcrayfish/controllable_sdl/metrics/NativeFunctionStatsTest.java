@@ -0,0 +1,40 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class NativeFunctionStatsTest {
+
+    @Test
+    public void callsShouldBeCountedInPowerOfTwoBuckets() {
+        NativeFunctionStats stats = new NativeFunctionStats("SDL_Test", NativeCallKind.CALL);
+        for (int i = 0; i < 99; i++) {
+            stats.record(100);
+        }
+        stats.record(5000);
+        assertEquals(100, stats.getCallCount());
+        assertEquals(99 * 100 + 5000, stats.getTotalNanos());
+        assertEquals(149, stats.getAverageNanos());
+        assertEquals(5000, stats.getMaxNanos());
+        // 100 ns is in [64, 128) and 5000 ns in [4096, 8192)
+        assertEquals(99, stats.getHistogram()[7]);
+        assertEquals(1, stats.getHistogram()[13]);
+        assertEquals(128, stats.getPercentileNanos(50));
+        assertEquals(128, stats.getPercentileNanos(99));
+        assertEquals(8192, stats.getPercentileNanos(100));
+
+        stats.reset();
+        assertEquals(0, stats.getCallCount());
+        assertEquals(0, stats.getMaxNanos());
+        assertEquals(0, stats.getPercentileNanos(99));
+    }
+
+    @Test
+    public void registeringTwiceShouldReturnTheSameStats() {
+        NativeFunctionStats stats = SdlMetrics.register("SDL_RegisterTwice", NativeCallKind.CALL);
+        assertSame(stats, SdlMetrics.register("SDL_RegisterTwice", NativeCallKind.CALL));
+        assertSame(stats, SdlMetrics.get("SDL_RegisterTwice"));
+    }
+}
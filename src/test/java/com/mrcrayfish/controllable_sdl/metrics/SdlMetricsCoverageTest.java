@@ -0,0 +1,95 @@
+package com.mrcrayfish.controllable_sdl.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import com.mrcrayfish.controllable_sdl.jna.SdlPreloader;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_WasInit;
+import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_ClearError;
+import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_GetError;
+import static com.mrcrayfish.controllable_sdl.api.error.SdlError.SDL_SetError;
+import static com.mrcrayfish.controllable_sdl.api.hints.SdlHints.SDL_GetHint;
+import static com.mrcrayfish.controllable_sdl.api.platform.SdlPlatform.SDL_GetPlatform;
+import static com.mrcrayfish.controllable_sdl.api.timer.SdlTimer.SDL_GetTicks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class SdlMetricsCoverageTest {
+
+    @Test
+    public void bindingClassesShouldHaveNoPublicNativeMethods() {
+        for (Class<?> bindingClass : getBindingClasses()) {
+            for (Method method : bindingClass.getDeclaredMethods()) {
+                assertFalse(Modifier.isNative(method.getModifiers()),
+                        bindingClass.getSimpleName() + "." + method.getName() + " is not instrumented");
+            }
+        }
+    }
+
+    @Test
+    public void everyNativeFunctionShouldBeRegistered() throws ClassNotFoundException {
+        for (Class<?> bindingClass : getBindingClasses()) {
+            List<Method> functions = getNativeFunctions(bindingClass);
+            if (functions.isEmpty()) {
+                continue;
+            }
+            // Only the outer class is initialized, it registers the stats without loading SDL
+            Class.forName(bindingClass.getName(), true, bindingClass.getClassLoader());
+            for (Method function : functions) {
+                assertNotNull(SdlMetrics.get(function.getName()),
+                        bindingClass.getSimpleName() + "." + function.getName() + " is not registered");
+            }
+        }
+    }
+
+    @Test
+    public void callsShouldBeCountedWhenEnabled() {
+        assumeTrue(SdlMetrics.isEnabled(), "-D" + SdlMetrics.ENABLED_PROPERTY + "=true is not set");
+        assertCounted("SDL_WasInit", () -> SDL_WasInit(0));
+        assertCounted("SDL_GetTicks", () -> SDL_GetTicks());
+        assertCounted("SDL_GetPlatform", () -> SDL_GetPlatform());
+        assertCounted("SDL_GetHint", () -> SDL_GetHint("SDL_METRICS_COVERAGE_TEST"));
+        assertCounted("SDL_SetError", () -> SDL_SetError(Locale.ROOT, "Error %d", 1));
+        assertCounted("SDL_GetError", () -> SDL_GetError());
+        assertCounted("SDL_ClearError", () -> SDL_ClearError());
+    }
+
+    private static void assertCounted(String function, Runnable call) {
+        call.run();
+        NativeFunctionStats stats = SdlMetrics.get(function);
+        assertNotNull(stats, function + " is not registered");
+        long before = stats.getCallCount();
+        call.run();
+        assertEquals(before + 1, stats.getCallCount(), function + " was not counted");
+    }
+
+    private static List<Class<?>> getBindingClasses() {
+        List<Class<?>> bindingClasses = new ArrayList<>();
+        for (SdlPreloader.Subsystem subsystem : SdlPreloader.Subsystem.values()) {
+            bindingClasses.addAll(subsystem.getBindingClasses());
+        }
+        return bindingClasses;
+    }
+
+    private static List<Method> getNativeFunctions(Class<?> bindingClass) {
+        List<Method> functions = new ArrayList<>();
+        for (Class<?> nested : bindingClass.getDeclaredClasses()) {
+            if (nested.getSimpleName().equals("InternalNativeFunctions")) {
+                for (Method method : nested.getDeclaredMethods()) {
+                    if (Modifier.isNative(method.getModifiers())) {
+                        functions.add(method);
+                    }
+                }
+            } else if (nested.getSimpleName().equals("NativeVarargFunctions")) {
+                functions.addAll(List.of(nested.getDeclaredMethods()));
+            }
+        }
+        return functions;
+    }
+}
@@ -0,0 +1,101 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEREMOVED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_ACCEL;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_GYRO;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public final class MotionTrackerTest {
+
+    private static final float GRAVITY = 9.80665f;
+
+    @Test
+    public void sensorEventsShouldFillRings() {
+        ByteBuffer event = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+        MotionTracker tracker = new MotionTracker(2, 16);
+
+        event.putInt(0, SDL_CONTROLLERSENSORUPDATE);
+        event.putInt(4, 7);
+        event.putInt(ControllerSensorEventView.WHICH_OFFSET, 3);
+        event.putInt(ControllerSensorEventView.SENSOR_OFFSET, SDL_SENSOR_GYRO);
+        event.putFloat(ControllerSensorEventView.DATA_OFFSET, 0.5f);
+        event.putLong(ControllerSensorEventView.TIMESTAMP_US_OFFSET, 0);
+        tracker.accept(event, 0);
+
+        ControllerMotion motion = tracker.get(3);
+        assertNotNull(motion);
+        assertEquals(1, motion.getGyro().available());
+        assertEquals(0.5f, motion.getGyro().getX(0));
+        // Without a sensor timestamp the event timestamp is used
+        assertEquals(7000L, motion.getGyro().getTimestampUs(0));
+
+        event.putInt(0, SDL_CONTROLLERDEVICEREMOVED);
+        event.putInt(ControllerDeviceEventView.WHICH_OFFSET, 3);
+        tracker.accept(event, 0);
+        assertNull(tracker.get(3));
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void extraControllersShouldBeDropped() {
+        MotionTracker tracker = new MotionTracker(1, 16);
+        tracker.onSensor(1, SDL_SENSOR_GYRO, 0, 0, 0, 0);
+        tracker.onSensor(2, SDL_SENSOR_GYRO, 0, 0, 0, 0);
+        assertEquals(1, tracker.size());
+        assertEquals(1, tracker.getDroppedEvents());
+    }
+
+    @Test
+    public void gyroShouldIntegrateYaw() {
+        for (OrientationFilter filter : new OrientationFilter[]{new MadgwickFilter(), new ComplementaryFilter()}) {
+            MotionTracker tracker = new MotionTracker(1, 2048);
+            // One second at 1 rad/s around the up axis, with the controller lying flat
+            for (int i = 0; i <= 1000; i++) {
+                long timestampUs = i * 1000L;
+                tracker.onSensor(0, SDL_SENSOR_ACCEL, timestampUs, 0, GRAVITY, 0);
+                tracker.onSensor(0, SDL_SENSOR_GYRO, timestampUs, 0, 1, 0);
+            }
+            assertEquals(1001, tracker.update(filter));
+
+            ControllerMotion motion = tracker.get(0);
+            assertEquals(0, motion.getGyro().available());
+            assertEquals(Math.cos(0.5), motion.getOrientationW(), 1e-3);
+            assertEquals(Math.sin(0.5), motion.getOrientationY(), 1e-3);
+            assertEquals(0, motion.getOrientationX(), 1e-3);
+            assertEquals(0, motion.getOrientationZ(), 1e-3);
+        }
+    }
+
+    @Test
+    public void accelerometerShouldCorrectTilt() {
+        for (OrientationFilter filter : new OrientationFilter[]{new MadgwickFilter(0.5f), new ComplementaryFilter(2f)}) {
+            MotionTracker tracker = new MotionTracker(1, 256);
+            // The controller rests pitched 30 degrees around X, while the estimate starts flat
+            float angle = (float) Math.toRadians(30);
+            long timestampUs = 0;
+            for (int frame = 0; frame < 100; frame++) {
+                for (int i = 0; i < 100; i++, timestampUs += 1000) {
+                    tracker.onSensor(0, SDL_SENSOR_ACCEL, timestampUs, 0, GRAVITY * (float) Math.cos(angle), GRAVITY * (float) Math.sin(angle));
+                    tracker.onSensor(0, SDL_SENSOR_GYRO, timestampUs, 0, 0, 0);
+                }
+                tracker.update(filter);
+            }
+
+            ControllerMotion motion = tracker.get(0);
+            assertEquals(Math.cos(angle / 2), Math.abs(motion.getOrientationW()), 1e-2);
+            assertEquals(Math.sin(angle / 2), Math.abs(motion.getOrientationX()), 1e-2);
+            assertEquals(0, motion.getOrientationY(), 1e-2);
+            assertEquals(0, motion.getOrientationZ(), 1e-2);
+        }
+    }
+}
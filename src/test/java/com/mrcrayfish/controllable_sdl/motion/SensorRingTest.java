@@ -0,0 +1,52 @@
+package com.mrcrayfish.controllable_sdl.motion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SensorRingTest {
+
+    @Test
+    public void capacityShouldRoundUpToPowerOfTwo() {
+        assertEquals(1, new SensorRing(1).capacity());
+        assertEquals(4, new SensorRing(3).capacity());
+        assertEquals(256, new SensorRing(256).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new SensorRing(0));
+    }
+
+    @Test
+    public void samplesShouldBeReadOldestFirst() {
+        SensorRing ring = new SensorRing(4);
+        for (int i = 0; i < 3; i++) {
+            ring.add(i * 1000L, i, i + 10, i + 20);
+        }
+        assertEquals(3, ring.available());
+        assertEquals(0L, ring.getTimestampUs(0));
+        assertEquals(2f, ring.getX(2));
+        assertEquals(12f, ring.getY(2));
+        assertEquals(22f, ring.getZ(2));
+
+        ring.advance(2);
+        assertEquals(1, ring.available());
+        assertEquals(2000L, ring.getTimestampUs(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.getX(1));
+        assertThrows(IllegalArgumentException.class, () -> ring.advance(2));
+    }
+
+    @Test
+    public void fullRingShouldOverwriteOldest() {
+        SensorRing ring = new SensorRing(4);
+        for (int i = 0; i < 6; i++) {
+            ring.add(i, i, 0, 0);
+        }
+        assertEquals(4, ring.available());
+        assertEquals(2, ring.getOverrunCount());
+        assertEquals(6, ring.getTotalCount());
+        assertEquals(2f, ring.getX(0));
+        assertEquals(5f, ring.getX(3));
+
+        ring.clear();
+        assertEquals(0, ring.available());
+    }
+}
@@ -0,0 +1,122 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameController;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_Joystick;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickType;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_InitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.Sdl.SDL_QuitSubSystem;
+import static com.mrcrayfish.controllable_sdl.api.SdlSubSystemConst.SDL_INIT_GAMECONTROLLER;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEvents.SDL_PumpEvents;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTY;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_RIGHTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERLEFT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_A;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_DPAD_DOWN;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_DPAD_UP;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_MAX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerAddMapping;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerClose;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetAxis;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetButton;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerGetJoystick;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SdlGamecontroller.SDL_GameControllerOpen;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickAttachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickDetachVirtual;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetDeviceGUID;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickGetGUIDString;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualAxis;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualButton;
+import static com.mrcrayfish.controllable_sdl.api.joystick.SdlJoystick.SDL_JoystickSetVirtualHat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BindingTableTest {
+
+    // Full, half and inverted axes, axes bound to buttons and buttons and hats bound to axes
+    private static final String BINDINGS = "a:b0,b:b1,x:h0.8,y:+a2,leftx:a0,lefty:a1~,righty:-a3,+rightx:b2,-rightx:b3,"
+            + "lefttrigger:a4,righttrigger:+a5,dpup:h0.1,dpdown:-a1,start:b4,leftshoulder:h0.2,rightshoulder:b5,";
+
+    @Test
+    public void mappingShouldBeCompiled() {
+        BindingTable table = BindingTable.parse("00000000000000000000000000000000,Test," + BINDINGS + "platform:Linux,unknown:b9,");
+        assertEquals(16, table.size());
+
+        JoystickState raw = new JoystickState(0, 6, 6, 1);
+        assertEquals(0, table.getAxis(raw, SDL_CONTROLLER_AXIS_LEFTX));
+        // A trigger bound to a full axis rests at the bottom of the axis
+        raw.setAxis(4, Short.MIN_VALUE);
+        assertEquals(0, table.getAxis(raw, SDL_CONTROLLER_AXIS_TRIGGERLEFT));
+        raw.setAxis(4, Short.MAX_VALUE);
+        assertEquals(Short.MAX_VALUE, table.getAxis(raw, SDL_CONTROLLER_AXIS_TRIGGERLEFT));
+
+        raw.setAxis(1, (short) 1000);
+        assertEquals(-1001, table.getAxis(raw, SDL_CONTROLLER_AXIS_LEFTY));
+        assertFalse(table.getButton(raw, SDL_CONTROLLER_BUTTON_DPAD_DOWN));
+        raw.setAxis(1, (short) -20000);
+        assertTrue(table.getButton(raw, SDL_CONTROLLER_BUTTON_DPAD_DOWN));
+
+        raw.setButton(3, SDL_PRESSED);
+        assertEquals(Short.MIN_VALUE, table.getAxis(raw, SDL_CONTROLLER_AXIS_RIGHTX));
+        // The first binding of the mapping with a non-zero value wins
+        raw.setButton(2, SDL_PRESSED);
+        assertEquals(Short.MAX_VALUE, table.getAxis(raw, SDL_CONTROLLER_AXIS_RIGHTX));
+
+        raw.setHat(0, (byte) 0x09);
+        assertTrue(table.getButton(raw, SDL_CONTROLLER_BUTTON_DPAD_UP));
+        ControllerState state = new ControllerState();
+        table.apply(raw, state);
+        assertTrue(state.isButtonDown(SDL_CONTROLLER_BUTTON_DPAD_UP));
+        assertFalse(state.isButtonDown(SDL_CONTROLLER_BUTTON_A));
+        assertEquals(Short.MAX_VALUE, state.getAxis(SDL_CONTROLLER_AXIS_TRIGGERLEFT));
+    }
+
+    @Test
+    public void tableShouldMatchSdl() {
+        SDL_InitSubSystem(SDL_INIT_GAMECONTROLLER);
+        int deviceIndex = SDL_JoystickAttachVirtual(SDL_JoystickType.SDL_JOYSTICK_TYPE_GAMECONTROLLER, 6, 6, 1);
+        assertNotEquals(-1, deviceIndex);
+        try {
+            String guid = SDL_JoystickGetGUIDString(SDL_JoystickGetDeviceGUID(deviceIndex));
+            assertNotEquals(-1, SDL_GameControllerAddMapping(guid + ",Binding Test," + BINDINGS));
+            SDL_GameController controller = SDL_GameControllerOpen(deviceIndex);
+            assertNotNull(controller);
+            SDL_Joystick joystick = SDL_GameControllerGetJoystick(controller);
+            BindingTable table = BindingTable.compile(controller);
+            JoystickState raw = JoystickState.of(joystick);
+            ControllerState state = new ControllerState();
+
+            short[] values = {Short.MIN_VALUE, -16385, -16384, -1, 0, 1, 12345, 16383, 16384, Short.MAX_VALUE};
+            for (int step = 0; step < 64; step++) {
+                for (int axis = 0; axis < 6; axis++) {
+                    SDL_JoystickSetVirtualAxis(joystick, axis, values[(step + axis * 3) % values.length]);
+                }
+                for (int button = 0; button < 6; button++) {
+                    SDL_JoystickSetVirtualButton(joystick, button, (byte) ((step >> button) & 1));
+                }
+                SDL_JoystickSetVirtualHat(joystick, 0, (byte) (step & 0x0F));
+                SDL_PumpEvents();
+
+                raw.read(joystick);
+                table.apply(raw, state);
+                for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+                    assertEquals(SDL_GameControllerGetAxis(controller, axis), state.getAxis(axis), "Axis " + axis + " at step " + step);
+                }
+                for (int button = 0; button < SDL_CONTROLLER_BUTTON_MAX; button++) {
+                    assertEquals(SDL_GameControllerGetButton(controller, button) == SDL_PRESSED, state.isButtonDown(button), "Button " + button + " at step " + step);
+                }
+            }
+            SDL_GameControllerClose(controller);
+        } finally {
+            SDL_JoystickDetachVirtual(deviceIndex);
+            SDL_QuitSubSystem(SDL_INIT_GAMECONTROLLER);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_MAX;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ControllerStatePublisherTest {
+
+    private final ByteBuffer event = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+
+    @Test
+    public void readShouldReturnPublishedState() {
+        ControllerStateSnapshot snapshot = new ControllerStateSnapshot(2);
+        ControllerStatePublisher publisher = new ControllerStatePublisher(2);
+        ControllerState state = new ControllerState();
+
+        assertFalse(publisher.read(5, state));
+        snapshot.accept(axis(5, SDL_CONTROLLER_AXIS_LEFTX, 1234), 0);
+        assertFalse(publisher.read(5, state));
+
+        publisher.publish(snapshot);
+        assertEquals(1, publisher.getVersion());
+        assertTrue(publisher.read(5, state));
+        assertEquals(5, state.getInstanceId());
+        assertEquals(1234, state.getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+
+        snapshot.accept(axis(5, SDL_CONTROLLER_AXIS_LEFTX, -50), 0);
+        assertTrue(publisher.read(5, state));
+        assertEquals(1234, state.getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+
+        snapshot.accept(axis(6, SDL_CONTROLLER_AXIS_LEFTX, 1), 0);
+        publisher.publish(snapshot);
+        ControllerState[] states = {new ControllerState(), new ControllerState()};
+        assertEquals(2, publisher.readAll(states));
+        assertEquals(-50, states[0].getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+        assertEquals(6, states[1].getInstanceId());
+
+        ControllerStateSnapshot larger = new ControllerStateSnapshot(3);
+        for (int id = 0; id < 3; id++) {
+            larger.accept(axis(id, SDL_CONTROLLER_AXIS_LEFTX, 0), 0);
+        }
+        assertThrows(IllegalArgumentException.class, () -> publisher.publish(larger));
+    }
+
+    @Test
+    public void readersShouldNeverObserveTornState() throws InterruptedException {
+        ControllerStateSnapshot snapshot = new ControllerStateSnapshot(1);
+        ControllerStatePublisher publisher = new ControllerStatePublisher(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                ControllerState state = new ControllerState();
+                while (running.get()) {
+                    if (!publisher.read(1, state)) {
+                        continue;
+                    }
+                    short expected = state.getAxis(0);
+                    for (int axis = 1; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+                        if (state.getAxis(axis) != expected) {
+                            failure.compareAndSet(null, "Torn state: axis 0 is " + expected + ", axis " + axis + " is " + state.getAxis(axis));
+                            return;
+                        }
+                    }
+                }
+            });
+            readers[r].start();
+        }
+        for (int frame = 0; frame < 100_000; frame++) {
+            for (int axis = 0; axis < SDL_CONTROLLER_AXIS_MAX; axis++) {
+                snapshot.accept(axis(1, axis, frame), 0);
+            }
+            publisher.publish(snapshot);
+        }
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(100_000, publisher.getVersion());
+    }
+
+    private ByteBuffer axis(int which, int axis, int value) {
+        event.putInt(0, SDL_CONTROLLERAXISMOTION);
+        event.putInt(ControllerAxisEventView.WHICH_OFFSET, which);
+        event.put(ControllerAxisEventView.AXIS_OFFSET, (byte) axis);
+        event.putShort(ControllerAxisEventView.VALUE_OFFSET, (short) value);
+        return event;
+    }
+}
@@ -0,0 +1,146 @@
+package com.mrcrayfish.controllable_sdl.state;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import com.mrcrayfish.controllable_sdl.api.event.SDL_Event;
+import com.mrcrayfish.controllable_sdl.api.event.events.SDL_ControllerAxisEvent;
+import com.mrcrayfish.controllable_sdl.api.joystick.SDL_JoystickID;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerAxisEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerButtonEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerDeviceEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerSensorEventView;
+import com.mrcrayfish.controllable_sdl.event.view.ControllerTouchpadEventView;
+import org.junit.jupiter.api.Test;
+
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERAXISMOTION;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERBUTTONUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERDEVICEREMOVED;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERSENSORUPDATE;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADDOWN;
+import static com.mrcrayfish.controllable_sdl.api.event.SDL_EventType.SDL_CONTROLLERTOUCHPADUP;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_PRESSED;
+import static com.mrcrayfish.controllable_sdl.api.event.SdlEventsConst.SDL_RELEASED;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_LEFTX;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerAxis.SDL_CONTROLLER_AXIS_TRIGGERRIGHT;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_A;
+import static com.mrcrayfish.controllable_sdl.api.gamecontroller.SDL_GameControllerButton.SDL_CONTROLLER_BUTTON_TOUCHPAD;
+import static com.mrcrayfish.controllable_sdl.api.sensor.SDL_SensorType.SDL_SENSOR_GYRO;
+import static com.mrcrayfish.controllable_sdl.event.EventBatch.SDL_EVENT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ControllerStateSnapshotTest {
+
+    private final ByteBuffer event = ByteBuffer.allocateDirect(SDL_EVENT_SIZE).order(ByteOrder.nativeOrder());
+
+    @Test
+    public void eventsShouldUpdateState() {
+        ControllerStateSnapshot snapshot = new ControllerStateSnapshot(4);
+
+        snapshot.accept(axis(3, SDL_CONTROLLER_AXIS_TRIGGERRIGHT, 32767), 0);
+        snapshot.accept(button(3, SDL_CONTROLLERBUTTONDOWN, SDL_CONTROLLER_BUTTON_A, SDL_PRESSED), 0);
+        snapshot.accept(button(3, SDL_CONTROLLERBUTTONDOWN, SDL_CONTROLLER_BUTTON_TOUCHPAD, SDL_PRESSED), 0);
+        snapshot.accept(button(3, SDL_CONTROLLERBUTTONUP, SDL_CONTROLLER_BUTTON_A, SDL_RELEASED), 0);
+
+        clear();
+        event.putInt(0, SDL_CONTROLLERTOUCHPADDOWN);
+        event.putInt(ControllerTouchpadEventView.WHICH_OFFSET, 3);
+        event.putInt(ControllerTouchpadEventView.FINGER_OFFSET, 1);
+        event.putFloat(ControllerTouchpadEventView.X_OFFSET, 0.25F);
+        event.putFloat(ControllerTouchpadEventView.PRESSURE_OFFSET, 0.75F);
+        snapshot.accept(event, 0);
+
+        clear();
+        event.putInt(0, SDL_CONTROLLERSENSORUPDATE);
+        event.putInt(ControllerSensorEventView.WHICH_OFFSET, 3);
+        event.putInt(ControllerSensorEventView.SENSOR_OFFSET, SDL_SENSOR_GYRO);
+        event.putFloat(ControllerSensorEventView.DATA_OFFSET + 8, -1.5F);
+        event.putLong(ControllerSensorEventView.TIMESTAMP_US_OFFSET, 123456L);
+        snapshot.accept(event, 0);
+
+        assertEquals(1, snapshot.size());
+        ControllerState state = snapshot.get(3);
+        assertEquals(32767, state.getAxis(SDL_CONTROLLER_AXIS_TRIGGERRIGHT));
+        assertEquals(0, state.getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+        assertFalse(state.isButtonDown(SDL_CONTROLLER_BUTTON_A));
+        assertTrue(state.isButtonDown(SDL_CONTROLLER_BUTTON_TOUCHPAD));
+        assertEquals(1L << SDL_CONTROLLER_BUTTON_TOUCHPAD, state.getButtons());
+        assertTrue(state.isFingerDown(0, 1));
+        assertFalse(state.isFingerDown(0, 0));
+        assertEquals(0.25F, state.getTouchpadX(0, 1));
+        assertEquals(0.75F, state.getTouchpadPressure(0, 1));
+        assertEquals(-1.5F, state.getSensorData(SDL_SENSOR_GYRO, 2));
+        assertEquals(123456L, state.getSensorTimestampUs(SDL_SENSOR_GYRO));
+
+        clear();
+        event.putInt(0, SDL_CONTROLLERTOUCHPADUP);
+        event.putInt(ControllerTouchpadEventView.WHICH_OFFSET, 3);
+        event.putInt(ControllerTouchpadEventView.FINGER_OFFSET, 1);
+        snapshot.accept(event, 0);
+        assertFalse(state.isFingerDown(0, 1));
+    }
+
+    @Test
+    public void unionEventsShouldUpdateState() {
+        ControllerStateSnapshot snapshot = new ControllerStateSnapshot(4);
+        SDL_Event event = new SDL_Event();
+        event.setType(SDL_ControllerAxisEvent.class);
+        event.type = SDL_CONTROLLERAXISMOTION;
+        event.caxis.type = SDL_CONTROLLERAXISMOTION;
+        event.caxis.which = new SDL_JoystickID(8);
+        event.caxis.axis = SDL_CONTROLLER_AXIS_LEFTX;
+        event.caxis.value = -200;
+        snapshot.accept(event);
+        assertEquals(-200, snapshot.get(8).getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+    }
+
+    @Test
+    public void removedControllersShouldBeRecycled() {
+        ControllerStateSnapshot snapshot = new ControllerStateSnapshot(2);
+        snapshot.accept(axis(1, SDL_CONTROLLER_AXIS_LEFTX, 100), 0);
+        snapshot.accept(axis(2, SDL_CONTROLLER_AXIS_LEFTX, 200), 0);
+        snapshot.accept(axis(3, SDL_CONTROLLER_AXIS_LEFTX, 300), 0);
+        assertEquals(2, snapshot.size());
+        assertNull(snapshot.get(3));
+        assertEquals(1, snapshot.getDroppedEvents());
+
+        clear();
+        event.putInt(0, SDL_CONTROLLERDEVICEREMOVED);
+        event.putInt(ControllerDeviceEventView.WHICH_OFFSET, 1);
+        snapshot.accept(event, 0);
+        assertEquals(1, snapshot.size());
+        assertNull(snapshot.get(1));
+        assertEquals(200, snapshot.getAt(0).getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+
+        snapshot.accept(axis(3, SDL_CONTROLLER_AXIS_TRIGGERRIGHT, 300), 0);
+        assertEquals(0, snapshot.get(3).getAxis(SDL_CONTROLLER_AXIS_LEFTX));
+        assertEquals(300, snapshot.get(3).getAxis(SDL_CONTROLLER_AXIS_TRIGGERRIGHT));
+    }
+
+    private ByteBuffer axis(int which, int axis, int value) {
+        clear();
+        event.putInt(0, SDL_CONTROLLERAXISMOTION);
+        event.putInt(ControllerAxisEventView.WHICH_OFFSET, which);
+        event.put(ControllerAxisEventView.AXIS_OFFSET, (byte) axis);
+        event.putShort(ControllerAxisEventView.VALUE_OFFSET, (short) value);
+        return event;
+    }
+
+    private ByteBuffer button(int which, int type, int button, byte state) {
+        clear();
+        event.putInt(0, type);
+        event.putInt(ControllerButtonEventView.WHICH_OFFSET, which);
+        event.put(ControllerButtonEventView.BUTTON_OFFSET, (byte) button);
+        event.put(ControllerButtonEventView.STATE_OFFSET, state);
+        return event;
+    }
+
+    private void clear() {
+        for (int i = 0; i < SDL_EVENT_SIZE; i++) {
+            event.put(i, (byte) 0);
+        }
+    }
+}